@@ -38,6 +38,11 @@ public class Constants {
     public static final String MOCK = "mock";
     public static final String SINGLE_FILE = "singleFile";
     public static final String IS_SANITIZED_OAS = "isUsingSanitizedOas";
+    public static final String MAX_ENUM_SIZE = "maxEnumSize";
+    public static final String UNION_THRESHOLD = "unionThreshold";
+    public static final String SHARD_BY = "shardBy";
+    public static final String DEDUPLICATE_SCHEMAS = "deduplicateSchemas";
+    public static final String DOC_COMMENTS = "docComments";
 
     /**
      * Enum class for containing diagnostic messages.
@@ -71,7 +76,9 @@ public class Constants {
         ERROR_WHILE_UPDATING_TOML("OAS_CLIENT_11", "error occurred when updating Ballerina.toml " +
                 "file with the client native dependency.", DiagnosticSeverity.ERROR),
         OPENAPI_EXCEPTION("OAS_CLIENT_12", "exception occurred while reading the openapi contract: %s",
-                DiagnosticSeverity.ERROR);
+                DiagnosticSeverity.ERROR),
+        INVALID_OPENAPI_CONTRACT("OAS_CLIENT_13", "given file is not an openapi contract. the `openapi` or " +
+                "`swagger` version field is missing.", DiagnosticSeverity.ERROR);
 
         private final String code;
         private final String description;
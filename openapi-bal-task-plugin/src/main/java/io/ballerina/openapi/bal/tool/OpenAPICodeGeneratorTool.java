@@ -21,16 +21,23 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.bal.tool.Constants.DiagnosticMessages;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGeneratorWithStatusCodeBinding;
+import io.ballerina.openapi.core.generators.client.ShardedClientGenerator;
 import io.ballerina.openapi.core.generators.client.diagnostic.ClientDiagnostic;
 import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.mock.AdvanceMockClientGenerator;
 import io.ballerina.openapi.core.generators.client.mock.BallerinaMockClientGenerator;
+import io.ballerina.openapi.core.generators.client.model.ClientSharding;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.OpenAPIContractProbe;
+import io.ballerina.openapi.core.generators.common.OpenAPISnapshotStore;
 import io.ballerina.openapi.core.generators.common.SingleFileGenerator;
+import io.ballerina.openapi.core.generators.common.StructuralSchemaDeduplicator;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.model.Filter;
 import io.ballerina.openapi.core.generators.common.model.GenSrcFile;
+import io.ballerina.openapi.core.generators.document.DocCommentMode;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageManifest;
@@ -69,6 +76,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -79,17 +87,23 @@ import java.util.Properties;
 import static io.ballerina.openapi.bal.tool.Constants.CACHE_FILE;
 import static io.ballerina.openapi.bal.tool.Constants.CLIENT;
 import static io.ballerina.openapi.bal.tool.Constants.CLIENT_METHODS;
+import static io.ballerina.openapi.bal.tool.Constants.DEDUPLICATE_SCHEMAS;
+import static io.ballerina.openapi.bal.tool.Constants.DOC_COMMENTS;
 import static io.ballerina.openapi.bal.tool.Constants.IS_SANITIZED_OAS;
 import static io.ballerina.openapi.bal.tool.Constants.LICENSE;
+import static io.ballerina.openapi.bal.tool.Constants.MAX_ENUM_SIZE;
 import static io.ballerina.openapi.bal.tool.Constants.MOCK;
 import static io.ballerina.openapi.bal.tool.Constants.MODE;
 import static io.ballerina.openapi.bal.tool.Constants.NULLABLE;
 import static io.ballerina.openapi.bal.tool.Constants.OPERATIONS;
+import static io.ballerina.openapi.bal.tool.Constants.SHARD_BY;
 import static io.ballerina.openapi.bal.tool.Constants.SINGLE_FILE;
 import static io.ballerina.openapi.bal.tool.Constants.STATUS_CODE_BINDING;
 import static io.ballerina.openapi.bal.tool.Constants.TAGS;
 import static io.ballerina.openapi.bal.tool.Constants.TRUE;
+import static io.ballerina.openapi.bal.tool.Constants.UNION_THRESHOLD;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.CLIENT_FILE_NAME;
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DEFAULT_UNION_THRESHOLD;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DO_NOT_MODIFY_FILE_HEADER;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.JSON_EXTENSION;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.RESOURCE;
@@ -110,6 +124,14 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
 
     @Override
     public void execute(ToolContext toolContext) {
+        // Each tool entry is generated in its own context, so the entries do not share the generation state
+        new GenerationContext().run(() -> {
+            generate(toolContext);
+            return null;
+        });
+    }
+
+    private void generate(ToolContext toolContext) {
         ImmutablePair<OASClientConfig, OASServiceMetadata> codeGeneratorConfig;
         TomlNodeLocation location = toolContext.currentPackage().ballerinaToml().get().tomlAstNode().location();
         try {
@@ -175,6 +197,9 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
         }
         // read the cache file
         Path cacheFilePath = Paths.get(cachePath.toString(), CACHE_FILE);
+        if (!Files.exists(cacheFilePath)) {
+            return false;
+        }
         String cacheContent = Files.readString(Paths.get(cacheFilePath.toString()));
         return cacheContent.equals(hashOpenAPI);
     }
@@ -234,8 +259,14 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
                 relativePath = Paths.get(openapiContract.getCanonicalPath());
             }
             if (Files.exists(relativePath)) {
+                if (OpenAPIContractProbe.probe(relativePath).isUnsupported()) {
+                    DiagnosticMessages error = DiagnosticMessages.INVALID_OPENAPI_CONTRACT;
+                    createDiagnostics(toolContext, error, location);
+                    return Optional.empty();
+                }
+                OpenAPISnapshotStore snapshotStore = new OpenAPISnapshotStore(toolContext.cachePath());
                 return Optional.of(normalizeOpenAPI(relativePath, operationIdValidationRequired(toolContext),
-                        isSanitized));
+                        isSanitized, snapshotStore));
             } else {
                 DiagnosticMessages error = DiagnosticMessages.INVALID_CONTRACT_PATH;
                 createDiagnostics(toolContext, error, location);
@@ -321,6 +352,22 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
                     clientMetaDataBuilder.withIsUsingSanitizedOas(value.contains(TRUE));
                     serviceMetaDataBuilder.withIsUsingSanitizedOas(value.contains(TRUE));
                     break;
+                case MAX_ENUM_SIZE:
+                    clientMetaDataBuilder.withMaxEnumSize(getMaxEnumSize(field.getValue().value()));
+                    break;
+                case UNION_THRESHOLD:
+                    clientMetaDataBuilder.withUnionThreshold(getUnionThreshold(field.getValue().value()));
+                    break;
+                case SHARD_BY:
+                    clientMetaDataBuilder.withClientSharding(ClientSharding.fromValue(value));
+                    break;
+                case DEDUPLICATE_SCHEMAS:
+                    clientMetaDataBuilder.withDeduplicateSchemas(value.contains(TRUE));
+                    break;
+                case DOC_COMMENTS:
+                    clientMetaDataBuilder.withDocCommentMode(DocCommentMode.fromValue(value));
+                    serviceMetaDataBuilder.withDocCommentMode(DocCommentMode.fromValue(value));
+                    break;
                 default:
                     break;
             }
@@ -330,6 +377,20 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
         return new ImmutablePair<>(clientMetaDataBuilder.build(), serviceMetaDataBuilder.build());
     }
 
+    private int getMaxEnumSize(Object valueNode) {
+        if (valueNode instanceof Number number) {
+            return number.intValue();
+        }
+        return 0;
+    }
+
+    private int getUnionThreshold(Object valueNode) {
+        if (valueNode instanceof Number number && number.intValue() > 0) {
+            return number.intValue();
+        }
+        return DEFAULT_UNION_THRESHOLD;
+    }
+
     private List<String> getArrayItems(Object valueNode) {
         List<String> arrayItems = new ArrayList<>();
         if (valueNode instanceof ArrayList) {
@@ -481,7 +542,12 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
                 .append(clientConfig.isStatusCodeBinding())
                 .append(clientConfig.isMock())
                 .append(clientConfig.singleFile())
-                .append(clientConfig.isUsingSanitizedOas());
+                .append(clientConfig.isUsingSanitizedOas())
+                .append(clientConfig.getMaxEnumSize())
+                .append(clientConfig.getUnionThreshold())
+                .append(clientConfig.getClientSharding())
+                .append(clientConfig.isDeduplicateSchemas())
+                .append(clientConfig.getDocCommentMode());
         List<String> tags = clientConfig.getFilter().getTags();
         tags.sort(String.CASE_INSENSITIVE_ORDER);
         for (String str : tags) {
@@ -506,8 +572,21 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
         List<GenSrcFile> sourceFiles = new ArrayList<>();
 
         // Generate ballerina client files.
-        TypeHandler.createInstance(oasClientConfig.getOpenAPI(), oasClientConfig.isNullable());
+        if (oasClientConfig.isDeduplicateSchemas()) {
+            StructuralSchemaDeduplicator.deduplicate(oasClientConfig.getOpenAPI());
+        }
+        TypeHandler.createInstance(oasClientConfig.getOpenAPI(), oasClientConfig.isNullable(),
+                oasClientConfig.getMaxEnumSize(), oasClientConfig.getUnionThreshold());
         String licenseContent = oasClientConfig.getLicense();
+        String licenseHeader = licenseContent == null || licenseContent.isBlank() ? "" :
+                licenseContent + System.lineSeparator();
+        if (!oasClientConfig.singleFile() && oasClientConfig.getClientSharding() != ClientSharding.NONE) {
+            ShardedClientGenerator shardedClientGenerator = new ShardedClientGenerator(oasClientConfig,
+                    this::getClientGenerator);
+            if (shardedClientGenerator.isSharded()) {
+                return generateShardedClientFiles(shardedClientGenerator, toolContext, location, licenseHeader);
+            }
+        }
         BallerinaClientGenerator ballerinaClientGenerator = getClientGenerator(oasClientConfig);
         io.ballerina.compiler.syntax.tree.SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
         List<ClientDiagnostic> clientDiagnostic = ballerinaClientGenerator.getDiagnostics();
@@ -528,21 +607,38 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
             TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
         }
 
-        String licenseHeader = licenseContent == null || licenseContent.isBlank() ? "" :
-                licenseContent + System.lineSeparator();
-
         if (oasClientConfig.singleFile()) {
-            generateSingleFileForClient(toolContext, syntaxTree, ballerinaClientGenerator, sourceFiles, licenseHeader);
+            generateSingleFileForClient(toolContext, syntaxTree, ballerinaClientGenerator, sourceFiles, licenseHeader,
+                    oasClientConfig.getDocCommentMode());
         } else {
-            generateFilesForClient(syntaxTree, sourceFiles, licenseHeader, ballerinaClientGenerator);
+            generateFilesForClient(syntaxTree, sourceFiles, licenseHeader, ballerinaClientGenerator,
+                    oasClientConfig.getDocCommentMode());
         }
 
         return sourceFiles;
     }
 
+    private List<GenSrcFile> generateShardedClientFiles(ShardedClientGenerator shardedClientGenerator,
+                                                        ToolContext toolContext, Location location,
+                                                        String licenseHeader) throws BallerinaOpenApiException,
+            IOException, FormatterException, ClientException {
+        List<GenSrcFile> sourceFiles = shardedClientGenerator.generateClientFiles(null, licenseHeader);
+        List<ClientDiagnostic> clientDiagnostic = shardedClientGenerator.getDiagnostics();
+        for (ClientDiagnostic diagnostic : clientDiagnostic) {
+            createDiagnostics(toolContext, diagnostic.getMessage(), diagnostic.getCode(),
+                    diagnostic.getDiagnosticSeverity(), location);
+        }
+        if (clientDiagnostic.stream().anyMatch(
+                diagnostic -> diagnostic.getDiagnosticSeverity() == DiagnosticSeverity.ERROR)) {
+            throw new ClientException("Error occurred while generating client");
+        }
+        return sourceFiles;
+    }
+
     private static void generateFilesForClient(io.ballerina.compiler.syntax.tree.SyntaxTree syntaxTree,
                                                List<GenSrcFile> sourceFiles, String licenseHeader,
-                                               BallerinaClientGenerator ballerinaClientGenerator) throws
+                                               BallerinaClientGenerator ballerinaClientGenerator,
+                                               DocCommentMode docCommentMode) throws
             FormatterException, IOException {
         String mainContent = Formatter.format(syntaxTree).toSourceCode();
         sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, null, CLIENT_FILE_NAME,
@@ -555,7 +651,7 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
         }
         // Generate ballerina records to represent schemas.
         io.ballerina.compiler.syntax.tree.SyntaxTree schemaSyntaxTree = TypeHandler.getInstance()
-                .generateTypeSyntaxTree();
+                .generateTypeSyntaxTree(docCommentMode);
         String schemaContent = Formatter.format(schemaSyntaxTree).toSourceCode();
         if (!schemaContent.isBlank()) {
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, null, TYPE_FILE_NAME,
@@ -566,11 +662,11 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
     private void generateSingleFileForClient(ToolContext toolContext,
                                              io.ballerina.compiler.syntax.tree.SyntaxTree syntaxTree,
                                              BallerinaClientGenerator ballerinaClientGenerator,
-                                             List<GenSrcFile> sourceFiles, String licenseHeader) throws IOException,
-            FormatterException {
+                                             List<GenSrcFile> sourceFiles, String licenseHeader,
+                                             DocCommentMode docCommentMode) throws IOException, FormatterException {
         syntaxTree = SingleFileGenerator.combineSyntaxTrees(syntaxTree,
                 ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree(),
-                TypeHandler.getInstance().generateTypeSyntaxTree());
+                TypeHandler.getInstance().generateTypeSyntaxTree(docCommentMode));
         sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, null,
                 CLIENT_FILE_NAME, licenseHeader + Formatter.format(syntaxTree).toSourceCode()));
     }
@@ -688,6 +784,11 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
         if (!parentDirectory.exists() && !parentDirectory.mkdirs()) {
                 return; // Directory creation failed
         }
+        // An unchanged file is not rewritten, hence its timestamp stays valid for the incremental builds
+        if (Files.isRegularFile(filePath) &&
+                Arrays.equals(Files.readAllBytes(filePath), content.getBytes(StandardCharsets.UTF_8))) {
+            return;
+        }
         try (FileWriter writer = new FileWriter(filePath.toString(), StandardCharsets.UTF_8)) {
             writer.write(content);
         }
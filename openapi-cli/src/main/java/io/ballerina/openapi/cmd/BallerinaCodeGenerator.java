@@ -23,17 +23,25 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGeneratorWithStatusCodeBinding;
 import io.ballerina.openapi.core.generators.client.BallerinaTestGenerator;
+import io.ballerina.openapi.core.generators.client.ShardedClientGenerator;
 import io.ballerina.openapi.core.generators.client.diagnostic.ClientDiagnostic;
 import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.mock.AdvanceMockClientGenerator;
 import io.ballerina.openapi.core.generators.client.mock.BallerinaMockClientGenerator;
+import io.ballerina.openapi.core.generators.client.model.ClientSharding;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.ComponentSchemaPruner;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.OpenAPIModelCompactor;
+import io.ballerina.openapi.core.generators.common.OperationScopedContractLoader;
 import io.ballerina.openapi.core.generators.common.SingleFileGenerator;
+import io.ballerina.openapi.core.generators.common.StructuralSchemaDeduplicator;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.model.Filter;
 import io.ballerina.openapi.core.generators.common.model.GenSrcFile;
+import io.ballerina.openapi.core.generators.document.DocCommentMode;
 import io.ballerina.openapi.core.generators.service.ServiceGenerationHandler;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.openapi.core.generators.type.GeneratorConstants;
@@ -78,7 +86,11 @@ import static io.ballerina.openapi.cmd.CmdConstants.TYPE_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdConstants.UNTITLED_SERVICE;
 import static io.ballerina.openapi.cmd.CmdConstants.UTIL_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdUtils.setGeneratedFileName;
+import static io.ballerina.openapi.cmd.ErrorMessages.DUPLICATE_SCHEMAS_SHARED;
+import static io.ballerina.openapi.cmd.ErrorMessages.SHARDED_CLIENT_TESTS_SKIPPED;
+import static io.ballerina.openapi.cmd.ErrorMessages.UNUSED_SCHEMAS_PRUNED;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DEFAULT_FILE_HEADER;
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DEFAULT_UNION_THRESHOLD;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DO_NOT_MODIFY_FILE_HEADER;
 
 /**
@@ -90,6 +102,11 @@ public class BallerinaCodeGenerator {
     private String srcPackage;
     private String licenseHeader = "";
     private boolean includeTestFiles;
+    private int maxEnumSize;
+    private int unionThreshold = DEFAULT_UNION_THRESHOLD;
+    private ClientSharding clientSharding = ClientSharding.NONE;
+    private boolean deduplicateSchemas;
+    private DocCommentMode docCommentMode = DocCommentMode.POST_GENERATION;
     private List<Diagnostic> diagnostics = new ArrayList<>();
 
     private static final PrintStream outStream = System.out;
@@ -103,6 +120,15 @@ public class BallerinaCodeGenerator {
                                          ClientServiceGeneratorOptions options)
             throws IOException, FormatterException, BallerinaOpenApiException,
             OASTypeGenException, ClientException {
+        // Every generation runs in its own context, so consecutive generations do not share the generation state
+        try (GenerationContext.Scope ignored = new GenerationContext().enter()) {
+            writeClientAndService(definitionPath, serviceName, outPath, filter, options);
+        }
+    }
+
+    private void writeClientAndService(String definitionPath, String serviceName, String outPath, Filter filter,
+                                       ClientServiceGeneratorOptions options)
+            throws IOException, FormatterException, BallerinaOpenApiException, OASTypeGenException, ClientException {
         Path srcPath = Paths.get(outPath);
         Path implPath = getImplPath(srcPackage, srcPath);
 
@@ -127,9 +153,11 @@ public class BallerinaCodeGenerator {
         // Normalize OpenAPI definition, in the client generation we suppose to terminate code generation when the
         // absence of the operationId in operation. Therefore, we enable client flag true as default code generation.
         // if resource is enabled, we avoid checking operationId.
-        OpenAPI normalizedOpenAPI = GeneratorUtils.normalizeOpenAPI(openAPIDef, !isResource, options.isSanitizedOas);
+        OpenAPI normalizedOpenAPI = OpenAPIModelCompactor.compactIfEnabled(
+                GeneratorUtils.normalizeOpenAPI(openAPIDef, !isResource, options.isSanitizedOas));
+        deduplicateSchemasIfEnabled(normalizedOpenAPI);
         // Add typeHandler
-        TypeHandler.createInstance(normalizedOpenAPI, options.nullable);
+        TypeHandler.createInstance(normalizedOpenAPI, options.nullable, maxEnumSize, unionThreshold);
         // Generate client.
         // Generate ballerina client remote.
         OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
@@ -140,7 +168,8 @@ public class BallerinaCodeGenerator {
                 .withOpenAPI(normalizedOpenAPI)
                 .withResourceMode(isResource)
                 .withStatusCodeBinding(options.statusCodeBinding)
-                .withMock(options.isMock).build();
+                .withMock(options.isMock)
+                .withDocCommentMode(docCommentMode).build();
 
         BallerinaClientGenerator clientGenerator = getBallerinaClientGenerator(oasClientConfig);
         String clientContent = Formatter.format(clientGenerator.generateSyntaxTree()).toSourceCode();
@@ -171,6 +200,7 @@ public class BallerinaCodeGenerator {
                     .withSrcFile(srcFile)
                     .withSrcPackage(srcPackage)
                     .withLicenseHeader(licenseHeader)
+                    .withDocCommentMode(docCommentMode)
                     .build();
 
             ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
@@ -179,7 +209,7 @@ public class BallerinaCodeGenerator {
         }
 
         TypeHandler typeHandler = TypeHandler.getInstance();
-        SyntaxTree schemaSyntaxTree = typeHandler.generateTypeSyntaxTree();
+        SyntaxTree schemaSyntaxTree = typeHandler.generateTypeSyntaxTree(docCommentMode);
         String schemaContent = Formatter.format(schemaSyntaxTree).toSourceCode();
         this.diagnostics.addAll(TypeHandler.getInstance().getDiagnostics());
 
@@ -253,7 +283,7 @@ public class BallerinaCodeGenerator {
         Path srcPath = Paths.get(outPath);
         Path implPath = getImplPath(srcPackage, srcPath);
         List<GenSrcFile> genFiles = null;
-        try {
+        try (GenerationContext.Scope ignored = new GenerationContext().enter()) {
             genFiles = generateClientFiles(Paths.get(definitionPath), filter, options);
             if (!genFiles.isEmpty()) {
                 writeGeneratedSources(genFiles, srcPath, implPath, GEN_CLIENT);
@@ -395,7 +425,8 @@ public class BallerinaCodeGenerator {
             srcPackage = DEFAULT_CLIENT_PKG;
         }
         List<GenSrcFile> sourceFiles = new ArrayList<>();
-        OpenAPI openAPIDef = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(openAPI);
+        OpenAPI openAPIDef = options.lazyLoad ? OperationScopedContractLoader.load(openAPI, filter) :
+                GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(openAPI);
         checkOpenAPIVersion(openAPIDef);
         // Validate the service generation
         List<String> complexPaths = GeneratorUtils.getComplexPaths(openAPIDef);
@@ -409,7 +440,14 @@ public class BallerinaCodeGenerator {
             isResource = false;
         }
         // Validate and Normalize OpenAPI definition
-        OpenAPI normalizedOpenAPI = GeneratorUtils.normalizeOpenAPI(openAPIDef, !isResource, options.isSanitizedOas);
+        OpenAPI normalizedOpenAPI = OpenAPIModelCompactor.compactIfEnabled(
+                GeneratorUtils.normalizeOpenAPI(openAPIDef, !isResource, options.isSanitizedOas));
+        // Drop the schemas which are not used by the filtered operations
+        int prunedSchemaCount = ComponentSchemaPruner.prune(normalizedOpenAPI, filter);
+        if (prunedSchemaCount > 0) {
+            outStream.println(String.format(UNUSED_SCHEMAS_PRUNED, prunedSchemaCount));
+        }
+        deduplicateSchemasIfEnabled(normalizedOpenAPI);
         // Generate ballerina service and resources.
         OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
         OASClientConfig oasClientConfig = clientMetaDataBuilder
@@ -420,10 +458,19 @@ public class BallerinaCodeGenerator {
                 .withResourceMode(isResource)
                 .withStatusCodeBinding(options.statusCodeBinding)
                 .withMock(options.isMock)
+                .withClientSharding(clientSharding)
+                .withDocCommentMode(docCommentMode)
                 .build();
         //Take default DO NOT modify
         licenseHeader = licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader;
-        TypeHandler.createInstance(normalizedOpenAPI, options.nullable);
+        TypeHandler.createInstance(normalizedOpenAPI, options.nullable, maxEnumSize, unionThreshold);
+        if (!options.singleFile && clientSharding != ClientSharding.NONE) {
+            ShardedClientGenerator shardedClientGenerator = new ShardedClientGenerator(oasClientConfig,
+                    BallerinaCodeGenerator::getBallerinaClientGenerator);
+            if (shardedClientGenerator.isSharded()) {
+                return generateShardedClientFiles(shardedClientGenerator);
+            }
+        }
         BallerinaClientGenerator clientGenerator = getBallerinaClientGenerator(oasClientConfig);
         SyntaxTree syntaxTree = clientGenerator.generateSyntaxTree();
         //Update type definition list with auth related type definitions
@@ -467,6 +514,19 @@ public class BallerinaCodeGenerator {
         return sourceFiles;
     }
 
+    private List<GenSrcFile> generateShardedClientFiles(ShardedClientGenerator shardedClientGenerator)
+            throws IOException, BallerinaOpenApiException, FormatterException, ClientException {
+        List<GenSrcFile> sourceFiles = shardedClientGenerator.generateClientFiles(srcPackage, licenseHeader);
+        if (this.includeTestFiles) {
+            outStream.println(SHARDED_CLIENT_TESTS_SKIPPED);
+        }
+        for (ClientDiagnostic diagnostic : shardedClientGenerator.getDiagnostics()) {
+            outStream.println(diagnostic.getDiagnosticSeverity() + ":" + diagnostic.getMessage());
+        }
+        printDiagnostic(TypeHandler.getInstance().getDiagnostics());
+        return sourceFiles;
+    }
+
     /**
      * Represents a record which stores the additional generator options for client.
      *
@@ -477,9 +537,18 @@ public class BallerinaCodeGenerator {
      *  @param singleFile             Enable singleFile option to generate all content in a single file
      *  @param isSanitizedOas               Enable isSanitizedOas option to modify the OAS to follow the Ballerina
      *                                      language best practices
+     *  @param lazyLoad               Enable lazyLoad option to load only the filtered operations and the
+     *                                components they refer to
      */
     public record ClientGeneratorOptions(boolean nullable, boolean isResource, boolean statusCodeBinding,
-                                         boolean isMock, boolean singleFile, boolean isSanitizedOas) { }
+                                         boolean isMock, boolean singleFile, boolean isSanitizedOas,
+                                         boolean lazyLoad) {
+
+        public ClientGeneratorOptions(boolean nullable, boolean isResource, boolean statusCodeBinding,
+                                      boolean isMock, boolean singleFile, boolean isSanitizedOas) {
+            this(nullable, isResource, statusCodeBinding, isMock, singleFile, isSanitizedOas, false);
+        }
+    }
 
     private void generateFilesForClient(SyntaxTree syntaxTree, List<GenSrcFile> sourceFiles,
                                         BallerinaClientGenerator clientGenerator) throws FormatterException,
@@ -494,16 +563,16 @@ public class BallerinaCodeGenerator {
                     licenseHeader + utilContent));
         }
         // Generate ballerina records to represent schemas.
-        SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+        SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree(docCommentMode);
         String schemaContent = Formatter.format(schemaSyntaxTree).toSourceCode();
         generateSchemaFile(sourceFiles, schemaContent, licenseHeader);
     }
 
-    private static SyntaxTree generateSingleFileForClient(SyntaxTree syntaxTree,
-                                                          BallerinaClientGenerator clientGenerator) throws IOException {
+    private SyntaxTree generateSingleFileForClient(SyntaxTree syntaxTree,
+                                                   BallerinaClientGenerator clientGenerator) throws IOException {
         syntaxTree = SingleFileGenerator.combineSyntaxTrees(syntaxTree,
                 clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree(),
-                TypeHandler.getInstance().generateTypeSyntaxTree());
+                TypeHandler.getInstance().generateTypeSyntaxTree(docCommentMode));
         return syntaxTree;
     }
 
@@ -534,10 +603,20 @@ public class BallerinaCodeGenerator {
     public List<GenSrcFile> generateBallerinaService(Path openAPI, String serviceName, Filter filter,
                                                      ServiceGeneratorOptions options)
             throws IOException, FormatterException, BallerinaOpenApiException {
+        try (GenerationContext.Scope ignored = new GenerationContext().enter()) {
+            return generateBallerinaServiceFiles(openAPI, serviceName, filter, options);
+        }
+    }
+
+    private List<GenSrcFile> generateBallerinaServiceFiles(Path openAPI, String serviceName, Filter filter,
+                                                           ServiceGeneratorOptions options)
+            throws IOException, FormatterException, BallerinaOpenApiException {
         if (srcPackage == null || srcPackage.isEmpty()) {
             srcPackage = DEFAULT_MOCK_PKG;
         }
-        OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPI, false, options.isSanitizedOas);
+        OpenAPI openAPIDef = OpenAPIModelCompactor.compactIfEnabled(
+                GeneratorUtils.normalizeOpenAPI(openAPI, false, options.isSanitizedOas));
+        deduplicateSchemasIfEnabled(openAPIDef);
         if (openAPIDef.getInfo() == null) {
             throw new BallerinaOpenApiException("Info section of the definition file cannot be empty/null: " +
                     openAPI);
@@ -574,8 +653,9 @@ public class BallerinaCodeGenerator {
                 .withLicenseHeader(licenseHeader)
                 .withSrcFile(srcFile)
                 .withSrcPackage(srcPackage)
+                .withDocCommentMode(docCommentMode)
                 .build();
-        TypeHandler.createInstance(openAPIDef, options.nullable);
+        TypeHandler.createInstance(openAPIDef, options.nullable, maxEnumSize, unionThreshold);
         ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
         List<GenSrcFile> sourceFiles = new ArrayList<>();
         if (options.singleFile) {
@@ -597,7 +677,7 @@ public class BallerinaCodeGenerator {
         sourceFiles = serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
         if (!oasServiceMetadata.generateWithoutDataBinding()) {
             String schemaSyntaxTree = Formatter.format(TypeHandler.getInstance()
-                    .generateTypeSyntaxTree()).toSourceCode();
+                    .generateTypeSyntaxTree(oasServiceMetadata.getDocCommentMode())).toSourceCode();
             if (!schemaSyntaxTree.isBlank()) {
                 sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, oasServiceMetadata.getSrcPackage(),
                         GeneratorConstants.TYPE_FILE_NAME,
@@ -615,7 +695,7 @@ public class BallerinaCodeGenerator {
         SyntaxTree syntaxTree = serviceGenerationHandler.generateSingleSyntaxTree(oasServiceMetadata);
         if (!oasServiceMetadata.generateWithoutDataBinding()) {
             syntaxTree = SingleFileGenerator.combineSyntaxTrees(syntaxTree,
-                    TypeHandler.getInstance().generateTypeSyntaxTree());
+                    TypeHandler.getInstance().generateTypeSyntaxTree(oasServiceMetadata.getDocCommentMode()));
         }
         sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, oasServiceMetadata.getSrcPackage(),
                 oasServiceMetadata.getSrcFile(),
@@ -623,6 +703,20 @@ public class BallerinaCodeGenerator {
                         oasServiceMetadata.getLicenseHeader()) + Formatter.format(syntaxTree).toSourceCode()));
     }
 
+    /**
+     * Generate the structurally identical schemas as a single shared type when the deduplication is enabled.
+     */
+    private void deduplicateSchemasIfEnabled(OpenAPI openAPI) {
+        if (!deduplicateSchemas) {
+            return;
+        }
+        StructuralSchemaDeduplicator.DeduplicationResult result = StructuralSchemaDeduplicator.deduplicate(openAPI);
+        if (result.aliasedSchemas() > 0) {
+            outStream.println(String.format(DUPLICATE_SCHEMAS_SHARED, result.aliasedSchemas(), result.sharedTypes(),
+                    result.savedFields()));
+        }
+    }
+
     private void printDiagnostic(List<Diagnostic> diagnostics) {
         for (Diagnostic diagnostic : diagnostics) {
             outStream.printf("%s: %s%n", diagnostic.diagnosticInfo().severity(), diagnostic.message());
@@ -647,6 +741,51 @@ public class BallerinaCodeGenerator {
         this.includeTestFiles = includeTestFiles;
     }
 
+    /**
+     * set the maximum number of values of a string enum which is generated as a union of its values.
+     *
+     * @param maxEnumSize value received from command line by "--max-enum-size"
+     */
+    public void setMaxEnumSize(int maxEnumSize) {
+        this.maxEnumSize = maxEnumSize;
+    }
+
+    /**
+     * set the member count above which a union is generated in the compact form.
+     *
+     * @param unionThreshold value received from command line by "--union-threshold"
+     */
+    public void setUnionThreshold(int unionThreshold) {
+        this.unionThreshold = unionThreshold;
+    }
+
+    /**
+     * set how the client is split into several client classes and files.
+     *
+     * @param clientSharding value received from command line by "--shard-by"
+     */
+    public void setClientSharding(ClientSharding clientSharding) {
+        this.clientSharding = clientSharding;
+    }
+
+    /**
+     * set whether to generate the structurally identical object schemas as a single shared type.
+     *
+     * @param deduplicateSchemas value received from command line by "--deduplicate-schemas"
+     */
+    public void setDeduplicateSchemas(boolean deduplicateSchemas) {
+        this.deduplicateSchemas = deduplicateSchemas;
+    }
+
+    /**
+     * set the mode of the generated doc comments.
+     *
+     * @param docCommentMode value received from command line by "--doc-comments"
+     */
+    public void setDocCommentMode(DocCommentMode docCommentMode) {
+        this.docCommentMode = docCommentMode;
+    }
+
     private void checkOpenAPIVersion(OpenAPI openAPIDef) {
         if (!SUPPORTED_OPENAPI_VERSIONS.contains(openAPIDef.getOpenapi())) {
             outStream.printf("WARNING: The tool has not been tested with OpenAPI version %s. " +
@@ -673,6 +812,11 @@ public class BallerinaCodeGenerator {
      * @throws IOException when a file operation fails
      */
     private static void writeFile(Path filePath, String content) throws IOException {
+        // An unchanged file is not rewritten, hence its timestamp stays valid for the incremental builds
+        if (Files.isRegularFile(filePath) &&
+                Arrays.equals(Files.readAllBytes(filePath), content.getBytes(StandardCharsets.UTF_8))) {
+            return;
+        }
         try (FileWriter writer = new FileWriter(filePath.toString(), StandardCharsets.UTF_8)) {
             writer.write(content);
         }
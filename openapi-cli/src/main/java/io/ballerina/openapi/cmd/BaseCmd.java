@@ -20,6 +20,8 @@ package io.ballerina.openapi.cmd;
 
 import picocli.CommandLine;
 
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DEFAULT_UNION_THRESHOLD;
+
 /**
  * This class is to store the cli command options that are commonly used int parent and subcommands.
  *
@@ -54,6 +56,26 @@ public class BaseCmd {
     @CommandLine.Option(names = {"--status-code-binding"}, description = "Generate the client methods with " +
             "status code response binding")
     public boolean statusCodeBinding;
+
+    @CommandLine.Option(names = {"--max-enum-size"}, description = "Generate the string enums which have more " +
+            "values than the given size as string types")
+    public int maxEnumSize;
+
+    @CommandLine.Option(names = {"--union-threshold"}, description = "Generate the unions which have more members " +
+            "than the given size in the compact form")
+    public int unionThreshold = DEFAULT_UNION_THRESHOLD;
+
+    @CommandLine.Option(names = {"--shard-by"}, description = "Generate the client as several client classes " +
+            "grouped by the operation tags or the path prefixes. Only \"tag\" and \"path\" options are supported.")
+    public String shardBy;
+
+    @CommandLine.Option(names = {"--deduplicate-schemas"}, description = "Generate the structurally identical " +
+            "object schemas as a single shared type")
+    public boolean deduplicateSchemas;
+
+    @CommandLine.Option(names = {"--doc-comments"}, description = "Generate the doc comments in the given mode. " +
+            "Only \"default\", \"inline\" and \"none\" options are supported.")
+    public String docComments;
     
     @CommandLine.Option(names = {"--mock"}, hidden = true,
             description = "Generate mock client with given response example")
@@ -65,4 +87,8 @@ public class BaseCmd {
     @CommandLine.Option(names = {"--use-sanitized-oas"}, hidden = true, description = "This option enables code " +
             "generation by modifying the given OAS to follow the Ballerina language best practices.")
     public boolean useSanitized;
+
+    @CommandLine.Option(names = {"--lazy-load"}, hidden = true, description = "Load only the operations selected " +
+            "by the tags and operations options and the components they refer to.")
+    public boolean lazyLoad;
 }
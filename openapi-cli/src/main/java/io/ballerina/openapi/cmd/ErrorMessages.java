@@ -32,6 +32,8 @@ public class ErrorMessages {
     public static final String INVALID_BALLERINA_PACKAGE = "ERROR: invalid Ballerina package directory: %s, " +
             "cannot find 'Ballerina.toml' file.%n%n";
     public static final String INVALID_INPUT_PATH = "ERROR: provide input oas contract path.%n%n";
+    public static final String INVALID_OPENAPI_CONTRACT = "ERROR: given file is not an OpenAPI contract: %s, " +
+            "the 'openapi' or 'swagger' version field is missing.%n";
 
     public static final String TOML_UPDATED_MSG = "The 'Ballerina.toml' file is updated successfully with" +
             " the OpenAPI tool configuration.";
@@ -43,6 +45,15 @@ public class ErrorMessages {
             "find 'Ballerina.toml'. Since the status code binding is only supported for Ballerina packages, client " +
             "generation will skip the status code binding option.";
 
+    public static final String UNUSED_SCHEMAS_PRUNED = "INFO: %d schema(s) which are not used by the filtered " +
+            "operations were not generated.";
+
+    public static final String DUPLICATE_SCHEMAS_SHARED = "INFO: %d structurally identical schema(s) were generated " +
+            "as aliases of %d shared type(s), which saved generating %d record field(s).";
+
+    public static final String SHARDED_CLIENT_TESTS_SKIPPED = "WARNING: the test files are not generated for a " +
+            "sharded client.";
+
     private ErrorMessages() {
         throw new AssertionError();
     }
@@ -21,8 +21,11 @@ import io.ballerina.cli.BLauncherCmd;
 import io.ballerina.openapi.cmd.BallerinaCodeGenerator.ClientServiceGeneratorOptions;
 import io.ballerina.openapi.cmd.BallerinaCodeGenerator.ServiceGeneratorOptions;
 import io.ballerina.openapi.core.generators.client.exception.ClientException;
+import io.ballerina.openapi.core.generators.client.model.ClientSharding;
+import io.ballerina.openapi.core.generators.common.OpenAPIContractProbe;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.model.Filter;
+import io.ballerina.openapi.core.generators.document.DocCommentMode;
 import io.ballerina.openapi.core.generators.type.exception.OASTypeGenException;
 import io.ballerina.openapi.service.mapper.diagnostic.DiagnosticMessages;
 import io.ballerina.openapi.service.mapper.diagnostic.ExceptionDiagnostic;
@@ -215,6 +218,38 @@ public class OpenApiCmd implements BLauncherCmd {
             clientResourceMode = baseCmd.generateClientMethods == null || baseCmd.generateClientMethods.isBlank() ||
                     (!baseCmd.generateClientMethods.equals(REMOTE));
 
+            if (baseCmd.shardBy != null && !baseCmd.shardBy.isBlank()) {
+                try {
+                    ClientSharding.fromValue(baseCmd.shardBy);
+                } catch (IllegalArgumentException e) {
+                    // Exit the code generation process
+                    outStream.println("'--shard-by' only supports `tag` or `path` options.");
+                    exitError(this.exitWhenFinish);
+                    return;
+                }
+                if (mode.equals(CmdConstants.Mode.SERVICE)) {
+                    // Exit the code generation process
+                    outStream.println("'--shard-by' option is only available in client generation mode.");
+                    exitError(this.exitWhenFinish);
+                }
+            }
+
+            if (baseCmd.unionThreshold < 1) {
+                // Exit the code generation process
+                outStream.println("'--union-threshold' only supports positive sizes.");
+                exitError(this.exitWhenFinish);
+                return;
+            }
+
+            try {
+                DocCommentMode.fromValue(baseCmd.docComments);
+            } catch (IllegalArgumentException e) {
+                // Exit the code generation process
+                outStream.println("'--doc-comments' only supports `default`, `inline` or `none` options.");
+                exitError(this.exitWhenFinish);
+                return;
+            }
+
             if (!clientResourceMode && mode.equals(CmdConstants.Mode.SERVICE)) {
                 // Exit the code generation process
                 outStream.println("'--client-methods' option is only available in client generation mode.");
@@ -258,6 +293,12 @@ public class OpenApiCmd implements BLauncherCmd {
             }
 
             try {
+                Path contractPath = Paths.get(fileName);
+                if (Files.exists(contractPath) && OpenAPIContractProbe.probe(contractPath).isUnsupported()) {
+                    outStream.printf(ErrorMessages.INVALID_OPENAPI_CONTRACT, fileName);
+                    exitError(this.exitWhenFinish);
+                    return;
+                }
                 openApiToBallerina(fileName, filter);
             } catch (IOException e) {
                 outStream.println(e.getLocalizedMessage());
@@ -343,6 +384,11 @@ public class OpenApiCmd implements BLauncherCmd {
         BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
         generator.setLicenseHeader(this.setLicenseHeader());
         generator.setIncludeTestFiles(this.includeTestFiles);
+        generator.setMaxEnumSize(baseCmd.maxEnumSize);
+        generator.setUnionThreshold(baseCmd.unionThreshold);
+        generator.setClientSharding(ClientSharding.fromValue(baseCmd.shardBy));
+        generator.setDeduplicateSchemas(baseCmd.deduplicateSchemas);
+        generator.setDocCommentMode(DocCommentMode.fromValue(baseCmd.docComments));
         final File openApiFile = new File(fileName);
         String serviceName;
         if (generatedServiceName != null) {
@@ -438,7 +484,8 @@ public class OpenApiCmd implements BLauncherCmd {
         try {
             generator.generateClient(resourcePath.toString(), targetOutputPath.toString(), filter,
                     new BallerinaCodeGenerator.ClientGeneratorOptions(baseCmd.nullable, resourceMode,
-                            statusCodeBinding, baseCmd.mock, baseCmd.singleFile, baseCmd.useSanitized));
+                            statusCodeBinding, baseCmd.mock, baseCmd.singleFile, baseCmd.useSanitized,
+                            baseCmd.lazyLoad));
         } catch (IOException | FormatterException | BallerinaOpenApiException |
                  OASTypeGenException e) {
             if (e.getLocalizedMessage() != null) {
@@ -18,9 +18,9 @@
 package io.ballerina.openapi.cmd;
 
 import io.ballerina.cli.BLauncherCmd;
+import io.ballerina.openapi.core.generators.common.OpenAPIContractCache;
 import io.ballerina.openapi.core.generators.common.model.Filter;
 import io.ballerina.openapi.service.mapper.utils.CodegenUtils;
-import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -201,8 +201,9 @@ public abstract class SubCmdBase implements BLauncherCmd {
     public Optional<OpenAPI> getFilteredOpenAPI(String openAPIFileContent) {
         // Read the contents of the file with default parser options
         // Flattening will be done after filtering the operations
-        SwaggerParseResult parserResult = new OpenAPIParser().readContents(openAPIFileContent, null,
-                new ParseOptions());
+        Path contractPath = Objects.isNull(inputPath) ? null : Path.of(inputPath);
+        SwaggerParseResult parserResult = OpenAPIContractCache.getInstance().readContents(contractPath,
+                openAPIFileContent, new ParseOptions(), OpenAPIContractCache.ParserType.OPENAPI_PARSER);
         if (!parserResult.getMessages().isEmpty() &&
                 parserResult.getMessages().contains(UNSUPPORTED_OPENAPI_VERSION_PARSER_MESSAGE)) {
             errorStream.println(ERROR_UNSUPPORTED_OPENAPI_VERSION);
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.client;
+
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.document.ClientDocCommentGenerator;
+import io.ballerina.tools.text.TextDocuments;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for adding the doc comments to the generated client functions.
+ */
+public class ClientDocCommentGeneratorTests {
+
+    private static final String CLIENT_SOURCE = """
+            public isolated client class Client {
+                final http:Client clientEp;
+                resource isolated function get pets/[string petId]() returns error? {}
+                resource isolated function post pets() returns error? {}
+                @display {label: "List"}
+                resource isolated function get pets() returns error? {}
+                public isolated function init() returns error? {}
+                resource isolated function get pets/[string petId]/owner() returns error? {}
+            }
+            """;
+
+    @Test(description = "The resource functions are documented and sorted in the order of their source")
+    public void testResourceFunctionOrder() {
+        OpenAPI openAPI = new OpenAPI().paths(new Paths()
+                .addPathItem("/pets", new PathItem()
+                        .get(new Operation().operationId("listPets").summary("List pets"))
+                        .post(new Operation().operationId("createPet").summary("Create a pet")))
+                .addPathItem("/pets/{petId}", new PathItem()
+                        .get(new Operation().operationId("getPet").summary("Get a pet")
+                                .addParametersItem(new PathParameter().name("petId").schema(new StringSchema())
+                                        .description("Id of the pet")))));
+        SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(CLIENT_SOURCE));
+        List<String> expectedOrder = new ArrayList<>();
+        getClassMembers(syntaxTree).stream()
+                .filter(member -> member.kind() != SyntaxKind.OBJECT_FIELD)
+                .map(member -> ((FunctionDefinitionNode) member).toSourceCode())
+                .sorted()
+                .forEach(source -> expectedOrder.add(source.strip().replaceAll("\\s+", " ")));
+
+        SyntaxTree documentedTree = new ClientDocCommentGenerator(syntaxTree, openAPI, true)
+                .updateSyntaxTreeWithDocComments();
+        List<Node> members = getClassMembers(documentedTree);
+        Assert.assertEquals(members.size(), 6);
+        Assert.assertEquals(members.get(0).kind(), SyntaxKind.OBJECT_FIELD);
+        List<String> actualOrder = new ArrayList<>();
+        for (Node member : members.subList(1, members.size())) {
+            FunctionDefinitionNode function = (FunctionDefinitionNode) member;
+            String source = function.metadata().isPresent() && function.metadata().get().documentationString()
+                    .isPresent() ? function.toSourceCode().substring(
+                    function.metadata().get().documentationString().get().toSourceCode().length()) :
+                    function.toSourceCode();
+            actualOrder.add(source.strip().replaceAll("\\s+", " "));
+        }
+        Assert.assertEquals(actualOrder, expectedOrder);
+
+        String documentedSource = documentedTree.toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(documentedSource.contains("#Listpets#+headers-Headerstobesentwiththerequest" +
+                "@display{label:\"List\"}resourceisolatedfunctiongetpets()"));
+        Assert.assertTrue(documentedSource.contains("#Getapet#+petId-Idofthepet"));
+    }
+
+    private static List<Node> getClassMembers(SyntaxTree syntaxTree) {
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        List<Node> members = new ArrayList<>();
+        ((ClassDefinitionNode) modulePartNode.members().get(0)).members().forEach(members::add);
+        return members;
+    }
+}
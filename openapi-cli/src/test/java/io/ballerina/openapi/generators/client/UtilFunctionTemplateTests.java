@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.client;
+
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.openapi.core.generators.client.UtilFunctionTemplate;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Tests for the util functions served from the parsed util template.
+ */
+public class UtilFunctionTemplateTests {
+
+    @Test(description = "The util functions are served with the template functions they depend on")
+    public void testDependencyClosure() throws IOException {
+        UtilFunctionTemplate template = UtilFunctionTemplate.getInstance();
+        Assert.assertEquals(List.copyOf(template.getFunctionNames(List.of("getPathForQueryParam"))),
+                List.of("getDeepObjectStyleRequest", "getFormStyleRequest", "getSerializedArray",
+                        "getSerializedRecordArray", "getEncodedUri", "getPathForQueryParam"));
+        Assert.assertEquals(List.copyOf(template.getFunctionNames(List.of("createBodyParts"))),
+                List.of("createBodyParts", "constructEntity", "populateEncodingInfo"));
+        Assert.assertEquals(List.copyOf(template.getFunctionNames(List.of("getEncodedUri", "getOriginalKey"))),
+                List.of("getEncodedUri"));
+    }
+
+    @Test(description = "The template is parsed once and its function definitions are shared")
+    public void testTemplateIsCached() throws IOException {
+        Assert.assertSame(UtilFunctionTemplate.getInstance(), UtilFunctionTemplate.getInstance());
+        List<FunctionDefinitionNode> functions = UtilFunctionTemplate.getInstance()
+                .getFunctions(List.of("getValidatedResponseForDefaultMapping"));
+        Assert.assertEquals(functions.size(), 2);
+        Assert.assertEquals(functions.get(0).functionName().text(), "getValidatedResponseForDefaultMapping");
+        Assert.assertSame(functions.get(1), UtilFunctionTemplate.getInstance()
+                .getFunctions(List.of("createStatusCodeResponseBindingError")).get(0));
+    }
+}
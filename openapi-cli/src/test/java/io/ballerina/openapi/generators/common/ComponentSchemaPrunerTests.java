@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.generators.common.ComponentSchemaPruner;
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.common.model.Filter;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This contains the tests for pruning the component schemas which are not used by the filtered operations.
+ */
+public class ComponentSchemaPrunerTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+
+    @Test(description = "Schemas which are not reachable from the filtered operations are dropped")
+    public void testPruneWithOperationFilter() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(RES_DIR.resolve("petstore.yaml"));
+        Filter filter = new Filter();
+        filter.setOperations(List.of("createPet"));
+        Assert.assertEquals(ComponentSchemaPruner.prune(openAPI, filter), 3);
+        Assert.assertEquals(openAPI.getComponents().getSchemas().keySet(), Set.of("Error"));
+        Assert.assertEquals(openAPI.getPaths().keySet(), Set.of("/pets"));
+        Assert.assertNull(openAPI.getPaths().get("/pets").getGet());
+        Assert.assertNotNull(openAPI.getPaths().get("/pets").getPost());
+    }
+
+    @Test(description = "Schemas referred through other schemas are kept")
+    public void testPruneKeepsTransitiveReferences() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(RES_DIR.resolve("petstore.yaml"));
+        Filter filter = new Filter();
+        filter.setOperations(List.of("listPets"));
+        Assert.assertEquals(ComponentSchemaPruner.prune(openAPI, filter), 1);
+        Assert.assertEquals(openAPI.getComponents().getSchemas().keySet(), Set.of("Pet", "Pets", "Error"));
+    }
+
+    @Test(description = "The model is not modified without a filter")
+    public void testPruneWithoutFilter() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(RES_DIR.resolve("petstore.yaml"));
+        OpenAPI expected = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(RES_DIR.resolve("petstore.yaml"));
+        Assert.assertEquals(ComponentSchemaPruner.prune(openAPI, new Filter()), 0);
+        Assert.assertEquals(openAPI, expected);
+    }
+}
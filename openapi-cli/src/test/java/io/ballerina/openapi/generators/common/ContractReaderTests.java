@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.generators.common.ContractReader;
+import io.ballerina.openapi.core.generators.common.OpenAPIContractCache;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * This contains the tests for the contract reader.
+ */
+public class ContractReaderTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+    private static final String CONTENT = "openapi: 3.0.1\ninfo:\n  title: Café über API\n";
+    private Path tempDir;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("openapi-contract-reader-test");
+    }
+
+    @Test(description = "Content matches the content read into a string")
+    public void testReadString() throws IOException {
+        Path definitionPath = RES_DIR.resolve("petstore.yaml");
+        ContractReader reader = ContractReader.open(definitionPath);
+        Assert.assertEquals(reader.readString(), Files.readString(definitionPath));
+        Assert.assertEquals(reader.getCharset(), StandardCharsets.UTF_8);
+    }
+
+    @Test(description = "Charset is detected from the byte order mark")
+    public void testByteOrderMark() throws IOException {
+        Path utf8Path = writeContract("utf8.yaml", new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF},
+                CONTENT.getBytes(StandardCharsets.UTF_8));
+        Path utf16Path = writeContract("utf16.yaml", new byte[]{(byte) 0xFF, (byte) 0xFE},
+                CONTENT.getBytes(StandardCharsets.UTF_16LE));
+        ContractReader utf8Reader = ContractReader.open(utf8Path);
+        ContractReader utf16Reader = ContractReader.open(utf16Path);
+        Assert.assertEquals(utf8Reader.readString(), CONTENT);
+        Assert.assertEquals(utf16Reader.getCharset(), StandardCharsets.UTF_16LE);
+        Assert.assertEquals(utf16Reader.readString(), CONTENT);
+    }
+
+    @Test(description = "Content hash does not depend on the byte order mark")
+    public void testContentHash() throws IOException {
+        Path plainPath = writeContract("plain.yaml", new byte[0], CONTENT.getBytes(StandardCharsets.UTF_8));
+        Path bomPath = writeContract("bom.yaml", new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF},
+                CONTENT.getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(ContractReader.open(plainPath).getContentHash(),
+                ContractReader.open(bomPath).getContentHash());
+    }
+
+    @Test(description = "Malformed UTF-8 content is reported", expectedExceptions = MalformedInputException.class)
+    public void testMalformedContent() throws IOException {
+        Path malformedPath = writeContract("malformed.yaml", new byte[]{(byte) 0xC3, (byte) 0x28}, new byte[0]);
+        ContractReader.open(malformedPath).readString();
+    }
+
+    @Test(description = "A contract file and its content given as a string share the cache key")
+    public void testContentHashMatchesStringContent() throws IOException {
+        String content = CONTENT + "  version: 1.0.0\npaths: {}\n";
+        Path utf8Path = writeContract("hash-utf8.yaml", new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF},
+                content.getBytes(StandardCharsets.UTF_8));
+        Path utf16Path = writeContract("hash-utf16.yaml", new byte[]{(byte) 0xFE, (byte) 0xFF},
+                content.getBytes(StandardCharsets.UTF_16BE));
+        OpenAPIContractCache cache = OpenAPIContractCache.getInstance();
+        for (Path contractPath : new Path[]{utf8Path, utf16Path}) {
+            cache.readContents(contractPath, new ParseOptions(), OpenAPIContractCache.ParserType.OPENAPI_PARSER);
+            long hitCount = cache.getHitCount();
+            cache.readContents(contractPath, content, new ParseOptions(),
+                    OpenAPIContractCache.ParserType.OPENAPI_PARSER);
+            Assert.assertEquals(cache.getHitCount(), hitCount + 1);
+        }
+    }
+
+    @Test(description = "The contract file is not kept open after it is read")
+    public void testFileIsReleased() throws IOException {
+        Path contractPath = writeContract("released.yaml", new byte[0], CONTENT.getBytes(StandardCharsets.UTF_8));
+        ContractReader reader = ContractReader.open(contractPath);
+        Files.delete(contractPath);
+        Assert.assertEquals(reader.readString(), CONTENT);
+    }
+
+    private Path writeContract(String fileName, byte[] prefix, byte[] content) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(prefix);
+        output.write(content);
+        return Files.write(tempDir.resolve(fileName), output.toByteArray());
+    }
+
+    @AfterClass
+    public void cleanUp() throws IOException {
+        FileUtils.deleteDirectory(tempDir.toFile());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.exception.ClientException;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.TypeHandler;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.document.DocCommentMode;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.servers.Server;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * This contains the tests for the doc comment modes of the generated client and types.
+ */
+public class DocCommentModeTests {
+
+    @Test(description = "The mode is selected with the option value")
+    public void testModeSelection() {
+        Assert.assertEquals(DocCommentMode.fromValue(null), DocCommentMode.POST_GENERATION);
+        Assert.assertEquals(DocCommentMode.fromValue("default"), DocCommentMode.POST_GENERATION);
+        Assert.assertEquals(DocCommentMode.fromValue("Inline"), DocCommentMode.INLINE);
+        Assert.assertEquals(DocCommentMode.fromValue("none"), DocCommentMode.NONE);
+        Assert.assertThrows(IllegalArgumentException.class, () -> DocCommentMode.fromValue("unknown"));
+    }
+
+    @Test(description = "Inline doc comments are the same as the doc comments added after the generation")
+    public void testInlineDocComments() throws BallerinaOpenApiException, ClientException {
+        for (boolean resourceMode : List.of(true, false)) {
+            GeneratedSource postGenerationSource = generateSource(resourceMode, DocCommentMode.POST_GENERATION);
+            GeneratedSource inlineSource = generateSource(resourceMode, DocCommentMode.INLINE);
+
+            Assert.assertEquals(inlineSource.client(), postGenerationSource.client());
+            Assert.assertEquals(inlineSource.types(), postGenerationSource.types());
+            Assert.assertTrue(inlineSource.client().contains("#Getapet"));
+            Assert.assertTrue(inlineSource.client().contains("#+petId-Idofthepet"));
+            Assert.assertTrue(inlineSource.types().contains("#Apetofthestore"));
+        }
+    }
+
+    @Test(description = "No doc comments are generated in the none mode, and the functions keep their order")
+    public void testNoDocComments() throws BallerinaOpenApiException, ClientException {
+        GeneratedSource postGenerationSource = generateSource(true, DocCommentMode.POST_GENERATION);
+        GeneratedSource noDocSource = generateSource(true, DocCommentMode.NONE);
+
+        Assert.assertFalse(noDocSource.client().contains("#Getapet"));
+        Assert.assertFalse(noDocSource.types().contains("#Apetofthestore"));
+        Assert.assertTrue(noDocSource.client().indexOf("resourceisolatedfunctionget") <
+                noDocSource.client().indexOf("resourceisolatedfunctionpost"));
+        Assert.assertTrue(postGenerationSource.client().indexOf("resourceisolatedfunctionget") <
+                postGenerationSource.client().indexOf("resourceisolatedfunctionpost"));
+    }
+
+    private record GeneratedSource(String client, String types) {
+    }
+
+    private static GeneratedSource generateSource(boolean resourceMode, DocCommentMode docCommentMode)
+            throws BallerinaOpenApiException, ClientException {
+        OpenAPI openAPI = getOpenAPI();
+        TypeHandler.createInstance(openAPI, false);
+        OASClientConfig clientConfig = new OASClientConfig.Builder()
+                .withOpenAPI(openAPI)
+                .withResourceMode(resourceMode)
+                .withDocCommentMode(docCommentMode)
+                .build();
+        BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(clientConfig);
+        SyntaxTree clientSyntaxTree = clientGenerator.generateSyntaxTree();
+        SyntaxTree typesSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree(docCommentMode);
+        return new GeneratedSource(getSource(clientSyntaxTree.toSourceCode()),
+                getSource(typesSyntaxTree.toSourceCode()));
+    }
+
+    private static OpenAPI getOpenAPI() {
+        Schema<?> petSchema = new ObjectSchema()
+                .description("A pet of the store")
+                .addProperty("name", new StringSchema().description("Name of the pet"));
+        ApiResponses responses = new ApiResponses().addApiResponse("200", new ApiResponse().description("The pet")
+                .content(new Content().addMediaType("application/json",
+                        new MediaType().schema(new Schema<>().$ref("#/components/schemas/Pet")))));
+        return new OpenAPI()
+                .addServersItem(new Server().url("http://localhost:9090/api"))
+                .paths(new Paths()
+                        .addPathItem("/pets", new PathItem()
+                                .post(new Operation().operationId("addPet").summary("Add a pet")
+                                        .responses(responses)))
+                        .addPathItem("/pets/{petId}", new PathItem()
+                                .get(new Operation().operationId("getPet").summary("Get a pet")
+                                        .addParametersItem(new PathParameter().name("petId")
+                                                .description("Id of the pet").schema(new StringSchema()))
+                                        .responses(responses))))
+                .components(new Components().addSchemas("Pet", petSchema));
+    }
+
+    private static String getSource(String source) {
+        return source.replaceAll("\\s+", "");
+    }
+}
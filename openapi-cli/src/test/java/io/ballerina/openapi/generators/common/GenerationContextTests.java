@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.TypeHandler;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.common.model.Filter;
+import io.ballerina.openapi.core.generators.service.ServiceGenerationHandler;
+import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This contains the tests for running independent generations concurrently.
+ */
+public class GenerationContextTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/schema/swagger").toAbsolutePath();
+    private static final List<String> CONTRACTS = List.of("scenario07.yaml", "allOf.yaml", "array_with_oneOf.yaml",
+            "inclusion_types.yaml");
+
+    @Test(description = "Concurrent generations produce the same types as the sequential generations")
+    public void testConcurrentGeneration() throws Exception {
+        List<String> expectedTypes = new ArrayList<>();
+        for (String contract : CONTRACTS) {
+            expectedTypes.add(new GenerationContext().run(() -> generateTypes(contract)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONTRACTS.size());
+        try {
+            List<Future<String>> generatedTypes = new ArrayList<>();
+            for (String contract : CONTRACTS) {
+                generatedTypes.add(executor.submit(() -> new GenerationContext().run(() -> generateTypes(contract))));
+            }
+            for (int index = 0; index < CONTRACTS.size(); index++) {
+                Assert.assertEquals(generatedTypes.get(index).get(), expectedTypes.get(index));
+            }
+        } catch (ExecutionException e) {
+            Assert.fail("generation failed: " + e.getCause().getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "The previous context of the thread is restored after a generation")
+    public void testContextRestore() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve(CONTRACTS.get(0)), false, false);
+        TypeHandler.createInstance(openAPI, false);
+        TypeHandler typeHandler = TypeHandler.getInstance();
+        GenerationContext context = new GenerationContext();
+        context.run(() -> {
+            TypeHandler.createInstance(openAPI, false);
+            return null;
+        });
+        Assert.assertSame(TypeHandler.getInstance(), typeHandler);
+        Assert.assertNotSame(context.getTypeHandler(), typeHandler);
+    }
+
+    @Test(description = "A generation started without an explicit context binds its own context")
+    public void testEntryPointBinding() throws Exception {
+        String expectedTypes = new GenerationContext().run(() -> generateTypes(CONTRACTS.get(0)));
+        String[] generatedTypes = new String[1];
+        Throwable[] failure = new Throwable[1];
+        Thread thread = new Thread(() -> {
+            try {
+                generatedTypes[0] = generateTypes(CONTRACTS.get(0));
+            } catch (Throwable e) {
+                failure[0] = e;
+            }
+        });
+        thread.start();
+        thread.join();
+        Assert.assertNull(failure[0]);
+        Assert.assertEquals(generatedTypes[0], expectedTypes);
+    }
+
+    @Test(description = "Accessing the generation state without a bound context fails")
+    public void testUnboundContext() throws InterruptedException {
+        Throwable[] failure = new Throwable[1];
+        Thread thread = new Thread(() -> {
+            try {
+                TypeHandler.getInstance();
+            } catch (Throwable e) {
+                failure[0] = e;
+            }
+        });
+        thread.start();
+        thread.join();
+        Assert.assertTrue(failure[0] instanceof IllegalStateException);
+    }
+
+    private static String generateTypes(String contract) throws IOException, BallerinaOpenApiException,
+            FormatterException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve(contract), false, false);
+        TypeHandler.createInstance(openAPI, false);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withNullable(false)
+                .withFilters(new Filter(new ArrayList<>(), new ArrayList<>()))
+                .build();
+        new ServiceGenerationHandler().generateServiceFiles(oasServiceMetadata);
+        return TypeHandler.getInstance().generateTypeSyntaxTree().toSourceCode();
+    }
+}
@@ -20,7 +20,20 @@ package io.ballerina.openapi.generators.common;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.OASModifier;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Encoding;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponses;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -28,6 +41,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * This contains the OAS modification tests.
@@ -69,6 +83,52 @@ public class OASModifierTests {
 
     }
 
+    @Test(description = "Schema references are updated in place when the schemas are renamed")
+    public void testSchemaReferenceRename() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = Paths.get("src/test/resources/petstore.yaml").toAbsolutePath();
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        Map<String, String> nameMap = Map.of("Pet", "PetRecord", "Error", "Error", "Pets", "PetList");
+        OpenAPI modifiedOAS = OASModifier.getOASWithSchemaNameModification(openAPI, nameMap).getOpenAPI();
+        Assert.assertSame(modifiedOAS, openAPI);
+
+        Map<String, Schema> schemas = modifiedOAS.getComponents().getSchemas();
+        Assert.assertEquals(schemas.keySet(), Set.of("PetRecord", "Dog", "PetList", "Error"));
+        Assert.assertEquals(schemas.get("PetList").getItems().get$ref(), "#/components/schemas/PetRecord");
+        Assert.assertEquals(((Schema<?>) schemas.get("Dog").getAllOf().get(0)).get$ref(),
+                "#/components/schemas/PetRecord");
+        ApiResponses responses = modifiedOAS.getPaths().get("/pets").getGet().getResponses();
+        Assert.assertEquals(responses.get("200").getContent().get("application/json").getSchema().get$ref(),
+                "#/components/schemas/PetList");
+        Assert.assertEquals(responses.get("default").getContent().get("application/json").getSchema().get$ref(),
+                "#/components/schemas/Error");
+    }
+
+    @Test(description = "Schema references in the encoding headers and the OpenAPI 3.1 keywords are updated")
+    public void testSchemaReferenceRenameInEncodingAndConditionals() {
+        Schema<?> conditional = new ObjectSchema();
+        conditional.setIf(new Schema<>().$ref("#/components/schemas/Pet"));
+        conditional.setThen(new Schema<>().$ref("#/components/schemas/Rate"));
+        MediaType formData = new MediaType()
+                .schema(new ObjectSchema().addProperty("file", new StringSchema()))
+                .addEncoding("file", new Encoding().addHeader("X-Rate",
+                        new Header().schema(new Schema<>().$ref("#/components/schemas/Rate"))));
+        OpenAPI openAPI = new OpenAPI()
+                .paths(new Paths().addPathItem("/pets", new PathItem().post(new Operation()
+                        .requestBody(new RequestBody().content(new Content()
+                                .addMediaType("multipart/form-data", formData))))))
+                .components(new Components()
+                        .addSchemas("Pet", new ObjectSchema().addProperty("name", new StringSchema()))
+                        .addSchemas("Rate", new StringSchema())
+                        .addSchemas("Conditional", conditional));
+
+        OASModifier.getOASWithSchemaNameModification(openAPI, Map.of("Pet", "PetRecord", "Rate", "RateValue"));
+        Schema<?> modifiedConditional = openAPI.getComponents().getSchemas().get("Conditional");
+        Assert.assertEquals(modifiedConditional.getIf().get$ref(), "#/components/schemas/PetRecord");
+        Assert.assertEquals(modifiedConditional.getThen().get$ref(), "#/components/schemas/RateValue");
+        Assert.assertEquals(formData.getEncoding().get("file").getHeaders().get("X-Rate").getSchema().get$ref(),
+                "#/components/schemas/RateValue");
+    }
+
     @Test
     public void recursiveRecordName() throws IOException, BallerinaOpenApiException {
 //        Path definitionPath = RES_DIR.resolve("recursive_record.yaml");
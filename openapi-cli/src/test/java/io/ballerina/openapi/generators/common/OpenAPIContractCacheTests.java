@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.OpenAPIContractCache;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * This contains the tests for the parsed OpenAPI contract cache.
+ */
+public class OpenAPIContractCacheTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+
+    @Test(description = "Parsing the same contract twice reuses the cached model")
+    public void testCacheHit() throws IOException, BallerinaOpenApiException {
+        OpenAPIContractCache cache = OpenAPIContractCache.getInstance();
+        Path definitionPath = RES_DIR.resolve("petstore.yaml");
+        OpenAPI first = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        long hitCount = cache.getHitCount();
+        OpenAPI second = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        Assert.assertEquals(cache.getHitCount(), hitCount + 1);
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(first.getPaths().keySet(), second.getPaths().keySet());
+        Assert.assertEquals(first.getComponents().getSchemas().keySet(),
+                second.getComponents().getSchemas().keySet());
+    }
+
+    @Test(description = "Modifying a returned model does not affect the cached model")
+    public void testReturnedModelIsIndependent() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("petstore.yaml");
+        OpenAPI first = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        int pathCount = first.getPaths().size();
+        first.getPaths().clear();
+        OpenAPI second = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        Assert.assertEquals(second.getPaths().size(), pathCount);
+    }
+
+    @Test(description = "Different parse options and content are cached separately")
+    public void testCacheKey() throws IOException {
+        OpenAPIContractCache cache = OpenAPIContractCache.getInstance();
+        Path definitionPath = RES_DIR.resolve("petstore.yaml");
+        String content = Files.readString(definitionPath);
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        cache.readContents(definitionPath, content, parseOptions, OpenAPIContractCache.ParserType.OPENAPI_PARSER);
+
+        long missCount = cache.getMissCount();
+        cache.readContents(definitionPath, content, new ParseOptions(),
+                OpenAPIContractCache.ParserType.OPENAPI_PARSER);
+        Assert.assertEquals(cache.getMissCount(), missCount + 1);
+
+        SwaggerParseResult result = cache.readContents(definitionPath, content.replace("OpenApi Petstore",
+                "Modified Petstore"), parseOptions, OpenAPIContractCache.ParserType.OPENAPI_PARSER);
+        Assert.assertEquals(cache.getMissCount(), missCount + 2);
+        Assert.assertEquals(result.getOpenAPI().getInfo().getTitle(), "Modified Petstore");
+    }
+
+    @Test(description = "A cache hit keeps the schema classes created by the parser")
+    public void testCachedModelKeepsSchemaClasses() throws IOException {
+        OpenAPIContractCache cache = OpenAPIContractCache.getInstance();
+        Path definitionPath = RES_DIR.resolve("petstore.yaml");
+        String content = Files.readString(definitionPath).replace("OpenApi Petstore", "Schema Class Petstore");
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        OpenAPI parsed = new OpenAPIV3Parser().readContents(content, null, parseOptions).getOpenAPI();
+        OpenAPI first = cache.readContents(definitionPath, content, parseOptions,
+                OpenAPIContractCache.ParserType.OPENAPI_V3_PARSER).getOpenAPI();
+        OpenAPI second = cache.readContents(definitionPath, content, parseOptions,
+                OpenAPIContractCache.ParserType.OPENAPI_V3_PARSER).getOpenAPI();
+        Assert.assertNotSame(first, second);
+        for (Map.Entry<String, Schema> schema : parsed.getComponents().getSchemas().entrySet()) {
+            assertSameSchemaClasses(first.getComponents().getSchemas().get(schema.getKey()), schema.getValue());
+            assertSameSchemaClasses(second.getComponents().getSchemas().get(schema.getKey()), schema.getValue());
+        }
+    }
+
+    private static void assertSameSchemaClasses(Schema<?> actual, Schema<?> expected) {
+        Assert.assertNotNull(actual);
+        Assert.assertEquals(actual.getClass(), expected.getClass());
+        Assert.assertEquals(actual, expected);
+        if (expected.getProperties() != null) {
+            for (Map.Entry<String, Schema> property : expected.getProperties().entrySet()) {
+                assertSameSchemaClasses(actual.getProperties().get(property.getKey()), property.getValue());
+            }
+        }
+        if (expected.getItems() != null) {
+            assertSameSchemaClasses(actual.getItems(), expected.getItems());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.generators.common.OpenAPIContractProbe;
+import io.ballerina.openapi.core.generators.common.OpenAPIContractProbe.ProbeResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * This contains the tests for the streaming OpenAPI contract probe.
+ */
+public class OpenAPIContractProbeTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+
+    @Test(description = "Probe an OpenAPI 3.0 YAML contract")
+    public void testProbeYamlContract() throws IOException {
+        Path definitionPath = RES_DIR.resolve("petstore.yaml");
+        ProbeResult result = OpenAPIContractProbe.probe(definitionPath);
+        Assert.assertEquals(result.specVersion(), "3.0.0");
+        Assert.assertEquals(result.pathCount(), 3);
+        Assert.assertEquals(result.schemaCount(), 4);
+        Assert.assertEquals(result.fileSize(), Files.size(definitionPath));
+        Assert.assertTrue(result.complete());
+        Assert.assertTrue(result.isOpenAPI());
+    }
+
+    @Test(description = "Probe an OpenAPI 3.0 JSON contract")
+    public void testProbeJsonContract() throws IOException {
+        ProbeResult result = OpenAPIContractProbe.probe(RES_DIR.resolve("cmd/sanitize/openapi.json"));
+        Assert.assertEquals(result.specVersion(), "3.0.1");
+        Assert.assertEquals(result.pathCount(), 3);
+        Assert.assertEquals(result.schemaCount(), 4);
+        Assert.assertTrue(result.complete());
+    }
+
+    @Test(description = "Probe a Swagger 2.0 contract")
+    public void testProbeSwaggerContract() throws IOException {
+        ProbeResult result = OpenAPIContractProbe.probe(RES_DIR.resolve("petstore_swagger.yaml"));
+        Assert.assertEquals(result.specVersion(), "2.0");
+        Assert.assertEquals(result.pathCount(), 14);
+        Assert.assertEquals(result.schemaCount(), 6);
+    }
+
+    @Test(description = "Probe only a prefix of the contract")
+    public void testProbePrefix() throws IOException {
+        ProbeResult result = OpenAPIContractProbe.probe(RES_DIR.resolve("petstore.yaml"), 64);
+        Assert.assertEquals(result.specVersion(), "3.0.0");
+        Assert.assertFalse(result.complete());
+        Assert.assertFalse(result.isUnsupported());
+    }
+
+    @Test(description = "Inputs without an OpenAPI or Swagger version are unsupported")
+    public void testProbeUnsupportedContract() throws IOException {
+        ProbeResult result = OpenAPIContractProbe.probe(RES_DIR.resolve("petstore_swagger_1.2.json"));
+        Assert.assertFalse(result.isOpenAPI());
+        Assert.assertTrue(result.isUnsupported());
+    }
+}
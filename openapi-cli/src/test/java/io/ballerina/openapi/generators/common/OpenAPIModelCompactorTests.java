@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.OpenAPIModelCompactor;
+import io.ballerina.openapi.core.generators.common.OpenAPIModelCompactor.CompactionResult;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * This contains the tests for the OpenAPI model compaction pass.
+ */
+public class OpenAPIModelCompactorTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+
+    @Test(description = "Equal strings and media types share one instance after the compaction")
+    public void testCompaction() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(RES_DIR.resolve("petstore.yaml"));
+        OpenAPI expected = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(RES_DIR.resolve("petstore.yaml"));
+        CompactionResult result = OpenAPIModelCompactor.compact(openAPI);
+        Assert.assertTrue(result.sharedStrings() > 0);
+        Assert.assertTrue(result.sharedMediaTypes() > 0);
+
+        ApiResponse listPetsError = openAPI.getPaths().get("/pets").getGet().getResponses().get("default");
+        ApiResponse createPetError = openAPI.getPaths().get("/pets").getPost().getResponses().get("default");
+        Assert.assertSame(listPetsError.getDescription(), createPetError.getDescription());
+        Assert.assertSame(listPetsError.getContent().get("application/json"),
+                createPetError.getContent().get("application/json"));
+        Assert.assertEquals(openAPI, expected);
+    }
+
+    @Test(description = "Parameter schemas are not shared since they are updated by the generators")
+    public void testParameterSchemasAreNotShared() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(RES_DIR.resolve("petstore.yaml"));
+        OpenAPIModelCompactor.compact(openAPI);
+        Assert.assertNotSame(openAPI.getPaths().get("/pets/{petId}").getGet().getParameters().get(0).getSchema(),
+                openAPI.getPaths().get("/pets").getGet().getResponses().get("200").getHeaders().get("x-next")
+                        .getSchema());
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.exception.ClientException;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.OpenAPISnapshotStore;
+import io.ballerina.openapi.core.generators.common.TypeHandler;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * This contains the tests for the normalized OpenAPI snapshot store.
+ */
+public class OpenAPISnapshotStoreTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+    private Path cacheDir;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        cacheDir = Files.createTempDirectory("openapi-snapshot-test");
+    }
+
+    @Test(description = "Snapshot of a normalized contract is loaded on the next run")
+    public void testSnapshotRoundTrip() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("petstore.yaml");
+        OpenAPISnapshotStore snapshotStore = new OpenAPISnapshotStore(cacheDir);
+        OpenAPI normalized = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false, snapshotStore);
+
+        String contentHash = OpenAPISnapshotStore.getContentHash(definitionPath);
+        Optional<OpenAPI> snapshot = snapshotStore.load(contentHash, "validateOpIds=true,sanitized=false");
+        Assert.assertTrue(snapshot.isPresent());
+        Assert.assertEquals(snapshot.get().getPaths().keySet(), normalized.getPaths().keySet());
+        Assert.assertEquals(snapshot.get().getComponents().getSchemas().keySet(),
+                normalized.getComponents().getSchemas().keySet());
+    }
+
+    @Test(description = "Snapshot is not used for a different contract content or normalization variant")
+    public void testSnapshotInvalidation() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("petstore.yaml");
+        OpenAPISnapshotStore snapshotStore = new OpenAPISnapshotStore(cacheDir);
+        GeneratorUtils.normalizeOpenAPI(definitionPath, true, false, snapshotStore);
+
+        String contentHash = OpenAPISnapshotStore.getContentHash(definitionPath);
+        Assert.assertTrue(snapshotStore.load(contentHash, "validateOpIds=false,sanitized=false").isEmpty());
+        Assert.assertTrue(snapshotStore.load("0".repeat(contentHash.length()),
+                "validateOpIds=true,sanitized=false").isEmpty());
+    }
+
+    @Test(description = "Code generated from a snapshot is the same as the code generated from a full parse")
+    public void testColdAndWarmOutputEquality() throws IOException, BallerinaOpenApiException, ClientException {
+        Path definitionPath = RES_DIR.resolve("generators/client/swagger/" +
+                "request_body_has_object_content_without_property.yaml");
+        Path snapshotDir = Files.createTempDirectory(cacheDir, "cold-warm");
+        OpenAPISnapshotStore snapshotStore = new OpenAPISnapshotStore(snapshotDir);
+        OpenAPI cold = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false, snapshotStore);
+        String coldClient = generateClient(cold);
+
+        OpenAPI warm = snapshotStore.load(OpenAPISnapshotStore.getContentHash(definitionPath),
+                "validateOpIds=true,sanitized=false").orElseThrow();
+        Assert.assertEquals(getSchemaClasses(warm), getSchemaClasses(
+                GeneratorUtils.normalizeOpenAPI(definitionPath, true, false)));
+        Assert.assertEquals(generateClient(warm), coldClient);
+    }
+
+    @Test(description = "The least recently used snapshots are removed once the snapshot limit is exceeded")
+    public void testSnapshotPruning() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("petstore.yaml");
+        Path snapshotDir = Files.createTempDirectory(cacheDir, "pruning");
+        OpenAPISnapshotStore snapshotStore = new OpenAPISnapshotStore(snapshotDir);
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
+        for (int index = 0; index < 24; index++) {
+            Assert.assertTrue(snapshotStore.store("hash" + index, "variant", openAPI));
+        }
+        try (Stream<Path> snapshots = Files.list(snapshotDir.resolve(OpenAPISnapshotStore.SNAPSHOT_DIRECTORY))) {
+            Assert.assertTrue(snapshots.count() <= 16);
+        }
+        Assert.assertTrue(snapshotStore.load("hash23", "variant").isPresent());
+    }
+
+    private static String generateClient(OpenAPI openAPI) throws BallerinaOpenApiException, ClientException {
+        TypeHandler.createInstance(openAPI, false);
+        OASClientConfig clientConfig = new OASClientConfig.Builder()
+                .withOpenAPI(openAPI)
+                .withResourceMode(true)
+                .build();
+        BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(clientConfig);
+        String client = clientGenerator.generateSyntaxTree().toSourceCode();
+        return client + TypeHandler.getInstance().generateTypeSyntaxTree().toSourceCode();
+    }
+
+    private static Map<String, Class<?>> getSchemaClasses(OpenAPI openAPI) {
+        Map<String, Class<?>> schemaClasses = new TreeMap<>();
+        openAPI.getComponents().getSchemas().forEach((name, schema) -> {
+            schemaClasses.put(name, schema.getClass());
+            if (schema.getProperties() != null) {
+                schema.getProperties().forEach((propertyName, property) ->
+                        schemaClasses.put(name + "." + propertyName, property.getClass()));
+            }
+        });
+        return schemaClasses;
+    }
+
+    @AfterClass
+    public void cleanUp() throws IOException {
+        FileUtils.deleteDirectory(cacheDir.toFile());
+    }
+}
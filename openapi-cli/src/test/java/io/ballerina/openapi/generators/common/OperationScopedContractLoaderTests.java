@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.generators.common.OperationScopedContractLoader;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.common.model.Filter;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This contains the tests for loading only the filtered operations of an OpenAPI contract.
+ */
+public class OperationScopedContractLoaderTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+
+    @Test(description = "Only the selected operation and the schemas it refers to are loaded")
+    public void testLoadSelectedOperation() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("petstore.yaml");
+        Filter filter = new Filter(List.of(), List.of("showPetById"));
+        OpenAPI openAPI = OperationScopedContractLoader.load(definitionPath, filter);
+        Assert.assertEquals(openAPI.getPaths().keySet(), Set.of("/pets/{petId}"));
+        Assert.assertEquals(openAPI.getComponents().getSchemas().keySet(), Set.of("Pet", "Dog", "Error"));
+    }
+
+    @Test(description = "The whole contract is loaded when there is no filter")
+    public void testLoadWithoutFilter() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("petstore.yaml");
+        OpenAPI openAPI = OperationScopedContractLoader.load(definitionPath, new Filter());
+        Assert.assertEquals(openAPI.getPaths().size(), 3);
+        Assert.assertTrue(openAPI.getComponents().getSchemas().containsKey("Pets"));
+    }
+}
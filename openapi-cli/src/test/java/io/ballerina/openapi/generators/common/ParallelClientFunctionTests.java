@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGeneratorWithStatusCodeBinding;
+import io.ballerina.openapi.core.generators.client.exception.ClientException;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.TypeHandler;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.servers.Server;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This contains the tests for the parallel generation of the client functions.
+ */
+public class ParallelClientFunctionTests {
+    private static final int OPERATION_COUNT = 96;
+
+    @AfterMethod
+    public void clearSequentialProperty() {
+        System.clearProperty(BallerinaClientGenerator.SEQUENTIAL_PROPERTY);
+    }
+
+    @Test(description = "Client functions generated in parallel are the same as the sequentially generated ones")
+    public void testParallelGeneration() throws BallerinaOpenApiException, ClientException {
+        for (boolean resourceMode : List.of(true, false)) {
+            System.setProperty(BallerinaClientGenerator.SEQUENTIAL_PROPERTY, "true");
+            GeneratedClient sequentialClient = generateClient(resourceMode, false);
+            System.clearProperty(BallerinaClientGenerator.SEQUENTIAL_PROPERTY);
+            GeneratedClient parallelClient = generateClient(resourceMode, false);
+
+            Assert.assertEquals(parallelClient.client(), sequentialClient.client());
+            Assert.assertEquals(parallelClient.utils(), sequentialClient.utils());
+            Assert.assertEquals(parallelClient.types(), sequentialClient.types());
+            Assert.assertEquals(parallelClient.functionNames(), sequentialClient.functionNames());
+            Assert.assertEquals(parallelClient.functionNames().size(), OPERATION_COUNT);
+            Assert.assertEquals(parallelClient.diagnosticCount(), sequentialClient.diagnosticCount());
+        }
+    }
+
+    @Test(description = "Status code binding clients generated in parallel name the response records as a " +
+            "sequential run")
+    public void testParallelStatusCodeBinding() throws BallerinaOpenApiException, ClientException {
+        System.setProperty(BallerinaClientGenerator.SEQUENTIAL_PROPERTY, "true");
+        GeneratedClient sequentialClient = generateClient(true, true);
+        System.clearProperty(BallerinaClientGenerator.SEQUENTIAL_PROPERTY);
+        for (int run = 0; run < 3; run++) {
+            GeneratedClient parallelClient = generateClient(true, true);
+            Assert.assertEquals(parallelClient.client(), sequentialClient.client());
+            Assert.assertEquals(parallelClient.types(), sequentialClient.types());
+            Assert.assertEquals(parallelClient.diagnosticCount(), sequentialClient.diagnosticCount());
+        }
+        // The map response records are named with a count, and the records of the same name with other types are
+        // prefixed with the method
+        Assert.assertTrue(sequentialClient.types().stream().anyMatch(type -> type.contains("Response_1")));
+        Assert.assertTrue(sequentialClient.types().stream().anyMatch(type -> type.contains("typePostItemOk")));
+        Assert.assertTrue(sequentialClient.client().contains("ItemOk"));
+        Assert.assertFalse(sequentialClient.client().contains("__OpenApiTypePlaceholder"));
+    }
+
+    private record GeneratedClient(String client, String utils, List<String> types, List<String> functionNames,
+                                   int diagnosticCount) {
+    }
+
+    private static GeneratedClient generateClient(boolean resourceMode, boolean statusCodeBinding)
+            throws BallerinaOpenApiException, ClientException {
+        OpenAPI openAPI = getOpenAPI();
+        TypeHandler.createInstance(openAPI, false);
+        OASClientConfig clientConfig = new OASClientConfig.Builder()
+                .withOpenAPI(openAPI)
+                .withResourceMode(resourceMode)
+                .withStatusCodeBinding(statusCodeBinding)
+                .build();
+        BallerinaClientGenerator clientGenerator = statusCodeBinding ?
+                new BallerinaClientGeneratorWithStatusCodeBinding(clientConfig) :
+                new BallerinaClientGenerator(clientConfig);
+        SyntaxTree clientSyntaxTree = clientGenerator.generateSyntaxTree();
+        SyntaxTree utilSyntaxTree = clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
+        // The type definitions are not emitted in a fixed order, hence they are compared as a sorted list
+        List<String> types = new ArrayList<>();
+        ModulePartNode typesModule = TypeHandler.getInstance().generateTypeSyntaxTree().rootNode();
+        for (Node member : typesModule.members()) {
+            types.add(getSource(member.toSourceCode()));
+        }
+        types.sort(String::compareTo);
+        return new GeneratedClient(getSource(clientSyntaxTree.toSourceCode()),
+                getSource(utilSyntaxTree.toSourceCode()), types, clientGenerator.getRemoteFunctionNameList(),
+                clientGenerator.getDiagnostics().size());
+    }
+
+    private static OpenAPI getOpenAPI() {
+        Paths paths = new Paths();
+        for (int index = 0; index < OPERATION_COUNT; index++) {
+            Schema<?> responseSchema = index % 8 == 0 ? new MapSchema().additionalProperties(new StringSchema()) :
+                    new Schema<>().$ref("#/components/schemas/Item");
+            Operation operation = new Operation()
+                    .operationId("getItem" + index)
+                    .addParametersItem(new PathParameter().name("id").schema(new StringSchema()))
+                    .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("Ok")
+                            .content(new Content().addMediaType("application/json",
+                                    new MediaType().schema(responseSchema)))));
+            if (index % 3 == 0) {
+                operation.addParametersItem(new QueryParameter().name("limit").schema(new IntegerSchema()));
+            }
+            PathItem pathItem = new PathItem().get(operation);
+            if (index % 4 == 0) {
+                // A post operation on the same path with a map response and a response with headers
+                Operation postOperation = new Operation()
+                        .operationId("postItem" + index)
+                        .addParametersItem(new PathParameter().name("id").schema(new StringSchema()))
+                        .responses(new ApiResponses()
+                                .addApiResponse("200", new ApiResponse().description("Ok")
+                                        .addHeaderObject("X-Rate-Limit", new Header().schema(new IntegerSchema()))
+                                        .content(new Content().addMediaType("application/json",
+                                                new MediaType().schema(new Schema<>()
+                                                        .$ref("#/components/schemas/Item")))))
+                                .addApiResponse("201", new ApiResponse().description("Created")
+                                        .content(new Content().addMediaType("application/json",
+                                                new MediaType().schema(new MapSchema()
+                                                        .additionalProperties(new StringSchema()))))));
+                pathItem.post(postOperation);
+            }
+            paths.addPathItem("/items" + index + "/{id}", pathItem);
+        }
+        return new OpenAPI()
+                .addServersItem(new Server().url("http://localhost:9090/api"))
+                .paths(paths)
+                .components(new Components().addSchemas("Item",
+                        new ObjectSchema().addProperty("name", new StringSchema())));
+    }
+
+    private static String getSource(String source) {
+        return source.replaceAll("\\s+", "");
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.ParallelPathProcessor;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * This contains the tests for the parallel normalization of the paths.
+ */
+public class ParallelPathProcessorTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+
+    @Test(description = "Parallel normalization produces the same model as the sequential normalization")
+    public void testParallelNormalization() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("jira_openapi.yaml");
+        System.setProperty(ParallelPathProcessor.SEQUENTIAL_PROPERTY, "true");
+        OpenAPI sequential = GeneratorUtils.normalizeOpenAPI(
+                GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath), false, true);
+        System.clearProperty(ParallelPathProcessor.SEQUENTIAL_PROPERTY);
+        OpenAPI parallel = GeneratorUtils.normalizeOpenAPI(
+                GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath), false, true);
+        Assert.assertEquals(Json.pretty(parallel), Json.pretty(sequential));
+    }
+
+    @Test(description = "Errors found in parallel are reported in the order of the paths")
+    public void testParallelValidationErrorOrder() {
+        String sequentialMessage = getRequestBodyValidationError(true);
+        String parallelMessage = getRequestBodyValidationError(false);
+        Assert.assertNotNull(parallelMessage);
+        Assert.assertEquals(parallelMessage, sequentialMessage);
+        Assert.assertTrue(parallelMessage.indexOf("operation0") < parallelMessage.indexOf("operation99"));
+    }
+
+    @Test(description = "Path items sharing a nested inline schema are normalized the same as sequentially")
+    public void testSharedNestedSchemaNormalization() throws BallerinaOpenApiException {
+        System.setProperty(ParallelPathProcessor.SEQUENTIAL_PROPERTY, "true");
+        OpenAPI sequential = GeneratorUtils.normalizeOpenAPI(getOpenAPIWithSharedNestedSchema(), false, true);
+        System.clearProperty(ParallelPathProcessor.SEQUENTIAL_PROPERTY);
+        OpenAPI parallel = GeneratorUtils.normalizeOpenAPI(getOpenAPIWithSharedNestedSchema(), false, true);
+        Assert.assertEquals(Json.pretty(parallel), Json.pretty(sequential));
+    }
+
+    private static OpenAPI getOpenAPIWithSharedNestedSchema() {
+        // Every request body has its own schema, but all of them share the same nested inline object schema
+        Schema<?> sharedAddress = new ObjectSchema()
+                .addProperty("street_name", new StringSchema())
+                .addProperty("geo_location", new ObjectSchema().addProperty("lat_value", new StringSchema()));
+        io.swagger.v3.oas.models.Paths paths = new io.swagger.v3.oas.models.Paths();
+        for (int index = 0; index < 100; index++) {
+            Schema<?> bodySchema = new ObjectSchema()
+                    .addProperty("user_name", new StringSchema())
+                    .addProperty("home_address", new ArraySchema().items(sharedAddress));
+            paths.addPathItem("/resource" + index, new PathItem().post(new Operation()
+                    .operationId("operation" + index)
+                    .requestBody(new RequestBody().content(new Content().addMediaType("application/json",
+                            new MediaType().schema(bodySchema))))));
+        }
+        return new OpenAPI().paths(paths).components(new Components()
+                .addSchemas("user_record", new ObjectSchema().addProperty("user_name", new StringSchema())));
+    }
+
+    @AfterMethod
+    public void clearProperty() {
+        System.clearProperty(ParallelPathProcessor.SEQUENTIAL_PROPERTY);
+    }
+
+    private static String getRequestBodyValidationError(boolean isSequential) {
+        System.setProperty(ParallelPathProcessor.SEQUENTIAL_PROPERTY, Boolean.toString(isSequential));
+        io.swagger.v3.oas.models.Paths paths = new io.swagger.v3.oas.models.Paths();
+        for (int index = 0; index < 100; index++) {
+            paths.addPathItem("/resource" + index, new PathItem().get(new Operation()
+                    .operationId("operation" + index).requestBody(new RequestBody())));
+        }
+        try {
+            GeneratorUtils.validateRequestBody(paths.entrySet());
+        } catch (BallerinaOpenApiException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.SchemaReferenceGraph;
+import io.ballerina.openapi.core.generators.common.SchemaReferenceGraph.Node;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This contains the tests for the component reference graph.
+ */
+public class SchemaReferenceGraphTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+
+    @Test(description = "Forward and reverse edges between operations and components")
+    public void testEdges() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(RES_DIR.resolve("petstore.yaml"));
+        SchemaReferenceGraph graph = SchemaReferenceGraph.build(openAPI);
+        Node listPets = Node.ofOperation("/pets", PathItem.HttpMethod.GET);
+        Assert.assertEquals(graph.getReferences(listPets), Set.of(Node.ofSchema("Pets"), Node.ofSchema("Error")));
+        Assert.assertEquals(graph.getReferences(Node.ofSchema("Dog")), Set.of(Node.ofSchema("Pet")));
+        Assert.assertEquals(graph.getReferrers(Node.ofSchema("Pet")),
+                Set.of(Node.ofSchema("Dog"), Node.ofSchema("Pets")));
+        Assert.assertEquals(graph.getReachableNodes(List.of(listPets)),
+                Set.of(listPets, Node.ofSchema("Pets"), Node.ofSchema("Pet"), Node.ofSchema("Error")));
+        Assert.assertTrue(graph.getDependentNodes(List.of(Node.ofSchema("Pet"))).contains(listPets));
+    }
+
+    @Test(description = "Strongly connected components are ordered with the referred components first")
+    public void testStronglyConnectedComponents() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(RES_DIR.resolve("petstore.yaml"));
+        SchemaReferenceGraph graph = SchemaReferenceGraph.build(openAPI);
+        List<Set<Node>> components = graph.getStronglyConnectedComponents();
+        Assert.assertEquals(components.size(), graph.getNodes().size());
+        Assert.assertTrue(components.indexOf(Set.of(Node.ofSchema("Pet"))) <
+                components.indexOf(Set.of(Node.ofSchema("Pets"))));
+        Assert.assertFalse(graph.isRecursive(Node.ofSchema("Pet")));
+    }
+
+    @Test(description = "Recursive schemas are detected")
+    public void testRecursiveSchemas() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(
+                RES_DIR.resolve("generators/sanitizer/recursive_record.yaml"));
+        SchemaReferenceGraph graph = SchemaReferenceGraph.build(openAPI);
+        Assert.assertTrue(graph.isRecursive(Node.ofSchema("account-details")));
+        Assert.assertFalse(graph.isRecursive(Node.ofSchema("account")));
+
+        Schema<?> parent = new ObjectSchema().addProperty("child", new Schema<>().$ref("Child"));
+        Schema<?> child = new ObjectSchema().addProperty("parent", new Schema<>().$ref("Parent"));
+        OpenAPI mutualRecursion = new OpenAPI().components(new Components()
+                .addSchemas("Parent", parent).addSchemas("Child", child));
+        SchemaReferenceGraph mutualGraph = SchemaReferenceGraph.build(mutualRecursion);
+        Assert.assertEquals(mutualGraph.getStronglyConnectedComponents(),
+                List.of(Set.of(Node.ofSchema("Parent"), Node.ofSchema("Child"))));
+        Assert.assertTrue(mutualGraph.isRecursive(Node.ofSchema("Child")));
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.ShardedClientGenerator;
+import io.ballerina.openapi.core.generators.client.exception.ClientException;
+import io.ballerina.openapi.core.generators.client.model.ClientSharding;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.TypeHandler;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.common.model.Filter;
+import io.ballerina.openapi.core.generators.common.model.GenSrcFile;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.servers.Server;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This contains the tests for the client generation sharded by the tags and the path prefixes.
+ */
+public class ShardedClientGeneratorTests {
+
+    @Test(description = "Sharding option values")
+    public void testShardingValues() {
+        Assert.assertEquals(ClientSharding.fromValue(null), ClientSharding.NONE);
+        Assert.assertEquals(ClientSharding.fromValue("Tag"), ClientSharding.TAG);
+        Assert.assertEquals(ClientSharding.fromValue("path"), ClientSharding.PATH);
+        Assert.assertThrows(IllegalArgumentException.class, () -> ClientSharding.fromValue("size"));
+    }
+
+    @Test(description = "Client classes and types of the shards grouped by the first tag")
+    public void testTagSharding() throws BallerinaOpenApiException, ClientException, FormatterException,
+            IOException {
+        Map<String, String> files = generateFiles(ClientSharding.TAG, new Filter());
+        Assert.assertEquals(getFileNames(files), List.of("client.bal", "client_pets.bal", "client_pet_stores.bal",
+                "types.bal", "types_pets.bal", "types_pet_stores.bal"));
+        Assert.assertTrue(files.get("client.bal").contains("client class Client {"));
+        Assert.assertTrue(files.get("client.bal").contains("resource isolated function get health()"));
+        Assert.assertTrue(files.get("client_pets.bal").contains("client class PetsClient {"));
+        Assert.assertTrue(files.get("client_pets.bal").contains("resource isolated function get pets/[string id]("));
+        Assert.assertFalse(files.get("client_pets.bal").contains("stores"));
+        Assert.assertTrue(files.get("client_pet_stores.bal").contains("client class PetStoresClient {"));
+
+        // The type used by both shards and the config types stay in the shared types file with their imports
+        Assert.assertTrue(files.get("types.bal").contains("public type Category record"));
+        Assert.assertTrue(files.get("types.bal").contains("public type ConnectionConfig record"));
+        Assert.assertTrue(files.get("types.bal").contains("import ballerina/http;"));
+        Assert.assertFalse(files.get("types.bal").contains("public type Pet record"));
+        Assert.assertTrue(files.get("types_pets.bal").contains("public type Pet record"));
+        Assert.assertFalse(files.get("types_pets.bal").contains("import ballerina/http;"));
+        Assert.assertTrue(files.get("types_pet_stores.bal").contains("public type Store record"));
+    }
+
+    @Test(description = "Client classes of the shards grouped by the path segment after the common prefix")
+    public void testPathSharding() throws BallerinaOpenApiException, ClientException, FormatterException,
+            IOException {
+        Map<String, String> files = generateFiles(ClientSharding.PATH, new Filter());
+        Assert.assertEquals(getFileNames(files), List.of("client_pets.bal", "client_stores.bal",
+                "client_health.bal", "types.bal", "types_pets.bal", "types_stores.bal"));
+        Assert.assertTrue(files.get("client_health.bal").contains("client class HealthClient {"));
+        Assert.assertTrue(files.get("types_pets.bal").contains("public type Pet record"));
+    }
+
+    @Test(description = "A contract whose selected operations fall into a single shard is not sharded")
+    public void testSingleShard() {
+        OpenAPI openAPI = getOpenAPI();
+        TypeHandler.createInstance(openAPI, false);
+        Assert.assertFalse(new ShardedClientGenerator(getClientConfig(openAPI, ClientSharding.TAG,
+                new Filter(new ArrayList<>(List.of("pets")), new ArrayList<>())), BallerinaClientGenerator::new)
+                .isSharded());
+        Assert.assertFalse(new ShardedClientGenerator(getClientConfig(openAPI, ClientSharding.NONE, new Filter()),
+                BallerinaClientGenerator::new).isSharded());
+    }
+
+    @Test(description = "The operations are selected by their tags and operation ids")
+    public void testOperationSelection() {
+        Filter filter = new Filter(new ArrayList<>(List.of("pets")), new ArrayList<>(List.of("listStores")));
+        Assert.assertTrue(filter.isSelected(List.of("pets", "stores"), "getPet"));
+        Assert.assertTrue(filter.isSelected(null, "listStores"));
+        Assert.assertFalse(filter.isSelected(null, "list-stores"));
+        Assert.assertFalse(filter.isSelected(List.of("stores"), "getStore"));
+        Assert.assertFalse(filter.isSelected(null, null));
+        Assert.assertTrue(new Filter().isSelected(null, null));
+    }
+
+    @Test(description = "The types of the shards are named the same way as the types of the sanitized contract")
+    public void testSanitizedTypeSharding() throws BallerinaOpenApiException, ClientException,
+            FormatterException, IOException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(getOpenAPI("pet_item"), false, true);
+        OASClientConfig clientConfig = new OASClientConfig.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(new Filter())
+                .withClientSharding(ClientSharding.TAG)
+                .withIsUsingSanitizedOas(true)
+                .build();
+        Map<String, String> files = generateFiles(clientConfig);
+        Assert.assertTrue(files.get("types_pets.bal").contains("public type PetItem record"));
+        Assert.assertFalse(files.get("types.bal").contains("public type PetItem record"));
+    }
+
+    private static Map<String, String> generateFiles(ClientSharding clientSharding, Filter filter)
+            throws BallerinaOpenApiException, ClientException, FormatterException, IOException {
+        return generateFiles(getClientConfig(getOpenAPI(), clientSharding, filter));
+    }
+
+    private static Map<String, String> generateFiles(OASClientConfig clientConfig)
+            throws BallerinaOpenApiException, ClientException, FormatterException, IOException {
+        TypeHandler.createInstance(clientConfig.getOpenAPI(), false);
+        ShardedClientGenerator shardedClientGenerator = new ShardedClientGenerator(clientConfig,
+                BallerinaClientGenerator::new);
+        Assert.assertTrue(shardedClientGenerator.isSharded());
+        Map<String, String> files = new LinkedHashMap<>();
+        for (GenSrcFile file : shardedClientGenerator.generateClientFiles("client", "")) {
+            files.put(file.getFileName(), file.getContent());
+        }
+        return files;
+    }
+
+    /**
+     * Get the names of the generated files other than the util file, which depends on the generated functions.
+     */
+    private static List<String> getFileNames(Map<String, String> files) {
+        List<String> fileNames = new ArrayList<>(files.keySet());
+        fileNames.remove("utils.bal");
+        return fileNames;
+    }
+
+    private static OASClientConfig getClientConfig(OpenAPI openAPI, ClientSharding clientSharding, Filter filter) {
+        return new OASClientConfig.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .withClientSharding(clientSharding)
+                .build();
+    }
+
+    private static OpenAPI getOpenAPI() {
+        return getOpenAPI("Pet");
+    }
+
+    private static OpenAPI getOpenAPI(String petSchemaName) {
+        Paths paths = new Paths();
+        paths.addPathItem("/v1/pets", new PathItem().get(getOperation("listPets", "pets", petSchemaName)));
+        paths.addPathItem("/v1/pets/{id}", new PathItem().get(getOperation("getPet", "pets", petSchemaName)
+                .addParametersItem(new PathParameter().name("id").schema(new StringSchema()))));
+        paths.addPathItem("/v1/stores", new PathItem().get(getOperation("listStores", "pet stores", "Store")));
+        paths.addPathItem("/v1/health", new PathItem().get(getOperation("getHealth", null, null)));
+        Schema<?> category = new Schema<>().$ref("#/components/schemas/Category");
+        return new OpenAPI()
+                .addServersItem(new Server().url("http://localhost:9090/api"))
+                .paths(paths)
+                .components(new Components()
+                        .addSchemas(petSchemaName, new ObjectSchema().addProperty("name", new StringSchema())
+                                .addProperty("category", category))
+                        .addSchemas("Store", new ObjectSchema().addProperty("address", new StringSchema())
+                                .addProperty("category", category))
+                        .addSchemas("Category", new ObjectSchema().addProperty("name", new StringSchema())));
+    }
+
+    private static Operation getOperation(String operationId, String tag, String schemaName) {
+        Schema<?> responseSchema = schemaName == null ? new StringSchema() :
+                new Schema<>().$ref("#/components/schemas/" + schemaName);
+        Operation operation = new Operation()
+                .operationId(operationId)
+                .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("Ok")
+                        .content(new Content().addMediaType("application/json",
+                                new MediaType().schema(responseSchema)))));
+        if (tag != null) {
+            operation.addTagsItem(tag);
+        }
+        return operation;
+    }
+}
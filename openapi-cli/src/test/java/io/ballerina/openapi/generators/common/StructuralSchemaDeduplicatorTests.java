@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.generators.common.StructuralSchemaDeduplicator;
+import io.ballerina.openapi.core.generators.common.StructuralSchemaDeduplicator.DeduplicationResult;
+import io.ballerina.openapi.core.generators.type.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.type.model.TypeGeneratorResult;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+/**
+ * This contains the tests for generating structurally identical schemas as a shared type.
+ */
+public class StructuralSchemaDeduplicatorTests {
+
+    @Test(description = "Identical object schemas are replaced with a reference to the first declared schema")
+    public void testDeduplication() {
+        OpenAPI openAPI = new OpenAPI().components(new Components()
+                .addSchemas("Pet", new ObjectSchema().addProperty("id", new IntegerSchema()))
+                .addSchemas("inline_response_200", getPage("Pets of the first page", "cursor-1"))
+                .addSchemas("inline_response_200_1", getPage("Pets of the next page", "cursor-2"))
+                .addSchemas("Error", new ObjectSchema().addProperty("message", new StringSchema()))
+                .addSchemas("PetsResponse", new ObjectSchema()
+                        .addProperty("page", new Schema<>().$ref("#/components/schemas/inline_response_200")))
+                .addSchemas("NextPetsResponse", new ObjectSchema()
+                        .addProperty("page", new Schema<>().$ref("#/components/schemas/inline_response_200_1"))));
+
+        DeduplicationResult result = StructuralSchemaDeduplicator.deduplicate(openAPI);
+        Assert.assertEquals(result, new DeduplicationResult(2, 2, 3));
+        Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        Assert.assertEquals(schemas.get("inline_response_200_1").get$ref(),
+                "#/components/schemas/inline_response_200");
+        Assert.assertEquals(schemas.get("NextPetsResponse").get$ref(), "#/components/schemas/PetsResponse");
+        Assert.assertNotNull(schemas.get("inline_response_200").getProperties());
+        Assert.assertNull(schemas.get("Error").get$ref());
+
+        BallerinaTypesGenerator typesGenerator = new BallerinaTypesGenerator(openAPI, false);
+        TypeGeneratorResult typeResult = typesGenerator.generateTypeDescriptorNodeForOASSchema(
+                new Schema<>().$ref("#/components/schemas/NextPetsResponse"), false);
+        Assert.assertEquals(typeResult.subtypeDefinitions().get("NextPetsResponse").toSourceCode()
+                .replaceAll("\\s", ""), "publictypeNextPetsResponsePetsResponse;");
+    }
+
+    @Test(description = "Schemas which differ in structure are kept")
+    public void testDistinctSchemas() {
+        OpenAPI openAPI = new OpenAPI().components(new Components()
+                .addSchemas("Page", getPage("Page", "cursor"))
+                .addSchemas("Cursor", new ObjectSchema().addProperty("next", new StringSchema()))
+                .addSchemas("NumberedPage", new ObjectSchema()
+                        .addProperty("items", new ArraySchema().items(new Schema<>().$ref("#/components/schemas/Pet")))
+                        .addProperty("next", new IntegerSchema())));
+
+        Assert.assertEquals(StructuralSchemaDeduplicator.deduplicate(openAPI), new DeduplicationResult(0, 0, 0));
+        Assert.assertTrue(openAPI.getComponents().getSchemas().values().stream()
+                .allMatch(schema -> schema.get$ref() == null));
+    }
+
+    private static Schema<?> getPage(String description, String example) {
+        Schema<?> next = new StringSchema();
+        next.setExample(example);
+        Schema<?> page = new ObjectSchema()
+                .addProperty("items", new ArraySchema().items(new Schema<>().$ref("#/components/schemas/Pet")))
+                .addProperty("next", next);
+        page.setDescription(description);
+        return page;
+    }
+}
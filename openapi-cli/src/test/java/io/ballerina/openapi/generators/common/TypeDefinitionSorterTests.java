@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.core.generators.common.TypeDefinitionSorter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This contains the tests for the sorted order of the generated type definitions.
+ */
+public class TypeDefinitionSorterTests {
+
+    @Test(description = "Referred types are placed first, and the other types are ordered by name")
+    public void testSortedOrder() {
+        Map<String, TypeDefinitionNode> typeDefinitions = new LinkedHashMap<>();
+        addTypeDefinition(typeDefinitions, "public type Pets Pet[];");
+        addTypeDefinition(typeDefinitions, "public type Error record { int code; string message; };");
+        addTypeDefinition(typeDefinitions, "public type Pet record { int id; Category category?; };");
+        addTypeDefinition(typeDefinitions, "public type Category record { string name; };");
+        addTypeDefinition(typeDefinitions, "public type Node record { Node[] children; Tree tree; };");
+        addTypeDefinition(typeDefinitions, "public type Tree record { Node root; };");
+
+        List<String> expectedOrder = List.of("Category", "Error", "Tree", "Node", "Pet", "Pets");
+        Assert.assertEquals(getTypeNames(TypeDefinitionSorter.sort(typeDefinitions)), expectedOrder);
+
+        Map<String, TypeDefinitionNode> reorderedDefinitions = new HashMap<>();
+        List<String> insertionOrder = List.of("Tree", "Pet", "Node", "Category", "Pets", "Error");
+        insertionOrder.forEach(typeName -> reorderedDefinitions.put(typeName, typeDefinitions.get(typeName)));
+        Assert.assertEquals(getTypeNames(TypeDefinitionSorter.sort(reorderedDefinitions)), expectedOrder);
+    }
+
+    @Test(description = "Included record types are placed before the types which include them")
+    public void testIncludedTypeOrder() {
+        Map<String, TypeDefinitionNode> typeDefinitions = new HashMap<>();
+        addTypeDefinition(typeDefinitions, "public type Animal record { *Zoo; string name; };");
+        addTypeDefinition(typeDefinitions, "public type Zoo record { string location; };");
+        Assert.assertEquals(getTypeNames(TypeDefinitionSorter.sort(typeDefinitions)), List.of("Zoo", "Animal"));
+    }
+
+    private static void addTypeDefinition(Map<String, TypeDefinitionNode> typeDefinitions, String source) {
+        TypeDefinitionNode typeDefinition = (TypeDefinitionNode) NodeParser.parseModuleMemberDeclaration(source);
+        typeDefinitions.put(typeDefinition.typeName().text(), typeDefinition);
+    }
+
+    private static List<String> getTypeNames(List<TypeDefinitionNode> typeDefinitions) {
+        return typeDefinitions.stream().map(typeDefinition -> typeDefinition.typeName().text()).toList();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.compiler.syntax.tree.NameReferenceNode;
+import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+import io.ballerina.openapi.core.generators.common.TypeHandler;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+
+/**
+ * This contains the tests for reusing the generated status code response records.
+ */
+public class TypeInclusionRecordTests {
+
+    @Test(description = "A status code response record is reused for the same body and headers types")
+    public void testResponseRecordReuse() {
+        TypeHandler.createInstance(new OpenAPI(), false);
+        TypeHandler typeHandler = TypeHandler.getInstance();
+        NameReferenceNode first = typeHandler.createTypeInclusionRecord("Ok", getType("Pet"), null, "get");
+        NameReferenceNode second = typeHandler.createTypeInclusionRecord("Ok", getType("Pet"), null, "put");
+        NameReferenceNode withHeaders = typeHandler.createTypeInclusionRecord("Ok", getType("Pet"),
+                getType("PetHeaders"), "post");
+        NameReferenceNode otherStatusCode = typeHandler.createTypeInclusionRecord("Created", getType("Pet"),
+                null, "post");
+
+        Assert.assertEquals(first.toSourceCode(), "PetOk");
+        Assert.assertEquals(second.toSourceCode(), "PetOk");
+        Assert.assertEquals(withHeaders.toSourceCode(), "PostPetOk");
+        Assert.assertEquals(otherStatusCode.toSourceCode(), "PetCreated");
+        String types = typeHandler.generateTypeSyntaxTree().toSourceCode();
+        Assert.assertTrue(types.contains("PostPetOk"));
+        Assert.assertEquals(types.split("PetOk", -1).length, 3);
+    }
+
+    private static TypeDescriptorNode getType(String name) {
+        return createSimpleNameReferenceNode(createIdentifierToken(name));
+    }
+}
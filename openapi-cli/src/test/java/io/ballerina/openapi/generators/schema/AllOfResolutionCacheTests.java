@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.schema;
+
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.type.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.type.model.AllOfResolutionCache;
+import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tests for reusing the resolved properties of the allOf schemas.
+ */
+public class AllOfResolutionCacheTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/schema/swagger").toAbsolutePath();
+
+    @Test(description = "The properties of an allOf schema are resolved once per generation run")
+    public void testAllOfResolutionReuse() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("allOf.yaml"), false, false);
+        BallerinaTypesGenerator typesGenerator = new BallerinaTypesGenerator(openAPI, false);
+        AllOfResolutionCache resolutionCache = GeneratorMetaData.getInstance().getAllOfResolutionCache();
+        Schema<?> subject = new Schema<>().$ref("#/components/schemas/Subject");
+
+        typesGenerator.generateTypeDescriptorNodeForOASSchema(subject, false);
+        int hitCount = resolutionCache.getHitCount();
+        Assert.assertTrue(resolutionCache.getMissCount() > 0);
+        typesGenerator.generateTypeDescriptorNodeForOASSchema(subject, true);
+        Assert.assertTrue(resolutionCache.getHitCount() > hitCount);
+
+        Schema<?> subjectType = (Schema<?>) openAPI.getComponents().getSchemas().get("Subject").getProperties()
+                .get("subject_type");
+        if (subjectType.get$ref() != null) {
+            subjectType = openAPI.getComponents().getSchemas().get(
+                    GeneratorUtils.extractReferenceType(subjectType.get$ref()));
+        }
+        Map<String, Schema> properties = resolutionCache.getComposedSchemaProperties(subjectType).orElseThrow();
+        Assert.assertEquals(properties.keySet(), Set.of("uuid", "first_name", "last_name"));
+        properties.clear();
+        Assert.assertEquals(resolutionCache.getComposedSchemaProperties(subjectType).orElseThrow().size(), 3);
+
+        new BallerinaTypesGenerator(openAPI, false);
+        Assert.assertEquals(resolutionCache.getHitCount(), 0);
+        Assert.assertTrue(resolutionCache.getComposedSchemaProperties(subjectType).isEmpty());
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.schema;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.TypeHandler;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.constraint.ConstraintResult;
+import io.ballerina.openapi.core.generators.type.model.ComponentConstraints;
+import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Tests for attaching the constraints while the component types are generated.
+ */
+public class ComponentConstraintTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/schema/swagger").toAbsolutePath();
+
+    @Test(description = "The constraints of a component type are attached when the type is generated")
+    public void testConstraintsAttachedOnGeneration() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("constraint/array.yaml"), true, false);
+        TypeHandler.createInstance(openAPI, false);
+        TypeHandler.getInstance().getTypeNodeFromOASSchema(new Schema<>().$ref("#/components/schemas/Person"));
+        ComponentConstraints componentConstraints = GeneratorMetaData.getInstance().getComponentConstraints();
+
+        ConstraintResult hobby = componentConstraints.get("Hobby").orElseThrow();
+        Assert.assertTrue(hobby.isConstraintAvailable());
+        Assert.assertTrue(hobby.typeDefinitionNode().metadata().isPresent());
+        Assert.assertTrue(componentConstraints.get("Person").orElseThrow().isConstraintAvailable());
+
+        SyntaxTree syntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
+        String source = syntaxTree.toSourceCode();
+        Assert.assertTrue(source.contains("import ballerina/constraint;"));
+        Assert.assertTrue(source.replaceAll("\\s+", "").contains(
+                "@constraint:String{maxLength:23}publictypeHobbyItemsStringstring;"));
+    }
+
+    @Test(description = "The constraints are not generated with the nullable option")
+    public void testNoConstraintsWithNullableOption() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("constraint/array.yaml"), true, false);
+        TypeHandler.createInstance(openAPI, true);
+        TypeHandler.getInstance().getTypeNodeFromOASSchema(new Schema<>().$ref("#/components/schemas/Person"));
+        Assert.assertTrue(GeneratorMetaData.getInstance().getComponentConstraints().get("Person").isEmpty());
+        Assert.assertFalse(TypeHandler.getInstance().generateTypeSyntaxTree().toSourceCode()
+                .contains("import ballerina/constraint;"));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.schema;
+
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.TypeHandler;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.type.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for generating the component schema types concurrently.
+ */
+public class ComponentTypeGenerationTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+
+    @Test(description = "Concurrently generated component types are the same as the sequentially generated types")
+    public void testConcurrentComponentTypes() throws IOException, BallerinaOpenApiException {
+        List<String> concurrentTypes = new GenerationContext().run(this::generateTypes);
+        System.setProperty(BallerinaTypesGenerator.SEQUENTIAL_PROPERTY, "true");
+        try {
+            List<String> sequentialTypes = new GenerationContext().run(this::generateTypes);
+            Assert.assertEquals(concurrentTypes, sequentialTypes);
+        } finally {
+            System.clearProperty(BallerinaTypesGenerator.SEQUENTIAL_PROPERTY);
+        }
+    }
+
+    @Test(description = "The component types are generated ahead of the type requests")
+    public void testComponentTypesPregeneration() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("jira_openapi.yaml"), false, false);
+        new GenerationContext().run(() -> {
+            TypeHandler.createInstance(openAPI, false);
+            for (String schemaName : List.of("Project", "User", "IssueBean")) {
+                Assert.assertTrue(GeneratorMetaData.getInstance().getReferencedTypeCache()
+                        .get(schemaName, false).isPresent(), schemaName);
+            }
+            return null;
+        });
+    }
+
+    @Test(description = "A model where allOf generation merges properties into referred schemas is generated on " +
+            "demand")
+    public void testMergedPropertiesPregeneration() {
+        OpenAPI openAPI = new OpenAPI().components(new Components());
+        for (int i = 0; i < 64; i++) {
+            openAPI.getComponents().addSchemas("Schema" + i, new ObjectSchema().addProperty("id", new StringSchema()));
+        }
+        openAPI.getComponents().addSchemas("Pet", new ObjectSchema().addProperty("name", new StringSchema())
+                .addAllOfItem(new Schema<>().$ref("#/components/schemas/Schema0")));
+        openAPI.getComponents().addSchemas("Dog", new Schema<>().required(List.of("name"))
+                .addAllOfItem(new Schema<>().$ref("#/components/schemas/Pet")));
+        new GenerationContext().run(() -> {
+            TypeHandler.createInstance(openAPI, false);
+            Assert.assertTrue(GeneratorMetaData.getInstance().getReferencedTypeCache().get("Schema1", false)
+                    .isEmpty());
+            return null;
+        });
+    }
+
+    private List<String> generateTypes() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("jira_openapi.yaml"), false, false);
+        TypeHandler.createInstance(openAPI, false);
+        TypeHandler typeHandler = TypeHandler.getInstance();
+        for (String schemaName : openAPI.getComponents().getSchemas().keySet()) {
+            typeHandler.getTypeNodeFromOASSchema(new Schema<>().$ref("#/components/schemas/" + schemaName));
+        }
+        List<String> types = new ArrayList<>();
+        ModulePartNode modulePartNode = typeHandler.generateTypeSyntaxTree().rootNode();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            types.add(member.toSourceCode());
+        }
+        types.sort(String::compareTo);
+        typeHandler.getDiagnostics().forEach(diagnostic -> types.add(diagnostic.message()));
+        return types;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.schema;
+
+import io.ballerina.openapi.core.generators.common.TypeHandler;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Tests for the generation of the string enums which exceed the maximum enum size.
+ */
+public class LargeEnumTests {
+
+    @Test(description = "Large component enums are generated as string types with a lookup table")
+    public void testLargeComponentEnum() {
+        TypeHandler.createInstance(getOpenAPI(), false, 3);
+        TypeHandler.getInstance().getTypeNodeFromOASSchema(new Schema<>().$ref("#/components/schemas/Account"));
+        String source = TypeHandler.getInstance().generateTypeSyntaxTree().toSourceCode().replaceAll("\\s+", "");
+
+        Assert.assertTrue(source.contains("publictypeCurrencyCodestring;"));
+        Assert.assertTrue(source.contains("publicfinalreadonly&map<boolean>currencyCodeValues={\"AED\":true," +
+                "\"AFN\":true,\"ALL\":true,\"AM\\\"D\":true};"));
+        Assert.assertTrue(source.contains("publicisolatedfunctionisValidCurrencyCode(stringvalue)returnsboolean=>" +
+                "currencyCodeValues.hasKey(value);"));
+        Assert.assertTrue(source.contains("publictypeStatus\"active\"|\"closed\";"));
+        Assert.assertTrue(source.contains("stringregion;"));
+        Assert.assertFalse(source.contains("regionValues"));
+
+        long largeEnumDiagnostics = TypeHandler.getInstance().getDiagnostics().stream()
+                .map(Diagnostic::diagnosticInfo)
+                .filter(diagnosticInfo -> diagnosticInfo.code().equals("OAS_TYPE_105"))
+                .count();
+        Assert.assertTrue(largeEnumDiagnostics >= 2);
+    }
+
+    @Test(description = "Enums are generated as unions of their values without a maximum enum size")
+    public void testWithoutMaxEnumSize() {
+        TypeHandler.createInstance(getOpenAPI(), false);
+        TypeHandler.getInstance().getTypeNodeFromOASSchema(new Schema<>().$ref("#/components/schemas/Account"));
+        String source = TypeHandler.getInstance().generateTypeSyntaxTree().toSourceCode().replaceAll("\\s+", "");
+
+        Assert.assertTrue(source.contains("publictypeCurrencyCode\"AED\"|\"AFN\"|\"ALL\"|\"AM\\\"D\";"));
+        Assert.assertFalse(source.contains("currencyCodeValues"));
+    }
+
+    @Test(description = "Lookup tables escape the control characters and do not collide with the schema names")
+    public void testLookupTableEscapesAndNames() {
+        OpenAPI openAPI = getOpenAPI();
+        Schema<String> currencyCode = new StringSchema();
+        currencyCode.setEnum(List.of("AED", "A\\F\nN", "AL\tL", "AM\u0001D"));
+        openAPI.getComponents()
+                .addSchemas("CurrencyCode", currencyCode)
+                .addSchemas("CurrencyCodeValues", new ObjectSchema().addProperty("code", new StringSchema()))
+                .addSchemas("isValidCurrencyCode", new StringSchema());
+        TypeHandler.createInstance(openAPI, false, 3);
+        TypeHandler.getInstance().getTypeNodeFromOASSchema(new Schema<>().$ref("#/components/schemas/Account"));
+        String source = TypeHandler.getInstance().generateTypeSyntaxTree().toSourceCode().replaceAll("\\s+", "");
+
+        Assert.assertTrue(source.contains("publicfinalreadonly&map<boolean>currencyCodeValues1={\"AED\":true," +
+                "\"A\\\\F\\nN\":true,\"AL\\tL\":true,\"AM\\u{1}D\":true};"));
+        Assert.assertTrue(source.contains("publicisolatedfunctionisValidCurrencyCode1(stringvalue)returnsboolean=>" +
+                "currencyCodeValues1.hasKey(value);"));
+        Assert.assertFalse(source.contains("map<boolean>currencyCodeValues="));
+    }
+
+    @Test(description = "A repeated enum value is generated once in the lookup table")
+    public void testLookupTableWithRepeatedValues() {
+        OpenAPI openAPI = getOpenAPI();
+        Schema<String> currencyCode = new StringSchema();
+        currencyCode.setEnum(List.of("AED", "AFN", "AED", "ALL", "AMD"));
+        openAPI.getComponents().addSchemas("CurrencyCode", currencyCode);
+        TypeHandler.createInstance(openAPI, false, 3);
+        TypeHandler.getInstance().getTypeNodeFromOASSchema(new Schema<>().$ref("#/components/schemas/Account"));
+        String source = TypeHandler.getInstance().generateTypeSyntaxTree().toSourceCode().replaceAll("\\s+", "");
+
+        Assert.assertTrue(source.contains("publictypeCurrencyCodestring;"));
+        Assert.assertTrue(source.contains("publicfinalreadonly&map<boolean>currencyCodeValues={\"AED\":true," +
+                "\"AFN\":true,\"ALL\":true,\"AMD\":true};"));
+    }
+
+    private static OpenAPI getOpenAPI() {
+        Schema<String> currencyCode = new StringSchema();
+        currencyCode.setEnum(List.of("AED", "AFN", "ALL", "AM\"D"));
+        Schema<String> status = new StringSchema();
+        status.setEnum(List.of("active", "closed"));
+        Schema<String> region = new StringSchema();
+        region.setEnum(List.of("eu-west", "eu-north", "us-east", "us-west"));
+        Schema<?> account = new ObjectSchema()
+                .addProperty("currency", new Schema<>().$ref("#/components/schemas/CurrencyCode"))
+                .addProperty("status", new Schema<>().$ref("#/components/schemas/Status"))
+                .addProperty("region", region);
+        account.setRequired(List.of("currency", "status", "region"));
+        return new OpenAPI().components(new Components()
+                .addSchemas("CurrencyCode", currencyCode)
+                .addSchemas("Status", status)
+                .addSchemas("Account", account));
+    }
+}
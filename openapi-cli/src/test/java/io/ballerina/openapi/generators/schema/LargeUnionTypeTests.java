@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.schema;
+
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.core.generators.type.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.type.model.TypeGeneratorResult;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for the generation of the unions which exceed the union size threshold.
+ */
+public class LargeUnionTypeTests {
+
+    private static final int UNION_THRESHOLD = 3;
+
+    @Test(description = "Large inline unions are generated once as a named type, and component unions stay inline")
+    public void testLargeUnionCollapse() {
+        Components components = new Components();
+        for (String name : List.of("A", "B", "C", "D")) {
+            components.addSchemas(name, new ObjectSchema().addProperty(name.toLowerCase(), new StringSchema()));
+        }
+        components.addSchemas("Event", new ComposedSchema().oneOf(getMembers("A", "B", "C", "D", "A")));
+        components.addSchemas("Envelope", new ObjectSchema().addProperty("payload",
+                new ComposedSchema().oneOf(getMembers("A", "B", "C", "D"))));
+        components.addSchemas("Batch", new ObjectSchema().addProperty("payload",
+                new ComposedSchema().oneOf(getMembers("A", "B", "C", "D"))));
+        OpenAPI openAPI = new OpenAPI().components(components);
+        BallerinaTypesGenerator typesGenerator = new BallerinaTypesGenerator(openAPI, false, 0, UNION_THRESHOLD);
+
+        TypeGeneratorResult event = typesGenerator.generateTypeDescriptorNodeForOASSchema(getReference("Event"),
+                false);
+        Assert.assertEquals(getSource(event.subtypeDefinitions().get("Event")), "publictypeEventA|B|C|D;");
+        Assert.assertTrue(event.subtypeDefinitions().keySet().stream().noneMatch(name -> name.endsWith("Union")));
+
+        Map<String, TypeDefinitionNode> envelope = typesGenerator.generateTypeDescriptorNodeForOASSchema(
+                getReference("Envelope"), false).subtypeDefinitions();
+        Assert.assertEquals(getSource(envelope.get("PayloadUnion")), "publictypePayloadUnionA|B|C|D;");
+        Assert.assertTrue(getSource(envelope.get("Envelope")).contains("PayloadUnionpayload"));
+
+        Map<String, TypeDefinitionNode> batch = typesGenerator.generateTypeDescriptorNodeForOASSchema(
+                getReference("Batch"), false).subtypeDefinitions();
+        Assert.assertTrue(getSource(batch.get("Batch")).contains("PayloadUnionpayload"));
+        Assert.assertTrue(batch.containsKey("PayloadUnion"));
+
+        List<String> collapseDiagnostics = new ArrayList<>();
+        for (Diagnostic diagnostic : typesGenerator.getDiagnostics()) {
+            if (diagnostic.diagnosticInfo().code().equals("OAS_TYPE_104")) {
+                collapseDiagnostics.add(diagnostic.message());
+            }
+        }
+        Assert.assertEquals(collapseDiagnostics.size(), 1);
+        Assert.assertTrue(collapseDiagnostics.get(0).contains("'PayloadUnion'"));
+    }
+
+    @Test(description = "Unions within the default threshold are generated inline")
+    public void testDefaultUnionThreshold() {
+        Components components = new Components();
+        for (String name : List.of("A", "B", "C", "D")) {
+            components.addSchemas(name, new ObjectSchema().addProperty(name.toLowerCase(), new StringSchema()));
+        }
+        components.addSchemas("Envelope", new ObjectSchema().addProperty("payload",
+                new ComposedSchema().oneOf(getMembers("A", "B", "C", "D"))));
+        BallerinaTypesGenerator typesGenerator = new BallerinaTypesGenerator(new OpenAPI().components(components),
+                false);
+
+        Map<String, TypeDefinitionNode> envelope = typesGenerator.generateTypeDescriptorNodeForOASSchema(
+                getReference("Envelope"), false).subtypeDefinitions();
+        Assert.assertFalse(envelope.containsKey("PayloadUnion"));
+        Assert.assertFalse(getSource(envelope.get("Envelope")).contains("PayloadUnion"));
+    }
+
+    @Test(description = "Names of the large unions are stable when the component types are generated concurrently")
+    public void testStableUnionNamesWithPregeneration() {
+        List<String> sequentialSources;
+        System.setProperty(BallerinaTypesGenerator.SEQUENTIAL_PROPERTY, "true");
+        try {
+            sequentialSources = generateEnvelopeTypes();
+        } finally {
+            System.clearProperty(BallerinaTypesGenerator.SEQUENTIAL_PROPERTY);
+        }
+        Assert.assertTrue(sequentialSources.get(0).contains("PayloadUnionpayload"));
+        Assert.assertTrue(sequentialSources.get(138).contains("PayloadUnion69payload"));
+        for (int run = 0; run < 4; run++) {
+            Assert.assertEquals(generateEnvelopeTypes(), sequentialSources);
+        }
+    }
+
+    /**
+     * Generate 70 schemas with distinct large unions of the same field name, with the component types generated
+     * ahead of the type requests, and get the sources of the schemas and their unions in the request order.
+     */
+    private static List<String> generateEnvelopeTypes() {
+        Components components = new Components();
+        for (int i = 0; i < 73; i++) {
+            components.addSchemas("Member" + i, new ObjectSchema().addProperty("id" + i, new StringSchema()));
+        }
+        for (int i = 0; i < 70; i++) {
+            components.addSchemas("Envelope" + i, new ObjectSchema().addProperty("payload", new ComposedSchema()
+                    .oneOf(getMembers("Member" + i, "Member" + (i + 1), "Member" + (i + 2), "Member" + (i + 3)))));
+        }
+        OpenAPI openAPI = new OpenAPI().components(components);
+        BallerinaTypesGenerator typesGenerator = new BallerinaTypesGenerator(openAPI, false, 0, UNION_THRESHOLD);
+        typesGenerator.generateComponentTypes();
+        List<String> sources = new ArrayList<>();
+        for (int i = 0; i < 70; i++) {
+            Map<String, TypeDefinitionNode> envelope = typesGenerator.generateTypeDescriptorNodeForOASSchema(
+                    getReference("Envelope" + i), false).subtypeDefinitions();
+            sources.add(getSource(envelope.get("Envelope" + i)));
+            String unionName = i == 0 ? "PayloadUnion" : "PayloadUnion" + i;
+            sources.add(getSource(envelope.get(unionName)));
+        }
+        return sources;
+    }
+
+    private static List<Schema> getMembers(String... names) {
+        List<Schema> members = new ArrayList<>();
+        for (String name : names) {
+            members.add(getReference(name));
+        }
+        return members;
+    }
+
+    private static Schema<?> getReference(String name) {
+        return new Schema<>().$ref("#/components/schemas/" + name);
+    }
+
+    private static String getSource(TypeDefinitionNode typeDefinitionNode) {
+        return typeDefinitionNode.toSourceCode().replaceAll("\\s+", "");
+    }
+}
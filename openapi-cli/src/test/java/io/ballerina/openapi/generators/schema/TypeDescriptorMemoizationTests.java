@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.schema;
+
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.type.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.type.model.TypeGeneratorResult;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Tests for reusing the generated types of the referenced schemas.
+ */
+public class TypeDescriptorMemoizationTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+
+    @Test(description = "A referenced schema is generated once and reused for the later references")
+    public void testReferencedTypeReuse() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("petstore.yaml"), false, false);
+        BallerinaTypesGenerator typesGenerator = new BallerinaTypesGenerator(openAPI, false);
+        TypeGeneratorResult first = typesGenerator.generateTypeDescriptorNodeForOASSchema(
+                new Schema<>().$ref("#/components/schemas/Pets"), false);
+        TypeGeneratorResult second = typesGenerator.generateTypeDescriptorNodeForOASSchema(
+                new Schema<>().$ref("#/components/schemas/Pets"), false);
+
+        Assert.assertEquals(second.typeDescriptorNode().orElseThrow().toSourceCode().trim(), "Pets");
+        Assert.assertEquals(second.subtypeDefinitions().keySet(), first.subtypeDefinitions().keySet());
+        Assert.assertTrue(first.subtypeDefinitions().containsKey("Pet"));
+        Assert.assertSame(second.subtypeDefinitions().get("Pets"), first.subtypeDefinitions().get("Pets"));
+
+        TypeGeneratorResult ignoringNullable = typesGenerator.generateTypeDescriptorNodeForOASSchema(
+                new Schema<>().$ref("#/components/schemas/Pets"), true);
+        Assert.assertNotSame(ignoringNullable.subtypeDefinitions().get("Pets"), first.subtypeDefinitions().get("Pets"));
+    }
+}
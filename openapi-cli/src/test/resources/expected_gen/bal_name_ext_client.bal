@@ -274,22 +274,6 @@ isolated function getPathForQueryParam(map<anydata> queryParam, map<Encoding> en
     return restOfPath;
 }
 
-public type AlbumARTIST record {|
-    Album[] albums;
-    string name;
-    string id;
-|};
-
-# Provides settings related to HTTP/1.x protocol.
-public type ClientHttp1Settings record {|
-    # Specifies whether to reuse a connection for multiple requests
-    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
-    # The chunking behaviour of the request
-    http:Chunking chunking = http:CHUNKING_AUTO;
-    # Proxy server related options
-    ProxyConfig proxy?;
-|};
-
 public type Album record {|
     string artist;
     @jsondata:Name {value: "_id"}
@@ -297,11 +281,11 @@ public type Album record {|
     string title;
 |};
 
-# Represents the Queries record for the operation: getAlbums
-public type GetAlbumsQueries record {
-    @http:Query {name: "_artists_"}
-    string[] artists = [];
-};
+public type AlbumARTIST record {|
+    Album[] albums;
+    string name;
+    string id;
+|};
 
 # Proxy server configurations to be used with the HTTP client endpoint.
 public type ProxyConfig record {|
@@ -316,11 +300,15 @@ public type ProxyConfig record {|
     string password = "";
 |};
 
-# Represents the Headers record for the operation: getAlbums
-public type GetAlbumsHeaders record {
-    @http:Header {name: "X-API-VERSION"}
-    string xAPIVERSION = "v1";
-};
+# Provides settings related to HTTP/1.x protocol.
+public type ClientHttp1Settings record {|
+    # Specifies whether to reuse a connection for multiple requests
+    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
+    # The chunking behaviour of the request
+    http:Chunking chunking = http:CHUNKING_AUTO;
+    # Proxy server related options
+    ProxyConfig proxy?;
+|};
 
 # Provides a set of configurations for controlling the behaviours when communicating with a remote HTTP endpoint.
 @display {label: "Connection Config"}
@@ -357,3 +345,15 @@ public type ConnectionConfig record {|
     # and absent fields are handled as `nilable` types. Enabled by default.
     boolean laxDataBinding = true;
 |};
+
+# Represents the Headers record for the operation: getAlbums
+public type GetAlbumsHeaders record {
+    @http:Header {name: "X-API-VERSION"}
+    string xAPIVERSION = "v1";
+};
+
+# Represents the Queries record for the operation: getAlbums
+public type GetAlbumsQueries record {
+    @http:Query {name: "_artists_"}
+    string[] artists = [];
+};
@@ -13,17 +13,19 @@ type OASServiceType service object {
     resource function get albums/[string id]/artist() returns AlbumARTIST|ErrorPayloadBadRequest;
 };
 
+public type Album record {|
+    string artist;
+    @jsondata:Name {value: "_id"}
+    string id;
+    string title;
+|};
+
 public type AlbumARTIST record {|
     Album[] albums;
     string name;
     string id;
 |};
 
-public type ErrorPayloadBadRequest record {|
-    *http:BadRequest;
-    ErrorPayload body;
-|};
-
 public type ErrorPayload record {
     string reason;
     string path;
@@ -33,18 +35,16 @@ public type ErrorPayload record {
     int status;
 };
 
+public type ErrorPayloadBadRequest record {|
+    *http:BadRequest;
+    ErrorPayload body;
+|};
+
 public type Message record {|
     int code;
     string message;
 |};
 
-public type Album record {|
-    string artist;
-    @jsondata:Name {value: "_id"}
-    string id;
-    string title;
-|};
-
 public type MessageNotFound record {|
     *http:NotFound;
     Message body;
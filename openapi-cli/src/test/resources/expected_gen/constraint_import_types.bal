@@ -4,22 +4,6 @@
 import ballerina/constraint;
 import ballerina/http;
 
-public type User record {
-    @constraint:String {maxLength: 10}
-    string name?;
-    int age?;
-};
-
-# Provides settings related to HTTP/1.x protocol.
-public type ClientHttp1Settings record {|
-    # Specifies whether to reuse a connection for multiple requests
-    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
-    # The chunking behaviour of the request
-    http:Chunking chunking = http:CHUNKING_AUTO;
-    # Proxy server related options
-    ProxyConfig proxy?;
-|};
-
 # Proxy server configurations to be used with the HTTP client endpoint.
 public type ProxyConfig record {|
     # Host name of the proxy server
@@ -33,6 +17,16 @@ public type ProxyConfig record {|
     string password = "";
 |};
 
+# Provides settings related to HTTP/1.x protocol.
+public type ClientHttp1Settings record {|
+    # Specifies whether to reuse a connection for multiple requests
+    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
+    # The chunking behaviour of the request
+    http:Chunking chunking = http:CHUNKING_AUTO;
+    # Proxy server related options
+    ProxyConfig proxy?;
+|};
+
 # Provides a set of configurations for controlling the behaviours when communicating with a remote HTTP endpoint.
 @display {label: "Connection Config"}
 public type ConnectionConfig record {|
@@ -68,3 +62,9 @@ public type ConnectionConfig record {|
     # and absent fields are handled as `nilable` types. Enabled by default.
     boolean laxDataBinding = true;
 |};
+
+public type User record {
+    @constraint:String {maxLength: 10}
+    string name?;
+    int age?;
+};
@@ -248,21 +248,6 @@ isolated function getPathForQueryParam(map<anydata> queryParam, map<Encoding> en
     return restOfPath;
 }
 
-# Provides settings related to HTTP/1.x protocol.
-public type ClientHttp1Settings record {|
-    # Specifies whether to reuse a connection for multiple requests
-    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
-    # The chunking behaviour of the request
-    http:Chunking chunking = http:CHUNKING_AUTO;
-    # Proxy server related options
-    ProxyConfig proxy?;
-|};
-
-# Represents the Headers record for the operation: Get_Albums_Id
-public type GetAlbumsIdHeaders record {
-    string X\-HEADER?;
-};
-
 # Proxy server configurations to be used with the HTTP client endpoint.
 public type ProxyConfig record {|
     # Host name of the proxy server
@@ -276,6 +261,16 @@ public type ProxyConfig record {|
     string password = "";
 |};
 
+# Provides settings related to HTTP/1.x protocol.
+public type ClientHttp1Settings record {|
+    # Specifies whether to reuse a connection for multiple requests
+    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
+    # The chunking behaviour of the request
+    http:Chunking chunking = http:CHUNKING_AUTO;
+    # Proxy server related options
+    ProxyConfig proxy?;
+|};
+
 # Provides a set of configurations for controlling the behaviours when communicating with a remote HTTP endpoint.
 @display {label: "Connection Config"}
 public type ConnectionConfig record {|
@@ -312,6 +307,11 @@ public type ConnectionConfig record {|
     boolean laxDataBinding = true;
 |};
 
+# Represents the Headers record for the operation: Get_Albums_Id
+public type GetAlbumsIdHeaders record {
+    string X\-HEADER?;
+};
+
 # Represents the Queries record for the operation: Get_Albums_Id
 public type GetAlbumsIdQueries record {
     int q2?;
@@ -248,14 +248,10 @@ isolated function getPathForQueryParam(map<anydata> queryParam, map<Encoding> en
     return restOfPath;
 }
 
-# Provides settings related to HTTP/1.x protocol.
-public type ClientHttp1Settings record {|
-    # Specifies whether to reuse a connection for multiple requests
-    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
-    # The chunking behaviour of the request
-    http:Chunking chunking = http:CHUNKING_AUTO;
-    # Proxy server related options
-    ProxyConfig proxy?;
+public type Genre record {|
+    string name = "Unknown";
+    string|string[] description = ["Unknown","Unknown"];
+    int iid;
 |};
 
 public type Album record {|
@@ -269,17 +265,6 @@ public type Album record {|
     boolean available = true;
 |};
 
-# Represents the Headers record for the operation: getAlbumsId
-public type GetAlbumsIdHeaders record {
-    string X\-HEADER = "header1";
-};
-
-public type Genre record {|
-    string name = "Unknown";
-    string|string[] description = ["Unknown","Unknown"];
-    int iid;
-|};
-
 # Proxy server configurations to be used with the HTTP client endpoint.
 public type ProxyConfig record {|
     # Host name of the proxy server
@@ -293,6 +278,16 @@ public type ProxyConfig record {|
     string password = "";
 |};
 
+# Provides settings related to HTTP/1.x protocol.
+public type ClientHttp1Settings record {|
+    # Specifies whether to reuse a connection for multiple requests
+    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
+    # The chunking behaviour of the request
+    http:Chunking chunking = http:CHUNKING_AUTO;
+    # Proxy server related options
+    ProxyConfig proxy?;
+|};
+
 # Provides a set of configurations for controlling the behaviours when communicating with a remote HTTP endpoint.
 @display {label: "Connection Config"}
 public type ConnectionConfig record {|
@@ -329,6 +324,11 @@ public type ConnectionConfig record {|
     boolean laxDataBinding = true;
 |};
 
+# Represents the Headers record for the operation: getAlbumsId
+public type GetAlbumsIdHeaders record {
+    string X\-HEADER = "header1";
+};
+
 # Represents the Queries record for the operation: getAlbumsId
 public type GetAlbumsIdQueries record {
     string q1 = "query1";
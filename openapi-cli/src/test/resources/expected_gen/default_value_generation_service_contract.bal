@@ -3,11 +3,11 @@
 
 import ballerina/http;
 
-@http:ServiceConfig {basePath: "/payloadV"}
-type OASServiceType service object {
-    *http:ServiceContract;
-    resource function get albums/[string id](string q1 = "query1", int q2 = -1, @http:Header string X\-HEADER = "header1") returns Album;
-};
+public type Genre record {|
+    string name = "Unknown";
+    string|string[] description = ["Unknown","Unknown"];
+    int iid;
+|};
 
 public type Album record {|
     int iid = -1;
@@ -20,8 +20,8 @@ public type Album record {|
     boolean available = true;
 |};
 
-public type Genre record {|
-    string name = "Unknown";
-    string|string[] description = ["Unknown","Unknown"];
-    int iid;
-|};
+@http:ServiceConfig {basePath: "/payloadV"}
+type OASServiceType service object {
+    *http:ServiceContract;
+    resource function get albums/[string id](string q1 = "query1", int q2 = -1, @http:Header string X\-HEADER = "header1") returns Album;
+};
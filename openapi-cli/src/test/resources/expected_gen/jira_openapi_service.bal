@@ -1259,210 +1259,211 @@ service / on ep0 {
     }
 }
 
-# Properties of a workflow status.
-public type WorkflowStatusProperties record {|
-    # Whether issues are editable in this status.
-    boolean issueEditable;
-|};
-
-# Details about a notification associated with an event.
-public type EventNotification record {|
-    # Expand options that include additional event notification details in the response.
-    string expand?;
-    # The ID of the notification.
-    int id?;
-    # Identifies the recipients of the notification.
-    "CurrentAssignee"|"Reporter"|"CurrentUser"|"ProjectLead"|"ComponentLead"|"User"|"Group"|"ProjectRole"|"EmailAddress"|"AllWatchers"|"UserCustomField"|"GroupCustomField" notificationType?;
-    # The value of the `notificationType`:
-    #
-    #  *  `User` The `parameter` is the user account ID.
-    #  *  `Group` The `parameter` is the group name.
-    #  *  `ProjectRole` The `parameter` is the project role ID.
-    #  *  `UserCustomField` The `parameter` is the ID of the custom field.
-    #  *  `GroupCustomField` The `parameter` is the ID of the custom field.
-    string 'parameter?;
-    # The specified group.
-    GroupName group?;
-    # The custom user or group field.
-    FieldDetails 'field?;
-    # The email address.
-    string emailAddress?;
-    # The specified project role.
-    ProjectRole projectRole?;
-    # The specified user.
-    UserDetails user?;
-|};
-
-# List of issue transitions.
-public type Transitions record {|
-    # Expand options that include additional transitions details in the response.
-    string expand?;
-    # List of issue transitions.
-    IssueTransition[] transitions?;
+public type ActorInputBean record {|
+    # The account IDs of the users to add as default actors. This parameter accepts a comma-separated list. For example, `"user":["5b10a2844c20165700ede21g", "5b109f2e9729b51b54dc274d"]`.
+    string[] user?;
+    # The name of the group to add as a default actor. This parameter accepts a comma-separated list. For example, `"group":["project-admin", "jira-developers"]`.
+    string[] group?;
 |};
 
-# List of user account IDs.
-public type UserKey record {|
-    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
-    string 'key?;
-    # The account ID of the user, which uniquely identifies the user across all Atlassian products. For example, *5b10ac8d82e05b22cc7d4ef5*. Returns *unknown* if the record is deleted and corrupted, for example, as the result of a server import.
-    @constraint:String {maxLength: 128}
-    string accountId?;
+public type ActorsMap record {|
+    # The user account ID of the user to add.
+    string[] user?;
+    # The name of the group to add.
+    string[] group?;
 |};
 
-public type ProjectRoleOk record {|
-    *http:Ok;
-    ProjectRole body;
+public type AddFieldBean record {|
+    # The ID of the field to add.
+    string fieldId;
 |};
 
-# Properties that identify a workflow.
-public type WorkflowId record {|
-    # The name of the workflow.
+public type AddGroupBean record {
+    # The name of the group.
     string name;
-    # Whether the workflow is in the draft state.
-    boolean draft;
-|};
-
-# The linked item.
-public type RemoteObject record {
-    # The URL of the item.
-    string url;
-    # The title of the item.
-    string title;
-    # The summary details of the item.
-    string summary?;
-    # Details of the icon for the item. If no icon is defined, the default link icon is used in Jira.
-    Icon icon?;
-    # The status of the item.
-    Status status?;
 };
 
-# Details of an issue type.
-public type IssueTypeInfo record {|
-    # The ID of the issue type.
-    int id?;
-    # The name of the issue type.
+# The application the linked item is in.
+public type Application record {
+    # The name-spaced type of the application, used by registered rendering apps.
+    string 'type?;
+    # The name of the application. Used in conjunction with the (remote) object icon title to display a tooltip for the link's icon. The tooltip takes the format "\[application name\] icon title". Blank items are excluded from the tooltip title. If both items are blank, the icon tooltop displays as "Web Link". Grouping and sorting of links may place links without an application name last.
     string name?;
-    # The avatar of the issue type.
-    int avatarId?;
-|};
-
-# Details of the options for a select list issue field.
-public type IssueFieldOption record {|
-    # The unique identifier for the option. This is only unique within the select field's set of options.
-    int id;
-    # The option's name, which is displayed in Jira.
-    string value;
-    # The properties of the object, as arbitrary key-value pairs. These properties can be searched using JQL, if the extractions (see [Issue Field Option Property Index](https://developer.atlassian.com/cloud/jira/platform/modules/issue-field-option-property-index/)) are defined in the descriptor for the issue field module.
-    record {} properties?;
-    IssueFieldOptionConfiguration config?;
-|};
-
-# Details of a field configuration.
-public type FieldConfiguration record {|
-    # The ID of the field configuration.
-    int id;
-    # The name of the field configuration.
-    string name;
-    # The description of the field configuration.
-    string description;
-    # Whether the field configuration is the default.
-    boolean isDefault?;
-|};
-
-# The status of the item.
-public type Status record {
-    # Whether the item is resolved. If set to "true", the link to the issue is displayed in a strikethrough font, otherwise the link displays in normal font.
-    boolean resolved?;
-    # Details of the icon representing the status. If not provided, no status icon displays in Jira.
-    Icon icon?;
 };
 
-# Details of a changed worklog.
-public type ChangedWorklog record {|
-    # The ID of the worklog.
-    int worklogId?;
-    # The datetime of the change.
-    int updatedTime?;
-    # Details of properties associated with the change.
-    EntityProperty[] properties?;
+# Details of an application property.
+public type ApplicationProperty record {|
+    # The ID of the application property. The ID and key are the same.
+    string id?;
+    # The key of the application property. The ID and key are the same.
+    string 'key?;
+    # The new value.
+    string value?;
+    # The name of the application property.
+    string name?;
+    # The description of the application property.
+    string desc?;
+    # The data type of the application property.
+    string 'type?;
+    # The default value of the application property.
+    string defaultValue?;
+    string example?;
+    # The allowed values, if applicable.
+    string[] allowedValues?;
 |};
 
-public type BulkOperationErrorResult record {|
-    int:Signed32 status?;
-    ErrorCollection elementErrors?;
-    int:Signed32 failedElementNumber?;
+# Details of an application role.
+public type ApplicationRole record {|
+    # The key of the application role.
+    string 'key?;
+    # The groups associated with the application role.
+    string[] groups?;
+    # The display name of the application role.
+    string name?;
+    # The groups that are granted default access for this application role.
+    string[] defaultGroups?;
+    # Determines whether this application role should be selected by default on user creation.
+    boolean selectedByDefault?;
+    # Deprecated.
+    boolean defined?;
+    # The maximum count of users on your license.
+    int:Signed32 numberOfSeats?;
+    # The count of users remaining on your license.
+    int:Signed32 remainingSeats?;
+    # The number of users counting against your license.
+    int:Signed32 userCount?;
+    # The [type of users](https://confluence.atlassian.com/x/lRW3Ng) being counted against your license.
+    string userCountDescription?;
+    boolean hasUnlimitedSeats?;
+    # Indicates if the application role belongs to Jira platform (`jira-core`).
+    boolean platform?;
 |};
 
-# List of issues and JQL queries.
-public type IssuesAndJQLQueries record {|
-    # A list of JQL queries.
-    string[] jqls;
-    # A list of issue IDs.
-    int[] issueIds;
+# Details of an item associated with the changed record.
+public type AssociatedItemBean record {|
+    # The ID of the associated record.
+    string id?;
+    # The name of the associated record.
+    string name?;
+    # The type of the associated record.
+    string typeName?;
+    # The ID of the associated parent record.
+    string parentId?;
+    # The name of the associated parent record.
+    string parentName?;
 |};
 
-# A workflow transition rule.
-public type ConnectWorkflowTransitionRule record {|
-    # The ID of the transition rule.
-    string id;
-    # The key of the rule, as defined in the Connect app descriptor.
-    string 'key;
-    RuleConfiguration configuration;
-    WorkflowTransition transition?;
+public type AvatarUrlsBean record {|
+    # The URL of the item's 16x16 pixel avatar.
+    string '16x16?;
+    # The URL of the item's 24x24 pixel avatar.
+    string '24x24?;
+    # The URL of the item's 32x32 pixel avatar.
+    string '32x32?;
+    # The URL of the item's 48x48 pixel avatar.
+    string '48x48?;
 |};
 
-public type SimpleListWrapperGroupName record {|
-    int:Signed32 size?;
-    GroupName[] items?;
-    ListWrapperCallbackGroupName pagingCallback?;
-    ListWrapperCallbackGroupName callback?;
-    int:Signed32 max\-results?;
+# User details permitted by the user's Atlassian Account privacy settings. However, be aware of these exceptions:
+#
+#  *  User record deleted from Atlassian: This occurs as the result of a right to be forgotten request. In this case, `displayName` provides an indication and other parameters have default values or are blank (for example, email is blank).
+#  *  User record corrupted: This occurs as a results of events such as a server import and can only happen to deleted users. In this case, `accountId` returns *unknown* and all other parameters have fallback values.
+#  *  User record unavailable: This usually occurs due to an internal service outage. In this case, all parameters have fallback values.
+public type UserDetails record {|
+    # The URL of the user.
+    string self?;
+    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
+    string name?;
+    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
+    string 'key?;
+    # The account ID of the user, which uniquely identifies the user across all Atlassian products. For example, *5b10ac8d82e05b22cc7d4ef5*.
+    @constraint:String {maxLength: 128}
+    string accountId?;
+    # The email address of the user. Depending on the user’s privacy settings, this may be returned as null.
+    string emailAddress?;
+    # The avatars of the user.
+    AvatarUrlsBean avatarUrls?;
+    # The display name of the user. Depending on the user’s privacy settings, this may return an alternative value.
+    string displayName?;
+    # Whether the user is active.
+    boolean active?;
+    # The time zone specified in the user's profile. Depending on the user’s privacy settings, this may be returned as null.
+    string timeZone?;
+    # The type of account represented by this user. This will be one of 'atlassian' (normal users), 'app' (application user) or 'customer' (Jira Service Desk customer user)
+    string accountType?;
 |};
 
-# The details of a workflow.
-public type CreateWorkflowDetails record {|
-    # The name of the workflow. The name must be unique. The maximum length is 255 characters. Characters can be separated by a whitespace but the name cannot start or end with a whitespace.
-    string name;
-    # The description of the workflow. The maximum length is 1000 characters.
-    string description?;
-    # The transitions of the workflow. For the request to be valid, these transitions must:
-    #
-    #  *  include one *initial* transition.
-    #  *  not use the same name for a *global* and *directed* transition.
-    #  *  have a unique name for each *global* transition.
-    #  *  have a unique 'to' status for each *global* transition.
-    #  *  have unique names for each transition from a status.
-    #  *  not have a 'from' status on *initial* and *global* transitions.
-    #  *  have a 'from' status on *directed* transitions.
-    #
-    # All the transition statuses must be included in `statuses`.
-    CreateWorkflowTransitionDetails[] transitions;
-    # The statuses of the workflow. Any status that does not include a transition is added to the workflow without a transition.
-    CrateWorkflowStatusDetails[] statuses;
+# Details about an attachment.
+public type Attachment record {
+    # The URL of the attachment details response.
+    string self?;
+    # The ID of the attachment.
+    string id?;
+    # The file name of the attachment.
+    string filename?;
+    # Details of the user who added the attachment.
+    UserDetails author?;
+    # The datetime the attachment was created.
+    string created?;
+    # The size of the attachment.
+    int size?;
+    # The MIME type of the attachment.
+    string mimeType?;
+    # The content of the attachment.
+    string content?;
+    # The URL of a thumbnail representing the attachment.
+    string thumbnail?;
+};
+
+public type AttachmentArchiveEntry record {|
+    string mediaType?;
+    int entryIndex?;
+    string abbreviatedName?;
+    string name?;
+    int size?;
 |};
 
-public type PermittedProjectsOk record {|
+public type AttachmentArchiveImpl record {|
+    # The list of the items included in the archive.
+    AttachmentArchiveEntry[] entries?;
+    # The number of items in the archive.
+    int:Signed32 totalEntryCount?;
+|};
+
+# Metadata for an item in an attachment archive.
+public type AttachmentArchiveItemReadable record {|
+    # The path of the archive item.
+    string path?;
+    # The position of the item within the archive.
+    int index?;
+    # The size of the archive item.
+    string size?;
+    # The MIME type of the archive item.
+    string mediaType?;
+    # The label for the archive item.
+    string label?;
+|};
+
+# Metadata for an archive (for example a zip) and its contents.
+public type AttachmentArchiveMetadataReadable record {|
+    # The ID of the attachment.
+    int id?;
+    # The name of the archive file.
+    string name?;
+    # The list of the items included in the archive.
+    AttachmentArchiveItemReadable[] entries?;
+    # The number of items included in the archive.
+    int totalEntryCount?;
+    # The MIME type of the attachment.
+    string mediaType?;
+|};
+
+public type AttachmentArrayOk record {|
     *http:Ok;
-    PermittedProjects body;
+    Attachment[] body;
 |};
 
-# A page of items.
-public type PageBeanFieldConfigurationItem record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    FieldConfigurationItem[] values?;
+public type ListWrapperCallbackApplicationRole record {|
 |};
 
 public type SimpleListWrapperApplicationRole record {|
@@ -1473,296 +1474,240 @@ public type SimpleListWrapperApplicationRole record {|
     int:Signed32 max\-results?;
 |};
 
-# Details of the projects the option is available in.
-public type IssueFieldOptionConfiguration record {|
-    # Defines the projects that the option is available in. If the scope is not defined, then the option is available in all projects.
-    IssueFieldOptionScopeBean scope?;
-    # DEPRECATED
-    ("notSelectable"|"defaultValue")[] attributes?;
-|};
-
-# The details of a created custom field context.
-public type CreateCustomFieldContext record {|
-    # The ID of the context.
-    string id?;
-    # The name of the context.
-    string name;
-    # The description of the context.
-    string description?;
-    # The list of project IDs associated with the context. If the list is empty, the context is global.
-    string[] projectIds?;
-    # The list of issue types IDs for the context. If the list is empty, the context refers to all issue types.
-    string[] issueTypeIds?;
-|};
-
-# List of issue level security items in a project.
-public type ProjectIssueSecurityLevels record {|
-    # Issue level security items list.
-    SecurityLevel[] levels;
+# Details about a group name.
+public type GroupName record {|
+    # The name of group.
+    string name?;
+    # The URL for these group details.
+    string self?;
 |};
 
-# A list of projects in which a user is granted permissions.
-public type PermittedProjects record {|
-    # A list of projects.
-    ProjectIdentifierBean[] projects?;
+public type ListWrapperCallbackGroupName record {|
 |};
 
-# Details about the complexity of the analysed Jira expression.
-public type JiraExpressionComplexity record {|
-    # Information that can be used to determine how many [expensive operations](https://developer.atlassian.com/cloud/jira/platform/jira-expressions/#expensive-operations) the evaluation of the expression will perform. This information may be a formula or number. For example:
-    #
-    #  *  `issues.map(i => i.comments)` performs as many expensive operations as there are issues on the issues list. So this parameter returns `N`, where `N` is the size of issue list.
-    #  *  `new Issue(10010).comments` gets comments for one issue, so its complexity is `2` (`1` to retrieve issue 10010 from the database plus `1` to get its comments).
-    string expensiveOperations;
-    # Variables used in the formula, mapped to the parts of the expression they refer to.
-    record {|string...;|} variables?;
+public type SimpleListWrapperGroupName record {|
+    int:Signed32 size?;
+    GroupName[] items?;
+    ListWrapperCallbackGroupName pagingCallback?;
+    ListWrapperCallbackGroupName callback?;
+    int:Signed32 max\-results?;
 |};
 
-# A list of webhooks.
-public type WebhookDetails record {|
-    # The JQL filter that specifies which issues the webhook is sent for. Only a subset of JQL can be used. The supported elements are:
+# A user with details as permitted by the user's Atlassian Account privacy settings. However, be aware of these exceptions:
+#
+#  *  User record deleted from Atlassian: This occurs as the result of a right to be forgotten request. In this case, `displayName` provides an indication and other parameters have default values or are blank (for example, email is blank).
+#  *  User record corrupted: This occurs as a results of events such as a server import and can only happen to deleted users. In this case, `accountId` returns *unknown* and all other parameters have fallback values.
+#  *  User record unavailable: This usually occurs due to an internal service outage. In this case, all parameters have fallback values.
+public type User record {|
+    # The URL of the user.
+    string self?;
+    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
+    string 'key?;
+    # The account ID of the user, which uniquely identifies the user across all Atlassian products. For example, *5b10ac8d82e05b22cc7d4ef5*. Required in requests.
+    @constraint:String {maxLength: 128}
+    string accountId?;
+    # The user account type. Can take the following values:
     #
-    #  *  Fields: `issueKey`, `project`, `issuetype`, `status`, `assignee`, `reporter`, `issue.property`, and `cf[id]` (for custom fields—only the epic label custom field is supported).
-    #  *  Operators: `=`, `!=`, `IN`, and `NOT IN`.
-    string jqlFilter;
-    # The Jira events that trigger the webhook.
-    ("jira:issue_created"|"jira:issue_updated"|"jira:issue_deleted"|"comment_created"|"comment_updated"|"comment_deleted"|"issue_property_set"|"issue_property_deleted")[] events;
+    #  *  `atlassian` regular Atlassian user account
+    #  *  `app` system account used for Connect applications and OAuth to represent external systems
+    #  *  `customer` Jira Service Desk account representing an external service desk
+    "atlassian"|"app"|"customer"|"unknown" accountType?;
+    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
+    string name?;
+    # The email address of the user. Depending on the user’s privacy setting, this may be returned as null.
+    string emailAddress?;
+    # The avatars of the user.
+    AvatarUrlsBean avatarUrls?;
+    # The display name of the user. Depending on the user’s privacy setting, this may return an alternative value.
+    string displayName?;
+    # Whether the user is active.
+    boolean active?;
+    # The time zone specified in the user's profile. Depending on the user’s privacy setting, this may be returned as null.
+    string timeZone?;
+    # The locale of the user. Depending on the user’s privacy setting, this may be returned as null.
+    string locale?;
+    # The groups that the user belongs to.
+    SimpleListWrapperGroupName groups?;
+    # The application roles the user is assigned to.
+    SimpleListWrapperApplicationRole applicationRoles?;
+    # Expand options that include additional user details in the response.
+    string expand?;
 |};
 
-# Details of a permission scheme.
-public type PermissionScheme record {
-    # The expand options available for the permission scheme.
-    string expand?;
-    # The ID of the permission scheme.
+# Metadata for an issue attachment.
+public type AttachmentMetadata record {|
+    # The ID of the attachment.
     int id?;
-    # The URL of the permission scheme.
+    # The URL of the attachment metadata details.
     string self?;
-    # The name of the permission scheme. Must be unique.
-    string name;
-    # A description for the permission scheme.
-    string description?;
-    # The scope of the permission scheme.
-    Scope scope?;
-    # The permission scheme to create or update. See [About permission schemes and grants](../api-group-permission-schemes/#about-permission-schemes-and-grants) for more information.
-    PermissionGrant[] permissions?;
-};
+    # The name of the attachment file.
+    string filename?;
+    # Details of the user who attached the file.
+    User author?;
+    # The datetime the attachment was created.
+    string created?;
+    # The size of the attachment.
+    int size?;
+    # The MIME type of the attachment.
+    string mimeType?;
+    # Additional properties of the attachment.
+    record {} properties?;
+    # The URL of the attachment.
+    string content?;
+    # The URL of a thumbnail representing the attachment.
+    string thumbnail?;
+|};
 
-# Details of a custom field option and its cascading options.
-public type CustomFieldOptionDetails record {|
-    # The ID of the custom field option.
-    int id?;
-    # The value of the custom field option.
-    string value?;
-    # The cascading options.
-    string[] cascadingOptions?;
+# Details of the instance's attachment settings.
+public type AttachmentSettings record {|
+    # Whether the ability to add attachments is enabled.
+    boolean enabled?;
+    # The maximum size of attachments permitted, in bytes.
+    int uploadLimit?;
 |};
 
-# A page of items.
-public type PageBeanContext record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    Context[] values?;
+# Details of names changed in the record event.
+public type ChangedValueBean record {|
+    # The name of the field changed.
+    string fieldName?;
+    # The value of the field before the change.
+    string changedFrom?;
+    # The value of the field after the change.
+    string changedTo?;
 |};
 
-public type StringArrayForbidden record {|
-    *http:Forbidden;
-    string[] body;
+# An audit record.
+public type AuditRecordBean record {|
+    # The ID of the audit record.
+    int id?;
+    # The summary of the audit record.
+    string summary?;
+    # The URL of the computer where the creation of the audit record was initiated.
+    string remoteAddress?;
+    # Deprecated, use `authorAccountId` instead. The key of the user who created the audit record.
+    string authorKey?;
+    # The date and time on which the audit record was created.
+    string created?;
+    # The category of the audit record. For a list of these categories, see the help article [Auditing in Jira applications](https://confluence.atlassian.com/x/noXKM).
+    string category?;
+    # The event the audit record originated from.
+    string eventSource?;
+    # The description of the audit record.
+    string description?;
+    AssociatedItemBean objectItem?;
+    # The list of values changed in the record event.
+    ChangedValueBean[] changedValues?;
+    # The list of items associated with the changed record.
+    AssociatedItemBean[] associatedItems?;
 |};
 
-# A page of items.
-public type PageBeanWebhook record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
+# Container for a list of audit records.
+public type AuditRecords record {|
+    # The number of audit items skipped before the first item in this list.
+    int:Signed32 offset?;
+    # The requested or default limit on the number of audit items to be returned.
+    int:Signed32 'limit?;
+    # The total number of audit items returned.
     int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    Webhook[] values?;
+    # The list of audit items.
+    AuditRecordBean[] records?;
 |};
 
-# Details about a notification.
-public type Notification record {
-    # The subject of the email notification for the issue. If this is not specified, then the subject is set to the issue key and summary.
-    string subject?;
-    # The plain text body of the email notification for the issue.
-    string textBody?;
-    # The HTML body of the email notification for the issue.
-    string htmlBody?;
-    # The recipients of the email notification for the issue.
-    NotificationRecipients to?;
-    # Restricts the notifications to users with the specified permissions.
-    NotificationRecipientsRestrictions restrict?;
-};
-
-public type UserWriteBean record {
-    # The URL of the user.
-    string self?;
-    # The key for the user. When provided with `name`, overrides the value in `name` to set both `name` and `key`. This property is deprecated because of privacy changes. See the [migration guide](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
-    string 'key?;
-    # The username for the user. This property is deprecated because of privacy changes. See the [migration guide](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
-    string name?;
-    # A password for the user. If a password is not set, a random password is generated.
-    string password?;
-    # The email address for the user.
-    string emailAddress;
-    # The display name for the user.
-    string displayName;
-    # Deprecated, do not use.
-    string[] applicationKeys?;
-};
-
-public type JsonNotFound record {|
-    *http:NotFound;
-    json body;
+# A field auto-complete suggestion.
+public type AutoCompleteSuggestion record {|
+    # The value of a suggested item.
+    string value?;
+    # The display name of a suggested item. If `fieldValue` or `predicateValue` are provided, the matching text is highlighted with the HTML bold tag.
+    string displayName?;
 |};
 
-# This object is used as follows:
-#
-#  *  In the [ issueLink](#api-rest-api-2-issueLink-post) resource it defines and reports on the type of link between the issues. Find a list of issue link types with [Get issue link types](#api-rest-api-2-issueLinkType-get).
-#  *  In the [ issueLinkType](#api-rest-api-2-issueLinkType-post) resource it defines and reports on issue link types.
-public type IssueLinkType record {|
-    # The ID of the issue link type and is used as follows:
-    #
-    #  *  In the [ issueLink](#api-rest-api-2-issueLink-post) resource it is the type of issue link. Required on create when `name` isn't provided. Otherwise, read only.
-    #  *  In the [ issueLinkType](#api-rest-api-2-issueLinkType-post) resource it is read only.
-    string id?;
-    # The name of the issue link type and is used as follows:
-    #
-    #  *  In the [ issueLink](#api-rest-api-2-issueLink-post) resource it is the type of issue link. Required on create when `id` isn't provided. Otherwise, read only.
-    #  *  In the [ issueLinkType](#api-rest-api-2-issueLinkType-post) resource it is required on create and optional on update. Otherwise, read only.
-    string name?;
-    # The description of the issue link type inward link and is used as follows:
-    #
-    #  *  In the [ issueLink](#api-rest-api-2-issueLink-post) resource it is read only.
-    #  *  In the [ issueLinkType](#api-rest-api-2-issueLinkType-post) resource it is required on create and optional on update. Otherwise, read only.
-    string inward?;
-    # The description of the issue link type outward link and is used as follows:
-    #
-    #  *  In the [ issueLink](#api-rest-api-2-issueLink-post) resource it is read only.
-    #  *  In the [ issueLinkType](#api-rest-api-2-issueLinkType-post) resource it is required on create and optional on update. Otherwise, read only.
-    string outward?;
-    # The URL of the issue link type. Read only.
-    string self?;
+# The results from a JQL query.
+public type AutoCompleteSuggestions record {|
+    # The list of suggested item.
+    AutoCompleteSuggestion[] results?;
 |};
 
-# Status details for an issue type.
-public type IssueTypeWithStatus record {|
-    # The URL of the issue type's status details.
-    string self;
-    # The ID of the issue type.
+# Details of an avatar.
+public type Avatar record {|
+    # The ID of the avatar.
     string id;
-    # The name of the issue type.
-    string name;
-    # Whether this issue type represents subtasks.
-    boolean subtask;
-    # List of status details for the issue type.
-    StatusDetails[] statuses;
+    # The owner of the avatar. For a system avatar the owner is null (and nothing is returned). For non-system avatars this is the appropriate identifier, such as the ID for a project or the account ID for a user.
+    string owner?;
+    # Whether the avatar is a system avatar.
+    boolean isSystemAvatar?;
+    # Whether the avatar is used in Jira. For example, shown as a project's avatar.
+    boolean isSelected?;
+    # Whether the avatar can be deleted.
+    boolean isDeletable?;
+    # The file name of the avatar icon. Returned for system avatars.
+    string fileName?;
+    # The list of avatar icon URLs.
+    record {|string...;|} urls?;
 |};
 
-# A status category.
-public type StatusCategory record {
-    # The URL of the status category.
-    string self?;
-    # The ID of the status category.
-    int id?;
-    # The key of the status category.
-    string 'key?;
-    # The name of the color used to represent the status category.
-    string colorName?;
-    # The name of the status category.
-    string name?;
-};
-
-# Details of a worklog.
-public type Worklog record {
-    # The URL of the worklog item.
-    string self?;
-    # Details of the user who created the worklog.
-    UserDetails author?;
-    # Details of the user who last updated the worklog.
-    UserDetails updateAuthor?;
-    # A comment about the worklog. Optional when creating or updating a worklog.
-    string comment?;
-    # The datetime on which the worklog was created.
-    string created?;
-    # The datetime on which the worklog was last updated.
-    string updated?;
-    # Details about any restrictions in the visibility of the worklog. Optional when creating or updating a worklog.
-    Visibility visibility?;
-    # The datetime on which the worklog effort was started. Required when creating a worklog. Optional when updating a worklog.
-    string started?;
-    # The time spent working on the issue as days (\#d), hours (\#h), or minutes (\#m or \#). Required when creating a worklog if `timeSpentSeconds` isn't provided. Optional when updating a worklog. Cannot be provided if `timeSpentSecond` is provided.
-    string timeSpent?;
-    # The time in seconds spent working on the issue. Required when creating a worklog if `timeSpent` isn't provided. Optional when updating a worklog. Cannot be provided if `timeSpent` is provided.
-    int timeSpentSeconds?;
-    # The ID of the worklog record.
-    string id?;
-    # The ID of the issue this worklog is for.
-    string issueId?;
-    # Details of properties for the worklog. Optional when creating or updating a worklog.
-    EntityProperty[] properties?;
-};
+# Details about system and custom avatars.
+public type Avatars record {|
+    # System avatars list.
+    Avatar[] system?;
+    # Custom avatars list.
+    Avatar[] custom?;
+|};
 
-public type OperationMessageUnauthorized record {|
-    *http:Unauthorized;
-    OperationMessage body;
+# Value of a custom field option and the values of its cascading options.
+public type CustomFieldOptionValue record {|
+    # The value of the custom field option.
+    @constraint:String {maxLength: 255}
+    string value;
+    # The cascading options.
+    string[] cascadingOptions?;
 |};
 
-# Details about a licensed Jira application.
-public type LicensedApplication record {|
-    # The ID of the application.
-    string id;
-    # The licensing plan.
-    "UNLICENSED"|"FREE"|"PAID" plan;
+# Details of options to create for a custom field.
+public type BulkCreateCustomFieldOptionRequest record {|
+    # Details of options to create.
+    CustomFieldOptionValue[] options?;
 |};
 
-# An operand that can be part of a list operand.
-public type JqlQueryUnitaryOperand ValueOperand|FunctionOperand|KeywordOperand;
+# Details of a custom field option to create.
+public type CustomFieldOptionCreate record {|
+    # The value of the custom field option.
+    string value;
+    # For cascading options, the ID of the custom field object containing the cascading option.
+    string optionId?;
+    # Whether the option is disabled.
+    boolean disabled?;
+|};
 
-# The field configuration for an issue type.
-public type FieldConfigurationIssueTypeItem record {|
-    # The ID of the field configuration scheme.
-    string fieldConfigurationSchemeId;
-    # The ID of the issue type or *default*. When set to *default* this field configuration issue type item applies to all issue types without a field configuration.
-    string issueTypeId;
-    # The ID of the field configuration.
-    string fieldConfigurationId;
+# Details of the options to create for a custom field.
+public type BulkCustomFieldOptionCreateRequest record {|
+    # Details of options to create.
+    CustomFieldOptionCreate[] options?;
 |};
 
-# Details of names changed in the record event.
-public type ChangedValueBean record {|
-    # The name of the field changed.
-    string fieldName?;
-    # The value of the field before the change.
-    string changedFrom?;
-    # The value of the field after the change.
-    string changedTo?;
+# Details of a custom field option for a context.
+public type CustomFieldOptionUpdate record {|
+    # The ID of the custom field option.
+    string id;
+    # The value of the custom field option.
+    string value?;
+    # Whether the option is disabled.
+    boolean disabled?;
 |};
 
-# A workflow transition rule.
-public type WorkflowTransitionRule record {|
-    # The type of the transition rule.
-    string 'type;
-    # The configuration of the transition rule. This is currently returned only for some of the rule types. Availability of this property is subject to change.
-    anydata configuration?;
+# Details of the options to update for a custom field.
+public type BulkCustomFieldOptionUpdateRequest record {|
+    # Details of the options to update.
+    CustomFieldOptionUpdate[] options?;
+|};
+
+# Bulk operation filter details.
+public type IssueFilterForBulkPropertySet record {|
+    # List of issues to perform the bulk operation on.
+    int[] entityIds?;
+    # The value of properties to perform the bulk operation on.
+    anydata currentValue?;
+    # Whether the bulk operation occurs only when the property is present on or absent from an issue.
+    boolean hasProperty?;
 |};
 
 # Bulk issue property update request details.
@@ -1775,717 +1720,888 @@ public type BulkIssuePropertyUpdateRequest record {|
     IssueFilterForBulkPropertySet filter?;
 |};
 
-public type PermissionsKeysBean record {|
-    # A list of permission keys.
-    string[] permissions;
-|};
-
-# The details of a workflow transition.
-public type CreateWorkflowTransitionDetails record {|
-    # The name of the transition. The maximum length is 60 characters.
-    string name;
-    # The description of the transition. The maximum length is 1000 characters.
-    string description?;
-    # The statuses the transition can start from.
-    string[] 'from?;
-    # The status the transition goes to.
-    string to;
-    # The type of the transition.
-    "global"|"initial"|"directed" 'type;
+# Error messages from an operation.
+public type ErrorCollection record {|
+    # The list of error messages produced by this operation. For example, "input parameter 'key' must be provided"
+    string[] errorMessages?;
+    # The list of errors by parameter returned by the operation. For example,"projectKey": "Project keys must start with an uppercase letter, followed by one or more uppercase alphanumeric characters."
+    record {|string...;|} errors?;
+    int:Signed32 status?;
 |};
 
-# An operand that is a user-provided value.
-public type ValueOperand record {
-    # The operand value.
-    string value;
-};
-
-# List of all permission schemes.
-public type PermissionSchemes record {|
-    # Permission schemes list.
-    PermissionScheme[] permissionSchemes?;
+public type BulkOperationErrorResult record {|
+    int:Signed32 status?;
+    ErrorCollection elementErrors?;
+    int:Signed32 failedElementNumber?;
 |};
 
-# A page of items.
-public type PageBeanScreen record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    Screen[] values?;
+# List of project permissions and the projects and issues those permissions grant access to.
+public type BulkProjectPermissionGrants record {|
+    # A project permission,
+    string permission;
+    # IDs of the issues the user has the permission for.
+    int[] issues;
+    # IDs of the projects the user has the permission for.
+    int[] projects;
 |};
 
-# Details about the roles in a project.
-public type ProjectRole record {|
-    # The URL the project role details.
-    string self?;
-    # The name of the project role.
-    string name?;
-    # The ID of the project role.
-    int id?;
-    # The description of the project role.
-    string description?;
-    # The list of users who act in this role.
-    RoleActor[] actors?;
-    # The scope of the role. Indicated for roles associated with [next-gen projects](https://confluence.atlassian.com/x/loMyO).
-    Scope scope?;
-    # The translated name of the project role.
-    string translatedName?;
-    # Whether the calling user is part of this role.
-    boolean currentUserRole?;
-    # Whether the roles are configurable for this project.
-    boolean roleConfigurable?;
-    # Whether this role is the admin role for the project.
-    boolean admin?;
-    # Whether this role is the default role for the project
-    boolean default?;
+# Details of global and project permissions granted to the user.
+public type BulkPermissionGrants record {|
+    # List of project permissions and the projects and issues those permissions provide access to.
+    BulkProjectPermissionGrants[] projectPermissions;
+    # List of permissions granted to the user.
+    string[] globalPermissions;
 |};
 
-# The ID of an issue type scheme.
-public type IssueTypeSchemeID record {|
-    # The ID of the issue type scheme.
-    string issueTypeSchemeId;
+public type BulkPermissionGrantsOk record {|
+    *http:Ok;
+    BulkPermissionGrants body;
 |};
 
-# A page of items.
-public type PageBeanIssueTypeToContextMapping record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    IssueTypeToContextMapping[] values?;
+# Details of project permissions and associated issues and projects to look up.
+public type BulkProjectPermissions record {|
+    # List of issue IDs.
+    int[] issues?;
+    # List of project IDs.
+    int[] projects?;
+    # List of project permissions.
+    string[] permissions;
 |};
 
-public type IssueTypeUpdateBean record {|
-    # The unique name for the issue type. The maximum length is 60 characters.
-    string name?;
-    # The description of the issue type.
-    string description?;
-    # The ID of an issue type avatar.
-    int avatarId?;
+# Details of global permissions to look up and project permissions with associated projects and issues to look up.
+public type BulkPermissionsRequestBean record {|
+    # Project permissions with associated projects and issues to look up.
+    BulkProjectPermissions[] projectPermissions?;
+    # Global permissions to look up.
+    string[] globalPermissions?;
+    # The account ID of a user.
+    string accountId?;
 |};
 
-# A workflow transition.
-public type WorkflowTransition record {|
-    # The transition ID.
-    int:Signed32 id;
-    # The transition name.
-    string name;
+# A change item.
+public type ChangeDetails record {|
+    # The name of the field changed.
+    string 'field?;
+    # The type of the field changed.
+    string fieldtype?;
+    # The ID of the field changed.
+    string fieldId?;
+    # The details of the original value.
+    string 'from?;
+    # The details of the original value as a string.
+    string fromString?;
+    # The details of the new value.
+    string to?;
+    # The details of the new value as a string.
+    string toString?;
 |};
 
-# Details of any errors encountered while updating workflow transition rules for a workflow.
-public type WorkflowTransitionRulesUpdateErrorDetails record {|
-    WorkflowId workflowId;
-    # A list of transition rule update errors, indexed by the transition rule ID. Any transition rule that appears here wasn't updated.
-    record {|string[]...;|} ruleUpdateErrors;
-    # The list of errors that specify why the workflow update failed. The workflow was not updated if the list contains any entries.
-    string[] updateErrors;
+# An entity property, for more information see [Entity properties](https://developer.atlassian.com/cloud/jira/platform/jira-entity-properties/).
+public type EntityProperty record {|
+    # The key of the property. Required on create and update.
+    string 'key?;
+    # The value of the property. Required on create and update.
+    anydata value?;
 |};
 
-# A screen with tab details.
-public type ScreenWithTab record {|
-    # The ID of the screen.
-    int id?;
-    # The name of the screen.
-    string name?;
-    # The description of the screen.
-    string description?;
-    # The scope of the screen.
-    Scope scope?;
-    # The tab for the screen
-    ScreenableTab tab?;
+# Details of a changed worklog.
+public type ChangedWorklog record {|
+    # The ID of the worklog.
+    int worklogId?;
+    # The datetime of the change.
+    int updatedTime?;
+    # Details of properties associated with the change.
+    EntityProperty[] properties?;
 |};
 
-# Property key details.
-public type PropertyKey record {|
-    # The URL of the property.
+# List of changed worklogs.
+public type ChangedWorklogs record {|
+    # Changed worklog list.
+    ChangedWorklog[] values?;
+    # The datetime of the first worklog item in the list.
+    int since?;
+    # The datetime of the last worklog item in the list.
+    int until?;
+    # The URL of this changed worklogs list.
     string self?;
-    # The key of the property.
-    string 'key?;
-|};
-
-# Error messages from an operation.
-public type ErrorCollection record {|
-    # The list of error messages produced by this operation. For example, "input parameter 'key' must be provided"
-    string[] errorMessages?;
-    # The list of errors by parameter returned by the operation. For example,"projectKey": "Project keys must start with an uppercase letter, followed by one or more uppercase alphanumeric characters."
-    record {|string...;|} errors?;
-    int:Signed32 status?;
+    # The URL of the next list of changed worklogs.
+    string nextPage?;
+    boolean lastPage?;
 |};
 
-public type IncludedFields record {|
-    string[] actuallyIncluded?;
-    string[] included?;
-    string[] excluded?;
-|};
+# Details of user or system associated with a issue history metadata item.
+public type HistoryMetadataParticipant record {
+    # The ID of the user or system associated with a history record.
+    string id?;
+    # The display name of the user or system associated with a history record.
+    string displayName?;
+    # The key of the display name of the user or system associated with a history record.
+    string displayNameKey?;
+    # The type of the user or system associated with a history record.
+    string 'type?;
+    # The URL to an avatar for the user or system associated with a history record.
+    string avatarUrl?;
+    # The URL of the user or system associated with a history record.
+    string url?;
+};
 
-public type NestedResponse record {|
-    int:Signed32 status?;
-    ErrorCollection errorCollection?;
-|};
+# Details of issue history metadata.
+public type HistoryMetadata record {
+    # The type of the history record.
+    string 'type?;
+    # The description of the history record.
+    string description?;
+    # The description key of the history record.
+    string descriptionKey?;
+    # The activity described in the history record.
+    string activityDescription?;
+    # The key of the activity described in the history record.
+    string activityDescriptionKey?;
+    # The description of the email address associated the history record.
+    string emailDescription?;
+    # The description key of the email address associated the history record.
+    string emailDescriptionKey?;
+    # Details of the user whose action created the history record.
+    HistoryMetadataParticipant actor?;
+    # Details of the system that generated the history record.
+    HistoryMetadataParticipant generator?;
+    # Details of the cause that triggered the creation the history record.
+    HistoryMetadataParticipant cause?;
+    # Additional arbitrary information about the history record.
+    record {|string...;|} extraData?;
+};
 
-public type ScreenableTabOk record {|
-    *http:Ok;
-    ScreenableTab body;
+# A changelog.
+public type Changelog record {|
+    # The ID of the changelog.
+    string id?;
+    # The user who made the change.
+    UserDetails author?;
+    # The date on which the change took place.
+    string created?;
+    # The list of items changed.
+    ChangeDetails[] items?;
+    # The history metadata associated with the changed.
+    HistoryMetadata historyMetadata?;
 |};
 
-# A page of changelogs.
-public type PageOfChangelogs record {|
-    # The index of the first item returned on the page.
-    int:Signed32 startAt?;
-    # The maximum number of results that could be on the page.
-    int:Signed32 maxResults?;
-    # The number of results on the page.
-    int:Signed32 total?;
-    # The list of changelogs.
-    Changelog[] histories?;
+# Details of an issue navigator column item.
+public type ColumnItem record {|
+    # The issue navigator column label.
+    string label?;
+    # The issue navigator column value.
+    string value?;
 |};
 
-# Details of an item associated with the changed record.
-public type AssociatedItemBean record {|
-    # The ID of the associated record.
-    string id?;
-    # The name of the associated record.
-    string name?;
-    # The type of the associated record.
-    string typeName?;
-    # The ID of the associated parent record.
-    string parentId?;
-    # The name of the associated parent record.
-    string parentName?;
-|};
+# The group or role to which this item is visible.
+public type Visibility record {
+    # Whether visibility of this item is restricted to a group or role.
+    "group"|"role" 'type?;
+    # The name of the group or role to which visibility of this item is restricted.
+    string value?;
+};
 
-# Details about an attachment.
-public type Attachment record {
-    # The URL of the attachment details response.
+# A comment.
+public type Comment record {
+    # The URL of the comment.
     string self?;
-    # The ID of the attachment.
+    # The ID of the comment.
     string id?;
-    # The file name of the attachment.
-    string filename?;
-    # Details of the user who added the attachment.
+    # The ID of the user who created the comment.
     UserDetails author?;
-    # The datetime the attachment was created.
+    # The comment text.
+    string body?;
+    # The rendered version of the comment.
+    string renderedBody?;
+    # The ID of the user who updated the comment last.
+    UserDetails updateAuthor?;
+    # The date and time at which the comment was created.
     string created?;
-    # The size of the attachment.
-    int size?;
-    # The MIME type of the attachment.
-    string mimeType?;
-    # The content of the attachment.
-    string content?;
-    # The URL of a thumbnail representing the attachment.
-    string thumbnail?;
+    # The date and time at which the comment was updated last.
+    string updated?;
+    # The group or role to which this comment is visible. Optional on create and update.
+    Visibility visibility?;
+    # Whether the comment is visible in Jira Service Desk. Defaults to true when comments are created in the Jira Cloud Platform. This includes when the site doesn't use Jira Service Desk or the project isn't a Jira Service Desk project and, therefore, there is no Jira Service Desk for the issue to be visible on. To create a comment with its visibility in Jira Service Desk set to false, use the Jira Service Desk REST API [Create request comment](https://developer.atlassian.com/cloud/jira/service-desk/rest/#api-rest-servicedeskapi-request-issueIdOrKey-comment-post) operation.
+    boolean jsdPublic?;
+    # A list of comment properties. Optional on create and update.
+    EntityProperty[] properties?;
 };
 
-public type JiraExpressionsAnalysisOk record {|
-    *http:Ok;
-    JiraExpressionsAnalysis body;
-|};
-
-# Details of a field that can be used in advanced searches.
-public type FieldReferenceData record {|
-    # The field identifier.
-    string value?;
-    # The display name contains the following:
+# Details about a project component.
+public type Component record {|
+    # The URL of the component.
+    string self?;
+    # The unique identifier for the component.
+    string id?;
+    # The unique name for the component in the project. Required when creating a component. Optional when updating a component. The maximum length is 255 characters.
+    string name?;
+    # The description for the component. Optional when creating or updating a component.
+    string description?;
+    # The user details for the component's lead user.
+    User lead?;
+    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
+    string leadUserName?;
+    # The accountId of the component's lead user. The accountId uniquely identifies the user across all Atlassian products. For example, *5b10ac8d82e05b22cc7d4ef5*.
+    @constraint:String {maxLength: 128}
+    string leadAccountId?;
+    # The nominal user type used to determine the assignee for issues created with this component. See `realAssigneeType` for details on how the type of the user, and hence the user, assigned to issues is determined. Can take the following values:
     #
-    #  *  for system fields, the field name. For example, `Summary`.
-    #  *  for collapsed custom fields, the field name followed by a hyphen and then the field name and field type. For example, `Component - Component[Dropdown]`.
-    #  *  for other custom fields, the field name followed by a hyphen and then the custom field ID. For example, `Component - cf[10061]`.
-    string displayName?;
-    # Whether the field can be used in a query's `ORDER BY` clause.
-    "true"|"false" orderable?;
-    # Whether the content of this field can be searched.
-    "true"|"false" searchable?;
-    # Whether the field provide auto-complete suggestions.
-    "true"|"false" auto?;
-    # If the item is a custom field, the ID of the custom field.
-    string cfid?;
-    # The valid search operators for the field.
-    string[] operators?;
-    # The data types of items in the field.
-    string[] types?;
-|};
-
-# An operand that is a list of values.
-public type ListOperand record {
-    # The list of operand values.
-    JqlQueryUnitaryOperand[] values;
-};
-
-# Details of the scope of the default sharing for new filters and dashboards.
-public type DefaultShareScope record {|
-    # The scope of the default sharing for new filters and dashboards:
+    #  *  `PROJECT_LEAD` the assignee to any issues created with this component is nominally the lead for the project the component is in.
+    #  *  `COMPONENT_LEAD` the assignee to any issues created with this component is nominally the lead for the component.
+    #  *  `UNASSIGNED` an assignee is not set for issues created with this component.
+    #  *  `PROJECT_DEFAULT` the assignee to any issues created with this component is nominally the default assignee for the project that the component is in.
     #
-    #  *  `AUTHENTICATED` Shared with all logged-in users.
-    #  *  `GLOBAL` Shared with all logged-in users. This shows as `AUTHENTICATED` in the response.
-    #  *  `PRIVATE` Not shared with any users.
-    "GLOBAL"|"AUTHENTICATED"|"PRIVATE" scope;
-|};
-
-public type AttachmentArrayOk record {|
-    *http:Ok;
-    Attachment[] body;
+    # Default value: `PROJECT_DEFAULT`.
+    # Optional when creating or updating a component.
+    "PROJECT_DEFAULT"|"COMPONENT_LEAD"|"PROJECT_LEAD"|"UNASSIGNED" assigneeType?;
+    # The details of the user associated with `assigneeType`, if any. See `realAssignee` for details of the user assigned to issues created with this component.
+    User assignee?;
+    # The type of the assignee that is assigned to issues created with this component, when an assignee cannot be set from the `assigneeType`. For example, `assigneeType` is set to `COMPONENT_LEAD` but no component lead is set. This property is set to one of the following values:
+    #
+    #  *  `PROJECT_LEAD` when `assigneeType` is `PROJECT_LEAD` and the project lead has permission to be assigned issues in the project that the component is in.
+    #  *  `COMPONENT_LEAD` when `assignee`Type is `COMPONENT_LEAD` and the component lead has permission to be assigned issues in the project that the component is in.
+    #  *  `UNASSIGNED` when `assigneeType` is `UNASSIGNED` and Jira is configured to allow unassigned issues.
+    #  *  `PROJECT_DEFAULT` when none of the preceding cases are true.
+    "PROJECT_DEFAULT"|"COMPONENT_LEAD"|"PROJECT_LEAD"|"UNASSIGNED" realAssigneeType?;
+    # The user assigned to issues created with this component, when `assigneeType` does not identify a valid assignee.
+    User realAssignee?;
+    # Whether a user is associated with `assigneeType`. For example, if the `assigneeType` is set to `COMPONENT_LEAD` but the component lead is not set, then `false` is returned.
+    boolean isAssigneeTypeValid?;
+    # The key of the project the component is assigned to. Required when creating a component. Can't be updated.
+    string project?;
+    # The ID of the project the component is assigned to.
+    int projectId?;
 |};
 
-# Details of webhooks to register.
-public type WebhookRegistrationDetails record {|
-    # A list of webhooks.
-    WebhookDetails[] webhooks;
-    # The URL that specifies where to send the webhooks. This URL must use the same base URL as the Connect app.
-    string url;
+# Count of issues assigned to a component.
+public type ComponentIssuesCount record {|
+    # The URL for this count of issues for a component.
+    string self?;
+    # The count of issues assigned to a component.
+    int issueCount?;
 |};
 
-# Details about a project version.
-public type Version record {|
-    # Use [expand](em>#expansion) to include additional information about version in the response. This parameter accepts a comma-separated list. Expand options include:
-    #
-    #  *  `operations` Returns the list of operations available for this version.
-    #  *  `issuesstatus` Returns the count of issues in this version for each of the status categories *to do*, *in progress*, *done*, and *unmapped*. The *unmapped* property contains a count of issues with a status other than *to do*, *in progress*, and *done*.
-    #
-    # Optional for create and update.
-    string expand?;
-    # The URL of the version.
+# Details about a component with a count of the issues it contains.
+public type ComponentWithIssueCount record {|
+    # Count of issues for the component.
+    int issueCount?;
+    # The URL for this count of the issues contained in the component.
     string self?;
-    # The ID of the version.
-    string id?;
-    # The description of the version. Optional when creating or updating a version.
+    # The description for the component.
     string description?;
-    # The unique name of the version. Required when creating a version. Optional when updating a version. The maximum length is 255 characters.
-    string name?;
-    # Indicates that the version is archived. Optional when creating or updating a version.
-    boolean archived?;
-    # Indicates that the version is released. If the version is released a request to release again is ignored. Not applicable when creating a version. Optional when updating a version.
-    boolean released?;
-    # The start date of the version. Expressed in ISO 8601 format (yyyy-mm-dd). Optional when creating or updating a version.
-    string startDate?;
-    # The release date of the version. Expressed in ISO 8601 format (yyyy-mm-dd). Optional when creating or updating a version.
-    string releaseDate?;
-    # Indicates that the version is overdue.
-    boolean overdue?;
-    # The date on which work on this version is expected to start, expressed in the instance's *Day/Month/Year Format* date format.
-    string userStartDate?;
-    # The date on which work on this version is expected to finish, expressed in the instance's *Day/Month/Year Format* date format.
-    string userReleaseDate?;
-    # Deprecated. Use `projectId`.
+    # The user details for the component's lead user.
+    User lead?;
+    # The nominal user type used to determine the assignee for issues created with this component. See `realAssigneeType` for details on how the type of the user, and hence the user, assigned to issues is determined. Takes the following values:
+    #
+    #  *  `PROJECT_LEAD` the assignee to any issues created with this component is nominally the lead for the project the component is in.
+    #  *  `COMPONENT_LEAD` the assignee to any issues created with this component is nominally the lead for the component.
+    #  *  `UNASSIGNED` an assignee is not set for issues created with this component.
+    #  *  `PROJECT_DEFAULT` the assignee to any issues created with this component is nominally the default assignee for the project that the component is in.
+    "PROJECT_DEFAULT"|"COMPONENT_LEAD"|"PROJECT_LEAD"|"UNASSIGNED" assigneeType?;
+    # The key of the project to which the component is assigned.
     string project?;
-    # The ID of the project to which this version is attached. Required when creating a version. Not applicable when updating a version.
+    # The details of the user associated with `assigneeType`, if any. See `realAssignee` for details of the user assigned to issues created with this component.
+    User assignee?;
+    # Not used.
     int projectId?;
-    # The URL of the self link to the version to which all unfixed issues are moved when a version is released. Not applicable when creating a version. Optional when updating a version.
-    string moveUnfixedIssuesTo?;
-    # If the expand option `operations` is used, returns the list of operations available for this version.
-    SimpleLink[] operations?;
-    # If the expand option `issuesstatus` is used, returns the count of issues in this version for each of the status categories *to do*, *in progress*, *done*, and *unmapped*. The *unmapped* property contains a count of issues with a status other than *to do*, *in progress*, and *done*.
-    VersionIssuesStatus issuesStatusForFixVersion?;
+    # The user assigned to issues created with this component, when `assigneeType` does not identify a valid assignee.
+    User realAssignee?;
+    # Whether a user is associated with `assigneeType`. For example, if the `assigneeType` is set to `COMPONENT_LEAD` but the component lead is not set, then `false` is returned.
+    boolean isAssigneeTypeValid?;
+    # The type of the assignee that is assigned to issues created with this component, when an assignee cannot be set from the `assigneeType`. For example, `assigneeType` is set to `COMPONENT_LEAD` but no component lead is set. This property is set to one of the following values:
+    #
+    #  *  `PROJECT_LEAD` when `assigneeType` is `PROJECT_LEAD` and the project lead has permission to be assigned issues in the project that the component is in.
+    #  *  `COMPONENT_LEAD` when `assignee`Type is `COMPONENT_LEAD` and the component lead has permission to be assigned issues in the project that the component is in.
+    #  *  `UNASSIGNED` when `assigneeType` is `UNASSIGNED` and Jira is configured to allow unassigned issues.
+    #  *  `PROJECT_DEFAULT` when none of the preceding cases are true.
+    "PROJECT_DEFAULT"|"COMPONENT_LEAD"|"PROJECT_LEAD"|"UNASSIGNED" realAssigneeType?;
+    # The name for the component.
+    string name?;
+    # The unique identifier for the component.
+    string id?;
 |};
 
-# Details of an issue level security item.
-public type SecurityLevel record {|
-    # The URL of the issue level security item.
+# An operand that is a function. See [Advanced searching - functions reference](https://confluence.atlassian.com/x/dwiiLQ) for more information about JQL functions.
+public type FunctionOperand record {
+    # The name of the function.
+    string 'function;
+    # The list of function arguments.
+    string[] arguments;
+};
+
+# An operand that is a JQL keyword. See [Advanced searching - keywords reference](https://confluence.atlassian.com/jiracorecloud/advanced-searching-keywords-reference-765593717.html#Advancedsearching-keywordsreference-EMPTYEMPTY) for more information about operand keywords.
+public type KeywordOperand record {
+    # The keyword that is the operand value.
+    "empty" keyword;
+};
+
+# An operand that is a user-provided value.
+public type ValueOperand record {
+    # The operand value.
+    string value;
+};
+
+# An operand that can be part of a list operand.
+public type JqlQueryUnitaryOperand ValueOperand|FunctionOperand|KeywordOperand;
+
+# An operand that is a list of values.
+public type ListOperand record {
+    # The list of operand values.
+    JqlQueryUnitaryOperand[] values;
+};
+
+# Details of an operand in a JQL clause.
+public type JqlQueryClauseOperand ListOperand|ValueOperand|FunctionOperand|KeywordOperand;
+
+# A time predicate for a temporal JQL clause.
+public type JqlQueryClauseTimePredicate record {
+    # The operator between the field and the operand.
+    "before"|"after"|"from"|"to"|"on"|"during"|"by" operator;
+    JqlQueryClauseOperand operand;
+};
+
+# Details of an entity property.
+public type JqlQueryFieldEntityProperty record {
+    # The object on which the property is set.
+    string entity;
+    # The key of the property.
+    string 'key;
+    # The path in the property value to query.
+    string path;
+    # The type of the property value extraction. Not available if the extraction for the property is not registered on the instance with the [Entity property](https://developer.atlassian.com/cloud/jira/platform/modules/entity-property/) module.
+    "number"|"string"|"text"|"date"|"user" 'type?;
+};
+
+# A field used in a JQL query. See [Advanced searching - fields reference](https://confluence.atlassian.com/x/dAiiLQ) for more information about fields in JQL queries.
+public type JqlQueryField record {|
+    # The name of the field.
+    string name;
+    # When the field refers to a value in an entity property, details of the entity property value.
+    JqlQueryFieldEntityProperty[] property?;
+|};
+
+# A clause that asserts whether a field was changed. For example, `status CHANGED AFTER startOfMonth(-1M)`.See [CHANGED](https://confluence.atlassian.com/x/dgiiLQ#Advancedsearching-operatorsreference-CHANGEDCHANGED) for more information about the CHANGED operator.
+public type FieldChangedClause record {
+    JqlQueryField 'field;
+    # The operator applied to the field.
+    "changed" operator;
+    # The list of time predicates.
+    JqlQueryClauseTimePredicate[] predicates;
+};
+
+# A clause that asserts the current value of a field. For example, `summary ~ test`.
+public type FieldValueClause record {
+    JqlQueryField 'field;
+    # The operator between the field and operand.
+    "="|"!="|">"|"<"|">="|"<="|"in"|"not in"|"~"|"~="|"is"|"is not" operator;
+    JqlQueryClauseOperand operand;
+};
+
+# A clause that asserts a previous value of a field. For example, `status WAS "Resolved" BY currentUser() BEFORE "2019/02/02"`. See [WAS](https://confluence.atlassian.com/x/dgiiLQ#Advancedsearching-operatorsreference-WASWAS) for more information about the WAS operator.
+public type FieldWasClause record {
+    JqlQueryField 'field;
+    # The operator between the field and operand.
+    "was"|"was in"|"was not in"|"was not" operator;
+    JqlQueryClauseOperand operand;
+    # The list of time predicates.
+    JqlQueryClauseTimePredicate[] predicates;
+};
+
+# A JQL query clause.
+public type JqlQueryClause CompoundClause|FieldValueClause|FieldWasClause|FieldChangedClause;
+
+# A JQL query clause that consists of nested clauses. For example, `(labels in (urgent, blocker) OR lastCommentedBy = currentUser()). Note that, where nesting is not defined, the parser nests JQL clauses based on the operator precedence. For example, "A OR B AND C" is parsed as "(A OR B) AND C". See Setting the precedence of operators for more information about precedence in JQL queries.`
+public type CompoundClause record {
+    # The list of nested clauses.
+    JqlQueryClause[] clauses;
+    # The operator between the clauses.
+    "and"|"or"|"not" operator;
+};
+
+# Details of the time tracking configuration.
+public type TimeTrackingConfiguration record {|
+    # The number of hours in a working day.
+    decimal workingHoursPerDay;
+    # The number of days in a working week.
+    decimal workingDaysPerWeek;
+    # The format that will appear on an issue's *Time Spent* field.
+    "pretty"|"days"|"hours" timeFormat;
+    # The default unit of time applied to logged time.
+    "minute"|"hour"|"day"|"week" defaultUnit;
+|};
+
+# Details about the configuration of Jira.
+public type Configuration record {|
+    # Whether the ability for users to vote on issues is enabled. See [Configuring Jira application options](https://confluence.atlassian.com/x/uYXKM) for details.
+    boolean votingEnabled?;
+    # Whether the ability for users to watch issues is enabled. See [Configuring Jira application options](https://confluence.atlassian.com/x/uYXKM) for details.
+    boolean watchingEnabled?;
+    # Whether the ability to create unassigned issues is enabled. See [Configuring Jira application options](https://confluence.atlassian.com/x/uYXKM) for details.
+    boolean unassignedIssuesAllowed?;
+    # Whether the ability to create subtasks for issues is enabled.
+    boolean subTasksEnabled?;
+    # Whether the ability to link issues is enabled.
+    boolean issueLinkingEnabled?;
+    # Whether the ability to track time is enabled. This property is deprecated.
+    boolean timeTrackingEnabled?;
+    # Whether the ability to add attachments to issues is enabled.
+    boolean attachmentsEnabled?;
+    # The configuration of time tracking.
+    TimeTrackingConfiguration timeTrackingConfiguration?;
+|};
+
+# A [Connect module](https://developer.atlassian.com/cloud/jira/platform/about-jira-modules/) in the same format as in the
+# [app descriptor](https://developer.atlassian.com/cloud/jira/platform/app-descriptor/).
+public type ConnectModule record {
+};
+
+public type ConnectModules record {
+    # A list of app modules in the same format as the `modules` property in the
+    # [app descriptor](https://developer.atlassian.com/cloud/jira/platform/app-descriptor/).
+    ConnectModule[] modules;
+};
+
+# A rule configuration.
+public type RuleConfiguration record {|
+    # Configuration of the rule, as it is stored by the Connect app on the rule configuration page.
+    string value;
+|};
+
+# A workflow transition.
+public type WorkflowTransition record {|
+    # The transition ID.
+    int:Signed32 id;
+    # The transition name.
+    string name;
+|};
+
+# A workflow transition rule.
+public type ConnectWorkflowTransitionRule record {|
+    # The ID of the transition rule.
+    string id;
+    # The key of the rule, as defined in the Connect app descriptor.
+    string 'key;
+    RuleConfiguration configuration;
+    WorkflowTransition transition?;
+|};
+
+# ID of a registered webhook or error messages explaining why a webhook wasn't registered.
+public type RegisteredWebhook record {|
+    # The ID of the webhook. Returned if the webhook is created.
+    int createdWebhookId?;
+    # Error messages specifying why the webhook creation failed.
+    string[] errors?;
+|};
+
+# Container for a list of registered webhooks. Webhook details are returned in the same order as the request.
+public type ContainerForRegisteredWebhooks record {|
+    # A list of registered webhooks.
+    RegisteredWebhook[] webhookRegistrationResult?;
+|};
+
+public type ContainerForRegisteredWebhooksOk record {|
+    *http:Ok;
+    ContainerForRegisteredWebhooks body;
+|};
+
+# Container for a list of webhook IDs.
+public type ContainerForWebhookIDs record {|
+    # A list of webhook IDs.
+    int[] webhookIds;
+|};
+
+# A project category.
+public type UpdatedProjectCategory record {|
+    # The URL of the project category.
     string self?;
-    # The ID of the issue level security item.
+    # The ID of the project category.
     string id?;
-    # The description of the issue level security item.
+    # The name of the project category.
     string description?;
-    # The name of the issue level security item.
+    # The description of the project category.
     string name?;
 |};
 
-# Details of a custom field context.
-public type CustomFieldContextUpdateDetails record {|
-    # The name of the custom field context. The name must be unique. The maximum length is 255 characters.
+# Details about a next-gen project.
+public type ProjectForScope record {|
+    # The URL of the project details.
+    string self?;
+    # The ID of the project.
+    string id?;
+    # The key of the project.
+    string 'key?;
+    # The name of the project.
     string name?;
-    # The description of the custom field context. The maximum length is 255 characters.
-    string description?;
+    # The [project type](https://confluence.atlassian.com/x/GwiiLQ#Jiraapplicationsoverview-Productfeaturesandprojecttypes) of the project.
+    "software"|"service_desk"|"business" projectTypeKey?;
+    # Whether or not the project is simplified.
+    boolean simplified?;
+    # The URLs of the project's avatars.
+    AvatarUrlsBean avatarUrls?;
+    # The category the project belongs to.
+    UpdatedProjectCategory projectCategory?;
 |};
 
-# Details about a security scheme.
-public type SecurityScheme record {|
-    # The URL of the issue security scheme.
+# The projects the item is associated with. Indicated for items associated with [next-gen projects](https://confluence.atlassian.com/x/loMyO).
+public type Scope record {
+    # The type of scope.
+    "PROJECT"|"TEMPLATE" 'type?;
+    # The project the item has scope in.
+    ProjectForScope project?;
+};
+
+# Details about an issue type.
+public type IssueTypeDetails record {|
+    # The URL of these issue type details.
     string self?;
-    # The ID of the issue security scheme.
-    int id?;
-    # The name of the issue security scheme.
-    string name?;
-    # The description of the issue security scheme.
+    # The ID of the issue type.
+    string id?;
+    # The description of the issue type.
     string description?;
-    # The ID of the default security level.
-    int defaultSecurityLevelId?;
-    SecurityLevel[] levels?;
-|};
-
-public type TaskProgressBeanObjectSeeOther record {|
-    *http:SeeOther;
-    TaskProgressBeanObject body;
+    # The URL of the issue type's avatar.
+    string iconUrl?;
+    # The name of the issue type.
+    string name?;
+    # Whether this issue type is used to create subtasks.
+    boolean subtask?;
+    # The ID of the issue type's avatar.
+    int avatarId?;
+    # Unique ID for next-gen projects.
+    string entityId?;
+    # Hierarchy level of the issue type.
+    int:Signed32 hierarchyLevel?;
+    # Details of the next-gen projects the issue type is available in.
+    Scope scope?;
 |};
 
-# Details about a workflow.
-public type DeprecatedWorkflow record {|
-    # The name of the workflow.
+# Details about a workflow scheme.
+public type WorkflowScheme record {|
+    # The ID of the workflow scheme.
+    int id?;
+    # The name of the workflow scheme. The name must be unique. The maximum length is 255 characters. Required when creating a workflow scheme.
     string name?;
-    # The description of the workflow.
+    # The description of the workflow scheme.
     string description?;
-    # The datetime the workflow was last modified.
-    string lastModifiedDate?;
-    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
-    string lastModifiedUser?;
-    # The account ID of the user that last modified the workflow.
-    string lastModifiedUserAccountId?;
-    # The number of steps included in the workflow.
-    int:Signed32 steps?;
-    # The scope where this workflow applies
-    Scope scope?;
-    boolean default?;
+    # The name of the default workflow for the workflow scheme. The default workflow has *All Unassigned Issue Types* assigned to it in Jira. If `defaultWorkflow` is not specified when creating a workflow scheme, it is set to *Jira Workflow (jira)*.
+    string defaultWorkflow?;
+    # The issue type to workflow mappings, where each mapping is an issue type ID and workflow name pair. Note that an issue type can only be mapped to one workflow in a workflow scheme.
+    record {|string...;|} issueTypeMappings?;
+    # For draft workflow schemes, this property is the name of the default workflow for the original workflow scheme. The default workflow has *All Unassigned Issue Types* assigned to it in Jira.
+    string originalDefaultWorkflow?;
+    # For draft workflow schemes, this property is the issue type to workflow mappings for the original workflow scheme, where each mapping is an issue type ID and workflow name pair. Note that an issue type can only be mapped to one workflow in a workflow scheme.
+    record {|string...;|} originalIssueTypeMappings?;
+    # Whether the workflow scheme is a draft or not.
+    boolean draft?;
+    # The user that last modified the draft workflow scheme. A modification is a change to the issue type-project mappings only. This property does not apply to non-draft workflows.
+    User lastModifiedUser?;
+    # The date-time that the draft workflow scheme was last modified. A modification is a change to the issue type-project mappings only. This property does not apply to non-draft workflows.
+    string lastModified?;
+    string self?;
+    # Whether to create or update a draft workflow scheme when updating an active workflow scheme. An active workflow scheme is a workflow scheme that is used by at least one project. The following examples show how this property works:
+    #
+    #  *  Update an active workflow scheme with `updateDraftIfNeeded` set to `true`: If a draft workflow scheme exists, it is updated. Otherwise, a draft workflow scheme is created.
+    #  *  Update an active workflow scheme with `updateDraftIfNeeded` set to `false`: An error is returned, as active workflow schemes cannot be updated.
+    #  *  Update an inactive workflow scheme with `updateDraftIfNeeded` set to `true`: The workflow scheme is updated, as inactive workflow schemes do not require drafts to update.
+    #
+    # Defaults to `false`.
+    boolean updateDraftIfNeeded?;
+    # The issue types available in Jira.
+    record {|IssueTypeDetails...;|} issueTypes?;
 |};
 
-# A page of items.
-public type PageBeanCustomFieldContextDefaultValue record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    CustomFieldContextDefaultValue[] values?;
+# A workflow scheme along with a list of projects that use it.
+public type WorkflowSchemeAssociations record {|
+    # The list of projects that use the workflow scheme.
+    string[] projectIds;
+    # The workflow scheme.
+    WorkflowScheme workflowScheme;
 |};
 
-# A page of items.
-public type PageBeanFieldConfigurationSchemeProjects record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    FieldConfigurationSchemeProjects[] values?;
+# A container for a list of workflow schemes together with the projects they are associated with.
+public type ContainerOfWorkflowSchemeAssociations record {|
+    # A list of workflow schemes together with projects they are associated with.
+    WorkflowSchemeAssociations[] values;
 |};
 
-# Details of an application property.
-public type ApplicationProperty record {|
-    # The ID of the application property. The ID and key are the same.
-    string id?;
-    # The key of the application property. The ID and key are the same.
-    string 'key?;
-    # The new value.
-    string value?;
-    # The name of the application property.
+# A context.
+public type Context record {|
+    # The ID of the context.
+    int id?;
+    # The name of the context.
     string name?;
-    # The description of the application property.
-    string desc?;
-    # The data type of the application property.
-    string 'type?;
-    # The default value of the application property.
-    string defaultValue?;
-    string example?;
-    # The allowed values, if applicable.
-    string[] allowedValues?;
+    # The scope of the context.
+    Scope scope?;
 |};
 
-public type ProjectOk record {|
-    *http:Ok;
-    Project body;
+# The project and issue type mapping with a matching custom field context.
+public type ContextForProjectAndIssueType record {|
+    # The ID of the project.
+    string projectId;
+    # The ID of the issue type.
+    string issueTypeId;
+    # The ID of the custom field context.
+    string contextId;
 |};
 
-# Properties that identify a published workflow.
-public type PublishedWorkflowId record {|
-    # The name of the workflow.
-    string name;
-    # The entity ID of the workflow.
-    string entityId?;
+# JQL queries that contained users that could not be found
+public type JQLQueryWithUnknownUsers record {|
+    # The original query, for reference
+    string originalQuery?;
+    # The converted query, with accountIDs instead of user identifiers, or 'unknown' for users that could not be found
+    string convertedQuery?;
 |};
 
-# Container for a list of webhook IDs.
-public type ContainerForWebhookIDs record {|
-    # A list of webhook IDs.
-    int[] webhookIds;
+# The converted JQL queries.
+public type ConvertedJQLQueries record {|
+    # The list of converted query strings with account IDs in place of user identifiers.
+    string[] queryStrings?;
+    # List of queries containing user information that could not be mapped to an existing user
+    JQLQueryWithUnknownUsers[] queriesWithUnknownUsers?;
 |};
 
-# Default value for a multi-select custom field.
-public type CustomFieldContextDefaultValueMultipleOption record {
-    # The ID of the context.
-    string contextId;
-    # The list of IDs of the default options.
-    string[] optionIds;
-    string 'type;
-};
-
-# Details of an operation to perform on a field.
-public type FieldUpdateOperation record {|
-    # A map containing the name of a field and the value to add to it.
-    anydata add?;
-    # A map containing the name of a field and the value to set in it.
-    anydata set?;
-    # A map containing the name of a field and the value to removed from it.
-    anydata remove?;
-    # A map containing the name of a field and the value to edit in it.
-    anydata edit?;
+public type ConvertedJQLQueriesOk record {|
+    *http:Ok;
+    ConvertedJQLQueries body;
 |};
 
-public type TaskProgressBeanRemoveOptionFromIssuesResultSeeOther record {|
-    *http:SeeOther;
-    TaskProgressBeanRemoveOptionFromIssuesResult body;
+# The details of a transition status.
+public type CrateWorkflowStatusDetails record {|
+    # The ID of the status.
+    string id;
 |};
 
-# An icon. If no icon is defined:
-#
-#  *  for a status icon, no status icon displays in Jira.
-#  *  for the remote object icon, the default link icon displays in Jira.
-public type Icon record {
-    # The URL of an icon that displays at 16x16 pixel in Jira.
-    string url16x16?;
-    # The title of the icon. This is used as follows:
-    #
-    #  *  For a status icon it is used as a tooltip on the icon. If not set, the status icon doesn't display a tooltip in Jira.
-    #  *  For the remote object icon it is used in conjunction with the application name to display a tooltip for the link's icon. The tooltip takes the format "\[application name\] icon title". Blank itemsare excluded from the tooltip title. If both items are blank, the icon tooltop displays as "Web Link".
-    string title?;
-    # The URL of the tooltip, used only for a status icon. If not set, the status icon in Jira is not clickable.
-    string link?;
-};
+# The details of a created custom field context.
+public type CreateCustomFieldContext record {|
+    # The ID of the context.
+    string id?;
+    # The name of the context.
+    string name;
+    # The description of the context.
+    string description?;
+    # The list of project IDs associated with the context. If the list is empty, the context is global.
+    string[] projectIds?;
+    # The list of issue types IDs for the context. If the list is empty, the context refers to all issue types.
+    string[] issueTypeIds?;
+|};
 
-public type SearchRequestBean record {|
-    # A [JQL](https://confluence.atlassian.com/x/egORLQ) expression.
-    string jql?;
-    # The index of the first item to return in the page of results (page offset). The base index is `0`.
-    int:Signed32 startAt?;
-    # The maximum number of items to return per page.
-    int:Signed32 maxResults = 50;
-    # A list of fields to return for each issue, use it to retrieve a subset of fields. This parameter accepts a comma-separated list. Expand options include:
-    #
-    #  *  `*all` Returns all fields.
-    #  *  `*navigable` Returns navigable fields.
-    #  *  Any issue field, prefixed with a minus to exclude.
-    #
-    # The default is `*navigable`.
-    #
-    # Examples:
-    #
-    #  *  `summary,comment` Returns the summary and comments fields only.
-    #  *  `-description` Returns all navigable (default) fields except description.
-    #  *  `*all,-comment` Returns all fields except comments.
-    #
-    # Multiple `fields` parameters can be included in a request.
-    #
-    # Note: All navigable fields are returned by default. This differs from [GET issue](#api-rest-api-2-issue-issueIdOrKey-get) where the default is all fields.
-    string[] fields?;
-    # Determines how to validate the JQL query and treat the validation results. Supported values:
-    #
-    #  *  `strict` Returns a 400 response code if any errors are found, along with a list of all errors (and warnings).
-    #  *  `warn` Returns all errors as warnings.
-    #  *  `none` No validation is performed.
-    #  *  `true` *Deprecated* A legacy synonym for `strict`.
-    #  *  `false` *Deprecated* A legacy synonym for `warn`.
-    #
-    # The default is `strict`.
-    #
-    # Note: If the JQL is not correctly formed a 400 response code is returned, regardless of the `validateQuery` value.
-    "strict"|"warn"|"none"|"true"|"false" validateQuery?;
-    # Use [expand](em>#expansion) to include additional information about issues in the response. Note that, unlike the majority of instances where `expand` is specified, `expand` is defined as a list of values. The expand options are:
-    #
-    #  *  `renderedFields` Returns field values rendered in HTML format.
-    #  *  `names` Returns the display name of each field.
-    #  *  `schema` Returns the schema describing a field type.
-    #  *  `transitions` Returns all possible transitions for the issue.
-    #  *  `operations` Returns all possible operations for the issue.
-    #  *  `editmeta` Returns information about how each field can be edited.
-    #  *  `changelog` Returns a list of recent updates to an issue, sorted by date, starting from the most recent.
-    #  *  `versionedRepresentations` Instead of `fields`, returns `versionedRepresentations` a JSON array containing each version of a field's value, with the highest numbered item representing the most recent version.
-    string[] expand?;
-    # A list of up to 5 issue properties to include in the results. This parameter accepts a comma-separated list.
-    string[] properties?;
-    # Reference fields by their key (rather than ID). The default is `false`.
-    boolean fieldsByKeys?;
+public type CreateUpdateRoleRequestBean record {|
+    # The name of the project role. Must be unique. Cannot begin or end with whitespace. The maximum length is 255 characters. Required when creating a project role. Optional when partially updating a project role.
+    string name?;
+    # A description of the project role. Required when fully updating a project role. Optional when creating or partially updating a project role.
+    string description?;
 |};
 
-public type AddFieldBean record {|
-    # The ID of the field to add.
-    string fieldId;
+# The details of a workflow transition.
+public type CreateWorkflowTransitionDetails record {|
+    # The name of the transition. The maximum length is 60 characters.
+    string name;
+    # The description of the transition. The maximum length is 1000 characters.
+    string description?;
+    # The statuses the transition can start from.
+    string[] 'from?;
+    # The status the transition goes to.
+    string to;
+    # The type of the transition.
+    "global"|"initial"|"directed" 'type;
 |};
 
-# A field within a field configuration.
-public type FieldConfigurationItem record {|
-    # The ID of the field within the field configuration.
-    string id;
-    # The description of the field within the field configuration.
+# The details of a workflow.
+public type CreateWorkflowDetails record {|
+    # The name of the workflow. The name must be unique. The maximum length is 255 characters. Characters can be separated by a whitespace but the name cannot start or end with a whitespace.
+    string name;
+    # The description of the workflow. The maximum length is 1000 characters.
     string description?;
-    # Whether the field is hidden in the field configuration.
-    boolean isHidden?;
-    # Whether the field is required in the field configuration.
-    boolean isRequired?;
+    # The transitions of the workflow. For the request to be valid, these transitions must:
+    #
+    #  *  include one *initial* transition.
+    #  *  not use the same name for a *global* and *directed* transition.
+    #  *  have a unique name for each *global* transition.
+    #  *  have a unique 'to' status for each *global* transition.
+    #  *  have unique names for each transition from a status.
+    #  *  not have a 'from' status on *initial* and *global* transitions.
+    #  *  have a 'from' status on *directed* transitions.
+    #
+    # All the transition statuses must be included in `statuses`.
+    CreateWorkflowTransitionDetails[] transitions;
+    # The statuses of the workflow. Any status that does not include a transition is added to the workflow without a transition.
+    CrateWorkflowStatusDetails[] statuses;
 |};
 
-# Bulk operation filter details.
-public type IssueFilterForBulkPropertySet record {|
-    # List of issues to perform the bulk operation on.
-    int[] entityIds?;
-    # The value of properties to perform the bulk operation on.
-    anydata currentValue?;
-    # Whether the bulk operation occurs only when the property is present on or absent from an issue.
-    boolean hasProperty?;
+public type NestedResponse record {|
+    int:Signed32 status?;
+    ErrorCollection errorCollection?;
 |};
 
-# Details of a custom field option for a context.
-public type CustomFieldOptionUpdate record {|
-    # The ID of the custom field option.
-    string id;
-    # The value of the custom field option.
-    string value?;
-    # Whether the option is disabled.
-    boolean disabled?;
+# Details about a created issue or subtask.
+public type CreatedIssue record {|
+    # The ID of the created issue or subtask.
+    string id?;
+    # The key of the created issue or subtask.
+    string 'key?;
+    # The URL of the created issue or subtask.
+    string self?;
+    # The response code and messages related to any requested transition.
+    NestedResponse transition?;
 |};
 
-public type OperationMessageNotFound record {|
-    *http:NotFound;
-    OperationMessage body;
+# Details about the issues created and the errors for requests that failed.
+public type CreatedIssues record {|
+    # Details of the issues created.
+    CreatedIssue[] issues?;
+    # Error details for failed issue creation requests.
+    BulkOperationErrorResult[] errors?;
 |};
 
-# A list of parsed JQL queries.
-public type ParsedJqlQueries record {|
-    # A list of parsed JQL queries.
-    ParsedJqlQuery[] queries;
+public type CreatedIssuesBadRequest record {|
+    *http:BadRequest;
+    CreatedIssues body;
 |};
 
-# The ID of a screen scheme.
-public type UpdateDefaultScreenScheme record {|
-    # The ID of the screen scheme.
-    string screenSchemeId;
+# The details of a custom field context.
+public type CustomFieldContext record {|
+    # The ID of the context.
+    string id;
+    # The name of the context.
+    string name;
+    # The description of the context.
+    string description;
+    # Whether the context is global.
+    boolean isGlobalContext;
+    # Whether the context apply to all issue types.
+    boolean isAnyIssueType;
 |};
 
-# Details about the default workflow.
-public type DefaultWorkflow record {|
-    # The name of the workflow to set as the default workflow.
-    string workflow;
-    # Whether a draft workflow scheme is created or updated when updating an active workflow scheme. The draft is updated with the new default workflow. Defaults to `false`.
-    boolean updateDraftIfNeeded?;
-|};
+# Default value for a cascading select custom field.
+public type CustomFieldContextDefaultValueCascadingOption record {
+    # The ID of the context.
+    string contextId;
+    # The ID of the default option.
+    string optionId;
+    # The ID of the default cascading option.
+    string cascadingOptionId?;
+    string 'type;
+};
 
-# List of changed worklogs.
-public type ChangedWorklogs record {|
-    # Changed worklog list.
-    ChangedWorklog[] values?;
-    # The datetime of the first worklog item in the list.
-    int since?;
-    # The datetime of the last worklog item in the list.
-    int until?;
-    # The URL of this changed worklogs list.
-    string self?;
-    # The URL of the next list of changed worklogs.
-    string nextPage?;
-    boolean lastPage?;
-|};
+# Default value for a multi-select custom field.
+public type CustomFieldContextDefaultValueMultipleOption record {
+    # The ID of the context.
+    string contextId;
+    # The list of IDs of the default options.
+    string[] optionIds;
+    string 'type;
+};
 
-# The date the newly refreshed webhooks expire.
-public type WebhooksExpirationDate record {|
-    int expirationDate;
+# Default value for a single select custom field.
+public type CustomFieldContextDefaultValueSingleOption record {
+    # The ID of the context.
+    string contextId;
+    # The ID of the default option.
+    string optionId;
+    string 'type;
+};
+
+public type CustomFieldContextDefaultValue CustomFieldContextDefaultValueCascadingOption|CustomFieldContextDefaultValueMultipleOption|CustomFieldContextDefaultValueSingleOption;
+
+# Default values to update.
+public type CustomFieldContextDefaultValueUpdate record {|
+    CustomFieldContextDefaultValue[] defaultValues?;
 |};
 
-# Paginated list of worklog details
-public type PageOfWorklogs record {
-    # The index of the first item returned on the page.
-    int:Signed32 startAt?;
-    # The maximum number of results that could be on the page.
-    int:Signed32 maxResults?;
-    # The number of results on the page.
-    int:Signed32 total?;
-    # List of worklogs.
-    Worklog[] worklogs?;
-};
+# Details of the custom field options for a context.
+public type CustomFieldContextOption record {|
+    # The ID of the custom field option.
+    string id;
+    # The value of the custom field option.
+    string value;
+    # For cascading options, the ID of the custom field option containing the cascading option.
+    string optionId?;
+    # Whether the option is disabled.
+    boolean disabled;
+|};
 
-public type OperationMessageCreated record {|
-    *http:Created;
-    OperationMessage body;
+# Details of context to project associations.
+public type CustomFieldContextProjectMapping record {|
+    # The ID of the context.
+    string contextId;
+    # The ID of the project.
+    string projectId?;
+    # Whether context is global.
+    boolean isGlobalContext?;
 |};
 
-# A container for a list of workflow schemes together with the projects they are associated with.
-public type ContainerOfWorkflowSchemeAssociations record {|
-    # A list of workflow schemes together with projects they are associated with.
-    WorkflowSchemeAssociations[] values;
+# Details of a custom field context.
+public type CustomFieldContextUpdateDetails record {|
+    # The name of the custom field context. The name must be unique. The maximum length is 255 characters.
+    string name?;
+    # The description of the custom field context. The maximum length is 255 characters.
+    string description?;
 |};
 
-public type JsonCreated record {|
-    *http:Created;
-    json body;
+# A list of custom field options for a context.
+public type CustomFieldCreatedContextOptionsList record {|
+    # The created custom field options.
+    CustomFieldContextOption[] options?;
 |};
 
-public type PageBeanCommentOk record {|
+public type CustomFieldCreatedContextOptionsListOk record {|
     *http:Ok;
-    PageBeanComment body;
+    CustomFieldCreatedContextOptionsList body;
 |};
 
-# Details of a field.
-public type Field record {|
-    # The ID of the field.
-    string id;
-    # The name of the field.
+public type CustomFieldDefinitionJsonBean record {|
+    # The name of the custom field, which is displayed in Jira. This is not the unique identifier.
     string name;
-    JsonTypeBean schema;
-    # The description of the field.
+    # The description of the custom field, which is displayed in Jira.
     string description?;
-    # The key of the field.
-    string 'key?;
-    # Whether the field is locked.
-    boolean isLocked?;
-    # The searcher key of the field. Returned for custom fields.
-    string searcherKey?;
-    # Number of screens where the field is used.
-    int screensCount?;
-    # Number of contexts where the field is used.
-    int contextsCount?;
-    FieldLastUsed lastUsed?;
-|};
-
-# Details about the Jira instance.
-public type ServerInformation record {|
-    # The base URL of the Jira instance.
-    string baseUrl?;
-    # The version of Jira.
-    string version?;
-    # The major, minor, and revision version numbers of the Jira version.
-    int:Signed32[] versionNumbers?;
-    # The type of server deployment. This is always returned as *Cloud*.
-    string deploymentType?;
-    # The build number of the Jira version.
-    int:Signed32 buildNumber?;
-    # The timestamp when the Jira version was built.
-    string buildDate?;
-    # The time in Jira when this request was responded to.
-    string serverTime?;
-    # The unique identifier of the Jira version.
-    string scmInfo?;
-    # The name of the Jira instance.
-    string serverTitle?;
-    # Jira instance health check results. Deprecated and no longer returned.
-    HealthCheckResult[] healthChecks?;
+    # The type of the custom field. For example, *com.atlassian.jira.plugin.system.customfieldtypes:grouppicker*.
+    #
+    #  *  `cascadingselect`: Allows multiple values to be selected using two select lists
+    #  *  `datepicker`: Stores a date using a picker control
+    #  *  `datetime`: Stores a date with a time component
+    #  *  `float`: Stores and validates a numeric (floating point) input
+    #  *  `grouppicker`: Stores a user group using a picker control
+    #  *  `importid`: A read-only field that stores the previous ID of the issue from the system that it was imported from
+    #  *  `labels`: Stores labels
+    #  *  `multicheckboxes`: Stores multiple values using checkboxes
+    #  *  `multigrouppicker`: Stores multiple user groups using a picker control
+    #  *  `multiselect`: Stores multiple values using a select list
+    #  *  `multiuserpicker`: Stores multiple users using a picker control
+    #  *  `multiversion`: Stores multiple versions from the versions available in a project using a picker control
+    #  *  `project`: Stores a project from a list of projects that the user is permitted to view
+    #  *  `radiobuttons`: Stores a value using radio buttons
+    #  *  `readonlyfield`: Stores a read-only text value, which can only be populated via the API
+    #  *  `select`: Stores a value from a configurable list of options
+    #  *  `textarea`: Stores a long text string using a multiline text area
+    #  *  `textfield`: Stores a text string using a single-line text box
+    #  *  `url`: Stores a URL
+    #  *  `userpicker`: Stores a user using a picker control
+    #  *  `version`: Stores a version using a picker control
+    "com.atlassian.jira.plugin.system.customfieldtypes:cascadingselect"|"com.atlassian.jira.plugin.system.customfieldtypes:datepicker"|"com.atlassian.jira.plugin.system.customfieldtypes:datetime"|"com.atlassian.jira.plugin.system.customfieldtypes:float"|"com.atlassian.jira.plugin.system.customfieldtypes:grouppicker"|"com.atlassian.jira.plugin.system.customfieldtypes:importid"|"com.atlassian.jira.plugin.system.customfieldtypes:labels"|"com.atlassian.jira.plugin.system.customfieldtypes:multicheckboxes"|"com.atlassian.jira.plugin.system.customfieldtypes:multigrouppicker"|"com.atlassian.jira.plugin.system.customfieldtypes:multiselect"|"com.atlassian.jira.plugin.system.customfieldtypes:multiuserpicker"|"com.atlassian.jira.plugin.system.customfieldtypes:multiversion"|"com.atlassian.jira.plugin.system.customfieldtypes:project"|"com.atlassian.jira.plugin.system.customfieldtypes:radiobuttons"|"com.atlassian.jira.plugin.system.customfieldtypes:readonlyfield"|"com.atlassian.jira.plugin.system.customfieldtypes:select"|"com.atlassian.jira.plugin.system.customfieldtypes:textarea"|"com.atlassian.jira.plugin.system.customfieldtypes:textfield"|"com.atlassian.jira.plugin.system.customfieldtypes:url"|"com.atlassian.jira.plugin.system.customfieldtypes:userpicker"|"com.atlassian.jira.plugin.system.customfieldtypes:version" 'type;
+    # The searcher defines the way the field is searched in Jira. For example, *com.atlassian.jira.plugin.system.customfieldtypes:grouppickersearcher*.
+    # The search UI (basic search and JQL search) will display different operations and values for the field, based on the field searcher. You must specify a searcher that is valid for the field type, as listed below (abbreviated values shown):
+    #
+    #  *  `cascadingselect`: `cascadingselectsearcher`
+    #  *  `datepicker`: `daterange`
+    #  *  `datetime`: `datetimerange`
+    #  *  `float`: `exactnumber` or `numberrange`
+    #  *  `grouppicker`: `grouppickersearcher`
+    #  *  `importid`: `exactnumber` or `numberrange`
+    #  *  `labels`: `labelsearcher`
+    #  *  `multicheckboxes`: `multiselectsearcher`
+    #  *  `multigrouppicker`: `multiselectsearcher`
+    #  *  `multiselect`: `multiselectsearcher`
+    #  *  `multiuserpicker`: `userpickergroupsearcher`
+    #  *  `multiversion`: `versionsearcher`
+    #  *  `project`: `projectsearcher`
+    #  *  `radiobuttons`: `multiselectsearcher`
+    #  *  `readonlyfield`: `textsearcher`
+    #  *  `select`: `multiselectsearcher`
+    #  *  `textarea`: `textsearcher`
+    #  *  `textfield`: `textsearcher`
+    #  *  `url`: `exacttextsearcher`
+    #  *  `userpicker`: `userpickergroupsearcher`
+    #  *  `version`: `versionsearcher`
+    "com.atlassian.jira.plugin.system.customfieldtypes:cascadingselectsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:daterange"|"com.atlassian.jira.plugin.system.customfieldtypes:datetimerange"|"com.atlassian.jira.plugin.system.customfieldtypes:exactnumber"|"com.atlassian.jira.plugin.system.customfieldtypes:exacttextsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:grouppickersearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:labelsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:multiselectsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:numberrange"|"com.atlassian.jira.plugin.system.customfieldtypes:projectsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:textsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:userpickergroupsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:versionsearcher" searcherKey?;
 |};
 
 # Details of a custom option for a field.
@@ -2496,120 +2612,28 @@ public type CustomFieldOption record {|
     string value?;
 |};
 
-public type CustomFieldCreatedContextOptionsListOk record {|
-    *http:Ok;
-    CustomFieldCreatedContextOptionsList body;
-|};
-
-# Default value for a cascading select custom field.
-public type CustomFieldContextDefaultValueCascadingOption record {
-    # The ID of the context.
-    string contextId;
-    # The ID of the default option.
-    string optionId;
-    # The ID of the default cascading option.
-    string cascadingOptionId?;
-    string 'type;
-};
-
-# The project and issue type mapping.
-public type ProjectIssueTypeMapping record {|
-    # The ID of the project.
-    string projectId;
-    # The ID of the issue type.
-    string issueTypeId;
-|};
-
-# Details about a project component.
-public type Component record {|
-    # The URL of the component.
-    string self?;
-    # The unique identifier for the component.
-    string id?;
-    # The unique name for the component in the project. Required when creating a component. Optional when updating a component. The maximum length is 255 characters.
-    string name?;
-    # The description for the component. Optional when creating or updating a component.
-    string description?;
-    # The user details for the component's lead user.
-    User lead?;
-    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
-    string leadUserName?;
-    # The accountId of the component's lead user. The accountId uniquely identifies the user across all Atlassian products. For example, *5b10ac8d82e05b22cc7d4ef5*.
-    @constraint:String {maxLength: 128}
-    string leadAccountId?;
-    # The nominal user type used to determine the assignee for issues created with this component. See `realAssigneeType` for details on how the type of the user, and hence the user, assigned to issues is determined. Can take the following values:
-    #
-    #  *  `PROJECT_LEAD` the assignee to any issues created with this component is nominally the lead for the project the component is in.
-    #  *  `COMPONENT_LEAD` the assignee to any issues created with this component is nominally the lead for the component.
-    #  *  `UNASSIGNED` an assignee is not set for issues created with this component.
-    #  *  `PROJECT_DEFAULT` the assignee to any issues created with this component is nominally the default assignee for the project that the component is in.
-    #
-    # Default value: `PROJECT_DEFAULT`.
-    # Optional when creating or updating a component.
-    "PROJECT_DEFAULT"|"COMPONENT_LEAD"|"PROJECT_LEAD"|"UNASSIGNED" assigneeType?;
-    # The details of the user associated with `assigneeType`, if any. See `realAssignee` for details of the user assigned to issues created with this component.
-    User assignee?;
-    # The type of the assignee that is assigned to issues created with this component, when an assignee cannot be set from the `assigneeType`. For example, `assigneeType` is set to `COMPONENT_LEAD` but no component lead is set. This property is set to one of the following values:
-    #
-    #  *  `PROJECT_LEAD` when `assigneeType` is `PROJECT_LEAD` and the project lead has permission to be assigned issues in the project that the component is in.
-    #  *  `COMPONENT_LEAD` when `assignee`Type is `COMPONENT_LEAD` and the component lead has permission to be assigned issues in the project that the component is in.
-    #  *  `UNASSIGNED` when `assigneeType` is `UNASSIGNED` and Jira is configured to allow unassigned issues.
-    #  *  `PROJECT_DEFAULT` when none of the preceding cases are true.
-    "PROJECT_DEFAULT"|"COMPONENT_LEAD"|"PROJECT_LEAD"|"UNASSIGNED" realAssigneeType?;
-    # The user assigned to issues created with this component, when `assigneeType` does not identify a valid assignee.
-    User realAssignee?;
-    # Whether a user is associated with `assigneeType`. For example, if the `assigneeType` is set to `COMPONENT_LEAD` but the component lead is not set, then `false` is returned.
-    boolean isAssigneeTypeValid?;
-    # The key of the project the component is assigned to. Required when creating a component. Can't be updated.
-    string project?;
-    # The ID of the project the component is assigned to.
-    int projectId?;
-|};
-
-# A paginated list of users sharing the filter. This includes users that are members of the groups or can browse the projects that the filter is shared with.
-public type UserList record {|
-    # The number of items on the page.
-    int:Signed32 size?;
-    # The list of items.
-    User[] items?;
-    # The maximum number of results that could be on the page.
-    int:Signed32 max\-results?;
-    # The index of the first item returned on the page.
-    int:Signed32 start\-index?;
-    # The index of the last item returned on the page.
-    int:Signed32 end\-index?;
-|};
-
-# A page containing dashboard details.
-public type PageOfDashboards record {|
-    # The index of the first item returned on the page.
-    int:Signed32 startAt?;
-    # The maximum number of results that could be on the page.
-    int:Signed32 maxResults?;
-    # The number of results on the page.
-    int:Signed32 total?;
-    # The URL of the previous page of results, if any.
-    string prev?;
-    # The URL of the next page of results, if any.
-    string next?;
-    # List of dashboards.
-    Dashboard[] dashboards?;
+# Details of a custom field option and its cascading options.
+public type CustomFieldOptionDetails record {|
+    # The ID of the custom field option.
+    int id?;
+    # The value of the custom field option.
+    string value?;
+    # The cascading options.
+    string[] cascadingOptions?;
 |};
 
-# Issue type screen scheme with a list of the projects that use it.
-public type IssueTypeScreenSchemesProjects record {|
-    # Details of an issue type screen scheme.
-    IssueTypeScreenScheme issueTypeScreenScheme;
-    # The IDs of the projects using the issue type screen scheme.
-    string[] projectIds;
+# Details about the replacement for a deleted version.
+public type CustomFieldReplacement record {|
+    # The ID of the custom field in which to replace the version number.
+    int customFieldId?;
+    # The version number to use as a replacement for the deleted version.
+    int moveTo?;
 |};
 
-# Details of the identifiers for a created or updated remote issue link.
-public type RemoteIssueLinkIdentifies record {|
-    # The ID of the remote issue link, such as the ID of the item on the remote system.
-    int id?;
-    # The URL of the remote issue link.
-    string self?;
+# A list of custom field options for a context.
+public type CustomFieldUpdatedContextOptionsList record {|
+    # The updated custom field options.
+    CustomFieldOptionUpdate[] options?;
 |};
 
 # A list of issue IDs and the value to update a custom field to.
@@ -2623,585 +2647,505 @@ public type CustomFieldValueUpdate record {|
     #  *  `datetime` – the value must be a string that represents a date in the ISO format, for example `"2021-01-18T12:00:00-03:00"`.
     #  *  `user` – the value must be an object that contains the `accountId` field.
     #  *  `group` – the value must be an object that contains the group `name` field.
-    #
-    # A list of appropriate values must be provided if the field is of the `list` [collection type](https://developer.atlassian.com/platform/forge/manifest-reference/modules/#collection-types).
-    anydata value;
-|};
-
-# A page of items.
-public type PageBeanIssueTypeScreenSchemeItem record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    IssueTypeScreenSchemeItem[] values?;
-|};
-
-# Details of an avatar.
-public type Avatar record {|
-    # The ID of the avatar.
-    string id;
-    # The owner of the avatar. For a system avatar the owner is null (and nothing is returned). For non-system avatars this is the appropriate identifier, such as the ID for a project or the account ID for a user.
-    string owner?;
-    # Whether the avatar is a system avatar.
-    boolean isSystemAvatar?;
-    # Whether the avatar is used in Jira. For example, shown as a project's avatar.
-    boolean isSelected?;
-    # Whether the avatar can be deleted.
-    boolean isDeletable?;
-    # The file name of the avatar icon. Returned for system avatars.
-    string fileName?;
-    # The list of avatar icon URLs.
-    record {|string...;|} urls?;
-|};
-
-# Details of how to filter and list search auto complete information.
-public type SearchAutoCompleteFilter record {|
-    # List of project IDs used to filter the visible field details returned.
-    int[] projectIds?;
-    # Include collapsed fields for fields that have non-unique names.
-    boolean includeCollapsedFields = false;
-|};
-
-# The description of the page of issues loaded by the provided JQL query.
-public type IssuesJqlMetaDataBean record {|
-    # The index of the first issue.
-    int startAt;
-    # The maximum number of issues that could be loaded in this evaluation.
-    int:Signed32 maxResults;
-    # The number of issues that were loaded in this evaluation.
-    int:Signed32 count;
-    # The total number of issues the JQL returned.
-    int totalCount;
-    # Any warnings related to the JQL query. Present only if the validation mode was set to `warn`.
-    string[] validationWarnings?;
-|};
-
-# List of custom fields using the version.
-public type VersionUsageInCustomField record {|
-    # The name of the custom field.
-    string fieldName?;
-    # The ID of the custom field.
-    int customFieldId?;
-    # Count of the issues where the custom field contains the version.
-    int issueCountWithVersionInCustomField?;
-|};
-
-# A page of items.
-public type PageBeanIssueTypeSchemeMapping record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    IssueTypeSchemeMapping[] values?;
-|};
-
-# Details of options to create for a custom field.
-public type BulkCreateCustomFieldOptionRequest record {|
-    # Details of options to create.
-    CustomFieldOptionValue[] options?;
-|};
-
-# Details about the issues created and the errors for requests that failed.
-public type CreatedIssues record {|
-    # Details of the issues created.
-    CreatedIssue[] issues?;
-    # Error details for failed issue creation requests.
-    BulkOperationErrorResult[] errors?;
-|};
-
-# Count of a version's unresolved issues.
-public type VersionUnresolvedIssuesCount record {|
-    # The URL of these count details.
-    string self?;
-    # Count of unresolved issues.
-    int issuesUnresolvedCount?;
-    # Count of issues.
-    int issuesCount?;
-|};
-
-public type WorklogIdsRequestBean record {|
-    # A list of worklog IDs.
-    int[] ids;
+    #
+    # A list of appropriate values must be provided if the field is of the `list` [collection type](https://developer.atlassian.com/platform/forge/manifest-reference/modules/#collection-types).
+    anydata value;
 |};
 
-# Details about a license for the Jira instance.
-public type License record {|
-    # The applications under this license.
-    LicensedApplication[] applications;
+# Details of updates for a custom field.
+public type CustomFieldValueUpdateRequest record {|
+    # The list of custom field update details.
+    CustomFieldValueUpdate[] updates?;
 |};
 
-# Details of an issue remote link.
-public type RemoteIssueLink record {|
-    # The ID of the link.
+public type HierarchyLevel record {|
+    # The ID of the hierarchy level. This property is deprecated, see [Change notice: Removing hierarchy level IDs from next-gen APIs](https://developer.atlassian.com/cloud/jira/platform/change-notice-removing-hierarchy-level-ids-from-next-gen-apis/).
     int id?;
-    # The URL of the link.
-    string self?;
-    # The global ID of the link, such as the ID of the item on the remote system.
-    string globalId?;
-    # Details of the remote application the linked item is in.
-    Application application?;
-    # Description of the relationship between the issue and the linked item.
-    string relationship?;
-    # Details of the item linked to.
-    RemoteObject 'object?;
-|};
-
-public type JsonNode record {|
-    record {} fieldNames?;
-    record {} elements?;
-    boolean pojo?;
-    boolean containerNode?;
-    boolean missingNode?;
-    boolean 'object?;
-    boolean valueNode?;
-    boolean number?;
-    boolean integralNumber?;
-    boolean floatingPointNumber?;
-    boolean 'int?;
-    boolean long?;
-    boolean double?;
-    boolean bigDecimal?;
-    boolean bigInteger?;
-    boolean textual?;
-    boolean 'boolean?;
-    boolean binary?;
-    decimal numberValue?;
-    "INT"|"LONG"|"BIG_INTEGER"|"FLOAT"|"DOUBLE"|"BIG_DECIMAL" numberType?;
-    int:Signed32 intValue?;
-    int longValue?;
-    int bigIntegerValue?;
-    decimal doubleValue?;
-    decimal decimalValue?;
-    boolean booleanValue?;
-    string[] binaryValue?;
-    int:Signed32 valueAsInt?;
-    int valueAsLong?;
-    decimal valueAsDouble?;
-    boolean valueAsBoolean?;
-    string textValue?;
-    string valueAsText?;
-    boolean array?;
-    record {} fields?;
-    boolean 'null?;
+    # The name of this hierarchy level.
+    string name?;
+    # The ID of the level above this one in the hierarchy. This property is deprecated, see [Change notice: Removing hierarchy level IDs from next-gen APIs](https://developer.atlassian.com/cloud/jira/platform/change-notice-removing-hierarchy-level-ids-from-next-gen-apis/).
+    int aboveLevelId?;
+    # The ID of the level below this one in the hierarchy. This property is deprecated, see [Change notice: Removing hierarchy level IDs from next-gen APIs](https://developer.atlassian.com/cloud/jira/platform/change-notice-removing-hierarchy-level-ids-from-next-gen-apis/).
+    int belowLevelId?;
+    # The ID of the project configuration. This property is deprecated, see [Change oticen: Removing hierarchy level IDs from next-gen APIs](https://developer.atlassian.com/cloud/jira/platform/change-notice-removing-hierarchy-level-ids-from-next-gen-apis/).
+    int projectConfigurationId?;
+    # The level of this item in the hierarchy.
+    int:Signed32 level?;
+    # The issue types available in this hierarchy level.
+    int[] issueTypeIds?;
+    # The external UUID of the hierarchy level. This property is deprecated, see [Change notice: Removing hierarchy level IDs from next-gen APIs](https://developer.atlassian.com/cloud/jira/platform/change-notice-removing-hierarchy-level-ids-from-next-gen-apis/).
+    string externalUuid?;
+    "SUBTASK"|"BASE"|"EPIC" globalHierarchyLevel?;
 |};
 
-public type IssueTypeCreateBean record {|
-    # The unique name for the issue type. The maximum length is 60 characters.
-    string name;
-    # The description of the issue type.
-    string description?;
-    # Whether the issue type is `subtype` or `standard`. Defaults to `standard`.
-    "subtask"|"standard" 'type?;
+# The project issue type hierarchy.
+public type Hierarchy record {|
+    # The ID of the base level. This property is deprecated, see [Change notice: Removing hierarchy level IDs from next-gen APIs](https://developer.atlassian.com/cloud/jira/platform/change-notice-removing-hierarchy-level-ids-from-next-gen-apis/).
+    int baseLevelId?;
+    # Details about the hierarchy level.
+    HierarchyLevel[] levels?;
 |};
 
-# Details about a created issue or subtask.
-public type CreatedIssue record {|
-    # The ID of the created issue or subtask.
-    string id?;
-    # The key of the created issue or subtask.
-    string 'key?;
-    # The URL of the created issue or subtask.
+# A project category.
+public type ProjectCategory record {|
+    # The URL of the project category.
     string self?;
-    # The response code and messages related to any requested transition.
-    NestedResponse transition?;
-|};
-
-public type ProjectInputBean record {|
-    # Project keys must be unique and start with an uppercase letter followed by one or more uppercase alphanumeric characters. The maximum length is 10 characters. Required when creating a project. Optional when updating a project.
-    string 'key?;
-    # The name of the project. Required when creating a project. Optional when updating a project.
+    # The ID of the project category.
+    string id?;
+    # The name of the project category. Required on create, optional on update.
     string name?;
-    # The [project type](https://confluence.atlassian.com/x/GwiiLQ#Jiraapplicationsoverview-Productfeaturesandprojecttypes), which dictates the application-specific feature set. Required when creating a project. Not applicable for the Update project resource.
-    "software"|"service_desk"|"business" projectTypeKey?;
-    # A prebuilt configuration for a project. The type of the `projectTemplateKey` must match with the type of the `projectTypeKey`. Required when creating a project. Not applicable for the Update project resource.
-    "com.pyxis.greenhopper.jira:gh-simplified-agility-kanban"|"com.pyxis.greenhopper.jira:gh-simplified-agility-scrum"|"com.pyxis.greenhopper.jira:gh-simplified-basic"|"com.pyxis.greenhopper.jira:gh-simplified-kanban-classic"|"com.pyxis.greenhopper.jira:gh-simplified-scrum-classic"|"com.atlassian.servicedesk:simplified-it-service-desk"|"com.atlassian.servicedesk:simplified-internal-service-desk"|"com.atlassian.servicedesk:simplified-external-service-desk"|"com.atlassian.servicedesk:simplified-hr-service-desk"|"com.atlassian.servicedesk:simplified-facilities-service-desk"|"com.atlassian.jira-core-project-templates:jira-core-simplified-content-management"|"com.atlassian.jira-core-project-templates:jira-core-simplified-document-approval"|"com.atlassian.jira-core-project-templates:jira-core-simplified-lead-tracking"|"com.atlassian.jira-core-project-templates:jira-core-simplified-process-control"|"com.atlassian.jira-core-project-templates:jira-core-simplified-procurement"|"com.atlassian.jira-core-project-templates:jira-core-simplified-project-management"|"com.atlassian.jira-core-project-templates:jira-core-simplified-recruitment"|"com.atlassian.jira-core-project-templates:jira-core-simplified-task-" projectTemplateKey?;
-    # A brief description of the project.
+    # The description of the project category.
     string description?;
-    # This parameter is deprecated because of privacy changes. Use `leadAccountId` instead. See the [migration guide](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details. The user name of the project lead. Either `lead` or `leadAccountId` must be set when creating a project. Optional when updating a project. Cannot be provided with `leadAccountId`.
-    string lead?;
-    # The account ID of the project lead. Either `lead` or `leadAccountId` must be set when creating a project. Optional when updating a project. Cannot be provided with `lead`.
-    @constraint:String {maxLength: 128}
-    string leadAccountId?;
-    # A link to information about this project, such as project documentation
-    string url?;
-    # The default assignee when creating issues for this project.
-    "PROJECT_LEAD"|"UNASSIGNED" assigneeType?;
-    # An integer value for the project's avatar.
-    int avatarId?;
-    # The ID of the issue security scheme for the project, which enables you to control who can and cannot view issues. Use the [Get issue security schemes](#api-rest-api-2-issuesecurityschemes-get) resource to get all issue security scheme IDs.
-    int issueSecurityScheme?;
-    # The ID of the permission scheme for the project. Use the [Get all permission schemes](#api-rest-api-2-permissionscheme-get) resource to see a list of all permission scheme IDs.
-    int permissionScheme?;
-    # The ID of the notification scheme for the project. Use the [Get notification schemes](#api-rest-api-2-notificationscheme-get) resource to get a list of notification scheme IDs.
-    int notificationScheme?;
-    # The ID of the project's category. A complete list of category IDs is found using the [Get all project categories](#api-rest-api-2-projectCategory-get) operation.
-    int categoryId?;
 |};
 
-public type ConnectModules record {
-    # A list of app modules in the same format as the `modules` property in the
-    # [app descriptor](https://developer.atlassian.com/cloud/jira/platform/app-descriptor/).
-    ConnectModule[] modules;
-};
+# Additional details about a project.
+public type ProjectInsight record {|
+    # Total issue count.
+    int totalIssueCount?;
+    # The last issue update time.
+    string lastIssueUpdateTime?;
+|};
 
-# Details about a task.
-public type TaskProgressBeanRemoveOptionFromIssuesResult record {|
-    # The URL of the task.
-    string self;
-    # The ID of the task.
-    string id;
-    # The description of the task.
-    string description?;
-    # The status of the task.
-    "ENQUEUED"|"RUNNING"|"COMPLETE"|"FAILED"|"CANCEL_REQUESTED"|"CANCELLED"|"DEAD" status;
-    # Information about the progress of the task.
-    string message?;
-    # The result of the task execution.
-    RemoveOptionFromIssuesResult result?;
-    # The ID of the user who submitted the task.
-    int submittedBy;
-    # The progress of the task, as a percentage complete.
-    int progress;
-    # The execution time of the task, in milliseconds.
-    int elapsedRuntime;
-    # A timestamp recording when the task was submitted.
-    int submitted;
-    # A timestamp recording when the task was started.
-    int started?;
-    # A timestamp recording when the task was finished.
-    int finished?;
-    # A timestamp recording when the task progress was last updated.
-    int lastUpdate;
+# Permissions which a user has on a project.
+public type ProjectPermissions record {|
+    # Whether the logged user can edit the project.
+    boolean canEdit?;
 |};
 
-# Default values to update.
-public type CustomFieldContextDefaultValueUpdate record {|
-    CustomFieldContextDefaultValue[] defaultValues?;
+# Details about the operations available in this version.
+public type SimpleLink record {|
+    string id?;
+    string styleClass?;
+    string iconClass?;
+    string label?;
+    string title?;
+    string href?;
+    int:Signed32 weight?;
 |};
 
-# The workflow conditions tree.
-public type WorkflowConditionBean WorkflowSimpleCondition|WorkflowCompoundCondition;
+# Counts of the number of issues in various statuses.
+public type VersionIssuesStatus record {
+    # Count of issues with a status other than *to do*, *in progress*, and *done*.
+    int unmapped?;
+    # Count of issues with status *to do*.
+    int toDo?;
+    # Count of issues with status *in progress*.
+    int inProgress?;
+    # Count of issues with status *done*.
+    int done?;
+};
 
-public type StringArrayNotFound record {|
-    *http:NotFound;
-    string[] body;
+# Details about a project version.
+public type Version record {|
+    # Use [expand](em>#expansion) to include additional information about version in the response. This parameter accepts a comma-separated list. Expand options include:
+    #
+    #  *  `operations` Returns the list of operations available for this version.
+    #  *  `issuesstatus` Returns the count of issues in this version for each of the status categories *to do*, *in progress*, *done*, and *unmapped*. The *unmapped* property contains a count of issues with a status other than *to do*, *in progress*, and *done*.
+    #
+    # Optional for create and update.
+    string expand?;
+    # The URL of the version.
+    string self?;
+    # The ID of the version.
+    string id?;
+    # The description of the version. Optional when creating or updating a version.
+    string description?;
+    # The unique name of the version. Required when creating a version. Optional when updating a version. The maximum length is 255 characters.
+    string name?;
+    # Indicates that the version is archived. Optional when creating or updating a version.
+    boolean archived?;
+    # Indicates that the version is released. If the version is released a request to release again is ignored. Not applicable when creating a version. Optional when updating a version.
+    boolean released?;
+    # The start date of the version. Expressed in ISO 8601 format (yyyy-mm-dd). Optional when creating or updating a version.
+    string startDate?;
+    # The release date of the version. Expressed in ISO 8601 format (yyyy-mm-dd). Optional when creating or updating a version.
+    string releaseDate?;
+    # Indicates that the version is overdue.
+    boolean overdue?;
+    # The date on which work on this version is expected to start, expressed in the instance's *Day/Month/Year Format* date format.
+    string userStartDate?;
+    # The date on which work on this version is expected to finish, expressed in the instance's *Day/Month/Year Format* date format.
+    string userReleaseDate?;
+    # Deprecated. Use `projectId`.
+    string project?;
+    # The ID of the project to which this version is attached. Required when creating a version. Not applicable when updating a version.
+    int projectId?;
+    # The URL of the self link to the version to which all unfixed issues are moved when a version is released. Not applicable when creating a version. Optional when updating a version.
+    string moveUnfixedIssuesTo?;
+    # If the expand option `operations` is used, returns the list of operations available for this version.
+    SimpleLink[] operations?;
+    # If the expand option `issuesstatus` is used, returns the count of issues in this version for each of the status categories *to do*, *in progress*, *done*, and *unmapped*. The *unmapped* property contains a count of issues with a status other than *to do*, *in progress*, and *done*.
+    VersionIssuesStatus issuesStatusForFixVersion?;
 |};
 
-# Details about a next-gen project.
-public type ProjectForScope record {|
+# Details about a project.
+public type Project record {|
+    # Expand options that include additional project details in the response.
+    string expand?;
     # The URL of the project details.
     string self?;
     # The ID of the project.
     string id?;
     # The key of the project.
     string 'key?;
+    # A brief description of the project.
+    string description?;
+    # The username of the project lead.
+    User lead?;
+    # List of the components contained in the project.
+    Component[] components?;
+    # List of the issue types available in the project.
+    IssueTypeDetails[] issueTypes?;
+    # A link to information about this project, such as project documentation.
+    string url?;
+    # An email address associated with the project.
+    string email?;
+    # The default assignee when creating issues for this project.
+    "PROJECT_LEAD"|"UNASSIGNED" assigneeType?;
+    # The versions defined in the project. For more information, see [Create version](#api-rest-api-2-version-post).
+    Version[] versions?;
     # The name of the project.
     string name?;
-    # The [project type](https://confluence.atlassian.com/x/GwiiLQ#Jiraapplicationsoverview-Productfeaturesandprojecttypes) of the project.
-    "software"|"service_desk"|"business" projectTypeKey?;
-    # Whether or not the project is simplified.
-    boolean simplified?;
+    # The name and self URL for each role defined in the project. For more information, see [Create project role](#api-rest-api-2-role-post).
+    record {|string...;|} roles?;
     # The URLs of the project's avatars.
     AvatarUrlsBean avatarUrls?;
     # The category the project belongs to.
-    UpdatedProjectCategory projectCategory?;
+    ProjectCategory projectCategory?;
+    # The [project type](https://confluence.atlassian.com/x/GwiiLQ#Jiraapplicationsoverview-Productfeaturesandprojecttypes) of the project.
+    "software"|"service_desk"|"business" projectTypeKey?;
+    # Whether the project is simplified.
+    boolean simplified?;
+    # The type of the project.
+    "classic"|"next-gen" style?;
+    # Whether the project is selected as a favorite.
+    boolean favourite?;
+    # Whether the project is private.
+    boolean isPrivate?;
+    # The issue type hierarchy for the project.
+    Hierarchy issueTypeHierarchy?;
+    # User permissions on the project
+    ProjectPermissions permissions?;
+    # Map of project properties
+    record {} properties?;
+    # Unique ID for next-gen projects.
+    string uuid?;
+    # Insights about the project.
+    ProjectInsight insight?;
+    # Whether the project is marked as deleted.
+    boolean deleted?;
+    # The date when the project is deleted permanently.
+    string retentionTillDate?;
+    # The date when the project was marked as deleted.
+    string deletedDate?;
+    # The user who marked the project as deleted.
+    User deletedBy?;
+    # Whether the project is archived.
+    boolean archived?;
+    # The date when the project was archived.
+    string archivedDate?;
+    # The user who archived the project.
+    User archivedBy?;
 |};
 
-# A page of items.
-public type PageBeanContextForProjectAndIssueType record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    ContextForProjectAndIssueType[] values?;
+# Details of the group associated with the role.
+public type ProjectRoleGroup record {|
+    # The display name of the group.
+    string displayName?;
+    # The name of the group
+    string name?;
 |};
 
-# Details of a parsed JQL query.
-public type ParsedJqlQuery record {|
-    # The JQL query that was parsed and validated.
-    string query;
-    # The syntax tree of the query. Empty if the query was invalid.
-    JqlQuery structure?;
-    # The list of syntax or validation errors.
-    string[] errors?;
+# Details of the user associated with the role.
+public type ProjectRoleUser record {|
+    # The account ID of the user, which uniquely identifies the user across all Atlassian products. For example, *5b10ac8d82e05b22cc7d4ef5*. Returns *unknown* if the record is deleted and corrupted, for example, as the result of a server import.
+    @constraint:String {maxLength: 128}
+    string accountId?;
 |};
 
-# A page of items.
-public type PageBeanFilterDetails record {|
-    # The URL of the page.
+# Details about a user assigned to a project role.
+public type RoleActor record {|
+    # The ID of the role actor.
+    int id?;
+    # The display name of the role actor. For users, depending on the user’s privacy setting, this may return an alternative value for the user's name.
+    string displayName?;
+    # The type of role actor.
+    "atlassian-group-role-actor"|"atlassian-user-role-actor" 'type?;
+    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
+    string name?;
+    # The avatar of the role actor.
+    string avatarUrl?;
+    ProjectRoleUser actorUser?;
+    ProjectRoleGroup actorGroup?;
+|};
+
+# Details about the roles in a project.
+public type ProjectRole record {|
+    # The URL the project role details.
     string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    FilterDetails[] values?;
+    # The name of the project role.
+    string name?;
+    # The ID of the project role.
+    int id?;
+    # The description of the project role.
+    string description?;
+    # The list of users who act in this role.
+    RoleActor[] actors?;
+    # The scope of the role. Indicated for roles associated with [next-gen projects](https://confluence.atlassian.com/x/loMyO).
+    Scope scope?;
+    # The translated name of the project role.
+    string translatedName?;
+    # Whether the calling user is part of this role.
+    boolean currentUserRole?;
+    # Whether the roles are configurable for this project.
+    boolean roleConfigurable?;
+    # Whether this role is the admin role for the project.
+    boolean admin?;
+    # Whether this role is the default role for the project
+    boolean default?;
 |};
 
-# Container for a list of audit records.
-public type AuditRecords record {|
-    # The number of audit items skipped before the first item in this list.
-    int:Signed32 offset?;
-    # The requested or default limit on the number of audit items to be returned.
-    int:Signed32 'limit?;
-    # The total number of audit items returned.
-    int total?;
-    # The list of audit items.
-    AuditRecordBean[] records?;
+# Details of a share permission for the filter.
+public type SharePermission record {|
+    # The unique identifier of the share permission.
+    int id?;
+    # The type of share permission:
+    #
+    #  *  `group` Shared with a group. If set in a request, then specify `sharePermission.group` as well.
+    #  *  `project` Shared with a project. If set in a request, then specify `sharePermission.project` as well.
+    #  *  `projectRole` Share with a project role in a project. This value is not returned in responses. It is used in requests, where it needs to be specify with `projectId` and `projectRoleId`.
+    #  *  `global` Shared globally. If set in a request, no other `sharePermission` properties need to be specified.
+    #  *  `loggedin` Shared with all logged-in users. Note: This value is set in a request by specifying `authenticated` as the `type`.
+    #  *  `project-unknown` Shared with a project that the user does not have access to. Cannot be set in a request.
+    "group"|"project"|"projectRole"|"global"|"loggedin"|"authenticated"|"project-unknown" 'type;
+    # The project that the filter is shared with. This is similar to the project object returned by [Get project](#api-rest-api-2-project-projectIdOrKey-get) but it contains a subset of the properties, which are: `self`, `id`, `key`, `assigneeType`, `name`, `roles`, `avatarUrls`, `projectType`, `simplified`.
+    # For a request, specify the `id` for the project.
+    Project project?;
+    # The project role that the filter is shared with.
+    # For a request, specify the `id` for the role. You must also specify the `project` object and `id` for the project that the role is in.
+    ProjectRole role?;
+    # The group that the filter is shared with. For a request, specify the `name` property for the group.
+    GroupName group?;
 |};
 
-# List of permission grants.
-public type PermissionGrants record {|
-    # Permission grants list.
-    PermissionGrant[] permissions?;
-    # Expand options that include additional permission grant details in the response.
-    string expand?;
+public type UserBeanAvatarUrls record {|
+    # The URL of the user's 16x16 pixel avatar.
+    string '16x16?;
+    # The URL of the user's 24x24 pixel avatar.
+    string '24x24?;
+    # The URL of the user's 32x32 pixel avatar.
+    string '32x32?;
+    # The URL of the user's 48x48 pixel avatar.
+    string '48x48?;
 |};
 
-# Details of the issue creation metadata for a project.
-public type ProjectIssueCreateMetadata record {|
-    # Expand options that include additional project issue create metadata details in the response.
-    string expand?;
-    # The URL of the project.
+public type UserBean record {|
+    # This property is deprecated in favor of `accountId` because of privacy changes. See the [migration guide](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
+    # The key of the user.
+    string 'key?;
+    # The URL of the user.
     string self?;
-    # The ID of the project.
+    # This property is deprecated in favor of `accountId` because of privacy changes. See the [migration guide](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
+    # The username of the user.
+    string name?;
+    # The display name of the user. Depending on the user’s privacy setting, this may return an alternative value.
+    string displayName?;
+    # Whether the user is active.
+    boolean active?;
+    # The account ID of the user, which uniquely identifies the user across all Atlassian products. For example, *5b10ac8d82e05b22cc7d4ef5*.
+    @constraint:String {maxLength: 128}
+    string accountId?;
+    # The avatars of the user.
+    UserBeanAvatarUrls avatarUrls?;
+|};
+
+# Details of a dashboard.
+public type Dashboard record {|
+    string description?;
+    # The ID of the dashboard.
     string id?;
-    # The key of the project.
-    string 'key?;
-    # The name of the project.
+    # Whether the dashboard is selected as a favorite by the user.
+    boolean isFavourite?;
+    # The name of the dashboard.
     string name?;
-    # List of the project's avatars, returning the avatar size and associated URL.
-    AvatarUrlsBean avatarUrls?;
-    # List of the issue types supported by the project.
-    IssueTypeIssueCreateMetadata[] issuetypes?;
+    # The owner of the dashboard.
+    UserBean owner?;
+    # The number of users who have this dashboard as a favorite.
+    int popularity?;
+    # The rank of this dashboard.
+    int:Signed32 rank?;
+    # The URL of these dashboard details.
+    string self?;
+    # The details of any share permissions for the dashboard.
+    SharePermission[] sharePermissions?;
+    # The URL of the dashboard.
+    string view?;
+|};
+
+# Details of a dashboard.
+public type DashboardDetails record {|
+    # The name of the dashboard.
+    string name;
+    # The description of the dashboard.
+    string description?;
+    # The details of any share permissions for the dashboard.
+    SharePermission[] sharePermissions;
 |};
 
-# A page of items.
-public type PageBeanChangelog record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    Changelog[] values?;
+public type DashboardOk record {|
+    *http:Ok;
+    Dashboard body;
 |};
 
-# A clause that asserts whether a field was changed. For example, `status CHANGED AFTER startOfMonth(-1M)`.See [CHANGED](https://confluence.atlassian.com/x/dgiiLQ#Advancedsearching-operatorsreference-CHANGEDCHANGED) for more information about the CHANGED operator.
-public type FieldChangedClause record {
-    JqlQueryField 'field;
-    # The operator applied to the field.
-    "changed" operator;
-    # The list of time predicates.
-    JqlQueryClauseTimePredicate[] predicates;
-};
+# Details of the scope of the default sharing for new filters and dashboards.
+public type DefaultShareScope record {|
+    # The scope of the default sharing for new filters and dashboards:
+    #
+    #  *  `AUTHENTICATED` Shared with all logged-in users.
+    #  *  `GLOBAL` Shared with all logged-in users. This shows as `AUTHENTICATED` in the response.
+    #  *  `PRIVATE` Not shared with any users.
+    "GLOBAL"|"AUTHENTICATED"|"PRIVATE" scope;
+|};
 
-# Metadata for an item in an attachment archive.
-public type AttachmentArchiveItemReadable record {|
-    # The path of the archive item.
-    string path?;
-    # The position of the item within the archive.
-    int index?;
-    # The size of the archive item.
-    string size?;
-    # The MIME type of the archive item.
-    string mediaType?;
-    # The label for the archive item.
-    string label?;
+# Details about the default workflow.
+public type DefaultWorkflow record {|
+    # The name of the workflow to set as the default workflow.
+    string workflow;
+    # Whether a draft workflow scheme is created or updated when updating an active workflow scheme. The draft is updated with the new default workflow. Defaults to `false`.
+    boolean updateDraftIfNeeded?;
 |};
 
-# The application the linked item is in.
-public type Application record {
-    # The name-spaced type of the application, used by registered rendering apps.
-    string 'type?;
-    # The name of the application. Used in conjunction with the (remote) object icon title to display a tooltip for the link's icon. The tooltip takes the format "\[application name\] icon title". Blank items are excluded from the tooltip title. If both items are blank, the icon tooltop displays as "Web Link". Grouping and sorting of links may place links without an application name last.
-    string name?;
-};
+public type DeleteAndReplaceVersionBean record {|
+    # The ID of the version to update `fixVersion` to when the field contains the deleted version.
+    int moveFixIssuesTo?;
+    # The ID of the version to update `affectedVersion` to when the field contains the deleted version.
+    int moveAffectedIssuesTo?;
+    # An array of custom field IDs (`customFieldId`) and version IDs (`moveTo`) to update when the fields contain the deleted version.
+    CustomFieldReplacement[] customFieldReplacementList?;
+|};
 
-# Details of a filter.
-public type FilterDetails record {|
-    # The URL of the filter.
-    string self?;
-    # The unique identifier for the filter.
-    string id?;
-    # The name of the filter. Must be unique.
-    string name;
-    # A description of the filter.
+# Details about a workflow.
+public type DeprecatedWorkflow record {|
+    # The name of the workflow.
+    string name?;
+    # The description of the workflow.
     string description?;
-    # The user who owns the filter. This is defaulted to the creator of the filter, however Jira administrators can change the owner of a shared filter in the admin settings.
-    User owner?;
-    # The JQL query for the filter. For example, *project = SSP AND issuetype = Bug*.
-    string jql?;
-    # A URL to view the filter results in Jira, using the ID of the filter. For example, *https://your-domain.atlassian.net/issues/?filter=10100*.
-    string viewUrl?;
-    # A URL to view the filter results in Jira, using the [Search for issues using JQL](#api-rest-api-2-filter-search-get) operation with the filter's JQL string to return the filter results. For example, *https://your-domain.atlassian.net/rest/api/2/search?jql=project+%3D+SSP+AND+issuetype+%3D+Bug*.
-    string searchUrl?;
-    # Whether the filter is selected as a favorite by any users, not including the filter owner.
-    boolean favourite?;
-    # The count of how many users have selected this filter as a favorite, including the filter owner.
-    int favouritedCount?;
-    # The groups and projects that the filter is shared with. This can be specified when updating a filter, but not when creating a filter.
-    SharePermission[] sharePermissions?;
-    # The users that are subscribed to the filter.
-    FilterSubscription[] subscriptions?;
+    # The datetime the workflow was last modified.
+    string lastModifiedDate?;
+    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
+    string lastModifiedUser?;
+    # The account ID of the user that last modified the workflow.
+    string lastModifiedUserAccountId?;
+    # The number of steps included in the workflow.
+    int:Signed32 steps?;
+    # The scope where this workflow applies
+    Scope scope?;
+    boolean default?;
 |};
 
-public type ErrorCollectionUnauthorized record {|
-    *http:Unauthorized;
+public type ErrorCollectionBadRequest record {|
+    *http:BadRequest;
     ErrorCollection body;
 |};
 
-public type ProjectScopeBean record {|
-    # The ID of the project that the option's behavior applies to.
-    int id?;
-    # Defines the behavior of the option in the project.If notSelectable is set, the option cannot be set as the field's value. This is useful for archiving an option that has previously been selected but shouldn't be used anymore.If defaultValue is set, the option is selected by default.
-    ("notSelectable"|"defaultValue")[] attributes?;
+public type ErrorCollectionForbidden record {|
+    *http:Forbidden;
+    ErrorCollection body;
 |};
 
-# Details about a notification scheme.
-public type NotificationScheme record {|
-    # Expand options that include additional notification scheme details in the response.
-    string expand?;
-    # The ID of the notification scheme.
-    int id?;
-    string self?;
-    # The name of the notification scheme.
-    string name?;
-    # The description of the notification scheme.
-    string description?;
-    # The notification events and associated recipients.
-    NotificationSchemeEvent[] notificationSchemeEvents?;
-    # The scope of the notification scheme.
-    Scope scope?;
+public type ErrorCollectionNotFound record {|
+    *http:NotFound;
+    ErrorCollection body;
 |};
 
-public type UserBeanAvatarUrls record {|
-    # The URL of the user's 16x16 pixel avatar.
-    string '16x16?;
-    # The URL of the user's 24x24 pixel avatar.
-    string '24x24?;
-    # The URL of the user's 32x32 pixel avatar.
-    string '32x32?;
-    # The URL of the user's 48x48 pixel avatar.
-    string '48x48?;
+public type ErrorCollectionUnauthorized record {|
+    *http:Unauthorized;
+    ErrorCollection body;
 |};
 
-# A page of items.
-public type PageBeanIssueTypeSchemeProjects record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    IssueTypeSchemeProjects[] values?;
+public type ErrorMessage record {|
+    # The error message.
+    string message;
 |};
 
-# Details of the time tracking configuration.
-public type TimeTrackingConfiguration record {|
-    # The number of hours in a working day.
-    decimal workingHoursPerDay;
-    # The number of days in a working week.
-    decimal workingDaysPerWeek;
-    # The format that will appear on an issue's *Time Spent* field.
-    "pretty"|"days"|"hours" timeFormat;
-    # The default unit of time applied to logged time.
-    "minute"|"hour"|"day"|"week" defaultUnit;
+public type ErrorMessageBadRequest record {|
+    *http:BadRequest;
+    ErrorMessage body;
 |};
 
-# JQL queries that contained users that could not be found
-public type JQLQueryWithUnknownUsers record {|
-    # The original query, for reference
-    string originalQuery?;
-    # The converted query, with accountIDs instead of user identifiers, or 'unknown' for users that could not be found
-    string convertedQuery?;
+public type ErrorMessageUnauthorized record {|
+    *http:Unauthorized;
+    ErrorMessage body;
 |};
 
-public type AttachmentArchiveEntry record {|
-    string mediaType?;
-    int entryIndex?;
-    string abbreviatedName?;
-    string name?;
-    int size?;
+# The schema of a field.
+public type JsonTypeBean record {|
+    # The data type of the field.
+    string 'type;
+    # When the data type is an array, the name of the field items within the array.
+    string items?;
+    # If the field is a system field, the name of the field.
+    string system?;
+    # If the field is a custom field, the URI of the field.
+    string custom?;
+    # If the field is a custom field, the custom ID of the field.
+    int customId?;
+    # If the field is a custom field, the configuration of the field.
+    record {} configuration?;
 |};
 
-# A page of items.
-public type PageBeanNotificationScheme record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    NotificationScheme[] values?;
+# Details about a field.
+public type FieldDetails record {|
+    # The ID of the field.
+    string id?;
+    # The key of the field.
+    string 'key?;
+    # The name of the field.
+    string name?;
+    # Whether the field is a custom field.
+    boolean custom?;
+    # Whether the content of the field can be used to order lists.
+    boolean orderable?;
+    # Whether the field can be used as a column on the issue navigator.
+    boolean navigable?;
+    # Whether the content of the field can be searched.
+    boolean searchable?;
+    # The names that can be used to reference the field in an advanced search. For more information, see [Advanced searching - fields reference](https://confluence.atlassian.com/x/gwORLQ).
+    string[] clauseNames?;
+    # The scope of the field.
+    Scope scope?;
+    # The data schema for the field.
+    JsonTypeBean schema?;
 |};
 
-# The identifiers for a project.
-public type ProjectIdentifierBean record {|
-    # The ID of the project.
+# Details about a notification associated with an event.
+public type EventNotification record {|
+    # Expand options that include additional event notification details in the response.
+    string expand?;
+    # The ID of the notification.
     int id?;
-    # The key of the project.
-    string 'key?;
+    # Identifies the recipients of the notification.
+    "CurrentAssignee"|"Reporter"|"CurrentUser"|"ProjectLead"|"ComponentLead"|"User"|"Group"|"ProjectRole"|"EmailAddress"|"AllWatchers"|"UserCustomField"|"GroupCustomField" notificationType?;
+    # The value of the `notificationType`:
+    #
+    #  *  `User` The `parameter` is the user account ID.
+    #  *  `Group` The `parameter` is the group name.
+    #  *  `ProjectRole` The `parameter` is the project role ID.
+    #  *  `UserCustomField` The `parameter` is the ID of the custom field.
+    #  *  `GroupCustomField` The `parameter` is the ID of the custom field.
+    string 'parameter?;
+    # The specified group.
+    GroupName group?;
+    # The custom user or group field.
+    FieldDetails 'field?;
+    # The email address.
+    string emailAddress?;
+    # The specified project role.
+    ProjectRole projectRole?;
+    # The specified user.
+    UserDetails user?;
 |};
 
-# Details of an operand in a JQL clause.
-public type JqlQueryClauseOperand ListOperand|ValueOperand|FunctionOperand|KeywordOperand;
-
 # Details about a failed webhook.
 public type FailedWebhook record {|
     # The webhook ID, as sent in the `X-Atlassian-Webhook-Identifier` header with the webhook.
@@ -3214,919 +3158,944 @@ public type FailedWebhook record {|
     int failureTime;
 |};
 
-# The details of an issue type screen scheme.
-public type IssueTypeScreenSchemeDetails record {|
-    # The name of the issue type screen scheme. The name must be unique. The maximum length is 255 characters.
-    string name;
-    # The description of the issue type screen scheme. The maximum length is 255 characters.
-    string description?;
-    # The IDs of the screen schemes for the issue type IDs and *default*. A *default* entry is required to create an issue type screen scheme, it defines the mapping for all issue types without a screen scheme.
-    IssueTypeScreenSchemeMapping[] issueTypeMappings;
-|};
-
-# An associated workflow scheme and project.
-public type WorkflowSchemeProjectAssociation record {|
-    # The ID of the workflow scheme. If the workflow scheme ID is `null`, the operation assigns the default workflow scheme.
-    string workflowSchemeId?;
-    # The ID of the project.
-    string projectId;
-|};
-
-# Details about the time tracking provider.
-public type TimeTrackingProvider record {|
-    # The key for the time tracking provider. For example, *JIRA*.
-    string 'key;
-    # The name of the time tracking provider. For example, *JIRA provided time tracking*.
-    string name?;
-    # The URL of the configuration page for the time tracking provider app. For example, */example/config/url*. This property is only returned if the `adminPageKey` property is set in the module descriptor of the time tracking provider app.
-    string url?;
+# A page of failed webhooks.
+public type FailedWebhooks record {|
+    # The list of webhooks.
+    FailedWebhook[] values;
+    # The maximum number of items on the page. If the list of values is shorter than this number, then there are no more pages.
+    int:Signed32 maxResults;
+    # The URL to the next page of results. Present only if the request returned at least one result.The next page may be empty at the time of receiving the response, but new failed webhooks may appear in time. You can save the URL to the next page and query for new results periodically (for example, every hour).
+    string next?;
 |};
 
-# A page of items.
-public type PageBeanDashboard record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    Dashboard[] values?;
+# Information about the most recent use of a field.
+public type FieldLastUsed record {|
+    # Last used value type:
+    #
+    #  *  *TRACKED*: field is tracked and a last used date is available.
+    #  *  *NOT\_TRACKED*: field is not tracked, last used date is not available.
+    #  *  *NO\_INFORMATION*: field is tracked, but no last used date is available.
+    "TRACKED"|"NOT_TRACKED"|"NO_INFORMATION" 'type?;
+    # The date when the value of the field last changed.
+    string value?;
 |};
 
-# Details of a screen scheme.
-public type ScreenSchemeDetails record {|
-    # The name of the screen scheme. The name must be unique. The maximum length is 255 characters.
+# Details of a field.
+public type Field record {|
+    # The ID of the field.
+    string id;
+    # The name of the field.
     string name;
-    # The description of the screen scheme. The maximum length is 255 characters.
+    JsonTypeBean schema;
+    # The description of the field.
     string description?;
-    # The IDs of the screens for the screen types of the screen scheme. Only screens used in classic projects are accepted.
-    ScreenTypes screens;
-|};
-
-public type GlobalScopeBean record {|
-    # Defines the behavior of the option in the global context.If notSelectable is set, the option cannot be set as the field's value. This is useful for archiving an option that has previously been selected but shouldn't be used anymore.If defaultValue is set, the option is selected by default.
-    ("notSelectable"|"defaultValue")[] attributes?;
+    # The key of the field.
+    string 'key?;
+    # Whether the field is locked.
+    boolean isLocked?;
+    # The searcher key of the field. Returned for custom fields.
+    string searcherKey?;
+    # Number of screens where the field is used.
+    int screensCount?;
+    # Number of contexts where the field is used.
+    int contextsCount?;
+    FieldLastUsed lastUsed?;
 |};
 
-public type StringList record {|
+# Details of a field configuration.
+public type FieldConfiguration record {|
+    # The ID of the field configuration.
+    int id;
+    # The name of the field configuration.
+    string name;
+    # The description of the field configuration.
+    string description;
+    # Whether the field configuration is the default.
+    boolean isDefault?;
 |};
 
-# A group found in a search.
-public type FoundGroup record {|
-    # The name of the group.
-    string name?;
-    # The group name with the matched query string highlighted with the HTML bold tag.
-    string html?;
-    GroupLabel[] labels?;
-    # The ID of the group, if available, which uniquely identifies the group across all Atlassian products. For example, *952d12c3-5b5b-4d04-bb32-44d383afc4b2*.
-    string groupId?;
+# The field configuration for an issue type.
+public type FieldConfigurationIssueTypeItem record {|
+    # The ID of the field configuration scheme.
+    string fieldConfigurationSchemeId;
+    # The ID of the issue type or *default*. When set to *default* this field configuration issue type item applies to all issue types without a field configuration.
+    string issueTypeId;
+    # The ID of the field configuration.
+    string fieldConfigurationId;
 |};
 
-# Jira instance health check results. Deprecated and no longer returned.
-public type HealthCheckResult record {|
-    # The name of the Jira health check item.
-    string name?;
-    # The description of the Jira health check item.
+# A field within a field configuration.
+public type FieldConfigurationItem record {|
+    # The ID of the field within the field configuration.
+    string id;
+    # The description of the field within the field configuration.
     string description?;
-    # Whether the Jira health check item passed or failed.
-    boolean passed?;
-|};
-
-# Container for a request to toggle the state of the feature to ENABLED or DISABLED.
-public type ProjectFeatureToggleRequest record {|
-    # The new state for the feature
-    "ENABLED"|"DISABLED"|"COMING_SOON" state?;
-|};
-
-public type JsonBadRequest record {|
-    *http:BadRequest;
-    json body;
-|};
-
-# The IDs of the screens for the screen types of the screen scheme.
-public type UpdateScreenTypes record {|
-    # The ID of the edit screen. To remove the screen association, pass a null.
-    string edit?;
-    # The ID of the create screen. To remove the screen association, pass a null.
-    string create?;
-    # The ID of the view screen. To remove the screen association, pass a null.
-    string view?;
-    # The ID of the default screen. When specified, must include a screen ID as a default screen is required.
-    string default?;
+    # Whether the field is hidden in the field configuration.
+    boolean isHidden?;
+    # Whether the field is required in the field configuration.
+    boolean isRequired?;
 |};
 
-# Details of a workflow status.
-public type WorkflowStatus record {|
-    # The ID of the issue status.
+# Details of a field configuration scheme.
+public type FieldConfigurationScheme record {|
+    # The ID of the field configuration scheme.
     string id;
-    # The name of the status in the workflow.
+    # The name of the field configuration scheme.
     string name;
-    WorkflowStatusProperties properties?;
+    # The description of the field configuration scheme.
+    string description?;
 |};
 
-# A page of comments.
-public type PageOfComments record {
-    # The index of the first item returned.
-    int startAt?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The number of items returned.
-    int total?;
-    # The list of comments.
-    Comment[] comments?;
-};
+# Associated field configuration scheme and project.
+public type FieldConfigurationSchemeProjectAssociation record {|
+    # The ID of the field configuration scheme. If the field configuration scheme ID is `null`, the operation assigns the default field configuration scheme.
+    string fieldConfigurationSchemeId?;
+    # The ID of the project.
+    string projectId;
+|};
 
-# Details of global and project permissions granted to the user.
-public type BulkPermissionGrants record {|
-    # List of project permissions and the projects and issues those permissions provide access to.
-    BulkProjectPermissionGrants[] projectPermissions;
-    # List of permissions granted to the user.
-    string[] globalPermissions;
+# Project list with assigned field configuration schema.
+public type FieldConfigurationSchemeProjects record {|
+    FieldConfigurationScheme fieldConfigurationScheme?;
+    # The IDs of projects using the field configuration scheme.
+    string[] projectIds;
 |};
 
-public type JiraExpressionResultOk record {|
-    *http:Ok;
-    JiraExpressionResult body;
+# The metadata describing an issue field.
+public type FieldMetadata record {|
+    # Whether the field is required.
+    boolean required;
+    # The data type of the field.
+    JsonTypeBean schema;
+    # The name of the field.
+    string name;
+    # The key of the field.
+    string 'key;
+    # The URL that can be used to automatically complete the field.
+    string autoCompleteUrl?;
+    # Whether the field has a default value.
+    boolean hasDefaultValue?;
+    # The list of operations that can be performed on the field.
+    string[] operations;
+    # The list of values allowed in the field.
+    anydata[] allowedValues?;
+    # The default value of the field.
+    anydata defaultValue?;
 |};
 
-# Details about the analysed Jira expression.
-public type JiraExpressionsAnalysis record {|
-    # The results of Jira expressions analysis.
-    JiraExpressionAnalysis[] results;
+# Details of a field that can be used in advanced searches.
+public type FieldReferenceData record {|
+    # The field identifier.
+    string value?;
+    # The display name contains the following:
+    #
+    #  *  for system fields, the field name. For example, `Summary`.
+    #  *  for collapsed custom fields, the field name followed by a hyphen and then the field name and field type. For example, `Component - Component[Dropdown]`.
+    #  *  for other custom fields, the field name followed by a hyphen and then the custom field ID. For example, `Component - cf[10061]`.
+    string displayName?;
+    # Whether the field can be used in a query's `ORDER BY` clause.
+    "true"|"false" orderable?;
+    # Whether the content of this field can be searched.
+    "true"|"false" searchable?;
+    # Whether the field provide auto-complete suggestions.
+    "true"|"false" auto?;
+    # If the item is a custom field, the ID of the custom field.
+    string cfid?;
+    # The valid search operators for the field.
+    string[] operators?;
+    # The data types of items in the field.
+    string[] types?;
 |};
 
-# Details of a workflow transition.
-public type Transition record {|
-    # The ID of the transition.
-    string id;
-    # The name of the transition.
-    string name;
-    # The description of the transition.
-    string description;
-    # The statuses the transition can start from.
-    string[] 'from;
-    # The status the transition goes to.
-    string to;
-    # The type of the transition.
-    "global"|"initial"|"directed" 'type;
-    ScreenID screen?;
-    WorkflowRules rules?;
+# Details of an operation to perform on a field.
+public type FieldUpdateOperation record {|
+    # A map containing the name of a field and the value to add to it.
+    anydata add?;
+    # A map containing the name of a field and the value to set in it.
+    anydata set?;
+    # A map containing the name of a field and the value to removed from it.
+    anydata remove?;
+    # A map containing the name of a field and the value to edit in it.
+    anydata edit?;
 |};
 
-# A project category.
-public type UpdatedProjectCategory record {|
-    # The URL of the project category.
+# An issue priority.
+public type Priority record {
+    # The URL of the issue priority.
     string self?;
-    # The ID of the project category.
-    string id?;
-    # The name of the project category.
+    # The color used to indicate the issue priority.
+    string statusColor?;
+    # The description of the issue priority.
     string description?;
-    # The description of the project category.
+    # The URL of the icon for the issue priority.
+    string iconUrl?;
+    # The name of the issue priority.
     string name?;
-|};
+    # The ID of the issue priority.
+    string id?;
+};
 
-# Details about the analysed Jira expression.
-public type JiraExpressionAnalysis record {|
-    # The analysed expression.
-    string expression;
-    # A list of validation errors. Not included if the expression is valid.
-    JiraExpressionValidationError[] errors?;
-    # Whether the expression is valid and the interpreter will evaluate it. Note that the expression may fail at runtime (for example, if it executes too many expensive operations).
-    boolean valid;
-    # EXPERIMENTAL. The inferred type of the expression.
-    string 'type?;
-    JiraExpressionComplexity complexity?;
-|};
+# A status category.
+public type StatusCategory record {
+    # The URL of the status category.
+    string self?;
+    # The ID of the status category.
+    int id?;
+    # The key of the status category.
+    string 'key?;
+    # The name of the color used to represent the status category.
+    string colorName?;
+    # The name of the status category.
+    string name?;
+};
 
-public type ErrorMessage record {|
-    # The error message.
-    string message;
-|};
+# A status.
+public type StatusDetails record {
+    # The URL of the status.
+    string self?;
+    # The description of the status.
+    string description?;
+    # The URL of the icon used to represent the status.
+    string iconUrl?;
+    # The name of the status.
+    string name?;
+    # The ID of the status.
+    string id?;
+    # The category assigned to the status.
+    StatusCategory statusCategory?;
+};
 
-# Details of a locale.
-public type Locale record {|
-    # The locale code. The Java the locale format is used: a two character language code (ISO 639), an underscore, and two letter country code (ISO 3166). For example, en\_US represents a locale of English (United States). Required on create.
-    string locale?;
+# Time tracking details.
+public type TimeTrackingDetails record {|
+    # The original estimate of time needed for this issue in readable format.
+    string originalEstimate?;
+    # The remaining estimate of time needed for this issue in readable format.
+    string remainingEstimate?;
+    # Time worked on this issue in readable format.
+    string timeSpent?;
+    # The original estimate of time needed for this issue in seconds.
+    int originalEstimateSeconds?;
+    # The remaining estimate of time needed for this issue in seconds.
+    int remainingEstimateSeconds?;
+    # Time worked on this issue in seconds.
+    int timeSpentSeconds?;
 |};
 
-# Container for a list of registered webhooks. Webhook details are returned in the same order as the request.
-public type ContainerForRegisteredWebhooks record {|
-    # A list of registered webhooks.
-    RegisteredWebhook[] webhookRegistrationResult?;
+# Key fields from the linked issue.
+public type Fields record {|
+    # The summary description of the linked issue.
+    string summary?;
+    # The status of the linked issue.
+    StatusDetails status?;
+    # The priority of the linked issue.
+    Priority priority?;
+    # The assignee of the linked issue.
+    UserDetails assignee?;
+    # The time tracking of the linked issue.
+    TimeTrackingDetails timetracking?;
+    IssueTypeDetails issuetype?;
+    # The type of the linked issue.
+    IssueTypeDetails issueType?;
 |};
 
-public type UpdateUserToGroupBean record {
-    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
-    string name?;
-    # The account ID of the user, which uniquely identifies the user across all Atlassian products. For example, *5b10ac8d82e05b22cc7d4ef5*.
-    @constraint:String {maxLength: 128}
-    string accountId?;
-};
-
-# The converted JQL queries.
-public type ConvertedJQLQueries record {|
-    # The list of converted query strings with account IDs in place of user identifiers.
-    string[] queryStrings?;
-    # List of queries containing user information that could not be mapped to an existing user
-    JQLQueryWithUnknownUsers[] queriesWithUnknownUsers?;
+# Details of a user or group subscribing to a filter.
+public type FilterSubscription record {|
+    # The ID of the filter subscription.
+    int id?;
+    # The user subscribing to filter.
+    User user?;
+    # The group subscribing to filter.
+    GroupName group?;
 |};
 
-# An ordered list of issue type IDs and information about where to move them.
-public type OrderOfIssueTypes record {|
-    # A list of the issue type IDs to move. The order of the issue type IDs in the list is the order they are given after the move.
-    string[] issueTypeIds;
-    # The ID of the issue type to place the moved issue types after. Required if `position` isn't provided.
-    string after?;
-    # The position the issue types should be moved to. Required if `after` isn't provided.
-    "First"|"Last" position?;
+# A paginated list of subscriptions to a filter.
+public type FilterSubscriptionsList record {|
+    # The number of items on the page.
+    int:Signed32 size?;
+    # The list of items.
+    FilterSubscription[] items?;
+    # The maximum number of results that could be on the page.
+    int:Signed32 max\-results?;
+    # The index of the first item returned on the page.
+    int:Signed32 start\-index?;
+    # The index of the last item returned on the page.
+    int:Signed32 end\-index?;
 |};
 
-# The JQL queries to be converted.
-public type JQLPersonalDataMigrationRequest record {|
-    # A list of queries with user identifiers. Maximum of 100 queries.
-    string[] queryStrings?;
+# A paginated list of users sharing the filter. This includes users that are members of the groups or can browse the projects that the filter is shared with.
+public type UserList record {|
+    # The number of items on the page.
+    int:Signed32 size?;
+    # The list of items.
+    User[] items?;
+    # The maximum number of results that could be on the page.
+    int:Signed32 max\-results?;
+    # The index of the first item returned on the page.
+    int:Signed32 start\-index?;
+    # The index of the last item returned on the page.
+    int:Signed32 end\-index?;
 |};
 
-# A page of items.
-public type PageBeanFieldConfigurationScheme record {|
-    # The URL of the page.
+# Details about a filter.
+public type Filter record {|
+    # The URL of the filter.
     string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    FieldConfigurationScheme[] values?;
+    # The unique identifier for the filter.
+    string id?;
+    # The name of the filter. Must be unique.
+    string name;
+    # A description of the filter.
+    string description?;
+    # The user who owns the filter. This is defaulted to the creator of the filter, however Jira administrators can change the owner of a shared filter in the admin settings.
+    User owner?;
+    # The JQL query for the filter. For example, *project = SSP AND issuetype = Bug*.
+    string jql?;
+    # A URL to view the filter results in Jira, using the ID of the filter. For example, *https://your-domain.atlassian.net/issues/?filter=10100*.
+    string viewUrl?;
+    # A URL to view the filter results in Jira, using the [Search for issues using JQL](#api-rest-api-2-filter-search-get) operation with the filter's JQL string to return the filter results. For example, *https://your-domain.atlassian.net/rest/api/2/search?jql=project+%3D+SSP+AND+issuetype+%3D+Bug*.
+    string searchUrl?;
+    # Whether the filter is selected as a favorite.
+    boolean favourite?;
+    # The count of how many users have selected this filter as a favorite, including the filter owner.
+    int favouritedCount?;
+    # The groups and projects that the filter is shared with.
+    SharePermission[] sharePermissions?;
+    # A paginated list of the users that the filter is shared with. This includes users that are members of the groups or can browse the projects that the filter is shared with.
+    UserList sharedUsers?;
+    # A paginated list of the users that are subscribed to the filter.
+    FilterSubscriptionsList subscriptions?;
 |};
 
-# Details about the mapping between issue types and a workflow.
-public type IssueTypesWorkflowMapping record {|
-    # The name of the workflow. Optional if updating the workflow-issue types mapping.
-    string workflow?;
-    # The list of issue type IDs.
-    string[] issueTypes?;
-    # Whether the workflow is the default workflow for the workflow scheme.
-    boolean defaultMapping?;
-    # Whether a draft workflow scheme is created or updated when updating an active workflow scheme. The draft is updated with the new workflow-issue types mapping. Defaults to `false`.
-    boolean updateDraftIfNeeded?;
+# Details of a filter.
+public type FilterDetails record {|
+    # The URL of the filter.
+    string self?;
+    # The unique identifier for the filter.
+    string id?;
+    # The name of the filter. Must be unique.
+    string name;
+    # A description of the filter.
+    string description?;
+    # The user who owns the filter. This is defaulted to the creator of the filter, however Jira administrators can change the owner of a shared filter in the admin settings.
+    User owner?;
+    # The JQL query for the filter. For example, *project = SSP AND issuetype = Bug*.
+    string jql?;
+    # A URL to view the filter results in Jira, using the ID of the filter. For example, *https://your-domain.atlassian.net/issues/?filter=10100*.
+    string viewUrl?;
+    # A URL to view the filter results in Jira, using the [Search for issues using JQL](#api-rest-api-2-filter-search-get) operation with the filter's JQL string to return the filter results. For example, *https://your-domain.atlassian.net/rest/api/2/search?jql=project+%3D+SSP+AND+issuetype+%3D+Bug*.
+    string searchUrl?;
+    # Whether the filter is selected as a favorite by any users, not including the filter owner.
+    boolean favourite?;
+    # The count of how many users have selected this filter as a favorite, including the filter owner.
+    int favouritedCount?;
+    # The groups and projects that the filter is shared with. This can be specified when updating a filter, but not when creating a filter.
+    SharePermission[] sharePermissions?;
+    # The users that are subscribed to the filter.
+    FilterSubscription[] subscriptions?;
 |};
 
-# Details of the instance's attachment settings.
-public type AttachmentSettings record {|
-    # Whether the ability to add attachments is enabled.
-    boolean enabled?;
-    # The maximum size of attachments permitted, in bytes.
-    int uploadLimit?;
+public type FilterOk record {|
+    *http:Ok;
+    Filter body;
 |};
 
-# A page of items.
-public type PageBeanField record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    Field[] values?;
+# A group label.
+public type GroupLabel record {|
+    # The group label name.
+    string text?;
+    # The title of the group label.
+    string title?;
+    # The type of the group label.
+    "ADMIN"|"SINGLE"|"MULTIPLE" 'type?;
 |};
 
-public type JiraExpressionsComplexityBean record {|
-    # The number of steps it took to evaluate the expression, where a step is a high-level operation performed by the expression. A step is an operation such as arithmetic, accessing a property, accessing a context variable, or calling a function.
-    JiraExpressionsComplexityValueBean steps;
-    # The number of expensive operations executed while evaluating the expression. Expensive operations are those that load additional data, such as entity properties, comments, or custom fields.
-    JiraExpressionsComplexityValueBean expensiveOperations;
-    # The number of Jira REST API beans returned in the response.
-    JiraExpressionsComplexityValueBean beans;
-    # The number of primitive values returned in the response.
-    JiraExpressionsComplexityValueBean primitiveValues;
+# A group found in a search.
+public type FoundGroup record {|
+    # The name of the group.
+    string name?;
+    # The group name with the matched query string highlighted with the HTML bold tag.
+    string html?;
+    GroupLabel[] labels?;
+    # The ID of the group, if available, which uniquely identifies the group across all Atlassian products. For example, *952d12c3-5b5b-4d04-bb32-44d383afc4b2*.
+    string groupId?;
 |};
 
-# Details of an issue type scheme.
-public type IssueTypeScheme record {|
-    # The ID of the issue type scheme.
-    string id;
-    # The name of the issue type scheme.
-    string name;
-    # The description of the issue type scheme.
-    string description?;
-    # The ID of the default issue type of the issue type scheme.
-    string defaultIssueTypeId?;
-    # Whether the issue type scheme is the default.
-    boolean isDefault?;
+# The list of groups found in a search, including header text (Showing X of Y matching groups) and total of matched groups.
+public type FoundGroups record {|
+    # Header text indicating the number of groups in the response and the total number of groups found in the search.
+    string header?;
+    # The total number of groups found in the search.
+    int:Signed32 total?;
+    FoundGroup[] groups?;
 |};
 
-# User details permitted by the user's Atlassian Account privacy settings. However, be aware of these exceptions:
-#
-#  *  User record deleted from Atlassian: This occurs as the result of a right to be forgotten request. In this case, `displayName` provides an indication and other parameters have default values or are blank (for example, email is blank).
-#  *  User record corrupted: This occurs as a results of events such as a server import and can only happen to deleted users. In this case, `accountId` returns *unknown* and all other parameters have fallback values.
-#  *  User record unavailable: This usually occurs due to an internal service outage. In this case, all parameters have fallback values.
-public type UserDetails record {|
-    # The URL of the user.
-    string self?;
+# A user found in a search.
+public type UserPickerUser record {|
+    # The account ID of the user, which uniquely identifies the user across all Atlassian products. For example, *5b10ac8d82e05b22cc7d4ef5*.
+    string accountId?;
     # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
     string name?;
     # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
     string 'key?;
-    # The account ID of the user, which uniquely identifies the user across all Atlassian products. For example, *5b10ac8d82e05b22cc7d4ef5*.
-    @constraint:String {maxLength: 128}
-    string accountId?;
-    # The email address of the user. Depending on the user’s privacy settings, this may be returned as null.
-    string emailAddress?;
-    # The avatars of the user.
-    AvatarUrlsBean avatarUrls?;
-    # The display name of the user. Depending on the user’s privacy settings, this may return an alternative value.
+    # The display name, email address, and key of the user with the matched query string highlighted with the HTML bold tag.
+    string html?;
+    # The display name of the user. Depending on the user’s privacy setting, this may be returned as null.
     string displayName?;
-    # Whether the user is active.
-    boolean active?;
-    # The time zone specified in the user's profile. Depending on the user’s privacy settings, this may be returned as null.
-    string timeZone?;
-    # The type of account represented by this user. This will be one of 'atlassian' (normal users), 'app' (application user) or 'customer' (Jira Service Desk customer user)
-    string accountType?;
+    # The avatar URL of the user.
+    string avatarUrl?;
 |};
 
-# Details about the operations available in this version.
-public type SimpleLink record {|
-    string id?;
-    string styleClass?;
-    string iconClass?;
-    string label?;
-    string title?;
-    string href?;
-    int:Signed32 weight?;
+# The list of users found in a search, including header text (Showing X of Y matching users) and total of matched users.
+public type FoundUsers record {|
+    UserPickerUser[] users?;
+    # The total number of users found in the search.
+    int:Signed32 total?;
+    # Header text indicating the number of users in the response and the total number of users found in the search.
+    string header?;
 |};
 
-# A list of project IDs.
-public type ProjectIds record {|
-    # The IDs of projects.
-    string[] projectIds;
+# List of users and groups found in a search.
+public type FoundUsersAndGroups record {|
+    FoundUsers users?;
+    FoundGroups groups?;
 |};
 
-# A page of items.
-public type PageBeanIssueTypeScheme record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
+# Details of functions that can be used in advanced searches.
+public type FunctionReferenceData record {|
+    # The function identifier.
+    string value?;
+    # The display name of the function.
+    string displayName?;
+    # Whether the function can take a list of arguments.
+    "true"|"false" isList?;
+    # The data types returned by the function.
+    string[] types?;
+|};
+
+public type GlobalScopeBean record {|
+    # Defines the behavior of the option in the global context.If notSelectable is set, the option cannot be set as the field's value. This is useful for archiving an option that has previously been selected but shouldn't be used anymore.If defaultValue is set, the option is selected by default.
+    ("notSelectable"|"defaultValue")[] attributes?;
+|};
+
+# A paged list. To access additional details append `[start-index:end-index]` to the expand request. For example, `?expand=sharedUsers[10:40]` returns a list starting at item 10 and finishing at item 40.
+public type PagedListUserDetailsApplicationUser record {|
+    # The number of items on the page.
+    int:Signed32 size?;
     # The list of items.
-    IssueTypeScheme[] values?;
+    UserDetails[] items?;
+    # The maximum number of results that could be on the page.
+    int:Signed32 max\-results?;
+    # The index of the first item returned on the page.
+    int:Signed32 start\-index?;
+    # The index of the last item returned on the page.
+    int:Signed32 end\-index?;
 |};
 
-# A screen scheme.
-public type ScreenScheme record {|
-    # The ID of the screen scheme.
-    int id?;
-    # The name of the screen scheme.
+public type Group record {|
+    # The name of group.
     string name?;
-    # The description of the screen scheme.
-    string description?;
-    # The IDs of the screens for the screen types of the screen scheme.
-    ScreenTypes screens?;
-    # Details of the issue type screen schemes associated with the screen scheme.
-    PageBeanIssueTypeScreenScheme issueTypeScreenSchemes?;
+    # The URL for these group details.
+    string self?;
+    # A paginated list of the users that are members of the group. A maximum of 50 users is returned in the list, to access additional users append `[start-index:end-index]` to the expand request. For example, to access the next 50 users, use`?expand=users[51:100]`.
+    PagedListUserDetailsApplicationUser users?;
+    # Expand options that include additional group details in the response.
+    string expand?;
 |};
 
-# A list of the issues matched to a JQL query or details of errors encountered during matching.
-public type IssueMatchesForJQL record {|
-    # A list of issue IDs.
-    int[] matchedIssues;
-    # A list of errors.
-    string[] errors;
+# Details about a group.
+public type GroupDetails record {|
+    # The name of the group.
+    string name?;
+    # The ID of the group, if available, which uniquely identifies the group across all Atlassian products. For example, *952d12c3-5b5b-4d04-bb32-44d383afc4b2*.
+    string groupId?;
 |};
 
-public type BulkPermissionGrantsOk record {|
-    *http:Ok;
-    BulkPermissionGrants body;
+# Jira instance health check results. Deprecated and no longer returned.
+public type HealthCheckResult record {|
+    # The name of the Jira health check item.
+    string name?;
+    # The description of the Jira health check item.
+    string description?;
+    # Whether the Jira health check item passed or failed.
+    boolean passed?;
 |};
 
-# The details of a transition status.
-public type CrateWorkflowStatusDetails record {|
-    # The ID of the status.
-    string id;
+# An icon. If no icon is defined:
+#
+#  *  for a status icon, no status icon displays in Jira.
+#  *  for the remote object icon, the default link icon displays in Jira.
+public type Icon record {
+    # The URL of an icon that displays at 16x16 pixel in Jira.
+    string url16x16?;
+    # The title of the icon. This is used as follows:
+    #
+    #  *  For a status icon it is used as a tooltip on the icon. If not set, the status icon doesn't display a tooltip in Jira.
+    #  *  For the remote object icon it is used in conjunction with the application name to display a tooltip for the link's icon. The tooltip takes the format "\[application name\] icon title". Blank itemsare excluded from the tooltip title. If both items are blank, the icon tooltop displays as "Web Link".
+    string title?;
+    # The URL of the tooltip, used only for a status icon. If not set, the status icon in Jira is not clickable.
+    string link?;
+};
+
+public type IdBean record {|
+    # The ID of the permission scheme to associate with the project. Use the [Get all permission schemes](#api-rest-api-2-permissionscheme-get) resource to get a list of permission scheme IDs.
+    int id;
 |};
 
-# List of users and groups found in a search.
-public type FoundUsersAndGroups record {|
-    FoundUsers users?;
-    FoundGroups groups?;
+public type IdOrKeyBean record {|
+    # The ID of the referenced item.
+    int id?;
+    # The key of the referenced item.
+    string 'key?;
 |};
 
-public type HierarchyLevel record {|
-    # The ID of the hierarchy level. This property is deprecated, see [Change notice: Removing hierarchy level IDs from next-gen APIs](https://developer.atlassian.com/cloud/jira/platform/change-notice-removing-hierarchy-level-ids-from-next-gen-apis/).
-    int id?;
-    # The name of this hierarchy level.
-    string name?;
-    # The ID of the level above this one in the hierarchy. This property is deprecated, see [Change notice: Removing hierarchy level IDs from next-gen APIs](https://developer.atlassian.com/cloud/jira/platform/change-notice-removing-hierarchy-level-ids-from-next-gen-apis/).
-    int aboveLevelId?;
-    # The ID of the level below this one in the hierarchy. This property is deprecated, see [Change notice: Removing hierarchy level IDs from next-gen APIs](https://developer.atlassian.com/cloud/jira/platform/change-notice-removing-hierarchy-level-ids-from-next-gen-apis/).
-    int belowLevelId?;
-    # The ID of the project configuration. This property is deprecated, see [Change oticen: Removing hierarchy level IDs from next-gen APIs](https://developer.atlassian.com/cloud/jira/platform/change-notice-removing-hierarchy-level-ids-from-next-gen-apis/).
-    int projectConfigurationId?;
-    # The level of this item in the hierarchy.
-    int:Signed32 level?;
-    # The issue types available in this hierarchy level.
-    int[] issueTypeIds?;
-    # The external UUID of the hierarchy level. This property is deprecated, see [Change notice: Removing hierarchy level IDs from next-gen APIs](https://developer.atlassian.com/cloud/jira/platform/change-notice-removing-hierarchy-level-ids-from-next-gen-apis/).
-    string externalUuid?;
-    "SUBTASK"|"BASE"|"EPIC" globalHierarchyLevel?;
+public type IncludedFields record {|
+    string[] actuallyIncluded?;
+    string[] included?;
+    string[] excluded?;
 |};
 
-# Details of the permission.
-public type RestrictedPermission record {
-    # The ID of the permission. Either `id` or `key` must be specified. Use [Get all permissions](#api-rest-api-2-permissions-get) to get the list of permissions.
+# Details of an issue transition.
+public type IssueTransition record {
+    # The ID of the issue transition. Required when specifying a transition to undertake.
     string id?;
-    # The key of the permission. Either `id` or `key` must be specified. Use [Get all permissions](#api-rest-api-2-permissions-get) to get the list of permissions.
-    string 'key?;
+    # The name of the issue transition.
+    string name?;
+    # Details of the issue status after the transition.
+    StatusDetails to?;
+    # Whether there is a screen associated with the issue transition.
+    boolean hasScreen?;
+    # Whether the issue transition is global, that is, the transition is applied to issues regardless of their status.
+    boolean isGlobal?;
+    # Whether this is the initial issue transition for the workflow.
+    boolean isInitial?;
+    # Whether the transition is available to be performed.
+    boolean isAvailable?;
+    # Whether the issue has to meet criteria before the issue transition is applied.
+    boolean isConditional?;
+    # Details of the fields associated with the issue transition screen. Use this information to populate `fields` and `update` in a transition request.
+    record {|FieldMetadata...;|} fields?;
+    # Expand options that include additional transition details in the response.
+    string expand?;
+    boolean looped?;
 };
 
-# Details of the users and groups to receive the notification.
-public type NotificationRecipients record {
-    # Whether the notification should be sent to the issue's reporter.
-    boolean reporter?;
-    # Whether the notification should be sent to the issue's assignees.
-    boolean assignee?;
-    # Whether the notification should be sent to the issue's watchers.
-    boolean watchers?;
-    # Whether the notification should be sent to the issue's voters.
-    boolean voters?;
-    # List of users to receive the notification.
-    UserDetails[] users?;
-    # List of groups to receive the notification.
-    GroupName[] groups?;
+# A list of editable field details.
+public type IssueUpdateMetadata record {
+    record {|FieldMetadata...;|} fields?;
 };
 
-# Details about a workflow configuration update request.
-public type WorkflowTransitionRulesUpdate record {|
-    # The list of workflows with transition rules to update.
-    WorkflowTransitionRules[] workflows;
-|};
-
-@constraint:String {minLength: 1}
-public type JqlQueriesToParseQueriesItemsString string;
-
-public type JsonForbidden record {|
-    *http:Forbidden;
-    json body;
+# Details a link group, which defines issue operations.
+public type LinkGroup record {|
+    string id?;
+    string styleClass?;
+    SimpleLink header?;
+    int:Signed32 weight?;
+    SimpleLink[] links?;
+    LinkGroup[] groups?;
 |};
 
-public type JQLReferenceDataOk record {|
-    *http:Ok;
-    JQLReferenceData body;
-|};
+# Details of the operations that can be performed on the issue.
+public type Operations record {
+    # Details of the link groups defining issue operations.
+    LinkGroup[] linkGroups?;
+};
 
-# A page of items.
-public type PageBeanComponentWithIssueCount record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
+# A page of changelogs.
+public type PageOfChangelogs record {|
+    # The index of the first item returned on the page.
+    int:Signed32 startAt?;
+    # The maximum number of results that could be on the page.
     int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    ComponentWithIssueCount[] values?;
-|};
-
-public type WorklogArrayOk record {|
-    *http:Ok;
-    Worklog[] body;
+    # The number of results on the page.
+    int:Signed32 total?;
+    # The list of changelogs.
+    Changelog[] histories?;
 |};
 
-# A page of items.
-public type PageBeanIssueFieldOption record {|
-    # The URL of the page.
+public type IssueBean record {|
+    # Expand options that include additional issue details in the response.
+    string expand?;
+    # The ID of the issue.
+    string id?;
+    # The URL of the issue details.
     string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    IssueFieldOption[] values?;
+    # The key of the issue.
+    string 'key?;
+    # The rendered value of each field present on the issue.
+    record {} renderedFields?;
+    # Details of the issue properties identified in the request.
+    record {} properties?;
+    # The ID and name of each field present on the issue.
+    record {|string...;|} names?;
+    # The schema describing each field present on the issue.
+    record {|JsonTypeBean...;|} schema?;
+    # The transitions that can be performed on the issue.
+    IssueTransition[] transitions?;
+    # The operations that can be performed on the issue.
+    Operations operations?;
+    # The metadata for the fields on the issue that can be amended.
+    IssueUpdateMetadata editmeta?;
+    # Details of changelogs associated with the issue.
+    PageOfChangelogs changelog?;
+    # The versions of each field on the issue.
+    record {|record {}...;|} versionedRepresentations?;
+    IncludedFields fieldsToInclude?;
+    record {} fields?;
 |};
 
-public type IdBean record {|
-    # The ID of the permission scheme to associate with the project. Use the [Get all permission schemes](#api-rest-api-2-permissionscheme-get) resource to get a list of permission scheme IDs.
-    int id;
+public type IssueCommentListRequestBean record {|
+    # The list of comment IDs. A maximum of 1000 IDs can be specified.
+    int[] ids;
 |};
 
-# The group or role to which this item is visible.
-public type Visibility record {
-    # Whether visibility of this item is restricted to a group or role.
-    "group"|"role" 'type?;
-    # The name of the group or role to which visibility of this item is restricted.
-    string value?;
-};
-
-# A project's sender email address.
-public type ProjectEmailAddress record {|
-    # The email address.
-    string emailAddress?;
+# Details of the issue creation metadata for an issue type.
+public type IssueTypeIssueCreateMetadata record {|
+    # The URL of these issue type details.
+    string self?;
+    # The ID of the issue type.
+    string id?;
+    # The description of the issue type.
+    string description?;
+    # The URL of the issue type's avatar.
+    string iconUrl?;
+    # The name of the issue type.
+    string name?;
+    # Whether this issue type is used to create subtasks.
+    boolean subtask?;
+    # The ID of the issue type's avatar.
+    int avatarId?;
+    # Unique ID for next-gen projects.
+    string entityId?;
+    # Hierarchy level of the issue type.
+    int:Signed32 hierarchyLevel?;
+    # Details of the next-gen projects the issue type is available in.
+    Scope scope?;
+    # Expand options that include additional issue type metadata details in the response.
+    string expand?;
+    # List of the fields available when creating an issue for the issue type.
+    record {|FieldMetadata...;|} fields?;
 |};
 
-# A clause that asserts the current value of a field. For example, `summary ~ test`.
-public type FieldValueClause record {
-    JqlQueryField 'field;
-    # The operator between the field and operand.
-    "="|"!="|">"|"<"|">="|"<="|"in"|"not in"|"~"|"~="|"is"|"is not" operator;
-    JqlQueryClauseOperand operand;
-};
-
-# A page of items.
-public type PageBeanUserDetails record {|
-    # The URL of the page.
+# Details of the issue creation metadata for a project.
+public type ProjectIssueCreateMetadata record {|
+    # Expand options that include additional project issue create metadata details in the response.
+    string expand?;
+    # The URL of the project.
     string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    UserDetails[] values?;
+    # The ID of the project.
+    string id?;
+    # The key of the project.
+    string 'key?;
+    # The name of the project.
+    string name?;
+    # List of the project's avatars, returning the avatar size and associated URL.
+    AvatarUrlsBean avatarUrls?;
+    # List of the issue types supported by the project.
+    IssueTypeIssueCreateMetadata[] issuetypes?;
 |};
 
-# Issue type scheme item.
-public type IssueTypeSchemeMapping record {|
-    # The ID of the issue type scheme.
-    string issueTypeSchemeId;
-    # The ID of the issue type.
-    string issueTypeId;
+# The wrapper for the issue creation metadata for a list of projects.
+public type IssueCreateMetadata record {|
+    # Expand options that include additional project details in the response.
+    string expand?;
+    # List of projects and their issue creation metadata.
+    ProjectIssueCreateMetadata[] projects?;
 |};
 
-# An operand that is a function. See [Advanced searching - functions reference](https://confluence.atlassian.com/x/dwiiLQ) for more information about JQL functions.
-public type FunctionOperand record {
-    # The name of the function.
-    string 'function;
-    # The list of function arguments.
-    string[] arguments;
-};
-
-# A JQL query clause that consists of nested clauses. For example, `(labels in (urgent, blocker) OR lastCommentedBy = currentUser()). Note that, where nesting is not defined, the parser nests JQL clauses based on the operator precedence. For example, "A OR B AND C" is parsed as "(A OR B) AND C". See Setting the precedence of operators for more information about precedence in JQL queries.`
-public type CompoundClause record {
-    # The list of nested clauses.
-    JqlQueryClause[] clauses;
-    # The operator between the clauses.
-    "and"|"or"|"not" operator;
-};
-
-# A page of items.
-public type PageBeanProject record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    Project[] values?;
+public type JsonNode record {|
+    record {} fieldNames?;
+    record {} elements?;
+    boolean pojo?;
+    boolean containerNode?;
+    boolean missingNode?;
+    boolean 'object?;
+    boolean valueNode?;
+    boolean number?;
+    boolean integralNumber?;
+    boolean floatingPointNumber?;
+    boolean 'int?;
+    boolean long?;
+    boolean double?;
+    boolean bigDecimal?;
+    boolean bigInteger?;
+    boolean textual?;
+    boolean 'boolean?;
+    boolean binary?;
+    decimal numberValue?;
+    "INT"|"LONG"|"BIG_INTEGER"|"FLOAT"|"DOUBLE"|"BIG_DECIMAL" numberType?;
+    int:Signed32 intValue?;
+    int longValue?;
+    int bigIntegerValue?;
+    decimal doubleValue?;
+    decimal decimalValue?;
+    boolean booleanValue?;
+    string[] binaryValue?;
+    int:Signed32 valueAsInt?;
+    int valueAsLong?;
+    decimal valueAsDouble?;
+    boolean valueAsBoolean?;
+    string textValue?;
+    string valueAsText?;
+    boolean array?;
+    record {} fields?;
+    boolean 'null?;
 |};
 
-public type JsonOk record {|
-    *http:Ok;
-    json body;
+# Lists of issues and entity properties. See [Entity properties](https://developer.atlassian.com/cloud/jira/platform/jira-entity-properties/) for more information.
+public type IssueEntityProperties record {|
+    # A list of entity property IDs.
+    @constraint:Array {maxLength: 10000, minLength: 1}
+    int[] entitiesIds?;
+    # A list of entity property keys and values.
+    record {|JsonNode...;|} properties?;
 |};
 
-# Details about the mapping between an issue type and a workflow.
-public type IssueTypeWorkflowMapping record {|
-    # The ID of the issue type. Not required if updating the issue type-workflow mapping.
-    string issueType?;
-    # The name of the workflow.
-    string workflow?;
-    # Set to true to create or update the draft of a workflow scheme and update the mapping in the draft, when the workflow scheme cannot be edited. Defaults to `false`. Only applicable when updating the workflow-issue types mapping.
-    boolean updateDraftIfNeeded?;
+public type ProjectScopeBean record {|
+    # The ID of the project that the option's behavior applies to.
+    int id?;
+    # Defines the behavior of the option in the project.If notSelectable is set, the option cannot be set as the field's value. This is useful for archiving an option that has previously been selected but shouldn't be used anymore.If defaultValue is set, the option is selected by default.
+    ("notSelectable"|"defaultValue")[] attributes?;
 |};
 
-public type UserBean record {|
-    # This property is deprecated in favor of `accountId` because of privacy changes. See the [migration guide](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
-    # The key of the user.
-    string 'key?;
-    # The URL of the user.
-    string self?;
-    # This property is deprecated in favor of `accountId` because of privacy changes. See the [migration guide](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
-    # The username of the user.
-    string name?;
-    # The display name of the user. Depending on the user’s privacy setting, this may return an alternative value.
-    string displayName?;
-    # Whether the user is active.
-    boolean active?;
-    # The account ID of the user, which uniquely identifies the user across all Atlassian products. For example, *5b10ac8d82e05b22cc7d4ef5*.
-    @constraint:String {maxLength: 128}
-    string accountId?;
-    # The avatars of the user.
-    UserBeanAvatarUrls avatarUrls?;
+public type IssueFieldOptionScopeBean record {|
+    # DEPRECATED
+    int[] projects?;
+    # Defines the projects in which the option is available and the behavior of the option within each project. Specify one object per project. The behavior of the option in a project context overrides the behavior in the global context.
+    ProjectScopeBean[] projects2?;
+    # Defines the behavior of the option within the global context. If this property is set, even if set to an empty object, then the option is available in all projects.
+    GlobalScopeBean global?;
 |};
 
-# Details of the options to create for a custom field.
-public type BulkCustomFieldOptionCreateRequest record {|
-    # Details of options to create.
-    CustomFieldOptionCreate[] options?;
+# Details of the projects the option is available in.
+public type IssueFieldOptionConfiguration record {|
+    # Defines the projects that the option is available in. If the scope is not defined, then the option is available in all projects.
+    IssueFieldOptionScopeBean scope?;
+    # DEPRECATED
+    ("notSelectable"|"defaultValue")[] attributes?;
 |};
 
-# The ID of a screen scheme.
-public type ScreenSchemeId record {|
-    # The ID of the screen scheme.
+# Details of the options for a select list issue field.
+public type IssueFieldOption record {|
+    # The unique identifier for the option. This is only unique within the select field's set of options.
     int id;
+    # The option's name, which is displayed in Jira.
+    string value;
+    # The properties of the object, as arbitrary key-value pairs. These properties can be searched using JQL, if the extractions (see [Issue Field Option Property Index](https://developer.atlassian.com/cloud/jira/platform/modules/issue-field-option-property-index/)) are defined in the descriptor for the issue field module.
+    record {} properties?;
+    IssueFieldOptionConfiguration config?;
 |};
 
-# Details of a share permission for the filter.
-public type SharePermission record {|
-    # The unique identifier of the share permission.
-    int id?;
-    # The type of share permission:
-    #
-    #  *  `group` Shared with a group. If set in a request, then specify `sharePermission.group` as well.
-    #  *  `project` Shared with a project. If set in a request, then specify `sharePermission.project` as well.
-    #  *  `projectRole` Share with a project role in a project. This value is not returned in responses. It is used in requests, where it needs to be specify with `projectId` and `projectRoleId`.
-    #  *  `global` Shared globally. If set in a request, no other `sharePermission` properties need to be specified.
-    #  *  `loggedin` Shared with all logged-in users. Note: This value is set in a request by specifying `authenticated` as the `type`.
-    #  *  `project-unknown` Shared with a project that the user does not have access to. Cannot be set in a request.
-    "group"|"project"|"projectRole"|"global"|"loggedin"|"authenticated"|"project-unknown" 'type;
-    # The project that the filter is shared with. This is similar to the project object returned by [Get project](#api-rest-api-2-project-projectIdOrKey-get) but it contains a subset of the properties, which are: `self`, `id`, `key`, `assigneeType`, `name`, `roles`, `avatarUrls`, `projectType`, `simplified`.
-    # For a request, specify the `id` for the project.
-    Project project?;
-    # The project role that the filter is shared with.
-    # For a request, specify the `id` for the role. You must also specify the `project` object and `id` for the project that the role is in.
-    ProjectRole role?;
-    # The group that the filter is shared with. For a request, specify the `name` property for the group.
-    GroupName group?;
-|};
-
-# A comment.
-public type Comment record {
-    # The URL of the comment.
-    string self?;
-    # The ID of the comment.
-    string id?;
-    # The ID of the user who created the comment.
-    UserDetails author?;
-    # The comment text.
-    string body?;
-    # The rendered version of the comment.
-    string renderedBody?;
-    # The ID of the user who updated the comment last.
-    UserDetails updateAuthor?;
-    # The date and time at which the comment was created.
-    string created?;
-    # The date and time at which the comment was updated last.
-    string updated?;
-    # The group or role to which this comment is visible. Optional on create and update.
-    Visibility visibility?;
-    # Whether the comment is visible in Jira Service Desk. Defaults to true when comments are created in the Jira Cloud Platform. This includes when the site doesn't use Jira Service Desk or the project isn't a Jira Service Desk project and, therefore, there is no Jira Service Desk for the issue to be visible on. To create a comment with its visibility in Jira Service Desk set to false, use the Jira Service Desk REST API [Create request comment](https://developer.atlassian.com/cloud/jira/service-desk/rest/#api-rest-servicedeskapi-request-issueIdOrKey-comment-post) operation.
-    boolean jsdPublic?;
-    # A list of comment properties. Optional on create and update.
-    EntityProperty[] properties?;
+public type IssueFieldOptionCreateBean record {
+    # The option's name, which is displayed in Jira.
+    string value;
+    # The properties of the option as arbitrary key-value pairs. These properties can be searched using JQL, if the extractions (see https://developer.atlassian.com/cloud/jira/platform/modules/issue-field-option-property-index/) are defined in the descriptor for the issue field module.
+    record {} properties?;
+    IssueFieldOptionConfiguration config?;
 };
 
-# A workflow scheme along with a list of projects that use it.
-public type WorkflowSchemeAssociations record {|
-    # The list of projects that use the workflow scheme.
-    string[] projectIds;
-    # The workflow scheme.
-    WorkflowScheme workflowScheme;
+public type IssueFieldOptionOk record {|
+    *http:Ok;
+    IssueFieldOption body;
 |};
 
-# Details of a custom field option to rename.
-public type RenamedOption record {|
-    # The current option value.
-    string value;
-    # The new value of the option.
-    @constraint:String {maxLength: 255}
-    string newValue;
-    # The new values for the cascading options of this option. Only used for Select List (cascading) fields.
-    RenamedCascadingOption[] cascadingOptions?;
+# This object is used as follows:
+#
+#  *  In the [ issueLink](#api-rest-api-2-issueLink-post) resource it defines and reports on the type of link between the issues. Find a list of issue link types with [Get issue link types](#api-rest-api-2-issueLinkType-get).
+#  *  In the [ issueLinkType](#api-rest-api-2-issueLinkType-post) resource it defines and reports on issue link types.
+public type IssueLinkType record {|
+    # The ID of the issue link type and is used as follows:
+    #
+    #  *  In the [ issueLink](#api-rest-api-2-issueLink-post) resource it is the type of issue link. Required on create when `name` isn't provided. Otherwise, read only.
+    #  *  In the [ issueLinkType](#api-rest-api-2-issueLinkType-post) resource it is read only.
+    string id?;
+    # The name of the issue link type and is used as follows:
+    #
+    #  *  In the [ issueLink](#api-rest-api-2-issueLink-post) resource it is the type of issue link. Required on create when `id` isn't provided. Otherwise, read only.
+    #  *  In the [ issueLinkType](#api-rest-api-2-issueLinkType-post) resource it is required on create and optional on update. Otherwise, read only.
+    string name?;
+    # The description of the issue link type inward link and is used as follows:
+    #
+    #  *  In the [ issueLink](#api-rest-api-2-issueLink-post) resource it is read only.
+    #  *  In the [ issueLinkType](#api-rest-api-2-issueLinkType-post) resource it is required on create and optional on update. Otherwise, read only.
+    string inward?;
+    # The description of the issue link type outward link and is used as follows:
+    #
+    #  *  In the [ issueLink](#api-rest-api-2-issueLink-post) resource it is read only.
+    #  *  In the [ issueLinkType](#api-rest-api-2-issueLinkType-post) resource it is required on create and optional on update. Otherwise, read only.
+    string outward?;
+    # The URL of the issue link type. Read only.
+    string self?;
 |};
 
-# A page of items.
-public type PageBeanScreenWithTab record {|
-    # The URL of the page.
+# The ID or key of a linked issue.
+public type LinkedIssue record {|
+    # The ID of an issue. Required if `key` isn't provided.
+    string id?;
+    # The key of an issue. Required if `id` isn't provided.
+    string 'key?;
+    # The URL of the issue.
     string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    ScreenWithTab[] values?;
+    # The fields associated with the issue.
+    Fields fields?;
 |};
 
-# A page of items.
-public type PageBeanIssueSecurityLevelMember record {|
-    # The URL of the page.
+# Details of a link between issues.
+public type IssueLink record {|
+    # The ID of the issue link.
+    string id?;
+    # The URL of the issue link.
     string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    IssueSecurityLevelMember[] values?;
+    # The type of link between the issues.
+    IssueLinkType 'type;
+    # The issue the link joins to.
+    LinkedIssue inwardIssue;
+    # The issue the link originates from.
+    LinkedIssue outwardIssue;
 |};
 
-# Details of an issue type screen scheme.
-public type IssueTypeScreenSchemeUpdateDetails record {|
-    # The name of the issue type screen scheme. The name must be unique. The maximum length is 255 characters.
-    string name?;
-    # The description of the issue type screen scheme. The maximum length is 255 characters.
-    string description?;
+# A list of issue link type beans.
+public type IssueLinkTypes record {|
+    # The issue link type bean.
+    IssueLinkType[] issueLinkTypes?;
 |};
 
-# The list of users found in a search, including header text (Showing X of Y matching users) and total of matched users.
-public type FoundUsers record {|
-    UserPickerUser[] users?;
-    # The total number of users found in the search.
-    int:Signed32 total?;
-    # Header text indicating the number of users in the response and the total number of users found in the search.
-    string header?;
+# A list of the issues matched to a JQL query or details of errors encountered during matching.
+public type IssueMatchesForJQL record {|
+    # A list of issue IDs.
+    int[] matchedIssues;
+    # A list of errors.
+    string[] errors;
 |};
 
-# A clause that asserts a previous value of a field. For example, `status WAS "Resolved" BY currentUser() BEFORE "2019/02/02"`. See [WAS](https://confluence.atlassian.com/x/dgiiLQ#Advancedsearching-operatorsreference-WASWAS) for more information about the WAS operator.
-public type FieldWasClause record {
-    JqlQueryField 'field;
-    # The operator between the field and operand.
-    "was"|"was in"|"was not in"|"was not" operator;
-    JqlQueryClauseOperand operand;
-    # The list of time predicates.
-    JqlQueryClauseTimePredicate[] predicates;
-};
+# A list of matched issues or errors for each JQL query, in the order the JQL queries were passed.
+public type IssueMatches record {|
+    IssueMatchesForJQL[] matches;
+|};
 
-public type JiraExpressionEvaluationMetaDataBean record {|
-    # Contains information about the expression complexity. For example, the number of steps it took to evaluate the expression.
-    JiraExpressionsComplexityBean complexity?;
-    # Contains information about the `issues` variable in the context. For example, is the issues were loaded with JQL, information about the page will be included here.
-    IssuesMetaBean issues?;
+public type IssueMatchesOk record {|
+    *http:Ok;
+    IssueMatches body;
 |};
 
-# An audit record.
-public type AuditRecordBean record {|
-    # The ID of the audit record.
+# An issue suggested for use in the issue picker auto-completion.
+public type SuggestedIssue record {|
+    # The ID of the issue.
     int id?;
-    # The summary of the audit record.
+    # The key of the issue.
+    string 'key?;
+    # The key of the issue in HTML format.
+    string keyHtml?;
+    # The URL of the issue type's avatar.
+    string img?;
+    # The phrase containing the query string in HTML format, with the string highlighted with HTML bold tags.
     string summary?;
-    # The URL of the computer where the creation of the audit record was initiated.
-    string remoteAddress?;
-    # Deprecated, use `authorAccountId` instead. The key of the user who created the audit record.
-    string authorKey?;
-    # The date and time on which the audit record was created.
-    string created?;
-    # The category of the audit record. For a list of these categories, see the help article [Auditing in Jira applications](https://confluence.atlassian.com/x/noXKM).
-    string category?;
-    # The event the audit record originated from.
-    string eventSource?;
-    # The description of the audit record.
-    string description?;
-    AssociatedItemBean objectItem?;
-    # The list of values changed in the record event.
-    ChangedValueBean[] changedValues?;
-    # The list of items associated with the changed record.
-    AssociatedItemBean[] associatedItems?;
+    # The phrase containing the query string, as plain text.
+    string summaryText?;
 |};
 
-# List of project permissions and the projects and issues those permissions grant access to.
-public type BulkProjectPermissionGrants record {|
-    # A project permission,
-    string permission;
-    # IDs of the issues the user has the permission for.
-    int[] issues;
-    # IDs of the projects the user has the permission for.
-    int[] projects;
+# A type of issue suggested for use in auto-completion.
+public type IssuePickerSuggestionsIssueType record {|
+    # The label of the type of issues suggested for use in auto-completion.
+    string label?;
+    # If issue suggestions are found, returns a message indicating the number of issues suggestions found and returned.
+    string sub?;
+    # The ID of the type of issues suggested for use in auto-completion.
+    string id?;
+    # If no issue suggestions are found, returns a message indicating no suggestions were found,
+    string msg?;
+    # A list of issues suggested for use in auto-completion.
+    SuggestedIssue[] issues?;
 |};
 
-public type JsonAccepted record {|
-    *http:Accepted;
-    json body;
+# A list of issues suggested for use in auto-completion.
+public type IssuePickerSuggestions record {|
+    # A list of issues for an issue type suggested for use in auto-completion.
+    IssuePickerSuggestionsIssueType[] sections?;
 |};
 
-public type OperationMessageBadRequest record {|
-    *http:BadRequest;
-    OperationMessage body;
+# Details of a user, group, field, or project role that holds a permission. See [Holder object](../api-group-permission-schemes/#holder-object) in *Get all permission schemes* for more information.
+public type PermissionHolder record {|
+    # The type of permission holder.
+    string 'type;
+    # The identifier of permission holder.
+    string 'parameter?;
+    # Expand options that include additional permission holder details in the response.
+    string expand?;
 |};
 
-# Details of the custom field options for a context.
-public type CustomFieldContextOption record {|
-    # The ID of the custom field option.
-    string id;
-    # The value of the custom field option.
-    string value;
-    # For cascading options, the ID of the custom field option containing the cascading option.
-    string optionId?;
-    # Whether the option is disabled.
-    boolean disabled;
+# Issue security level member.
+public type IssueSecurityLevelMember record {|
+    # The ID of the issue security level member.
+    int id;
+    # The ID of the issue security level.
+    int issueSecurityLevelId;
+    # The user or group being granted the permission. It consists of a `type` and a type-dependent `parameter`. See [Holder object](../api-group-permission-schemes/#holder-object) in *Get all permission schemes* for more information.
+    PermissionHolder holder;
 |};
 
-# ID of a screen.
-public type ScreenID record {|
-    # The ID of the screen.
-    string id;
+public type IssueTypeCreateBean record {|
+    # The unique name for the issue type. The maximum length is 60 characters.
+    string name;
+    # The description of the issue type.
+    string description?;
+    # Whether the issue type is `subtype` or `standard`. Defaults to `standard`.
+    "subtask"|"standard" 'type?;
 |};
 
-# A group label.
-public type GroupLabel record {|
-    # The group label name.
-    string text?;
-    # The title of the group label.
-    string title?;
-    # The type of the group label.
-    "ADMIN"|"SINGLE"|"MULTIPLE" 'type?;
+# The list of issue type IDs.
+public type IssueTypeIds record {|
+    # The list of issue type IDs.
+    string[] issueTypeIds;
 |};
 
-# A field used in a JQL query. See [Advanced searching - fields reference](https://confluence.atlassian.com/x/dAiiLQ) for more information about fields in JQL queries.
-public type JqlQueryField record {|
-    # The name of the field.
+# Details of an issue type.
+public type IssueTypeInfo record {|
+    # The ID of the issue type.
+    int id?;
+    # The name of the issue type.
+    string name?;
+    # The avatar of the issue type.
+    int avatarId?;
+|};
+
+# Details of an issue type scheme.
+public type IssueTypeScheme record {|
+    # The ID of the issue type scheme.
+    string id;
+    # The name of the issue type scheme.
     string name;
-    # When the field refers to a value in an entity property, details of the entity property value.
-    JqlQueryFieldEntityProperty[] property?;
+    # The description of the issue type scheme.
+    string description?;
+    # The ID of the default issue type of the issue type scheme.
+    string defaultIssueTypeId?;
+    # Whether the issue type scheme is the default.
+    boolean isDefault?;
 |};
 
-# Details about the configuration of Jira.
-public type Configuration record {|
-    # Whether the ability for users to vote on issues is enabled. See [Configuring Jira application options](https://confluence.atlassian.com/x/uYXKM) for details.
-    boolean votingEnabled?;
-    # Whether the ability for users to watch issues is enabled. See [Configuring Jira application options](https://confluence.atlassian.com/x/uYXKM) for details.
-    boolean watchingEnabled?;
-    # Whether the ability to create unassigned issues is enabled. See [Configuring Jira application options](https://confluence.atlassian.com/x/uYXKM) for details.
-    boolean unassignedIssuesAllowed?;
-    # Whether the ability to create subtasks for issues is enabled.
-    boolean subTasksEnabled?;
-    # Whether the ability to link issues is enabled.
-    boolean issueLinkingEnabled?;
-    # Whether the ability to track time is enabled. This property is deprecated.
-    boolean timeTrackingEnabled?;
-    # Whether the ability to add attachments to issues is enabled.
-    boolean attachmentsEnabled?;
-    # The configuration of time tracking.
-    TimeTrackingConfiguration timeTrackingConfiguration?;
+# Details of an issue type scheme and its associated issue types.
+public type IssueTypeSchemeDetails record {|
+    # The name of the issue type scheme. The name must be unique. The maximum length is 255 characters.
+    string name;
+    # The description of the issue type scheme. The maximum length is 4000 characters.
+    string description?;
+    # The ID of the default issue type of the issue type scheme. This ID must be included in `issueTypeIds`.
+    string defaultIssueTypeId?;
+    # The list of issue types IDs of the issue type scheme. At least one standard issue type ID is required.
+    string[] issueTypeIds;
+|};
+
+# The ID of an issue type scheme.
+public type IssueTypeSchemeID record {|
+    # The ID of the issue type scheme.
+    string issueTypeSchemeId;
 |};
 
-# A type of issue suggested for use in auto-completion.
-public type IssuePickerSuggestionsIssueType record {|
-    # The label of the type of issues suggested for use in auto-completion.
-    string label?;
-    # If issue suggestions are found, returns a message indicating the number of issues suggestions found and returned.
-    string sub?;
-    # The ID of the type of issues suggested for use in auto-completion.
-    string id?;
-    # If no issue suggestions are found, returns a message indicating no suggestions were found,
-    string msg?;
-    # A list of issues suggested for use in auto-completion.
-    SuggestedIssue[] issues?;
+# Issue type scheme item.
+public type IssueTypeSchemeMapping record {|
+    # The ID of the issue type scheme.
+    string issueTypeSchemeId;
+    # The ID of the issue type.
+    string issueTypeId;
 |};
 
 # Details of the association between an issue type scheme and project.
@@ -4137,708 +4106,563 @@ public type IssueTypeSchemeProjectAssociation record {|
     string projectId;
 |};
 
-public type IssueFieldOptionCreateBean record {
-    # The option's name, which is displayed in Jira.
-    string value;
-    # The properties of the option as arbitrary key-value pairs. These properties can be searched using JQL, if the extractions (see https://developer.atlassian.com/cloud/jira/platform/modules/issue-field-option-property-index/) are defined in the descriptor for the issue field module.
-    record {} properties?;
-    IssueFieldOptionConfiguration config?;
-};
+# Issue type scheme with a list of the projects that use it.
+public type IssueTypeSchemeProjects record {|
+    # Details of an issue type scheme.
+    IssueTypeScheme issueTypeScheme;
+    # The IDs of the projects using the issue type scheme.
+    string[] projectIds;
+|};
 
-# Details of Jira expressions for analysis.
-public type JiraExpressionForAnalysis record {|
-    # The list of Jira expressions to analyse.
-    string[] expressions;
-    # Context variables and their types. The type checker assumes that [common context variables](https://developer.atlassian.com/cloud/jira/platform/jira-expressions/#context-variables), such as `issue` or `project`, are available in context and sets their type. Use this property to override the default types or provide details of new variables.
-    record {|string...;|} contextVariables?;
+# Details of the name, description, and default issue type for an issue type scheme.
+public type IssueTypeSchemeUpdateDetails record {|
+    # The name of the issue type scheme. The name must be unique. The maximum length is 255 characters.
+    string name?;
+    # The description of the issue type scheme. The maximum length is 4000 characters.
+    string description?;
+    # The ID of the default issue type of the issue type scheme.
+    string defaultIssueTypeId?;
 |};
 
-# Details of the group membership or permissions needed to receive the notification.
-public type NotificationRecipientsRestrictions record {|
-    # List of group memberships required to receive the notification.
-    GroupName[] groups?;
-    # List of permissions required to receive the notification.
-    RestrictedPermission[] permissions?;
+# Details of an issue type screen scheme.
+public type IssueTypeScreenScheme record {|
+    # The ID of the issue type screen scheme.
+    string id;
+    # The name of the issue type screen scheme.
+    string name;
+    # The description of the issue type screen scheme.
+    string description?;
 |};
 
-# The details of watchers on an issue.
-public type Watchers record {|
-    # The URL of these issue watcher details.
-    string self?;
-    # Whether the calling user is watching this issue.
-    boolean isWatching?;
-    # The number of users watching this issue.
-    int:Signed32 watchCount?;
-    # Details of the users watching this issue.
-    UserDetails[] watchers?;
+# The IDs of the screen schemes for the issue type IDs.
+public type IssueTypeScreenSchemeMapping record {|
+    # The ID of the issue type or *default*. Only issue types used in classic projects are accepted. An entry for *default* must be provided and defines the mapping for all issue types without a screen scheme.
+    string issueTypeId;
+    # The ID of the screen scheme. Only screen schemes used in classic projects are accepted.
+    string screenSchemeId;
 |};
 
-# Details of a custom field option to create.
-public type CustomFieldOptionCreate record {|
-    # The value of the custom field option.
-    string value;
-    # For cascading options, the ID of the custom field object containing the cascading option.
-    string optionId?;
-    # Whether the option is disabled.
-    boolean disabled?;
+# The details of an issue type screen scheme.
+public type IssueTypeScreenSchemeDetails record {|
+    # The name of the issue type screen scheme. The name must be unique. The maximum length is 255 characters.
+    string name;
+    # The description of the issue type screen scheme. The maximum length is 255 characters.
+    string description?;
+    # The IDs of the screen schemes for the issue type IDs and *default*. A *default* entry is required to create an issue type screen scheme, it defines the mapping for all issue types without a screen scheme.
+    IssueTypeScreenSchemeMapping[] issueTypeMappings;
 |};
 
-public type StringArrayUnauthorized record {|
-    *http:Unauthorized;
-    string[] body;
+# The ID of an issue type screen scheme.
+public type IssueTypeScreenSchemeId record {|
+    # The ID of the issue type screen scheme.
+    string id;
 |};
 
-public type ErrorCollectionNotFound record {|
-    *http:NotFound;
-    ErrorCollection body;
+# The screen scheme for an issue type.
+public type IssueTypeScreenSchemeItem record {|
+    # The ID of the issue type screen scheme.
+    string issueTypeScreenSchemeId;
+    # The ID of the issue type or *default*. Only issue types used in classic projects are accepted. When creating an issue screen scheme, an entry for *default* must be provided and defines the mapping for all issue types without a screen scheme. Otherwise, a *default* entry can't be provided.
+    string issueTypeId;
+    # The ID of the screen scheme.
+    string screenSchemeId;
 |};
 
-# The hierarchy of issue types within a project.
-public type ProjectIssueTypeHierarchy record {|
+# A list of issue type screen scheme mappings.
+public type IssueTypeScreenSchemeMappingDetails record {|
+    # The list of issue type to screen scheme mappings. A *default* entry cannot be specified because a default entry is added when an issue type screen scheme is created.
+    IssueTypeScreenSchemeMapping[] issueTypeMappings;
+|};
+
+# Associated issue type screen scheme and project.
+public type IssueTypeScreenSchemeProjectAssociation record {|
+    # The ID of the issue type screen scheme.
+    string issueTypeScreenSchemeId?;
     # The ID of the project.
-    int projectId?;
-    # Details of an issue type hierarchy level.
-    ProjectIssueTypesHierarchyLevel[] hierarchy?;
+    string projectId?;
 |};
 
-# The ID or key of a linked issue.
-public type LinkedIssue record {|
-    # The ID of an issue. Required if `key` isn't provided.
-    string id?;
-    # The key of an issue. Required if `id` isn't provided.
-    string 'key?;
-    # The URL of the issue.
-    string self?;
-    # The fields associated with the issue.
-    Fields fields?;
+# Details of an issue type screen scheme.
+public type IssueTypeScreenSchemeUpdateDetails record {|
+    # The name of the issue type screen scheme. The name must be unique. The maximum length is 255 characters.
+    string name?;
+    # The description of the issue type screen scheme. The maximum length is 255 characters.
+    string description?;
 |};
 
-# Details of a link between issues.
-public type IssueLink record {|
-    # The ID of the issue link.
-    string id?;
-    # The URL of the issue link.
-    string self?;
-    # The type of link between the issues.
-    IssueLinkType 'type;
-    # The issue the link joins to.
-    LinkedIssue inwardIssue;
-    # The issue the link originates from.
-    LinkedIssue outwardIssue;
+# Issue type screen scheme with a list of the projects that use it.
+public type IssueTypeScreenSchemesProjects record {|
+    # Details of an issue type screen scheme.
+    IssueTypeScreenScheme issueTypeScreenScheme;
+    # The IDs of the projects using the issue type screen scheme.
+    string[] projectIds;
 |};
 
-public type CreatedIssuesBadRequest record {|
-    *http:BadRequest;
-    CreatedIssues body;
+# Mapping of an issue type to a context.
+public type IssueTypeToContextMapping record {|
+    # The ID of the context.
+    string contextId;
+    # The ID of the issue type.
+    string issueTypeId?;
+    # Whether the context is mapped to any issue type.
+    boolean isAnyIssueType?;
 |};
 
-public type SimpleErrorCollection record {|
-    # The list of errors by parameter returned by the operation. For example,"projectKey": "Project keys must start with an uppercase letter, followed by one or more uppercase alphanumeric characters."
-    record {|string...;|} errors?;
-    # The list of error messages produced by this operation. For example, "input parameter 'key' must be provided"
-    string[] errorMessages?;
-    int:Signed32 httpStatusCode?;
+public type IssueTypeUpdateBean record {|
+    # The unique name for the issue type. The maximum length is 60 characters.
+    string name?;
+    # The description of the issue type.
+    string description?;
+    # The ID of an issue type avatar.
+    int avatarId?;
 |};
 
-# Details about a workflow.
-public type Workflow record {|
-    PublishedWorkflowId id;
-    # The description of the workflow.
-    string description;
-    # The transitions of the workflow.
-    Transition[] transitions?;
-    # The statuses of the workflow.
-    WorkflowStatus[] statuses?;
-    # Whether this is the default workflow.
-    boolean isDefault?;
+# Status details for an issue type.
+public type IssueTypeWithStatus record {|
+    # The URL of the issue type's status details.
+    string self;
+    # The ID of the issue type.
+    string id;
+    # The name of the issue type.
+    string name;
+    # Whether this issue type represents subtasks.
+    boolean subtask;
+    # List of status details for the issue type.
+    StatusDetails[] statuses;
 |};
 
-public type ErrorCollectionForbidden record {|
-    *http:Forbidden;
-    ErrorCollection body;
+# Details about the mapping between an issue type and a workflow.
+public type IssueTypeWorkflowMapping record {|
+    # The ID of the issue type. Not required if updating the issue type-workflow mapping.
+    string issueType?;
+    # The name of the workflow.
+    string workflow?;
+    # Set to true to create or update the draft of a workflow scheme and update the mapping in the draft, when the workflow scheme cannot be edited. Defaults to `false`. Only applicable when updating the workflow-issue types mapping.
+    boolean updateDraftIfNeeded?;
 |};
 
-# Details of a custom field.
-public type UpdateCustomFieldDetails record {|
-    # The name of the custom field. It doesn't have to be unique. The maximum length is 255 characters.
-    string name?;
-    # The description of the custom field. The maximum length is 40000 characters.
-    string description?;
-    # The searcher that defines the way the field is searched in Jira. It can be set to `null`, otherwise you must specify the valid searcher for the field type, as listed below (abbreviated values shown):
-    #
-    #  *  `cascadingselect`: `cascadingselectsearcher`
-    #  *  `datepicker`: `daterange`
-    #  *  `datetime`: `datetimerange`
-    #  *  `float`: `exactnumber` or `numberrange`
-    #  *  `grouppicker`: `grouppickersearcher`
-    #  *  `importid`: `exactnumber` or `numberrange`
-    #  *  `labels`: `labelsearcher`
-    #  *  `multicheckboxes`: `multiselectsearcher`
-    #  *  `multigrouppicker`: `multiselectsearcher`
-    #  *  `multiselect`: `multiselectsearcher`
-    #  *  `multiuserpicker`: `userpickergroupsearcher`
-    #  *  `multiversion`: `versionsearcher`
-    #  *  `project`: `projectsearcher`
-    #  *  `radiobuttons`: `multiselectsearcher`
-    #  *  `readonlyfield`: `textsearcher`
-    #  *  `select`: `multiselectsearcher`
-    #  *  `textarea`: `textsearcher`
-    #  *  `textfield`: `textsearcher`
-    #  *  `url`: `exacttextsearcher`
-    #  *  `userpicker`: `userpickergroupsearcher`
-    #  *  `version`: `versionsearcher`
-    "com.atlassian.jira.plugin.system.customfieldtypes:cascadingselectsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:daterange"|"com.atlassian.jira.plugin.system.customfieldtypes:datetimerange"|"com.atlassian.jira.plugin.system.customfieldtypes:exactnumber"|"com.atlassian.jira.plugin.system.customfieldtypes:exacttextsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:grouppickersearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:labelsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:multiselectsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:numberrange"|"com.atlassian.jira.plugin.system.customfieldtypes:projectsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:textsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:userpickergroupsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:versionsearcher" searcherKey?;
+# Details about the mapping between issue types and a workflow.
+public type IssueTypesWorkflowMapping record {|
+    # The name of the workflow. Optional if updating the workflow-issue types mapping.
+    string workflow?;
+    # The list of issue type IDs.
+    string[] issueTypes?;
+    # Whether the workflow is the default workflow for the workflow scheme.
+    boolean defaultMapping?;
+    # Whether a draft workflow scheme is created or updated when updating an active workflow scheme. The draft is updated with the new workflow-issue types mapping. Defaults to `false`.
+    boolean updateDraftIfNeeded?;
 |};
 
-# The list of groups found in a search, including header text (Showing X of Y matching groups) and total of matched groups.
-public type FoundGroups record {|
-    # Header text indicating the number of groups in the response and the total number of groups found in the search.
-    string header?;
-    # The total number of groups found in the search.
-    int:Signed32 total?;
-    FoundGroup[] groups?;
-|};
+# Details of an issue update request.
+public type IssueUpdateDetails record {
+    # Details of a transition. Required when performing a transition, optional when creating or editing an issue.
+    IssueTransition transition?;
+    # List of issue screen fields to update, specifying the sub-field to update and its value for each field. This field provides a straightforward option when setting a sub-field. When multiple sub-fields or other operations are required, use `update`. Fields included in here cannot be included in `update`.
+    record {} fields?;
+    # List of operations to perform on issue screen fields. Note that fields included in here cannot be included in `fields`.
+    record {|FieldUpdateOperation[]...;|} update?;
+    # Additional issue history details.
+    HistoryMetadata historyMetadata?;
+    # Details of issue properties to be add or update.
+    EntityProperty[] properties?;
+};
 
-# A list of JQL queries to parse.
-public type JqlQueriesToParse record {|
-    # A list of queries to parse.
-    JqlQueriesToParseQueriesItemsString[] queries;
+# List of issues and JQL queries.
+public type IssuesAndJQLQueries record {|
+    # A list of JQL queries.
+    string[] jqls;
+    # A list of issue IDs.
+    int[] issueIds;
 |};
 
-# A page of items.
-public type PageBeanIssueTypeScreenSchemesProjects record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    IssueTypeScreenSchemesProjects[] values?;
+# The description of the page of issues loaded by the provided JQL query.
+public type IssuesJqlMetaDataBean record {|
+    # The index of the first issue.
+    int startAt;
+    # The maximum number of issues that could be loaded in this evaluation.
+    int:Signed32 maxResults;
+    # The number of issues that were loaded in this evaluation.
+    int:Signed32 count;
+    # The total number of issues the JQL returned.
+    int totalCount;
+    # Any warnings related to the JQL query. Present only if the validation mode was set to `warn`.
+    string[] validationWarnings?;
 |};
 
-# Details about a project.
-public type Project record {|
-    # Expand options that include additional project details in the response.
-    string expand?;
-    # The URL of the project details.
-    string self?;
-    # The ID of the project.
-    string id?;
-    # The key of the project.
-    string 'key?;
-    # A brief description of the project.
-    string description?;
-    # The username of the project lead.
-    User lead?;
-    # List of the components contained in the project.
-    Component[] components?;
-    # List of the issue types available in the project.
-    IssueTypeDetails[] issueTypes?;
-    # A link to information about this project, such as project documentation.
-    string url?;
-    # An email address associated with the project.
-    string email?;
-    # The default assignee when creating issues for this project.
-    "PROJECT_LEAD"|"UNASSIGNED" assigneeType?;
-    # The versions defined in the project. For more information, see [Create version](#api-rest-api-2-version-post).
-    Version[] versions?;
-    # The name of the project.
-    string name?;
-    # The name and self URL for each role defined in the project. For more information, see [Create project role](#api-rest-api-2-role-post).
-    record {|string...;|} roles?;
-    # The URLs of the project's avatars.
-    AvatarUrlsBean avatarUrls?;
-    # The category the project belongs to.
-    ProjectCategory projectCategory?;
-    # The [project type](https://confluence.atlassian.com/x/GwiiLQ#Jiraapplicationsoverview-Productfeaturesandprojecttypes) of the project.
-    "software"|"service_desk"|"business" projectTypeKey?;
-    # Whether the project is simplified.
-    boolean simplified?;
-    # The type of the project.
-    "classic"|"next-gen" style?;
-    # Whether the project is selected as a favorite.
-    boolean favourite?;
-    # Whether the project is private.
-    boolean isPrivate?;
-    # The issue type hierarchy for the project.
-    Hierarchy issueTypeHierarchy?;
-    # User permissions on the project
-    ProjectPermissions permissions?;
-    # Map of project properties
-    record {} properties?;
-    # Unique ID for next-gen projects.
-    string uuid?;
-    # Insights about the project.
-    ProjectInsight insight?;
-    # Whether the project is marked as deleted.
-    boolean deleted?;
-    # The date when the project is deleted permanently.
-    string retentionTillDate?;
-    # The date when the project was marked as deleted.
-    string deletedDate?;
-    # The user who marked the project as deleted.
-    User deletedBy?;
-    # Whether the project is archived.
-    boolean archived?;
-    # The date when the project was archived.
-    string archivedDate?;
-    # The user who archived the project.
-    User archivedBy?;
+# Meta data describing the `issues` context variable.
+public type IssuesMetaBean record {|
+    IssuesJqlMetaDataBean jql?;
 |};
 
-# List of project avatars.
-public type ProjectAvatars record {|
-    # List of avatars included with Jira. These avatars cannot be deleted.
-    Avatar[] system?;
-    # List of avatars added to Jira. These avatars may be deleted.
-    Avatar[] custom?;
+public type IssuesUpdateBean record {
+    IssueUpdateDetails[] issueUpdates?;
+};
+
+# The JQL queries to be converted.
+public type JQLPersonalDataMigrationRequest record {|
+    # A list of queries with user identifiers. Maximum of 100 queries.
+    string[] queryStrings?;
 |};
 
-# Details of the user associated with the role.
-public type ProjectRoleUser record {|
-    # The account ID of the user, which uniquely identifies the user across all Atlassian products. For example, *5b10ac8d82e05b22cc7d4ef5*. Returns *unknown* if the record is deleted and corrupted, for example, as the result of a server import.
-    @constraint:String {maxLength: 128}
-    string accountId?;
+# Lists of JQL reference data.
+public type JQLReferenceData record {|
+    # List of fields usable in JQL queries.
+    FieldReferenceData[] visibleFieldNames?;
+    # List of functions usable in JQL queries.
+    FunctionReferenceData[] visibleFunctionNames?;
+    # List of JQL query reserved words.
+    string[] jqlReservedWords?;
 |};
 
-public type LinkIssueRequestJsonBean record {|
-    IssueLinkType 'type;
-    LinkedIssue inwardIssue;
-    LinkedIssue outwardIssue;
-    Comment comment?;
+public type JQLReferenceDataOk record {|
+    *http:Ok;
+    JQLReferenceData body;
 |};
 
-# A page of items.
-public type PageBeanUser record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
+# The JQL specifying the issues available in the evaluated Jira expression under the `issues` context variable. Not all issues returned by the JQL query are loaded, only those described by the `startAt` and `maxResults` properties. To determine whether it is necessary to iterate to ensure all the issues returned by the JQL query are evaluated, inspect `meta.issues.jql.count` in the response.
+public type JexpJqlIssues record {|
+    # The JQL query.
+    string query?;
+    # The index of the first issue to return from the JQL query.
     int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    User[] values?;
+    # The maximum number of issues to return from the JQL query. Inspect `meta.issues.jql.maxResults` in the response to ensure the maximum value has not been exceeded.
+    int:Signed32 maxResults?;
+    # Determines how to validate the JQL query and treat the validation results.
+    "strict"|"warn"|"none" validation = "strict";
 |};
 
-# Details of the issue creation metadata for an issue type.
-public type IssueTypeIssueCreateMetadata record {|
-    # The URL of these issue type details.
-    string self?;
-    # The ID of the issue type.
-    string id?;
-    # The description of the issue type.
-    string description?;
-    # The URL of the issue type's avatar.
-    string iconUrl?;
-    # The name of the issue type.
-    string name?;
-    # Whether this issue type is used to create subtasks.
-    boolean subtask?;
-    # The ID of the issue type's avatar.
-    int avatarId?;
-    # Unique ID for next-gen projects.
-    string entityId?;
-    # Hierarchy level of the issue type.
-    int:Signed32 hierarchyLevel?;
-    # Details of the next-gen projects the issue type is available in.
-    Scope scope?;
-    # Expand options that include additional issue type metadata details in the response.
-    string expand?;
-    # List of the fields available when creating an issue for the issue type.
-    record {|FieldMetadata...;|} fields?;
+# The JQL specifying the issues available in the evaluated Jira expression under the `issues` context variable.
+public type JexpIssues record {|
+    # The JQL query that specifies the set of issues available in the Jira expression.
+    JexpJqlIssues jql?;
 |};
 
-public type Group record {|
-    # The name of group.
-    string name?;
-    # The URL for these group details.
-    string self?;
-    # A paginated list of the users that are members of the group. A maximum of 50 users is returned in the list, to access additional users append `[start-index:end-index]` to the expand request. For example, to access the next 50 users, use`?expand=users[51:100]`.
-    PagedListUserDetailsApplicationUser users?;
-    # Expand options that include additional group details in the response.
-    string expand?;
+# Details about the complexity of the analysed Jira expression.
+public type JiraExpressionComplexity record {|
+    # Information that can be used to determine how many [expensive operations](https://developer.atlassian.com/cloud/jira/platform/jira-expressions/#expensive-operations) the evaluation of the expression will perform. This information may be a formula or number. For example:
+    #
+    #  *  `issues.map(i => i.comments)` performs as many expensive operations as there are issues on the issues list. So this parameter returns `N`, where `N` is the size of issue list.
+    #  *  `new Issue(10010).comments` gets comments for one issue, so its complexity is `2` (`1` to retrieve issue 10010 from the database plus `1` to get its comments).
+    string expensiveOperations;
+    # Variables used in the formula, mapped to the parts of the expression they refer to.
+    record {|string...;|} variables?;
+|};
+
+# Details about syntax and type errors. The error details apply to the entire expression, unless the object includes:
+#
+#  *  `line` and `column`
+#  *  `expression`
+public type JiraExpressionValidationError record {|
+    # The text line in which the error occurred.
+    int:Signed32 line?;
+    # The text column in which the error occurred.
+    int:Signed32 column?;
+    # The part of the expression in which the error occurred.
+    string expression?;
+    # Details about the error.
+    string message;
+    # The error type.
+    "syntax"|"type"|"other" 'type;
 |};
 
-# Details about a field.
-public type FieldDetails record {|
-    # The ID of the field.
-    string id?;
-    # The key of the field.
-    string 'key?;
-    # The name of the field.
-    string name?;
-    # Whether the field is a custom field.
-    boolean custom?;
-    # Whether the content of the field can be used to order lists.
-    boolean orderable?;
-    # Whether the field can be used as a column on the issue navigator.
-    boolean navigable?;
-    # Whether the content of the field can be searched.
-    boolean searchable?;
-    # The names that can be used to reference the field in an advanced search. For more information, see [Advanced searching - fields reference](https://confluence.atlassian.com/x/gwORLQ).
-    string[] clauseNames?;
-    # The scope of the field.
-    Scope scope?;
-    # The data schema for the field.
-    JsonTypeBean schema?;
+# Details about the analysed Jira expression.
+public type JiraExpressionAnalysis record {|
+    # The analysed expression.
+    string expression;
+    # A list of validation errors. Not included if the expression is valid.
+    JiraExpressionValidationError[] errors?;
+    # Whether the expression is valid and the interpreter will evaluate it. Note that the expression may fail at runtime (for example, if it executes too many expensive operations).
+    boolean valid;
+    # EXPERIMENTAL. The inferred type of the expression.
+    string 'type?;
+    JiraExpressionComplexity complexity?;
 |};
 
-# Details of an issue type scheme and its associated issue types.
-public type IssueTypeSchemeDetails record {|
-    # The name of the issue type scheme. The name must be unique. The maximum length is 255 characters.
-    string name;
-    # The description of the issue type scheme. The maximum length is 4000 characters.
-    string description?;
-    # The ID of the default issue type of the issue type scheme. This ID must be included in `issueTypeIds`.
-    string defaultIssueTypeId?;
-    # The list of issue types IDs of the issue type scheme. At least one standard issue type ID is required.
-    string[] issueTypeIds;
+public type JiraExpressionEvalContextBean record {|
+    # The issue that is available under the `issue` variable when evaluating the expression.
+    IdOrKeyBean issue?;
+    # The collection of issues that is available under the `issues` variable when evaluating the expression.
+    JexpIssues issues?;
+    # The project that is available under the `project` variable when evaluating the expression.
+    IdOrKeyBean project?;
+    # The ID of the sprint that is available under the `sprint` variable when evaluating the expression.
+    int sprint?;
+    # The ID of the board that is available under the `board` variable when evaluating the expression.
+    int board?;
+    # The ID of the service desk that is available under the `serviceDesk` variable when evaluating the expression.
+    int serviceDesk?;
+    # The ID of the customer request that is available under the `customerRequest` variable when evaluating the expression. This is the same as the ID of the underlying Jira issue, but the customer request context variable will have a different type.
+    int customerRequest?;
 |};
 
-public type CreateUpdateRoleRequestBean record {|
-    # The name of the project role. Must be unique. Cannot begin or end with whitespace. The maximum length is 255 characters. Required when creating a project role. Optional when partially updating a project role.
-    string name?;
-    # A description of the project role. Required when fully updating a project role. Optional when creating or partially updating a project role.
-    string description?;
+public type JiraExpressionEvalRequestBean record {|
+    # The Jira expression to evaluate.
+    string expression;
+    # The context in which the Jira expression is evaluated.
+    JiraExpressionEvalContextBean context?;
 |};
 
-# A parsed JQL query.
-public type JqlQuery record {|
-    JqlQueryClause 'where?;
-    JqlQueryOrderByClause orderBy?;
+public type JiraExpressionsComplexityValueBean record {|
+    # The complexity value of the current expression.
+    int:Signed32 value;
+    # The maximum allowed complexity. The evaluation will fail if this value is exceeded.
+    int:Signed32 'limit;
 |};
 
-public type DeleteAndReplaceVersionBean record {|
-    # The ID of the version to update `fixVersion` to when the field contains the deleted version.
-    int moveFixIssuesTo?;
-    # The ID of the version to update `affectedVersion` to when the field contains the deleted version.
-    int moveAffectedIssuesTo?;
-    # An array of custom field IDs (`customFieldId`) and version IDs (`moveTo`) to update when the fields contain the deleted version.
-    CustomFieldReplacement[] customFieldReplacementList?;
+public type JiraExpressionsComplexityBean record {|
+    # The number of steps it took to evaluate the expression, where a step is a high-level operation performed by the expression. A step is an operation such as arithmetic, accessing a property, accessing a context variable, or calling a function.
+    JiraExpressionsComplexityValueBean steps;
+    # The number of expensive operations executed while evaluating the expression. Expensive operations are those that load additional data, such as entity properties, comments, or custom fields.
+    JiraExpressionsComplexityValueBean expensiveOperations;
+    # The number of Jira REST API beans returned in the response.
+    JiraExpressionsComplexityValueBean beans;
+    # The number of primitive values returned in the response.
+    JiraExpressionsComplexityValueBean primitiveValues;
 |};
 
-# A change item.
-public type ChangeDetails record {|
-    # The name of the field changed.
-    string 'field?;
-    # The type of the field changed.
-    string fieldtype?;
-    # The ID of the field changed.
-    string fieldId?;
-    # The details of the original value.
-    string 'from?;
-    # The details of the original value as a string.
-    string fromString?;
-    # The details of the new value.
-    string to?;
-    # The details of the new value as a string.
-    string toString?;
+public type JiraExpressionEvaluationMetaDataBean record {|
+    # Contains information about the expression complexity. For example, the number of steps it took to evaluate the expression.
+    JiraExpressionsComplexityBean complexity?;
+    # Contains information about the `issues` variable in the context. For example, is the issues were loaded with JQL, information about the page will be included here.
+    IssuesMetaBean issues?;
 |};
 
-# An element of the order-by JQL clause.
-public type JqlQueryOrderByClauseElement record {|
-    JqlQueryField 'field;
-    # The direction in which to order the results.
-    "asc"|"desc" direction?;
+# Details of Jira expressions for analysis.
+public type JiraExpressionForAnalysis record {|
+    # The list of Jira expressions to analyse.
+    string[] expressions;
+    # Context variables and their types. The type checker assumes that [common context variables](https://developer.atlassian.com/cloud/jira/platform/jira-expressions/#context-variables), such as `issue` or `project`, are available in context and sets their type. Use this property to override the default types or provide details of new variables.
+    record {|string...;|} contextVariables?;
 |};
 
-# List of system avatars.
-public type SystemAvatars record {|
-    # A list of avatar details.
-    Avatar[] system?;
+# The result of evaluating a Jira expression.
+public type JiraExpressionResult record {|
+    # The value of the evaluated expression. It may be a primitive JSON value or a Jira REST API object. (Some expressions do not produce any meaningful results—for example, an expression that returns a lambda function—if that's the case a simple string representation is returned. These string representations should not be relied upon and may change without notice.)
+    anydata value;
+    # Contains various characteristics of the performed expression evaluation.
+    JiraExpressionEvaluationMetaDataBean meta?;
 |};
 
-# The details of votes on an issue.
-public type Votes record {|
-    # The URL of these issue vote details.
-    string self?;
-    # The number of votes on the issue.
-    int votes?;
-    # Whether the user making this request has voted on the issue.
-    boolean hasVoted?;
-    # List of the users who have voted on this issue. An empty list is returned when the calling user doesn't have the *View voters and watchers* project permission.
-    User[] voters?;
+public type JiraExpressionResultOk record {|
+    *http:Ok;
+    JiraExpressionResult body;
 |};
 
-# Details of the options to update for a custom field.
-public type BulkCustomFieldOptionUpdateRequest record {|
-    # Details of the options to update.
-    CustomFieldOptionUpdate[] options?;
+# Details about the analysed Jira expression.
+public type JiraExpressionsAnalysis record {|
+    # The results of Jira expressions analysis.
+    JiraExpressionAnalysis[] results;
 |};
 
-# A list of issue type screen scheme mappings.
-public type IssueTypeScreenSchemeMappingDetails record {|
-    # The list of issue type to screen scheme mappings. A *default* entry cannot be specified because a default entry is added when an issue type screen scheme is created.
-    IssueTypeScreenSchemeMapping[] issueTypeMappings;
+public type JiraExpressionsAnalysisOk record {|
+    *http:Ok;
+    JiraExpressionsAnalysis body;
 |};
 
-# A context.
-public type Context record {|
-    # The ID of the context.
-    int id?;
-    # The name of the context.
-    string name?;
-    # The scope of the context.
-    Scope scope?;
+@constraint:String {minLength: 1}
+public type JqlQueriesToParseQueriesItemsString string;
+
+# A list of JQL queries to parse.
+public type JqlQueriesToParse record {|
+    # A list of queries to parse.
+    JqlQueriesToParseQueriesItemsString[] queries;
 |};
 
-# A page of items.
-public type PageBeanFieldConfigurationIssueTypeItem record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    FieldConfigurationIssueTypeItem[] values?;
+# An element of the order-by JQL clause.
+public type JqlQueryOrderByClauseElement record {|
+    JqlQueryField 'field;
+    # The direction in which to order the results.
+    "asc"|"desc" direction?;
 |};
 
-# A page of items.
-public type PageBeanCustomFieldContextProjectMapping record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    CustomFieldContextProjectMapping[] values?;
+# Details of the order-by JQL clause.
+public type JqlQueryOrderByClause record {|
+    # The list of order-by clause fields and their ordering directives.
+    JqlQueryOrderByClauseElement[] fields;
 |};
 
-public type IssueBean record {|
-    # Expand options that include additional issue details in the response.
-    string expand?;
-    # The ID of the issue.
-    string id?;
-    # The URL of the issue details.
-    string self?;
-    # The key of the issue.
-    string 'key?;
-    # The rendered value of each field present on the issue.
-    record {} renderedFields?;
-    # Details of the issue properties identified in the request.
-    record {} properties?;
-    # The ID and name of each field present on the issue.
-    record {|string...;|} names?;
-    # The schema describing each field present on the issue.
-    record {|JsonTypeBean...;|} schema?;
-    # The transitions that can be performed on the issue.
-    IssueTransition[] transitions?;
-    # The operations that can be performed on the issue.
-    Operations operations?;
-    # The metadata for the fields on the issue that can be amended.
-    IssueUpdateMetadata editmeta?;
-    # Details of changelogs associated with the issue.
-    PageOfChangelogs changelog?;
-    # The versions of each field on the issue.
-    record {|record {}...;|} versionedRepresentations?;
-    IncludedFields fieldsToInclude?;
-    record {} fields?;
+# A parsed JQL query.
+public type JqlQuery record {|
+    JqlQueryClause 'where?;
+    JqlQueryOrderByClause orderBy?;
 |};
 
-public type JsonConflict record {|
-    *http:Conflict;
+public type JsonAccepted record {|
+    *http:Accepted;
     json body;
 |};
 
-# The screen scheme for an issue type.
-public type IssueTypeScreenSchemeItem record {|
-    # The ID of the issue type screen scheme.
-    string issueTypeScreenSchemeId;
-    # The ID of the issue type or *default*. Only issue types used in classic projects are accepted. When creating an issue screen scheme, an entry for *default* must be provided and defines the mapping for all issue types without a screen scheme. Otherwise, a *default* entry can't be provided.
-    string issueTypeId;
-    # The ID of the screen scheme.
-    string screenSchemeId;
+public type JsonBadRequest record {|
+    *http:BadRequest;
+    json body;
 |};
 
-public type ErrorMessageUnauthorized record {|
-    *http:Unauthorized;
-    ErrorMessage body;
+public type JsonConflict record {|
+    *http:Conflict;
+    json body;
 |};
 
-public type AddGroupBean record {
-    # The name of the group.
-    string name;
-};
+public type JsonCreated record {|
+    *http:Created;
+    json body;
+|};
 
-# Details of a user, group, field, or project role that holds a permission. See [Holder object](../api-group-permission-schemes/#holder-object) in *Get all permission schemes* for more information.
-public type PermissionHolder record {|
-    # The type of permission holder.
-    string 'type;
-    # The identifier of permission holder.
-    string 'parameter?;
-    # Expand options that include additional permission holder details in the response.
-    string expand?;
+public type JsonForbidden record {|
+    *http:Forbidden;
+    json body;
 |};
 
-# A JQL query clause.
-public type JqlQueryClause CompoundClause|FieldValueClause|FieldWasClause|FieldChangedClause;
+public type JsonNotFound record {|
+    *http:NotFound;
+    json body;
+|};
 
-# Details about an issue type.
-public type IssueTypeDetails record {|
-    # The URL of these issue type details.
-    string self?;
-    # The ID of the issue type.
-    string id?;
-    # The description of the issue type.
-    string description?;
-    # The URL of the issue type's avatar.
-    string iconUrl?;
-    # The name of the issue type.
-    string name?;
-    # Whether this issue type is used to create subtasks.
-    boolean subtask?;
-    # The ID of the issue type's avatar.
-    int avatarId?;
-    # Unique ID for next-gen projects.
-    string entityId?;
-    # Hierarchy level of the issue type.
-    int:Signed32 hierarchyLevel?;
-    # Details of the next-gen projects the issue type is available in.
-    Scope scope?;
+public type JsonOk record {|
+    *http:Ok;
+    json body;
 |};
 
-# A list of issues suggested for use in auto-completion.
-public type IssuePickerSuggestions record {|
-    # A list of issues for an issue type suggested for use in auto-completion.
-    IssuePickerSuggestionsIssueType[] sections?;
+# Details about a licensed Jira application.
+public type LicensedApplication record {|
+    # The ID of the application.
+    string id;
+    # The licensing plan.
+    "UNLICENSED"|"FREE"|"PAID" plan;
 |};
 
-public type ParsedJqlQueriesOk record {|
-    *http:Ok;
-    ParsedJqlQueries body;
+# Details about a license for the Jira instance.
+public type License record {|
+    # The applications under this license.
+    LicensedApplication[] applications;
 |};
 
-# The JQL specifying the issues available in the evaluated Jira expression under the `issues` context variable. Not all issues returned by the JQL query are loaded, only those described by the `startAt` and `maxResults` properties. To determine whether it is necessary to iterate to ensure all the issues returned by the JQL query are evaluated, inspect `meta.issues.jql.count` in the response.
-public type JexpJqlIssues record {|
-    # The JQL query.
-    string query?;
-    # The index of the first issue to return from the JQL query.
-    int startAt?;
-    # The maximum number of issues to return from the JQL query. Inspect `meta.issues.jql.maxResults` in the response to ensure the maximum value has not been exceeded.
-    int:Signed32 maxResults?;
-    # Determines how to validate the JQL query and treat the validation results.
-    "strict"|"warn"|"none" validation = "strict";
+public type LinkIssueRequestJsonBean record {|
+    IssueLinkType 'type;
+    LinkedIssue inwardIssue;
+    LinkedIssue outwardIssue;
+    Comment comment?;
 |};
 
-# A webhook.
-public type Webhook record {|
-    # The ID of the webhook.
-    int id;
-    # The JQL filter that specifies which issues the webhook is sent for.
-    string jqlFilter;
-    # The Jira events that trigger the webhook.
-    ("jira:issue_created"|"jira:issue_updated"|"jira:issue_deleted"|"comment_created"|"comment_updated"|"comment_deleted"|"issue_property_set"|"issue_property_deleted")[] events;
-    int expirationDate;
+# Details of a locale.
+public type Locale record {|
+    # The locale code. The Java the locale format is used: a two character language code (ISO 639), an underscore, and two letter country code (ISO 3166). For example, en\_US represents a locale of English (United States). Required on create.
+    string locale?;
 |};
 
-# The wrapper for the issue creation metadata for a list of projects.
-public type IssueCreateMetadata record {|
-    # Expand options that include additional project details in the response.
-    string expand?;
-    # List of projects and their issue creation metadata.
-    ProjectIssueCreateMetadata[] projects?;
+public type MoveFieldBean record {|
+    # The ID of the screen tab field after which to place the moved screen tab field. Required if `position` isn't provided.
+    string after?;
+    # The named position to which the screen tab field should be moved. Required if `after` isn't provided.
+    "Earlier"|"Later"|"First"|"Last" position?;
 |};
 
-# Details of a permission and its availability to a user.
-public type UserPermission record {
+# Details of the users and groups to receive the notification.
+public type NotificationRecipients record {
+    # Whether the notification should be sent to the issue's reporter.
+    boolean reporter?;
+    # Whether the notification should be sent to the issue's assignees.
+    boolean assignee?;
+    # Whether the notification should be sent to the issue's watchers.
+    boolean watchers?;
+    # Whether the notification should be sent to the issue's voters.
+    boolean voters?;
+    # List of users to receive the notification.
+    UserDetails[] users?;
+    # List of groups to receive the notification.
+    GroupName[] groups?;
+};
+
+# Details of the permission.
+public type RestrictedPermission record {
     # The ID of the permission. Either `id` or `key` must be specified. Use [Get all permissions](#api-rest-api-2-permissions-get) to get the list of permissions.
     string id?;
     # The key of the permission. Either `id` or `key` must be specified. Use [Get all permissions](#api-rest-api-2-permissions-get) to get the list of permissions.
     string 'key?;
-    # The name of the permission.
-    string name?;
-    # The type of the permission.
-    "GLOBAL"|"PROJECT" 'type?;
-    # The description of the permission.
-    string description?;
-    # Whether the permission is available to the user in the queried context.
-    boolean havePermission?;
-    # Indicate whether the permission key is deprecated. Note that deprecated keys cannot be used in the `permissions parameter of Get my permissions. Deprecated keys are not returned by Get all permissions.`
-    boolean deprecatedKey?;
 };
 
-public type MoveFieldBean record {|
-    # The ID of the screen tab field after which to place the moved screen tab field. Required if `position` isn't provided.
-    string after?;
-    # The named position to which the screen tab field should be moved. Required if `after` isn't provided.
-    "Earlier"|"Later"|"First"|"Last" position?;
+# Details of the group membership or permissions needed to receive the notification.
+public type NotificationRecipientsRestrictions record {|
+    # List of group memberships required to receive the notification.
+    GroupName[] groups?;
+    # List of permissions required to receive the notification.
+    RestrictedPermission[] permissions?;
 |};
 
-# Details about a group name.
-public type GroupName record {|
-    # The name of group.
+# Details about a notification.
+public type Notification record {
+    # The subject of the email notification for the issue. If this is not specified, then the subject is set to the issue key and summary.
+    string subject?;
+    # The plain text body of the email notification for the issue.
+    string textBody?;
+    # The HTML body of the email notification for the issue.
+    string htmlBody?;
+    # The recipients of the email notification for the issue.
+    NotificationRecipients to?;
+    # Restricts the notifications to users with the specified permissions.
+    NotificationRecipientsRestrictions restrict?;
+};
+
+# Details about a notification event.
+public type NotificationEvent record {|
+    # The ID of the event. The event can be a [Jira system event](https://confluence.atlassian.com/x/8YdKLg#Creatinganotificationscheme-eventsEvents) or a [custom event](https://confluence.atlassian.com/x/AIlKLg).
+    int id?;
+    # The name of the event.
     string name?;
-    # The URL for these group details.
+    # The description of the event.
+    string description?;
+    # The template of the event. Only custom events configured by Jira administrators have template.
+    NotificationEvent templateEvent?;
+|};
+
+# Details about a notification scheme event.
+public type NotificationSchemeEvent record {|
+    NotificationEvent event?;
+    EventNotification[] notifications?;
+|};
+
+# Details about a notification scheme.
+public type NotificationScheme record {|
+    # Expand options that include additional notification scheme details in the response.
+    string expand?;
+    # The ID of the notification scheme.
+    int id?;
     string self?;
+    # The name of the notification scheme.
+    string name?;
+    # The description of the notification scheme.
+    string description?;
+    # The notification events and associated recipients.
+    NotificationSchemeEvent[] notificationSchemeEvents?;
+    # The scope of the notification scheme.
+    Scope scope?;
 |};
 
-public type RemoteIssueLinkIdentifiesOk record {|
-    *http:Ok;
-    RemoteIssueLinkIdentifies body;
+public type OperationMessage record {|
+    # The human-readable message that describes the result.
+    string message;
+    # The status code of the response.
+    int statusCode;
 |};
 
-# The metadata describing an issue field.
-public type FieldMetadata record {|
-    # Whether the field is required.
-    boolean required;
-    # The data type of the field.
-    JsonTypeBean schema;
-    # The name of the field.
-    string name;
-    # The key of the field.
-    string 'key;
-    # The URL that can be used to automatically complete the field.
-    string autoCompleteUrl?;
-    # Whether the field has a default value.
-    boolean hasDefaultValue?;
-    # The list of operations that can be performed on the field.
-    string[] operations;
-    # The list of values allowed in the field.
-    anydata[] allowedValues?;
-    # The default value of the field.
-    anydata defaultValue?;
+public type OperationMessageBadRequest record {|
+    *http:BadRequest;
+    OperationMessage body;
+|};
+
+public type OperationMessageCreated record {|
+    *http:Created;
+    OperationMessage body;
+|};
+
+public type OperationMessageNotFound record {|
+    *http:NotFound;
+    OperationMessage body;
 |};
 
-# Details of an issue update request.
-public type IssueUpdateDetails record {
-    # Details of a transition. Required when performing a transition, optional when creating or editing an issue.
-    IssueTransition transition?;
-    # List of issue screen fields to update, specifying the sub-field to update and its value for each field. This field provides a straightforward option when setting a sub-field. When multiple sub-fields or other operations are required, use `update`. Fields included in here cannot be included in `update`.
-    record {} fields?;
-    # List of operations to perform on issue screen fields. Note that fields included in here cannot be included in `fields`.
-    record {|FieldUpdateOperation[]...;|} update?;
-    # Additional issue history details.
-    HistoryMetadata historyMetadata?;
-    # Details of issue properties to be add or update.
-    EntityProperty[] properties?;
-};
+public type OperationMessageUnauthorized record {|
+    *http:Unauthorized;
+    OperationMessage body;
+|};
 
 # An ordered list of custom field option IDs and information on where to move them.
 public type OrderOfCustomFieldOptions record {|
@@ -4850,258 +4674,334 @@ public type OrderOfCustomFieldOptions record {|
     "First"|"Last" position?;
 |};
 
-# Details of a dashboard.
-public type Dashboard record {|
-    string description?;
-    # The ID of the dashboard.
-    string id?;
-    # Whether the dashboard is selected as a favorite by the user.
-    boolean isFavourite?;
-    # The name of the dashboard.
-    string name?;
-    # The owner of the dashboard.
-    UserBean owner?;
-    # The number of users who have this dashboard as a favorite.
-    int popularity?;
-    # The rank of this dashboard.
-    int:Signed32 rank?;
-    # The URL of these dashboard details.
-    string self?;
-    # The details of any share permissions for the dashboard.
-    SharePermission[] sharePermissions?;
-    # The URL of the dashboard.
-    string view?;
-|};
-
-# A list of issue link type beans.
-public type IssueLinkTypes record {|
-    # The issue link type bean.
-    IssueLinkType[] issueLinkTypes?;
-|};
-
-# List of security schemes.
-public type SecuritySchemes record {|
-    # List of security schemes.
-    SecurityScheme[] issueSecuritySchemes?;
+# An ordered list of issue type IDs and information about where to move them.
+public type OrderOfIssueTypes record {|
+    # A list of the issue type IDs to move. The order of the issue type IDs in the list is the order they are given after the move.
+    string[] issueTypeIds;
+    # The ID of the issue type to place the moved issue types after. Required if `position` isn't provided.
+    string after?;
+    # The position the issue types should be moved to. Required if `after` isn't provided.
+    "First"|"Last" position?;
 |};
 
-# The result of a JQL search.
-public type SearchResults record {|
-    # Expand options that include additional search result details in the response.
-    string expand?;
-    # The index of the first item returned on the page.
-    int:Signed32 startAt?;
-    # The maximum number of results that could be on the page.
+# A page of items.
+public type PageBeanChangelog record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
     int:Signed32 maxResults?;
-    # The number of results on the page.
-    int:Signed32 total?;
-    # The list of issues found by the search.
-    IssueBean[] issues?;
-    # Any warnings related to the JQL query.
-    string[] warningMessages?;
-    # The ID and name of each field in the search results.
-    record {|string...;|} names?;
-    # The schema describing the field types in the search results.
-    record {|JsonTypeBean...;|} schema?;
-|};
-
-# Mapping of an issue type to a context.
-public type IssueTypeToContextMapping record {|
-    # The ID of the context.
-    string contextId;
-    # The ID of the issue type.
-    string issueTypeId?;
-    # Whether the context is mapped to any issue type.
-    boolean isAnyIssueType?;
-|};
-
-# The results from a JQL query.
-public type AutoCompleteSuggestions record {|
-    # The list of suggested item.
-    AutoCompleteSuggestion[] results?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    Changelog[] values?;
 |};
 
-public type ActorsMap record {|
-    # The user account ID of the user to add.
-    string[] user?;
-    # The name of the group to add.
-    string[] group?;
+# A page of items.
+public type PageBeanComment record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    Comment[] values?;
 |};
 
-public type DashboardOk record {|
+public type PageBeanCommentOk record {|
     *http:Ok;
-    Dashboard body;
+    PageBeanComment body;
 |};
 
-# A time predicate for a temporal JQL clause.
-public type JqlQueryClauseTimePredicate record {
-    # The operator between the field and the operand.
-    "before"|"after"|"from"|"to"|"on"|"during"|"by" operator;
-    JqlQueryClauseOperand operand;
-};
+# A page of items.
+public type PageBeanComponentWithIssueCount record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    ComponentWithIssueCount[] values?;
+|};
 
-# Details about a workflow scheme.
-public type WorkflowScheme record {|
-    # The ID of the workflow scheme.
-    int id?;
-    # The name of the workflow scheme. The name must be unique. The maximum length is 255 characters. Required when creating a workflow scheme.
-    string name?;
-    # The description of the workflow scheme.
-    string description?;
-    # The name of the default workflow for the workflow scheme. The default workflow has *All Unassigned Issue Types* assigned to it in Jira. If `defaultWorkflow` is not specified when creating a workflow scheme, it is set to *Jira Workflow (jira)*.
-    string defaultWorkflow?;
-    # The issue type to workflow mappings, where each mapping is an issue type ID and workflow name pair. Note that an issue type can only be mapped to one workflow in a workflow scheme.
-    record {|string...;|} issueTypeMappings?;
-    # For draft workflow schemes, this property is the name of the default workflow for the original workflow scheme. The default workflow has *All Unassigned Issue Types* assigned to it in Jira.
-    string originalDefaultWorkflow?;
-    # For draft workflow schemes, this property is the issue type to workflow mappings for the original workflow scheme, where each mapping is an issue type ID and workflow name pair. Note that an issue type can only be mapped to one workflow in a workflow scheme.
-    record {|string...;|} originalIssueTypeMappings?;
-    # Whether the workflow scheme is a draft or not.
-    boolean draft?;
-    # The user that last modified the draft workflow scheme. A modification is a change to the issue type-project mappings only. This property does not apply to non-draft workflows.
-    User lastModifiedUser?;
-    # The date-time that the draft workflow scheme was last modified. A modification is a change to the issue type-project mappings only. This property does not apply to non-draft workflows.
-    string lastModified?;
+# A page of items.
+public type PageBeanContext record {|
+    # The URL of the page.
     string self?;
-    # Whether to create or update a draft workflow scheme when updating an active workflow scheme. An active workflow scheme is a workflow scheme that is used by at least one project. The following examples show how this property works:
-    #
-    #  *  Update an active workflow scheme with `updateDraftIfNeeded` set to `true`: If a draft workflow scheme exists, it is updated. Otherwise, a draft workflow scheme is created.
-    #  *  Update an active workflow scheme with `updateDraftIfNeeded` set to `false`: An error is returned, as active workflow schemes cannot be updated.
-    #  *  Update an inactive workflow scheme with `updateDraftIfNeeded` set to `true`: The workflow scheme is updated, as inactive workflow schemes do not require drafts to update.
-    #
-    # Defaults to `false`.
-    boolean updateDraftIfNeeded?;
-    # The issue types available in Jira.
-    record {|IssueTypeDetails...;|} issueTypes?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    Context[] values?;
 |};
 
-# A screen tab.
-public type ScreenableTab record {|
-    # The ID of the screen tab.
-    int id?;
-    # The name of the screen tab. The maximum length is 255 characters.
-    string name;
+# A page of items.
+public type PageBeanContextForProjectAndIssueType record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    ContextForProjectAndIssueType[] values?;
 |};
 
-# Details of global permissions to look up and project permissions with associated projects and issues to look up.
-public type BulkPermissionsRequestBean record {|
-    # Project permissions with associated projects and issues to look up.
-    BulkProjectPermissions[] projectPermissions?;
-    # Global permissions to look up.
-    string[] globalPermissions?;
-    # The account ID of a user.
-    string accountId?;
+public type PageBeanContextForProjectAndIssueTypeOk record {|
+    *http:Ok;
+    PageBeanContextForProjectAndIssueType body;
 |};
 
-# Details about permissions.
-public type Permissions record {|
-    # List of permissions.
-    record {|UserPermission...;|} permissions?;
+# A page of items.
+public type PageBeanCustomFieldContext record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    CustomFieldContext[] values?;
 |};
 
-public type SimpleApplicationPropertyBean record {|
-    # The ID of the application property.
-    string id?;
-    # The new value.
-    string value?;
+# A page of items.
+public type PageBeanCustomFieldContextDefaultValue record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    CustomFieldContextDefaultValue[] values?;
 |};
 
-# Associated field configuration scheme and project.
-public type FieldConfigurationSchemeProjectAssociation record {|
-    # The ID of the field configuration scheme. If the field configuration scheme ID is `null`, the operation assigns the default field configuration scheme.
-    string fieldConfigurationSchemeId?;
-    # The ID of the project.
-    string projectId;
+# A page of items.
+public type PageBeanCustomFieldContextOption record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    CustomFieldContextOption[] values?;
 |};
 
-# A list of custom field options for a context.
-public type CustomFieldCreatedContextOptionsList record {|
-    # The created custom field options.
-    CustomFieldContextOption[] options?;
+# A page of items.
+public type PageBeanCustomFieldContextProjectMapping record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    CustomFieldContextProjectMapping[] values?;
 |};
 
-# A collection of transition rules.
-public type WorkflowRules record {|
-    # The workflow conditions.
-    WorkflowTransitionRule[] conditions;
-    WorkflowConditionBean conditionsTree?;
-    # The workflow validators.
-    WorkflowTransitionRule[] validators;
-    # The workflow post functions.
-    WorkflowTransitionRule[] postFunctions;
+# A page of items.
+public type PageBeanCustomFieldOptionDetails record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    CustomFieldOptionDetails[] values?;
 |};
 
-# Value of a custom field option and the values of its cascading options.
-public type CustomFieldOptionValue record {|
-    # The value of the custom field option.
-    @constraint:String {maxLength: 255}
-    string value;
-    # The cascading options.
-    string[] cascadingOptions?;
+# A page of items.
+public type PageBeanDashboard record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    Dashboard[] values?;
 |};
 
-# A workflow transition compound condition rule.
-public type WorkflowCompoundCondition record {
-    # The conditions operator.
-    "AND"|"OR" operator;
-    # The list of workflow conditions.
-    WorkflowConditionBean[] conditions;
-    string nodeType;
-};
+# A page of items.
+public type PageBeanField record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    Field[] values?;
+|};
 
-# A paged list. To access additional details append `[start-index:end-index]` to the expand request. For example, `?expand=sharedUsers[10:40]` returns a list starting at item 10 and finishing at item 40.
-public type PagedListUserDetailsApplicationUser record {|
-    # The number of items on the page.
-    int:Signed32 size?;
+# A page of items.
+public type PageBeanFieldConfiguration record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
     # The list of items.
-    UserDetails[] items?;
-    # The maximum number of results that could be on the page.
-    int:Signed32 max\-results?;
-    # The index of the first item returned on the page.
-    int:Signed32 start\-index?;
-    # The index of the last item returned on the page.
-    int:Signed32 end\-index?;
+    FieldConfiguration[] values?;
 |};
 
-public type ErrorMessageBadRequest record {|
-    *http:BadRequest;
-    ErrorMessage body;
+# A page of items.
+public type PageBeanFieldConfigurationIssueTypeItem record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    FieldConfigurationIssueTypeItem[] values?;
 |};
 
-# The project and issue type mapping with a matching custom field context.
-public type ContextForProjectAndIssueType record {|
-    # The ID of the project.
-    string projectId;
-    # The ID of the issue type.
-    string issueTypeId;
-    # The ID of the custom field context.
-    string contextId;
+# A page of items.
+public type PageBeanFieldConfigurationItem record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    FieldConfigurationItem[] values?;
 |};
 
-# The IDs of the screen schemes for the issue type IDs.
-public type IssueTypeScreenSchemeMapping record {|
-    # The ID of the issue type or *default*. Only issue types used in classic projects are accepted. An entry for *default* must be provided and defines the mapping for all issue types without a screen scheme.
-    string issueTypeId;
-    # The ID of the screen scheme. Only screen schemes used in classic projects are accepted.
-    string screenSchemeId;
+# A page of items.
+public type PageBeanFieldConfigurationScheme record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    FieldConfigurationScheme[] values?;
 |};
 
-# Details about a project type.
-public type ProjectType record {|
-    # The key of the project type.
-    string 'key?;
-    # The formatted key of the project type.
-    string formattedKey?;
-    # The key of the project type's description.
-    string descriptionI18nKey?;
-    # The icon of the project type.
-    string icon?;
-    # The color of the project type.
-    string color?;
+# A page of items.
+public type PageBeanFieldConfigurationSchemeProjects record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    FieldConfigurationSchemeProjects[] values?;
 |};
 
 # A page of items.
-public type PageBeanIssueTypeScreenScheme record {|
+public type PageBeanFilterDetails record {|
     # The URL of the page.
     string self?;
     # If there is another page of results, the URL of the next page.
@@ -5115,180 +5015,119 @@ public type PageBeanIssueTypeScreenScheme record {|
     # Whether this is the last page.
     boolean isLast?;
     # The list of items.
-    IssueTypeScreenScheme[] values?;
-|};
-
-# Lists of JQL reference data.
-public type JQLReferenceData record {|
-    # List of fields usable in JQL queries.
-    FieldReferenceData[] visibleFieldNames?;
-    # List of functions usable in JQL queries.
-    FunctionReferenceData[] visibleFunctionNames?;
-    # List of JQL query reserved words.
-    string[] jqlReservedWords?;
-|};
-
-# Details of the options to update for a custom field.
-public type UpdateCustomFieldOption record {|
-    # Details of the options to update.
-    RenamedOption[] options?;
-|};
-
-# Details of an issue type screen scheme.
-public type IssueTypeScreenScheme record {|
-    # The ID of the issue type screen scheme.
-    string id;
-    # The name of the issue type screen scheme.
-    string name;
-    # The description of the issue type screen scheme.
-    string description?;
-|};
-
-public type ProjectRoleActorsUpdateBean record {|
-    # The ID of the project role. Use [Get all project roles](#api-rest-api-2-role-get) to get a list of project role IDs.
-    int id?;
-    # The actors to add to the project role. Add groups using `atlassian-group-role-actor` and a list of group names. For example, `"atlassian-group-role-actor":["another","administrators"]}`. Add users using `atlassian-user-role-actor` and a list of account IDs. For example, `"atlassian-user-role-actor":["12345678-9abc-def1-2345-6789abcdef12", "abcdef12-3456-789a-bcde-f123456789ab"]`.
-    record {|string[]...;|} categorisedActors?;
-|};
-
-# Details of a custom field cascading option to rename.
-public type RenamedCascadingOption record {|
-    # The value of the cascading option.
-    string value;
-    # The new value of the cascading option.
-    @constraint:String {maxLength: 255}
-    string newValue;
-|};
-
-# Identifiers for a project.
-public type ProjectIdentifiers record {|
-    # The URL of the created project.
-    string self;
-    # The ID of the created project.
-    int id;
-    # The key of the created project.
-    string 'key;
-|};
-
-# Details of a screen.
-public type ScreenDetails record {|
-    # The name of the screen. The name must be unique. The maximum length is 255 characters.
-    string name;
-    # The description of the screen. The maximum length is 255 characters.
-    string description?;
-|};
-
-# Details of a remote issue link.
-public type RemoteIssueLinkRequest record {
-    # An identifier for the remote item in the remote system. For example, the global ID for a remote item in Confluence would consist of the app ID and page ID, like this: `appId=456&pageId=123`.
-    #
-    # Setting this field enables the remote issue link details to be updated or deleted using remote system and item details as the record identifier, rather than using the record's Jira ID.
-    #
-    # The maximum length is 255 characters.
-    string globalId?;
-    # Details of the remote application the linked item is in. For example, trello.
-    Application application?;
-    # Description of the relationship between the issue and the linked item. If not set, the relationship description "links to" is used in Jira.
-    string relationship?;
-    # Details of the item linked to.
-    RemoteObject 'object;
-};
-
-public type ConvertedJQLQueriesOk record {|
-    *http:Ok;
-    ConvertedJQLQueries body;
-|};
-
-public type JiraExpressionsComplexityValueBean record {|
-    # The complexity value of the current expression.
-    int:Signed32 value;
-    # The maximum allowed complexity. The evaluation will fail if this value is exceeded.
-    int:Signed32 'limit;
-|};
-
-public type IssueMatchesOk record {|
-    *http:Ok;
-    IssueMatches body;
-|};
-
-# A rule configuration.
-public type RuleConfiguration record {|
-    # Configuration of the rule, as it is stored by the Connect app on the rule configuration page.
-    string value;
+    FilterDetails[] values?;
 |};
 
-# Details about syntax and type errors. The error details apply to the entire expression, unless the object includes:
-#
-#  *  `line` and `column`
-#  *  `expression`
-public type JiraExpressionValidationError record {|
-    # The text line in which the error occurred.
-    int:Signed32 line?;
-    # The text column in which the error occurred.
-    int:Signed32 column?;
-    # The part of the expression in which the error occurred.
-    string expression?;
-    # Details about the error.
-    string message;
-    # The error type.
-    "syntax"|"type"|"other" 'type;
+# A page of items.
+public type PageBeanGroupDetails record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    GroupDetails[] values?;
 |};
 
-# ID of a registered webhook or error messages explaining why a webhook wasn't registered.
-public type RegisteredWebhook record {|
-    # The ID of the webhook. Returned if the webhook is created.
-    int createdWebhookId?;
-    # Error messages specifying why the webhook creation failed.
-    string[] errors?;
+# A page of items.
+public type PageBeanIssueFieldOption record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    IssueFieldOption[] values?;
 |};
 
-# Details of functions that can be used in advanced searches.
-public type FunctionReferenceData record {|
-    # The function identifier.
-    string value?;
-    # The display name of the function.
-    string displayName?;
-    # Whether the function can take a list of arguments.
-    "true"|"false" isList?;
-    # The data types returned by the function.
-    string[] types?;
+# A page of items.
+public type PageBeanIssueSecurityLevelMember record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    IssueSecurityLevelMember[] values?;
 |};
 
-# Details of context to project associations.
-public type CustomFieldContextProjectMapping record {|
-    # The ID of the context.
-    string contextId;
-    # The ID of the project.
-    string projectId?;
-    # Whether context is global.
-    boolean isGlobalContext?;
+# A page of items.
+public type PageBeanIssueTypeScheme record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    IssueTypeScheme[] values?;
 |};
 
-public type JiraExpressionEvalContextBean record {|
-    # The issue that is available under the `issue` variable when evaluating the expression.
-    IdOrKeyBean issue?;
-    # The collection of issues that is available under the `issues` variable when evaluating the expression.
-    JexpIssues issues?;
-    # The project that is available under the `project` variable when evaluating the expression.
-    IdOrKeyBean project?;
-    # The ID of the sprint that is available under the `sprint` variable when evaluating the expression.
-    int sprint?;
-    # The ID of the board that is available under the `board` variable when evaluating the expression.
-    int board?;
-    # The ID of the service desk that is available under the `serviceDesk` variable when evaluating the expression.
-    int serviceDesk?;
-    # The ID of the customer request that is available under the `customerRequest` variable when evaluating the expression. This is the same as the ID of the underlying Jira issue, but the customer request context variable will have a different type.
-    int customerRequest?;
+# A page of items.
+public type PageBeanIssueTypeSchemeMapping record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    IssueTypeSchemeMapping[] values?;
 |};
 
-# Details of the order-by JQL clause.
-public type JqlQueryOrderByClause record {|
-    # The list of order-by clause fields and their ordering directives.
-    JqlQueryOrderByClauseElement[] fields;
+# A page of items.
+public type PageBeanIssueTypeSchemeProjects record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    IssueTypeSchemeProjects[] values?;
 |};
 
 # A page of items.
-public type PageBeanString record {|
+public type PageBeanIssueTypeScreenScheme record {|
     # The URL of the page.
     string self?;
     # If there is another page of results, the URL of the next page.
@@ -5302,32 +5141,47 @@ public type PageBeanString record {|
     # Whether this is the last page.
     boolean isLast?;
     # The list of items.
-    string[] values?;
+    IssueTypeScreenScheme[] values?;
 |};
 
-# Details about the replacement for a deleted version.
-public type CustomFieldReplacement record {|
-    # The ID of the custom field in which to replace the version number.
-    int customFieldId?;
-    # The version number to use as a replacement for the deleted version.
-    int moveTo?;
+# A page of items.
+public type PageBeanIssueTypeScreenSchemeItem record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    IssueTypeScreenSchemeItem[] values?;
 |};
 
-# Details of an issue navigator column item.
-public type ColumnItem record {|
-    # The issue navigator column label.
-    string label?;
-    # The issue navigator column value.
-    string value?;
+# A page of items.
+public type PageBeanIssueTypeScreenSchemesProjects record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    IssueTypeScreenSchemesProjects[] values?;
 |};
 
-# A [Connect module](https://developer.atlassian.com/cloud/jira/platform/about-jira-modules/) in the same format as in the
-# [app descriptor](https://developer.atlassian.com/cloud/jira/platform/app-descriptor/).
-public type ConnectModule record {
-};
-
 # A page of items.
-public type PageBeanVersion record {|
+public type PageBeanIssueTypeToContextMapping record {|
     # The URL of the page.
     string self?;
     # If there is another page of results, the URL of the next page.
@@ -5341,84 +5195,59 @@ public type PageBeanVersion record {|
     # Whether this is the last page.
     boolean isLast?;
     # The list of items.
-    Version[] values?;
+    IssueTypeToContextMapping[] values?;
 |};
 
-# Information about the most recent use of a field.
-public type FieldLastUsed record {|
-    # Last used value type:
-    #
-    #  *  *TRACKED*: field is tracked and a last used date is available.
-    #  *  *NOT\_TRACKED*: field is not tracked, last used date is not available.
-    #  *  *NO\_INFORMATION*: field is tracked, but no last used date is available.
-    "TRACKED"|"NOT_TRACKED"|"NO_INFORMATION" 'type?;
-    # The date when the value of the field last changed.
-    string value?;
+# A page of items.
+public type PageBeanNotificationScheme record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    NotificationScheme[] values?;
 |};
 
-public type CustomFieldDefinitionJsonBean record {|
-    # The name of the custom field, which is displayed in Jira. This is not the unique identifier.
-    string name;
-    # The description of the custom field, which is displayed in Jira.
-    string description?;
-    # The type of the custom field. For example, *com.atlassian.jira.plugin.system.customfieldtypes:grouppicker*.
-    #
-    #  *  `cascadingselect`: Allows multiple values to be selected using two select lists
-    #  *  `datepicker`: Stores a date using a picker control
-    #  *  `datetime`: Stores a date with a time component
-    #  *  `float`: Stores and validates a numeric (floating point) input
-    #  *  `grouppicker`: Stores a user group using a picker control
-    #  *  `importid`: A read-only field that stores the previous ID of the issue from the system that it was imported from
-    #  *  `labels`: Stores labels
-    #  *  `multicheckboxes`: Stores multiple values using checkboxes
-    #  *  `multigrouppicker`: Stores multiple user groups using a picker control
-    #  *  `multiselect`: Stores multiple values using a select list
-    #  *  `multiuserpicker`: Stores multiple users using a picker control
-    #  *  `multiversion`: Stores multiple versions from the versions available in a project using a picker control
-    #  *  `project`: Stores a project from a list of projects that the user is permitted to view
-    #  *  `radiobuttons`: Stores a value using radio buttons
-    #  *  `readonlyfield`: Stores a read-only text value, which can only be populated via the API
-    #  *  `select`: Stores a value from a configurable list of options
-    #  *  `textarea`: Stores a long text string using a multiline text area
-    #  *  `textfield`: Stores a text string using a single-line text box
-    #  *  `url`: Stores a URL
-    #  *  `userpicker`: Stores a user using a picker control
-    #  *  `version`: Stores a version using a picker control
-    "com.atlassian.jira.plugin.system.customfieldtypes:cascadingselect"|"com.atlassian.jira.plugin.system.customfieldtypes:datepicker"|"com.atlassian.jira.plugin.system.customfieldtypes:datetime"|"com.atlassian.jira.plugin.system.customfieldtypes:float"|"com.atlassian.jira.plugin.system.customfieldtypes:grouppicker"|"com.atlassian.jira.plugin.system.customfieldtypes:importid"|"com.atlassian.jira.plugin.system.customfieldtypes:labels"|"com.atlassian.jira.plugin.system.customfieldtypes:multicheckboxes"|"com.atlassian.jira.plugin.system.customfieldtypes:multigrouppicker"|"com.atlassian.jira.plugin.system.customfieldtypes:multiselect"|"com.atlassian.jira.plugin.system.customfieldtypes:multiuserpicker"|"com.atlassian.jira.plugin.system.customfieldtypes:multiversion"|"com.atlassian.jira.plugin.system.customfieldtypes:project"|"com.atlassian.jira.plugin.system.customfieldtypes:radiobuttons"|"com.atlassian.jira.plugin.system.customfieldtypes:readonlyfield"|"com.atlassian.jira.plugin.system.customfieldtypes:select"|"com.atlassian.jira.plugin.system.customfieldtypes:textarea"|"com.atlassian.jira.plugin.system.customfieldtypes:textfield"|"com.atlassian.jira.plugin.system.customfieldtypes:url"|"com.atlassian.jira.plugin.system.customfieldtypes:userpicker"|"com.atlassian.jira.plugin.system.customfieldtypes:version" 'type;
-    # The searcher defines the way the field is searched in Jira. For example, *com.atlassian.jira.plugin.system.customfieldtypes:grouppickersearcher*.
-    # The search UI (basic search and JQL search) will display different operations and values for the field, based on the field searcher. You must specify a searcher that is valid for the field type, as listed below (abbreviated values shown):
-    #
-    #  *  `cascadingselect`: `cascadingselectsearcher`
-    #  *  `datepicker`: `daterange`
-    #  *  `datetime`: `datetimerange`
-    #  *  `float`: `exactnumber` or `numberrange`
-    #  *  `grouppicker`: `grouppickersearcher`
-    #  *  `importid`: `exactnumber` or `numberrange`
-    #  *  `labels`: `labelsearcher`
-    #  *  `multicheckboxes`: `multiselectsearcher`
-    #  *  `multigrouppicker`: `multiselectsearcher`
-    #  *  `multiselect`: `multiselectsearcher`
-    #  *  `multiuserpicker`: `userpickergroupsearcher`
-    #  *  `multiversion`: `versionsearcher`
-    #  *  `project`: `projectsearcher`
-    #  *  `radiobuttons`: `multiselectsearcher`
-    #  *  `readonlyfield`: `textsearcher`
-    #  *  `select`: `multiselectsearcher`
-    #  *  `textarea`: `textsearcher`
-    #  *  `textfield`: `textsearcher`
-    #  *  `url`: `exacttextsearcher`
-    #  *  `userpicker`: `userpickergroupsearcher`
-    #  *  `version`: `versionsearcher`
-    "com.atlassian.jira.plugin.system.customfieldtypes:cascadingselectsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:daterange"|"com.atlassian.jira.plugin.system.customfieldtypes:datetimerange"|"com.atlassian.jira.plugin.system.customfieldtypes:exactnumber"|"com.atlassian.jira.plugin.system.customfieldtypes:exacttextsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:grouppickersearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:labelsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:multiselectsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:numberrange"|"com.atlassian.jira.plugin.system.customfieldtypes:projectsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:textsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:userpickergroupsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:versionsearcher" searcherKey?;
+# A page of items.
+public type PageBeanProject record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    Project[] values?;
 |};
 
-public type IssueFieldOptionOk record {|
-    *http:Ok;
-    IssueFieldOption body;
+# A screen.
+public type Screen record {|
+    # The ID of the screen.
+    int id?;
+    # The name of the screen.
+    string name?;
+    # The description of the screen.
+    string description?;
+    # The scope of the screen.
+    Scope scope?;
 |};
 
 # A page of items.
-public type PageBeanUserKey record {|
+public type PageBeanScreen record {|
     # The URL of the page.
     string self?;
     # If there is another page of results, the URL of the next page.
@@ -5432,7 +5261,33 @@ public type PageBeanUserKey record {|
     # Whether this is the last page.
     boolean isLast?;
     # The list of items.
-    UserKey[] values?;
+    Screen[] values?;
+|};
+
+# The IDs of the screens for the screen types of the screen scheme.
+public type ScreenTypes record {|
+    # The ID of the edit screen.
+    int edit?;
+    # The ID of the create screen.
+    int create?;
+    # The ID of the view screen.
+    int view?;
+    # The ID of the default screen. Required when creating a screen scheme.
+    int default?;
+|};
+
+# A screen scheme.
+public type ScreenScheme record {|
+    # The ID of the screen scheme.
+    int id?;
+    # The name of the screen scheme.
+    string name?;
+    # The description of the screen scheme.
+    string description?;
+    # The IDs of the screens for the screen types of the screen scheme.
+    ScreenTypes screens?;
+    # Details of the issue type screen schemes associated with the screen scheme.
+    PageBeanIssueTypeScreenScheme issueTypeScreenSchemes?;
 |};
 
 # A page of items.
@@ -5453,73 +5308,30 @@ public type PageBeanScreenScheme record {|
     ScreenScheme[] values?;
 |};
 
-# The projects the item is associated with. Indicated for items associated with [next-gen projects](https://confluence.atlassian.com/x/loMyO).
-public type Scope record {
-    # The type of scope.
-    "PROJECT"|"TEMPLATE" 'type?;
-    # The project the item has scope in.
-    ProjectForScope project?;
-};
-
-# Details about a permission granted to a user or group.
-public type PermissionGrant record {|
-    # The ID of the permission granted details.
+# A screen tab.
+public type ScreenableTab record {|
+    # The ID of the screen tab.
     int id?;
-    # The URL of the permission granted details.
-    string self?;
-    # The user or group being granted the permission. It consists of a `type` and a type-dependent `parameter`. See [Holder object](../api-group-permission-schemes/#holder-object) in *Get all permission schemes* for more information.
-    PermissionHolder holder?;
-    # The permission to grant. This permission can be one of the built-in permissions or a custom permission added by an app. See [Built-in permissions](../api-group-permission-schemes/#built-in-permissions) in *Get all permission schemes* for more information about the built-in permissions. See the [project permission](https://developer.atlassian.com/cloud/jira/platform/modules/project-permission/) and [global permission](https://developer.atlassian.com/cloud/jira/platform/modules/global-permission/) module documentation for more information about custom permissions.
-    string permission?;
-|};
-
-# Details about a filter.
-public type Filter record {|
-    # The URL of the filter.
-    string self?;
-    # The unique identifier for the filter.
-    string id?;
-    # The name of the filter. Must be unique.
+    # The name of the screen tab. The maximum length is 255 characters.
     string name;
-    # A description of the filter.
-    string description?;
-    # The user who owns the filter. This is defaulted to the creator of the filter, however Jira administrators can change the owner of a shared filter in the admin settings.
-    User owner?;
-    # The JQL query for the filter. For example, *project = SSP AND issuetype = Bug*.
-    string jql?;
-    # A URL to view the filter results in Jira, using the ID of the filter. For example, *https://your-domain.atlassian.net/issues/?filter=10100*.
-    string viewUrl?;
-    # A URL to view the filter results in Jira, using the [Search for issues using JQL](#api-rest-api-2-filter-search-get) operation with the filter's JQL string to return the filter results. For example, *https://your-domain.atlassian.net/rest/api/2/search?jql=project+%3D+SSP+AND+issuetype+%3D+Bug*.
-    string searchUrl?;
-    # Whether the filter is selected as a favorite.
-    boolean favourite?;
-    # The count of how many users have selected this filter as a favorite, including the filter owner.
-    int favouritedCount?;
-    # The groups and projects that the filter is shared with.
-    SharePermission[] sharePermissions?;
-    # A paginated list of the users that the filter is shared with. This includes users that are members of the groups or can browse the projects that the filter is shared with.
-    UserList sharedUsers?;
-    # A paginated list of the users that are subscribed to the filter.
-    FilterSubscriptionsList subscriptions?;
 |};
 
-# Default value for a single select custom field.
-public type CustomFieldContextDefaultValueSingleOption record {
-    # The ID of the context.
-    string contextId;
-    # The ID of the default option.
-    string optionId;
-    string 'type;
-};
-
-# The list of issue type IDs.
-public type IssueTypeIds record {|
-    # The list of issue type IDs.
-    string[] issueTypeIds;
+# A screen with tab details.
+public type ScreenWithTab record {|
+    # The ID of the screen.
+    int id?;
+    # The name of the screen.
+    string name?;
+    # The description of the screen.
+    string description?;
+    # The scope of the screen.
+    Scope scope?;
+    # The tab for the screen
+    ScreenableTab tab?;
 |};
 
 # A page of items.
-public type PageBeanWorkflowTransitionRules record {|
+public type PageBeanScreenWithTab record {|
     # The URL of the page.
     string self?;
     # If there is another page of results, the URL of the next page.
@@ -5533,20 +5345,11 @@ public type PageBeanWorkflowTransitionRules record {|
     # Whether this is the last page.
     boolean isLast?;
     # The list of items.
-    WorkflowTransitionRules[] values?;
+    ScreenWithTab[] values?;
 |};
 
-# A workflow transition condition rule.
-public type WorkflowSimpleCondition record {
-    # The type of the transition rule.
-    string 'type;
-    # The configuration of the transition rule. This is currently returned only for some of the rule types. Availability of this property is subject to change.
-    record {} configuration?;
-    string nodeType;
-};
-
 # A page of items.
-public type PageBeanWorkflow record {|
+public type PageBeanString record {|
     # The URL of the page.
     string self?;
     # If there is another page of results, the URL of the next page.
@@ -5560,104 +5363,29 @@ public type PageBeanWorkflow record {|
     # Whether this is the last page.
     boolean isLast?;
     # The list of items.
-    Workflow[] values?;
+    string[] values?;
 |};
 
-# Count of issues assigned to a component.
-public type ComponentIssuesCount record {|
-    # The URL for this count of issues for a component.
+# A page of items.
+public type PageBeanUser record {|
+    # The URL of the page.
     string self?;
-    # The count of issues assigned to a component.
-    int issueCount?;
-|};
-
-# Details of the name, description, and default issue type for an issue type scheme.
-public type IssueTypeSchemeUpdateDetails record {|
-    # The name of the issue type scheme. The name must be unique. The maximum length is 255 characters.
-    string name?;
-    # The description of the issue type scheme. The maximum length is 4000 characters.
-    string description?;
-    # The ID of the default issue type of the issue type scheme.
-    string defaultIssueTypeId?;
-|};
-
-# Project feature.
-public type ProjectFeature record {|
-    # Project ID.
-    int projectId?;
-    # State of the feature.
-    "ENABLED"|"DISABLED"|"COMING_SOON" state?;
-    # Determines whether a feature can be toggled or not.
-    boolean toggleLocked?;
-    # Feature's key.
-    string feature?;
-    # Feature's category.
-    string featureCategory?;
-    # List of the keys of features required as prerequisites to enable this feature.
-    string[] prerequisites?;
-    # Name to display for this feature, localised.
-    string localisedName?;
-    # Description to display for this feature, localised.
-    string localisedDescription?;
-    # Uri to the image that should be used to display this feature.
-    string imageUri?;
-|};
-
-public type IssueFieldOptionScopeBean record {|
-    # DEPRECATED
-    int[] projects?;
-    # Defines the projects in which the option is available and the behavior of the option within each project. Specify one object per project. The behavior of the option in a project context overrides the behavior in the global context.
-    ProjectScopeBean[] projects2?;
-    # Defines the behavior of the option within the global context. If this property is set, even if set to an empty object, then the option is available in all projects.
-    GlobalScopeBean global?;
-|};
-
-# Details of a screen.
-public type UpdateScreenDetails record {|
-    # The name of the screen. The name must be unique. The maximum length is 255 characters.
-    string name?;
-    # The description of the screen. The maximum length is 255 characters.
-    string description?;
-|};
-
-# Details of an entity property.
-public type JqlQueryFieldEntityProperty record {
-    # The object on which the property is set.
-    string entity;
-    # The key of the property.
-    string 'key;
-    # The path in the property value to query.
-    string path;
-    # The type of the property value extraction. Not available if the extraction for the property is not registered on the instance with the [Entity property](https://developer.atlassian.com/cloud/jira/platform/modules/entity-property/) module.
-    "number"|"string"|"text"|"date"|"user" 'type?;
-};
-
-# Details of a dashboard.
-public type DashboardDetails record {|
-    # The name of the dashboard.
-    string name;
-    # The description of the dashboard.
-    string description?;
-    # The details of any share permissions for the dashboard.
-    SharePermission[] sharePermissions;
-|};
-
-# A paginated list of subscriptions to a filter.
-public type FilterSubscriptionsList record {|
-    # The number of items on the page.
-    int:Signed32 size?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
     # The list of items.
-    FilterSubscription[] items?;
-    # The maximum number of results that could be on the page.
-    int:Signed32 max\-results?;
-    # The index of the first item returned on the page.
-    int:Signed32 start\-index?;
-    # The index of the last item returned on the page.
-    int:Signed32 end\-index?;
+    User[] values?;
 |};
 
 # A page of items.
-public type PageBeanWorkflowScheme record {|
+public type PageBeanUserDetails record {|
     # The URL of the page.
     string self?;
     # If there is another page of results, the URL of the next page.
@@ -5671,143 +5399,67 @@ public type PageBeanWorkflowScheme record {|
     # Whether this is the last page.
     boolean isLast?;
     # The list of items.
-    WorkflowScheme[] values?;
-|};
-
-public type RemoveOptionFromIssuesResult record {|
-    # The IDs of the modified issues.
-    int[] modifiedIssues?;
-    # The IDs of the unchanged issues, those issues where errors prevent modification.
-    int[] unmodifiedIssues?;
-    # A collection of errors related to unchanged issues. The collection size is limited, which means not all errors may be returned.
-    SimpleErrorCollection errors?;
-|};
-
-# Details of the group associated with the role.
-public type ProjectRoleGroup record {|
-    # The display name of the group.
-    string displayName?;
-    # The name of the group
-    string name?;
-|};
-
-# Metadata for an archive (for example a zip) and its contents.
-public type AttachmentArchiveMetadataReadable record {|
-    # The ID of the attachment.
-    int id?;
-    # The name of the archive file.
-    string name?;
-    # The list of the items included in the archive.
-    AttachmentArchiveItemReadable[] entries?;
-    # The number of items included in the archive.
-    int totalEntryCount?;
-    # The MIME type of the attachment.
-    string mediaType?;
-|};
-
-# Project list with assigned field configuration schema.
-public type FieldConfigurationSchemeProjects record {|
-    FieldConfigurationScheme fieldConfigurationScheme?;
-    # The IDs of projects using the field configuration scheme.
-    string[] projectIds;
-|};
-
-# Details of the operations that can be performed on the issue.
-public type Operations record {
-    # Details of the link groups defining issue operations.
-    LinkGroup[] linkGroups?;
-};
-
-public type SearchResultsOk record {|
-    *http:Ok;
-    SearchResults body;
-|};
-
-# Details of user or system associated with a issue history metadata item.
-public type HistoryMetadataParticipant record {
-    # The ID of the user or system associated with a history record.
-    string id?;
-    # The display name of the user or system associated with a history record.
-    string displayName?;
-    # The key of the display name of the user or system associated with a history record.
-    string displayNameKey?;
-    # The type of the user or system associated with a history record.
-    string 'type?;
-    # The URL to an avatar for the user or system associated with a history record.
-    string avatarUrl?;
-    # The URL of the user or system associated with a history record.
-    string url?;
-};
-
-# A project category.
-public type ProjectCategory record {|
-    # The URL of the project category.
-    string self?;
-    # The ID of the project category.
-    string id?;
-    # The name of the project category. Required on create, optional on update.
-    string name?;
-    # The description of the project category.
-    string description?;
+    UserDetails[] values?;
 |};
 
-# Issue security level member.
-public type IssueSecurityLevelMember record {|
-    # The ID of the issue security level member.
-    int id;
-    # The ID of the issue security level.
-    int issueSecurityLevelId;
-    # The user or group being granted the permission. It consists of a `type` and a type-dependent `parameter`. See [Holder object](../api-group-permission-schemes/#holder-object) in *Get all permission schemes* for more information.
-    PermissionHolder holder;
+# List of user account IDs.
+public type UserKey record {|
+    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
+    string 'key?;
+    # The account ID of the user, which uniquely identifies the user across all Atlassian products. For example, *5b10ac8d82e05b22cc7d4ef5*. Returns *unknown* if the record is deleted and corrupted, for example, as the result of a server import.
+    @constraint:String {maxLength: 128}
+    string accountId?;
 |};
 
-# Metadata for an issue attachment.
-public type AttachmentMetadata record {|
-    # The ID of the attachment.
-    int id?;
-    # The URL of the attachment metadata details.
+# A page of items.
+public type PageBeanUserKey record {|
+    # The URL of the page.
     string self?;
-    # The name of the attachment file.
-    string filename?;
-    # Details of the user who attached the file.
-    User author?;
-    # The datetime the attachment was created.
-    string created?;
-    # The size of the attachment.
-    int size?;
-    # The MIME type of the attachment.
-    string mimeType?;
-    # Additional properties of the attachment.
-    record {} properties?;
-    # The URL of the attachment.
-    string content?;
-    # The URL of a thumbnail representing the attachment.
-    string thumbnail?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    UserKey[] values?;
 |};
 
-public type VersionOk record {|
-    *http:Ok;
-    Version body;
+# A page of items.
+public type PageBeanVersion record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    Version[] values?;
 |};
 
-# An issue suggested for use in the issue picker auto-completion.
-public type SuggestedIssue record {|
-    # The ID of the issue.
-    int id?;
-    # The key of the issue.
-    string 'key?;
-    # The key of the issue in HTML format.
-    string keyHtml?;
-    # The URL of the issue type's avatar.
-    string img?;
-    # The phrase containing the query string in HTML format, with the string highlighted with HTML bold tags.
-    string summary?;
-    # The phrase containing the query string, as plain text.
-    string summaryText?;
+# A webhook.
+public type Webhook record {|
+    # The ID of the webhook.
+    int id;
+    # The JQL filter that specifies which issues the webhook is sent for.
+    string jqlFilter;
+    # The Jira events that trigger the webhook.
+    ("jira:issue_created"|"jira:issue_updated"|"jira:issue_deleted"|"comment_created"|"comment_updated"|"comment_deleted"|"issue_property_set"|"issue_property_deleted")[] events;
+    int expirationDate;
 |};
 
 # A page of items.
-public type PageBeanCustomFieldContextOption record {|
+public type PageBeanWebhook record {|
     # The URL of the page.
     string self?;
     # If there is another page of results, the URL of the next page.
@@ -5821,117 +5473,166 @@ public type PageBeanCustomFieldContextOption record {|
     # Whether this is the last page.
     boolean isLast?;
     # The list of items.
-    CustomFieldContextOption[] values?;
+    Webhook[] values?;
 |};
 
-# Details about a group.
-public type GroupDetails record {|
-    # The name of the group.
-    string name?;
-    # The ID of the group, if available, which uniquely identifies the group across all Atlassian products. For example, *952d12c3-5b5b-4d04-bb32-44d383afc4b2*.
-    string groupId?;
+# Properties that identify a published workflow.
+public type PublishedWorkflowId record {|
+    # The name of the workflow.
+    string name;
+    # The entity ID of the workflow.
+    string entityId?;
 |};
 
-# Details about a user assigned to a project role.
-public type RoleActor record {|
-    # The ID of the role actor.
-    int id?;
-    # The display name of the role actor. For users, depending on the user’s privacy setting, this may return an alternative value for the user's name.
-    string displayName?;
-    # The type of role actor.
-    "atlassian-group-role-actor"|"atlassian-user-role-actor" 'type?;
-    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
-    string name?;
-    # The avatar of the role actor.
-    string avatarUrl?;
-    ProjectRoleUser actorUser?;
-    ProjectRoleGroup actorGroup?;
+# ID of a screen.
+public type ScreenID record {|
+    # The ID of the screen.
+    string id;
 |};
 
-public type UnrestrictedUserEmail record {|
-    # The accountId of the user
-    string accountId?;
-    # The email of the user
-    string email?;
-|};
+# A workflow transition compound condition rule.
+public type WorkflowCompoundCondition record {
+    # The conditions operator.
+    "AND"|"OR" operator;
+    # The list of workflow conditions.
+    WorkflowConditionBean[] conditions;
+    string nodeType;
+};
 
-public type IssuesUpdateBean record {
-    IssueUpdateDetails[] issueUpdates?;
+# A workflow transition condition rule.
+public type WorkflowSimpleCondition record {
+    # The type of the transition rule.
+    string 'type;
+    # The configuration of the transition rule. This is currently returned only for some of the rule types. Availability of this property is subject to change.
+    record {} configuration?;
+    string nodeType;
 };
 
-# Permissions which a user has on a project.
-public type ProjectPermissions record {|
-    # Whether the logged user can edit the project.
-    boolean canEdit?;
+# The workflow conditions tree.
+public type WorkflowConditionBean WorkflowSimpleCondition|WorkflowCompoundCondition;
+
+# A workflow transition rule.
+public type WorkflowTransitionRule record {|
+    # The type of the transition rule.
+    string 'type;
+    # The configuration of the transition rule. This is currently returned only for some of the rule types. Availability of this property is subject to change.
+    anydata configuration?;
 |};
 
-public type AttachmentArchiveImpl record {|
-    # The list of the items included in the archive.
-    AttachmentArchiveEntry[] entries?;
-    # The number of items in the archive.
-    int:Signed32 totalEntryCount?;
+# A collection of transition rules.
+public type WorkflowRules record {|
+    # The workflow conditions.
+    WorkflowTransitionRule[] conditions;
+    WorkflowConditionBean conditionsTree?;
+    # The workflow validators.
+    WorkflowTransitionRule[] validators;
+    # The workflow post functions.
+    WorkflowTransitionRule[] postFunctions;
 |};
 
-# Details about a component with a count of the issues it contains.
-public type ComponentWithIssueCount record {|
-    # Count of issues for the component.
-    int issueCount?;
-    # The URL for this count of the issues contained in the component.
+# Details of a workflow transition.
+public type Transition record {|
+    # The ID of the transition.
+    string id;
+    # The name of the transition.
+    string name;
+    # The description of the transition.
+    string description;
+    # The statuses the transition can start from.
+    string[] 'from;
+    # The status the transition goes to.
+    string to;
+    # The type of the transition.
+    "global"|"initial"|"directed" 'type;
+    ScreenID screen?;
+    WorkflowRules rules?;
+|};
+
+# Properties of a workflow status.
+public type WorkflowStatusProperties record {|
+    # Whether issues are editable in this status.
+    boolean issueEditable;
+|};
+
+# Details of a workflow status.
+public type WorkflowStatus record {|
+    # The ID of the issue status.
+    string id;
+    # The name of the status in the workflow.
+    string name;
+    WorkflowStatusProperties properties?;
+|};
+
+# Details about a workflow.
+public type Workflow record {|
+    PublishedWorkflowId id;
+    # The description of the workflow.
+    string description;
+    # The transitions of the workflow.
+    Transition[] transitions?;
+    # The statuses of the workflow.
+    WorkflowStatus[] statuses?;
+    # Whether this is the default workflow.
+    boolean isDefault?;
+|};
+
+# A page of items.
+public type PageBeanWorkflow record {|
+    # The URL of the page.
     string self?;
-    # The description for the component.
-    string description?;
-    # The user details for the component's lead user.
-    User lead?;
-    # The nominal user type used to determine the assignee for issues created with this component. See `realAssigneeType` for details on how the type of the user, and hence the user, assigned to issues is determined. Takes the following values:
-    #
-    #  *  `PROJECT_LEAD` the assignee to any issues created with this component is nominally the lead for the project the component is in.
-    #  *  `COMPONENT_LEAD` the assignee to any issues created with this component is nominally the lead for the component.
-    #  *  `UNASSIGNED` an assignee is not set for issues created with this component.
-    #  *  `PROJECT_DEFAULT` the assignee to any issues created with this component is nominally the default assignee for the project that the component is in.
-    "PROJECT_DEFAULT"|"COMPONENT_LEAD"|"PROJECT_LEAD"|"UNASSIGNED" assigneeType?;
-    # The key of the project to which the component is assigned.
-    string project?;
-    # The details of the user associated with `assigneeType`, if any. See `realAssignee` for details of the user assigned to issues created with this component.
-    User assignee?;
-    # Not used.
-    int projectId?;
-    # The user assigned to issues created with this component, when `assigneeType` does not identify a valid assignee.
-    User realAssignee?;
-    # Whether a user is associated with `assigneeType`. For example, if the `assigneeType` is set to `COMPONENT_LEAD` but the component lead is not set, then `false` is returned.
-    boolean isAssigneeTypeValid?;
-    # The type of the assignee that is assigned to issues created with this component, when an assignee cannot be set from the `assigneeType`. For example, `assigneeType` is set to `COMPONENT_LEAD` but no component lead is set. This property is set to one of the following values:
-    #
-    #  *  `PROJECT_LEAD` when `assigneeType` is `PROJECT_LEAD` and the project lead has permission to be assigned issues in the project that the component is in.
-    #  *  `COMPONENT_LEAD` when `assignee`Type is `COMPONENT_LEAD` and the component lead has permission to be assigned issues in the project that the component is in.
-    #  *  `UNASSIGNED` when `assigneeType` is `UNASSIGNED` and Jira is configured to allow unassigned issues.
-    #  *  `PROJECT_DEFAULT` when none of the preceding cases are true.
-    "PROJECT_DEFAULT"|"COMPONENT_LEAD"|"PROJECT_LEAD"|"UNASSIGNED" realAssigneeType?;
-    # The name for the component.
-    string name?;
-    # The unique identifier for the component.
-    string id?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    Workflow[] values?;
 |};
 
-# A list of custom field options for a context.
-public type CustomFieldUpdatedContextOptionsList record {|
-    # The updated custom field options.
-    CustomFieldOptionUpdate[] options?;
+# A page of items.
+public type PageBeanWorkflowScheme record {|
+    # The URL of the page.
+    string self?;
+    # If there is another page of results, the URL of the next page.
+    string nextPage?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The index of the first item returned.
+    int startAt?;
+    # The number of items returned.
+    int total?;
+    # Whether this is the last page.
+    boolean isLast?;
+    # The list of items.
+    WorkflowScheme[] values?;
 |};
 
-public type RestApi2ProjectProjectIdOrKeyRoleResponse record {|
-    string...;
+# Properties that identify a workflow.
+public type WorkflowId record {|
+    # The name of the workflow.
+    string name;
+    # Whether the workflow is in the draft state.
+    boolean draft;
 |};
 
-# Details about system and custom avatars.
-public type Avatars record {|
-    # System avatars list.
-    Avatar[] system?;
-    # Custom avatars list.
-    Avatar[] custom?;
+# A workflow with transition rules.
+public type WorkflowTransitionRules record {|
+    WorkflowId workflowId;
+    # The list of post functions within the workflow.
+    ConnectWorkflowTransitionRule[] postFunctions;
+    # The list of conditions within the workflow.
+    ConnectWorkflowTransitionRule[] conditions;
+    # The list of validators within the workflow.
+    ConnectWorkflowTransitionRule[] validators;
 |};
 
 # A page of items.
-public type PageBeanGroupDetails record {|
+public type PageBeanWorkflowTransitionRules record {|
     # The URL of the page.
     string self?;
     # If there is another page of results, the URL of the next page.
@@ -5945,521 +5646,752 @@ public type PageBeanGroupDetails record {|
     # Whether this is the last page.
     boolean isLast?;
     # The list of items.
-    GroupDetails[] values?;
+    WorkflowTransitionRules[] values?;
 |};
 
-public type FilterOk record {|
+# A page of comments.
+public type PageOfComments record {
+    # The index of the first item returned.
+    int startAt?;
+    # The maximum number of items that could be returned.
+    int:Signed32 maxResults?;
+    # The number of items returned.
+    int total?;
+    # The list of comments.
+    Comment[] comments?;
+};
+
+# A page containing dashboard details.
+public type PageOfDashboards record {|
+    # The index of the first item returned on the page.
+    int:Signed32 startAt?;
+    # The maximum number of results that could be on the page.
+    int:Signed32 maxResults?;
+    # The number of results on the page.
+    int:Signed32 total?;
+    # The URL of the previous page of results, if any.
+    string prev?;
+    # The URL of the next page of results, if any.
+    string next?;
+    # List of dashboards.
+    Dashboard[] dashboards?;
+|};
+
+# Details of a worklog.
+public type Worklog record {
+    # The URL of the worklog item.
+    string self?;
+    # Details of the user who created the worklog.
+    UserDetails author?;
+    # Details of the user who last updated the worklog.
+    UserDetails updateAuthor?;
+    # A comment about the worklog. Optional when creating or updating a worklog.
+    string comment?;
+    # The datetime on which the worklog was created.
+    string created?;
+    # The datetime on which the worklog was last updated.
+    string updated?;
+    # Details about any restrictions in the visibility of the worklog. Optional when creating or updating a worklog.
+    Visibility visibility?;
+    # The datetime on which the worklog effort was started. Required when creating a worklog. Optional when updating a worklog.
+    string started?;
+    # The time spent working on the issue as days (\#d), hours (\#h), or minutes (\#m or \#). Required when creating a worklog if `timeSpentSeconds` isn't provided. Optional when updating a worklog. Cannot be provided if `timeSpentSecond` is provided.
+    string timeSpent?;
+    # The time in seconds spent working on the issue. Required when creating a worklog if `timeSpent` isn't provided. Optional when updating a worklog. Cannot be provided if `timeSpent` is provided.
+    int timeSpentSeconds?;
+    # The ID of the worklog record.
+    string id?;
+    # The ID of the issue this worklog is for.
+    string issueId?;
+    # Details of properties for the worklog. Optional when creating or updating a worklog.
+    EntityProperty[] properties?;
+};
+
+# Paginated list of worklog details
+public type PageOfWorklogs record {
+    # The index of the first item returned on the page.
+    int:Signed32 startAt?;
+    # The maximum number of results that could be on the page.
+    int:Signed32 maxResults?;
+    # The number of results on the page.
+    int:Signed32 total?;
+    # List of worklogs.
+    Worklog[] worklogs?;
+};
+
+# Details of a parsed JQL query.
+public type ParsedJqlQuery record {|
+    # The JQL query that was parsed and validated.
+    string query;
+    # The syntax tree of the query. Empty if the query was invalid.
+    JqlQuery structure?;
+    # The list of syntax or validation errors.
+    string[] errors?;
+|};
+
+# A list of parsed JQL queries.
+public type ParsedJqlQueries record {|
+    # A list of parsed JQL queries.
+    ParsedJqlQuery[] queries;
+|};
+
+public type ParsedJqlQueriesOk record {|
     *http:Ok;
-    Filter body;
+    ParsedJqlQueries body;
 |};
 
-# Details of a field configuration scheme.
-public type FieldConfigurationScheme record {|
-    # The ID of the field configuration scheme.
-    string id;
-    # The name of the field configuration scheme.
+# Details about a permission granted to a user or group.
+public type PermissionGrant record {|
+    # The ID of the permission granted details.
+    int id?;
+    # The URL of the permission granted details.
+    string self?;
+    # The user or group being granted the permission. It consists of a `type` and a type-dependent `parameter`. See [Holder object](../api-group-permission-schemes/#holder-object) in *Get all permission schemes* for more information.
+    PermissionHolder holder?;
+    # The permission to grant. This permission can be one of the built-in permissions or a custom permission added by an app. See [Built-in permissions](../api-group-permission-schemes/#built-in-permissions) in *Get all permission schemes* for more information about the built-in permissions. See the [project permission](https://developer.atlassian.com/cloud/jira/platform/modules/project-permission/) and [global permission](https://developer.atlassian.com/cloud/jira/platform/modules/global-permission/) module documentation for more information about custom permissions.
+    string permission?;
+|};
+
+# List of permission grants.
+public type PermissionGrants record {|
+    # Permission grants list.
+    PermissionGrant[] permissions?;
+    # Expand options that include additional permission grant details in the response.
+    string expand?;
+|};
+
+# Details of a permission scheme.
+public type PermissionScheme record {
+    # The expand options available for the permission scheme.
+    string expand?;
+    # The ID of the permission scheme.
+    int id?;
+    # The URL of the permission scheme.
+    string self?;
+    # The name of the permission scheme. Must be unique.
     string name;
-    # The description of the field configuration scheme.
+    # A description for the permission scheme.
     string description?;
+    # The scope of the permission scheme.
+    Scope scope?;
+    # The permission scheme to create or update. See [About permission schemes and grants](../api-group-permission-schemes/#about-permission-schemes-and-grants) for more information.
+    PermissionGrant[] permissions?;
+};
+
+# List of all permission schemes.
+public type PermissionSchemes record {|
+    # Permission schemes list.
+    PermissionScheme[] permissionSchemes?;
 |};
 
-# A user found in a search.
-public type UserPickerUser record {|
-    # The account ID of the user, which uniquely identifies the user across all Atlassian products. For example, *5b10ac8d82e05b22cc7d4ef5*.
-    string accountId?;
-    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
-    string name?;
-    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
+# Details of a permission and its availability to a user.
+public type UserPermission record {
+    # The ID of the permission. Either `id` or `key` must be specified. Use [Get all permissions](#api-rest-api-2-permissions-get) to get the list of permissions.
+    string id?;
+    # The key of the permission. Either `id` or `key` must be specified. Use [Get all permissions](#api-rest-api-2-permissions-get) to get the list of permissions.
     string 'key?;
-    # The display name, email address, and key of the user with the matched query string highlighted with the HTML bold tag.
-    string html?;
-    # The display name of the user. Depending on the user’s privacy setting, this may be returned as null.
-    string displayName?;
-    # The avatar URL of the user.
-    string avatarUrl?;
+    # The name of the permission.
+    string name?;
+    # The type of the permission.
+    "GLOBAL"|"PROJECT" 'type?;
+    # The description of the permission.
+    string description?;
+    # Whether the permission is available to the user in the queried context.
+    boolean havePermission?;
+    # Indicate whether the permission key is deprecated. Note that deprecated keys cannot be used in the `permissions parameter of Get my permissions. Deprecated keys are not returned by Get all permissions.`
+    boolean deprecatedKey?;
+};
+
+# Details about permissions.
+public type Permissions record {|
+    # List of permissions.
+    record {|UserPermission...;|} permissions?;
 |};
 
-public type UserMigrationBean record {|
+public type PermissionsKeysBean record {|
+    # A list of permission keys.
+    string[] permissions;
+|};
+
+# The identifiers for a project.
+public type ProjectIdentifierBean record {|
+    # The ID of the project.
+    int id?;
+    # The key of the project.
     string 'key?;
-    string username?;
-    string accountId?;
 |};
 
-# An entity property, for more information see [Entity properties](https://developer.atlassian.com/cloud/jira/platform/jira-entity-properties/).
-public type EntityProperty record {|
-    # The key of the property. Required on create and update.
-    string 'key?;
-    # The value of the property. Required on create and update.
-    anydata value?;
+# A list of projects in which a user is granted permissions.
+public type PermittedProjects record {|
+    # A list of projects.
+    ProjectIdentifierBean[] projects?;
+|};
+
+public type PermittedProjectsOk record {|
+    *http:Ok;
+    PermittedProjects body;
+|};
+
+# List of project avatars.
+public type ProjectAvatars record {|
+    # List of avatars included with Jira. These avatars cannot be deleted.
+    Avatar[] system?;
+    # List of avatars added to Jira. These avatars may be deleted.
+    Avatar[] custom?;
+|};
+
+# A project's sender email address.
+public type ProjectEmailAddress record {|
+    # The email address.
+    string emailAddress?;
+|};
+
+# Project feature.
+public type ProjectFeature record {|
+    # Project ID.
+    int projectId?;
+    # State of the feature.
+    "ENABLED"|"DISABLED"|"COMING_SOON" state?;
+    # Determines whether a feature can be toggled or not.
+    boolean toggleLocked?;
+    # Feature's key.
+    string feature?;
+    # Feature's category.
+    string featureCategory?;
+    # List of the keys of features required as prerequisites to enable this feature.
+    string[] prerequisites?;
+    # Name to display for this feature, localised.
+    string localisedName?;
+    # Description to display for this feature, localised.
+    string localisedDescription?;
+    # Uri to the image that should be used to display this feature.
+    string imageUri?;
+|};
+
+# Container for a request to toggle the state of the feature to ENABLED or DISABLED.
+public type ProjectFeatureToggleRequest record {|
+    # The new state for the feature
+    "ENABLED"|"DISABLED"|"COMING_SOON" state?;
 |};
 
-# Meta data describing the `issues` context variable.
-public type IssuesMetaBean record {|
-    IssuesJqlMetaDataBean jql?;
+# Container for the list of features on the project.
+public type ProjectFeaturesResponse record {|
+    # The list of features on the project.
+    ProjectFeature[] features?;
 |};
 
-# The details of a custom field context.
-public type CustomFieldContext record {|
-    # The ID of the context.
-    string id;
-    # The name of the context.
-    string name;
-    # The description of the context.
-    string description;
-    # Whether the context is global.
-    boolean isGlobalContext;
-    # Whether the context apply to all issue types.
-    boolean isAnyIssueType;
+# Identifiers for a project.
+public type ProjectIdentifiers record {|
+    # The URL of the created project.
+    string self;
+    # The ID of the created project.
+    int id;
+    # The key of the created project.
+    string 'key;
 |};
 
-# Details of a user or group subscribing to a filter.
-public type FilterSubscription record {|
-    # The ID of the filter subscription.
-    int id?;
-    # The user subscribing to filter.
-    User user?;
-    # The group subscribing to filter.
-    GroupName group?;
+# A list of project IDs.
+public type ProjectIds record {|
+    # The IDs of projects.
+    string[] projectIds;
 |};
 
-public type JiraExpressionEvalRequestBean record {|
-    # The Jira expression to evaluate.
-    string expression;
-    # The context in which the Jira expression is evaluated.
-    JiraExpressionEvalContextBean context?;
+public type ProjectInputBean record {|
+    # Project keys must be unique and start with an uppercase letter followed by one or more uppercase alphanumeric characters. The maximum length is 10 characters. Required when creating a project. Optional when updating a project.
+    string 'key?;
+    # The name of the project. Required when creating a project. Optional when updating a project.
+    string name?;
+    # The [project type](https://confluence.atlassian.com/x/GwiiLQ#Jiraapplicationsoverview-Productfeaturesandprojecttypes), which dictates the application-specific feature set. Required when creating a project. Not applicable for the Update project resource.
+    "software"|"service_desk"|"business" projectTypeKey?;
+    # A prebuilt configuration for a project. The type of the `projectTemplateKey` must match with the type of the `projectTypeKey`. Required when creating a project. Not applicable for the Update project resource.
+    "com.pyxis.greenhopper.jira:gh-simplified-agility-kanban"|"com.pyxis.greenhopper.jira:gh-simplified-agility-scrum"|"com.pyxis.greenhopper.jira:gh-simplified-basic"|"com.pyxis.greenhopper.jira:gh-simplified-kanban-classic"|"com.pyxis.greenhopper.jira:gh-simplified-scrum-classic"|"com.atlassian.servicedesk:simplified-it-service-desk"|"com.atlassian.servicedesk:simplified-internal-service-desk"|"com.atlassian.servicedesk:simplified-external-service-desk"|"com.atlassian.servicedesk:simplified-hr-service-desk"|"com.atlassian.servicedesk:simplified-facilities-service-desk"|"com.atlassian.jira-core-project-templates:jira-core-simplified-content-management"|"com.atlassian.jira-core-project-templates:jira-core-simplified-document-approval"|"com.atlassian.jira-core-project-templates:jira-core-simplified-lead-tracking"|"com.atlassian.jira-core-project-templates:jira-core-simplified-process-control"|"com.atlassian.jira-core-project-templates:jira-core-simplified-procurement"|"com.atlassian.jira-core-project-templates:jira-core-simplified-project-management"|"com.atlassian.jira-core-project-templates:jira-core-simplified-recruitment"|"com.atlassian.jira-core-project-templates:jira-core-simplified-task-" projectTemplateKey?;
+    # A brief description of the project.
+    string description?;
+    # This parameter is deprecated because of privacy changes. Use `leadAccountId` instead. See the [migration guide](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details. The user name of the project lead. Either `lead` or `leadAccountId` must be set when creating a project. Optional when updating a project. Cannot be provided with `leadAccountId`.
+    string lead?;
+    # The account ID of the project lead. Either `lead` or `leadAccountId` must be set when creating a project. Optional when updating a project. Cannot be provided with `lead`.
+    @constraint:String {maxLength: 128}
+    string leadAccountId?;
+    # A link to information about this project, such as project documentation
+    string url?;
+    # The default assignee when creating issues for this project.
+    "PROJECT_LEAD"|"UNASSIGNED" assigneeType?;
+    # An integer value for the project's avatar.
+    int avatarId?;
+    # The ID of the issue security scheme for the project, which enables you to control who can and cannot view issues. Use the [Get issue security schemes](#api-rest-api-2-issuesecurityschemes-get) resource to get all issue security scheme IDs.
+    int issueSecurityScheme?;
+    # The ID of the permission scheme for the project. Use the [Get all permission schemes](#api-rest-api-2-permissionscheme-get) resource to see a list of all permission scheme IDs.
+    int permissionScheme?;
+    # The ID of the notification scheme for the project. Use the [Get notification schemes](#api-rest-api-2-notificationscheme-get) resource to get a list of notification scheme IDs.
+    int notificationScheme?;
+    # The ID of the project's category. A complete list of category IDs is found using the [Get all project categories](#api-rest-api-2-projectCategory-get) operation.
+    int categoryId?;
 |};
 
-# A changelog.
-public type Changelog record {|
-    # The ID of the changelog.
+# Details of an issue level security item.
+public type SecurityLevel record {|
+    # The URL of the issue level security item.
+    string self?;
+    # The ID of the issue level security item.
     string id?;
-    # The user who made the change.
-    UserDetails author?;
-    # The date on which the change took place.
-    string created?;
-    # The list of items changed.
-    ChangeDetails[] items?;
-    # The history metadata associated with the changed.
-    HistoryMetadata historyMetadata?;
+    # The description of the issue level security item.
+    string description?;
+    # The name of the issue level security item.
+    string name?;
 |};
 
-public type SharePermissionInputBean record {|
-    # The type of the share permission.Specify the type as follows:
-    #
-    #  *  `group` Share with a group. Specify `groupname` as well.
-    #  *  `project` Share with a project. Specify `projectId` as well.
-    #  *  `projectRole` Share with a project role in a project. Specify `projectId` and `projectRoleId` as well.
-    #  *  `global` Share globally, including anonymous users. If set, this type overrides all existing share permissions and must be deleted before any non-global share permissions is set.
-    #  *  `authenticated` Share with all logged-in users. This shows as `loggedin` in the response. If set, this type overrides all existing share permissions and must be deleted before any non-global share permissions is set.
-    "project"|"group"|"projectRole"|"global"|"authenticated" 'type;
-    # The ID of the project to share the filter with. Set `type` to `project`.
-    string projectId?;
-    # The name of the group to share the filter with. Set `type` to `group`.
-    string groupname?;
-    # The ID of the project role to share the filter with. Set `type` to `projectRole` and the `projectId` for the project that the role is in.
-    string projectRoleId?;
+# List of issue level security items in a project.
+public type ProjectIssueSecurityLevels record {|
+    # Issue level security items list.
+    SecurityLevel[] levels;
 |};
 
-# A page of items.
-public type PageBeanCustomFieldContext record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    CustomFieldContext[] values?;
+# Details of an issue type hierarchy level.
+public type ProjectIssueTypesHierarchyLevel record {|
+    # The ID of the issue type hierarchy level. This property is deprecated, see [Change notice: Removing hierarchy level IDs from next-gen APIs](https://developer.atlassian.com/cloud/jira/platform/change-notice-removing-hierarchy-level-ids-from-next-gen-apis/).
+    string entityId?;
+    # The level of the issue type hierarchy level.
+    int:Signed32 level?;
+    # The name of the issue type hierarchy level.
+    string name?;
+    # The list of issue types in the hierarchy level.
+    IssueTypeInfo[] issueTypes?;
 |};
 
-# Time tracking details.
-public type TimeTrackingDetails record {|
-    # The original estimate of time needed for this issue in readable format.
-    string originalEstimate?;
-    # The remaining estimate of time needed for this issue in readable format.
-    string remainingEstimate?;
-    # Time worked on this issue in readable format.
-    string timeSpent?;
-    # The original estimate of time needed for this issue in seconds.
-    int originalEstimateSeconds?;
-    # The remaining estimate of time needed for this issue in seconds.
-    int remainingEstimateSeconds?;
-    # Time worked on this issue in seconds.
-    int timeSpentSeconds?;
+# The hierarchy of issue types within a project.
+public type ProjectIssueTypeHierarchy record {|
+    # The ID of the project.
+    int projectId?;
+    # Details of an issue type hierarchy level.
+    ProjectIssueTypesHierarchyLevel[] hierarchy?;
 |};
 
-# Details of an issue transition.
-public type IssueTransition record {
-    # The ID of the issue transition. Required when specifying a transition to undertake.
-    string id?;
-    # The name of the issue transition.
-    string name?;
-    # Details of the issue status after the transition.
-    StatusDetails to?;
-    # Whether there is a screen associated with the issue transition.
-    boolean hasScreen?;
-    # Whether the issue transition is global, that is, the transition is applied to issues regardless of their status.
-    boolean isGlobal?;
-    # Whether this is the initial issue transition for the workflow.
-    boolean isInitial?;
-    # Whether the transition is available to be performed.
-    boolean isAvailable?;
-    # Whether the issue has to meet criteria before the issue transition is applied.
-    boolean isConditional?;
-    # Details of the fields associated with the issue transition screen. Use this information to populate `fields` and `update` in a transition request.
-    record {|FieldMetadata...;|} fields?;
-    # Expand options that include additional transition details in the response.
-    string expand?;
-    boolean looped?;
-};
-
-# The result of evaluating a Jira expression.
-public type JiraExpressionResult record {|
-    # The value of the evaluated expression. It may be a primitive JSON value or a Jira REST API object. (Some expressions do not produce any meaningful results—for example, an expression that returns a lambda function—if that's the case a simple string representation is returned. These string representations should not be relied upon and may change without notice.)
-    anydata value;
-    # Contains various characteristics of the performed expression evaluation.
-    JiraExpressionEvaluationMetaDataBean meta?;
+# The project and issue type mapping.
+public type ProjectIssueTypeMapping record {|
+    # The ID of the project.
+    string projectId;
+    # The ID of the issue type.
+    string issueTypeId;
 |};
 
-# The IDs of the screens for the screen types of the screen scheme.
-public type ScreenTypes record {|
-    # The ID of the edit screen.
-    int edit?;
-    # The ID of the create screen.
-    int create?;
-    # The ID of the view screen.
-    int view?;
-    # The ID of the default screen. Required when creating a screen scheme.
-    int default?;
+# The project and issue type mappings.
+public type ProjectIssueTypeMappings record {|
+    # The project and issue type mappings.
+    ProjectIssueTypeMapping[] mappings;
 |};
 
-public type PageBeanContextForProjectAndIssueTypeOk record {|
+public type ProjectOk record {|
     *http:Ok;
-    PageBeanContextForProjectAndIssueType body;
+    Project body;
 |};
 
-# A workflow with transition rules.
-public type WorkflowTransitionRules record {|
-    WorkflowId workflowId;
-    # The list of post functions within the workflow.
-    ConnectWorkflowTransitionRule[] postFunctions;
-    # The list of conditions within the workflow.
-    ConnectWorkflowTransitionRule[] conditions;
-    # The list of validators within the workflow.
-    ConnectWorkflowTransitionRule[] validators;
+public type ProjectRoleActorsUpdateBean record {|
+    # The ID of the project role. Use [Get all project roles](#api-rest-api-2-role-get) to get a list of project role IDs.
+    int id?;
+    # The actors to add to the project role. Add groups using `atlassian-group-role-actor` and a list of group names. For example, `"atlassian-group-role-actor":["another","administrators"]}`. Add users using `atlassian-user-role-actor` and a list of account IDs. For example, `"atlassian-user-role-actor":["12345678-9abc-def1-2345-6789abcdef12", "abcdef12-3456-789a-bcde-f123456789ab"]`.
+    record {|string[]...;|} categorisedActors?;
+|};
+
+# Details about a project role.
+public type ProjectRoleDetails record {|
+    # The URL the project role details.
+    string self?;
+    # The name of the project role.
+    string name?;
+    # The ID of the project role.
+    int id?;
+    # The description of the project role.
+    string description?;
+    # Whether this role is the admin role for the project.
+    boolean admin?;
+    # The scope of the role. Indicated for roles associated with [next-gen projects](https://confluence.atlassian.com/x/loMyO).
+    Scope scope?;
+    # Whether the roles are configurable for this project.
+    boolean roleConfigurable?;
+    # The translated name of the project role.
+    string translatedName?;
+    # Whether this role is the default role for the project.
+    boolean default?;
 |};
 
-public type StringArrayBadRequest record {|
-    *http:BadRequest;
-    string[] body;
+public type ProjectRoleOk record {|
+    *http:Ok;
+    ProjectRole body;
 |};
 
-# The project and issue type mappings.
-public type ProjectIssueTypeMappings record {|
-    # The project and issue type mappings.
-    ProjectIssueTypeMapping[] mappings;
+# Details about a project type.
+public type ProjectType record {|
+    # The key of the project type.
+    string 'key?;
+    # The formatted key of the project type.
+    string formattedKey?;
+    # The key of the project type's description.
+    string descriptionI18nKey?;
+    # The icon of the project type.
+    string icon?;
+    # The color of the project type.
+    string color?;
 |};
 
-# Details of any errors encountered while updating workflow transition rules.
-public type WorkflowTransitionRulesUpdateErrors record {|
-    # A list of workflows.
-    WorkflowTransitionRulesUpdateErrorDetails[] updateResults;
+# Property key details.
+public type PropertyKey record {|
+    # The URL of the property.
+    string self?;
+    # The key of the property.
+    string 'key?;
 |};
 
-# A screen tab field.
-public type ScreenableField record {|
-    # The ID of the screen tab field.
-    string id?;
-    # The name of the screen tab field. Required on create and update. The maximum length is 255 characters.
-    string name?;
+# List of property keys.
+public type PropertyKeys record {|
+    # Property key details.
+    PropertyKey[] keys?;
 |};
 
-# Details about a notification scheme event.
-public type NotificationSchemeEvent record {|
-    NotificationEvent event?;
-    EventNotification[] notifications?;
-|};
+# The status of the item.
+public type Status record {
+    # Whether the item is resolved. If set to "true", the link to the issue is displayed in a strikethrough font, otherwise the link displays in normal font.
+    boolean resolved?;
+    # Details of the icon representing the status. If not provided, no status icon displays in Jira.
+    Icon icon?;
+};
 
-# A field auto-complete suggestion.
-public type AutoCompleteSuggestion record {|
-    # The value of a suggested item.
-    string value?;
-    # The display name of a suggested item. If `fieldValue` or `predicateValue` are provided, the matching text is highlighted with the HTML bold tag.
-    string displayName?;
-|};
+# The linked item.
+public type RemoteObject record {
+    # The URL of the item.
+    string url;
+    # The title of the item.
+    string title;
+    # The summary details of the item.
+    string summary?;
+    # Details of the icon for the item. If no icon is defined, the default link icon is used in Jira.
+    Icon icon?;
+    # The status of the item.
+    Status status?;
+};
 
-# A page of items.
-public type PageBeanCustomFieldOptionDetails record {|
-    # The URL of the page.
+# Details of an issue remote link.
+public type RemoteIssueLink record {|
+    # The ID of the link.
+    int id?;
+    # The URL of the link.
     string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    CustomFieldOptionDetails[] values?;
+    # The global ID of the link, such as the ID of the item on the remote system.
+    string globalId?;
+    # Details of the remote application the linked item is in.
+    Application application?;
+    # Description of the relationship between the issue and the linked item.
+    string relationship?;
+    # Details of the item linked to.
+    RemoteObject 'object?;
 |};
 
-# Details about the server Jira is running on.
-public type WorkflowTransitionProperty record {
-    # The key of the transition property. Also known as the name of the transition property.
-    string 'key?;
-    # The value of the transition property.
-    string value;
-    # The ID of the transition property.
-    string id?;
-};
+# Details of the identifiers for a created or updated remote issue link.
+public type RemoteIssueLinkIdentifies record {|
+    # The ID of the remote issue link, such as the ID of the item on the remote system.
+    int id?;
+    # The URL of the remote issue link.
+    string self?;
+|};
 
-public type ContainerForRegisteredWebhooksOk record {|
+public type RemoteIssueLinkIdentifiesOk record {|
     *http:Ok;
-    ContainerForRegisteredWebhooks body;
+    RemoteIssueLinkIdentifies body;
 |};
 
-# Details of issue history metadata.
-public type HistoryMetadata record {
-    # The type of the history record.
-    string 'type?;
-    # The description of the history record.
-    string description?;
-    # The description key of the history record.
-    string descriptionKey?;
-    # The activity described in the history record.
-    string activityDescription?;
-    # The key of the activity described in the history record.
-    string activityDescriptionKey?;
-    # The description of the email address associated the history record.
-    string emailDescription?;
-    # The description key of the email address associated the history record.
-    string emailDescriptionKey?;
-    # Details of the user whose action created the history record.
-    HistoryMetadataParticipant actor?;
-    # Details of the system that generated the history record.
-    HistoryMetadataParticipant generator?;
-    # Details of the cause that triggered the creation the history record.
-    HistoryMetadataParticipant cause?;
-    # Additional arbitrary information about the history record.
-    record {|string...;|} extraData?;
+# Details of a remote issue link.
+public type RemoteIssueLinkRequest record {
+    # An identifier for the remote item in the remote system. For example, the global ID for a remote item in Confluence would consist of the app ID and page ID, like this: `appId=456&pageId=123`.
+    #
+    # Setting this field enables the remote issue link details to be updated or deleted using remote system and item details as the record identifier, rather than using the record's Jira ID.
+    #
+    # The maximum length is 255 characters.
+    string globalId?;
+    # Details of the remote application the linked item is in. For example, trello.
+    Application application?;
+    # Description of the relationship between the issue and the linked item. If not set, the relationship description "links to" is used in Jira.
+    string relationship?;
+    # Details of the item linked to.
+    RemoteObject 'object;
 };
 
-# A page of failed webhooks.
-public type FailedWebhooks record {|
-    # The list of webhooks.
-    FailedWebhook[] values;
-    # The maximum number of items on the page. If the list of values is shorter than this number, then there are no more pages.
-    int:Signed32 maxResults;
-    # The URL to the next page of results. Present only if the request returned at least one result.The next page may be empty at the time of receiving the response, but new failed webhooks may appear in time. You can save the URL to the next page and query for new results periodically (for example, every hour).
-    string next?;
+public type SimpleErrorCollection record {|
+    # The list of errors by parameter returned by the operation. For example,"projectKey": "Project keys must start with an uppercase letter, followed by one or more uppercase alphanumeric characters."
+    record {|string...;|} errors?;
+    # The list of error messages produced by this operation. For example, "input parameter 'key' must be provided"
+    string[] errorMessages?;
+    int:Signed32 httpStatusCode?;
 |};
 
-# A page of items.
-public type PageBeanComment record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    Comment[] values?;
+public type RemoveOptionFromIssuesResult record {|
+    # The IDs of the modified issues.
+    int[] modifiedIssues?;
+    # The IDs of the unchanged issues, those issues where errors prevent modification.
+    int[] unmodifiedIssues?;
+    # A collection of errors related to unchanged issues. The collection size is limited, which means not all errors may be returned.
+    SimpleErrorCollection errors?;
 |};
 
-public type ListWrapperCallbackApplicationRole record {|
+# Details of a custom field cascading option to rename.
+public type RenamedCascadingOption record {|
+    # The value of the cascading option.
+    string value;
+    # The new value of the cascading option.
+    @constraint:String {maxLength: 255}
+    string newValue;
 |};
 
-# Associated issue type screen scheme and project.
-public type IssueTypeScreenSchemeProjectAssociation record {|
-    # The ID of the issue type screen scheme.
-    string issueTypeScreenSchemeId?;
-    # The ID of the project.
-    string projectId?;
+# Details of a custom field option to rename.
+public type RenamedOption record {|
+    # The current option value.
+    string value;
+    # The new value of the option.
+    @constraint:String {maxLength: 255}
+    string newValue;
+    # The new values for the cascading options of this option. Only used for Select List (cascading) fields.
+    RenamedCascadingOption[] cascadingOptions?;
 |};
 
-# Issue type scheme with a list of the projects that use it.
-public type IssueTypeSchemeProjects record {|
-    # Details of an issue type scheme.
-    IssueTypeScheme issueTypeScheme;
-    # The IDs of the projects using the issue type scheme.
-    string[] projectIds;
+# Details of an issue resolution.
+public type Resolution record {|
+    # The URL of the issue resolution.
+    string self?;
+    # The ID of the issue resolution.
+    string id?;
+    # The description of the issue resolution.
+    string description?;
+    # The name of the issue resolution.
+    string name?;
 |};
 
-public type ErrorCollectionBadRequest record {|
-    *http:BadRequest;
-    ErrorCollection body;
+public type RestApi2ProjectProjectIdOrKeyRoleResponse record {|
+    string...;
 |};
 
-# The project issue type hierarchy.
-public type Hierarchy record {|
-    # The ID of the base level. This property is deprecated, see [Change notice: Removing hierarchy level IDs from next-gen APIs](https://developer.atlassian.com/cloud/jira/platform/change-notice-removing-hierarchy-level-ids-from-next-gen-apis/).
-    int baseLevelId?;
-    # Details about the hierarchy level.
-    HierarchyLevel[] levels?;
+# Details of a screen.
+public type ScreenDetails record {|
+    # The name of the screen. The name must be unique. The maximum length is 255 characters.
+    string name;
+    # The description of the screen. The maximum length is 255 characters.
+    string description?;
 |};
 
 # Details of a screen scheme.
-public type UpdateScreenSchemeDetails record {|
+public type ScreenSchemeDetails record {|
     # The name of the screen scheme. The name must be unique. The maximum length is 255 characters.
-    string name?;
+    string name;
     # The description of the screen scheme. The maximum length is 255 characters.
     string description?;
     # The IDs of the screens for the screen types of the screen scheme. Only screens used in classic projects are accepted.
-    UpdateScreenTypes screens?;
+    ScreenTypes screens;
 |};
 
-public type IssueCommentListRequestBean record {|
-    # The list of comment IDs. A maximum of 1000 IDs can be specified.
-    int[] ids;
+# The ID of a screen scheme.
+public type ScreenSchemeId record {|
+    # The ID of the screen scheme.
+    int id;
 |};
 
-# A page of items.
-public type PageBeanFieldConfiguration record {|
-    # The URL of the page.
-    string self?;
-    # If there is another page of results, the URL of the next page.
-    string nextPage?;
-    # The maximum number of items that could be returned.
-    int:Signed32 maxResults?;
-    # The index of the first item returned.
-    int startAt?;
-    # The number of items returned.
-    int total?;
-    # Whether this is the last page.
-    boolean isLast?;
-    # The list of items.
-    FieldConfiguration[] values?;
+# A screen tab field.
+public type ScreenableField record {|
+    # The ID of the screen tab field.
+    string id?;
+    # The name of the screen tab field. Required on create and update. The maximum length is 255 characters.
+    string name?;
 |};
 
-# Container for the list of features on the project.
-public type ProjectFeaturesResponse record {|
-    # The list of features on the project.
-    ProjectFeature[] features?;
+public type ScreenableFieldOk record {|
+    *http:Ok;
+    ScreenableField body;
 |};
 
-# Details of updates for a custom field.
-public type CustomFieldValueUpdateRequest record {|
-    # The list of custom field update details.
-    CustomFieldValueUpdate[] updates?;
+public type ScreenableTabOk record {|
+    *http:Ok;
+    ScreenableTab body;
 |};
 
-# Various counts of issues within a version.
-public type VersionIssueCounts record {|
-    # The URL of these count details.
-    string self?;
-    # Count of issues where the `fixVersion` is set to the version.
-    int issuesFixedCount?;
-    # Count of issues where the `affectedVersion` is set to the version.
-    int issuesAffectedCount?;
-    # Count of issues where a version custom field is set to the version.
-    int issueCountWithCustomFieldsShowingVersion?;
-    # List of custom fields using the version.
-    VersionUsageInCustomField[] customFieldUsage?;
+# Details of how to filter and list search auto complete information.
+public type SearchAutoCompleteFilter record {|
+    # List of project IDs used to filter the visible field details returned.
+    int[] projectIds?;
+    # Include collapsed fields for fields that have non-unique names.
+    boolean includeCollapsedFields = false;
 |};
 
-public type ScreenableFieldOk record {|
+public type SearchRequestBean record {|
+    # A [JQL](https://confluence.atlassian.com/x/egORLQ) expression.
+    string jql?;
+    # The index of the first item to return in the page of results (page offset). The base index is `0`.
+    int:Signed32 startAt?;
+    # The maximum number of items to return per page.
+    int:Signed32 maxResults = 50;
+    # A list of fields to return for each issue, use it to retrieve a subset of fields. This parameter accepts a comma-separated list. Expand options include:
+    #
+    #  *  `*all` Returns all fields.
+    #  *  `*navigable` Returns navigable fields.
+    #  *  Any issue field, prefixed with a minus to exclude.
+    #
+    # The default is `*navigable`.
+    #
+    # Examples:
+    #
+    #  *  `summary,comment` Returns the summary and comments fields only.
+    #  *  `-description` Returns all navigable (default) fields except description.
+    #  *  `*all,-comment` Returns all fields except comments.
+    #
+    # Multiple `fields` parameters can be included in a request.
+    #
+    # Note: All navigable fields are returned by default. This differs from [GET issue](#api-rest-api-2-issue-issueIdOrKey-get) where the default is all fields.
+    string[] fields?;
+    # Determines how to validate the JQL query and treat the validation results. Supported values:
+    #
+    #  *  `strict` Returns a 400 response code if any errors are found, along with a list of all errors (and warnings).
+    #  *  `warn` Returns all errors as warnings.
+    #  *  `none` No validation is performed.
+    #  *  `true` *Deprecated* A legacy synonym for `strict`.
+    #  *  `false` *Deprecated* A legacy synonym for `warn`.
+    #
+    # The default is `strict`.
+    #
+    # Note: If the JQL is not correctly formed a 400 response code is returned, regardless of the `validateQuery` value.
+    "strict"|"warn"|"none"|"true"|"false" validateQuery?;
+    # Use [expand](em>#expansion) to include additional information about issues in the response. Note that, unlike the majority of instances where `expand` is specified, `expand` is defined as a list of values. The expand options are:
+    #
+    #  *  `renderedFields` Returns field values rendered in HTML format.
+    #  *  `names` Returns the display name of each field.
+    #  *  `schema` Returns the schema describing a field type.
+    #  *  `transitions` Returns all possible transitions for the issue.
+    #  *  `operations` Returns all possible operations for the issue.
+    #  *  `editmeta` Returns information about how each field can be edited.
+    #  *  `changelog` Returns a list of recent updates to an issue, sorted by date, starting from the most recent.
+    #  *  `versionedRepresentations` Instead of `fields`, returns `versionedRepresentations` a JSON array containing each version of a field's value, with the highest numbered item representing the most recent version.
+    string[] expand?;
+    # A list of up to 5 issue properties to include in the results. This parameter accepts a comma-separated list.
+    string[] properties?;
+    # Reference fields by their key (rather than ID). The default is `false`.
+    boolean fieldsByKeys?;
+|};
+
+# The result of a JQL search.
+public type SearchResults record {|
+    # Expand options that include additional search result details in the response.
+    string expand?;
+    # The index of the first item returned on the page.
+    int:Signed32 startAt?;
+    # The maximum number of results that could be on the page.
+    int:Signed32 maxResults?;
+    # The number of results on the page.
+    int:Signed32 total?;
+    # The list of issues found by the search.
+    IssueBean[] issues?;
+    # Any warnings related to the JQL query.
+    string[] warningMessages?;
+    # The ID and name of each field in the search results.
+    record {|string...;|} names?;
+    # The schema describing the field types in the search results.
+    record {|JsonTypeBean...;|} schema?;
+|};
+
+public type SearchResultsOk record {|
     *http:Ok;
-    ScreenableField body;
+    SearchResults body;
 |};
 
-# An issue priority.
-public type Priority record {
-    # The URL of the issue priority.
+# Details about a security scheme.
+public type SecurityScheme record {|
+    # The URL of the issue security scheme.
     string self?;
-    # The color used to indicate the issue priority.
-    string statusColor?;
-    # The description of the issue priority.
-    string description?;
-    # The URL of the icon for the issue priority.
-    string iconUrl?;
-    # The name of the issue priority.
+    # The ID of the issue security scheme.
+    int id?;
+    # The name of the issue security scheme.
     string name?;
-    # The ID of the issue priority.
-    string id?;
-};
+    # The description of the issue security scheme.
+    string description?;
+    # The ID of the default security level.
+    int defaultSecurityLevelId?;
+    SecurityLevel[] levels?;
+|};
 
-# Details of project permissions and associated issues and projects to look up.
-public type BulkProjectPermissions record {|
-    # List of issue IDs.
-    int[] issues?;
-    # List of project IDs.
-    int[] projects?;
-    # List of project permissions.
-    string[] permissions;
+# List of security schemes.
+public type SecuritySchemes record {|
+    # List of security schemes.
+    SecurityScheme[] issueSecuritySchemes?;
 |};
 
-# The ID of an issue type screen scheme.
-public type IssueTypeScreenSchemeId record {|
-    # The ID of the issue type screen scheme.
-    string id;
+# Details about the Jira instance.
+public type ServerInformation record {|
+    # The base URL of the Jira instance.
+    string baseUrl?;
+    # The version of Jira.
+    string version?;
+    # The major, minor, and revision version numbers of the Jira version.
+    int:Signed32[] versionNumbers?;
+    # The type of server deployment. This is always returned as *Cloud*.
+    string deploymentType?;
+    # The build number of the Jira version.
+    int:Signed32 buildNumber?;
+    # The timestamp when the Jira version was built.
+    string buildDate?;
+    # The time in Jira when this request was responded to.
+    string serverTime?;
+    # The unique identifier of the Jira version.
+    string scmInfo?;
+    # The name of the Jira instance.
+    string serverTitle?;
+    # Jira instance health check results. Deprecated and no longer returned.
+    HealthCheckResult[] healthChecks?;
 |};
 
-# Counts of the number of issues in various statuses.
-public type VersionIssuesStatus record {
-    # Count of issues with a status other than *to do*, *in progress*, and *done*.
-    int unmapped?;
-    # Count of issues with status *to do*.
-    int toDo?;
-    # Count of issues with status *in progress*.
-    int inProgress?;
-    # Count of issues with status *done*.
-    int done?;
-};
+public type SharePermissionInputBean record {|
+    # The type of the share permission.Specify the type as follows:
+    #
+    #  *  `group` Share with a group. Specify `groupname` as well.
+    #  *  `project` Share with a project. Specify `projectId` as well.
+    #  *  `projectRole` Share with a project role in a project. Specify `projectId` and `projectRoleId` as well.
+    #  *  `global` Share globally, including anonymous users. If set, this type overrides all existing share permissions and must be deleted before any non-global share permissions is set.
+    #  *  `authenticated` Share with all logged-in users. This shows as `loggedin` in the response. If set, this type overrides all existing share permissions and must be deleted before any non-global share permissions is set.
+    "project"|"group"|"projectRole"|"global"|"authenticated" 'type;
+    # The ID of the project to share the filter with. Set `type` to `project`.
+    string projectId?;
+    # The name of the group to share the filter with. Set `type` to `group`.
+    string groupname?;
+    # The ID of the project role to share the filter with. Set `type` to `projectRole` and the `projectId` for the project that the role is in.
+    string projectRoleId?;
+|};
 
-# The JQL specifying the issues available in the evaluated Jira expression under the `issues` context variable.
-public type JexpIssues record {|
-    # The JQL query that specifies the set of issues available in the Jira expression.
-    JexpJqlIssues jql?;
+public type SimpleApplicationPropertyBean record {|
+    # The ID of the application property.
+    string id?;
+    # The new value.
+    string value?;
+|};
+
+public type StringArrayBadRequest record {|
+    *http:BadRequest;
+    string[] body;
+|};
+
+public type StringArrayForbidden record {|
+    *http:Forbidden;
+    string[] body;
 |};
 
-public type AvatarUrlsBean record {|
-    # The URL of the item's 16x16 pixel avatar.
-    string '16x16?;
-    # The URL of the item's 24x24 pixel avatar.
-    string '24x24?;
-    # The URL of the item's 32x32 pixel avatar.
-    string '32x32?;
-    # The URL of the item's 48x48 pixel avatar.
-    string '48x48?;
+public type StringArrayNotFound record {|
+    *http:NotFound;
+    string[] body;
 |};
 
-public type IdOrKeyBean record {|
-    # The ID of the referenced item.
-    int id?;
-    # The key of the referenced item.
-    string 'key?;
+public type StringArrayUnauthorized record {|
+    *http:Unauthorized;
+    string[] body;
 |};
 
-# Key fields from the linked issue.
-public type Fields record {|
-    # The summary description of the linked issue.
-    string summary?;
-    # The status of the linked issue.
-    StatusDetails status?;
-    # The priority of the linked issue.
-    Priority priority?;
-    # The assignee of the linked issue.
-    UserDetails assignee?;
-    # The time tracking of the linked issue.
-    TimeTrackingDetails timetracking?;
-    IssueTypeDetails issuetype?;
-    # The type of the linked issue.
-    IssueTypeDetails issueType?;
+public type StringList record {|
+|};
+
+# List of system avatars.
+public type SystemAvatars record {|
+    # A list of avatar details.
+    Avatar[] system?;
 |};
 
 # Details about a task.
@@ -6492,227 +6424,268 @@ public type TaskProgressBeanObject record {|
     int lastUpdate;
 |};
 
-# List of property keys.
-public type PropertyKeys record {|
-    # Property key details.
-    PropertyKey[] keys?;
+public type TaskProgressBeanObjectSeeOther record {|
+    *http:SeeOther;
+    TaskProgressBeanObject body;
 |};
 
-# A status.
-public type StatusDetails record {
-    # The URL of the status.
-    string self?;
-    # The description of the status.
+# Details about a task.
+public type TaskProgressBeanRemoveOptionFromIssuesResult record {|
+    # The URL of the task.
+    string self;
+    # The ID of the task.
+    string id;
+    # The description of the task.
     string description?;
-    # The URL of the icon used to represent the status.
-    string iconUrl?;
-    # The name of the status.
-    string name?;
-    # The ID of the status.
-    string id?;
-    # The category assigned to the status.
-    StatusCategory statusCategory?;
-};
+    # The status of the task.
+    "ENQUEUED"|"RUNNING"|"COMPLETE"|"FAILED"|"CANCEL_REQUESTED"|"CANCELLED"|"DEAD" status;
+    # Information about the progress of the task.
+    string message?;
+    # The result of the task execution.
+    RemoveOptionFromIssuesResult result?;
+    # The ID of the user who submitted the task.
+    int submittedBy;
+    # The progress of the task, as a percentage complete.
+    int progress;
+    # The execution time of the task, in milliseconds.
+    int elapsedRuntime;
+    # A timestamp recording when the task was submitted.
+    int submitted;
+    # A timestamp recording when the task was started.
+    int started?;
+    # A timestamp recording when the task was finished.
+    int finished?;
+    # A timestamp recording when the task progress was last updated.
+    int lastUpdate;
+|};
 
-public type OperationMessage record {|
-    # The human-readable message that describes the result.
-    string message;
-    # The status code of the response.
-    int statusCode;
+public type TaskProgressBeanRemoveOptionFromIssuesResultSeeOther record {|
+    *http:SeeOther;
+    TaskProgressBeanRemoveOptionFromIssuesResult body;
 |};
 
-# Details of an issue resolution.
-public type Resolution record {|
-    # The URL of the issue resolution.
-    string self?;
-    # The ID of the issue resolution.
-    string id?;
-    # The description of the issue resolution.
-    string description?;
-    # The name of the issue resolution.
+# Details about the time tracking provider.
+public type TimeTrackingProvider record {|
+    # The key for the time tracking provider. For example, *JIRA*.
+    string 'key;
+    # The name of the time tracking provider. For example, *JIRA provided time tracking*.
     string name?;
+    # The URL of the configuration page for the time tracking provider app. For example, */example/config/url*. This property is only returned if the `adminPageKey` property is set in the module descriptor of the time tracking provider app.
+    string url?;
 |};
 
-# A user with details as permitted by the user's Atlassian Account privacy settings. However, be aware of these exceptions:
-#
-#  *  User record deleted from Atlassian: This occurs as the result of a right to be forgotten request. In this case, `displayName` provides an indication and other parameters have default values or are blank (for example, email is blank).
-#  *  User record corrupted: This occurs as a results of events such as a server import and can only happen to deleted users. In this case, `accountId` returns *unknown* and all other parameters have fallback values.
-#  *  User record unavailable: This usually occurs due to an internal service outage. In this case, all parameters have fallback values.
-public type User record {|
-    # The URL of the user.
-    string self?;
-    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
-    string 'key?;
-    # The account ID of the user, which uniquely identifies the user across all Atlassian products. For example, *5b10ac8d82e05b22cc7d4ef5*. Required in requests.
-    @constraint:String {maxLength: 128}
+# List of issue transitions.
+public type Transitions record {|
+    # Expand options that include additional transitions details in the response.
+    string expand?;
+    # List of issue transitions.
+    IssueTransition[] transitions?;
+|};
+
+public type UnrestrictedUserEmail record {|
+    # The accountId of the user
     string accountId?;
-    # The user account type. Can take the following values:
-    #
-    #  *  `atlassian` regular Atlassian user account
-    #  *  `app` system account used for Connect applications and OAuth to represent external systems
-    #  *  `customer` Jira Service Desk account representing an external service desk
-    "atlassian"|"app"|"customer"|"unknown" accountType?;
-    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
+    # The email of the user
+    string email?;
+|};
+
+# Details of a custom field.
+public type UpdateCustomFieldDetails record {|
+    # The name of the custom field. It doesn't have to be unique. The maximum length is 255 characters.
     string name?;
-    # The email address of the user. Depending on the user’s privacy setting, this may be returned as null.
-    string emailAddress?;
-    # The avatars of the user.
-    AvatarUrlsBean avatarUrls?;
-    # The display name of the user. Depending on the user’s privacy setting, this may return an alternative value.
-    string displayName?;
-    # Whether the user is active.
-    boolean active?;
-    # The time zone specified in the user's profile. Depending on the user’s privacy setting, this may be returned as null.
-    string timeZone?;
-    # The locale of the user. Depending on the user’s privacy setting, this may be returned as null.
-    string locale?;
-    # The groups that the user belongs to.
-    SimpleListWrapperGroupName groups?;
-    # The application roles the user is assigned to.
-    SimpleListWrapperApplicationRole applicationRoles?;
-    # Expand options that include additional user details in the response.
-    string expand?;
+    # The description of the custom field. The maximum length is 40000 characters.
+    string description?;
+    # The searcher that defines the way the field is searched in Jira. It can be set to `null`, otherwise you must specify the valid searcher for the field type, as listed below (abbreviated values shown):
+    #
+    #  *  `cascadingselect`: `cascadingselectsearcher`
+    #  *  `datepicker`: `daterange`
+    #  *  `datetime`: `datetimerange`
+    #  *  `float`: `exactnumber` or `numberrange`
+    #  *  `grouppicker`: `grouppickersearcher`
+    #  *  `importid`: `exactnumber` or `numberrange`
+    #  *  `labels`: `labelsearcher`
+    #  *  `multicheckboxes`: `multiselectsearcher`
+    #  *  `multigrouppicker`: `multiselectsearcher`
+    #  *  `multiselect`: `multiselectsearcher`
+    #  *  `multiuserpicker`: `userpickergroupsearcher`
+    #  *  `multiversion`: `versionsearcher`
+    #  *  `project`: `projectsearcher`
+    #  *  `radiobuttons`: `multiselectsearcher`
+    #  *  `readonlyfield`: `textsearcher`
+    #  *  `select`: `multiselectsearcher`
+    #  *  `textarea`: `textsearcher`
+    #  *  `textfield`: `textsearcher`
+    #  *  `url`: `exacttextsearcher`
+    #  *  `userpicker`: `userpickergroupsearcher`
+    #  *  `version`: `versionsearcher`
+    "com.atlassian.jira.plugin.system.customfieldtypes:cascadingselectsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:daterange"|"com.atlassian.jira.plugin.system.customfieldtypes:datetimerange"|"com.atlassian.jira.plugin.system.customfieldtypes:exactnumber"|"com.atlassian.jira.plugin.system.customfieldtypes:exacttextsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:grouppickersearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:labelsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:multiselectsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:numberrange"|"com.atlassian.jira.plugin.system.customfieldtypes:projectsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:textsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:userpickergroupsearcher"|"com.atlassian.jira.plugin.system.customfieldtypes:versionsearcher" searcherKey?;
 |};
 
-public type ActorInputBean record {|
-    # The account IDs of the users to add as default actors. This parameter accepts a comma-separated list. For example, `"user":["5b10a2844c20165700ede21g", "5b109f2e9729b51b54dc274d"]`.
-    string[] user?;
-    # The name of the group to add as a default actor. This parameter accepts a comma-separated list. For example, `"group":["project-admin", "jira-developers"]`.
-    string[] group?;
+# Details of the options to update for a custom field.
+public type UpdateCustomFieldOption record {|
+    # Details of the options to update.
+    RenamedOption[] options?;
 |};
 
-# A screen.
-public type Screen record {|
-    # The ID of the screen.
-    int id?;
-    # The name of the screen.
+# The ID of a screen scheme.
+public type UpdateDefaultScreenScheme record {|
+    # The ID of the screen scheme.
+    string screenSchemeId;
+|};
+
+# Details of a screen.
+public type UpdateScreenDetails record {|
+    # The name of the screen. The name must be unique. The maximum length is 255 characters.
     string name?;
-    # The description of the screen.
+    # The description of the screen. The maximum length is 255 characters.
     string description?;
-    # The scope of the screen.
-    Scope scope?;
 |};
 
-# Details a link group, which defines issue operations.
-public type LinkGroup record {|
-    string id?;
-    string styleClass?;
-    SimpleLink header?;
-    int:Signed32 weight?;
-    SimpleLink[] links?;
-    LinkGroup[] groups?;
+# The IDs of the screens for the screen types of the screen scheme.
+public type UpdateScreenTypes record {|
+    # The ID of the edit screen. To remove the screen association, pass a null.
+    string edit?;
+    # The ID of the create screen. To remove the screen association, pass a null.
+    string create?;
+    # The ID of the view screen. To remove the screen association, pass a null.
+    string view?;
+    # The ID of the default screen. When specified, must include a screen ID as a default screen is required.
+    string default?;
 |};
 
-# A list of editable field details.
-public type IssueUpdateMetadata record {
-    record {|FieldMetadata...;|} fields?;
+# Details of a screen scheme.
+public type UpdateScreenSchemeDetails record {|
+    # The name of the screen scheme. The name must be unique. The maximum length is 255 characters.
+    string name?;
+    # The description of the screen scheme. The maximum length is 255 characters.
+    string description?;
+    # The IDs of the screens for the screen types of the screen scheme. Only screens used in classic projects are accepted.
+    UpdateScreenTypes screens?;
+|};
+
+public type UpdateUserToGroupBean record {
+    # This property is no longer available and will be removed from the documentation soon. See the [deprecation notice](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
+    string name?;
+    # The account ID of the user, which uniquely identifies the user across all Atlassian products. For example, *5b10ac8d82e05b22cc7d4ef5*.
+    @constraint:String {maxLength: 128}
+    string accountId?;
 };
 
-# Details of an issue type hierarchy level.
-public type ProjectIssueTypesHierarchyLevel record {|
-    # The ID of the issue type hierarchy level. This property is deprecated, see [Change notice: Removing hierarchy level IDs from next-gen APIs](https://developer.atlassian.com/cloud/jira/platform/change-notice-removing-hierarchy-level-ids-from-next-gen-apis/).
-    string entityId?;
-    # The level of the issue type hierarchy level.
-    int:Signed32 level?;
-    # The name of the issue type hierarchy level.
-    string name?;
-    # The list of issue types in the hierarchy level.
-    IssueTypeInfo[] issueTypes?;
+public type UserMigrationBean record {|
+    string 'key?;
+    string username?;
+    string accountId?;
 |};
 
-# Details about a project role.
-public type ProjectRoleDetails record {|
-    # The URL the project role details.
+public type UserWriteBean record {
+    # The URL of the user.
     string self?;
-    # The name of the project role.
+    # The key for the user. When provided with `name`, overrides the value in `name` to set both `name` and `key`. This property is deprecated because of privacy changes. See the [migration guide](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
+    string 'key?;
+    # The username for the user. This property is deprecated because of privacy changes. See the [migration guide](https://developer.atlassian.com/cloud/jira/platform/deprecation-notice-user-privacy-api-migration-guide/) for details.
     string name?;
-    # The ID of the project role.
-    int id?;
-    # The description of the project role.
-    string description?;
-    # Whether this role is the admin role for the project.
-    boolean admin?;
-    # The scope of the role. Indicated for roles associated with [next-gen projects](https://confluence.atlassian.com/x/loMyO).
-    Scope scope?;
-    # Whether the roles are configurable for this project.
-    boolean roleConfigurable?;
-    # The translated name of the project role.
-    string translatedName?;
-    # Whether this role is the default role for the project.
-    boolean default?;
-|};
+    # A password for the user. If a password is not set, a random password is generated.
+    string password?;
+    # The email address for the user.
+    string emailAddress;
+    # The display name for the user.
+    string displayName;
+    # Deprecated, do not use.
+    string[] applicationKeys?;
+};
 
-# Lists of issues and entity properties. See [Entity properties](https://developer.atlassian.com/cloud/jira/platform/jira-entity-properties/) for more information.
-public type IssueEntityProperties record {|
-    # A list of entity property IDs.
-    @constraint:Array {maxLength: 10000, minLength: 1}
-    int[] entitiesIds?;
-    # A list of entity property keys and values.
-    record {|JsonNode...;|} properties?;
+# List of custom fields using the version.
+public type VersionUsageInCustomField record {|
+    # The name of the custom field.
+    string fieldName?;
+    # The ID of the custom field.
+    int customFieldId?;
+    # Count of the issues where the custom field contains the version.
+    int issueCountWithVersionInCustomField?;
 |};
 
-# Additional details about a project.
-public type ProjectInsight record {|
-    # Total issue count.
-    int totalIssueCount?;
-    # The last issue update time.
-    string lastIssueUpdateTime?;
+# Various counts of issues within a version.
+public type VersionIssueCounts record {|
+    # The URL of these count details.
+    string self?;
+    # Count of issues where the `fixVersion` is set to the version.
+    int issuesFixedCount?;
+    # Count of issues where the `affectedVersion` is set to the version.
+    int issuesAffectedCount?;
+    # Count of issues where a version custom field is set to the version.
+    int issueCountWithCustomFieldsShowingVersion?;
+    # List of custom fields using the version.
+    VersionUsageInCustomField[] customFieldUsage?;
 |};
 
-# An operand that is a JQL keyword. See [Advanced searching - keywords reference](https://confluence.atlassian.com/jiracorecloud/advanced-searching-keywords-reference-765593717.html#Advancedsearching-keywordsreference-EMPTYEMPTY) for more information about operand keywords.
-public type KeywordOperand record {
-    # The keyword that is the operand value.
-    "empty" keyword;
-};
+public type VersionMoveBean record {|
+    # The URL (self link) of the version after which to place the moved version. Cannot be used with `position`.
+    string after?;
+    # An absolute position in which to place the moved version. Cannot be used with `after`.
+    "Earlier"|"Later"|"First"|"Last" position?;
+|};
 
-public type CustomFieldContextDefaultValue CustomFieldContextDefaultValueCascadingOption|CustomFieldContextDefaultValueMultipleOption|CustomFieldContextDefaultValueSingleOption;
+public type VersionOk record {|
+    *http:Ok;
+    Version body;
+|};
 
-# The schema of a field.
-public type JsonTypeBean record {|
-    # The data type of the field.
-    string 'type;
-    # When the data type is an array, the name of the field items within the array.
-    string items?;
-    # If the field is a system field, the name of the field.
-    string system?;
-    # If the field is a custom field, the URI of the field.
-    string custom?;
-    # If the field is a custom field, the custom ID of the field.
-    int customId?;
-    # If the field is a custom field, the configuration of the field.
-    record {} configuration?;
+# Count of a version's unresolved issues.
+public type VersionUnresolvedIssuesCount record {|
+    # The URL of these count details.
+    string self?;
+    # Count of unresolved issues.
+    int issuesUnresolvedCount?;
+    # Count of issues.
+    int issuesCount?;
 |};
 
-# Details about a notification event.
-public type NotificationEvent record {|
-    # The ID of the event. The event can be a [Jira system event](https://confluence.atlassian.com/x/8YdKLg#Creatinganotificationscheme-eventsEvents) or a [custom event](https://confluence.atlassian.com/x/AIlKLg).
-    int id?;
-    # The name of the event.
-    string name?;
-    # The description of the event.
-    string description?;
-    # The template of the event. Only custom events configured by Jira administrators have template.
-    NotificationEvent templateEvent?;
+# The details of votes on an issue.
+public type Votes record {|
+    # The URL of these issue vote details.
+    string self?;
+    # The number of votes on the issue.
+    int votes?;
+    # Whether the user making this request has voted on the issue.
+    boolean hasVoted?;
+    # List of the users who have voted on this issue. An empty list is returned when the calling user doesn't have the *View voters and watchers* project permission.
+    User[] voters?;
 |};
 
-# A list of matched issues or errors for each JQL query, in the order the JQL queries were passed.
-public type IssueMatches record {|
-    IssueMatchesForJQL[] matches;
+# The details of watchers on an issue.
+public type Watchers record {|
+    # The URL of these issue watcher details.
+    string self?;
+    # Whether the calling user is watching this issue.
+    boolean isWatching?;
+    # The number of users watching this issue.
+    int:Signed32 watchCount?;
+    # Details of the users watching this issue.
+    UserDetails[] watchers?;
 |};
 
-public type ListWrapperCallbackGroupName record {|
+# A list of webhooks.
+public type WebhookDetails record {|
+    # The JQL filter that specifies which issues the webhook is sent for. Only a subset of JQL can be used. The supported elements are:
+    #
+    #  *  Fields: `issueKey`, `project`, `issuetype`, `status`, `assignee`, `reporter`, `issue.property`, and `cf[id]` (for custom fields—only the epic label custom field is supported).
+    #  *  Operators: `=`, `!=`, `IN`, and `NOT IN`.
+    string jqlFilter;
+    # The Jira events that trigger the webhook.
+    ("jira:issue_created"|"jira:issue_updated"|"jira:issue_deleted"|"comment_created"|"comment_updated"|"comment_deleted"|"issue_property_set"|"issue_property_deleted")[] events;
 |};
 
-public type WorkflowTransitionPropertyOk record {|
-    *http:Ok;
-    WorkflowTransitionProperty body;
+# Details of webhooks to register.
+public type WebhookRegistrationDetails record {|
+    # A list of webhooks.
+    WebhookDetails[] webhooks;
+    # The URL that specifies where to send the webhooks. This URL must use the same base URL as the Connect app.
+    string url;
 |};
 
-public type VersionMoveBean record {|
-    # The URL (self link) of the version after which to place the moved version. Cannot be used with `position`.
-    string after?;
-    # An absolute position in which to place the moved version. Cannot be used with `after`.
-    "Earlier"|"Later"|"First"|"Last" position?;
+# The date the newly refreshed webhooks expire.
+public type WebhooksExpirationDate record {|
+    int expirationDate;
 |};
 
 # The classic workflow identifiers.
@@ -6723,29 +6696,56 @@ public type WorkflowIDs record {|
     string entityId?;
 |};
 
-# Details of an application role.
-public type ApplicationRole record {|
-    # The key of the application role.
+# An associated workflow scheme and project.
+public type WorkflowSchemeProjectAssociation record {|
+    # The ID of the workflow scheme. If the workflow scheme ID is `null`, the operation assigns the default workflow scheme.
+    string workflowSchemeId?;
+    # The ID of the project.
+    string projectId;
+|};
+
+# Details about the server Jira is running on.
+public type WorkflowTransitionProperty record {
+    # The key of the transition property. Also known as the name of the transition property.
     string 'key?;
-    # The groups associated with the application role.
-    string[] groups?;
-    # The display name of the application role.
-    string name?;
-    # The groups that are granted default access for this application role.
-    string[] defaultGroups?;
-    # Determines whether this application role should be selected by default on user creation.
-    boolean selectedByDefault?;
-    # Deprecated.
-    boolean defined?;
-    # The maximum count of users on your license.
-    int:Signed32 numberOfSeats?;
-    # The count of users remaining on your license.
-    int:Signed32 remainingSeats?;
-    # The number of users counting against your license.
-    int:Signed32 userCount?;
-    # The [type of users](https://confluence.atlassian.com/x/lRW3Ng) being counted against your license.
-    string userCountDescription?;
-    boolean hasUnlimitedSeats?;
-    # Indicates if the application role belongs to Jira platform (`jira-core`).
-    boolean platform?;
+    # The value of the transition property.
+    string value;
+    # The ID of the transition property.
+    string id?;
+};
+
+public type WorkflowTransitionPropertyOk record {|
+    *http:Ok;
+    WorkflowTransitionProperty body;
+|};
+
+# Details about a workflow configuration update request.
+public type WorkflowTransitionRulesUpdate record {|
+    # The list of workflows with transition rules to update.
+    WorkflowTransitionRules[] workflows;
+|};
+
+# Details of any errors encountered while updating workflow transition rules for a workflow.
+public type WorkflowTransitionRulesUpdateErrorDetails record {|
+    WorkflowId workflowId;
+    # A list of transition rule update errors, indexed by the transition rule ID. Any transition rule that appears here wasn't updated.
+    record {|string[]...;|} ruleUpdateErrors;
+    # The list of errors that specify why the workflow update failed. The workflow was not updated if the list contains any entries.
+    string[] updateErrors;
+|};
+
+# Details of any errors encountered while updating workflow transition rules.
+public type WorkflowTransitionRulesUpdateErrors record {|
+    # A list of workflows.
+    WorkflowTransitionRulesUpdateErrorDetails[] updateResults;
+|};
+
+public type WorklogArrayOk record {|
+    *http:Ok;
+    Worklog[] body;
+|};
+
+public type WorklogIdsRequestBean record {|
+    # A list of worklog IDs.
+    int[] ids;
 |};
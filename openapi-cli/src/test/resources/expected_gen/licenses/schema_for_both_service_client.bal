@@ -3,34 +3,6 @@
 
 import ballerina/http;
 
-# Represents the Queries record for the operation: listPets
-public type ListPetsQueries record {
-    # How many items to return at one time (max 100)
-    int 'limit?;
-};
-
-public type Pets Pet[];
-
-# Provides settings related to HTTP/1.x protocol.
-public type ClientHttp1Settings record {|
-    # Specifies whether to reuse a connection for multiple requests
-    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
-    # The chunking behaviour of the request
-    http:Chunking chunking = http:CHUNKING_AUTO;
-    # Proxy server related options
-    ProxyConfig proxy?;
-|};
-
-public type ErrorDefault record {|
-    *http:DefaultStatusCodeResponse;
-    Error body;
-|};
-
-public type Error record {
-    int code;
-    string message;
-};
-
 # Proxy server configurations to be used with the HTTP client endpoint.
 public type ProxyConfig record {|
     # Host name of the proxy server
@@ -44,17 +16,15 @@ public type ProxyConfig record {|
     string password = "";
 |};
 
-public type Dog record {
-    *Pet;
-    boolean bark?;
-};
-
-public type Pet record {
-    int id;
-    string name;
-    string tag?;
-    string 'type?;
-};
+# Provides settings related to HTTP/1.x protocol.
+public type ClientHttp1Settings record {|
+    # Specifies whether to reuse a connection for multiple requests
+    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
+    # The chunking behaviour of the request
+    http:Chunking chunking = http:CHUNKING_AUTO;
+    # Proxy server related options
+    ProxyConfig proxy?;
+|};
 
 # Provides a set of configurations for controlling the behaviours when communicating with a remote HTTP endpoint.
 @display {label: "Connection Config"}
@@ -91,3 +61,33 @@ public type ConnectionConfig record {|
     # and absent fields are handled as `nilable` types. Enabled by default.
     boolean laxDataBinding = true;
 |};
+
+public type Pet record {
+    int id;
+    string name;
+    string tag?;
+    string 'type?;
+};
+
+public type Dog record {
+    *Pet;
+    boolean bark?;
+};
+
+public type Error record {
+    int code;
+    string message;
+};
+
+public type ErrorDefault record {|
+    *http:DefaultStatusCodeResponse;
+    Error body;
+|};
+
+# Represents the Queries record for the operation: listPets
+public type ListPetsQueries record {
+    # How many items to return at one time (max 100)
+    int 'limit?;
+};
+
+public type Pets Pet[];
@@ -3,16 +3,11 @@
 
 import ballerina/http;
 
-public type Pets Pet[];
-
-public type ErrorDefault record {|
-    *http:DefaultStatusCodeResponse;
-    Error body;
-|};
-
-public type Error record {
-    int code;
-    string message;
+public type Pet record {
+    int id;
+    string name;
+    string tag?;
+    string 'type?;
 };
 
 public type Dog record {
@@ -20,9 +15,14 @@ public type Dog record {
     boolean bark?;
 };
 
-public type Pet record {
-    int id;
-    string name;
-    string tag?;
-    string 'type?;
+public type Error record {
+    int code;
+    string message;
 };
+
+public type ErrorDefault record {|
+    *http:DefaultStatusCodeResponse;
+    Error body;
+|};
+
+public type Pets Pet[];
@@ -3,27 +3,6 @@
 
 import ballerina/http;
 
-# Provides settings related to HTTP/1.x protocol.
-public type ClientHttp1Settings record {|
-    # Specifies whether to reuse a connection for multiple requests
-    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
-    # The chunking behaviour of the request
-    http:Chunking chunking = http:CHUNKING_AUTO;
-    # Proxy server related options
-    ProxyConfig proxy?;
-|};
-
-# Represents the Queries record for the operation: operation_get_/hello
-public type OperationGetHelloQueries record {
-    string pet?;
-};
-
-# Represents the Queries record for the operation: operation_get_/pets
-public type OperationGetPetsQueries record {
-    # Number of retriving items
-    int:Signed32 offset;
-};
-
 # Proxy server configurations to be used with the HTTP client endpoint.
 public type ProxyConfig record {|
     # Host name of the proxy server
@@ -37,11 +16,15 @@ public type ProxyConfig record {|
     string password = "";
 |};
 
-public type Pet record {
-    int petId;
-    string name;
-    string petType?;
-};
+# Provides settings related to HTTP/1.x protocol.
+public type ClientHttp1Settings record {|
+    # Specifies whether to reuse a connection for multiple requests
+    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
+    # The chunking behaviour of the request
+    http:Chunking chunking = http:CHUNKING_AUTO;
+    # Proxy server related options
+    ProxyConfig proxy?;
+|};
 
 # Provides a set of configurations for controlling the behaviours when communicating with a remote HTTP endpoint.
 @display {label: "Connection Config"}
@@ -78,3 +61,20 @@ public type ConnectionConfig record {|
     # and absent fields are handled as `nilable` types. Enabled by default.
     boolean laxDataBinding = true;
 |};
+
+# Represents the Queries record for the operation: operation_get_/hello
+public type OperationGetHelloQueries record {
+    string pet?;
+};
+
+# Represents the Queries record for the operation: operation_get_/pets
+public type OperationGetPetsQueries record {
+    # Number of retriving items
+    int:Signed32 offset;
+};
+
+public type Pet record {
+    int petId;
+    string name;
+    string petType?;
+};
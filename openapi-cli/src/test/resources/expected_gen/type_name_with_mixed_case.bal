@@ -261,25 +261,6 @@ public type AlbumNewOne record {|
     string id;
 |};
 
-# Provides settings related to HTTP/1.x protocol.
-public type ClientHttp1Settings record {|
-    # Specifies whether to reuse a connection for multiple requests
-    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
-    # The chunking behaviour of the request
-    http:Chunking chunking = http:CHUNKING_AUTO;
-    # Proxy server related options
-    ProxyConfig proxy?;
-|};
-
-# API Version
-public type VERSION "V1"|"V2";
-
-# Represents the Queries record for the operation: getAlbums
-public type GetAlbumsQueries record {
-    # Album genre
-    string genre;
-};
-
 # Proxy server configurations to be used with the HTTP client endpoint.
 public type ProxyConfig record {|
     # Host name of the proxy server
@@ -293,11 +274,15 @@ public type ProxyConfig record {|
     string password = "";
 |};
 
-# Represents the Headers record for the operation: getAlbums
-public type GetAlbumsHeaders record {
-    @http:Header {name: "API-VERSION"}
-    VERSION aPIVERSION?;
-};
+# Provides settings related to HTTP/1.x protocol.
+public type ClientHttp1Settings record {|
+    # Specifies whether to reuse a connection for multiple requests
+    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
+    # The chunking behaviour of the request
+    http:Chunking chunking = http:CHUNKING_AUTO;
+    # Proxy server related options
+    ProxyConfig proxy?;
+|};
 
 # Provides a set of configurations for controlling the behaviours when communicating with a remote HTTP endpoint.
 @display {label: "Connection Config"}
@@ -334,3 +319,18 @@ public type ConnectionConfig record {|
     # and absent fields are handled as `nilable` types. Enabled by default.
     boolean laxDataBinding = true;
 |};
+
+# API Version
+public type VERSION "V1"|"V2";
+
+# Represents the Headers record for the operation: getAlbums
+public type GetAlbumsHeaders record {
+    @http:Header {name: "API-VERSION"}
+    VERSION aPIVERSION?;
+};
+
+# Represents the Queries record for the operation: getAlbums
+public type GetAlbumsQueries record {
+    # Album genre
+    string genre;
+};
@@ -1,3 +1,45 @@
+# Mock record
+public type Pet record {
+    string? name?;
+    int? age?;
+};
+
+# Mock record 02
+public type Pet02 record {|
+    string? name?;
+    int? age?;
+    Pet?...;
+|};
+
+# Without any additional field it maps to closed record.
+public type User01 record {
+    *Pet;
+    string? name?;
+    int? id?;
+};
+
+# Additional properties with `true` enable
+public type User02 record {
+    *Pet;
+    string? name?;
+    int? id?;
+};
+
+# Additional properties with {}
+public type User03 record {
+    *Pet;
+    string? name?;
+    int? id?;
+};
+
+# Additional properties with type string
+public type User04 record {|
+    *Pet;
+    string? name?;
+    int? id?;
+    string?...;
+|};
+
 # Multiple additional fields , result can not have multiple field
 public type User05 record {|
     *Pet;
@@ -38,13 +80,6 @@ public type User09 record {|
     Pet?|int?...;
 |};
 
-# Mock record 02
-public type Pet02 record {|
-    string? name?;
-    int? age?;
-    Pet?...;
-|};
-
 public type store_inventory_body record {
     Pet? pet?;
     Pet02? pet2?;
@@ -58,38 +93,3 @@ public type store_inventory_body record {
     User08? user8?;
     User09? use9?;
 };
-
-# Without any additional field it maps to closed record.
-public type User01 record {
-    *Pet;
-    string? name?;
-    int? id?;
-};
-
-# Additional properties with `true` enable
-public type User02 record {
-    *Pet;
-    string? name?;
-    int? id?;
-};
-
-# Mock record
-public type Pet record {
-    string? name?;
-    int? age?;
-};
-
-# Additional properties with {}
-public type User03 record {
-    *Pet;
-    string? name?;
-    int? id?;
-};
-
-# Additional properties with type string
-public type User04 record {|
-    *Pet;
-    string? name?;
-    int? id?;
-    string?...;
-|};
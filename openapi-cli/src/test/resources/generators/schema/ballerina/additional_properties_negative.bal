@@ -1,10 +1,5 @@
 import ballerina/http;
 
-public type User04Accepted record {|
-    *http:Accepted;
-    User04 body;
-|};
-
 # Additional properties with object with reference fields - this is issue https://github.com/swagger-api/swagger-parser/issues/1856
 public type User01 record {|
     string? name?;
@@ -29,3 +24,8 @@ public type User04 record {
     string? name?;
     int? id?;
 };
+
+public type User04Accepted record {|
+    *http:Accepted;
+    User04 body;
+|};
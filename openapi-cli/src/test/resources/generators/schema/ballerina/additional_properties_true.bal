@@ -1,15 +1,39 @@
-# Additional properties with type number
-public type User05 record {|
+# Mock record
+public type User record {
+    string? name?;
+    int? age?;
+};
+
+# Additional properties with `true` enable
+public type User01 record {
     string? name?;
     int? id?;
-    float...;
+};
+
+# Additional properties with {}
+public type User02 record {
+    string? name?;
+    int? id?;
+};
+
+# Without additional properties
+public type User03 record {
+    string? name?;
+    int? id?;
+};
+
+# Additional properties with type string
+public type User04 record {|
+    string? name?;
+    int? id?;
+    string?...;
 |};
 
-# Additional properties with type number, nullable true
-public type User16 record {|
+# Additional properties with type number
+public type User05 record {|
     string? name?;
     int? id?;
-    float?...;
+    float...;
 |};
 
 # Additional properties with reference
@@ -26,12 +50,6 @@ public type User07 record {|
     record {}?...;
 |};
 
-# Mock record
-public type User record {
-    string? name?;
-    int? age?;
-};
-
 # Additional properties with object with property fields
 public type User08 record {|
     string? name?;
@@ -46,26 +64,6 @@ public type User09 record {|
     record {}?...;
 |};
 
-public type store_inventory_body record {
-    User? user?;
-    User01? user1?;
-    User02? user2?;
-    User03? user3?;
-    User04? user4?;
-    User05? user5?;
-    User06? use6?;
-    User07? user7?;
-    User08? user8?;
-    User09? use9?;
-    User10? user10?;
-    User11? user11?;
-    User12? user12?;
-    User13? user13?;
-    User14? user14?;
-    User15? user15?;
-    User16? user16?;
-};
-
 # Additional properties with object with additional fields type string
 public type User10 record {|
     string? name?;
@@ -80,34 +78,16 @@ public type User11 record {|
     record {|User?...;|}?...;
 |};
 
-# Additional properties with `true` enable
-public type User01 record {
-    string? name?;
-    int? id?;
-};
-
 # Additional properties with `false` enable
 public type User12 record {|
     string? name?;
     int? id?;
 |};
 
-# Additional properties with {}
-public type User02 record {
-    string? name?;
-    int? id?;
-};
-
 # Free-form object
 public type User13 record {
 };
 
-# Without additional properties
-public type User03 record {
-    string? name?;
-    int? id?;
-};
-
 # Additional properties with object with additional fields type with inline object
 public type User14 record {|
     string? name?;
@@ -115,16 +95,36 @@ public type User14 record {|
     record {|record {string? name?; string? place?;}?...;|}?...;
 |};
 
-# Additional properties with type string
-public type User04 record {|
+# Additional properties with Array
+public type User15 record {|
     string? name?;
     int? id?;
-    string?...;
+    string[]?...;
 |};
 
-# Additional properties with Array
-public type User15 record {|
+# Additional properties with type number, nullable true
+public type User16 record {|
     string? name?;
     int? id?;
-    string[]?...;
+    float?...;
 |};
+
+public type store_inventory_body record {
+    User? user?;
+    User01? user1?;
+    User02? user2?;
+    User03? user3?;
+    User04? user4?;
+    User05? user5?;
+    User06? use6?;
+    User07? user7?;
+    User08? user8?;
+    User09? use9?;
+    User10? user10?;
+    User11? user11?;
+    User12? user12?;
+    User13? user13?;
+    User14? user14?;
+    User15? user15?;
+    User16? user16?;
+};
@@ -1,14 +1,14 @@
+public type Activity record {
+    # Unique identifier for the activity
+    string uuid?;
+};
+
 public type Activities record {
     # Position in pagination.
     int offset?;
     Activity[] history?;
 };
 
-public type Activity record {
-    # Unique identifier for the activity
-    string uuid?;
-};
-
 public type Profile record {
     # First name of the Uber user.
     string first_name?;
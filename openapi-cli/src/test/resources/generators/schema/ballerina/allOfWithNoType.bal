@@ -1,15 +1,13 @@
-public type Pets Pet[];
+public type Error record {
+    int code;
+    string message;
+};
 
 public type ErrorDefault record {|
     *http:DefaultStatusCodeResponse;
     Error body;
 |};
 
-public type Error record {
-    int code;
-    string message;
-};
-
 public type Pet record {
     int id?;
     string name?;
@@ -17,3 +15,5 @@ public type Pet record {
     string 'type?;
     string[] entries?;
 };
+
+public type Pets Pet[];
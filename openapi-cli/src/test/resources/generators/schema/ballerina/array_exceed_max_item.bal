@@ -5,7 +5,7 @@ public type Address record {
     string country?;
 };
 
+public type Pet string[];
+
 @constraint:Array {maxLength: 2147483637}
 public type UserAddress int[];
-
-public type Pet string[];
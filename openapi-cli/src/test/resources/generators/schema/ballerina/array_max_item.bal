@@ -7,7 +7,7 @@ public type Address record {
     string country?;
 };
 
+public type Pet string[];
+
 @constraint:Array {maxLength: 7}
 public type UserAddress int[];
-
-public type Pet string[];
@@ -1,8 +1,3 @@
-public type getActivitiesResponse200 record {
-    boolean success?;
-    record {*ActivityResponseObject; *EmployeeDetails;}[] data?;
-};
-
 public type ActivityResponseObject record {
     # Due date of the Activity. Format: YYYY-MM-DD
     string due_date?;
@@ -20,3 +15,8 @@ public type EmployeeDetails record {
     # Employee Name
     string employee_name?;
 };
+
+public type getActivitiesResponse200 record {
+    boolean success?;
+    record {*ActivityResponseObject; *EmployeeDetails;}[] data?;
+};
@@ -1,3 +1,8 @@
+public type NameData record {
+    string FirstName?;
+    string LastName?;
+};
+
 # List of addresses
 public type Owner record {
     record {
@@ -15,8 +20,3 @@ public type Owner record {
     }[] AdressList?;
     string[] Pets?;
 };
-
-public type NameData record {
-    string FirstName?;
-    string LastName?;
-};
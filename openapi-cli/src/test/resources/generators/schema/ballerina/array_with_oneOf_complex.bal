@@ -1,4 +1,10 @@
-public type WorldBankResponse (PaginationData|Indicator[]?)[];
+# Data indicator
+public type Indicator record {
+    # Id of the indicator
+    string id;
+    # Value represent by the indicator
+    string value;
+};
 
 public type PaginationData record {
     int page;
@@ -10,10 +16,4 @@ public type PaginationData record {
     string? lastupdated;
 };
 
-# Data indicator
-public type Indicator record {
-    # Id of the indicator
-    string id;
-    # Value represent by the indicator
-    string value;
-};
+public type WorldBankResponse (PaginationData|Indicator[]?)[];
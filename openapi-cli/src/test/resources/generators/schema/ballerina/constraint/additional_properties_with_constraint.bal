@@ -1,7 +1,6 @@
-public type Additional_Primitive record {|
-    string name?;
-    int age?;
-    string...;
+public type Additional_Array record {|
+    boolean isArray?;
+    string[]...;
 |};
 
 public type Additional_NestedArray record {|
@@ -9,7 +8,8 @@ public type Additional_NestedArray record {|
     string[][]...;
 |};
 
-public type Additional_Array record {|
-    boolean isArray?;
-    string[]...;
+public type Additional_Primitive record {|
+    string name?;
+    int age?;
+    string...;
 |};
@@ -1,5 +1,11 @@
 import ballerina/constraint;
 
+@constraint:String {maxLength: 23}
+public type HobbyItemsString string;
+
+@constraint:Array {maxLength: 5, minLength: 2}
+public type Hobby HobbyItemsString[];
+
 @constraint:String {minLength: 7}
 public type PersonDetailsItemsString string;
 
@@ -9,12 +15,6 @@ public type PersonFeeItemsNumber float;
 @constraint:Int {maxValue: 67}
 public type PersonLimitItemsInteger int;
 
-@constraint:Array {maxLength: 5, minLength: 2}
-public type Hobby HobbyItemsString[];
-
-@constraint:String {maxLength: 23}
-public type HobbyItemsString string;
-
 public type Person record {
     Hobby hobby?;
     @constraint:Array {maxLength: 5}
@@ -1,5 +1,7 @@
 public type Average float?;
 
+public type Name string?;
+
 # At least one entry should be non-null.
 public type Scores decimal[]?;
 
@@ -8,5 +10,3 @@ public type Subject record{
     string name;
     decimal[]? tag?;
 };
-
-public type Name string?;
@@ -1,5 +1,21 @@
 import ballerina/constraint;
 
+public type IntegerObject record {
+    string name?;
+    @constraint:Int {maxValue: 2147483647}
+    int:Signed32 int32Content?;
+    @constraint:Int {minValue: 0}
+    int int64Content?;
+};
+
+public type NumberObject record {
+    string name?;
+    @constraint:Float {minValue: 0.1}
+    float floatContent?;
+    @constraint:Number {maxValue: 200}
+    decimal doubleContent?;
+};
+
 public type StringObject record {
     string name?;
     @constraint:String {pattern: re `^(?:[A-Za-z0-9+/]{4})*(?:[A-Za-z0-9+/]{2}==|[A-Za-z0-9+/]{3}=)?$`}
@@ -24,19 +40,3 @@ public type StringObject record {
     @constraint:String {pattern: re `^(?:[0-9]{1,3}\.){3}[0-9]{1,3}$`}
     string ipv6Content?;
 };
-
-public type NumberObject record {
-    string name?;
-    @constraint:Float {minValue: 0.1}
-    float floatContent?;
-    @constraint:Number {maxValue: 200}
-    decimal doubleContent?;
-};
-
-public type IntegerObject record {
-    string name?;
-    @constraint:Int {maxValue: 2147483647}
-    int:Signed32 int32Content?;
-    @constraint:Int {minValue: 0}
-    int int64Content?;
-};
@@ -1,14 +1,14 @@
 import ballerina/constraint;
 
-@constraint:String {pattern: re `[ a-zA-Z0-9/.+!@#$%^&*()+\- ]*`}
-public type PersonHobbyItemsString string;
-
 # Represents the Queries record for the operation: getGreeting
 public type GetGreetingQueries record {
     # the input string name
     string name;
 };
 
+@constraint:String {pattern: re `[ a-zA-Z0-9/.+!@#$%^&*()+\- ]*`}
+public type PersonHobbyItemsString string;
+
 public type Person record {
     @constraint:String {maxLength: 14}
     string name?;
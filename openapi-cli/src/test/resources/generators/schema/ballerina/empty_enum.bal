@@ -1,3 +1,5 @@
+public type MeetingTypes string?;
+
 public type MeetingObject record {
     # Meeting topic.
     string topic?;
@@ -6,8 +8,6 @@ public type MeetingObject record {
     MeetingTypes othertype?;
 };
 
-public type MeetingTypes string?;
-
 # List of meetings
 public type MeetingList record {
     # List of Meeting objects.
@@ -1,13 +1,3 @@
-# formats those are defined by the OpenAPI Specification
-public type OASStringFormats record {
-    string name?;
-    string byteContent?;
-    record {byte[] fileContent; string fileName;} binaryContent?;
-    string dateContent?;
-    string passwordContent?;
-    string datetimeContent?;
-};
-
 # formats those are not defined by the OpenAPI Specification
 public type NONOASStringFormats record {
     string uuidContent?;
@@ -17,3 +7,13 @@ public type NONOASStringFormats record {
     string ipv4Content?;
     string ipv6Content?;
 };
+
+# formats those are defined by the OpenAPI Specification
+public type OASStringFormats record {
+    string name?;
+    string byteContent?;
+    record {byte[] fileContent; string fileName;} binaryContent?;
+    string dateContent?;
+    string passwordContent?;
+    string datetimeContent?;
+};
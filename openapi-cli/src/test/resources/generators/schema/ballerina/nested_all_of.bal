@@ -6,15 +6,6 @@ public type Address record {
     int zipCode?;
 };
 
-# Nested allOf with reference
-public type user record {
-    *account;
-    # Indicates whether the user represents staff
-    boolean is_staff?;
-    # The user's Atlassian account ID
-    string account_id?;
-};
-
 # Make this object schema name with simple case because the tool will convert it to camel case.
 public type account record {
     # Username of the account
@@ -33,3 +24,12 @@ public type account record {
     # Indicates whether two factor authentication is on
     boolean has_2fa_enabled?;
 };
+
+# Nested allOf with reference
+public type user record {
+    *account;
+    # Indicates whether the user represents staff
+    boolean is_staff?;
+    # The user's Atlassian account ID
+    string account_id?;
+};
@@ -1,5 +1,21 @@
-public type project_gid_project_statuses_body record {
-    ProjectStatusRequest data?;
+# A generic Asana Resource, containing a globally unique identifier.
+public type AsanaResource record {
+    # Globally unique identifier of the resource, as a string.
+    string gid?;
+    # The base type of this resource.
+    string resource_type?;
+};
+
+public type ProjectStatusCompact record {
+    *AsanaResource;
+    # The title of the project status update.
+    string title?;
+};
+
+public type UserCompact record {
+    *AsanaResource;
+    # Read-only except when same user as requester.
+    string name?;
 };
 
 public type ProjectStatusBase record {
@@ -16,22 +32,6 @@ public type ProjectStatusBase record {
 
 public type ProjectStatusRequest ProjectStatusBase;
 
-public type UserCompact record {
-    *AsanaResource;
-    # Read-only except when same user as requester.
-    string name?;
-};
-
-# A generic Asana Resource, containing a globally unique identifier.
-public type AsanaResource record {
-    # Globally unique identifier of the resource, as a string.
-    string gid?;
-    # The base type of this resource.
-    string resource_type?;
-};
-
-public type ProjectStatusCompact record {
-    *AsanaResource;
-    # The title of the project status update.
-    string title?;
+public type project_gid_project_statuses_body record {
+    ProjectStatusRequest data?;
 };
@@ -16,6 +16,12 @@ public type customer_address record {
     string state?;
 };
 
+public type customer record {
+    # The customer's address.
+    customer_address[]|string? address?;
+    string name?;
+};
+
 public type CustomerOk record {|
     *http:Ok;
     customer body;
@@ -27,9 +33,3 @@ public type customers_customer_body record {
     # An integer amount in %s that represents the customer's current balance, which affect the customer's future invoices. A negative amount represents a credit that decreases the amount due on an invoice; a positive amount increases the amount due on an invoice.
     int balance?;
 };
-
-public type customer record {
-    # The customer's address.
-    customer_address[]|string? address?;
-    string name?;
-};
@@ -1,13 +1,8 @@
-public type Pets Pet[]?;
-
-public type ErrorDefault record {|
-    *http:DefaultStatusCodeResponse;
-    Error body;
-|};
-
-public type Error record {
-    int code;
-    string message;
+public type Pet record {
+    int id;
+    string name;
+    string tag?;
+    string 'type?;
 };
 
 public type Dog record {
@@ -15,9 +10,14 @@ public type Dog record {
     boolean bark?;
 };
 
-public type Pet record {
-    int id;
-    string name;
-    string tag?;
-    string 'type?;
+public type Error record {
+    int code;
+    string message;
 };
+
+public type ErrorDefault record {|
+    *http:DefaultStatusCodeResponse;
+    Error body;
+|};
+
+public type Pets Pet[]?;
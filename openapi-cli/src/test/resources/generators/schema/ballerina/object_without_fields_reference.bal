@@ -1,18 +1,5 @@
 import ballerina/http;
 
-public type YouthLiteracyRate record {
-    record {} indicator?;
-    Country country?;
-    string date?;
-    int value?;
-    int 'decimal?;
-};
-
-public type ErrorCreated record {|
-    *http:Created;
-    Error body;
-|};
-
 public type Country record {
     string id?;
     string value?;
@@ -21,3 +8,16 @@ public type Country record {
 public type Error record {
     string name?;
 };
+
+public type ErrorCreated record {|
+    *http:Created;
+    Error body;
+|};
+
+public type YouthLiteracyRate record {
+    record {} indicator?;
+    Country country?;
+    string date?;
+    int value?;
+    int 'decimal?;
+};
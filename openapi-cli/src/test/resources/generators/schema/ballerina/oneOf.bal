@@ -1,15 +1,13 @@
-public type Activities record {
-    # Position in pagination.
-    int offset?;
-    Activity[] history?;
-};
-
 public type Activity record {
     # Unique identifier for the activity
     string uuid?;
 };
 
-public type Error Activity|Profile01;
+public type Activities record {
+    # Position in pagination.
+    int offset?;
+    Activity[] history?;
+};
 
 public type Profile01 record {
     # First name of the Uber user.
@@ -18,6 +16,8 @@ public type Profile01 record {
     string last_name?;
 };
 
+public type Error Activity|Profile01;
+
 public type Subject record {
     int id?;
     string name?;
@@ -1,3 +1,8 @@
+public type CountryDetails record {
+    string iso_code?;
+    string name?;
+};
+
 public type Address record {
     # Street Number
     string streetNo?;
@@ -12,8 +17,3 @@ public type Address record {
     # Zipcode
     int zipCode?;
 }|record {}|CountryDetails;
-
-public type CountryDetails record {
-    string iso_code?;
-    string name?;
-};
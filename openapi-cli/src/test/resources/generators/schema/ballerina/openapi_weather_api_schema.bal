@@ -1,15 +1,9 @@
 import ballerina/http;
 
-# weather
-public type Weather record {
-    # Weather condition id
-    int:Signed32 id?;
-    # Group of weather parameters (Rain, Snow, Extreme etc.)
-    string main?;
-    # Weather condition within the group
-    string description?;
-    # Weather icon id
-    string icon?;
+# cloud
+public type Clouds record {
+    # Cloudiness, %
+    int:Signed32 all?;
 };
 
 # coord
@@ -20,26 +14,12 @@ public type Coord record {
     decimal lat?;
 };
 
-# wind
-public type Wind record {
-    # Wind speed. Unit Default: meter/sec, Metric: meter/sec, Imperial: miles/hour.
-    decimal speed?;
-    # Wind direction, degrees (meteorological)
-    int:Signed32 deg?;
-};
-
 # rain
 public type Rain record {
     # Rain volume for the last 3 hours
     int:Signed32 '3h?;
 };
 
-# cloud
-public type Clouds record {
-    # Cloudiness, %
-    int:Signed32 all?;
-};
-
 # snow
 public type Snow record {
     # Snow volume for the last 3 hours
@@ -51,6 +31,26 @@ public type StringNotFound record {|
     string body;
 |};
 
+# weather
+public type Weather record {
+    # Weather condition id
+    int:Signed32 id?;
+    # Group of weather parameters (Rain, Snow, Extreme etc.)
+    string main?;
+    # Weather condition within the group
+    string description?;
+    # Weather icon id
+    string icon?;
+};
+
+# wind
+public type Wind record {
+    # Wind speed. Unit Default: meter/sec, Metric: meter/sec, Imperial: miles/hour.
+    decimal speed?;
+    # Wind direction, degrees (meteorological)
+    int:Signed32 deg?;
+};
+
 public type '200 record {
     Coord coord?;
     Weather[] weather?;
@@ -68,22 +68,6 @@ public type '200 record {
     int:Signed32 cod?;
 };
 
-# sys
-public type Sys record {
-    # Internal parameter
-    int:Signed32 'type?;
-    # Internal parameter
-    int:Signed32 id?;
-    # Internal parameter
-    decimal message?;
-    # Country code (GB, JP etc.)
-    string country?;
-    # Sunrise time, unix, UTC
-    int:Signed32 sunrise?;
-    # Sunset time, unix, UTC
-    int:Signed32 sunset?;
-};
-
 # tests
 public type Main record {
     # Temperature. Unit Default: Kelvin, Metric: Celsius, Imperial: Fahrenheit.
@@ -101,3 +85,19 @@ public type Main record {
     # Atmospheric pressure on the ground level, hPa
     decimal grnd_level?;
 };
+
+# sys
+public type Sys record {
+    # Internal parameter
+    int:Signed32 'type?;
+    # Internal parameter
+    int:Signed32 id?;
+    # Internal parameter
+    decimal message?;
+    # Country code (GB, JP etc.)
+    string country?;
+    # Sunrise time, unix, UTC
+    int:Signed32 sunrise?;
+    # Sunset time, unix, UTC
+    int:Signed32 sunset?;
+};
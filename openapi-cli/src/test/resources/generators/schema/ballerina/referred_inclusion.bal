@@ -1,33 +1,33 @@
 import ballerina/http;
 
-public type SimpleType int;
+public type Pet record {
+    int id;
+    string name;
+    string tag?;
+    string 'type?;
+};
 
-public type Pets Pet[];
+public type Dog record {
+    *Pet;
+    boolean bark?;
+};
 
-public type TestPet Pet;
+public type Error record {
+    int code;
+    string message;
+};
 
-public type TestPetAccepted record {|
-    *http:Accepted;
-    TestPet body;
-|};
+public type Pets Pet[];
 
-public type TestDog Dog;
+public type SimpleType int;
 
 public type ReferredSimpleType SimpleType;
 
-public type Error record {
-    int code;
-    string message;
-};
+public type TestDog Dog;
 
-public type Dog record {
-    *Pet;
-    boolean bark?;
-};
+public type TestPet Pet;
 
-public type Pet record {
-    int id;
-    string name;
-    string tag?;
-    string 'type?;
-};
+public type TestPetAccepted record {|
+    *http:Accepted;
+    TestPet body;
+|};
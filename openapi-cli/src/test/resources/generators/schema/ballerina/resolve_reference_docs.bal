@@ -1,6 +1,9 @@
-public type Pets record {
-    Pet[] pet_details?;
-    int numer_of_pets?;
+# Pet details
+public type Pet record {
+    int id;
+    string name;
+    string tag?;
+    string 'type?;
 };
 
 public type Dog record {
@@ -9,10 +12,7 @@ public type Dog record {
     boolean bark?;
 };
 
-# Pet details
-public type Pet record {
-    int id;
-    string name;
-    string tag?;
-    string 'type?;
+public type Pets record {
+    Pet[] pet_details?;
+    int numer_of_pets?;
 };
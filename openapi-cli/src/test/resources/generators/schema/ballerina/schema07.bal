@@ -4,14 +4,14 @@ public type Tag record {
     string tagType?;
 };
 
-public type Dog record {
-    Pet[] pets?;
-    boolean bark;
-};
-
 public type Pet record {
     int id;
     string name;
     string tag?;
     Tag 'type?;
 };
+
+public type Dog record {
+    Pet[] pets?;
+    boolean bark;
+};
@@ -1,13 +1,13 @@
 import ballerina/constraint;
 
+@constraint:Int {minValue: 1}
+public type PetAgeItemsInteger int:Signed32;
+
 public type Pet_name record {
     int:Signed32 id?;
     string name?;
 };
 
-@constraint:Int {minValue: 1}
-public type PetAgeItemsInteger int:Signed32;
-
 # A pet to be added to the store
 public type Pet record {
     # Unique identifier for the pet
@@ -1,3 +1,5 @@
+public type MeetingTypes "scheduled"|"live"|"upcoming";
+
 public type MeetingObject record {
     # Meeting topic.
     string topic?;
@@ -11,8 +13,6 @@ public type MeetingObject record {
     300|100? participants?;
 };
 
-public type MeetingTypes "scheduled"|"live"|"upcoming";
-
 # List of meetings
 public type MeetingList record {
     # List of Meeting objects.
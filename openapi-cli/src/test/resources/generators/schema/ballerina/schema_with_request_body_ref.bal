@@ -1,13 +1,13 @@
-public type Pets Dog[];
-
-public type Dog record {
-    *Pet;
-    boolean bark?;
-};
-
 public type Pet record {
     int id;
     string name;
     string tag?;
     string 'type?;
 };
+
+public type Dog record {
+    *Pet;
+    boolean bark?;
+};
+
+public type Pets Dog[];
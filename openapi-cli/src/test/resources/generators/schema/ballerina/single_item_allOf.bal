@@ -1,3 +1,10 @@
+public type Address record {
+    string street?;
+    string city?;
+};
+
+public type Name string;
+
 public type User record {
     int id?;
     string username?;
@@ -7,13 +14,6 @@ public type User record {
     anydata remarks?;
 };
 
-public type Address record {
-    string street?;
-    string city?;
-};
-
 public type description anydata;
 
 public type id Name;
-
-public type Name string;
@@ -1,19 +1,17 @@
 import ballerina/http;
 
-public type Status record {
-    int observedGeneration;
-};
-
-public type Pod record {
-    *Resource;
-    ResourceKind kind = "Pod";
-    PodSpec spec;
+public type Metadata record {
+    string name;
+    string displayName?;
+    string description?;
 };
 
 public type PodSpec record {
     string nodeName;
 };
 
+public type ResourceKind "Service"|"Pod";
+
 public type ResourceBase record {
     string group;
     string version;
@@ -21,10 +19,8 @@ public type ResourceBase record {
     Metadata metadata;
 };
 
-public type Metadata record {
-    string name;
-    string displayName?;
-    string description?;
+public type Status record {
+    int observedGeneration;
 };
 
 public type Resource record {
@@ -33,23 +29,26 @@ public type Resource record {
     Status status?;
 };
 
-public type ServiceSpec record {
-    string clusterIP;
-};
-
-public type Service record {
+public type Pod record {
     *Resource;
-    ResourceKind kind = "Service";
-    ServiceSpec spec;
+    ResourceKind kind = "Pod";
+    PodSpec spec;
 };
 
-public type RecF record {|
-    int f?;
+public type RecA record {|
+    string a = "a";
+    string aa;
 |};
 
-public type RecG record {
-    *RecF;
-    int g?;
+public type RecB record {
+    *RecA;
+    int b;
+};
+
+public type RecC record {
+    *RecA;
+    string aa = "aa";
+    int c;
 };
 
 public type RecD record {
@@ -64,36 +63,13 @@ public type RecE record {
     string e;
 };
 
-public type RecB record {
-    *RecA;
-    int b;
-};
-
-public type RecC record {
-    *RecA;
-    string aa = "aa";
-    int c;
-};
-
-public type RecA record {|
-    string a = "a";
-    string aa;
-|};
-
-public type RecL record {|
-    string first\-name?;
-    int id;
+public type RecF record {|
+    int f?;
 |};
 
-public type ResourceKind "Service"|"Pod";
-
-public type RecK record {
-    *RecA;
+public type RecG record {
     *RecF;
-    *RecL;
-    int k;
-    string a;
-    string first\-name;
+    int g?;
 };
 
 public type RecH record {
@@ -110,7 +86,31 @@ public type RecI record {
     int g;
 };
 
+public type RecL record {|
+    string first\-name?;
+    int id;
+|};
+
+public type RecK record {
+    *RecA;
+    *RecF;
+    *RecL;
+    int k;
+    string a;
+    string first\-name;
+};
+
 public type RecKAccepted record {|
     *http:Accepted;
     RecK body;
 |};
+
+public type ServiceSpec record {
+    string clusterIP;
+};
+
+public type Service record {
+    *Resource;
+    ResourceKind kind = "Service";
+    ServiceSpec spec;
+};
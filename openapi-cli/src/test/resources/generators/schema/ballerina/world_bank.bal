@@ -1,14 +1,16 @@
 import ballerina/http;
 
-public type PrimaryEducationExpenditure record {
-    Indicator indicator?;
-    Country country?;
-    string date?;
-    int value?;
-    int 'decimal?;
+public type Country record {
+    string id?;
+    string value?;
 };
 
-public type YouthLiteracyRate record {
+public type Indicator record {
+    string id?;
+    string value?;
+};
+
+public type AccessToElectricity record {
     Indicator indicator?;
     Country country?;
     string date?;
@@ -16,7 +18,7 @@ public type YouthLiteracyRate record {
     int 'decimal?;
 };
 
-public type AccessToElectricity record {
+public type CountryPolutation record {
     Indicator indicator?;
     Country country?;
     string date?;
@@ -24,6 +26,10 @@ public type AccessToElectricity record {
     int 'decimal?;
 };
 
+public type Error record {
+    string name?;
+};
+
 public type ErrorCreated record {|
     *http:Created;
     Error body;
@@ -37,16 +43,7 @@ public type GrossDomesticProduct record {
     int 'decimal?;
 };
 
-public type Country record {
-    string id?;
-    string value?;
-};
-
-public type Error record {
-    string name?;
-};
-
-public type CountryPolutation record {
+public type PrimaryEducationExpenditure record {
     Indicator indicator?;
     Country country?;
     string date?;
@@ -54,7 +51,10 @@ public type CountryPolutation record {
     int 'decimal?;
 };
 
-public type Indicator record {
-    string id?;
-    string value?;
+public type YouthLiteracyRate record {
+    Indicator indicator?;
+    Country country?;
+    string date?;
+    int value?;
+    int 'decimal?;
 };
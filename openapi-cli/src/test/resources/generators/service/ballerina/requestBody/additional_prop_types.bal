@@ -1,14 +1,20 @@
-public type Mailing_AddContact_body record {
-    string name?;
-};
+public type ApiHistoricoSimulacaoAddHistoricoRequest record {|
+    string...;
+|};
 
-public type Mailing_AddContact_body_1 record {
-    string name?;
-};
+public type HistoricoSimulacaoViewModel record {|
+    string? email?;
+    string? data?;
+    string? step?;
+    string? descricao?;
+|};
 
-public type Mailing_AddContact_body_2 record {|
-    string name?;
-    int...;
+public type ApiHistoricoSimulacaoAddHistoricoRequest_1 record {|
+    HistoricoSimulacaoViewModel...;
+|};
+
+public type ApiHistoricoSimulacaoAddHistoricoRequest_2 record {|
+    record {|string...;|}...;
 |};
 
 public type MailingViewModel record {|
@@ -19,26 +25,20 @@ public type MailingViewModel record {|
     string? motivoRecusa?;
 |};
 
-public type Mailing_AddContact_body_3 record {|
+public type Mailing_AddContact_body record {
     string name?;
-    MailingViewModel...;
-|};
-
-public type ApiHistoricoSimulacaoAddHistoricoRequest record {|
-    string...;
-|};
+};
 
-public type HistoricoSimulacaoViewModel record {|
-    string? email?;
-    string? data?;
-    string? step?;
-    string? descricao?;
-|};
+public type Mailing_AddContact_body_1 record {
+    string name?;
+};
 
-public type ApiHistoricoSimulacaoAddHistoricoRequest_2 record {|
-    record {|string...;|}...;
+public type Mailing_AddContact_body_2 record {|
+    string name?;
+    int...;
 |};
 
-public type ApiHistoricoSimulacaoAddHistoricoRequest_1 record {|
-    HistoricoSimulacaoViewModel...;
+public type Mailing_AddContact_body_3 record {|
+    string name?;
+    MailingViewModel...;
 |};
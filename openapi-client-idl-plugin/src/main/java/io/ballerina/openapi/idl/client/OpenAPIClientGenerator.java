@@ -39,6 +39,7 @@ import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.OpenAPIContractProbe;
 import io.ballerina.openapi.core.generators.schemaOld.BallerinaTypesGenerator;
 import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.openapi.core.model.GenSrcFile;
@@ -69,8 +70,6 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static io.ballerina.openapi.core.GeneratorConstants.CLIENT_FILE_NAME;
 import static io.ballerina.openapi.core.GeneratorConstants.JSON_EXTENSION;
@@ -83,7 +82,6 @@ import static io.ballerina.openapi.idl.client.Constants.IS_RESOURCE;
 import static io.ballerina.openapi.idl.client.Constants.LICENSE;
 import static io.ballerina.openapi.idl.client.Constants.NULLABLE;
 import static io.ballerina.openapi.idl.client.Constants.OPENAPI_CLIENT_REFERENCE;
-import static io.ballerina.openapi.idl.client.Constants.OPENAPI_REGEX_PATTERN;
 import static io.ballerina.openapi.idl.client.Constants.OPERATIONS;
 import static io.ballerina.openapi.idl.client.Constants.TAGS;
 import static io.ballerina.openapi.idl.client.Constants.TRUE;
@@ -159,10 +157,7 @@ public class OpenAPIClientGenerator extends IDLClientGenerator {
                     oasPath.toString().endsWith(YML_EXTENSION))) {
                 return false;
             }
-            String content = Files.readString(oasPath);
-            Pattern openapiPattern = Pattern.compile(OPENAPI_REGEX_PATTERN);
-            Matcher openapiMatcher = openapiPattern.matcher(content);
-            return openapiMatcher.find();
+            return OpenAPIContractProbe.probe(oasPath).isOpenAPI();
         } catch (IOException | NullPointerException e) {
             return false;
         }
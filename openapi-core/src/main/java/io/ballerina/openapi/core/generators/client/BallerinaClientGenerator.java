@@ -50,12 +50,17 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.openapi.core.generators.client.diagnostic.ClientDiagnostic;
 import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorConstants;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.TypeCollector;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.model.Filter;
 import io.ballerina.openapi.core.generators.document.ClientDocCommentGenerator;
+import io.ballerina.openapi.core.generators.document.DocCommentMode;
 import io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil;
+import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
+import io.ballerina.openapi.core.generators.type.model.UnionTypeAliases;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -65,11 +70,14 @@ import io.swagger.v3.oas.models.PathItem;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -114,6 +122,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.RETURN_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DEFAULT_API_KEY_DESC;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.HTTP;
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.PARALLEL_THRESHOLD;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.SELF;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.X_BALLERINA_INIT_DESCRIPTION;
 
@@ -124,6 +133,8 @@ import static io.ballerina.openapi.core.generators.common.GeneratorConstants.X_B
  */
 public class BallerinaClientGenerator {
 
+    public static final String SEQUENTIAL_PROPERTY = "openapi.client.sequential";
+
     protected OASClientConfig oasClientConfig;
     private final Filter filter;
     protected List<ImportDeclarationNode> imports = new ArrayList<>();
@@ -135,6 +146,8 @@ public class BallerinaClientGenerator {
     private final boolean resourceMode;
     protected final List<ClientDiagnostic> diagnostics = new ArrayList<>();
     private String serverURL;
+    private final DocCommentMode docCommentMode;
+    private final Map<FunctionDefinitionNode, Operation> functionOperations = new IdentityHashMap<>();
 
     /**
      * Return a Diagnostic list.
@@ -175,6 +188,7 @@ public class BallerinaClientGenerator {
         this.authConfigGeneratorImp = new AuthConfigGeneratorImp(false, false);
         this.resourceMode = oasClientConfig.isResourceMode();
         this.oasClientConfig = oasClientConfig;
+        this.docCommentMode = oasClientConfig.getDocCommentMode();
     }
 
     /**
@@ -198,6 +212,10 @@ public class BallerinaClientGenerator {
         TextDocument textDocument = TextDocuments.from("");
         SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
         syntaxTree = syntaxTree.modifyWith(modulePartNode);
+        if (docCommentMode != DocCommentMode.POST_GENERATION) {
+            // The class members are documented and sorted when the class is created
+            return syntaxTree;
+        }
         //Add comments
         ClientDocCommentGenerator clientDocCommentGenerator = new ClientDocCommentGenerator(syntaxTree, openAPI,
                 resourceMode);
@@ -269,7 +287,31 @@ public class BallerinaClientGenerator {
                 createToken(ISOLATED_KEYWORD), createToken(CLIENT_KEYWORD));
         return createClassDefinitionNode(metadataNode, createToken(PUBLIC_KEYWORD), classTypeQualifiers,
                 createToken(CLASS_KEYWORD), className, createToken(OPEN_BRACE_TOKEN),
-                createNodeList(memberNodeList), createToken(CLOSE_BRACE_TOKEN), null);
+                createNodeList(getClassMembers(memberNodeList)), createToken(CLOSE_BRACE_TOKEN), null);
+    }
+
+    /**
+     * Get the members of the client class in the order of the generated client. Unless the doc comments are added
+     * after the generation, the functions are documented with the operations they are generated for, which are
+     * registered with {@link #addFunctionOperation(FunctionDefinitionNode, Operation)}, and sorted here.
+     *
+     * @param memberNodeList members of the client class in the order of generation
+     * @return members of the client class
+     */
+    protected List<Node> getClassMembers(List<Node> memberNodeList) {
+        if (docCommentMode == DocCommentMode.POST_GENERATION) {
+            return memberNodeList;
+        }
+        ClientDocCommentGenerator clientDocCommentGenerator = new ClientDocCommentGenerator(openAPI, resourceMode);
+        return clientDocCommentGenerator.updateClassMembers(memberNodeList,
+                docCommentMode == DocCommentMode.INLINE ? functionOperations::get : function -> null);
+    }
+
+    /**
+     * Register the operation the given client function is generated for, so the function is documented with it.
+     */
+    protected void addFunctionOperation(FunctionDefinitionNode functionNode, Operation operation) {
+        functionOperations.put(functionNode, operation);
     }
 
     /**
@@ -277,8 +319,6 @@ public class BallerinaClientGenerator {
      */
     protected Map<String, Map<PathItem.HttpMethod, Operation>> filterOperations() {
         Map<String, Map<PathItem.HttpMethod, Operation>> filteredOperations = new HashMap<>();
-        List<String> filterTags = filter.getTags();
-        List<String> filterOperations = filter.getOperations();
         for (Map.Entry<String, PathItem> pathEntry : openAPI.getPaths().entrySet()) {
             Map<PathItem.HttpMethod, Operation> operations = new HashMap<>();
             Map<PathItem.HttpMethod, Operation> operationMap = pathEntry.getValue().readOperationsMap();
@@ -287,10 +327,7 @@ public class BallerinaClientGenerator {
             }
             for (Map.Entry<PathItem.HttpMethod, Operation> operationEntry : operationMap.entrySet()) {
                 Operation operation = operationEntry.getValue();
-                List<String> operationTags = operation.getTags();
-                String operationId = operation.getOperationId();
-
-                if (shouldFilterOperation(filterTags, filterOperations, operationTags, operationId)) {
+                if (filter.isSelected(operation.getTags(), operation.getOperationId())) {
                     operations.put(operationEntry.getKey(), operation);
                 }
             }
@@ -302,27 +339,6 @@ public class BallerinaClientGenerator {
         return filteredOperations;
     }
 
-    /**
-     * This includes the filtering logic for OAS operations.
-     */
-    private boolean shouldFilterOperation(List<String> filterTags, List<String> filterOperations,
-                                          List<String> operationTags, String operationId) {
-        boolean hasFilterTags = !filterTags.isEmpty();
-        boolean hasFilterOperations = !filterOperations.isEmpty();
-        boolean hasOperationTags = operationTags != null;
-        boolean hasOperationId = operationId != null;
-
-        if (!hasFilterTags && !hasFilterOperations) {
-            return true;
-        }
-
-        return (hasFilterTags && hasOperationTags && !Collections.disjoint(filterTags, operationTags)) ||
-                (hasFilterOperations && hasOperationId && filterOperations.contains(operationId));
-    }
-
-
-
-
     /**
      * Generate metadata node of the class including documentation and display annotation. Content of the documentation
      * will be taken from the `description` section inside the `info` section in OpenAPI definition.
@@ -591,13 +607,7 @@ public class BallerinaClientGenerator {
 
     List<FunctionDefinitionNode> createRemoteFunctions(Map<String, Map<PathItem.HttpMethod, Operation>>
                                                                filteredOperations) {
-        List<FunctionDefinitionNode> remoteFunctionNodes = new ArrayList<>();
-        for (Map.Entry<String, Map<PathItem.HttpMethod, Operation>> operation : filteredOperations.entrySet()) {
-            for (Map.Entry<PathItem.HttpMethod, Operation> operationEntry : operation.getValue().entrySet()) {
-                addRemoteFunction(operationEntry, operation.getKey(), remoteFunctionNodes);
-            }
-        }
-        return remoteFunctionNodes;
+        return createFunctions(filteredOperations, this::addRemoteFunction);
     }
 
     /**
@@ -615,14 +625,98 @@ public class BallerinaClientGenerator {
         }
     }
 
+    /**
+     * Generates the client functions of an operation into the given collector.
+     */
+    @FunctionalInterface
+    protected interface FunctionTask {
+        FunctionGeneratorResults generate(Map.Entry<PathItem.HttpMethod, Operation> operationEntry, String path,
+                                          ClientFunctionCollector collector);
+    }
+
+    /**
+     * Generate the client functions of the given operations in the path and method order.
+     * <p>
+     * Every operation is generated with its own {@link ClientFunctionCollector} and {@link TypeCollector}, and the
+     * collectors are merged in the path and method order, hence the functions, types, imports, diagnostics and util
+     * function usages are the same as in a sequential run. The types which are named by the order of generation are
+     * named by the merge. Many operations are generated on the fork-join pool. The large unions are named by the
+     * order of generation as well, hence an operation which needs a new union type is generated again after the
+     * other operations, in the path and method order. The sequential run is forced with the
+     * {@value #SEQUENTIAL_PROPERTY} system property.
+     */
+    private List<FunctionDefinitionNode> createFunctions(Map<String, Map<PathItem.HttpMethod, Operation>>
+                                                                 filteredOperations, FunctionTask task) {
+        List<String> paths = new ArrayList<>();
+        List<Map.Entry<PathItem.HttpMethod, Operation>> operationEntries = new ArrayList<>();
+        for (Map.Entry<String, Map<PathItem.HttpMethod, Operation>> operation : filteredOperations.entrySet()) {
+            for (Map.Entry<PathItem.HttpMethod, Operation> operationEntry : operation.getValue().entrySet()) {
+                paths.add(operation.getKey());
+                operationEntries.add(operationEntry);
+            }
+        }
+        GenerationContext context = GenerationContext.current();
+        ClientFunctionCollector[] collectors = new ClientFunctionCollector[operationEntries.size()];
+        TypeCollector[] typeCollectors = new TypeCollector[operationEntries.size()];
+        IntConsumer generateFunction = index -> {
+            ClientFunctionCollector collector = new ClientFunctionCollector();
+            TypeCollector typeCollector = new TypeCollector(context);
+            typeCollector.run(() -> task.generate(operationEntries.get(index), paths.get(index), collector));
+            collectors[index] = collector;
+            typeCollectors[index] = typeCollector;
+        };
+        if (Boolean.getBoolean(SEQUENTIAL_PROPERTY) || operationEntries.size() < PARALLEL_THRESHOLD) {
+            IntStream.range(0, operationEntries.size()).forEach(generateFunction);
+        } else {
+            boolean[] isDeferred = new boolean[operationEntries.size()];
+            UnionTypeAliases unionTypeAliases = GeneratorMetaData.getInstance().getUnionTypeAliases();
+            unionTypeAliases.setCreationDeferred(true);
+            try {
+                IntStream.range(0, operationEntries.size()).parallel().forEach(index -> {
+                    try {
+                        generateFunction.accept(index);
+                    } catch (UnionTypeAliases.CreationDeferredException e) {
+                        isDeferred[index] = true;
+                    }
+                });
+            } finally {
+                unionTypeAliases.setCreationDeferred(false);
+            }
+            IntStream.range(0, operationEntries.size())
+                    .filter(index -> isDeferred[index])
+                    .forEach(generateFunction);
+        }
+
+        List<FunctionDefinitionNode> functionNodes = new ArrayList<>();
+        for (int index = 0; index < collectors.length; index++) {
+            ClientFunctionCollector collector = collectors[index];
+            TypeCollector typeCollector = typeCollectors[index];
+            typeCollector.merge();
+            List<FunctionDefinitionNode> operationFunctions = collector.getFunctionNodes().stream()
+                    .map(typeCollector::resolve)
+                    .toList();
+            // The client function of an operation precedes its implementation function
+            if (!operationFunctions.isEmpty()) {
+                addFunctionOperation(operationFunctions.get(0), operationEntries.get(index).getValue());
+            }
+            functionNodes.addAll(operationFunctions);
+            remoteFunctionNameList.addAll(collector.getFunctionNames());
+            diagnostics.addAll(collector.getDiagnostics());
+            collector.mergeImports(imports);
+            ballerinaUtilGenerator.addUsages(collector.getBallerinaUtilGenerator());
+        }
+        return functionNodes;
+    }
+
     protected FunctionGeneratorResults addRemoteFunction(Map.Entry<PathItem.HttpMethod, Operation> operationEntry,
-                                                         String path, List<FunctionDefinitionNode> functionNodes) {
-        remoteFunctionNameList.add(operationEntry.getValue().getOperationId());
-        RemoteFunctionGenerator remoteFunctionGenerator = getRemoteFunctionGenerator(operationEntry, path);
+                                                         String path, ClientFunctionCollector collector) {
+        collector.getFunctionNames().add(operationEntry.getValue().getOperationId());
+        RemoteFunctionGenerator remoteFunctionGenerator = getRemoteFunctionGenerator(operationEntry, path,
+                collector);
         Optional<FunctionDefinitionNode> remoteFunction = remoteFunctionGenerator.generateFunction();
-        diagnostics.addAll(remoteFunctionGenerator.getDiagnostics());
+        collector.getDiagnostics().addAll(remoteFunctionGenerator.getDiagnostics());
         if (remoteFunction.isPresent()) {
-            functionNodes.add(remoteFunction.get());
+            collector.getFunctionNodes().add(remoteFunction.get());
             return new FunctionGeneratorResults(true, remoteFunctionGenerator.hasDefaultStatusCodeBinding(),
                     remoteFunctionGenerator.getNonDefaultStatusCodes());
         }
@@ -630,30 +724,25 @@ public class BallerinaClientGenerator {
     }
 
     protected RemoteFunctionGenerator getRemoteFunctionGenerator(Map.Entry<PathItem.HttpMethod, Operation> operation,
-                                                                 String path) {
-        return new RemoteFunctionGenerator(path, operation, openAPI, authConfigGeneratorImp, ballerinaUtilGenerator,
-                imports);
+                                                                 String path, ClientFunctionCollector collector) {
+        return new RemoteFunctionGenerator(path, operation, openAPI, authConfigGeneratorImp,
+                collector.getBallerinaUtilGenerator(), collector.getImports());
     }
 
     List<FunctionDefinitionNode> createResourceFunctions(Map<String,
             Map<PathItem.HttpMethod, Operation>> filteredOperations) {
-        List<FunctionDefinitionNode> resourceFunctionNodes = new ArrayList<>();
-        for (Map.Entry<String, Map<PathItem.HttpMethod, Operation>> operation : filteredOperations.entrySet()) {
-            for (Map.Entry<PathItem.HttpMethod, Operation> operationEntry : operation.getValue().entrySet()) {
-                addResourceFunction(operationEntry, operation.getKey(), resourceFunctionNodes);
-            }
-        }
-        return resourceFunctionNodes;
+        return createFunctions(filteredOperations, this::addResourceFunction);
     }
 
     protected FunctionGeneratorResults addResourceFunction(Map.Entry<PathItem.HttpMethod, Operation> operationEntry,
-                                                           String path, List<FunctionDefinitionNode> functionNodes) {
-        remoteFunctionNameList.add(operationEntry.getValue().getOperationId());
-        ResourceFunctionGenerator resourceFunctionGenerator = getResourceFunctionGenerator(operationEntry, path);
+                                                           String path, ClientFunctionCollector collector) {
+        collector.getFunctionNames().add(operationEntry.getValue().getOperationId());
+        ResourceFunctionGenerator resourceFunctionGenerator = getResourceFunctionGenerator(operationEntry, path,
+                collector);
         Optional<FunctionDefinitionNode> resourceFunction = resourceFunctionGenerator.generateFunction();
-        diagnostics.addAll(resourceFunctionGenerator.getDiagnostics());
+        collector.getDiagnostics().addAll(resourceFunctionGenerator.getDiagnostics());
         if (resourceFunction.isPresent()) {
-            functionNodes.add(resourceFunction.get());
+            collector.getFunctionNodes().add(resourceFunction.get());
             return new FunctionGeneratorResults(true, resourceFunctionGenerator.hasDefaultStatusCodeBinding(),
                     resourceFunctionGenerator.getNonDefaultStatusCodes());
         }
@@ -661,9 +750,9 @@ public class BallerinaClientGenerator {
     }
 
     protected ResourceFunctionGenerator getResourceFunctionGenerator(Map.Entry<PathItem.HttpMethod,
-            Operation> operation, String path) {
-        return new ResourceFunctionGenerator(operation, path, openAPI, authConfigGeneratorImp, ballerinaUtilGenerator,
-                imports);
+            Operation> operation, String path, ClientFunctionCollector collector) {
+        return new ResourceFunctionGenerator(operation, path, openAPI, authConfigGeneratorImp,
+                collector.getBallerinaUtilGenerator(), collector.getImports());
     }
 
 
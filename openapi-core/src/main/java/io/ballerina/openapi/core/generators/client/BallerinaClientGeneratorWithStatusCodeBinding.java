@@ -151,10 +151,10 @@ public class BallerinaClientGeneratorWithStatusCodeBinding extends BallerinaClie
 
     @Override
     protected FunctionGeneratorResults addRemoteFunction(Map.Entry<PathItem.HttpMethod, Operation> operationEntry,
-                                                         String path, List<FunctionDefinitionNode> functionNodes) {
-        FunctionGeneratorResults result = super.addRemoteFunction(operationEntry, path, functionNodes);
+                                                         String path, ClientFunctionCollector collector) {
+        FunctionGeneratorResults result = super.addRemoteFunction(operationEntry, path, collector);
         if (result.isSuccess()) {
-            addClientFunctionImpl(operationEntry, path, functionNodes, result.hasDefaultStatusCodeBinding(),
+            addClientFunctionImpl(operationEntry, path, collector, result.hasDefaultStatusCodeBinding(),
                     result.nonDefaultStatusCodes());
         }
         return result;
@@ -162,9 +162,9 @@ public class BallerinaClientGeneratorWithStatusCodeBinding extends BallerinaClie
 
     @Override
     protected RemoteFunctionGenerator getRemoteFunctionGenerator(Map.Entry<PathItem.HttpMethod, Operation> operation,
-                                                                 String path) {
+                                                                 String path, ClientFunctionCollector collector) {
         return new RemoteExternalFunctionGenerator(path, operation, openAPI, authConfigGeneratorImp,
-                ballerinaUtilGenerator, imports);
+                collector.getBallerinaUtilGenerator(), collector.getImports());
     }
 
     @Override
@@ -174,16 +174,16 @@ public class BallerinaClientGeneratorWithStatusCodeBinding extends BallerinaClie
     }
 
     private void addClientFunctionImpl(Map.Entry<PathItem.HttpMethod, Operation> operationEntry, String path,
-                                       List<FunctionDefinitionNode> clientFunctionNodes, boolean hasDefaultResponse,
+                                       ClientFunctionCollector collector, boolean hasDefaultResponse,
                                        List<String> nonDefaultStatusCodes) {
+        List<FunctionDefinitionNode> clientFunctionNodes = collector.getFunctionNodes();
         FunctionDefinitionNode clientExternFunction = clientFunctionNodes.get(clientFunctionNodes.size() - 1);
         Optional<FunctionDefinitionNode> implFunction = createImplFunction(path, operationEntry, openAPI,
-                authConfigGeneratorImp, ballerinaUtilGenerator, clientExternFunction, hasDefaultResponse,
-                nonDefaultStatusCodes);
+                authConfigGeneratorImp, collector, clientExternFunction, hasDefaultResponse, nonDefaultStatusCodes);
         if (implFunction.isPresent()) {
             clientFunctionNodes.add(implFunction.get());
         } else {
-            diagnostics.add(new ClientDiagnosticImp(DiagnosticMessages.OAS_CLIENT_112,
+            collector.getDiagnostics().add(new ClientDiagnosticImp(DiagnosticMessages.OAS_CLIENT_112,
                     operationEntry.getValue().getOperationId()));
             clientFunctionNodes.remove(clientFunctionNodes.size() - 1);
         }
@@ -191,10 +191,10 @@ public class BallerinaClientGeneratorWithStatusCodeBinding extends BallerinaClie
 
     @Override
     protected FunctionGeneratorResults addResourceFunction(Map.Entry<PathItem.HttpMethod, Operation> operationEntry,
-                                                           String path, List<FunctionDefinitionNode> functionNodes) {
-        FunctionGeneratorResults result = super.addResourceFunction(operationEntry, path, functionNodes);
+                                                           String path, ClientFunctionCollector collector) {
+        FunctionGeneratorResults result = super.addResourceFunction(operationEntry, path, collector);
         if (result.isSuccess()) {
-            addClientFunctionImpl(operationEntry, path, functionNodes, result.hasDefaultStatusCodeBinding(),
+            addClientFunctionImpl(operationEntry, path, collector, result.hasDefaultStatusCodeBinding(),
                     result.nonDefaultStatusCodes());
         }
         return result;
@@ -202,16 +202,16 @@ public class BallerinaClientGeneratorWithStatusCodeBinding extends BallerinaClie
 
     @Override
     protected ResourceFunctionGenerator getResourceFunctionGenerator(Map.Entry<PathItem.HttpMethod,
-            Operation> operation, String path) {
+            Operation> operation, String path, ClientFunctionCollector collector) {
        return new ResourceExternalFunctionGenerator(operation, path, openAPI, authConfigGeneratorImp,
-               ballerinaUtilGenerator, imports);
+               collector.getBallerinaUtilGenerator(), collector.getImports());
     }
 
     protected Optional<FunctionDefinitionNode> createImplFunction(String path,
                                                                 Map.Entry<PathItem.HttpMethod, Operation> operation,
                                                                 OpenAPI openAPI,
                                                                 AuthConfigGeneratorImp authConfigGeneratorImp,
-                                                                BallerinaUtilGenerator ballerinaUtilGenerator,
+                                                                ClientFunctionCollector collector,
                                                                 FunctionDefinitionNode clientExternFunction,
                                                                 boolean hasDefaultResponse,
                                                                 List<String> nonDefaultStatusCodes) {
@@ -224,10 +224,10 @@ public class BallerinaClientGeneratorWithStatusCodeBinding extends BallerinaClie
                 openAPI, clientExternFunction);
         //Create function body
         FunctionBodyGenerator functionBodyGenerator = getFunctionBodyGeneratorImp(path, operation, openAPI,
-                authConfigGeneratorImp, ballerinaUtilGenerator, hasDefaultResponse, nonDefaultStatusCodes,
-                signatureGenerator);
+                authConfigGeneratorImp, collector.getBallerinaUtilGenerator(), collector.getImports(),
+                hasDefaultResponse, nonDefaultStatusCodes, signatureGenerator);
         Optional<FunctionBodyNode> functionBodyNodeResult = functionBodyGenerator.getFunctionBodyNode();
-        diagnostics.addAll(functionBodyGenerator.getDiagnostics());
+        collector.getDiagnostics().addAll(functionBodyGenerator.getDiagnostics());
         if (functionBodyNodeResult.isEmpty()) {
             return Optional.empty();
         }
@@ -252,6 +252,7 @@ public class BallerinaClientGeneratorWithStatusCodeBinding extends BallerinaClie
                                                                 OpenAPI openAPI,
                                                                 AuthConfigGeneratorImp authConfigGeneratorImp,
                                                                 BallerinaUtilGenerator ballerinaUtilGenerator,
+                                                                List<ImportDeclarationNode> imports,
                                                                 boolean hasDefaultResponse,
                                                                 List<String> nonDefaultStatusCodes,
                                                                 ImplFunctionSignatureGenerator signatureGenerator) {
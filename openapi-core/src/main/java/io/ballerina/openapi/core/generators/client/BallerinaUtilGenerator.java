@@ -18,7 +18,6 @@
 package io.ballerina.openapi.core.generators.client;
 
 import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
-import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
 import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
 import io.ballerina.compiler.syntax.tree.EnumMemberNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
@@ -41,23 +40,10 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
@@ -126,21 +112,12 @@ public class BallerinaUtilGenerator {
     private boolean requestBodyEncodingFound = false;
     private boolean requestBodyMultipartFormDatafound = false;
     private boolean defaultStatusCodeResponseBindingFound = false;
-    private static final Logger LOGGER = LoggerFactory.getLogger(BallerinaUtilGenerator.class);
 
     private static final String CREATE_FORM_URLENCODED_REQUEST_BODY = "createFormURLEncodedRequestBody";
-    private static final String GET_DEEP_OBJECT_STYLE_REQUEST = "getDeepObjectStyleRequest";
-    private static final String GET_FORM_STYLE_REQUEST = "getFormStyleRequest";
-    private static final String GET_SERIALIZED_ARRAY = "getSerializedArray";
     private static final String GET_ENCODED_URI = "getEncodedUri";
-    private static final String GET_ORIGINAL_KEY = "getOriginalKey";
     private static final String GET_PATH_FOR_QUERY_PARAM = "getPathForQueryParam";
-    private static final String GET_SERIALIZED_RECORD_ARRAY = "getSerializedRecordArray";
     private static final String CREATE_MULTIPART_BODY_PARTS = "createBodyParts";
-    private static final String CONSTRUCT_ENTITY = "constructEntity";
-    private static final String POPULATE_ENCODING_INFO = "populateEncodingInfo";
     private static final String GET_VALIDATED_RESPONSE_FOR_DEFAULT_MAPPING = "getValidatedResponseForDefaultMapping";
-    private static final String CREATE_STATUS_CODE_RESPONSE_BINDING_ERROR = "createStatusCodeResponseBindingError";
 
     /**
      * Set `queryParamsFound` flag to `true` when at least one query parameter found.
@@ -193,16 +170,31 @@ public class BallerinaUtilGenerator {
         return defaultStatusCodeResponseBindingFound;
     }
 
+    /**
+     * Add the util function usages found by the given generator, which collected the usages of a part of the client
+     * functions.
+     *
+     * @param utilGenerator generator with the usages to be added
+     */
+    public void addUsages(BallerinaUtilGenerator utilGenerator) {
+        this.pathParametersFound |= utilGenerator.pathParametersFound;
+        this.queryParamsFound |= utilGenerator.queryParamsFound;
+        this.requestBodyEncodingFound |= utilGenerator.requestBodyEncodingFound;
+        this.requestBodyMultipartFormDatafound |= utilGenerator.requestBodyMultipartFormDatafound;
+        this.defaultStatusCodeResponseBindingFound |= utilGenerator.defaultStatusCodeResponseBindingFound;
+    }
+
     /**
      * Generates util file syntax tree.
      *
      * @return Syntax tree of the util.bal file
      */
     public SyntaxTree generateUtilSyntaxTree() throws IOException {
-        Set<String> functionNameList = getFunctionNameList();
+        UtilFunctionTemplate utilFunctionTemplate = UtilFunctionTemplate.getInstance();
+        Set<String> functionNameList = utilFunctionTemplate.getFunctionNames(getFunctionNameList());
         List<ModuleMemberDeclarationNode> memberDeclarationNodes = new ArrayList<>();
         getUtilTypeDeclarationNodes(memberDeclarationNodes);
-        addUtilFunctionDeclarationNodes(memberDeclarationNodes, functionNameList);
+        memberDeclarationNodes.addAll(utilFunctionTemplate.getFunctions(functionNameList));
         List<ImportDeclarationNode> imports = generateImports(functionNameList);
         NodeList<ImportDeclarationNode> importsList = createNodeList(imports);
         ModulePartNode utilModulePartNode =
@@ -212,57 +204,25 @@ public class BallerinaUtilGenerator {
         return utilSyntaxTree.modifyWith(utilModulePartNode);
     }
 
-    private void addUtilFunctionDeclarationNodes(List<ModuleMemberDeclarationNode> memberDeclarationNodes,
-                                                 Set<String> functionNameList) throws IOException {
-        Path path = getResourceFilePath();
-        Project project = ProjectLoader.loadProject(path);
-        Package currentPackage = project.currentPackage();
-        DocumentId docId = currentPackage.getDefaultModule().documentIds().iterator().next();
-        SyntaxTree fileSyntaxTree = currentPackage.getDefaultModule().document(docId).syntaxTree();
-
-        ModulePartNode modulePartNode = fileSyntaxTree.rootNode();
-        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
-        for (ModuleMemberDeclarationNode node : members) {
-            if (node.kind().equals(SyntaxKind.FUNCTION_DEFINITION)) {
-                for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                    if (childNodeEntry.name().equals("functionName")) {
-                        if (functionNameList.contains(childNodeEntry.node().get().toString())) {
-                            memberDeclarationNodes.add(node);
-                        }
-                    }
-                }
-            }
-        }
-    }
-
+    /**
+     * Get the util functions used by the client. The functions they depend on are added from the template.
+     */
     private Set<String> getFunctionNameList() {
         Set<String> functionNameList = new LinkedHashSet<>();
         if (requestBodyEncodingFound) {
-            functionNameList.addAll(Arrays.asList(
-                    CREATE_FORM_URLENCODED_REQUEST_BODY, GET_DEEP_OBJECT_STYLE_REQUEST, GET_FORM_STYLE_REQUEST,
-                    GET_ENCODED_URI, GET_ORIGINAL_KEY, GET_SERIALIZED_ARRAY, GET_SERIALIZED_RECORD_ARRAY
-            ));
+            functionNameList.add(CREATE_FORM_URLENCODED_REQUEST_BODY);
         }
         if (queryParamsFound) {
-            functionNameList.addAll(Arrays.asList(
-                    GET_DEEP_OBJECT_STYLE_REQUEST, GET_FORM_STYLE_REQUEST,
-                    GET_ENCODED_URI, GET_ORIGINAL_KEY, GET_SERIALIZED_ARRAY, GET_PATH_FOR_QUERY_PARAM,
-                    GET_SERIALIZED_RECORD_ARRAY
-            ));
+            functionNameList.add(GET_PATH_FOR_QUERY_PARAM);
         }
         if (pathParametersFound) {
             functionNameList.add(GET_ENCODED_URI);
         }
         if (requestBodyMultipartFormDatafound) {
             functionNameList.add(CREATE_MULTIPART_BODY_PARTS);
-            functionNameList.add(CONSTRUCT_ENTITY);
-            functionNameList.add(POPULATE_ENCODING_INFO);
         }
         if (defaultStatusCodeResponseBindingFound) {
-            functionNameList.addAll(Arrays.asList(
-                    GET_VALIDATED_RESPONSE_FOR_DEFAULT_MAPPING,
-                    CREATE_STATUS_CODE_RESPONSE_BINDING_ERROR
-            ));
+            functionNameList.add(GET_VALIDATED_RESPONSE_FOR_DEFAULT_MAPPING);
         }
         return functionNameList;
     }
@@ -438,32 +398,4 @@ public class BallerinaUtilGenerator {
                 null, createNodeList(createToken(FINAL_KEYWORD)), bindingPatternNode,
                 createToken(EQUAL_TOKEN), expressionNode, createToken(SEMICOLON_TOKEN));
     }
-
-    /**
-     * Gets the path of the utils_openapi.bal template at the time of execution.
-     *
-     * @return Path to utils_openapi.bal file in the temporary directory created
-     * @throws IOException When failed to get the templates/utils_openapi.bal file from resources
-     */
-    private Path getResourceFilePath() throws IOException {
-        Path path = null;
-        ClassLoader classLoader = getClass().getClassLoader();
-        InputStream inputStream = classLoader.getResourceAsStream("templates/utils_openapi.bal");
-        if (inputStream != null) {
-            String clientSyntaxTreeString = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
-            Path tmpDir = Files.createTempDirectory(".util-tmp" + System.nanoTime());
-            path = tmpDir.resolve("utils.bal");
-            try (PrintWriter writer = new PrintWriter(path.toString(), StandardCharsets.UTF_8)) {
-                writer.print(clientSyntaxTreeString);
-            }
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                try {
-                    FileUtils.deleteDirectory(tmpDir.toFile());
-                } catch (IOException ex) {
-                    LOGGER.error("Unable to delete the temporary directory : " + tmpDir, ex);
-                }
-            }));
-        }
-        return path;
-    }
 }
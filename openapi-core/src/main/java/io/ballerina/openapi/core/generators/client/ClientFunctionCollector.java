@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client;
+
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.IdentifierToken;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.openapi.core.generators.client.diagnostic.ClientDiagnostic;
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the client functions generated for an operation, with the imports, diagnostics and util function usages
+ * of their generation.
+ * <p>
+ * Every operation is generated with its own collector, hence the operations can be generated concurrently without
+ * sharing these lists, and the collectors are merged into the client in the path and method order.
+ *
+ * @since 2.2.0
+ */
+public class ClientFunctionCollector {
+
+    private final List<FunctionDefinitionNode> functionNodes = new ArrayList<>();
+    private final List<String> functionNames = new ArrayList<>();
+    private final List<ImportDeclarationNode> imports = new ArrayList<>();
+    private final List<ClientDiagnostic> diagnostics = new ArrayList<>();
+    private final BallerinaUtilGenerator ballerinaUtilGenerator = new BallerinaUtilGenerator();
+
+    public List<FunctionDefinitionNode> getFunctionNodes() {
+        return functionNodes;
+    }
+
+    public List<String> getFunctionNames() {
+        return functionNames;
+    }
+
+    public List<ImportDeclarationNode> getImports() {
+        return imports;
+    }
+
+    public List<ClientDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    public BallerinaUtilGenerator getBallerinaUtilGenerator() {
+        return ballerinaUtilGenerator;
+    }
+
+    /**
+     * Add the imports of this collector which are not in the given imports, in the order they were collected.
+     *
+     * @param clientImports imports of the client
+     */
+    void mergeImports(List<ImportDeclarationNode> clientImports) {
+        for (ImportDeclarationNode importNode : imports) {
+            StringBuilder moduleName = new StringBuilder();
+            for (IdentifierToken identifierToken : importNode.moduleName()) {
+                moduleName.append(identifierToken.toString().trim());
+            }
+            if (!GeneratorUtils.checkImportDuplicate(clientImports, moduleName.toString())) {
+                clientImports.add(importNode);
+            }
+        }
+    }
+}
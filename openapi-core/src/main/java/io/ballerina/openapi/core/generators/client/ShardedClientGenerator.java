@@ -0,0 +1,443 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client;
+
+import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.IdentifierToken;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.core.generators.client.diagnostic.ClientDiagnostic;
+import io.ballerina.openapi.core.generators.client.exception.ClientException;
+import io.ballerina.openapi.core.generators.client.model.ClientSharding;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GeneratorConstants;
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.OASModifier;
+import io.ballerina.openapi.core.generators.common.SchemaReferenceGraph;
+import io.ballerina.openapi.core.generators.common.SchemaReferenceGraph.Node;
+import io.ballerina.openapi.core.generators.common.TypeHandler;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.common.model.Filter;
+import io.ballerina.openapi.core.generators.common.model.GenSrcFile;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.CLIENT_FILE_NAME;
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DEFAULT_FILE_HEADER;
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DO_NOT_MODIFY_FILE_HEADER;
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.SLASH;
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.TYPE_FILE_NAME;
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.UTIL_FILE_NAME;
+
+/**
+ * Generates the client of a large contract as several client classes, one for each group of operations.
+ * <p>
+ * The operations are grouped by their first tag, or by the first segment of their paths after the prefix shared by
+ * all paths, as given with {@link ClientSharding}. Each group, a shard, is generated with its own client generator
+ * as a client class named after the shard, e.g. {@code PetsClient}, in its own file, e.g. {@code client_pets.bal}.
+ * The operations which are not tagged, or whose paths have no such segment, are generated in the {@code Client}
+ * class of {@code client.bal}. All classes share the connection config, the util functions and the types of the
+ * module.
+ * <p>
+ * The type definitions of the component schemas which are reachable, in the {@link SchemaReferenceGraph}, from the
+ * operations of a single shard are written to the types file of that shard, e.g. {@code types_pets.bal}, and the
+ * other type definitions are written to {@code types.bal}. The files belong to the same module, hence the placement
+ * of a type does not affect the references to it, and the imports of each file are limited to the modules it uses.
+ *
+ * @since 2.2.0
+ */
+public class ShardedClientGenerator {
+
+    private static final String DEFAULT_SHARD = "";
+    private static final String SHARD_NAME_PATTERN = "[A-Za-z][A-Za-z0-9]*";
+
+    private final OASClientConfig oasClientConfig;
+    private final Function<OASClientConfig, BallerinaClientGenerator> clientGeneratorFactory;
+    private final Map<String, Map<String, PathItem>> shards;
+    private final List<ClientDiagnostic> diagnostics = new ArrayList<>();
+
+    /**
+     * Create a generator for the given client config.
+     *
+     * @param oasClientConfig        client config with the sharding
+     * @param clientGeneratorFactory factory of the client generator of a shard
+     */
+    public ShardedClientGenerator(OASClientConfig oasClientConfig,
+                                  Function<OASClientConfig, BallerinaClientGenerator> clientGeneratorFactory) {
+        this.oasClientConfig = oasClientConfig;
+        this.clientGeneratorFactory = clientGeneratorFactory;
+        this.shards = getShards(oasClientConfig.getOpenAPI(), oasClientConfig.getFilter(),
+                oasClientConfig.getClientSharding());
+    }
+
+    /**
+     * Check whether the operations are split into more than one shard. A contract whose operations fall into a
+     * single shard is generated as a single client.
+     */
+    public boolean isSharded() {
+        return shards.size() > 1;
+    }
+
+    public List<ClientDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    /**
+     * Generate the client, util and type files of the shards. The types are collected in the {@link TypeHandler}
+     * of the generation, which must be created before.
+     *
+     * @param srcPackage    package of the generated files
+     * @param licenseHeader license header of the generated files, the default headers are used when it is blank
+     * @return generated source files
+     */
+    public List<GenSrcFile> generateClientFiles(String srcPackage, String licenseHeader)
+            throws BallerinaOpenApiException, ClientException, FormatterException, IOException {
+        List<GenSrcFile> sourceFiles = new ArrayList<>();
+        String clientHeader = licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader;
+        String defaultHeader = licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader;
+        BallerinaUtilGenerator utilGenerator = new BallerinaUtilGenerator();
+        for (Map.Entry<String, Map<String, PathItem>> shard : shards.entrySet()) {
+            BallerinaClientGenerator clientGenerator = clientGeneratorFactory.apply(
+                    getShardConfig(oasClientConfig, shard.getValue()));
+            SyntaxTree syntaxTree = renameClientClass(clientGenerator.generateSyntaxTree(),
+                    getClassName(shard.getKey()));
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
+                    getFileName(CLIENT_FILE_NAME, shard.getKey()),
+                    clientHeader + Formatter.format(syntaxTree).toSourceCode()));
+            for (TypeDefinitionNode typeDef : clientGenerator.getBallerinaAuthConfigGenerator()
+                    .getAuthRelatedTypeDefinitionNodes()) {
+                TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+            }
+            utilGenerator.addUsages(clientGenerator.getBallerinaUtilGenerator());
+            diagnostics.addAll(clientGenerator.getDiagnostics());
+        }
+
+        String utilContent = Formatter.format(utilGenerator.generateUtilSyntaxTree()).toString();
+        if (!utilContent.isBlank()) {
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
+                    defaultHeader + utilContent));
+        }
+        for (Map.Entry<String, SyntaxTree> typeFile : splitTypes(
+                TypeHandler.getInstance().generateTypeSyntaxTree(oasClientConfig.getDocCommentMode())).entrySet()) {
+            String typeContent = Formatter.format(typeFile.getValue()).toSourceCode();
+            if (!typeContent.isBlank()) {
+                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage,
+                        getFileName(TYPE_FILE_NAME, typeFile.getKey()), defaultHeader + typeContent));
+            }
+        }
+        return sourceFiles;
+    }
+
+    /**
+     * Group the operations selected by the filter into shards. The default shard, if any, is the first one.
+     */
+    private static Map<String, Map<String, PathItem>> getShards(OpenAPI openAPI, Filter filter,
+                                                                ClientSharding clientSharding) {
+        Map<String, Map<String, PathItem>> shards = new LinkedHashMap<>();
+        if (clientSharding == ClientSharding.NONE || Objects.isNull(openAPI.getPaths())) {
+            return shards;
+        }
+        shards.put(DEFAULT_SHARD, new LinkedHashMap<>());
+        int prefixLength = clientSharding == ClientSharding.PATH ? getCommonPrefixLength(openAPI.getPaths()) : 0;
+        for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+            PathItem pathItem = path.getValue();
+            if (Objects.isNull(pathItem)) {
+                continue;
+            }
+            // A referenced path item cannot be inspected, hence it is generated in the default client
+            if (Objects.nonNull(pathItem.get$ref())) {
+                shards.get(DEFAULT_SHARD).put(path.getKey(), pathItem);
+                continue;
+            }
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation : pathItem.readOperationsMap().entrySet()) {
+                if (!filter.isSelected(operation.getValue().getTags(), operation.getValue().getOperationId())) {
+                    continue;
+                }
+                String shardName = clientSharding == ClientSharding.TAG ? getTagShardName(operation.getValue()) :
+                        getPathShardName(path.getKey(), prefixLength);
+                shards.computeIfAbsent(shardName, name -> new LinkedHashMap<>())
+                        .computeIfAbsent(path.getKey(), key -> copyPathItem(pathItem))
+                        .operation(operation.getKey(), operation.getValue());
+            }
+        }
+        if (shards.get(DEFAULT_SHARD).isEmpty()) {
+            shards.remove(DEFAULT_SHARD);
+        }
+        return shards;
+    }
+
+    private static String getTagShardName(Operation operation) {
+        if (Objects.isNull(operation.getTags()) || operation.getTags().isEmpty()) {
+            return DEFAULT_SHARD;
+        }
+        return getShardName(operation.getTags().get(0));
+    }
+
+    /**
+     * Get the number of the leading literal segments shared by all paths, e.g. one for {@code /v1/pets} and
+     * {@code /v1/stores}.
+     */
+    private static int getCommonPrefixLength(Paths paths) {
+        List<String> prefix = null;
+        for (String path : paths.keySet()) {
+            List<String> segments = getSegments(path);
+            if (Objects.isNull(prefix)) {
+                prefix = new ArrayList<>(segments);
+            }
+            int length = 0;
+            while (length < prefix.size() && length < segments.size() &&
+                    prefix.get(length).equals(segments.get(length)) && !isPathParameter(segments.get(length))) {
+                length++;
+            }
+            prefix = prefix.subList(0, length);
+        }
+        return Objects.isNull(prefix) ? 0 : prefix.size();
+    }
+
+    private static String getPathShardName(String path, int prefixLength) {
+        List<String> segments = getSegments(path);
+        if (segments.size() <= prefixLength || isPathParameter(segments.get(prefixLength))) {
+            return DEFAULT_SHARD;
+        }
+        return getShardName(segments.get(prefixLength));
+    }
+
+    private static List<String> getSegments(String path) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split(SLASH)) {
+            if (!segment.isBlank()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    private static boolean isPathParameter(String segment) {
+        return segment.contains("{");
+    }
+
+    /**
+     * Get the shard name of the given tag or path segment. A name which is not a plain identifier is put in the
+     * default shard, and the names which differ only in their special characters share a shard.
+     */
+    private static String getShardName(String name) {
+        String shardName = GeneratorUtils.getValidName(name, true);
+        return shardName.matches(SHARD_NAME_PATTERN) ? shardName : DEFAULT_SHARD;
+    }
+
+    private static String getClassName(String shardName) {
+        return shardName + GeneratorConstants.CLIENT;
+    }
+
+    /**
+     * Get the name of a file of the given shard, e.g. {@code client_pet_store.bal} for the {@code PetStore} shard.
+     */
+    private static String getFileName(String fileName, String shardName) {
+        if (shardName.equals(DEFAULT_SHARD)) {
+            return fileName;
+        }
+        String suffix = shardName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ENGLISH);
+        return fileName.replace(".bal", "_" + suffix + ".bal");
+    }
+
+    private static PathItem copyPathItem(PathItem pathItem) {
+        PathItem shardPathItem = new PathItem()
+                .summary(pathItem.getSummary())
+                .description(pathItem.getDescription())
+                .servers(pathItem.getServers())
+                .parameters(pathItem.getParameters());
+        shardPathItem.setExtensions(pathItem.getExtensions());
+        return shardPathItem;
+    }
+
+    /**
+     * Get the client config of a shard, whose model has only the operations of the shard.
+     */
+    private static OASClientConfig getShardConfig(OASClientConfig oasClientConfig, Map<String, PathItem> paths) {
+        OpenAPI openAPI = oasClientConfig.getOpenAPI();
+        Paths shardPaths = new Paths();
+        paths.forEach(shardPaths::addPathItem);
+        OpenAPI shardOpenAPI = new OpenAPI()
+                .openapi(openAPI.getOpenapi())
+                .info(openAPI.getInfo())
+                .externalDocs(openAPI.getExternalDocs())
+                .servers(openAPI.getServers())
+                .security(openAPI.getSecurity())
+                .tags(openAPI.getTags())
+                .paths(shardPaths)
+                .components(openAPI.getComponents());
+        shardOpenAPI.setExtensions(openAPI.getExtensions());
+        return new OASClientConfig.Builder()
+                .withOpenAPI(shardOpenAPI)
+                .withFilters(oasClientConfig.getFilter())
+                .withNullable(oasClientConfig.isNullable())
+                .withPlugin(oasClientConfig.isPlugin())
+                .withResourceMode(oasClientConfig.isResourceMode())
+                .withLicense(oasClientConfig.getLicense())
+                .withStatusCodeBinding(oasClientConfig.isStatusCodeBinding())
+                .withMock(oasClientConfig.isMock())
+                .withSingleFile(oasClientConfig.singleFile())
+                .withIsUsingSanitizedOas(oasClientConfig.isUsingSanitizedOas())
+                .withMaxEnumSize(oasClientConfig.getMaxEnumSize())
+                .withUnionThreshold(oasClientConfig.getUnionThreshold())
+                .withDeduplicateSchemas(oasClientConfig.isDeduplicateSchemas())
+                .withDocCommentMode(oasClientConfig.getDocCommentMode())
+                .build();
+    }
+
+    private static SyntaxTree renameClientClass(SyntaxTree syntaxTree, String className) {
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        List<ModuleMemberDeclarationNode> members = new ArrayList<>();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (member instanceof ClassDefinitionNode classDefinition &&
+                    classDefinition.className().text().equals(GeneratorConstants.CLIENT)) {
+                IdentifierToken classNameToken = AbstractNodeFactory.createIdentifierToken(className,
+                        classDefinition.className().leadingMinutiae(),
+                        classDefinition.className().trailingMinutiae());
+                members.add(classDefinition.modify().withClassName(classNameToken).apply());
+            } else {
+                members.add(member);
+            }
+        }
+        return syntaxTree.modifyWith(modulePartNode.modify()
+                .withMembers(AbstractNodeFactory.createNodeList(members)).apply());
+    }
+
+    /**
+     * Split the type definitions of the given types syntax tree into the types files of the shards.
+     *
+     * @return syntax trees of the types files by their shard names
+     */
+    private Map<String, SyntaxTree> splitTypes(SyntaxTree typeSyntaxTree) {
+        Map<String, String> typeShards = getTypeShards();
+        // The types files are ordered as the client files, with the shared types file first
+        Map<String, List<ModuleMemberDeclarationNode>> shardMembers = new LinkedHashMap<>();
+        shardMembers.put(DEFAULT_SHARD, new ArrayList<>());
+        shards.keySet().forEach(shardName -> shardMembers.put(shardName, new ArrayList<>()));
+        ModulePartNode modulePartNode = typeSyntaxTree.rootNode();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            String shardName = member instanceof TypeDefinitionNode typeDefinition ?
+                    typeShards.getOrDefault(typeDefinition.typeName().text(), DEFAULT_SHARD) : DEFAULT_SHARD;
+            shardMembers.get(shardName).add(member);
+        }
+
+        Map<String, SyntaxTree> typeTrees = new LinkedHashMap<>();
+        for (Map.Entry<String, List<ModuleMemberDeclarationNode>> members : shardMembers.entrySet()) {
+            if (members.getValue().isEmpty()) {
+                continue;
+            }
+            ModulePartNode shardModulePartNode = modulePartNode.modify()
+                    .withImports(getUsedImports(modulePartNode, members.getValue()))
+                    .withMembers(AbstractNodeFactory.createNodeList(members.getValue())).apply();
+            typeTrees.put(members.getKey(), typeSyntaxTree.modifyWith(shardModulePartNode));
+        }
+        return typeTrees;
+    }
+
+    /**
+     * Get the shards of the component types which are reachable from the operations of a single shard.
+     *
+     * @return shard names by the type names
+     */
+    private Map<String, String> getTypeShards() {
+        OpenAPI openAPI = oasClientConfig.getOpenAPI();
+        SchemaReferenceGraph graph = SchemaReferenceGraph.build(openAPI);
+        Map<Node, String> schemaShards = new HashMap<>();
+        Set<Node> sharedSchemas = new HashSet<>();
+        for (Map.Entry<String, Map<String, PathItem>> shard : shards.entrySet()) {
+            List<Node> roots = new ArrayList<>();
+            shard.getValue().forEach((path, pathItem) -> pathItem.readOperationsMap().keySet()
+                    .forEach(method -> roots.add(Node.ofOperation(path, method))));
+            for (Node node : graph.getReachableNodes(roots)) {
+                if (!node.isSchema()) {
+                    continue;
+                }
+                String previousShard = schemaShards.putIfAbsent(node, shard.getKey());
+                if (Objects.nonNull(previousShard) && !previousShard.equals(shard.getKey())) {
+                    sharedSchemas.add(node);
+                }
+            }
+        }
+
+        // The component schemas are named the same way as the type generator does with the sanitized contract
+        Map<String, String> schemaNames = oasClientConfig.isUsingSanitizedOas() ?
+                new OASModifier().getProposedNameMapping(openAPI) : Collections.emptyMap();
+        Map<String, String> typeShards = new HashMap<>();
+        schemaShards.forEach((node, shardName) -> {
+            if (!sharedSchemas.contains(node)) {
+                String schemaName = schemaNames.getOrDefault(node.componentName(), node.componentName());
+                typeShards.put(GeneratorUtils.escapeIdentifier(schemaName), shardName);
+            }
+        });
+        return typeShards;
+    }
+
+    /**
+     * Get the imports of the given module part which are used by the given members. An unused import is a
+     * compilation error, hence each types file keeps only the imports of its own types.
+     */
+    private static NodeList<ImportDeclarationNode> getUsedImports(ModulePartNode modulePartNode,
+                                                                  List<ModuleMemberDeclarationNode> members) {
+        ModulePrefixCollector modulePrefixCollector = new ModulePrefixCollector();
+        members.forEach(member -> member.accept(modulePrefixCollector));
+        List<ImportDeclarationNode> imports = new ArrayList<>();
+        for (ImportDeclarationNode importNode : modulePartNode.imports()) {
+            String prefix = importNode.prefix().isPresent() ? importNode.prefix().get().prefix().text() :
+                    importNode.moduleName().get(importNode.moduleName().size() - 1).text();
+            if (modulePrefixCollector.modulePrefixes.contains(prefix.trim())) {
+                imports.add(importNode);
+            }
+        }
+        return AbstractNodeFactory.createNodeList(imports);
+    }
+
+    private static final class ModulePrefixCollector extends NodeVisitor {
+
+        private final Set<String> modulePrefixes = new HashSet<>();
+
+        @Override
+        public void visit(QualifiedNameReferenceNode qualifiedNameReferenceNode) {
+            modulePrefixes.add(qualifiedNameReferenceNode.modulePrefix().text());
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client;
+
+import io.ballerina.compiler.syntax.tree.FunctionCallExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The util functions of the `templates/utils_openapi.bal` template.
+ * <p>
+ * The template is parsed once per JVM from the classpath, and its function definitions are indexed by name with the
+ * template functions they call. The util functions of a client are served from this index, together with the
+ * functions they depend on, e.g. `getPathForQueryParam` brings `getSerializedArray` and `getEncodedUri`.
+ *
+ * @since 2.2.0
+ */
+public final class UtilFunctionTemplate {
+
+    private static final String TEMPLATE_PATH = "templates/utils_openapi.bal";
+
+    private final Map<String, FunctionDefinitionNode> functions;
+    private final Map<String, Set<String>> dependencies;
+
+    private UtilFunctionTemplate(Map<String, FunctionDefinitionNode> functions,
+                                 Map<String, Set<String>> dependencies) {
+        this.functions = functions;
+        this.dependencies = dependencies;
+    }
+
+    /**
+     * Holder of the parsed template, which is initialized when the template is first used.
+     */
+    private static final class TemplateHolder {
+        private static final UtilFunctionTemplate TEMPLATE = load();
+    }
+
+    /**
+     * Get the parsed template.
+     *
+     * @return util function template
+     * @throws IOException when the template cannot be read from the classpath
+     */
+    public static UtilFunctionTemplate getInstance() throws IOException {
+        try {
+            return TemplateHolder.TEMPLATE;
+        } catch (ExceptionInInitializerError | NoClassDefFoundError e) {
+            throw new IOException("Unable to load the util functions template: " + TEMPLATE_PATH, e);
+        }
+    }
+
+    private static UtilFunctionTemplate load() {
+        String template;
+        try (InputStream inputStream = UtilFunctionTemplate.class.getClassLoader()
+                .getResourceAsStream(TEMPLATE_PATH)) {
+            if (Objects.isNull(inputStream)) {
+                throw new IllegalStateException("The util functions template is not found: " + TEMPLATE_PATH);
+            }
+            template = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        ModulePartNode modulePartNode = SyntaxTree.from(TextDocuments.from(template)).rootNode();
+        Map<String, FunctionDefinitionNode> functions = new LinkedHashMap<>();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (member.kind() == SyntaxKind.FUNCTION_DEFINITION) {
+                FunctionDefinitionNode function = (FunctionDefinitionNode) member;
+                functions.put(function.functionName().text(), function);
+            }
+        }
+        Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+        for (Map.Entry<String, FunctionDefinitionNode> function : functions.entrySet()) {
+            CallCollector callCollector = new CallCollector(functions.keySet());
+            function.getValue().functionBody().accept(callCollector);
+            callCollector.calledFunctions.remove(function.getKey());
+            dependencies.put(function.getKey(), Set.copyOf(callCollector.calledFunctions));
+        }
+        return new UtilFunctionTemplate(functions, dependencies);
+    }
+
+    /**
+     * Get the names of the given functions and the template functions they depend on. The names which are not
+     * functions of the template are ignored.
+     *
+     * @param functionNames names of the required functions
+     * @return names of the required functions and their dependencies, in the template order
+     */
+    public Set<String> getFunctionNames(Collection<String> functionNames) {
+        Set<String> requiredFunctions = new HashSet<>();
+        Deque<String> pendingFunctions = new ArrayDeque<>(functionNames);
+        while (!pendingFunctions.isEmpty()) {
+            String functionName = pendingFunctions.pop();
+            if (functions.containsKey(functionName) && requiredFunctions.add(functionName)) {
+                pendingFunctions.addAll(dependencies.get(functionName));
+            }
+        }
+        Set<String> orderedFunctions = new LinkedHashSet<>();
+        for (String functionName : functions.keySet()) {
+            if (requiredFunctions.contains(functionName)) {
+                orderedFunctions.add(functionName);
+            }
+        }
+        return orderedFunctions;
+    }
+
+    /**
+     * Get the definitions of the given functions and the template functions they depend on, in the template order.
+     *
+     * @param functionNames names of the required functions
+     * @return function definitions
+     */
+    public List<FunctionDefinitionNode> getFunctions(Collection<String> functionNames) {
+        List<FunctionDefinitionNode> functionDefinitions = new ArrayList<>();
+        for (String functionName : getFunctionNames(functionNames)) {
+            functionDefinitions.add(functions.get(functionName));
+        }
+        return functionDefinitions;
+    }
+
+    /**
+     * Collects the template functions called in a function body.
+     */
+    private static final class CallCollector extends NodeVisitor {
+        private final Set<String> templateFunctions;
+        private final Set<String> calledFunctions = new HashSet<>();
+
+        private CallCollector(Set<String> templateFunctions) {
+            this.templateFunctions = templateFunctions;
+        }
+
+        @Override
+        public void visit(FunctionCallExpressionNode functionCallExpressionNode) {
+            if (functionCallExpressionNode.functionName() instanceof SimpleNameReferenceNode functionName &&
+                    templateFunctions.contains(functionName.name().text())) {
+                calledFunctions.add(functionName.name().text());
+            }
+            visitSyntaxNode(functionCallExpressionNode);
+        }
+    }
+}
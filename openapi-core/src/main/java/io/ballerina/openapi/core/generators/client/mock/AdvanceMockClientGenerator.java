@@ -19,6 +19,7 @@
 package io.ballerina.openapi.core.generators.client.mock;
 
 import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.ObjectFieldNode;
@@ -75,6 +76,7 @@ public class AdvanceMockClientGenerator extends BallerinaClientGeneratorWithStat
                                                              OpenAPI openAPI,
                                                              AuthConfigGeneratorImp authConfigGeneratorImp,
                                                              BallerinaUtilGenerator ballerinaUtilGenerator,
+                                                             List<ImportDeclarationNode> imports,
                                                              boolean hasDefaultResponse,
                                                              List<String> nonDefaultStatusCodes,
                                                              ImplFunctionSignatureGenerator signatureGenerator) {
@@ -103,7 +103,10 @@ public class BallerinaMockClientGenerator extends BallerinaClientGenerator {
                 MockClientFunctionGenerator mockClientFunctionGenerator = new MockClientFunctionGenerator(
                         operation.getKey(), operationEntry, oasClientConfig);
                 Optional<FunctionDefinitionNode> funDefOptionalNode = mockClientFunctionGenerator.generateFunction();
-                funDefOptionalNode.ifPresent(functionDefinitionNodeList::add);
+                funDefOptionalNode.ifPresent(functionNode -> {
+                    functionDefinitionNodeList.add(functionNode);
+                    addFunctionOperation(functionNode, operationEntry.getValue());
+                });
                 diagnostics.addAll(mockClientFunctionGenerator.getDiagnostics());
             }
         }
@@ -114,7 +117,7 @@ public class BallerinaMockClientGenerator extends BallerinaClientGenerator {
                 createToken(ISOLATED_KEYWORD), createToken(CLIENT_KEYWORD));
         return createClassDefinitionNode(metadataNode, createToken(PUBLIC_KEYWORD), classTypeQualifiers,
                 createToken(CLASS_KEYWORD), className, createToken(OPEN_BRACE_TOKEN),
-                createNodeList(memberNodeList), createToken(CLOSE_BRACE_TOKEN), null);
+                createNodeList(getClassMembers(memberNodeList)), createToken(CLOSE_BRACE_TOKEN), null);
 
     }
 
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client.model;
+
+import java.util.Locale;
+
+/**
+ * Defines how the generated client of a large contract is split into several client classes and files.
+ *
+ * @since 2.2.0
+ */
+public enum ClientSharding {
+
+    /**
+     * The client is generated as a single class.
+     */
+    NONE,
+    /**
+     * The operations are grouped by their first tag.
+     */
+    TAG,
+    /**
+     * The operations are grouped by the first segment of their paths after the prefix shared by all paths.
+     */
+    PATH;
+
+    /**
+     * Get the sharding of the given option value.
+     *
+     * @param value option value, {@code tag} or {@code path}
+     * @return sharding of the value, {@link #NONE} when the value is not given
+     * @throws IllegalArgumentException when the value is not a valid sharding
+     */
+    public static ClientSharding fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return NONE;
+        }
+        return switch (value.trim().toLowerCase(Locale.ENGLISH)) {
+            case "tag" -> TAG;
+            case "path" -> PATH;
+            default -> throw new IllegalArgumentException(String.format(
+                    "invalid client sharding '%s', the supported values are 'tag' and 'path'", value));
+        };
+    }
+}
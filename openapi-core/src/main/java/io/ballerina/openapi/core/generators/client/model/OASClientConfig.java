@@ -18,8 +18,10 @@
 package io.ballerina.openapi.core.generators.client.model;
 
 import io.ballerina.openapi.core.generators.common.model.Filter;
+import io.ballerina.openapi.core.generators.document.DocCommentMode;
 import io.swagger.v3.oas.models.OpenAPI;
 
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DEFAULT_UNION_THRESHOLD;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DO_NOT_MODIFY_FILE_HEADER;
 
 /**
@@ -38,6 +40,11 @@ public class OASClientConfig {
     private final boolean isMock;
     private final boolean singleFile;
     private final boolean isUsingSanitizedOas;
+    private final int maxEnumSize;
+    private final int unionThreshold;
+    private final ClientSharding clientSharding;
+    private final boolean deduplicateSchemas;
+    private final DocCommentMode docCommentMode;
 
 
     private OASClientConfig(Builder clientConfigBuilder) {
@@ -51,6 +58,11 @@ public class OASClientConfig {
         this.isMock = clientConfigBuilder.isMock;
         this.singleFile = clientConfigBuilder.singleFile;
         this.isUsingSanitizedOas = clientConfigBuilder.isUsingSanitizedOas;
+        this.maxEnumSize = clientConfigBuilder.maxEnumSize;
+        this.unionThreshold = clientConfigBuilder.unionThreshold;
+        this.clientSharding = clientConfigBuilder.clientSharding;
+        this.deduplicateSchemas = clientConfigBuilder.deduplicateSchemas;
+        this.docCommentMode = clientConfigBuilder.docCommentMode;
     }
 
     public OpenAPI getOpenAPI() {
@@ -91,6 +103,26 @@ public class OASClientConfig {
         return isUsingSanitizedOas;
     }
 
+    public int getMaxEnumSize() {
+        return maxEnumSize;
+    }
+
+    public int getUnionThreshold() {
+        return unionThreshold;
+    }
+
+    public ClientSharding getClientSharding() {
+        return clientSharding;
+    }
+
+    public boolean isDeduplicateSchemas() {
+        return deduplicateSchemas;
+    }
+
+    public DocCommentMode getDocCommentMode() {
+        return docCommentMode;
+    }
+
     /**
      * Client IDL plugin meta data builder class.
      */
@@ -105,6 +137,11 @@ public class OASClientConfig {
         private boolean isMock = false;
         private boolean singleFile = false;
         private boolean isUsingSanitizedOas = false;
+        private int maxEnumSize = 0;
+        private int unionThreshold = DEFAULT_UNION_THRESHOLD;
+        private ClientSharding clientSharding = ClientSharding.NONE;
+        private boolean deduplicateSchemas = false;
+        private DocCommentMode docCommentMode = DocCommentMode.POST_GENERATION;
 
         public Builder withOpenAPI(OpenAPI openAPI) {
             this.openAPI = openAPI;
@@ -156,6 +193,31 @@ public class OASClientConfig {
             return this;
         }
 
+        public Builder withMaxEnumSize(int maxEnumSize) {
+            this.maxEnumSize = maxEnumSize;
+            return this;
+        }
+
+        public Builder withUnionThreshold(int unionThreshold) {
+            this.unionThreshold = unionThreshold;
+            return this;
+        }
+
+        public Builder withClientSharding(ClientSharding clientSharding) {
+            this.clientSharding = clientSharding;
+            return this;
+        }
+
+        public Builder withDeduplicateSchemas(boolean deduplicateSchemas) {
+            this.deduplicateSchemas = deduplicateSchemas;
+            return this;
+        }
+
+        public Builder withDocCommentMode(DocCommentMode docCommentMode) {
+            this.docCommentMode = docCommentMode;
+            return this;
+        }
+
         public OASClientConfig build() {
             return new OASClientConfig(this);
         }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import io.ballerina.openapi.core.generators.common.SchemaReferenceGraph.Node;
+import io.ballerina.openapi.core.generators.common.SchemaReferenceGraph.NodeKind;
+import io.ballerina.openapi.core.generators.common.model.Filter;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Removes the component schemas which are not used by the operations selected with the tags and operations filter.
+ * <p>
+ * The operations which are not selected by the filter are removed from the model, the same as
+ * {@link OperationScopedContractLoader} does, and the component schemas which are not reachable from the remaining
+ * operations, webhooks and the component headers are dropped. The reachability is computed with the
+ * {@link SchemaReferenceGraph} of the model. Security schemes do not refer to schemas, hence the auth configuration
+ * is not affected by the pruning.
+ *
+ * @since 2.2.0
+ */
+public final class ComponentSchemaPruner {
+
+    private static final String HEADERS_REF_PREFIX = "#/components/headers/";
+
+    private ComponentSchemaPruner() {
+    }
+
+    /**
+     * Prune the given model in place for the given filter. The model is not modified when the filter is empty.
+     *
+     * @param openAPI normalized OpenAPI model
+     * @param filter  tags and operations to be included
+     * @return number of the component schemas which were dropped
+     */
+    public static int prune(OpenAPI openAPI, Filter filter) {
+        if (filter.getTags().isEmpty() && filter.getOperations().isEmpty()) {
+            return 0;
+        }
+        removeUnselectedOperations(openAPI, filter);
+        if (Objects.isNull(openAPI.getComponents()) || Objects.isNull(openAPI.getComponents().getSchemas())) {
+            return 0;
+        }
+
+        SchemaReferenceGraph graph = SchemaReferenceGraph.build(openAPI);
+        List<Node> roots = new ArrayList<>();
+        for (Node node : graph.getNodes()) {
+            if (node.kind() == NodeKind.OPERATION || node.id().startsWith(HEADERS_REF_PREFIX)) {
+                roots.add(node);
+            }
+        }
+        Set<Node> reachableNodes = graph.getReachableNodes(roots);
+        int droppedSchemas = 0;
+        Iterator<Map.Entry<String, Schema>> schemas = openAPI.getComponents().getSchemas().entrySet().iterator();
+        while (schemas.hasNext()) {
+            if (!reachableNodes.contains(Node.ofSchema(schemas.next().getKey()))) {
+                schemas.remove();
+                droppedSchemas++;
+            }
+        }
+        return droppedSchemas;
+    }
+
+    /**
+     * Remove the operations which are not selected by the filter and the paths left without operations.
+     */
+    private static void removeUnselectedOperations(OpenAPI openAPI, Filter filter) {
+        if (Objects.isNull(openAPI.getPaths())) {
+            return;
+        }
+        Iterator<Map.Entry<String, PathItem>> paths = openAPI.getPaths().entrySet().iterator();
+        while (paths.hasNext()) {
+            PathItem pathItem = paths.next().getValue();
+            if (Objects.isNull(pathItem)) {
+                continue;
+            }
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation : pathItem.readOperationsMap().entrySet()) {
+                if (!filter.isSelected(operation.getValue().getTags(), operation.getValue().getOperationId())) {
+                    pathItem.operation(operation.getKey(), null);
+                }
+            }
+            // A referenced path item cannot be inspected, hence it is kept as it is
+            if (pathItem.readOperations().isEmpty() && Objects.isNull(pathItem.get$ref())) {
+                paths.remove();
+            }
+        }
+    }
+}
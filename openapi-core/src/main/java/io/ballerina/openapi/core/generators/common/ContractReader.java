@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads an OpenAPI contract file once and serves its content hash and its decoded content.
+ * <p>
+ * The file is read into a single byte array and closed right away, so the contract file is never kept open or locked
+ * while the contract is generated. The file is not memory mapped, and the parser is given the decoded content. The
+ * content hash is computed over the bytes, so a contract which is already cached by {@link OpenAPIContractCache} is
+ * never decoded. The content hash is the hash of the UTF-8 form of the content, which is the same hash
+ * {@code OpenAPIContractCache} computes for the same content given as a string. The charset is taken from the byte
+ * order mark, if there is one, and defaults to UTF-8 otherwise. Malformed input is reported the same way as
+ * {@link java.nio.file.Files#readString(Path)} does.
+ *
+ * @since 2.2.0
+ */
+public final class ContractReader {
+
+    private static final char REPLACEMENT_CHARACTER = '\uFFFD';
+
+    private final byte[] content;
+    private final int offset;
+    private final Charset charset;
+
+    private ContractReader(byte[] content) {
+        this.content = content;
+        this.charset = detectCharset(content);
+        this.offset = getByteOrderMarkLength(content, charset);
+    }
+
+    /**
+     * Read the given contract file.
+     *
+     * @param contractPath path of the OpenAPI contract
+     * @return reader for the contract
+     * @throws IOException when the contract cannot be read
+     */
+    public static ContractReader open(Path contractPath) throws IOException {
+        return new ContractReader(Files.readAllBytes(contractPath));
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Compute the content hash of the contract. The byte order mark is not part of the hashed content. UTF-8
+     * content is hashed as it is, while content in another charset is hashed in its UTF-8 form.
+     *
+     * @return hex encoded SHA-256 hash of the contract content
+     * @throws CharacterCodingException when the content is not valid in the detected charset
+     */
+    public String getContentHash() throws CharacterCodingException {
+        if (charset.equals(StandardCharsets.UTF_8)) {
+            return OpenAPIContractCache.getContentHash(ByteBuffer.wrap(content, offset, content.length - offset));
+        }
+        return OpenAPIContractCache.getContentHash(readString());
+    }
+
+    /**
+     * Decode the contract content.
+     *
+     * @return contract content
+     * @throws CharacterCodingException when the content is not valid in the detected charset
+     */
+    public String readString() throws CharacterCodingException {
+        String decoded = new String(content, offset, content.length - offset, charset);
+        // The string constructor replaces malformed input, hence the content is only validated when it holds a
+        // replacement character
+        if (decoded.indexOf(REPLACEMENT_CHARACTER) >= 0) {
+            charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(content, offset, content.length - offset));
+        }
+        return decoded;
+    }
+
+    /**
+     * Detect the charset from the byte order mark.
+     */
+    private static Charset detectCharset(byte[] content) {
+        if (hasPrefix(content, 0xFE, 0xFF)) {
+            return StandardCharsets.UTF_16BE;
+        }
+        if (hasPrefix(content, 0xFF, 0xFE)) {
+            return StandardCharsets.UTF_16LE;
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private static int getByteOrderMarkLength(byte[] content, Charset charset) {
+        if (!charset.equals(StandardCharsets.UTF_8)) {
+            return 2;
+        }
+        return hasPrefix(content, 0xEF, 0xBB, 0xBF) ? 3 : 0;
+    }
+
+    private static boolean hasPrefix(byte[] content, int... bytes) {
+        if (content.length < bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if ((content[i] & 0xFF) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
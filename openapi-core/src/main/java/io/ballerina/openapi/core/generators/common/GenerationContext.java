@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * State of a single code generation run.
+ * <p>
+ * The {@link TypeHandler}, the {@link GeneratorMetaData} and the generated record name counts belong to the context
+ * of the run, rather than to static fields, so independent contracts can be generated concurrently in one JVM. A
+ * context is bound to the thread which runs the generation, and {@code TypeHandler.getInstance()} and
+ * {@code GeneratorMetaData.getInstance()} resolve to the context bound to the calling thread.
+ * <p>
+ * A generation is run in an explicit context with {@link #run(GenerationTask)}, or within an {@link #enter()} scope
+ * when the generation throws several checked exceptions. The entry points which start a generation, such as
+ * {@code TypeHandler.createInstance}, bind a new context to a thread which has none, hence a generation can also be
+ * started without an explicit context. Such a context stays bound to the thread and is reset by the next generation
+ * started on it. Accessing the state from a thread which has no bound context fails. A task which is handed over to another thread of the same
+ * generation is wrapped with {@link #wrap(Supplier)}, and a task which collects its own types runs in a context
+ * created by a {@link TypeCollector}.
+ *
+ * @since 2.2.0
+ */
+public final class GenerationContext {
+
+    private static final ThreadLocal<GenerationContext> CURRENT_CONTEXT = new ThreadLocal<>();
+
+    private TypeHandler typeHandler;
+    private GeneratorMetaData generatorMetaData;
+    private Map<String, Integer> recordCountMap = new HashMap<>();
+
+    /**
+     * Task which is run in a generation context.
+     *
+     * @param <T> type of the result
+     * @param <E> type of the exception thrown by the task
+     */
+    @FunctionalInterface
+    public interface GenerationTask<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    /**
+     * Scope in which a context is bound to the thread which entered it. Closing the scope restores the previous
+     * binding of the thread.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final GenerationContext previousContext;
+
+        private Scope(GenerationContext previousContext) {
+            this.previousContext = previousContext;
+        }
+
+        @Override
+        public void close() {
+            if (Objects.isNull(previousContext)) {
+                CURRENT_CONTEXT.remove();
+            } else {
+                CURRENT_CONTEXT.set(previousContext);
+            }
+        }
+    }
+
+    /**
+     * Get the context bound to the calling thread.
+     *
+     * @return the bound context
+     * @throws IllegalStateException when no context is bound to the calling thread
+     */
+    public static GenerationContext current() {
+        GenerationContext context = CURRENT_CONTEXT.get();
+        if (Objects.isNull(context)) {
+            throw new IllegalStateException("no generation context is bound to the thread " +
+                    Thread.currentThread().getName() + ", the generation must run within GenerationContext.run");
+        }
+        return context;
+    }
+
+    /**
+     * Get the context bound to the calling thread, or bind a new context to the calling thread when it has none.
+     *
+     * @return the bound context
+     */
+    public static GenerationContext currentOrBind() {
+        GenerationContext context = CURRENT_CONTEXT.get();
+        if (Objects.isNull(context)) {
+            context = new GenerationContext();
+            CURRENT_CONTEXT.set(context);
+        }
+        return context;
+    }
+
+    /**
+     * Bind this context to the calling thread until the returned scope is closed.
+     *
+     * @return scope of the binding
+     */
+    public Scope enter() {
+        GenerationContext previousContext = CURRENT_CONTEXT.get();
+        CURRENT_CONTEXT.set(this);
+        return new Scope(previousContext);
+    }
+
+    /**
+     * Run the given task with this context bound to the calling thread. The previous binding of the thread is
+     * restored when the task completes.
+     *
+     * @param task generation task
+     * @return result of the task
+     * @throws E when the task fails
+     */
+    public <T, E extends Exception> T run(GenerationTask<T, E> task) throws E {
+        try (Scope ignored = enter()) {
+            return task.run();
+        }
+    }
+
+    /**
+     * Wrap the given task to run with this context bound to the thread which runs it.
+     *
+     * @param task generation task
+     * @return task bound to this context
+     */
+    public <T> Supplier<T> wrap(Supplier<T> task) {
+        return () -> run(task::get);
+    }
+
+    /**
+     * Create the context of a task of this run, which shares the state of the run, except the type handler which
+     * collects the types of the task.
+     *
+     * @param typeHandler type handler of the task
+     * @return context of the task
+     */
+    GenerationContext forTask(TypeHandler typeHandler) {
+        GenerationContext taskContext = new GenerationContext();
+        taskContext.typeHandler = typeHandler;
+        taskContext.generatorMetaData = generatorMetaData;
+        taskContext.recordCountMap = recordCountMap;
+        return taskContext;
+    }
+
+    public TypeHandler getTypeHandler() {
+        return typeHandler;
+    }
+
+    void setTypeHandler(TypeHandler typeHandler) {
+        this.typeHandler = typeHandler;
+    }
+
+    public GeneratorMetaData getGeneratorMetaData() {
+        return generatorMetaData;
+    }
+
+    public void setGeneratorMetaData(GeneratorMetaData generatorMetaData) {
+        this.generatorMetaData = generatorMetaData;
+    }
+
+    Map<String, Integer> getRecordCountMap() {
+        return recordCountMap;
+    }
+
+    void initializeRecordCountMap() {
+        recordCountMap = new HashMap<>();
+    }
+}
@@ -430,4 +430,9 @@ public class GeneratorConstants {
     public static final String NAME_ANNOTATION = "jsondata:Name";
     public static final String QUERY_ANNOTATION = "http:Query";
     public static final String HEADER_ANNOTATION = "http:Header";
+    // Minimum number of paths, operations or component schemas for which the generation work is split across the
+    // fork-join pool. Smaller models are processed sequentially, since the split costs more than it saves.
+    public static final int PARALLEL_THRESHOLD = 64;
+    // Member count above which a union is generated in the compact form, unless another threshold is given
+    public static final int DEFAULT_UNION_THRESHOLD = 128;
 }
@@ -57,7 +57,6 @@ import io.ballerina.openapi.core.generators.type.exception.OASTypeGenException;
 import io.ballerina.openapi.core.generators.type.generators.EnumGenerator;
 import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
 import io.ballerina.tools.diagnostics.Diagnostic;
-import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -196,8 +195,6 @@ public class GeneratorUtils {
     public static final char CHAR = '"';
     public static final String JSONDATA_IMPORT = "import ballerina/data.jsondata;";
     public static final String HTTP_IMPORT = "import ballerina/http;";
-    private static HashMap<String, Integer> recordCountMap;
-
     private static final List<String> primitiveTypeList =
             new ArrayList<>(Arrays.asList(GeneratorConstants.INTEGER, GeneratorConstants.NUMBER,
                     GeneratorConstants.STRING, GeneratorConstants.BOOLEAN));
@@ -205,7 +202,7 @@ public class GeneratorUtils {
     // This is needs to be initialized at every CLI run. Otherwise, the record type details are persisted
     // for a second invocation as well. Todo: Need to update this with a different appraoch.
     public static void initializeRecordCountMap() {
-        recordCountMap = new HashMap<>();
+        GenerationContext.currentOrBind().initializeRecordCountMap();
     }
 
     public static ImportDeclarationNode getImportDeclarationNode(String orgName, String moduleName) {
@@ -503,7 +500,13 @@ public class GeneratorUtils {
      */
     public static OpenAPI getOpenAPIFromOpenAPIV3Parser(Path definitionPath) throws
             IOException, BallerinaOpenApiException {
+        validateContractPath(definitionPath);
+        SwaggerParseResult parseResult = OpenAPIContractCache.getInstance().readContents(definitionPath,
+                getDefaultParseOptions(), OpenAPIContractCache.ParserType.OPENAPI_PARSER);
+        return getOpenAPIFromParseResult(parseResult);
+    }
 
+    static void validateContractPath(Path definitionPath) throws BallerinaOpenApiException {
         Path contractPath = java.nio.file.Paths.get(definitionPath.toString());
         if (!Files.exists(contractPath)) {
             throw new BallerinaOpenApiException(ErrorMessages.invalidFilePath(definitionPath.toString()));
@@ -513,11 +516,16 @@ public class GeneratorUtils {
                 definitionPath.toString().endsWith(YML_EXTENSION))) {
             throw new BallerinaOpenApiException(ErrorMessages.invalidFileType());
         }
-        String openAPIFileContent = Files.readString(definitionPath);
+    }
+
+    static ParseOptions getDefaultParseOptions() {
         ParseOptions parseOptions = new ParseOptions();
         parseOptions.setResolve(true);
         parseOptions.setFlatten(true);
-        SwaggerParseResult parseResult = new OpenAPIParser().readContents(openAPIFileContent, null, parseOptions);
+        return parseOptions;
+    }
+
+    static OpenAPI getOpenAPIFromParseResult(SwaggerParseResult parseResult) throws BallerinaOpenApiException {
         if (!parseResult.getMessages().isEmpty()) {
             if (parseResult.getMessages().contains(UNSUPPORTED_OPENAPI_VERSION_PARSER_MESSAGE)) {
                 throw new BallerinaOpenApiException(ErrorMessages.unsupportedOpenAPIVersion());
@@ -791,7 +799,32 @@ public class GeneratorUtils {
     public static OpenAPI normalizeOpenAPI(Path openAPIPath, boolean validateOpIds, boolean isSanitized) throws
             IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPIFromOpenAPIV3Parser(openAPIPath);
-        return normalizeOpenAPI(openAPI, validateOpIds, isSanitized);
+        return OpenAPIModelCompactor.compactIfEnabled(normalizeOpenAPI(openAPI, validateOpIds, isSanitized));
+    }
+
+    /**
+     * Normalized OpenAPI specification with adding proper naming to schema. The normalized specification is
+     * loaded from the given snapshot store when the contract is unchanged since the last run, and stored there
+     * otherwise.
+     *
+     * @param openAPIPath   - openAPI file path
+     * @param snapshotStore - store which keeps the normalized specifications of previous runs
+     * @return - openAPI specification
+     * @throws IOException
+     * @throws BallerinaOpenApiException
+     */
+    public static OpenAPI normalizeOpenAPI(Path openAPIPath, boolean validateOpIds, boolean isSanitized,
+                                           OpenAPISnapshotStore snapshotStore)
+            throws IOException, BallerinaOpenApiException {
+        String contentHash = OpenAPISnapshotStore.getContentHash(openAPIPath);
+        String variant = String.format("validateOpIds=%s,sanitized=%s", validateOpIds, isSanitized);
+        Optional<OpenAPI> snapshot = snapshotStore.load(contentHash, variant);
+        if (snapshot.isPresent()) {
+            return OpenAPIModelCompactor.compactIfEnabled(snapshot.get());
+        }
+        OpenAPI openAPI = normalizeOpenAPI(openAPIPath, validateOpIds, isSanitized);
+        snapshotStore.store(contentHash, variant, openAPI);
+        return openAPI;
     }
 
     /**
@@ -826,18 +859,7 @@ public class GeneratorUtils {
      */
     public static void validateOperationIds(Set<Map.Entry<String, PathItem>> paths) throws BallerinaOpenApiException {
         List<String> errorList = new ArrayList<>();
-        for (Map.Entry<String, PathItem> entry : paths) {
-            for (Map.Entry<PathItem.HttpMethod, Operation> operation :
-                    entry.getValue().readOperationsMap().entrySet()) {
-                if (operation.getValue().getOperationId() != null) {
-                    String operationId = getValidName(operation.getValue().getOperationId(), false);
-                    operation.getValue().setOperationId(operationId);
-                } else {
-                    errorList.add(String.format("OperationId is missing in the resource path: '%s(%s)'", entry.getKey(),
-                            operation.getKey()));
-                }
-            }
-        }
+        ParallelPathProcessor.process(paths, GeneratorUtils::getOperationIdErrors).forEach(errorList::addAll);
         if (!errorList.isEmpty()) {
             throw new BallerinaOpenApiException("the configured generation mode requires operation ids for all " +
                     "operations: " + LINE_SEPARATOR + String.join(LINE_SEPARATOR, errorList));
@@ -852,19 +874,7 @@ public class GeneratorUtils {
      */
     public static void validateRequestBody(Set<Map.Entry<String, PathItem>> paths) throws BallerinaOpenApiException {
         List<String> errorList = new ArrayList<>();
-        for (Map.Entry<String, PathItem> entry : paths) {
-            if (!entry.getValue().readOperationsMap().isEmpty()) {
-                for (Map.Entry<PathItem.HttpMethod, Operation> operation : entry.getValue().readOperationsMap()
-                        .entrySet()) {
-                    String method = operation.getKey().name().trim().toLowerCase(Locale.ENGLISH);
-                    boolean isRequestBodyInvalid = method.equals(GET) || method.equals(HEAD);
-                    if (isRequestBodyInvalid && operation.getValue().getRequestBody() != null) {
-                        errorList.add(method.toUpperCase(Locale.ENGLISH) + " operation cannot have a requestBody. "
-                                + "Error at operationId: " + operation.getValue().getOperationId());
-                    }
-                }
-            }
-        }
+        ParallelPathProcessor.process(paths, GeneratorUtils::getRequestBodyErrors).forEach(errorList::addAll);
 
         if (!errorList.isEmpty()) {
             StringBuilder errorMessage = new StringBuilder("OpenAPI definition has errors: " + LINE_SEPARATOR);
@@ -875,6 +885,39 @@ public class GeneratorUtils {
         }
     }
 
+    /**
+     * Normalize the operation ids of the given path and collect the errors for the missing operation ids.
+     */
+    private static List<String> getOperationIdErrors(Map.Entry<String, PathItem> entry) {
+        List<String> errorList = new ArrayList<>();
+        for (Map.Entry<PathItem.HttpMethod, Operation> operation : entry.getValue().readOperationsMap().entrySet()) {
+            if (operation.getValue().getOperationId() != null) {
+                String operationId = getValidName(operation.getValue().getOperationId(), false);
+                operation.getValue().setOperationId(operationId);
+            } else {
+                errorList.add(String.format("OperationId is missing in the resource path: '%s(%s)'", entry.getKey(),
+                        operation.getKey()));
+            }
+        }
+        return errorList;
+    }
+
+    /**
+     * Collect the errors for the request bodies of the GET and HEAD operations of the given path.
+     */
+    private static List<String> getRequestBodyErrors(Map.Entry<String, PathItem> entry) {
+        List<String> errorList = new ArrayList<>();
+        for (Map.Entry<PathItem.HttpMethod, Operation> operation : entry.getValue().readOperationsMap().entrySet()) {
+            String method = operation.getKey().name().trim().toLowerCase(Locale.ENGLISH);
+            boolean isRequestBodyInvalid = method.equals(GET) || method.equals(HEAD);
+            if (isRequestBodyInvalid && operation.getValue().getRequestBody() != null) {
+                errorList.add(method.toUpperCase(Locale.ENGLISH) + " operation cannot have a requestBody. "
+                        + "Error at operationId: " + operation.getValue().getOperationId());
+            }
+        }
+        return errorList;
+    }
+
     public static String getOpenAPIType(Schema<?> schema) {
         if (schema.getTypes() != null && !schema.getTypes().isEmpty()) {
             for (String type : schema.getTypes()) {
@@ -1197,14 +1240,7 @@ public class GeneratorUtils {
         String pathRecord = Objects.equals(path, SLASH) || Objects.equals(path, CATCH_ALL_PATH) ? "" :
                 GeneratorUtils.getValidName(path, true);
         String typeSuffix = isRequest ? GeneratorConstants.REQUEST_RECORD_NAME : RESPONSE_RECORD_NAME;
-        String recordName = pathRecord + typeSuffix;
-        if (recordCountMap.containsKey(recordName)) {
-            recordCountMap.put(recordName, recordCountMap.get(recordName) + 1);
-            return recordName + "_" + recordCountMap.get(recordName);
-        } else {
-            recordCountMap.put(recordName, 0);
-            return recordName;
-        }
+        return TypeHandler.getInstance().createOrderedRecordName(pathRecord + typeSuffix);
     }
 
     public static TypeDescriptorNode getUnionTypeDescriptorNodeFromTypeDescNodes(HashMap<String, TypeDescriptorNode>
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reflective access to the fields of the Swagger model classes, shared by the structural model copy and the model
+ * snapshot codec. Both work on the fields instead of the Jackson form, so the concrete model classes, such as the
+ * {@code Schema} subclasses the generators dispatch on, are kept as they are.
+ *
+ * @since 2.2.0
+ */
+final class ModelFields {
+
+    private static final String MODEL_PACKAGE = "io.swagger.v3.oas.models.";
+    private static final Map<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<>();
+
+    private ModelFields() {
+    }
+
+    static boolean isModelClass(Class<?> type) {
+        return type.getName().startsWith(MODEL_PACKAGE) && !type.isEnum();
+    }
+
+    /**
+     * Get the instance fields of the given model class, including the fields declared by its model superclasses.
+     * Fields of the JDK superclasses, e.g. of the {@code LinkedHashMap} behind {@code Paths}, are not included.
+     */
+    static List<Field> getFields(Class<?> type) {
+        return FIELDS.computeIfAbsent(type, ModelFields::collectFields);
+    }
+
+    static Object newInstance(Class<?> type) throws ReflectiveOperationException {
+        Constructor<?> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        try {
+            return constructor.newInstance();
+        } catch (InvocationTargetException e) {
+            throw new InstantiationException(type.getName() + ": " + e.getCause());
+        }
+    }
+
+    private static List<Field> collectFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && isModelClass(current);
+             current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+        return Collections.unmodifiableList(fields);
+    }
+}
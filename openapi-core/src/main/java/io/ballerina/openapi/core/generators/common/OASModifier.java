@@ -19,24 +19,18 @@ package io.ballerina.openapi.core.generators.common;
 
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.tools.diagnostics.Diagnostic;
-import io.swagger.parser.OpenAPIParser;
-import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
-import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
-import io.swagger.v3.oas.models.media.MapSchema;
 import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.responses.ApiResponse;
-import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 
-import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -58,10 +52,7 @@ import static io.ballerina.openapi.core.generators.common.GeneratorConstants.QUE
  */
 public class OASModifier {
     private static final String REGEX_FOR_CURLY_BRACED_CONTENT = "\\{([^}]*)}";
-    private static final String COMPONENT_REF_WITH_NAME_PATTERN = "\"$ref\":\"#/components/schemas/%s\"";
-    private static final String COMPONENT_REF_REGEX_PATTERN = "(\\\"\\$ref\\\"\\s*:\\s*\\\"#/components/schemas/%s" +
-            "\\\")|('\\$ref'\\s*:\\s*'#/components/schemas/%s')";
-    private static final PrintStream outErrorStream = System.err;
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
     private static final String BALLERINA_NAME_EXT = "x-ballerina-name";
 
     List<Diagnostic> diagnostics = new ArrayList<>();
@@ -120,11 +111,12 @@ public class OASModifier {
     }
 
     private void modifyOASWithInlineObjectPropertyName(OpenAPI openAPI) {
-        openAPI.getPaths().forEach((path, pathItem) -> processPathItem(pathItem));
+        ParallelPathProcessor.process(openAPI.getPaths().entrySet(), path -> processPathItem(path.getValue()));
     }
 
-    private void processPathItem(PathItem pathItem) {
+    private Void processPathItem(PathItem pathItem) {
         pathItem.readOperationsMap().forEach((method, operation) -> processOperationWithInlineObjectSchema(operation));
+        return null;
     }
 
     private void processOperationWithInlineObjectSchema(Operation operation) {
@@ -190,11 +182,21 @@ public class OASModifier {
     }
 
     private static boolean isInlineObjectSchema(Schema<?> schema) {
-        return schema instanceof ObjectSchema ||
+        return isObjectSchema(schema) ||
                 (Objects.isNull(schema.getType()) && Objects.isNull(schema.get$ref()) &&
                         Objects.nonNull(schema.getProperties()));
     }
 
+    /**
+     * Check whether the given schema is an object schema. Schemas created by the inline model resolver while
+     * flattening are plain schemas with the object type, which are deserialized as {@link ObjectSchema} when the
+     * specification is parsed again.
+     */
+    private static boolean isObjectSchema(Schema<?> schema) {
+        return schema instanceof ObjectSchema || (schema.getClass() == Schema.class &&
+                "object".equals(schema.getType()) && Objects.isNull(schema.getAdditionalProperties()));
+    }
+
     private void handleInlineObjectSchemaItems(Schema<?> schema) {
         if (Objects.nonNull(schema.getItems())) {
             updateInlineObjectSchema(schema.getItems());
@@ -229,10 +231,10 @@ public class OASModifier {
         Map<String, Schema> schemas = components.getSchemas();
         for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
             Schema schemaValue = schema.getValue();
-            if (schemaValue instanceof ObjectSchema objectSchema) {
-                Map<String, Schema> properties = objectSchema.getProperties();
+            if (isObjectSchema(schemaValue)) {
+                Map<String, Schema> properties = schemaValue.getProperties();
                 if (Objects.nonNull(properties) && !properties.isEmpty()) {
-                    objectSchema.setProperties(getPropertiesWithBallerinaNameExtension(properties));
+                    schemaValue.setProperties(getPropertiesWithBallerinaNameExtension(properties));
                 }
             }
         }
@@ -245,8 +247,8 @@ public class OASModifier {
         }
 
         Paths modifiedPaths = new Paths();
-        for (Map.Entry<String, PathItem> path : paths.entrySet()) {
-            PathDetails result = updateParameterNameDetails(path);
+        for (PathDetails result : ParallelPathProcessor.process(paths.entrySet(),
+                OASModifier::updateParameterNameDetails)) {
             modifiedPaths.put(result.pathValue(), result.pathItem());
         }
         openapi.setPaths(modifiedPaths);
@@ -260,32 +262,28 @@ public class OASModifier {
         return modifyWithBallerinaConventions(openapi, proposedNameMapping);
     }
 
-    private static OpenAPI modifyOASWithSchemaName(OpenAPI openapi, Map<String, String> nameMap)
-            throws BallerinaOpenApiException {
-        SwaggerParseResult parseResult = getOASWithSchemaNameModification(openapi, nameMap);
-        OpenAPI openAPI = parseResult.getOpenAPI();
-        if (Objects.isNull(openAPI)) {
-            List<String> messages = parseResult.getMessages();
-            if (Objects.nonNull(messages) && !messages.isEmpty()) {
-                outErrorStream.println("Schema name sanitization contains errors: ");
-                messages.forEach(outErrorStream::println);
-            }
-            throw new BallerinaOpenApiException("Failed to generate the sanitized OpenAPI specification. Please " +
-                    "consider generating the client/service without the sanitization option.");
-        }
-        return openAPI;
+    private static OpenAPI modifyOASWithSchemaName(OpenAPI openapi, Map<String, String> nameMap) {
+        return getOASWithSchemaNameModification(openapi, nameMap).getOpenAPI();
     }
 
+    /**
+     * Rename the component schemas with the given name mapping and update the schema references in place.
+     *
+     * @param openapi - OpenAPI specification
+     * @param nameMap - mapping from the current schema names to the modified names
+     * @return - parse result holding the modified specification
+     */
     public static SwaggerParseResult getOASWithSchemaNameModification(OpenAPI openapi, Map<String, String> nameMap) {
+        SwaggerParseResult result = new SwaggerParseResult();
+        result.setOpenAPI(openapi);
         Components components = openapi.getComponents();
         if (Objects.isNull(components) || nameMap.isEmpty() || Objects.isNull(components.getSchemas())) {
-            SwaggerParseResult result = new SwaggerParseResult();
-            result.setOpenAPI(openapi);
             return result;
         }
 
         Map<String, Schema> schemas = components.getSchemas();
         Map<String, Schema> modifiedSchemas = new HashMap<>();
+        Map<String, String> modifiedRefs = new HashMap<>();
 
         for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
             String schemaName = schema.getKey();
@@ -296,27 +294,18 @@ public class OASModifier {
                 modifiedSchemas.put(schemaName, schema.getValue());
             }
         }
-
-        components.setSchemas(modifiedSchemas);
-        openapi.setComponents(components);
-
-        String openApiJson = Json.pretty(openapi);
         for (Map.Entry<String, String> entry : nameMap.entrySet()) {
-            String schemaName = entry.getKey();
-            String modifiedName = entry.getValue();
-            if (schemaName.equals(modifiedName)) {
-                continue;
+            if (!entry.getKey().equals(entry.getValue())) {
+                modifiedRefs.put(SCHEMA_REF_PREFIX + entry.getKey(), SCHEMA_REF_PREFIX + entry.getValue());
             }
-            String patternString = COMPONENT_REF_REGEX_PATTERN.formatted(schemaName, schemaName);
-            Pattern pattern = Pattern.compile(patternString);
-            Matcher matcher = pattern.matcher(openApiJson);
-
-            String replacement = COMPONENT_REF_WITH_NAME_PATTERN.formatted(modifiedName).replace("$", "\\$");
-            openApiJson = matcher.replaceAll(replacement);
         }
 
-        ParseOptions parseOptions = new ParseOptions();
-        return new OpenAPIParser().readContents(openApiJson, null, parseOptions);
+        components.setSchemas(modifiedSchemas);
+        openapi.setComponents(components);
+        if (!modifiedRefs.isEmpty()) {
+            new SchemaReferenceUpdater(modifiedRefs).updateOpenAPI(openapi);
+        }
+        return result;
     }
 
     private static PathDetails updateParameterNameDetails(Map.Entry<String, PathItem> path) {
@@ -474,82 +463,6 @@ public class OASModifier {
     private record PathDetails(PathItem pathItem, String pathValue) {
     }
 
-    private static void updateObjectPropertyRef(Map<String, Schema> properties, String schemaName,
-                                                String modifiedName) {
-        if (Objects.nonNull(properties)) {
-            for (Map.Entry<String, Schema> property : properties.entrySet()) {
-                Schema fieldValue = property.getValue();
-                updateSchemaWithReference(schemaName, modifiedName, fieldValue);
-                properties.put(property.getKey(), fieldValue);
-            }
-        }
-    }
-
-    /**
-     * Common util for handle all the schema type by updating the reference details.
-     *
-     * @param schemaName   - original schema name
-     * @param modifiedName - modified schema
-     * @param typeSchema   - type schema
-     */
-    private static void updateSchemaWithReference(String schemaName, String modifiedName, Schema typeSchema) {
-        String ref = typeSchema.get$ref();
-        if (Objects.nonNull(ref)) {
-            updateRef(schemaName, modifiedName, typeSchema);
-        } else if (typeSchema instanceof ObjectSchema objectSchema) {
-            Map<String, Schema> objectSchemaProperties = objectSchema.getProperties();
-            updateObjectPropertyRef(objectSchemaProperties, schemaName, modifiedName);
-        } else if (typeSchema instanceof ArraySchema arraySchema) {
-            Schema<?> items = arraySchema.getItems();
-            updateSchemaWithReference(schemaName, modifiedName, items);
-        } else if (typeSchema instanceof MapSchema mapSchema) {
-            updateObjectPropertyRef(mapSchema.getProperties(), schemaName, modifiedName);
-        } else if (Objects.nonNull(typeSchema.getProperties())) {
-            updateObjectPropertyRef(typeSchema.getProperties(), schemaName, modifiedName);
-        } else if (typeSchema instanceof ComposedSchema composedSchema) {
-            if (Objects.nonNull(composedSchema.getAllOf())) {
-                List<Schema> allOf = composedSchema.getAllOf();
-                List<Schema> modifiedAllOf = new ArrayList<>();
-                for (Schema schema : allOf) {
-                    updateSchemaWithReference(schemaName, modifiedName, schema);
-                    modifiedAllOf.add(schema);
-                }
-                composedSchema.setAllOf(modifiedAllOf);
-            }
-            if (Objects.nonNull(composedSchema.getOneOf())) {
-                List<Schema> oneOf = composedSchema.getOneOf();
-                List<Schema> modifiedOneOf = new ArrayList<>();
-                for (Schema schema : oneOf) {
-                    updateSchemaWithReference(schemaName, modifiedName, schema);
-                    modifiedOneOf.add(schema);
-                }
-                composedSchema.setOneOf(modifiedOneOf);
-            }
-            if (Objects.nonNull(composedSchema.getAnyOf())) {
-                List<Schema> anyOf = composedSchema.getAnyOf();
-                List<Schema> modifiedAnyOf = new ArrayList<>();
-                for (Schema schema : anyOf) {
-                    updateSchemaWithReference(schemaName, modifiedName, schema);
-                    modifiedAnyOf.add(schema);
-                }
-                composedSchema.setAnyOf(modifiedAnyOf);
-            }
-        } 
-        if (Objects.nonNull(typeSchema.getAdditionalProperties()) && 
-                typeSchema.getAdditionalProperties() instanceof Schema<?> addtionalSchema) {
-            updateSchemaWithReference(schemaName, modifiedName, addtionalSchema);
-        } 
-    }
-
-    private static void updateRef(String schemaName, String modifiedName, Schema value) {
-        String ref = value.get$ref().replaceAll("\\s+", "");
-        String patternString = "/" + schemaName.replaceAll("\\s+", "") + "(?!\\S)";
-        Pattern pattern = Pattern.compile(patternString);
-        Matcher matcher = pattern.matcher(ref);
-        ref = matcher.replaceAll("/" + modifiedName);
-        value.set$ref(ref);
-    }
-
     public static String getValidNameForType(String identifier) {
         if (identifier.isBlank()) {
             return "\\" + identifier;
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process cache for parsed OpenAPI contracts.
+ * <p>
+ * Entries are keyed by the canonical contract path, the SHA-256 hash of the contract content, the parser and the
+ * parse options, so an edited contract or a different parse configuration never hits a stale entry. The cache is
+ * bounded and evicts the least recently used entry once the limit is reached. The limit can be changed with the
+ * {@value #MAX_ENTRIES_PROPERTY} system property, and setting it to zero disables caching.
+ * <p>
+ * Callers normalize, filter and flatten the returned models in place, hence the cache keeps its own structural copy
+ * of the model. A cache miss returns the model created by the parser, and a cache hit returns a copy of the cached
+ * model made by {@link OpenAPIModelCopier}, which keeps the concrete model classes created by the parser.
+ *
+ * @since 2.2.0
+ */
+public final class OpenAPIContractCache {
+
+    public static final String MAX_ENTRIES_PROPERTY = "openapi.contract.cache.size";
+    private static final int DEFAULT_MAX_ENTRIES = 8;
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final OpenAPIContractCache INSTANCE =
+            new OpenAPIContractCache(Integer.getInteger(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES));
+
+    /**
+     * Parser used to read the contract. Results of different parsers are cached separately.
+     */
+    public enum ParserType {
+        /**
+         * {@link OpenAPIParser}, which also converts Swagger 2.0 contracts.
+         */
+        OPENAPI_PARSER,
+        /**
+         * {@link OpenAPIV3Parser}, which only accepts OpenAPI 3.x contracts.
+         */
+        OPENAPI_V3_PARSER
+    }
+
+    private final int maxEntries;
+    private final Map<CacheKey, SwaggerParseResult> entries;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    OpenAPIContractCache(int maxEntries) {
+        this.maxEntries = Math.max(0, maxEntries);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, SwaggerParseResult> eldest) {
+                return size() > OpenAPIContractCache.this.maxEntries;
+            }
+        };
+    }
+
+    public static OpenAPIContractCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Read and parse the given contract file, reusing a previously parsed model when the content is unchanged. The
+     * contract is read once and is only decoded on a cache miss.
+     *
+     * @param contractPath path of the OpenAPI contract
+     * @param parseOptions options passed to the parser
+     * @param parserType   parser to be used on a cache miss
+     * @return parse result holding a model owned by the caller
+     * @throws IOException when the contract cannot be read
+     */
+    public SwaggerParseResult readContents(Path contractPath, ParseOptions parseOptions, ParserType parserType)
+            throws IOException {
+        ContractReader contract = ContractReader.open(contractPath);
+        if (maxEntries == 0) {
+            missCount.incrementAndGet();
+            return parse(contract.readString(), parseOptions, parserType);
+        }
+        CacheKey key = new CacheKey(getCanonicalPath(contractPath), contract.getContentHash(),
+                getParseOptionsKey(parseOptions), parserType);
+        SwaggerParseResult cachedResult = getCachedResult(key);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        return parseAndCache(key, contract.readString(), parseOptions, parserType);
+    }
+
+    /**
+     * Parse the given contract content, reusing a previously parsed model when the same content was parsed before
+     * with the same options.
+     *
+     * @param contractPath path the content was read from, or {@code null} when the content has no backing file
+     * @param content      contract content
+     * @param parseOptions options passed to the parser
+     * @param parserType   parser to be used on a cache miss
+     * @return parse result holding a model owned by the caller
+     */
+    public SwaggerParseResult readContents(Path contractPath, String content, ParseOptions parseOptions,
+                                           ParserType parserType) {
+        if (maxEntries == 0) {
+            missCount.incrementAndGet();
+            return parse(content, parseOptions, parserType);
+        }
+        CacheKey key = new CacheKey(getCanonicalPath(contractPath), getContentHash(content),
+                getParseOptionsKey(parseOptions), parserType);
+        SwaggerParseResult cachedResult = getCachedResult(key);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        return parseAndCache(key, content, parseOptions, parserType);
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Remove all the cached models and reset the hit and miss counters.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        hitCount.set(0);
+        missCount.set(0);
+    }
+
+    private SwaggerParseResult getCachedResult(CacheKey key) {
+        SwaggerParseResult cachedResult;
+        synchronized (entries) {
+            cachedResult = entries.get(key);
+        }
+        if (cachedResult == null) {
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return copyOf(cachedResult);
+    }
+
+    private SwaggerParseResult parseAndCache(CacheKey key, String content, ParseOptions parseOptions,
+                                             ParserType parserType) {
+        missCount.incrementAndGet();
+        SwaggerParseResult parseResult = parse(content, parseOptions, parserType);
+        if (parseResult.getOpenAPI() == null) {
+            return parseResult;
+        }
+        SwaggerParseResult cachedResult = copyOf(parseResult);
+        synchronized (entries) {
+            entries.put(key, cachedResult);
+        }
+        return parseResult;
+    }
+
+    private static SwaggerParseResult parse(String content, ParseOptions parseOptions, ParserType parserType) {
+        if (parserType == ParserType.OPENAPI_V3_PARSER) {
+            return new OpenAPIV3Parser().readContents(content, null, parseOptions);
+        }
+        return new OpenAPIParser().readContents(content, null, parseOptions);
+    }
+
+    private static SwaggerParseResult copyOf(SwaggerParseResult parseResult) {
+        SwaggerParseResult copy = new SwaggerParseResult();
+        copy.setMessages(parseResult.getMessages() == null ? new ArrayList<>() :
+                new ArrayList<>(parseResult.getMessages()));
+        copy.setOpenapi31(parseResult.isOpenapi31());
+        copy.setOpenAPI(OpenAPIModelCopier.copy(parseResult.getOpenAPI()));
+        return copy;
+    }
+
+    private static String getCanonicalPath(Path contractPath) {
+        if (contractPath == null) {
+            return "";
+        }
+        try {
+            return contractPath.toRealPath().toString();
+        } catch (IOException e) {
+            return contractPath.toAbsolutePath().normalize().toString();
+        }
+    }
+
+    static String getContentHash(String content) {
+        return getContentHash(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String getContentHash(byte[] content) {
+        return getContentHash(ByteBuffer.wrap(content));
+    }
+
+    static String getContentHash(ByteBuffer content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            digest.update(content);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String getParseOptionsKey(ParseOptions parseOptions) {
+        if (parseOptions == null) {
+            return "";
+        }
+        return String.join(",",
+                String.valueOf(parseOptions.isResolve()),
+                String.valueOf(parseOptions.isResolveFully()),
+                String.valueOf(parseOptions.isFlatten()),
+                String.valueOf(parseOptions.isResolveCombinators()),
+                String.valueOf(parseOptions.isFlattenComposedSchemas()),
+                String.valueOf(parseOptions.isCamelCaseFlattenNaming()),
+                String.valueOf(parseOptions.isSkipMatches()),
+                String.valueOf(parseOptions.isAllowEmptyString()),
+                String.valueOf(parseOptions.isValidateInternalRefs()),
+                String.valueOf(parseOptions.isValidateExternalRefs()),
+                String.valueOf(parseOptions.isLegacyYamlDeserialization()),
+                String.valueOf(parseOptions.isSafelyResolveURL()));
+    }
+
+    private record CacheKey(String canonicalPath, String contentHash, String parseOptions, ParserType parserType) {
+    }
+}
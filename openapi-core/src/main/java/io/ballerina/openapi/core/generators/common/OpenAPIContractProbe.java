@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import org.apache.commons.io.input.BoundedInputStream;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.JSON_EXTENSION;
+
+/**
+ * Cheap inspection of an OpenAPI contract which does not build the {@code OpenAPI} model.
+ * <p>
+ * The probe runs a streaming YAML/JSON tokenizer over a bounded prefix of the contract and only looks at the top
+ * level fields. It reads the declared {@code openapi} or {@code swagger} version and counts the path items and the
+ * component schemas while skipping every other subtree token by token, so neither the contract content nor a tree
+ * of it is kept in memory. The prefix limit can be changed with the {@value #MAX_BYTES_PROPERTY} system property.
+ *
+ * @since 2.2.0
+ */
+public final class OpenAPIContractProbe {
+
+    public static final String MAX_BYTES_PROPERTY = "openapi.contract.probe.limit";
+    private static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+    private static final String OPENAPI = "openapi";
+    private static final String SWAGGER = "swagger";
+    private static final String PATHS = "paths";
+    private static final String COMPONENTS = "components";
+    private static final String SCHEMAS = "schemas";
+    private static final String DEFINITIONS = "definitions";
+
+    /**
+     * Summary of a probed contract. The counts only cover the probed prefix when the contract is not
+     * {@link #complete()}.
+     *
+     * @param specVersion declared {@code openapi} or {@code swagger} version, or {@code null} if not found
+     * @param pathCount   number of path items
+     * @param schemaCount number of component schemas, or Swagger 2.0 definitions
+     * @param fileSize    size of the contract file in bytes
+     * @param complete    whether the whole contract was tokenized without errors
+     */
+    public record ProbeResult(String specVersion, int pathCount, int schemaCount, long fileSize, boolean complete) {
+
+        /**
+         * Check whether the contract declares an OpenAPI or Swagger version.
+         */
+        public boolean isOpenAPI() {
+            return specVersion != null;
+        }
+
+        /**
+         * Check whether the contract was fully tokenized and does not declare an OpenAPI or Swagger version. Such
+         * inputs can be rejected without parsing them.
+         */
+        public boolean isUnsupported() {
+            return complete && specVersion == null;
+        }
+    }
+
+    private OpenAPIContractProbe() {
+    }
+
+    /**
+     * Probe the given contract, reading at most the configured prefix limit.
+     *
+     * @param contractPath path of the OpenAPI contract
+     * @return summary of the contract
+     * @throws IOException when the contract cannot be read
+     */
+    public static ProbeResult probe(Path contractPath) throws IOException {
+        return probe(contractPath, Long.getLong(MAX_BYTES_PROPERTY, DEFAULT_MAX_BYTES));
+    }
+
+    /**
+     * Probe the given contract, reading at most {@code maxBytes} bytes of it.
+     *
+     * @param contractPath path of the OpenAPI contract
+     * @param maxBytes     maximum number of bytes to be read
+     * @return summary of the contract
+     * @throws IOException when the contract cannot be read
+     */
+    public static ProbeResult probe(Path contractPath, long maxBytes) throws IOException {
+        long fileSize = Files.size(contractPath);
+        JsonFactory factory = contractPath.toString().endsWith(JSON_EXTENSION) ?
+                Json.mapper().getFactory() : Yaml.mapper().getFactory();
+        String specVersion = null;
+        int pathCount = 0;
+        int schemaCount = 0;
+        boolean isValid = true;
+        try (InputStream input = new BoundedInputStream(new BufferedInputStream(
+                Files.newInputStream(contractPath)), maxBytes);
+             JsonParser parser = factory.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return new ProbeResult(null, 0, 0, fileSize, fileSize <= maxBytes);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (fieldName) {
+                    case OPENAPI, SWAGGER -> {
+                        if (value.isScalarValue()) {
+                            specVersion = parser.getText();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    case PATHS -> pathCount = countFields(parser);
+                    case DEFINITIONS -> schemaCount = countFields(parser);
+                    case COMPONENTS -> schemaCount = countComponentSchemas(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // A truncated prefix or a malformed contract, the values found so far are still reported
+            isValid = false;
+        }
+        return new ProbeResult(specVersion, pathCount, schemaCount, fileSize, isValid && fileSize <= maxBytes);
+    }
+
+    private static int countComponentSchemas(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return 0;
+        }
+        int schemaCount = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String section = parser.currentName();
+            parser.nextToken();
+            if (SCHEMAS.equals(section)) {
+                schemaCount = countFields(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return schemaCount;
+    }
+
+    /**
+     * Count the fields of the object the parser is positioned at, skipping their values.
+     */
+    private static int countFields(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return 0;
+        }
+        int fieldCount = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            fieldCount++;
+            parser.nextToken();
+            parser.skipChildren();
+        }
+        return fieldCount;
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Binary encoding of a parsed OpenAPI model, used by {@link OpenAPISnapshotStore}.
+ * <p>
+ * The model is written field by field together with the names of the model classes, so a decoded model has the same
+ * concrete classes, e.g. the same {@code Schema} subclasses, as the encoded one. Instances shared within the model
+ * are written once and referenced afterwards, which keeps the sharing and the cycles of a resolved model. Only the
+ * Swagger model classes are instantiated while decoding.
+ *
+ * @since 2.2.0
+ */
+final class OpenAPIModelCodec {
+
+    private static final byte NULL = 0;
+    private static final byte REFERENCE = 1;
+    private static final byte MODEL = 2;
+    private static final byte MAP = 3;
+    private static final byte LIST = 4;
+    private static final byte SET = 5;
+    private static final byte STRING = 6;
+    private static final byte BOOLEAN = 7;
+    private static final byte INTEGER = 8;
+    private static final byte LONG = 9;
+    private static final byte DOUBLE = 10;
+    private static final byte FLOAT = 11;
+    private static final byte BIG_DECIMAL = 12;
+    private static final byte BIG_INTEGER = 13;
+    private static final byte ENUM = 14;
+    private static final byte JSON = 15;
+    private static final byte DATE = 16;
+    private static final byte OFFSET_DATE_TIME = 17;
+    private static final byte BYTES = 18;
+
+    private OpenAPIModelCodec() {
+    }
+
+    static void write(OpenAPI openAPI, DataOutput output) throws IOException {
+        new Writer(output).writeValue(openAPI);
+    }
+
+    static OpenAPI read(DataInput input) throws IOException {
+        Object value = new Reader(input).readValue();
+        if (!(value instanceof OpenAPI openAPI)) {
+            throw new IOException("Snapshot does not hold an OpenAPI model");
+        }
+        return openAPI;
+    }
+
+    private static final class Writer {
+
+        private final DataOutput output;
+        private final Map<Object, Integer> references = new IdentityHashMap<>();
+        private final Map<Class<?>, Integer> classes = new HashMap<>();
+
+        private Writer(DataOutput output) {
+            this.output = output;
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                output.writeByte(NULL);
+                return;
+            }
+            Integer reference = references.get(value);
+            if (reference != null) {
+                output.writeByte(REFERENCE);
+                output.writeInt(reference);
+                return;
+            }
+            Class<?> type = value.getClass();
+            if (ModelFields.isModelClass(type)) {
+                writeModel(value);
+            } else if (value instanceof Map<?, ?> map) {
+                references.put(value, references.size());
+                output.writeByte(MAP);
+                writeEntries(map);
+            } else if (value instanceof List<?> list) {
+                references.put(value, references.size());
+                output.writeByte(LIST);
+                writeElements(list);
+            } else if (value instanceof Set<?> set) {
+                references.put(value, references.size());
+                output.writeByte(SET);
+                writeElements(set);
+            } else if (value instanceof String string) {
+                output.writeByte(STRING);
+                writeString(string);
+            } else if (value instanceof Boolean bool) {
+                output.writeByte(BOOLEAN);
+                output.writeBoolean(bool);
+            } else if (value instanceof Integer integer) {
+                output.writeByte(INTEGER);
+                output.writeInt(integer);
+            } else if (value instanceof Long longValue) {
+                output.writeByte(LONG);
+                output.writeLong(longValue);
+            } else if (value instanceof Double doubleValue) {
+                output.writeByte(DOUBLE);
+                output.writeDouble(doubleValue);
+            } else if (value instanceof Float floatValue) {
+                output.writeByte(FLOAT);
+                output.writeFloat(floatValue);
+            } else if (value instanceof BigDecimal bigDecimal) {
+                output.writeByte(BIG_DECIMAL);
+                writeString(bigDecimal.toString());
+            } else if (value instanceof BigInteger bigInteger) {
+                output.writeByte(BIG_INTEGER);
+                writeString(bigInteger.toString());
+            } else if (value instanceof Enum<?> enumValue) {
+                output.writeByte(ENUM);
+                writeString(enumValue.getDeclaringClass().getName());
+                writeString(enumValue.name());
+            } else if (value instanceof JsonNode jsonNode) {
+                output.writeByte(JSON);
+                writeString(Json.mapper().writeValueAsString(jsonNode));
+            } else if (value instanceof Date date) {
+                output.writeByte(DATE);
+                output.writeLong(date.getTime());
+            } else if (value instanceof OffsetDateTime dateTime) {
+                output.writeByte(OFFSET_DATE_TIME);
+                writeString(dateTime.toString());
+            } else if (value instanceof byte[] bytes) {
+                output.writeByte(BYTES);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            } else {
+                throw new IOException("Unsupported value in the OpenAPI model: " + type.getName());
+            }
+        }
+
+        private void writeModel(Object model) throws IOException {
+            references.put(model, references.size());
+            output.writeByte(MODEL);
+            List<Field> fields = ModelFields.getFields(model.getClass());
+            Integer classIndex = classes.get(model.getClass());
+            if (classIndex == null) {
+                // The first occurrence of a class carries its name and field layout
+                classes.put(model.getClass(), classes.size());
+                output.writeInt(-1);
+                writeString(model.getClass().getName());
+                output.writeInt(fields.size());
+                for (Field field : fields) {
+                    writeString(field.getName());
+                }
+            } else {
+                output.writeInt(classIndex);
+            }
+            try {
+                for (Field field : fields) {
+                    writeValue(field.get(model));
+                }
+            } catch (IllegalAccessException e) {
+                throw new IOException(e);
+            }
+            if (model instanceof Map<?, ?> map) {
+                writeEntries(map);
+            } else if (model instanceof Collection<?> collection) {
+                writeElements(collection);
+            }
+        }
+
+        private void writeEntries(Map<?, ?> map) throws IOException {
+            output.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(entry.getKey());
+                writeValue(entry.getValue());
+            }
+        }
+
+        private void writeElements(Collection<?> collection) throws IOException {
+            output.writeInt(collection.size());
+            for (Object element : collection) {
+                writeValue(element);
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            // DataOutput.writeUTF is limited to 64 KB, which long descriptions exceed
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    private static final class Reader {
+
+        private final DataInput input;
+        private final List<Object> references = new ArrayList<>();
+        private final List<ClassLayout> classes = new ArrayList<>();
+
+        private Reader(DataInput input) {
+            this.input = input;
+        }
+
+        private Object readValue() throws IOException {
+            byte tag = input.readByte();
+            return switch (tag) {
+                case NULL -> null;
+                case REFERENCE -> {
+                    int reference = input.readInt();
+                    if (reference < 0 || reference >= references.size()) {
+                        throw new IOException("Invalid reference in the snapshot: " + reference);
+                    }
+                    yield references.get(reference);
+                }
+                case MODEL -> readModel();
+                case MAP -> {
+                    Map<Object, Object> map = new LinkedHashMap<>();
+                    references.add(map);
+                    readEntries(map);
+                    yield map;
+                }
+                case LIST -> {
+                    List<Object> list = new ArrayList<>();
+                    references.add(list);
+                    readElements(list);
+                    yield list;
+                }
+                case SET -> {
+                    Set<Object> set = new LinkedHashSet<>();
+                    references.add(set);
+                    readElements(set);
+                    yield set;
+                }
+                case STRING -> readString();
+                case BOOLEAN -> input.readBoolean();
+                case INTEGER -> input.readInt();
+                case LONG -> input.readLong();
+                case DOUBLE -> input.readDouble();
+                case FLOAT -> input.readFloat();
+                case BIG_DECIMAL -> new BigDecimal(readString());
+                case BIG_INTEGER -> new BigInteger(readString());
+                case ENUM -> readEnum();
+                case JSON -> Json.mapper().readTree(readString());
+                case DATE -> new Date(input.readLong());
+                case OFFSET_DATE_TIME -> OffsetDateTime.parse(readString());
+                case BYTES -> readBytes();
+                default -> throw new IOException("Invalid value tag in the snapshot: " + tag);
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object readModel() throws IOException {
+            ClassLayout layout = readClassLayout();
+            try {
+                Object model = ModelFields.newInstance(layout.type());
+                references.add(model);
+                for (Field field : layout.fields()) {
+                    Object value = readValue();
+                    if (value != null || !field.getType().isPrimitive()) {
+                        field.set(model, value);
+                    }
+                }
+                if (model instanceof Map<?, ?>) {
+                    readEntries((Map<Object, Object>) model);
+                } else if (model instanceof Collection<?>) {
+                    readElements((Collection<Object>) model);
+                }
+                return model;
+            } catch (ReflectiveOperationException | IllegalArgumentException e) {
+                throw new IOException("Unable to restore " + layout.type().getName() + " from the snapshot", e);
+            }
+        }
+
+        private ClassLayout readClassLayout() throws IOException {
+            int classIndex = input.readInt();
+            if (classIndex >= 0) {
+                if (classIndex >= classes.size()) {
+                    throw new IOException("Invalid class index in the snapshot: " + classIndex);
+                }
+                return classes.get(classIndex);
+            }
+            Class<?> type = loadModelClass(readString());
+            Map<String, Field> fieldsByName = new HashMap<>();
+            for (Field field : ModelFields.getFields(type)) {
+                fieldsByName.putIfAbsent(field.getName(), field);
+            }
+            int fieldCount = input.readInt();
+            List<Field> fields = new ArrayList<>(fieldCount);
+            for (int i = 0; i < fieldCount; i++) {
+                String fieldName = readString();
+                Field field = fieldsByName.get(fieldName);
+                if (field == null) {
+                    throw new IOException("Unknown field " + fieldName + " of " + type.getName());
+                }
+                fields.add(field);
+            }
+            ClassLayout layout = new ClassLayout(type, fields);
+            classes.add(layout);
+            return layout;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Object readEnum() throws IOException {
+            String className = readString();
+            String constant = readString();
+            Class<?> type = loadClass(className);
+            if (!type.isEnum() || !className.startsWith("io.swagger.v3.oas.models.")) {
+                throw new IOException("Unexpected enum class in the snapshot: " + className);
+            }
+            try {
+                return Enum.valueOf((Class<? extends Enum>) type, constant);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Unknown constant " + constant + " of " + className, e);
+            }
+        }
+
+        private void readEntries(Map<Object, Object> map) throws IOException {
+            int size = input.readInt();
+            for (int i = 0; i < size; i++) {
+                Object key = readValue();
+                map.put(key, readValue());
+            }
+        }
+
+        private void readElements(Collection<Object> collection) throws IOException {
+            int size = input.readInt();
+            for (int i = 0; i < size; i++) {
+                collection.add(readValue());
+            }
+        }
+
+        private String readString() throws IOException {
+            return new String(readBytes(), StandardCharsets.UTF_8);
+        }
+
+        private byte[] readBytes() throws IOException {
+            int length = input.readInt();
+            if (length < 0) {
+                throw new IOException("Invalid length in the snapshot: " + length);
+            }
+            byte[] bytes = new byte[length];
+            input.readFully(bytes);
+            return bytes;
+        }
+
+        private static Class<?> loadModelClass(String className) throws IOException {
+            Class<?> type = loadClass(className);
+            if (!ModelFields.isModelClass(type)) {
+                throw new IOException("Unexpected class in the snapshot: " + className);
+            }
+            return type;
+        }
+
+        private static Class<?> loadClass(String className) throws IOException {
+            try {
+                return Class.forName(className, false, OpenAPI.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new IOException("Unknown class in the snapshot: " + className, e);
+            }
+        }
+    }
+
+    private record ClassLayout(Class<?> type, List<Field> fields) {
+    }
+}
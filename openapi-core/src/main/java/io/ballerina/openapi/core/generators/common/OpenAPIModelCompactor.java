@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compaction pass which reduces the heap retained by a parsed OpenAPI model.
+ * <p>
+ * Large contracts repeat the same descriptions, media type keys, formats and {@code $ref} strings many times, and
+ * the parser creates a separate instance for every occurrence. This pass canonicalizes those strings, so equal strings
+ * share one instance, and replaces equal leaf schemas (schemas without nested schemas) and equal media types with a
+ * single shared instance.
+ * <p>
+ * The generators update the schemas of parameters and headers in place when building the parameter records, hence
+ * those schemas are never shared. Compaction is enabled with the {@value #COMPACTION_PROPERTY} system property.
+ *
+ * @since 2.2.0
+ */
+public final class OpenAPIModelCompactor {
+
+    public static final String COMPACTION_PROPERTY = "openapi.model.compaction";
+
+    private final Map<String, String> strings = new HashMap<>();
+    private final Map<Schema<?>, Schema<?>> leafSchemas = new HashMap<>();
+    private final Map<MediaType, MediaType> mediaTypes = new HashMap<>();
+    private final Set<Schema<?>> visitedSchemas = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int sharedStrings = 0;
+    private int sharedSchemas = 0;
+    private int sharedMediaTypes = 0;
+
+    /**
+     * Summary of a compaction pass.
+     *
+     * @param canonicalStrings number of distinct canonical strings
+     * @param sharedStrings    number of string occurrences replaced by a canonical instance
+     * @param sharedSchemas    number of leaf schemas replaced by a shared instance
+     * @param sharedMediaTypes number of media types replaced by a shared instance
+     */
+    public record CompactionResult(int canonicalStrings, int sharedStrings, int sharedSchemas,
+                                   int sharedMediaTypes) {
+    }
+
+    private OpenAPIModelCompactor() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(COMPACTION_PROPERTY);
+    }
+
+    /**
+     * Compact the given model in place when the compaction is enabled.
+     *
+     * @param openAPI parsed OpenAPI model
+     * @return the given model
+     */
+    public static OpenAPI compactIfEnabled(OpenAPI openAPI) {
+        if (isEnabled()) {
+            compact(openAPI);
+        }
+        return openAPI;
+    }
+
+    /**
+     * Compact the given model in place.
+     *
+     * @param openAPI parsed OpenAPI model
+     * @return summary of the compaction
+     */
+    public static CompactionResult compact(OpenAPI openAPI) {
+        OpenAPIModelCompactor compactor = new OpenAPIModelCompactor();
+        compactor.compactOpenAPI(openAPI);
+        return new CompactionResult(compactor.strings.size(), compactor.sharedStrings, compactor.sharedSchemas,
+                compactor.sharedMediaTypes);
+    }
+
+    private void compactOpenAPI(OpenAPI openAPI) {
+        if (openAPI.getPaths() != null) {
+            for (PathItem pathItem : openAPI.getPaths().values()) {
+                compactPathItem(pathItem);
+            }
+        }
+        Components components = openAPI.getComponents();
+        if (components == null) {
+            return;
+        }
+        if (components.getSchemas() != null) {
+            // Component schemas are looked up by name, hence only their content is compacted
+            components.getSchemas().values().forEach(this::compactSchema);
+        }
+        if (components.getParameters() != null) {
+            components.getParameters().values().forEach(this::compactParameter);
+        }
+        if (components.getRequestBodies() != null) {
+            components.getRequestBodies().values().forEach(this::compactRequestBody);
+        }
+        if (components.getResponses() != null) {
+            components.getResponses().values().forEach(this::compactResponse);
+        }
+        if (components.getHeaders() != null) {
+            components.getHeaders().values().forEach(this::compactHeader);
+        }
+    }
+
+    private void compactPathItem(PathItem pathItem) {
+        if (pathItem == null) {
+            return;
+        }
+        pathItem.setSummary(canonical(pathItem.getSummary()));
+        pathItem.setDescription(canonical(pathItem.getDescription()));
+        if (pathItem.getParameters() != null) {
+            pathItem.getParameters().forEach(this::compactParameter);
+        }
+        for (Operation operation : pathItem.readOperations()) {
+            operation.setSummary(canonical(operation.getSummary()));
+            operation.setDescription(canonical(operation.getDescription()));
+            if (operation.getParameters() != null) {
+                operation.getParameters().forEach(this::compactParameter);
+            }
+            compactRequestBody(operation.getRequestBody());
+            compactResponses(operation.getResponses());
+        }
+    }
+
+    private void compactParameter(Parameter parameter) {
+        if (parameter == null) {
+            return;
+        }
+        parameter.set$ref(canonical(parameter.get$ref()));
+        parameter.setName(canonical(parameter.getName()));
+        parameter.setIn(canonical(parameter.getIn()));
+        parameter.setDescription(canonical(parameter.getDescription()));
+        // The parameter schema is updated in place by the generators, hence it is not shared
+        compactSchema(parameter.getSchema());
+        compactContent(parameter.getContent());
+    }
+
+    private void compactHeader(Header header) {
+        if (header == null) {
+            return;
+        }
+        header.set$ref(canonical(header.get$ref()));
+        header.setDescription(canonical(header.getDescription()));
+        // The header schema is updated in place by the generators, hence it is not shared
+        compactSchema(header.getSchema());
+        compactContent(header.getContent());
+    }
+
+    private void compactRequestBody(RequestBody requestBody) {
+        if (requestBody == null) {
+            return;
+        }
+        requestBody.set$ref(canonical(requestBody.get$ref()));
+        requestBody.setDescription(canonical(requestBody.getDescription()));
+        compactContent(requestBody.getContent());
+    }
+
+    private void compactResponses(ApiResponses responses) {
+        if (responses == null) {
+            return;
+        }
+        Map<String, ApiResponse> compactedResponses = new LinkedHashMap<>();
+        for (Map.Entry<String, ApiResponse> response : responses.entrySet()) {
+            compactResponse(response.getValue());
+            compactedResponses.put(canonical(response.getKey()), response.getValue());
+        }
+        responses.clear();
+        responses.putAll(compactedResponses);
+    }
+
+    private void compactResponse(ApiResponse response) {
+        if (response == null) {
+            return;
+        }
+        response.set$ref(canonical(response.get$ref()));
+        response.setDescription(canonical(response.getDescription()));
+        if (response.getHeaders() != null) {
+            Map<String, Header> headers = new LinkedHashMap<>();
+            for (Map.Entry<String, Header> header : response.getHeaders().entrySet()) {
+                compactHeader(header.getValue());
+                headers.put(canonical(header.getKey()), header.getValue());
+            }
+            response.setHeaders(headers);
+        }
+        compactContent(response.getContent());
+    }
+
+    private void compactContent(Content content) {
+        if (content == null) {
+            return;
+        }
+        Map<String, MediaType> compactedContent = new LinkedHashMap<>();
+        for (Map.Entry<String, MediaType> mediaType : content.entrySet()) {
+            compactedContent.put(canonical(mediaType.getKey()), shared(mediaType.getValue()));
+        }
+        content.clear();
+        content.putAll(compactedContent);
+    }
+
+    private MediaType shared(MediaType mediaType) {
+        if (mediaType == null) {
+            return null;
+        }
+        mediaType.setSchema(shared(mediaType.getSchema()));
+        // Media types with inline schemas are kept apart, since the inline types are generated per operation
+        if (mediaType.getSchema() != null && !isLeafSchema(mediaType.getSchema())) {
+            return mediaType;
+        }
+        MediaType sharedMediaType = mediaTypes.putIfAbsent(mediaType, mediaType);
+        if (sharedMediaType == null || sharedMediaType == mediaType) {
+            return mediaType;
+        }
+        sharedMediaTypes++;
+        return sharedMediaType;
+    }
+
+    /**
+     * Compact the given schema and return the shared instance if it is a leaf schema.
+     */
+    private Schema<?> shared(Schema<?> schema) {
+        if (schema == null) {
+            return null;
+        }
+        compactSchema(schema);
+        if (!isLeafSchema(schema)) {
+            return schema;
+        }
+        Schema<?> sharedSchema = leafSchemas.putIfAbsent(schema, schema);
+        if (sharedSchema == null || sharedSchema == schema) {
+            return schema;
+        }
+        sharedSchemas++;
+        return sharedSchema;
+    }
+
+    private void compactSchema(Schema<?> schema) {
+        if (schema == null || !visitedSchemas.add(schema)) {
+            return;
+        }
+        schema.set$ref(canonical(schema.get$ref()));
+        schema.setType(canonical(schema.getType()));
+        schema.setFormat(canonical(schema.getFormat()));
+        schema.setTitle(canonical(schema.getTitle()));
+        schema.setDescription(canonical(schema.getDescription()));
+        schema.setPattern(canonical(schema.getPattern()));
+        if (schema.getProperties() != null) {
+            Map<String, Schema> properties = new LinkedHashMap<>();
+            for (Map.Entry<String, Schema> property : schema.getProperties().entrySet()) {
+                properties.put(canonical(property.getKey()), shared(property.getValue()));
+            }
+            schema.setProperties(properties);
+        }
+        schema.setItems(shared(schema.getItems()));
+        schema.setNot(shared(schema.getNot()));
+        if (schema.getAdditionalProperties() instanceof Schema<?> additionalProperties) {
+            schema.setAdditionalProperties(shared(additionalProperties));
+        }
+        schema.setAllOf(sharedSchemas(schema.getAllOf()));
+        schema.setAnyOf(sharedSchemas(schema.getAnyOf()));
+        schema.setOneOf(sharedSchemas(schema.getOneOf()));
+    }
+
+    private List<Schema> sharedSchemas(List<Schema> schemas) {
+        if (schemas == null) {
+            return null;
+        }
+        List<Schema> compactedSchemas = new ArrayList<>(schemas.size());
+        for (Schema<?> schema : schemas) {
+            compactedSchemas.add(shared(schema));
+        }
+        return compactedSchemas;
+    }
+
+    private static boolean isLeafSchema(Schema<?> schema) {
+        return schema.getProperties() == null && schema.getItems() == null && schema.getNot() == null &&
+                schema.getAllOf() == null && schema.getAnyOf() == null && schema.getOneOf() == null &&
+                !(schema.getAdditionalProperties() instanceof Schema) && schema.getPatternProperties() == null &&
+                schema.getPrefixItems() == null;
+    }
+
+    private String canonical(String value) {
+        if (value == null) {
+            return null;
+        }
+        String canonicalValue = strings.putIfAbsent(value, value);
+        if (canonicalValue == null) {
+            return value;
+        }
+        if (canonicalValue != value) {
+            sharedStrings++;
+        }
+        return canonicalValue;
+    }
+
+}
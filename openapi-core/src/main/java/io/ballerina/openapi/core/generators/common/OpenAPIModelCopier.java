@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Structural deep copy of a parsed OpenAPI model.
+ * <p>
+ * Every model object is copied field by field into a new instance of the same class, hence the copy keeps the
+ * concrete {@code Schema} subclasses created by the parser. Instances shared within the model, e.g. the schemas
+ * shared after reference resolution, stay shared within the copy and recursive schemas are copied as cycles.
+ * Immutable values such as strings, numbers and enum constants are shared with the original model.
+ *
+ * @since 2.2.0
+ */
+public final class OpenAPIModelCopier {
+
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+    private OpenAPIModelCopier() {
+    }
+
+    /**
+     * Create an independent copy of the given model.
+     *
+     * @param openAPI OpenAPI model
+     * @return deep copy of the model
+     */
+    public static OpenAPI copy(OpenAPI openAPI) {
+        if (openAPI == null) {
+            return null;
+        }
+        return (OpenAPI) new OpenAPIModelCopier().copyValue(openAPI);
+    }
+
+    private Object copyValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Object existingCopy = copies.get(value);
+        if (existingCopy != null) {
+            return existingCopy;
+        }
+        try {
+            if (ModelFields.isModelClass(value.getClass())) {
+                return copyModel(value);
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to copy the OpenAPI model: " + e.getMessage(), e);
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> mapCopy = newInstanceOf(map, LinkedHashMap::new);
+            copies.put(value, mapCopy);
+            copyEntries(map, mapCopy);
+            return mapCopy;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> listCopy = newInstanceOf(list, ArrayList::new);
+            copies.put(value, listCopy);
+            copyElements(list, listCopy);
+            return listCopy;
+        }
+        if (value instanceof Set<?> set) {
+            Set<Object> setCopy = newInstanceOf(set, LinkedHashSet::new);
+            copies.put(value, setCopy);
+            copyElements(set, setCopy);
+            return setCopy;
+        }
+        if (value instanceof JsonNode jsonNode) {
+            return jsonNode.deepCopy();
+        }
+        // Strings, numbers, booleans, enum constants and the other example values are not modified by the generators
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copyModel(Object model) throws ReflectiveOperationException {
+        Object modelCopy = ModelFields.newInstance(model.getClass());
+        copies.put(model, modelCopy);
+        for (Field field : ModelFields.getFields(model.getClass())) {
+            field.set(modelCopy, copyValue(field.get(model)));
+        }
+        // Models such as Paths, ApiResponses and Content are maps themselves
+        if (model instanceof Map<?, ?> map) {
+            copyEntries(map, (Map<Object, Object>) modelCopy);
+        } else if (model instanceof Collection<?> collection) {
+            copyElements(collection, (Collection<Object>) modelCopy);
+        }
+        return modelCopy;
+    }
+
+    /**
+     * Create an empty collection of the same class as the given JDK collection, falling back to the given default
+     * for the collections without a public no-arg constructor, e.g. the unmodifiable views.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T newInstanceOf(Object collection, Supplier<T> defaultCollection) {
+        Class<?> type = collection.getClass();
+        if (Modifier.isPublic(type.getModifiers()) && type.getName().startsWith("java.util.")) {
+            try {
+                return (T) type.getConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                // Use the default collection
+            }
+        }
+        return defaultCollection.get();
+    }
+
+    private void copyEntries(Map<?, ?> source, Map<Object, Object> target) {
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            target.put(copyValue(entry.getKey()), copyValue(entry.getValue()));
+        }
+    }
+
+    private void copyElements(Collection<?> source, Collection<Object> target) {
+        for (Object element : source) {
+            target.add(copyValue(element));
+        }
+    }
+}
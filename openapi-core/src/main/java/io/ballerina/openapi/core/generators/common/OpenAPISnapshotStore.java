@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * On-disk store for snapshots of normalized OpenAPI models.
+ * <p>
+ * A snapshot holds the model produced by {@code GeneratorUtils.normalizeOpenAPI}, so a warm run can skip YAML
+ * parsing, reference resolution, flattening and normalization. A snapshot file starts with a binary header carrying
+ * the format version, the build hash, the contract content hash and the normalization variant, followed by the GZIP
+ * compressed {@link OpenAPIModelCodec} form of the model, which restores the same model classes the parser created.
+ * A snapshot is only used when every header field matches, hence an edited contract or a rebuilt generator always
+ * falls back to a full parse.
+ * <p>
+ * The build hash covers the tool version with the size and the modification time of a released generator jar, and
+ * the content of a snapshot jar or a class directory, so snapshots written by an older local development build are
+ * not reused either. The store keeps at most {@value #DEFAULT_MAX_SNAPSHOTS} snapshots
+ * and removes the least recently used ones, including the snapshots of older builds, once the limit is exceeded.
+ *
+ * @since 2.2.0
+ */
+public class OpenAPISnapshotStore {
+
+    public static final String SNAPSHOT_DIRECTORY = "openapi-snapshots";
+    private static final String SNAPSHOT_EXTENSION = ".snapshot";
+    private static final int MAGIC = 0x4F41534E;
+    private static final short FORMAT_VERSION = 2;
+    private static final int DEFAULT_MAX_SNAPSHOTS = 16;
+    private static final String DEVELOPMENT_VERSION = "development";
+    private static final String SNAPSHOT_VERSION_SUFFIX = "-SNAPSHOT";
+    private static volatile String buildHash;
+
+    private final Path snapshotDirectory;
+    private final String buildId;
+    private final int maxSnapshots;
+
+    /**
+     * Create a snapshot store which keeps the snapshots inside the given cache directory.
+     *
+     * @param cacheDirectory cache directory such as the project {@code target} directory or the tool cache path
+     */
+    public OpenAPISnapshotStore(Path cacheDirectory) {
+        this(cacheDirectory, getBuildHash(), DEFAULT_MAX_SNAPSHOTS);
+    }
+
+    OpenAPISnapshotStore(Path cacheDirectory, String buildId, int maxSnapshots) {
+        this.snapshotDirectory = cacheDirectory.resolve(SNAPSHOT_DIRECTORY);
+        this.buildId = buildId;
+        this.maxSnapshots = Math.max(1, maxSnapshots);
+    }
+
+    /**
+     * Compute the content hash of the given contract, which is used to look up its snapshots.
+     *
+     * @param contractPath path of the OpenAPI contract
+     * @return hex encoded SHA-256 hash of the contract content
+     * @throws IOException when the contract cannot be read
+     */
+    public static String getContentHash(Path contractPath) throws IOException {
+        return ContractReader.open(contractPath).getContentHash();
+    }
+
+    /**
+     * Load the snapshot stored for the given contract hash and normalization variant.
+     *
+     * @param contentHash content hash of the contract
+     * @param variant     normalization variant, e.g. the normalization flags
+     * @return the normalized model, or an empty optional if there is no valid snapshot
+     */
+    public Optional<OpenAPI> load(String contentHash, String variant) {
+        Path snapshotPath = getSnapshotPath(contentHash, variant);
+        if (!Files.isRegularFile(snapshotPath)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(snapshotPath)))) {
+            if (input.readInt() != MAGIC || input.readShort() != FORMAT_VERSION ||
+                    !buildId.equals(input.readUTF()) || !contentHash.equals(input.readUTF()) ||
+                    !variant.equals(input.readUTF())) {
+                return Optional.empty();
+            }
+            OpenAPI openAPI;
+            try (InputStream body = new GZIPInputStream(input)) {
+                openAPI = OpenAPIModelCodec.read(new DataInputStream(new BufferedInputStream(body)));
+            }
+            // The modification time orders the snapshots for the least recently used eviction
+            touchQuietly(snapshotPath);
+            return Optional.of(openAPI);
+        } catch (IOException | RuntimeException e) {
+            // A corrupted or partially written snapshot is treated as a cache miss
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Store a snapshot of the given normalized model. Failures are ignored since the snapshot is only an
+     * optimization.
+     *
+     * @param contentHash content hash of the contract
+     * @param variant     normalization variant, e.g. the normalization flags
+     * @param openAPI     normalized model
+     * @return {@code true} if the snapshot was written
+     */
+    public boolean store(String contentHash, String variant, OpenAPI openAPI) {
+        Path snapshotPath = getSnapshotPath(contentHash, variant);
+        Path tempPath = null;
+        try {
+            Files.createDirectories(snapshotDirectory);
+            tempPath = Files.createTempFile(snapshotDirectory, contentHash, ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(tempPath)))) {
+                output.writeInt(MAGIC);
+                output.writeShort(FORMAT_VERSION);
+                output.writeUTF(buildId);
+                output.writeUTF(contentHash);
+                output.writeUTF(variant);
+                DataOutputStream body = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(output)));
+                OpenAPIModelCodec.write(openAPI, body);
+                body.close();
+            }
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            prune(snapshotPath);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(tempPath);
+            return false;
+        }
+    }
+
+    /**
+     * Remove the least recently used snapshots above the snapshot limit. The given snapshot, which was just written,
+     * is always kept.
+     */
+    private void prune(Path storedSnapshot) throws IOException {
+        List<Path> snapshots = new ArrayList<>();
+        try (Stream<Path> files = Files.list(snapshotDirectory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(SNAPSHOT_EXTENSION))
+                    .filter(file -> !file.equals(storedSnapshot))
+                    .forEach(snapshots::add);
+        }
+        if (snapshots.size() < maxSnapshots) {
+            return;
+        }
+        snapshots.sort(Comparator.comparing(OpenAPISnapshotStore::getLastModifiedTime).reversed());
+        for (Path snapshot : snapshots.subList(maxSnapshots - 1, snapshots.size())) {
+            deleteQuietly(snapshot);
+        }
+    }
+
+    private Path getSnapshotPath(String contentHash, String variant) {
+        String snapshotKey = OpenAPIContractCache.getContentHash(
+                (buildId + ":" + contentHash + ":" + variant).getBytes(StandardCharsets.UTF_8));
+        return snapshotDirectory.resolve(snapshotKey + SNAPSHOT_EXTENSION);
+    }
+
+    /**
+     * Get the hash identifying the running generator build. It is computed once per process. A released jar is
+     * identified by the tool version with the size and the last modified time of the jar, while the content of a
+     * snapshot jar, or of the class directory, holding the generator classes is hashed.
+     */
+    static String getBuildHash() {
+        String hash = buildHash;
+        if (hash == null) {
+            String version = OpenAPISnapshotStore.class.getPackage().getImplementationVersion();
+            hash = (version == null ? DEVELOPMENT_VERSION : version) + "-" + getCodeSourceKey(version);
+            buildHash = hash;
+        }
+        return hash;
+    }
+
+    private static String getCodeSourceKey(String version) {
+        try {
+            CodeSource codeSource = OpenAPISnapshotStore.class.getProtectionDomain().getCodeSource();
+            if (codeSource == null || codeSource.getLocation() == null) {
+                return "unknown";
+            }
+            Path location = Path.of(codeSource.getLocation().toURI());
+            if (version != null && !version.endsWith(SNAPSHOT_VERSION_SUFFIX) && Files.isRegularFile(location)) {
+                return Files.size(location) + "-" + Files.getLastModifiedTime(location).toMillis();
+            }
+            return getCodeSourceHash(location);
+        } catch (IOException | URISyntaxException | NoSuchAlgorithmException | RuntimeException e) {
+            // Without a build hash the snapshots of the current process are still consistent with each other, but
+            // a random value keeps them from being reused by a later build
+            return "unhashed-" + System.nanoTime();
+        }
+    }
+
+    private static String getCodeSourceHash(Path location) throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        if (Files.isDirectory(location)) {
+            try (Stream<Path> files = Files.walk(location)) {
+                for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                    digest.update(location.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                    digest.update(Files.readAllBytes(file));
+                }
+            }
+        } else {
+            digest.update(Files.readAllBytes(location));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static FileTime getLastModifiedTime(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void touchQuietly(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // Ignore, the snapshot is only evicted earlier
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Ignore, a stale file does not affect later runs
+        }
+    }
+}
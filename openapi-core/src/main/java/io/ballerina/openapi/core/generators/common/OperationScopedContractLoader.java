@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.common.model.Filter;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.JSON_EXTENSION;
+
+/**
+ * Loads only the part of an OpenAPI contract which is selected by the given {@link Filter}.
+ * <p>
+ * The contract is first read into a lightweight JSON tree, which serves as the index of its paths, operations and
+ * components. Operations which are not selected by the filter are dropped from the tree, and only the components
+ * transitively referenced by the remaining operations are kept. The swagger parser then resolves, flattens and
+ * builds the model for this scoped contract only, which keeps both the parse time and the heap usage proportional
+ * to the selected operations rather than to the size of the contract.
+ * <p>
+ * Swagger 2.0 contracts and unfiltered runs fall back to
+ * {@link GeneratorUtils#getOpenAPIFromOpenAPIV3Parser(Path)}.
+ *
+ * @since 2.2.0
+ */
+public final class OperationScopedContractLoader {
+
+    private static final String OPENAPI = "openapi";
+    private static final String PATHS = "paths";
+    private static final String COMPONENTS = "components";
+    private static final String WEBHOOKS = "webhooks";
+    private static final String PARAMETERS = "parameters";
+    private static final String TAGS = "tags";
+    private static final String OPERATION_ID = "operationId";
+    private static final String REF = "$ref";
+    private static final String DISCRIMINATOR = "discriminator";
+    private static final String MAPPING = "mapping";
+    private static final String SCHEMAS = "schemas";
+    private static final String COMPONENTS_REF_PREFIX = "#/components/";
+    private static final String SCHEMAS_REF_PREFIX = COMPONENTS_REF_PREFIX + SCHEMAS + "/";
+    private static final List<String> HTTP_METHODS = List.of("get", "put", "post", "delete", "options", "head",
+            "patch", "trace");
+    // Security schemes are not pruned since they are looked up by name from the security requirements
+    private static final Set<String> PRUNED_COMPONENT_SECTIONS = Set.of(SCHEMAS, "responses", PARAMETERS,
+            "examples", "requestBodies", "headers", "links", "callbacks", "pathItems");
+
+    private OperationScopedContractLoader() {
+    }
+
+    /**
+     * Load the OpenAPI model which contains only the operations selected by the given filter and the components
+     * they refer to.
+     *
+     * @param definitionPath path of the OpenAPI contract
+     * @param filter         tags and operations to be included
+     * @return scoped OpenAPI model
+     * @throws IOException               when the contract cannot be read
+     * @throws BallerinaOpenApiException when the contract is invalid
+     */
+    public static OpenAPI load(Path definitionPath, Filter filter) throws IOException, BallerinaOpenApiException {
+        if (filter.getTags().isEmpty() && filter.getOperations().isEmpty()) {
+            return GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        }
+        GeneratorUtils.validateContractPath(definitionPath);
+        String content = ContractReader.open(definitionPath).readString();
+        ObjectMapper mapper = definitionPath.toString().endsWith(JSON_EXTENSION) ? Json.mapper() : Yaml.mapper();
+        JsonNode root = mapper.readTree(content);
+        if (!(root instanceof ObjectNode rootNode) || !rootNode.has(OPENAPI)) {
+            return GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        }
+
+        Deque<JsonNode> pendingNodes = new ArrayDeque<>();
+        selectOperations(rootNode, filter, pendingNodes);
+        if (rootNode.has(WEBHOOKS)) {
+            pendingNodes.push(rootNode.get(WEBHOOKS));
+        }
+        Map<String, Set<String>> reachableComponents = getReachableComponents(rootNode, pendingNodes);
+        pruneComponents(rootNode, reachableComponents);
+
+        String scopedContent = Json.mapper().writeValueAsString(rootNode);
+        SwaggerParseResult parseResult = OpenAPIContractCache.getInstance().readContents(definitionPath,
+                scopedContent, GeneratorUtils.getDefaultParseOptions(),
+                OpenAPIContractCache.ParserType.OPENAPI_PARSER);
+        return GeneratorUtils.getOpenAPIFromParseResult(parseResult);
+    }
+
+    /**
+     * Remove the operations which are not selected by the filter and the paths left without operations. The
+     * selected operations and the path level parameters of their paths are added to the pending nodes.
+     */
+    private static void selectOperations(ObjectNode rootNode, Filter filter, Deque<JsonNode> pendingNodes) {
+        JsonNode paths = rootNode.get(PATHS);
+        if (paths == null || !paths.isObject()) {
+            return;
+        }
+        Iterator<Map.Entry<String, JsonNode>> pathIterator = paths.fields();
+        while (pathIterator.hasNext()) {
+            JsonNode pathItem = pathIterator.next().getValue();
+            if (!(pathItem instanceof ObjectNode pathItemNode)) {
+                continue;
+            }
+            // A referenced path item cannot be inspected without resolving it, hence it is kept as it is
+            boolean isSelected = pathItemNode.has(REF);
+            for (String method : HTTP_METHODS) {
+                JsonNode operation = pathItemNode.get(method);
+                if (operation == null) {
+                    continue;
+                }
+                if (isSelectedOperation(operation, filter)) {
+                    isSelected = true;
+                } else {
+                    pathItemNode.remove(method);
+                }
+            }
+            if (isSelected) {
+                pendingNodes.push(pathItemNode);
+            } else {
+                pathIterator.remove();
+            }
+        }
+    }
+
+    private static boolean isSelectedOperation(JsonNode operation, Filter filter) {
+        List<String> operationTags = null;
+        JsonNode tags = operation.get(TAGS);
+        if (tags != null && tags.isArray()) {
+            operationTags = new ArrayList<>();
+            for (JsonNode tag : tags) {
+                operationTags.add(tag.asText());
+            }
+        }
+        JsonNode operationId = operation.get(OPERATION_ID);
+        if (operationId == null || !operationId.isTextual() || operationId.asText().isBlank()) {
+            return filter.isSelected(operationTags, null);
+        }
+        // The contract is loaded before it is normalized, hence the operation ids given in the filter are matched
+        // against the normalized operation ids as well
+        return filter.isSelected(operationTags, operationId.asText()) ||
+                filter.getOperations().contains(GeneratorUtils.getValidName(operationId.asText(), false));
+    }
+
+    /**
+     * Walk the pending nodes and collect the components which are transitively referenced by them.
+     *
+     * @return component names grouped by the component section
+     */
+    private static Map<String, Set<String>> getReachableComponents(ObjectNode rootNode,
+                                                                   Deque<JsonNode> pendingNodes) {
+        Map<String, Set<String>> reachableComponents = new HashMap<>();
+        Set<String> visitedRefs = new HashSet<>();
+        while (!pendingNodes.isEmpty()) {
+            JsonNode node = pendingNodes.pop();
+            if (node.isArray()) {
+                node.forEach(pendingNodes::push);
+                continue;
+            }
+            if (!node.isObject()) {
+                continue;
+            }
+            JsonNode ref = node.get(REF);
+            if (ref != null && ref.isTextual()) {
+                addComponentReference(rootNode, ref.asText(), visitedRefs, reachableComponents, pendingNodes);
+            }
+            JsonNode discriminator = node.get(DISCRIMINATOR);
+            if (discriminator != null && discriminator.get(MAPPING) != null) {
+                for (JsonNode mappedSchema : discriminator.get(MAPPING)) {
+                    String mappedRef = mappedSchema.asText();
+                    addComponentReference(rootNode, mappedRef.startsWith("#") ? mappedRef :
+                            SCHEMAS_REF_PREFIX + mappedRef, visitedRefs, reachableComponents, pendingNodes);
+                }
+            }
+            node.forEach(pendingNodes::push);
+        }
+        return reachableComponents;
+    }
+
+    private static void addComponentReference(ObjectNode rootNode, String ref, Set<String> visitedRefs,
+                                              Map<String, Set<String>> reachableComponents,
+                                              Deque<JsonNode> pendingNodes) {
+        if (!ref.startsWith(COMPONENTS_REF_PREFIX) || !visitedRefs.add(ref)) {
+            return;
+        }
+        String[] segments = ref.substring(COMPONENTS_REF_PREFIX.length()).split("/", 3);
+        if (segments.length < 2) {
+            return;
+        }
+        String section = segments[0];
+        String escapedName = segments[1];
+        String name = escapedName.replace("~1", "/").replace("~0", "~");
+        if (!reachableComponents.computeIfAbsent(section, key -> new HashSet<>()).add(name)) {
+            return;
+        }
+        JsonNode component = rootNode.at(JsonPointer.compile("/" + COMPONENTS + "/" + section + "/" +
+                escapedName));
+        if (!component.isMissingNode()) {
+            pendingNodes.push(component);
+        }
+    }
+
+    private static void pruneComponents(ObjectNode rootNode, Map<String, Set<String>> reachableComponents) {
+        JsonNode components = rootNode.get(COMPONENTS);
+        if (components == null || !components.isObject()) {
+            return;
+        }
+        for (String section : PRUNED_COMPONENT_SECTIONS) {
+            JsonNode sectionNode = components.get(section);
+            if (sectionNode == null || !sectionNode.isObject()) {
+                continue;
+            }
+            Set<String> reachableNames = reachableComponents.getOrDefault(section, Set.of());
+            Iterator<String> names = sectionNode.fieldNames();
+            while (names.hasNext()) {
+                if (!reachableNames.contains(names.next())) {
+                    names.remove();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Runs a normalization task for every path item of an OpenAPI model, on the fork-join pool when the model is large.
+ * <p>
+ * The results are returned in the order of the given path items, so callers merge them, and the diagnostics they
+ * carry, the same way as in a sequential run. The tasks update the path items in place, including the nested
+ * property, item and composed schemas, hence a path item which shares an operation, parameter, request body,
+ * response, header or any schema reachable from them with another path item (e.g. a resolved reference) is processed
+ * sequentially in the declared order after the independent path items. This keeps
+ * the normalized model identical to the one produced by a sequential run.
+ * <p>
+ * The sequential run is used for small models, and is forced with the {@value #SEQUENTIAL_PROPERTY} system property.
+ *
+ * @since 2.2.0
+ */
+public final class ParallelPathProcessor {
+
+    public static final String SEQUENTIAL_PROPERTY = "openapi.normalization.sequential";
+
+    private ParallelPathProcessor() {
+    }
+
+    public static boolean isSequential() {
+        return Boolean.getBoolean(SEQUENTIAL_PROPERTY);
+    }
+
+    /**
+     * Apply the task to every path item.
+     *
+     * @param paths path items of the OpenAPI model
+     * @param task  task to be applied to a path item
+     * @return results of the task in the order of the given path items
+     */
+    static <R> List<R> process(Collection<Map.Entry<String, PathItem>> paths,
+                               Function<Map.Entry<String, PathItem>, R> task) {
+        List<Map.Entry<String, PathItem>> pathList = new ArrayList<>(paths);
+        if (isSequential() || pathList.size() < GeneratorConstants.PARALLEL_THRESHOLD) {
+            List<R> results = new ArrayList<>(pathList.size());
+            for (Map.Entry<String, PathItem> path : pathList) {
+                results.add(task.apply(path));
+            }
+            return results;
+        }
+
+        boolean[] isShared = findSharedPathItems(pathList);
+        Object[] results = new Object[pathList.size()];
+        IntStream.range(0, pathList.size()).parallel()
+                .filter(index -> !isShared[index])
+                .forEach(index -> results[index] = task.apply(pathList.get(index)));
+        for (int index = 0; index < pathList.size(); index++) {
+            if (isShared[index]) {
+                results[index] = task.apply(pathList.get(index));
+            }
+        }
+        @SuppressWarnings("unchecked")
+        List<R> orderedResults = (List<R>) Arrays.asList(results);
+        return orderedResults;
+    }
+
+    /**
+     * Mark the path items which share an updatable node with another path item.
+     */
+    private static boolean[] findSharedPathItems(List<Map.Entry<String, PathItem>> pathList) {
+        boolean[] isShared = new boolean[pathList.size()];
+        Map<Object, Integer> owners = new IdentityHashMap<>();
+        for (int index = 0; index < pathList.size(); index++) {
+            Set<Object> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+            collectNodes(pathList.get(index).getValue(), nodes);
+            for (Object node : nodes) {
+                Integer owner = owners.putIfAbsent(node, index);
+                if (Objects.nonNull(owner) && owner != index) {
+                    isShared[owner] = true;
+                    isShared[index] = true;
+                }
+            }
+        }
+        return isShared;
+    }
+
+    /**
+     * Collect the updatable nodes of the given path item. Every node is collected once, and the schemas are
+     * collected together with all their nested schemas.
+     */
+    private static void collectNodes(PathItem pathItem, Collection<Object> nodes) {
+        if (Objects.isNull(pathItem)) {
+            return;
+        }
+        nodes.add(pathItem);
+        collectParameters(pathItem.getParameters(), nodes);
+        for (Operation operation : pathItem.readOperations()) {
+            nodes.add(operation);
+            collectParameters(operation.getParameters(), nodes);
+            RequestBody requestBody = operation.getRequestBody();
+            if (Objects.nonNull(requestBody)) {
+                nodes.add(requestBody);
+                collectContent(requestBody.getContent(), nodes);
+            }
+            if (Objects.nonNull(operation.getResponses())) {
+                for (ApiResponse response : operation.getResponses().values()) {
+                    if (Objects.nonNull(response)) {
+                        nodes.add(response);
+                        collectContent(response.getContent(), nodes);
+                        collectHeaders(response.getHeaders(), nodes);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void collectParameters(List<Parameter> parameters, Collection<Object> nodes) {
+        if (Objects.isNull(parameters)) {
+            return;
+        }
+        for (Parameter parameter : parameters) {
+            if (Objects.nonNull(parameter)) {
+                nodes.add(parameter);
+                collectSchema(parameter.getSchema(), nodes);
+                collectContent(parameter.getContent(), nodes);
+            }
+        }
+    }
+
+    private static void collectHeaders(Map<String, Header> headers, Collection<Object> nodes) {
+        if (Objects.isNull(headers)) {
+            return;
+        }
+        for (Header header : headers.values()) {
+            if (Objects.nonNull(header)) {
+                nodes.add(header);
+                collectSchema(header.getSchema(), nodes);
+                collectContent(header.getContent(), nodes);
+            }
+        }
+    }
+
+    private static void collectContent(Content content, Collection<Object> nodes) {
+        if (Objects.isNull(content)) {
+            return;
+        }
+        for (MediaType mediaType : content.values()) {
+            if (Objects.nonNull(mediaType)) {
+                collectSchema(mediaType.getSchema(), nodes);
+            }
+        }
+    }
+
+    /**
+     * Collect the given schema and its nested schemas. The schema walk uses an explicit stack, since the nested
+     * schemas of a resolved model can be deep and recursive.
+     */
+    private static void collectSchema(Schema<?> rootSchema, Collection<Object> nodes) {
+        Deque<Schema<?>> pendingSchemas = new ArrayDeque<>();
+        pushSchema(rootSchema, pendingSchemas);
+        while (!pendingSchemas.isEmpty()) {
+            Schema<?> schema = pendingSchemas.pop();
+            if (!nodes.add(schema)) {
+                continue;
+            }
+            if (Objects.nonNull(schema.getProperties())) {
+                schema.getProperties().values().forEach(property -> pushSchema(property, pendingSchemas));
+            }
+            pushSchema(schema.getItems(), pendingSchemas);
+            pushSchema(schema.getNot(), pendingSchemas);
+            if (schema.getAdditionalProperties() instanceof Schema<?> additionalProperties) {
+                pushSchema(additionalProperties, pendingSchemas);
+            }
+            pushSchemas(schema.getAllOf(), pendingSchemas);
+            pushSchemas(schema.getAnyOf(), pendingSchemas);
+            pushSchemas(schema.getOneOf(), pendingSchemas);
+            pushSchemas(schema.getPrefixItems(), pendingSchemas);
+            if (Objects.nonNull(schema.getPatternProperties())) {
+                schema.getPatternProperties().values().forEach(property -> pushSchema(property, pendingSchemas));
+            }
+        }
+    }
+
+    private static void pushSchemas(List<Schema> schemas, Deque<Schema<?>> pendingSchemas) {
+        if (Objects.nonNull(schemas)) {
+            schemas.forEach(schema -> pushSchema(schema, pendingSchemas));
+        }
+    }
+
+    private static void pushSchema(Schema<?> schema, Deque<Schema<?>> pendingSchemas) {
+        if (Objects.nonNull(schema)) {
+            pendingSchemas.push(schema);
+        }
+    }
+}
@@ -0,0 +1,452 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Index of the references between the operations and the components of an OpenAPI model.
+ * <p>
+ * The graph has a node for every operation and every component, and an edge from a node to each component it refers
+ * to through a {@code $ref} or a discriminator mapping. Inline schemas, parameters, request bodies and responses
+ * belong to the node which declares them, so the references made inside them are edges of their owner. The graph is
+ * built with a single traversal of the model and keeps both the forward and the reverse edges, hence reachability
+ * queries and the strongly connected components (recursive types) are computed in time linear to the size of the
+ * graph.
+ *
+ * @since 2.2.0
+ */
+public final class SchemaReferenceGraph {
+
+    private static final String COMPONENTS_REF_PREFIX = "#/components/";
+    private static final String SCHEMAS_REF_PREFIX = COMPONENTS_REF_PREFIX + "schemas/";
+
+    /**
+     * Kind of a graph node.
+     */
+    public enum NodeKind {
+        OPERATION,
+        COMPONENT
+    }
+
+    /**
+     * Node of the graph. Components are identified by their reference, e.g. {@code #/components/schemas/Pet}, and
+     * operations by the HTTP method and the path, e.g. {@code get /pets}.
+     *
+     * @param kind kind of the node
+     * @param id   identifier of the node
+     */
+    public record Node(NodeKind kind, String id) {
+
+        public static Node ofSchema(String schemaName) {
+            return new Node(NodeKind.COMPONENT, SCHEMAS_REF_PREFIX + schemaName);
+        }
+
+        public static Node ofComponent(String ref) {
+            return new Node(NodeKind.COMPONENT, ref);
+        }
+
+        public static Node ofOperation(String path, PathItem.HttpMethod method) {
+            return new Node(NodeKind.OPERATION, method.name().toLowerCase(Locale.ENGLISH) + " " + path);
+        }
+
+        public boolean isSchema() {
+            return kind == NodeKind.COMPONENT && id.startsWith(SCHEMAS_REF_PREFIX);
+        }
+
+        /**
+         * Get the name of the component, which is the last segment of its reference.
+         */
+        public String componentName() {
+            return id.substring(id.lastIndexOf('/') + 1);
+        }
+    }
+
+    private final Map<Node, Set<Node>> forwardEdges = new LinkedHashMap<>();
+    private final Map<Node, Set<Node>> reverseEdges = new HashMap<>();
+    private List<Set<Node>> stronglyConnectedComponents;
+    private Set<Node> recursiveNodes;
+
+    private SchemaReferenceGraph() {
+    }
+
+    /**
+     * Build the reference graph of the given model.
+     *
+     * @param openAPI OpenAPI model
+     * @return reference graph
+     */
+    public static SchemaReferenceGraph build(OpenAPI openAPI) {
+        SchemaReferenceGraph graph = new SchemaReferenceGraph();
+        GraphBuilder builder = graph.new GraphBuilder();
+        if (Objects.nonNull(openAPI.getPaths())) {
+            openAPI.getPaths().forEach((path, pathItem) -> builder.addPathItemOperations(path, pathItem));
+        }
+        if (Objects.nonNull(openAPI.getWebhooks())) {
+            openAPI.getWebhooks().forEach((name, pathItem) -> builder.addPathItemOperations(name, pathItem));
+        }
+        Components components = openAPI.getComponents();
+        if (Objects.nonNull(components)) {
+            builder.addComponents("schemas", components.getSchemas(), GraphBuilder::addSchema);
+            builder.addComponents("responses", components.getResponses(), GraphBuilder::addResponse);
+            builder.addComponents("parameters", components.getParameters(), GraphBuilder::addParameter);
+            builder.addComponents("requestBodies", components.getRequestBodies(), GraphBuilder::addRequestBody);
+            builder.addComponents("headers", components.getHeaders(), GraphBuilder::addHeader);
+            builder.addComponents("callbacks", components.getCallbacks(), GraphBuilder::addCallback);
+            builder.addComponents("pathItems", components.getPathItems(), GraphBuilder::addPathItem);
+        }
+        graph.indexStronglyConnectedComponents();
+        return graph;
+    }
+
+    /**
+     * Get all the nodes of the graph, in the order the operations and the components are declared.
+     */
+    public Set<Node> getNodes() {
+        return Collections.unmodifiableSet(forwardEdges.keySet());
+    }
+
+    /**
+     * Get the components directly referred by the given node.
+     */
+    public Set<Node> getReferences(Node node) {
+        return Collections.unmodifiableSet(forwardEdges.getOrDefault(node, Collections.emptySet()));
+    }
+
+    /**
+     * Get the nodes which directly refer to the given component.
+     */
+    public Set<Node> getReferrers(Node node) {
+        return Collections.unmodifiableSet(reverseEdges.getOrDefault(node, Collections.emptySet()));
+    }
+
+    /**
+     * Get the given nodes and all the components transitively referred by them.
+     */
+    public Set<Node> getReachableNodes(Collection<Node> roots) {
+        return traverse(roots, forwardEdges);
+    }
+
+    /**
+     * Get the given nodes and all the nodes which transitively refer to them.
+     */
+    public Set<Node> getDependentNodes(Collection<Node> nodes) {
+        return traverse(nodes, reverseEdges);
+    }
+
+    /**
+     * Get the strongly connected components of the graph. A component is listed after all the components it refers
+     * to, which makes the order suitable for generating the referred types first.
+     *
+     * @return strongly connected components in reverse topological order
+     */
+    public List<Set<Node>> getStronglyConnectedComponents() {
+        return stronglyConnectedComponents;
+    }
+
+    /**
+     * Check whether the given node refers to itself directly or through other components.
+     */
+    public boolean isRecursive(Node node) {
+        return recursiveNodes.contains(node);
+    }
+
+    /**
+     * Compute the strongly connected components once the graph is complete, together with the set of recursive
+     * nodes, so the lookups do not scan the components.
+     */
+    private void indexStronglyConnectedComponents() {
+        stronglyConnectedComponents = Collections.unmodifiableList(computeStronglyConnectedComponents());
+        Set<Node> recursive = new HashSet<>();
+        for (Set<Node> component : stronglyConnectedComponents) {
+            if (component.size() > 1) {
+                recursive.addAll(component);
+            } else {
+                Node node = component.iterator().next();
+                if (getReferences(node).contains(node)) {
+                    recursive.add(node);
+                }
+            }
+        }
+        recursiveNodes = recursive;
+    }
+
+    private static Set<Node> traverse(Collection<Node> roots, Map<Node, Set<Node>> edges) {
+        Set<Node> visited = new LinkedHashSet<>();
+        Deque<Node> pending = new ArrayDeque<>(roots);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            if (visited.add(node)) {
+                edges.getOrDefault(node, Collections.emptySet()).forEach(pending::push);
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Tarjan's algorithm with an explicit stack, since the reference chains of large contracts can be deeper than
+     * the call stack allows.
+     */
+    private List<Set<Node>> computeStronglyConnectedComponents() {
+        List<Set<Node>> components = new ArrayList<>();
+        Map<Node, Integer> indexes = new HashMap<>();
+        Map<Node, Integer> lowLinks = new HashMap<>();
+        Deque<Node> nodeStack = new ArrayDeque<>();
+        Set<Node> onStack = new HashSet<>();
+        Deque<Map.Entry<Node, Iterator<Node>>> callStack = new ArrayDeque<>();
+
+        for (Node root : forwardEdges.keySet()) {
+            if (indexes.containsKey(root)) {
+                continue;
+            }
+            visit(root, indexes, lowLinks, nodeStack, onStack, callStack);
+            while (!callStack.isEmpty()) {
+                Node node = callStack.peek().getKey();
+                Iterator<Node> successors = callStack.peek().getValue();
+                if (successors.hasNext()) {
+                    Node successor = successors.next();
+                    if (!indexes.containsKey(successor)) {
+                        visit(successor, indexes, lowLinks, nodeStack, onStack, callStack);
+                    } else if (onStack.contains(successor)) {
+                        lowLinks.put(node, Math.min(lowLinks.get(node), indexes.get(successor)));
+                    }
+                    continue;
+                }
+                callStack.pop();
+                if (!callStack.isEmpty()) {
+                    Node parent = callStack.peek().getKey();
+                    lowLinks.put(parent, Math.min(lowLinks.get(parent), lowLinks.get(node)));
+                }
+                if (lowLinks.get(node).equals(indexes.get(node))) {
+                    Set<Node> component = new LinkedHashSet<>();
+                    Node member;
+                    do {
+                        member = nodeStack.pop();
+                        onStack.remove(member);
+                        component.add(member);
+                    } while (!member.equals(node));
+                    components.add(component);
+                }
+            }
+        }
+        return components;
+    }
+
+    private void visit(Node node, Map<Node, Integer> indexes, Map<Node, Integer> lowLinks, Deque<Node> nodeStack,
+                       Set<Node> onStack, Deque<Map.Entry<Node, Iterator<Node>>> callStack) {
+        int index = indexes.size();
+        indexes.put(node, index);
+        lowLinks.put(node, index);
+        nodeStack.push(node);
+        onStack.add(node);
+        callStack.push(Map.entry(node, getReferences(node).iterator()));
+    }
+
+    private Set<Node> addNode(Node node) {
+        return forwardEdges.computeIfAbsent(node, key -> new LinkedHashSet<>());
+    }
+
+    private void addEdge(Node from, String ref) {
+        if (!ref.startsWith(COMPONENTS_REF_PREFIX)) {
+            return;
+        }
+        Node to = Node.ofComponent(ref);
+        addNode(to);
+        if (addNode(from).add(to)) {
+            reverseEdges.computeIfAbsent(to, key -> new LinkedHashSet<>()).add(from);
+        }
+    }
+
+    /**
+     * Walks the model and records the references made inside each operation and component.
+     */
+    private final class GraphBuilder {
+
+        private Node owner;
+        private final Set<Object> visitedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private void setOwner(Node node) {
+            owner = node;
+            visitedNodes.clear();
+            addNode(node);
+        }
+
+        private void addPathItemOperations(String path, PathItem pathItem) {
+            if (Objects.isNull(pathItem)) {
+                return;
+            }
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation : pathItem.readOperationsMap().entrySet()) {
+                setOwner(Node.ofOperation(path, operation.getKey()));
+                addRef(pathItem.get$ref());
+                addAll(pathItem.getParameters(), this::addParameter);
+                addOperation(operation.getValue());
+            }
+        }
+
+        private <T> void addComponents(String section, Map<String, T> components,
+                                       BiConsumer<GraphBuilder, T> adder) {
+            if (Objects.isNull(components)) {
+                return;
+            }
+            for (Map.Entry<String, T> component : components.entrySet()) {
+                setOwner(Node.ofComponent(COMPONENTS_REF_PREFIX + section + "/" + component.getKey()));
+                adder.accept(this, component.getValue());
+            }
+        }
+
+        private void addPathItem(PathItem pathItem) {
+            if (Objects.isNull(pathItem) || !visitedNodes.add(pathItem)) {
+                return;
+            }
+            addRef(pathItem.get$ref());
+            addAll(pathItem.getParameters(), this::addParameter);
+            pathItem.readOperations().forEach(this::addOperation);
+        }
+
+        private void addOperation(Operation operation) {
+            addAll(operation.getParameters(), this::addParameter);
+            addRequestBody(operation.getRequestBody());
+            if (Objects.nonNull(operation.getResponses())) {
+                operation.getResponses().values().forEach(this::addResponse);
+            }
+            if (Objects.nonNull(operation.getCallbacks())) {
+                operation.getCallbacks().values().forEach(this::addCallback);
+            }
+        }
+
+        private void addCallback(Callback callback) {
+            if (Objects.nonNull(callback)) {
+                callback.values().forEach(this::addPathItem);
+            }
+        }
+
+        private void addParameter(Parameter parameter) {
+            if (Objects.isNull(parameter) || !visitedNodes.add(parameter)) {
+                return;
+            }
+            addRef(parameter.get$ref());
+            addSchema(parameter.getSchema());
+            addContent(parameter.getContent());
+        }
+
+        private void addRequestBody(RequestBody requestBody) {
+            if (Objects.isNull(requestBody) || !visitedNodes.add(requestBody)) {
+                return;
+            }
+            addRef(requestBody.get$ref());
+            addContent(requestBody.getContent());
+        }
+
+        private void addResponse(ApiResponse response) {
+            if (Objects.isNull(response) || !visitedNodes.add(response)) {
+                return;
+            }
+            addRef(response.get$ref());
+            if (Objects.nonNull(response.getHeaders())) {
+                response.getHeaders().values().forEach(this::addHeader);
+            }
+            addContent(response.getContent());
+        }
+
+        private void addHeader(Header header) {
+            if (Objects.isNull(header) || !visitedNodes.add(header)) {
+                return;
+            }
+            addRef(header.get$ref());
+            addSchema(header.getSchema());
+            addContent(header.getContent());
+        }
+
+        private void addContent(Content content) {
+            if (Objects.nonNull(content)) {
+                content.values().stream().map(MediaType::getSchema).forEach(this::addSchema);
+            }
+        }
+
+        private void addSchema(Schema<?> schema) {
+            if (Objects.isNull(schema) || !visitedNodes.add(schema)) {
+                return;
+            }
+            addRef(schema.get$ref());
+            if (Objects.nonNull(schema.getDiscriminator()) &&
+                    Objects.nonNull(schema.getDiscriminator().getMapping())) {
+                for (String mappedSchema : schema.getDiscriminator().getMapping().values()) {
+                    addRef(mappedSchema.startsWith("#") ? mappedSchema : SCHEMAS_REF_PREFIX + mappedSchema);
+                }
+            }
+            if (Objects.nonNull(schema.getProperties())) {
+                schema.getProperties().values().forEach(this::addSchema);
+            }
+            if (Objects.nonNull(schema.getPatternProperties())) {
+                schema.getPatternProperties().values().forEach(this::addSchema);
+            }
+            addSchema(schema.getItems());
+            addSchema(schema.getNot());
+            addAll(schema.getAllOf(), this::addSchema);
+            addAll(schema.getAnyOf(), this::addSchema);
+            addAll(schema.getOneOf(), this::addSchema);
+            addAll(schema.getPrefixItems(), this::addSchema);
+            if (schema.getAdditionalProperties() instanceof Schema<?> additionalProperties) {
+                addSchema(additionalProperties);
+            }
+        }
+
+        private void addRef(String ref) {
+            if (Objects.nonNull(ref)) {
+                addEdge(owner, ref);
+            }
+        }
+    }
+
+    private static <T> void addAll(List<? extends T> nodes, Consumer<T> adder) {
+        if (Objects.nonNull(nodes)) {
+            nodes.forEach(adder);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Encoding;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Rewrites the schema references of an OpenAPI model in place.
+ * <p>
+ * Every schema reachable from the paths, webhooks and components is visited once, and a {@code $ref} which is found
+ * in the given reference mapping is replaced with the mapped reference. This is used when the component schemas are
+ * renamed, and runs in time linear to the size of the model.
+ *
+ * @since 2.2.0
+ */
+class SchemaReferenceUpdater {
+
+    private final Map<String, String> modifiedRefs;
+    private final Set<Object> visitedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * @param modifiedRefs mapping from the current schema references to the modified references
+     */
+    SchemaReferenceUpdater(Map<String, String> modifiedRefs) {
+        this.modifiedRefs = modifiedRefs;
+    }
+
+    void updateOpenAPI(OpenAPI openAPI) {
+        if (Objects.nonNull(openAPI.getPaths())) {
+            openAPI.getPaths().values().forEach(this::updatePathItem);
+        }
+        if (Objects.nonNull(openAPI.getWebhooks())) {
+            openAPI.getWebhooks().values().forEach(this::updatePathItem);
+        }
+        Components components = openAPI.getComponents();
+        if (Objects.isNull(components)) {
+            return;
+        }
+        updateAll(components.getSchemas(), this::updateSchema);
+        updateAll(components.getResponses(), this::updateResponse);
+        updateAll(components.getParameters(), this::updateParameter);
+        updateAll(components.getRequestBodies(), this::updateRequestBody);
+        updateAll(components.getHeaders(), this::updateHeader);
+        updateAll(components.getCallbacks(), this::updateCallback);
+        updateAll(components.getPathItems(), this::updatePathItem);
+    }
+
+    private void updatePathItem(PathItem pathItem) {
+        if (Objects.isNull(pathItem) || !visitedNodes.add(pathItem)) {
+            return;
+        }
+        updateAll(pathItem.getParameters(), this::updateParameter);
+        for (Operation operation : pathItem.readOperations()) {
+            updateAll(operation.getParameters(), this::updateParameter);
+            updateRequestBody(operation.getRequestBody());
+            updateAll(operation.getResponses(), this::updateResponse);
+            updateAll(operation.getCallbacks(), this::updateCallback);
+        }
+    }
+
+    private void updateCallback(Callback callback) {
+        if (Objects.nonNull(callback)) {
+            callback.values().forEach(this::updatePathItem);
+        }
+    }
+
+    private void updateParameter(Parameter parameter) {
+        if (Objects.isNull(parameter) || !visitedNodes.add(parameter)) {
+            return;
+        }
+        updateSchema(parameter.getSchema());
+        updateContent(parameter.getContent());
+    }
+
+    private void updateRequestBody(RequestBody requestBody) {
+        if (Objects.isNull(requestBody) || !visitedNodes.add(requestBody)) {
+            return;
+        }
+        updateContent(requestBody.getContent());
+    }
+
+    private void updateResponse(ApiResponse response) {
+        if (Objects.isNull(response) || !visitedNodes.add(response)) {
+            return;
+        }
+        updateAll(response.getHeaders(), this::updateHeader);
+        updateContent(response.getContent());
+    }
+
+    private void updateHeader(Header header) {
+        if (Objects.isNull(header) || !visitedNodes.add(header)) {
+            return;
+        }
+        updateSchema(header.getSchema());
+        updateContent(header.getContent());
+    }
+
+    private void updateContent(Content content) {
+        if (Objects.nonNull(content)) {
+            content.values().forEach(this::updateMediaType);
+        }
+    }
+
+    private void updateMediaType(MediaType mediaType) {
+        if (Objects.isNull(mediaType)) {
+            return;
+        }
+        updateSchema(mediaType.getSchema());
+        updateAll(mediaType.getEncoding(), this::updateEncoding);
+    }
+
+    private void updateEncoding(Encoding encoding) {
+        if (Objects.nonNull(encoding)) {
+            updateAll(encoding.getHeaders(), this::updateHeader);
+        }
+    }
+
+    private void updateSchema(Schema<?> schema) {
+        if (Objects.isNull(schema) || !visitedNodes.add(schema)) {
+            return;
+        }
+        String ref = schema.get$ref();
+        if (Objects.nonNull(ref) && modifiedRefs.containsKey(ref)) {
+            schema.set$ref(modifiedRefs.get(ref));
+        }
+        updateAll(schema.getProperties(), this::updateSchema);
+        updateAll(schema.getPatternProperties(), this::updateSchema);
+        updateSchema(schema.getItems());
+        updateSchema(schema.getNot());
+        updateAll(schema.getAllOf(), this::updateSchema);
+        updateAll(schema.getAnyOf(), this::updateSchema);
+        updateAll(schema.getOneOf(), this::updateSchema);
+        updateAll(schema.getPrefixItems(), this::updateSchema);
+        if (schema.getAdditionalProperties() instanceof Schema<?> additionalProperties) {
+            updateSchema(additionalProperties);
+        }
+        // The schema keywords of OpenAPI 3.1
+        updateSchema(schema.getContains());
+        updateSchema(schema.getIf());
+        updateSchema(schema.getThen());
+        updateSchema(schema.getElse());
+        updateAll(schema.getDependentSchemas(), this::updateSchema);
+        updateSchema(schema.getPropertyNames());
+        updateSchema(schema.getUnevaluatedItems());
+        updateSchema(schema.getUnevaluatedProperties());
+        updateSchema(schema.getContentSchema());
+    }
+
+    private static <T> void updateAll(Map<String, ? extends T> nodes, Consumer<T> updater) {
+        if (Objects.nonNull(nodes)) {
+            nodes.values().forEach(updater);
+        }
+    }
+
+    private static <T> void updateAll(List<? extends T> nodes, Consumer<T> updater) {
+        if (Objects.nonNull(nodes)) {
+            nodes.forEach(updater);
+        }
+    }
+}
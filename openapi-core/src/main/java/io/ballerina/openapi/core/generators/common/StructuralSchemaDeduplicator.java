@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.ballerina.openapi.core.generators.common.SchemaReferenceGraph.Node;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Generates structurally identical object schemas as a single shared type.
+ * <p>
+ * The parser names the inline schemas of a contract while flattening it, hence the same inline object, e.g. a
+ * pagination wrapper repeated under many responses, ends up as many component schemas which differ only in their
+ * descriptions and examples, and each of them is generated as a separate record. This stage hashes the structure of
+ * the component object schemas, without the documentation fields, and keeps one schema of each group of identical
+ * schemas. The other schemas of the group are replaced with a reference to it, hence they are generated as type
+ * aliases and the existing type names stay valid.
+ * <p>
+ * The schemas are visited with the referred schemas first, and a reference to a replaced schema is hashed as a
+ * reference to the kept schema, so the schemas which refer to identical schemas are identical too. The kept schema
+ * of a group is the first declared one. Recursive schemas are not deduplicated. The stage is enabled with the
+ * {@code --deduplicate-schemas} option of the CLI and the {@code deduplicateSchemas} tool option.
+ *
+ * @since 2.2.0
+ */
+public final class StructuralSchemaDeduplicator {
+
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+    private static final List<String> DOCUMENTATION_FIELDS = List.of("description", "title", "example", "examples",
+            "externalDocs");
+    private static final List<String> NESTED_SCHEMA_FIELDS = List.of("items", "additionalProperties", "not");
+    private static final List<String> SCHEMA_LIST_FIELDS = List.of("allOf", "oneOf", "anyOf");
+
+    /**
+     * Summary of a deduplication.
+     *
+     * @param sharedTypes    number of the schemas which are kept for a group of identical schemas
+     * @param aliasedSchemas number of the schemas which are replaced with a reference to a kept schema
+     * @param savedFields    number of the record fields which are not generated for the replaced schemas
+     */
+    public record DeduplicationResult(int sharedTypes, int aliasedSchemas, int savedFields) {
+    }
+
+    private StructuralSchemaDeduplicator() {
+    }
+
+    /**
+     * Deduplicate the component schemas of the given model in place.
+     *
+     * @param openAPI normalized OpenAPI model
+     * @return summary of the deduplication
+     */
+    public static DeduplicationResult deduplicate(OpenAPI openAPI) {
+        if (Objects.isNull(openAPI.getComponents()) || Objects.isNull(openAPI.getComponents().getSchemas())) {
+            return new DeduplicationResult(0, 0, 0);
+        }
+        Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        Map<String, Integer> declaredOrder = new HashMap<>();
+        for (String schemaName : schemas.keySet()) {
+            declaredOrder.put(schemaName, declaredOrder.size());
+        }
+
+        // Schema names are hashed as the first schema of their group, which is visited before the referring schemas
+        SchemaReferenceGraph graph = SchemaReferenceGraph.build(openAPI);
+        Map<String, String> hashedNames = new HashMap<>();
+        Map<String, List<String>> groups = new LinkedHashMap<>();
+        for (Set<Node> component : graph.getStronglyConnectedComponents()) {
+            Node node = component.iterator().next();
+            if (component.size() > 1 || !node.isSchema() || graph.isRecursive(node)) {
+                continue;
+            }
+            String schemaName = node.componentName();
+            Schema<?> schema = schemas.get(schemaName);
+            if (!isObjectSchema(schema)) {
+                continue;
+            }
+            List<String> group = groups.computeIfAbsent(getStructuralKey(schema, hashedNames),
+                    key -> new ArrayList<>());
+            group.add(schemaName);
+            hashedNames.put(schemaName, group.get(0));
+        }
+
+        int sharedTypes = 0;
+        int aliasedSchemas = 0;
+        int savedFields = 0;
+        for (List<String> group : groups.values()) {
+            if (group.size() < 2) {
+                continue;
+            }
+            group.sort(Comparator.comparing(declaredOrder::get));
+            String sharedName = group.get(0);
+            for (String schemaName : group.subList(1, group.size())) {
+                Schema<?> schema = schemas.get(schemaName);
+                savedFields += schema.getProperties().size();
+                Schema<?> alias = new Schema<>().$ref(SCHEMA_REF_PREFIX + sharedName);
+                alias.setDescription(schema.getDescription());
+                schemas.put(schemaName, alias);
+            }
+            sharedTypes++;
+            aliasedSchemas += group.size() - 1;
+        }
+        return new DeduplicationResult(sharedTypes, aliasedSchemas, savedFields);
+    }
+
+    private static boolean isObjectSchema(Schema<?> schema) {
+        return Objects.nonNull(schema) && Objects.isNull(schema.get$ref()) && Objects.nonNull(schema.getProperties())
+                && !schema.getProperties().isEmpty();
+    }
+
+    private static String getStructuralKey(Schema<?> schema, Map<String, String> hashedNames) {
+        JsonNode schemaNode = Json.mapper().valueToTree(schema);
+        normalize(schemaNode, hashedNames);
+        return schemaNode.toString();
+    }
+
+    /**
+     * Remove the documentation fields of the given schema and its nested schemas, and replace the references with
+     * the hashed names of the referred schemas.
+     */
+    private static void normalize(JsonNode node, Map<String, String> hashedNames) {
+        if (!(node instanceof ObjectNode schemaNode)) {
+            return;
+        }
+        schemaNode.remove(DOCUMENTATION_FIELDS);
+        JsonNode ref = schemaNode.get("$ref");
+        if (Objects.nonNull(ref) && ref.isTextual() && ref.asText().startsWith(SCHEMA_REF_PREFIX)) {
+            String schemaName = ref.asText().substring(SCHEMA_REF_PREFIX.length());
+            schemaNode.put("$ref", SCHEMA_REF_PREFIX + hashedNames.getOrDefault(schemaName, schemaName));
+        }
+        JsonNode properties = schemaNode.get("properties");
+        if (Objects.nonNull(properties)) {
+            properties.forEach(property -> normalize(property, hashedNames));
+        }
+        for (String field : NESTED_SCHEMA_FIELDS) {
+            normalize(schemaNode.get(field), hashedNames);
+        }
+        for (String field : SCHEMA_LIST_FIELDS) {
+            JsonNode schemaList = schemaNode.get(field);
+            if (Objects.nonNull(schemaList)) {
+                schemaList.forEach(listedSchema -> normalize(listedSchema, hashedNames));
+            }
+        }
+    }
+}
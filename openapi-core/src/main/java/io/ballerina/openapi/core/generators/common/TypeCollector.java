@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import io.ballerina.compiler.syntax.tree.IdentifierToken;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.TreeModifier;
+import io.ballerina.openapi.core.generators.type.BallerinaTypesGenerator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+
+/**
+ * Collects the type requests of a task of a generation run, such as the generation of the client functions of an
+ * operation.
+ * <p>
+ * Every task is generated with its own collector, hence the tasks can be generated concurrently without sharing the
+ * {@link TypeHandler} of the run, and the collectors are merged into the type handler of the run in the task order.
+ * The types which are named by the order of generation, such as the status code response records, are referred by
+ * placeholder names within the task. The merge names them in the same order as a sequential run, and the nodes
+ * generated by the task are resolved to the given names.
+ *
+ * @since 2.2.0
+ */
+public final class TypeCollector {
+
+    private static final String PLACEHOLDER_PREFIX = "__OpenApiTypePlaceholder";
+
+    private final GenerationContext taskContext;
+    private final List<Consumer<TypeHandler>> requests = new ArrayList<>();
+    private final Map<String, String> names = new HashMap<>();
+    private int placeholderCount = 0;
+
+    /**
+     * Create a collector of a task of the given generation run.
+     *
+     * @param runContext context of the generation run
+     */
+    public TypeCollector(GenerationContext runContext) {
+        this.taskContext = runContext.forTask(new TypeHandler(BallerinaTypesGenerator.createTaskGenerator(), this));
+    }
+
+    /**
+     * Run the given task with this collector as the type handler of the calling thread.
+     *
+     * @param task generation task
+     * @return result of the task
+     */
+    public <T> T run(Supplier<T> task) {
+        return taskContext.run(task::get);
+    }
+
+    /**
+     * Merge the collected type requests into the type handler of the current generation run, in the order they
+     * were collected.
+     */
+    public void merge() {
+        TypeHandler typeHandler = TypeHandler.getInstance();
+        requests.forEach(request -> request.accept(typeHandler));
+        requests.clear();
+    }
+
+    /**
+     * Replace the placeholder names in the given node with the names given by the merge.
+     *
+     * @param node node generated by the task
+     * @return node with the type names of the run
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Node> T resolve(T node) {
+        if (Objects.isNull(node) || names.isEmpty()) {
+            return node;
+        }
+        return (T) node.apply(new PlaceholderResolver());
+    }
+
+    String resolveName(String name) {
+        return names.getOrDefault(name, name);
+    }
+
+    void addRequest(Consumer<TypeHandler> request) {
+        requests.add(request);
+    }
+
+    /**
+     * Create a placeholder name of a type which is named by the merge.
+     */
+    String createPlaceholder() {
+        return PLACEHOLDER_PREFIX + placeholderCount++;
+    }
+
+    void setName(String placeholder, String name) {
+        names.put(placeholder, name);
+    }
+
+    /**
+     * Replaces the placeholder identifiers with the names given by the merge.
+     */
+    private class PlaceholderResolver extends TreeModifier {
+        @Override
+        public IdentifierToken transform(IdentifierToken identifier) {
+            String name = names.get(identifier.text());
+            return Objects.isNull(name) ? identifier :
+                    createIdentifierToken(name, identifier.leadingMinutiae(), identifier.trailingMinutiae());
+        }
+    }
+}
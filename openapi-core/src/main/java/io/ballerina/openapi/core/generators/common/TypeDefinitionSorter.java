@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.compiler.syntax.tree.TypeReferenceNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Orders the generated type definitions independent of the order they are generated in.
+ * <p>
+ * The type definitions are kept in a hash map while they are generated, hence a small change in the contract can
+ * reorder the whole types file. The sorted order places the types referred by a type before it, and otherwise orders
+ * the types by name, hence the unchanged types keep their place in the generated file and the file stays byte
+ * identical when the contract does not change. A cycle of mutually referring types is placed when the first of its
+ * types by name is reached. A type refers to the types named in its type descriptor, including the included
+ * record types.
+ *
+ * @since 2.2.0
+ */
+public final class TypeDefinitionSorter {
+
+    private TypeDefinitionSorter() {
+    }
+
+    /**
+     * Sort the given type definitions with the referred types first, and by name otherwise.
+     *
+     * @param typeDefinitions type definitions by their keys
+     * @return sorted type definitions
+     */
+    public static List<TypeDefinitionNode> sort(Map<String, TypeDefinitionNode> typeDefinitions) {
+        List<Map.Entry<String, TypeDefinitionNode>> entries = new ArrayList<>(typeDefinitions.entrySet());
+        entries.sort(Comparator.comparing((Map.Entry<String, TypeDefinitionNode> entry) ->
+                entry.getValue().typeName().text()).thenComparing(Map.Entry::getKey));
+        Map<String, List<TypeDefinitionNode>> definitionsByName = new TreeMap<>();
+        for (Map.Entry<String, TypeDefinitionNode> entry : entries) {
+            definitionsByName.computeIfAbsent(entry.getValue().typeName().text(), name -> new ArrayList<>())
+                    .add(entry.getValue());
+        }
+
+        List<TypeDefinitionNode> sortedDefinitions = new ArrayList<>(typeDefinitions.size());
+        Set<String> visitedNames = new HashSet<>();
+        for (String typeName : definitionsByName.keySet()) {
+            addWithReferencesFirst(typeName, definitionsByName, visitedNames, sortedDefinitions);
+        }
+        return sortedDefinitions;
+    }
+
+    /**
+     * Add the definitions of the given type after the definitions of the types it refers. The references are
+     * traversed with an explicit stack, as a long reference chain can exceed the call stack.
+     */
+    private static void addWithReferencesFirst(String typeName, Map<String, List<TypeDefinitionNode>> definitions,
+                                               Set<String> visitedNames, List<TypeDefinitionNode> sortedDefinitions) {
+        if (!visitedNames.add(typeName)) {
+            return;
+        }
+        Deque<Map.Entry<String, Iterator<String>>> stack = new ArrayDeque<>();
+        stack.push(Map.entry(typeName, getReferences(typeName, definitions).iterator()));
+        while (!stack.isEmpty()) {
+            Iterator<String> references = stack.peek().getValue();
+            if (references.hasNext()) {
+                String reference = references.next();
+                if (visitedNames.add(reference)) {
+                    stack.push(Map.entry(reference, getReferences(reference, definitions).iterator()));
+                }
+            } else {
+                sortedDefinitions.addAll(definitions.get(stack.pop().getKey()));
+            }
+        }
+    }
+
+    /**
+     * Get the names of the generated types referred by the given type, in the order of the names.
+     */
+    private static Set<String> getReferences(String typeName, Map<String, List<TypeDefinitionNode>> definitions) {
+        ReferenceCollector referenceCollector = new ReferenceCollector();
+        for (TypeDefinitionNode definition : definitions.get(typeName)) {
+            definition.typeDescriptor().accept(referenceCollector);
+        }
+        Set<String> references = referenceCollector.references;
+        references.remove(typeName);
+        references.retainAll(definitions.keySet());
+        return references;
+    }
+
+    private static final class ReferenceCollector extends NodeVisitor {
+
+        private final Set<String> references = new TreeSet<>();
+
+        @Override
+        public void visit(SimpleNameReferenceNode simpleNameReferenceNode) {
+            references.add(simpleNameReferenceNode.name().text());
+        }
+
+        @Override
+        public void visit(BuiltinSimpleNameReferenceNode builtinSimpleNameReferenceNode) {
+            // The generators create the references of some generated types as builtin name references
+            references.add(builtinSimpleNameReferenceNode.name().text());
+        }
+
+        @Override
+        public void visit(TypeReferenceNode typeReferenceNode) {
+            // The included record type is created as a plain identifier token by the allOf generator
+            if (typeReferenceNode.typeName() instanceof Token typeName) {
+                references.add(typeName.text());
+            } else {
+                typeReferenceNode.typeName().accept(this);
+            }
+        }
+    }
+}
@@ -31,6 +31,7 @@ import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.RecordFieldNode;
 import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
@@ -38,10 +39,13 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypeReferenceNode;
 import io.ballerina.openapi.core.generators.common.model.GenSrcFile;
-import io.ballerina.openapi.core.generators.constraint.ConstraintGeneratorImp;
 import io.ballerina.openapi.core.generators.constraint.ConstraintResult;
 import io.ballerina.openapi.core.generators.document.DocCommentGeneratorImp;
+import io.ballerina.openapi.core.generators.document.DocCommentMode;
+import io.ballerina.openapi.core.generators.document.TypesDocCommentGenerator;
 import io.ballerina.openapi.core.generators.type.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.type.model.ComponentConstraints;
+import io.ballerina.openapi.core.generators.type.model.EnumLookupTables;
 import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
 import io.ballerina.openapi.core.generators.type.model.TypeGeneratorResult;
 import io.ballerina.tools.diagnostics.Diagnostic;
@@ -55,6 +59,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -77,26 +82,62 @@ import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DEF
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DEFAULT_STATUS_CODE_RESPONSE;
 import static io.ballerina.openapi.core.generators.common.GeneratorUtils.HTTP_IMPORT;
 
+/**
+ * Collects the type definitions generated for a generation run. The instance belongs to the
+ * {@link GenerationContext} of the run. The client functions of the run may be generated concurrently, where every
+ * task has its own type handler which hands its requests over to a {@link TypeCollector}, and the collectors are
+ * merged into the type handler of the run in the task order.
+ */
 public class TypeHandler {
-    private static TypeHandler typeHandlerInstance;
-
-    private static BallerinaTypesGenerator ballerinaTypesGenerator;
+    private final BallerinaTypesGenerator ballerinaTypesGenerator;
+    // Collector of the task the type handler belongs to, which is null for the type handler of the run
+    private final TypeCollector typeCollector;
     private HashMap<String, TypeDefinitionNode> typeDefinitionNodes = new HashMap<>();
     private final Set<String> imports = new LinkedHashSet<>();
-    private static List<Diagnostic> constraintDiagnostics;
+    private final List<Diagnostic> constraintDiagnostics = new ArrayList<>();
+    // Status code, body type and headers type of the generated status code response records, by the record name
+    private final Map<String, InclusionRecordKey> inclusionRecordKeys = new HashMap<>();
+
+    private record InclusionRecordKey(String statusCode, String bodyType, String headersType) {
+    }
+
 
+    private TypeHandler(BallerinaTypesGenerator ballerinaTypesGenerator) {
+        this(ballerinaTypesGenerator, null);
+    }
 
-    private TypeHandler() {}
+    TypeHandler(BallerinaTypesGenerator ballerinaTypesGenerator, TypeCollector typeCollector) {
+        this.ballerinaTypesGenerator = ballerinaTypesGenerator;
+        this.typeCollector = typeCollector;
+    }
 
     public static void createInstance(OpenAPI openAPI, boolean isNullable) {
-        typeHandlerInstance = new TypeHandler();
-        ballerinaTypesGenerator = new BallerinaTypesGenerator(openAPI, isNullable);
-        constraintDiagnostics = new ArrayList<>();
-        GeneratorUtils.initializeRecordCountMap();
+        createInstance(openAPI, isNullable, 0);
+    }
+
+    /**
+     * Create the type handler of the current generation run, which generates the string enums with more values
+     * than the given maximum enum size as string types with a lookup table of the values.
+     */
+    public static void createInstance(OpenAPI openAPI, boolean isNullable, int maxEnumSize) {
+        createInstance(openAPI, isNullable, maxEnumSize, GeneratorConstants.DEFAULT_UNION_THRESHOLD);
+    }
+
+    /**
+     * Create the type handler of the current generation run, which also generates the unions with more members than
+     * the given union threshold in the compact form.
+     */
+    public static void createInstance(OpenAPI openAPI, boolean isNullable, int maxEnumSize, int unionThreshold) {
+        GenerationContext context = GenerationContext.currentOrBind();
+        BallerinaTypesGenerator ballerinaTypesGenerator = new BallerinaTypesGenerator(openAPI, isNullable,
+                maxEnumSize, unionThreshold);
+        context.setTypeHandler(new TypeHandler(ballerinaTypesGenerator));
+        context.initializeRecordCountMap();
+        ballerinaTypesGenerator.generateComponentTypes();
     }
 
     public static TypeHandler getInstance() {
-        return typeHandlerInstance;
+        return GenerationContext.current().getTypeHandler();
     }
 
     public List<Diagnostic> getDiagnostics() {
@@ -105,40 +146,112 @@ public class TypeHandler {
     }
 
     public void addTypeDefinitionNode(String key, TypeDefinitionNode typeDefinitionNode) {
+        if (Objects.nonNull(typeCollector)) {
+            typeCollector.addRequest(typeHandler -> typeHandler.addTypeDefinitionNode(
+                    typeCollector.resolveName(key), typeCollector.resolve(typeDefinitionNode)));
+            return;
+        }
         typeDefinitionNodes.put(key, typeDefinitionNode);
+        inclusionRecordKeys.remove(key);
     }
 
     public void addImport(String importValue) {
+        if (Objects.nonNull(typeCollector)) {
+            typeCollector.addRequest(typeHandler -> typeHandler.addImport(importValue));
+            return;
+        }
         imports.add(importValue);
     }
 
+    /**
+     * Get the name of a record which is named by the order of generation. The first record of the given name is
+     * named with it, and the later records are named with a count suffix.
+     *
+     * @param recordName name of the record
+     * @return name of the record, or a placeholder of the name within a task
+     */
+    public String createOrderedRecordName(String recordName) {
+        if (Objects.nonNull(typeCollector)) {
+            String placeholder = typeCollector.createPlaceholder();
+            typeCollector.addRequest(typeHandler ->
+                    typeCollector.setName(placeholder, typeHandler.createOrderedRecordName(recordName)));
+            return placeholder;
+        }
+        Map<String, Integer> recordCountMap = GenerationContext.current().getRecordCountMap();
+        if (recordCountMap.containsKey(recordName)) {
+            recordCountMap.put(recordName, recordCountMap.get(recordName) + 1);
+            return recordName + "_" + recordCountMap.get(recordName);
+        }
+        recordCountMap.put(recordName, 0);
+        return recordName;
+    }
+
     public SyntaxTree generateTypeSyntaxTree() {
-        NodeList<ModuleMemberDeclarationNode> typeMembers = getTypeMembers();
+        return generateTypeSyntaxTree(DocCommentMode.POST_GENERATION);
+    }
+
+    /**
+     * Generate the syntax tree of the collected types, with the doc comments of the given mode.
+     */
+    public SyntaxTree generateTypeSyntaxTree(DocCommentMode docCommentMode) {
+        NodeList<ModuleMemberDeclarationNode> typeMembers = getTypeMembers(docCommentMode);
         NodeList<ImportDeclarationNode> imports = generateImportNodes();
         Token eofToken = AbstractNodeFactory.createIdentifierToken("");
         ModulePartNode modulePartNode = NodeFactory.createModulePartNode(imports, typeMembers, eofToken);
         TextDocument textDocument = TextDocuments.from("");
         SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
         syntaxTree = syntaxTree.modifyWith(modulePartNode);
+        if (docCommentMode != DocCommentMode.POST_GENERATION) {
+            return syntaxTree;
+        }
         DocCommentGeneratorImp docCommentGenerator = new DocCommentGeneratorImp(GeneratorMetaData.getInstance()
                 .getOpenAPI(), syntaxTree, GenSrcFile.GenFileType.GEN_TYPE, false);
         return docCommentGenerator.updateSyntaxTreeWithDocComments();
     }
 
-    private NodeList<ModuleMemberDeclarationNode> getTypeMembers() {
+    private NodeList<ModuleMemberDeclarationNode> getTypeMembers(DocCommentMode docCommentMode) {
         if (!GeneratorMetaData.getInstance().isNullable()) {
-            ConstraintGeneratorImp constraintGenerator = new ConstraintGeneratorImp(GeneratorMetaData
-                    .getInstance().getOpenAPI(), typeDefinitionNodes);
-            ConstraintResult constraintResult = constraintGenerator.updateTypeDefinitionsWithConstraints();
-            typeDefinitionNodes = constraintResult.typeDefinitionNodeHashMap();
-            boolean isConstraintAvailable = constraintResult.isConstraintAvailable();
-            if (isConstraintAvailable) {
+            addComponentConstraints();
+        }
+        List<TypeDefinitionNode> typeDefinitions = TypeDefinitionSorter.sort(typeDefinitionNodes);
+        List<ModuleMemberDeclarationNode> typeMembers = new ArrayList<>();
+        if (docCommentMode == DocCommentMode.INLINE) {
+            // Document the type definitions with their schemas before the syntax tree is created
+            TypesDocCommentGenerator typesDocCommentGenerator = new TypesDocCommentGenerator(
+                    GeneratorMetaData.getInstance().getOpenAPI());
+            typeDefinitions.forEach(typeDefinition ->
+                    typeMembers.add(typesDocCommentGenerator.updateTypeDefinition(typeDefinition)));
+        } else {
+            typeMembers.addAll(typeDefinitions);
+        }
+        // The lookup tables of the large enums follow the type definitions
+        EnumLookupTables enumLookupTables = GeneratorMetaData.getInstance().getEnumLookupTables();
+        for (TypeDefinitionNode typeDefinition : typeDefinitions) {
+            typeMembers.addAll(enumLookupTables.get(typeDefinition.typeName().text()));
+        }
+        return AbstractNodeFactory.createNodeList(typeMembers);
+    }
+
+    /**
+     * Add the constraint import and the constraint diagnostics of the generated component types. The constraints
+     * are attached when the component types are generated, hence the type definitions are not revisited here.
+     */
+    private void addComponentConstraints() {
+        OpenAPI openAPI = GeneratorMetaData.getInstance().getOpenAPI();
+        if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+            return;
+        }
+        ComponentConstraints componentConstraints = GeneratorMetaData.getInstance().getComponentConstraints();
+        for (String schemaName : openAPI.getComponents().getSchemas().keySet()) {
+            Optional<ConstraintResult> constraintResult = componentConstraints.get(schemaName);
+            if (constraintResult.isEmpty() || !typeDefinitionNodes.containsKey(schemaName)) {
+                continue;
+            }
+            if (constraintResult.get().isConstraintAvailable()) {
                 imports.add("import ballerina/constraint;");
             }
-            constraintDiagnostics.addAll(constraintResult.diagnostics());
+            constraintDiagnostics.addAll(constraintResult.get().diagnostics());
         }
-        return AbstractNodeFactory.createNodeList(
-                typeDefinitionNodes.values().toArray(new TypeDefinitionNode[typeDefinitionNodes.size()]));
     }
 
     private NodeList<ImportDeclarationNode> generateImportNodes() {
@@ -190,16 +303,34 @@ public class TypeHandler {
     }
 
     public Optional<TypeDescriptorNode> getTypeNodeFromOASSchema(Schema schema, boolean ignoreNullableFlag) {
+        int diagnosticCount = ballerinaTypesGenerator.getDiagnostics().size();
         TypeGeneratorResult typeGeneratorResult = ballerinaTypesGenerator
                 .generateTypeDescriptorNodeForOASSchema(schema, ignoreNullableFlag);
-        handleSubtypes(typeGeneratorResult.subtypeDefinitions());
+        if (Objects.nonNull(typeCollector)) {
+            List<Diagnostic> diagnostics = ballerinaTypesGenerator.getDiagnostics();
+            List<Diagnostic> requestDiagnostics = new ArrayList<>(diagnostics.subList(diagnosticCount,
+                    diagnostics.size()));
+            HashMap<String, TypeDefinitionNode> subtypes = typeGeneratorResult.subtypeDefinitions();
+            typeCollector.addRequest(typeHandler -> typeHandler.addSubtypes(subtypes, requestDiagnostics));
+        } else {
+            handleSubtypes(typeGeneratorResult.subtypeDefinitions());
+        }
         return typeGeneratorResult.typeDescriptorNode();
     }
 
+    private void addSubtypes(HashMap<String, TypeDefinitionNode> subtypes, List<Diagnostic> diagnostics) {
+        ballerinaTypesGenerator.getDiagnostics().addAll(diagnostics);
+        handleSubtypes(subtypes);
+    }
+
     public TypeDescriptorNode generateHeaderType(Schema headersSchema) {
         return getTypeNodeFromOASSchema(headersSchema).orElse(null);
     }
 
+    /**
+     * Create the status code response record of the given body and headers types. A record is named by its status
+     * code and body type, and a record of the same name with other types is prefixed with the method.
+     */
     public NameReferenceNode createTypeInclusionRecord(String statusCode, TypeDescriptorNode bodyType,
                                                        TypeDescriptorNode headersType, String method) {
         String recordName;
@@ -208,6 +339,16 @@ public class TypeHandler {
         if (Objects.isNull(bodyType) && Objects.isNull(headersType)) {
             return GeneratorUtils.getQualifiedNameReferenceNode(GeneratorConstants.HTTP, statusCode);
         }
+        if (Objects.nonNull(typeCollector)) {
+            // The name depends on the records of the previous tasks, hence the record is created by the merge
+            String placeholder = typeCollector.createPlaceholder();
+            typeCollector.addRequest(typeHandler -> {
+                NameReferenceNode recordReference = typeHandler.createTypeInclusionRecord(statusCode,
+                        typeCollector.resolve(bodyType), typeCollector.resolve(headersType), method);
+                typeCollector.setName(placeholder, ((SimpleNameReferenceNode) recordReference).name().text());
+            });
+            return createSimpleNameReferenceNode(createIdentifierToken(placeholder));
+        }
 
         if (Objects.nonNull(bodyType)) {
             String bodyTypeStr = bodyType.toString().replaceAll("[\\[\\\\]]", "Array");
@@ -216,13 +357,10 @@ public class TypeHandler {
             recordName = statusCodeName;
         }
 
-        RecordTypeDescriptorNode recordTypeDescriptorNode = getRecordTypeDescriptorNode(statusCode, bodyType,
-                headersType);
-
-        if (typeDefinitionNodes.containsKey(recordName) &&
-                Objects.nonNull(typeDefinitionNodes.get(recordName).typeDescriptor())) {
-            if (typeDefinitionNodes.get(recordName).typeDescriptor().toSourceCode()
-                    .equals(recordTypeDescriptorNode.toSourceCode())) {
+        InclusionRecordKey recordKey = new InclusionRecordKey(statusCode, getTypeKey(bodyType),
+                getTypeKey(headersType));
+        if (typeDefinitionNodes.containsKey(recordName)) {
+            if (recordKey.equals(inclusionRecordKeys.get(recordName))) {
                 return createSimpleNameReferenceNode(createIdentifierToken(recordName));
             }
             recordName = method.substring(0, 1).toUpperCase(Locale.ROOT) + method.substring(1) + recordName;
@@ -232,12 +370,28 @@ public class TypeHandler {
                 createToken(PUBLIC_KEYWORD),
                 createToken(TYPE_KEYWORD),
                 createIdentifierToken(recordName),
-                recordTypeDescriptorNode,
+                getRecordTypeDescriptorNode(statusCode, bodyType, headersType),
                 createToken(SEMICOLON_TOKEN));
         typeDefinitionNodes.put(recordName, typeDefinitionNode);
+        inclusionRecordKeys.put(recordName, recordKey);
         return createSimpleNameReferenceNode(createIdentifierToken(recordName));
     }
 
+    /**
+     * Get the key of a type used in a status code response record. Type references are keyed by their names, hence
+     * the common response records are compared without rendering their source.
+     */
+    private static String getTypeKey(TypeDescriptorNode typeDescriptorNode) {
+        if (Objects.isNull(typeDescriptorNode)) {
+            return null;
+        } else if (typeDescriptorNode instanceof SimpleNameReferenceNode nameReferenceNode) {
+            return nameReferenceNode.name().text();
+        } else if (typeDescriptorNode instanceof QualifiedNameReferenceNode nameReferenceNode) {
+            return nameReferenceNode.modulePrefix().text() + ":" + nameReferenceNode.identifier().text();
+        }
+        return typeDescriptorNode.toSourceCode().trim();
+    }
+
     private static RecordTypeDescriptorNode getRecordTypeDescriptorNode(String statusCode, TypeDescriptorNode bodyType,
                                                                         TypeDescriptorNode headersType) {
         Token recordKeyWord = createToken(RECORD_KEYWORD);
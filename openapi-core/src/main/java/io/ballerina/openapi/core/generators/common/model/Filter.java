@@ -19,7 +19,9 @@
 package io.ballerina.openapi.core.generators.common.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * This model use for storing the filter tags and operations details.
@@ -52,4 +54,20 @@ public class Filter {
     public void setTags(List<String> tags) {
         this.tags = tags;
     }
+
+    /**
+     * Check whether an operation with the given tags and operation id is selected by this filter. All operations are
+     * selected when the filter is empty.
+     *
+     * @param operationTags tags of the operation, or {@code null} when the operation has no tags
+     * @param operationId   id of the operation, or {@code null} when the operation has no id
+     * @return whether the operation is selected
+     */
+    public boolean isSelected(List<String> operationTags, String operationId) {
+        if (tags.isEmpty() && operations.isEmpty()) {
+            return true;
+        }
+        return (Objects.nonNull(operationTags) && !Collections.disjoint(tags, operationTags)) ||
+                (Objects.nonNull(operationId) && operations.contains(operationId));
+    }
 }
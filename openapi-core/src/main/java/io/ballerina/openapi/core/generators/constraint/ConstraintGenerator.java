@@ -18,11 +18,14 @@
 
 package io.ballerina.openapi.core.generators.constraint;
 
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.tools.diagnostics.Diagnostic;
+import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.List;
 
 public interface ConstraintGenerator {
-    ConstraintResult updateTypeDefinitionsWithConstraints();
+    ConstraintResult updateTypeDefinitionWithConstraints(String schemaName, Schema<?> schema,
+                                                         TypeDefinitionNode typeDefinitionNode);
     List<Diagnostic> getDiagnostics();
 }
@@ -40,15 +40,11 @@ import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.internal.regexp.RegExpFactory;
 import io.ballerina.tools.diagnostics.Diagnostic;
-import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -72,18 +68,18 @@ import static io.ballerina.openapi.core.generators.common.GeneratorUtils.isArray
 import static io.ballerina.openapi.core.generators.common.GeneratorUtils.isComposedSchema;
 
 /**
- * This class is to generate constraints for the type definitions.
+ * This class is to generate constraints for the type definition of a component schema. The constraints are attached
+ * when the type definition is created, and the type definitions of the array items of the schema, which are
+ * generated as separate types, are updated in the given subtypes.
  * @since 1.9.0
  */
 public class ConstraintGeneratorImp implements ConstraintGenerator {
-    OpenAPI openAPI;
-    HashMap<String, TypeDefinitionNode> typeDefinitions;
+    Map<String, TypeDefinitionNode> subtypeDefinitions;
     boolean isConstraint = false;
     List<Diagnostic> diagnostics = new ArrayList<>();
 
-    public ConstraintGeneratorImp(OpenAPI openAPI, HashMap<String, TypeDefinitionNode> typeDefinitions) {
-        this.openAPI = openAPI;
-        this.typeDefinitions = typeDefinitions;
+    public ConstraintGeneratorImp(Map<String, TypeDefinitionNode> subtypeDefinitions) {
+        this.subtypeDefinitions = subtypeDefinitions;
     }
 
     boolean getIsConstraint() {
@@ -91,184 +87,179 @@ public class ConstraintGeneratorImp implements ConstraintGenerator {
     }
 
     @Override
-    public ConstraintResult updateTypeDefinitionsWithConstraints() {
-        if (openAPI.getComponents() == null) {
-            return new ConstraintResult(typeDefinitions, isConstraint, diagnostics);
-        }
-        if (openAPI.getComponents().getSchemas() == null) {
-            return new ConstraintResult(typeDefinitions, isConstraint, diagnostics);
+    public ConstraintResult updateTypeDefinitionWithConstraints(String schemaName, Schema<?> schema,
+                                                                TypeDefinitionNode typeDefinitionNode) {
+        TypeDefinitionNode updatedTypeDefinition;
+        if (typeDefinitionNode.typeDescriptor().kind().equals(SyntaxKind.RECORD_TYPE_DESC)) {
+            updatedTypeDefinition = updateRecordWithConstraints(schemaName, schema, typeDefinitionNode);
+        } else {
+            updatedTypeDefinition = updateTypeWithConstraints(schemaName, schema, typeDefinitionNode);
         }
-        openAPI.getComponents().getSchemas().forEach((key, value) -> {
-            if (typeDefinitions.containsKey(key) && GeneratorUtils.hasConstraints(value)) {
-                key = GeneratorUtils.escapeIdentifier(key);
-                if (typeDefinitions.containsKey(key)) {
-                    TypeDefinitionNode typeDefinitionNode = typeDefinitions.get(key);
-                    //modify the typeDefinitionNode with constraints
-                    if (typeDefinitionNode.typeDescriptor().kind().equals(SyntaxKind.RECORD_TYPE_DESC)) {
-                        Map properties = value.getProperties();
-                        RecordTypeDescriptorNode record = (RecordTypeDescriptorNode)
-                                typeDefinitionNode.typeDescriptor();
-                        NodeList<Node> fields = record.fields();
-                        List<Node> recordFields = new ArrayList<>();
-                        for (Node field : fields) {
-                            NonTerminalNode node;
-                            String fieldName;
-                            if (field instanceof RecordFieldNode recordFieldNode) {
-                                node = recordFieldNode;
-                                fieldName = recordFieldNode.fieldName().text();
-                            } else if (field instanceof RecordFieldWithDefaultValueNode recordFieldWithTypeNode) {
-                                node = recordFieldWithTypeNode;
-                                fieldName = recordFieldWithTypeNode.fieldName().text();
-                            } else {
-                                return;
-                            }
-                            //todo remove this replacement with new lang changes
-                            fieldName = fieldName.replaceAll("^'", "");
-                            if (properties == null) {
-                                return;
-                            }
-                            Schema<?> fieldSchema = (Schema<?>) properties.get(fieldName);
-                            if (hasConstraints(fieldSchema)) {
-                                //modify the record field with constraints
-                                AnnotationNode constraintNode = null;
-                                try {
-                                    constraintNode = generateConstraintNode(fieldName, fieldSchema);
-                                } catch (BallerinaOpenApiException e) {
-                                    //todo diagnostic
-                                }
-                                MetadataNode metadataNode;
-                                boolean isConstraintSupport = constraintNode != null &&
-                                        fieldSchema.getNullable() != null &&
-                                        fieldSchema.getNullable() || (fieldSchema.getOneOf() != null ||
-                                        fieldSchema.getAnyOf() != null);
-                                boolean nullable = GeneratorMetaData.getInstance().isNullable();
-                                if (nullable) {
-                                    constraintNode = null;
-                                } else if (isConstraintSupport) {
-                                    ConstraintDiagnosticMessages diagnostic =
-                                            ConstraintDiagnosticMessages.OAS_CONSTRAINT_101;
-                                    ConstraintGeneratorDiagnostic constraintDiagnostic =
-                                            new ConstraintGeneratorDiagnostic(diagnostic, fieldName.trim());
-                                    diagnostics.add(constraintDiagnostic);
-                                    constraintNode = null;
-                                }
-                                if (constraintNode == null) {
-                                    metadataNode = createMetadataNode(null, createEmptyNodeList());
-                                } else {
-                                    isConstraint = true;
-                                    metadataNode = createMetadataNode(null, createNodeList(constraintNode));
-                                }
-                                if (node instanceof RecordFieldNode recordFieldNode) {
-                                    recordFieldNode = recordFieldNode.modify(
-                                            metadataNode,
-                                            recordFieldNode.readonlyKeyword().orElse(null),
-                                            recordFieldNode.typeName(),
-                                            recordFieldNode.fieldName(),
-                                            recordFieldNode.questionMarkToken().orElse(null),
-                                            recordFieldNode.semicolonToken()
-                                    );
-                                    node = recordFieldNode;
-                                } else if (node instanceof RecordFieldWithDefaultValueNode recordFieldWithTypeNode) {
-                                    recordFieldWithTypeNode = recordFieldWithTypeNode.modify(
-                                            metadataNode,
-                                            recordFieldWithTypeNode.readonlyKeyword().orElse(null),
-                                            recordFieldWithTypeNode.typeName(),
-                                            recordFieldWithTypeNode.fieldName(),
-                                            recordFieldWithTypeNode.equalsToken(),
-                                            recordFieldWithTypeNode.expression(),
-                                            recordFieldWithTypeNode.semicolonToken()
-                                    );
-                                    node = recordFieldWithTypeNode;
-                                } else {
-                                    return;
-                                }
-                            }
-                            recordFields.add(node);
-
-                            //This is special scenario for array schema,
-                            //when the items has constraints then we define separate type for it.
-                            if (fieldSchema instanceof ArraySchema arraySchema) {
-                                updateConstraintWithArrayItems(StringUtils.capitalize(key), fieldName, arraySchema);
-                            }
-                            //todo handle the composed schema
-                        }
-                        RecordTypeDescriptorNode updatedRecord = record.modify(
-                                record.recordKeyword(),
-                                record.bodyStartDelimiter(),
-                                createNodeList(recordFields),
-                                record.recordRestDescriptor().orElse(null),
-                                record.bodyEndDelimiter()
-                        );
-                        typeDefinitionNode = typeDefinitionNode.modify(
-                                typeDefinitionNode.metadata().orElse(null),
-                                typeDefinitionNode.visibilityQualifier().orElse(null),
-                                typeDefinitionNode.typeKeyword(),
-                                typeDefinitionNode.typeName(),
-                                updatedRecord,
-                                typeDefinitionNode.semicolonToken()
-                        );
-                    } else {
-                        if (hasConstraints(value)) {
-                            //modify the record field with constraints
-                            AnnotationNode constraintNode = null;
-                            try {
-                                constraintNode = generateConstraintNode(key, value);
-                            } catch (BallerinaOpenApiException e) {
-                                //todo diagnostic
-                            }
-                            MetadataNode metadataNode;
-                            boolean isConstraintSupport =
-                                    constraintNode != null && value.getNullable() != null && value.getNullable() ||
-                                            ((value.getOneOf() != null ||
-                                                    value.getAnyOf() != null));
-                            boolean nullable = GeneratorMetaData.getInstance().isNullable();
-                            if (nullable) {
-                                constraintNode = null;
-                            } else if (isConstraintSupport) {
-                                ConstraintDiagnosticMessages diagnostic =
-                                        ConstraintDiagnosticMessages.OAS_CONSTRAINT_101;
-                                ConstraintGeneratorDiagnostic constraintDiagnostic =
-                                        new ConstraintGeneratorDiagnostic(diagnostic, key.trim());
-                                diagnostics.add(constraintDiagnostic);
-                                constraintNode = null;
-                            }
-                            if (constraintNode == null) {
-                                metadataNode = createMetadataNode(null, createEmptyNodeList());
-                            } else {
-                                isConstraint = true;
-                                metadataNode = createMetadataNode(null,
-                                        createNodeList(constraintNode));
-                            }
-                            typeDefinitionNode = typeDefinitionNode.modify(
-                                    metadataNode,
-                                    typeDefinitionNode.visibilityQualifier().orElse(null),
-                                    typeDefinitionNode.typeKeyword(),
-                                    typeDefinitionNode.typeName(),
-                                    typeDefinitionNode.typeDescriptor(),
-                                    typeDefinitionNode.semicolonToken()
-                            );
-
-                            if (value instanceof ArraySchema arraySchema) {
-                                String normalizedTypeName = key.replaceAll(GeneratorConstants
-                                        .SPECIAL_CHARACTER_REGEX, "").trim();
-                                updateConstraintWithArrayItems("", normalizedTypeName, arraySchema);
-                            }
-                        }
-                    }
-                    typeDefinitions.put(key, typeDefinitionNode);
+        return new ConstraintResult(updatedTypeDefinition, isConstraint, diagnostics);
+    }
+
+    /**
+     * Attach the constraints of the properties to the record fields. The record is kept as it is when it has a
+     * field which is not generated for a property, e.g. a type inclusion.
+     */
+    private TypeDefinitionNode updateRecordWithConstraints(String key, Schema<?> value,
+                                                           TypeDefinitionNode typeDefinitionNode) {
+        Map properties = value.getProperties();
+        RecordTypeDescriptorNode record = (RecordTypeDescriptorNode) typeDefinitionNode.typeDescriptor();
+        NodeList<Node> fields = record.fields();
+        List<Node> recordFields = new ArrayList<>();
+        for (Node field : fields) {
+            NonTerminalNode node;
+            String fieldName;
+            if (field instanceof RecordFieldNode recordFieldNode) {
+                node = recordFieldNode;
+                fieldName = recordFieldNode.fieldName().text();
+            } else if (field instanceof RecordFieldWithDefaultValueNode recordFieldWithTypeNode) {
+                node = recordFieldWithTypeNode;
+                fieldName = recordFieldWithTypeNode.fieldName().text();
+            } else {
+                return typeDefinitionNode;
+            }
+            //todo remove this replacement with new lang changes
+            fieldName = fieldName.replaceAll("^'", "");
+            if (properties == null) {
+                return typeDefinitionNode;
+            }
+            Schema<?> fieldSchema = (Schema<?>) properties.get(fieldName);
+            if (hasConstraints(fieldSchema)) {
+                //modify the record field with constraints
+                AnnotationNode constraintNode = null;
+                try {
+                    constraintNode = generateConstraintNode(fieldName, fieldSchema);
+                } catch (BallerinaOpenApiException e) {
+                    //todo diagnostic
+                }
+                MetadataNode metadataNode;
+                boolean isConstraintSupport = constraintNode != null &&
+                        fieldSchema.getNullable() != null &&
+                        fieldSchema.getNullable() || (fieldSchema.getOneOf() != null ||
+                        fieldSchema.getAnyOf() != null);
+                boolean nullable = GeneratorMetaData.getInstance().isNullable();
+                if (nullable) {
+                    constraintNode = null;
+                } else if (isConstraintSupport) {
+                    ConstraintDiagnosticMessages diagnostic =
+                            ConstraintDiagnosticMessages.OAS_CONSTRAINT_101;
+                    ConstraintGeneratorDiagnostic constraintDiagnostic =
+                            new ConstraintGeneratorDiagnostic(diagnostic, fieldName.trim());
+                    diagnostics.add(constraintDiagnostic);
+                    constraintNode = null;
+                }
+                if (constraintNode == null) {
+                    metadataNode = createMetadataNode(null, createEmptyNodeList());
+                } else {
+                    isConstraint = true;
+                    metadataNode = createMetadataNode(null, createNodeList(constraintNode));
+                }
+                if (node instanceof RecordFieldNode recordFieldNode) {
+                    recordFieldNode = recordFieldNode.modify(
+                            metadataNode,
+                            recordFieldNode.readonlyKeyword().orElse(null),
+                            recordFieldNode.typeName(),
+                            recordFieldNode.fieldName(),
+                            recordFieldNode.questionMarkToken().orElse(null),
+                            recordFieldNode.semicolonToken()
+                    );
+                    node = recordFieldNode;
+                } else if (node instanceof RecordFieldWithDefaultValueNode recordFieldWithTypeNode) {
+                    recordFieldWithTypeNode = recordFieldWithTypeNode.modify(
+                            metadataNode,
+                            recordFieldWithTypeNode.readonlyKeyword().orElse(null),
+                            recordFieldWithTypeNode.typeName(),
+                            recordFieldWithTypeNode.fieldName(),
+                            recordFieldWithTypeNode.equalsToken(),
+                            recordFieldWithTypeNode.expression(),
+                            recordFieldWithTypeNode.semicolonToken()
+                    );
+                    node = recordFieldWithTypeNode;
+                } else {
+                    return typeDefinitionNode;
                 }
             }
-        });
-        List<String> typeDefinitionSortingList = new ArrayList<>();
-        typeDefinitions.forEach((key, value) -> {
-            typeDefinitionSortingList.add(key);
-        });
-        Collections.sort(typeDefinitionSortingList);
-        HashMap<String, TypeDefinitionNode> sortedTypeDefinitions = new LinkedHashMap<>();
-        typeDefinitionSortingList.forEach(key -> {
-            sortedTypeDefinitions.put(key, typeDefinitions.get(key));
-        });
-        return new ConstraintResult(typeDefinitions, isConstraint, diagnostics);
+            recordFields.add(node);
+
+            //This is special scenario for array schema,
+            //when the items has constraints then we define separate type for it.
+            if (fieldSchema instanceof ArraySchema arraySchema) {
+                updateConstraintWithArrayItems(StringUtils.capitalize(key), fieldName, arraySchema);
+            }
+            //todo handle the composed schema
+        }
+        RecordTypeDescriptorNode updatedRecord = record.modify(
+                record.recordKeyword(),
+                record.bodyStartDelimiter(),
+                createNodeList(recordFields),
+                record.recordRestDescriptor().orElse(null),
+                record.bodyEndDelimiter()
+        );
+        return typeDefinitionNode.modify(
+                typeDefinitionNode.metadata().orElse(null),
+                typeDefinitionNode.visibilityQualifier().orElse(null),
+                typeDefinitionNode.typeKeyword(),
+                typeDefinitionNode.typeName(),
+                updatedRecord,
+                typeDefinitionNode.semicolonToken()
+        );
+    }
+
+    /**
+     * Attach the constraints of the schema to a type definition which is not a record.
+     */
+    private TypeDefinitionNode updateTypeWithConstraints(String key, Schema<?> value,
+                                                         TypeDefinitionNode typeDefinitionNode) {
+        if (!hasConstraints(value)) {
+            return typeDefinitionNode;
+        }
+        //modify the record field with constraints
+        AnnotationNode constraintNode = null;
+        try {
+            constraintNode = generateConstraintNode(key, value);
+        } catch (BallerinaOpenApiException e) {
+            //todo diagnostic
+        }
+        MetadataNode metadataNode;
+        boolean isConstraintSupport =
+                constraintNode != null && value.getNullable() != null && value.getNullable() ||
+                        ((value.getOneOf() != null ||
+                                value.getAnyOf() != null));
+        boolean nullable = GeneratorMetaData.getInstance().isNullable();
+        if (nullable) {
+            constraintNode = null;
+        } else if (isConstraintSupport) {
+            ConstraintDiagnosticMessages diagnostic =
+                    ConstraintDiagnosticMessages.OAS_CONSTRAINT_101;
+            ConstraintGeneratorDiagnostic constraintDiagnostic =
+                    new ConstraintGeneratorDiagnostic(diagnostic, key.trim());
+            diagnostics.add(constraintDiagnostic);
+            constraintNode = null;
+        }
+        if (constraintNode == null) {
+            metadataNode = createMetadataNode(null, createEmptyNodeList());
+        } else {
+            isConstraint = true;
+            metadataNode = createMetadataNode(null,
+                    createNodeList(constraintNode));
+        }
+        typeDefinitionNode = typeDefinitionNode.modify(
+                metadataNode,
+                typeDefinitionNode.visibilityQualifier().orElse(null),
+                typeDefinitionNode.typeKeyword(),
+                typeDefinitionNode.typeName(),
+                typeDefinitionNode.typeDescriptor(),
+                typeDefinitionNode.semicolonToken()
+        );
+
+        if (value instanceof ArraySchema arraySchema) {
+            String normalizedTypeName = key.replaceAll(GeneratorConstants
+                    .SPECIAL_CHARACTER_REGEX, "").trim();
+            updateConstraintWithArrayItems("", normalizedTypeName, arraySchema);
+        }
+        return typeDefinitionNode;
     }
 
     private void updateConstraintWithArrayItems(String key, String fieldName, ArraySchema arraySchema) {
@@ -277,8 +268,8 @@ public class ConstraintGeneratorImp implements ConstraintGenerator {
             String normalizedTypeName = StringUtils.capitalize(fieldName.replaceAll(
                     GeneratorConstants.SPECIAL_CHARACTER_REGEX, "").trim());
             String itemTypeName = key  + normalizedTypeName + "Items" + StringUtils.capitalize(itemSchema.getType());
-            if (typeDefinitions.containsKey(itemTypeName)) {
-                TypeDefinitionNode itemTypeDefNode = typeDefinitions.get(itemTypeName);
+            if (subtypeDefinitions.containsKey(itemTypeName)) {
+                TypeDefinitionNode itemTypeDefNode = subtypeDefinitions.get(itemTypeName);
                 if (hasConstraints(itemSchema)) {
                     //modify the record field with constraints
                     AnnotationNode constraintNode = null;
@@ -317,7 +308,7 @@ public class ConstraintGeneratorImp implements ConstraintGenerator {
                             itemTypeDefNode.typeDescriptor(),
                             itemTypeDefNode.semicolonToken()
                     );
-                    typeDefinitions.put(itemTypeName, itemTypeDefNode);
+                    subtypeDefinitions.put(itemTypeName, itemTypeDefNode);
                 }
             }
         }
@@ -52,6 +52,7 @@ import io.swagger.v3.oas.models.responses.ApiResponses;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -59,6 +60,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
@@ -77,6 +79,7 @@ import static io.ballerina.openapi.core.generators.document.DocCommentsGenerator
 import static io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil.extractDeprecatedAnnotation;
 import static io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil.extractDeprecatedAnnotationDetails;
 import static io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil.extractDisplayAnnotation;
+import static io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil.getFunctionHeader;
 import static io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil.updatedAnnotationInParameterNode;
 
 public class ClientDocCommentGenerator implements DocCommentsGenerator {
@@ -89,6 +92,14 @@ public class ClientDocCommentGenerator implements DocCommentsGenerator {
         this.syntaxTree = syntaxTree;
         this.isResource = isResource;
     }
+
+    /**
+     * Create a generator which documents the client functions as they are generated, without a syntax tree.
+     */
+    public ClientDocCommentGenerator(OpenAPI openAPI, boolean isResource) {
+        this(null, openAPI, isResource);
+    }
+
     @Override
     public SyntaxTree updateSyntaxTreeWithDocComments() {
         //collect all the operation details
@@ -100,72 +111,80 @@ public class ClientDocCommentGenerator implements DocCommentsGenerator {
         ModulePartNode modulePartNode = (ModulePartNode) rootNode;
         NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
         List<ModuleMemberDeclarationNode> updatedMembers = new ArrayList<>();
-        members.forEach(member -> {
+        for (ModuleMemberDeclarationNode member : members) {
             if (member.kind().equals(SyntaxKind.CLASS_DEFINITION)) {
                 ClassDefinitionNode classDef = (ClassDefinitionNode) member;
-                HashMap<String, Node> updatedList = new HashMap<>();
-                NodeList<Node> classMembers = classDef.members();
-                //sort these members according to .toString();
-                List<String> storeMembers = new ArrayList<>();
-                List<Node> clientInitNodes = new ArrayList<>();
-                classMembers.forEach(classMember -> {
-                    String sortKey = "";
-                    if (classMember.kind().equals(SyntaxKind.OBJECT_METHOD_DEFINITION) ||
-                            classMember.kind().equals(SyntaxKind.RESOURCE_ACCESSOR_DEFINITION)) {
-                        FunctionDefinitionNode funcDef = (FunctionDefinitionNode) classMember;
-
-                        //remote : operationId
-                        if (isResource) {
-                            sortKey = funcDef.toSourceCode();
-                            storeMembers.add(sortKey);
-                            NodeList<Node> nodes = funcDef.relativeResourcePath();
-                            StringBuilder path = new StringBuilder();
-                            for (Node node: nodes) {
-                                path.append(node.toString().replace("\"", ""));
-                            }
-                            String key = replaceContentWithinBrackets(path.toString(), "XXX") + "_" +
-                                    funcDef.functionName().text();
-                            funcDef = updateDocCommentsForFunctionNode(operationDetailsMap, funcDef, key);
-                        } else {
-                            sortKey = funcDef.functionName().text();
-                            storeMembers.add(sortKey);
-                            String key = funcDef.functionName().text();
-                            funcDef = updateDocCommentsForFunctionNode(operationDetailsMap, funcDef, key);
-                        }
-                        classMember = funcDef;
-                    } else {
-                        clientInitNodes.add(classMember);
-                    }
-                    updatedList.put(sortKey, classMember);
-                });
-                //sort the members
-                List<Node> sortedNodes = new ArrayList<>();
-                sortedNodes.addAll(clientInitNodes);
-                storeMembers.sort(String::compareTo);
-                for (String memberStr: storeMembers) {
-                     sortedNodes.add(updatedList.get(memberStr));
-                }
-                classDef = classDef.modify(
+                List<Node> classMembers = new ArrayList<>();
+                classDef.members().forEach(classMembers::add);
+                member = classDef.modify(
                         classDef.metadata().orElse(null),
                         classDef.visibilityQualifier().orElse(null),
                         classDef.classTypeQualifiers(),
                         classDef.classKeyword(),
                         classDef.className(),
                         classDef.openBrace(),
-                        updatedList.isEmpty() ? classDef.members() : createNodeList(sortedNodes),
+                        classMembers.isEmpty() ? classDef.members() : createNodeList(
+                                updateClassMembers(classMembers, funcDef -> getOperation(operationDetailsMap,
+                                        funcDef))),
                         classDef.closeBrace(),
                         classDef.semicolonToken().orElse(null));
-                member = classDef;
             }
-
             updatedMembers.add(member);
-            NodeList<ModuleMemberDeclarationNode> clientMembers = AbstractNodeFactory.createNodeList(updatedMembers);
-            ModulePartNode updatedmodulePartNode = modulePartNode.modify(modulePartNode.imports(), clientMembers,
-                    modulePartNode.eofToken());
+        }
+        ModulePartNode updatedModulePartNode = modulePartNode.modify(modulePartNode.imports(),
+                AbstractNodeFactory.createNodeList(updatedMembers), modulePartNode.eofToken());
+        return syntaxTree.modifyWith(updatedModulePartNode);
+    }
 
-            syntaxTree = syntaxTree.modifyWith(updatedmodulePartNode);
-        });
-        return syntaxTree;
+    /**
+     * Add the doc comments to the functions of a client class, and sort the functions after the other class members.
+     * The functions are sorted by their names in the remote mode, and by their source in the resource mode.
+     *
+     * @param classMembers      members of the client class
+     * @param operationResolver resolves the operation a function is generated for, or null for an undocumented
+     *                          function
+     * @return updated class members
+     */
+    public List<Node> updateClassMembers(List<Node> classMembers,
+                                         Function<FunctionDefinitionNode, Operation> operationResolver) {
+        List<Node> sortedNodes = new ArrayList<>();
+        List<SortableFunction> functions = new ArrayList<>();
+        for (Node classMember : classMembers) {
+            if (classMember.kind().equals(SyntaxKind.OBJECT_METHOD_DEFINITION) ||
+                    classMember.kind().equals(SyntaxKind.RESOURCE_ACCESSOR_DEFINITION)) {
+                FunctionDefinitionNode funcDef = (FunctionDefinitionNode) classMember;
+                String sortKey = isResource ? getFunctionHeader(funcDef) : funcDef.functionName().text();
+                Operation operation = operationResolver.apply(funcDef);
+                functions.add(new SortableFunction(sortKey,
+                        operation == null ? funcDef : updateDocCommentsForFunctionNode(operation, funcDef)));
+            } else {
+                sortedNodes.add(classMember);
+            }
+        }
+        //sort the members
+        functions.sort(Comparator.comparing(SortableFunction::sortKey));
+        for (SortableFunction function : functions) {
+            sortedNodes.add(function.functionNode());
+        }
+        return sortedNodes;
+    }
+
+    private Operation getOperation(HashMap<String, OperationDetails> operationDetailsMap,
+                                   FunctionDefinitionNode funcDef) {
+        String key;
+        if (isResource) {
+            //resource : path_method
+            StringBuilder path = new StringBuilder();
+            for (Node node : funcDef.relativeResourcePath()) {
+                path.append(node.toString().replace("\"", ""));
+            }
+            key = replaceContentWithinBrackets(path.toString(), "XXX") + "_" + funcDef.functionName().text();
+        } else {
+            //remote : operationId
+            key = funcDef.functionName().text();
+        }
+        OperationDetails operationDetails = operationDetailsMap.get(key);
+        return operationDetails == null ? null : operationDetails.operation();
     }
 
     private void extractOperations(HashMap<String, OperationDetails> operationDetailsMap, Paths paths) {
@@ -187,110 +206,105 @@ public class ClientDocCommentGenerator implements DocCommentsGenerator {
         });
     }
 
-    private  FunctionDefinitionNode updateDocCommentsForFunctionNode(
-            HashMap<String, OperationDetails> operationDetailsMap, FunctionDefinitionNode funcDef, String key) {
-        OperationDetails operationDetails = operationDetailsMap.get(key);
-        if (operationDetails != null) {
-            List<Node> docs = new ArrayList<>();
-            List<AnnotationNode> annotations = new ArrayList<>();
-            Operation operation = operationDetails.operation();
-            //function main comment
-            if (operation.getSummary() != null) {
-                docs.addAll(createAPIDescriptionDoc(operation.getSummary(), true));
-            } else if (operation.getDescription() != null) {
-                docs.addAll(createAPIDescriptionDoc(operation.getDescription(), true));
-            }
-            //function display annotation
-            if (operation.getExtensions() != null) {
-                extractDisplayAnnotation(operation.getExtensions(), annotations);
-            }
-            FunctionSignatureNode functionSignatureNode = funcDef.functionSignature();
-            //function parameters
-            if (operation.getParameters() != null) {
-                SeparatedNodeList<ParameterNode> parameters = functionSignatureNode.parameters();
-                List<Node> updatedParamsRequired = new ArrayList<>();
-                List<Node> updatedParamsDefault = new ArrayList<>();
-                List<Node> updatedIncludedParam = new ArrayList<>();
+    private FunctionDefinitionNode updateDocCommentsForFunctionNode(Operation operation,
+                                                                    FunctionDefinitionNode funcDef) {
+        List<Node> docs = new ArrayList<>();
+        List<AnnotationNode> annotations = new ArrayList<>();
+        //function main comment
+        if (operation.getSummary() != null) {
+            docs.addAll(createAPIDescriptionDoc(operation.getSummary(), true));
+        } else if (operation.getDescription() != null) {
+            docs.addAll(createAPIDescriptionDoc(operation.getDescription(), true));
+        }
+        //function display annotation
+        if (operation.getExtensions() != null) {
+            extractDisplayAnnotation(operation.getExtensions(), annotations);
+        }
+        FunctionSignatureNode functionSignatureNode = funcDef.functionSignature();
+        //function parameters
+        if (operation.getParameters() != null) {
+            SeparatedNodeList<ParameterNode> parameters = functionSignatureNode.parameters();
+            List<Node> updatedParamsRequired = new ArrayList<>();
+            List<Node> updatedParamsDefault = new ArrayList<>();
+            List<Node> updatedIncludedParam = new ArrayList<>();
 
-                HashMap<String, ParameterNode> collection = getParameterNodeHashMap(parameters);
-                //todo parameter reference
-                updateParameterNodes(docs, operation, updatedParamsRequired, updatedParamsDefault,
-                        collection);
-                if (collection.size() > 0) {
-                    collection.forEach((keyParam, value) -> {
-                        if (value instanceof RequiredParameterNode reParam) {
-                            updatedParamsRequired.add(reParam);
-                            updatedParamsRequired.add(createToken(SyntaxKind.COMMA_TOKEN));
-                        } else if (value instanceof DefaultableParameterNode deParam) {
-                            updatedParamsDefault.add(deParam);
-                            updatedParamsDefault.add(createToken(SyntaxKind.COMMA_TOKEN));
-                        } else if (value instanceof IncludedRecordParameterNode incParam) {
-                            updatedIncludedParam.add(incParam);
-                            updatedIncludedParam.add(createToken(SyntaxKind.COMMA_TOKEN));
-                        }
-                    });
-                }
-                updatedParamsRequired.addAll(updatedParamsDefault);
-                updatedParamsRequired.addAll(updatedIncludedParam);
-                if (!updatedParamsRequired.isEmpty()) {
-                    if (updatedParamsRequired.get(updatedParamsRequired.size() - 1) instanceof Token) {
-                        updatedParamsRequired.remove(updatedParamsRequired.size() - 1);
+            HashMap<String, ParameterNode> collection = getParameterNodeHashMap(parameters);
+            //todo parameter reference
+            updateParameterNodes(docs, operation, updatedParamsRequired, updatedParamsDefault,
+                    collection);
+            if (collection.size() > 0) {
+                collection.forEach((keyParam, value) -> {
+                    if (value instanceof RequiredParameterNode reParam) {
+                        updatedParamsRequired.add(reParam);
+                        updatedParamsRequired.add(createToken(SyntaxKind.COMMA_TOKEN));
+                    } else if (value instanceof DefaultableParameterNode deParam) {
+                        updatedParamsDefault.add(deParam);
+                        updatedParamsDefault.add(createToken(SyntaxKind.COMMA_TOKEN));
+                    } else if (value instanceof IncludedRecordParameterNode incParam) {
+                        updatedIncludedParam.add(incParam);
+                        updatedIncludedParam.add(createToken(SyntaxKind.COMMA_TOKEN));
                     }
-                    functionSignatureNode = functionSignatureNode.modify(
-                            functionSignatureNode.openParenToken(),
-                            createSeparatedNodeList(updatedParamsRequired),
-                            functionSignatureNode.closeParenToken(),
-                            functionSignatureNode.returnTypeDesc().orElse(null));
-
-                }
-            } else {
-                docs.add(createAPIParamDoc(HEADERS, "Headers to be sent with the request"));
-            }
-            RequestBody requestBody = operation.getRequestBody();
-            if (requestBody != null) {
-                addRequestBodyDoc(docs, requestBody);
+                });
             }
-            //todo response
-            if (operation.getResponses() != null) {
-                ApiResponses responses = operation.getResponses();
-                Collection<ApiResponse> values = responses.values();
-                Iterator<ApiResponse> iteratorRes = values.iterator();
-                if (iteratorRes.hasNext()) {
-                    ApiResponse response = iteratorRes.next();
-                    if (response.getDescription() != null && !response.getDescription().isBlank()) {
-                        MarkdownParameterDocumentationLineNode returnDoc = createAPIParamDoc("return",
-                                response.getDescription());
-                        docs.add(returnDoc);
-                    }
+            updatedParamsRequired.addAll(updatedParamsDefault);
+            updatedParamsRequired.addAll(updatedIncludedParam);
+            if (!updatedParamsRequired.isEmpty()) {
+                if (updatedParamsRequired.get(updatedParamsRequired.size() - 1) instanceof Token) {
+                    updatedParamsRequired.remove(updatedParamsRequired.size() - 1);
                 }
+                functionSignatureNode = functionSignatureNode.modify(
+                        functionSignatureNode.openParenToken(),
+                        createSeparatedNodeList(updatedParamsRequired),
+                        functionSignatureNode.closeParenToken(),
+                        functionSignatureNode.returnTypeDesc().orElse(null));
+
             }
-            if (operation.getDeprecated() != null && operation.getDeprecated()) {
-                extractDeprecatedAnnotation(operation.getExtensions(),
-                        docs, annotations);
+        } else {
+            docs.add(createAPIParamDoc(HEADERS, "Headers to be sent with the request"));
+        }
+        RequestBody requestBody = operation.getRequestBody();
+        if (requestBody != null) {
+            addRequestBodyDoc(docs, requestBody);
+        }
+        //todo response
+        if (operation.getResponses() != null) {
+            ApiResponses responses = operation.getResponses();
+            Collection<ApiResponse> values = responses.values();
+            Iterator<ApiResponse> iteratorRes = values.iterator();
+            if (iteratorRes.hasNext()) {
+                ApiResponse response = iteratorRes.next();
+                if (response.getDescription() != null && !response.getDescription().isBlank()) {
+                    MarkdownParameterDocumentationLineNode returnDoc = createAPIParamDoc("return",
+                            response.getDescription());
+                    docs.add(returnDoc);
+                }
             }
+        }
+        if (operation.getDeprecated() != null && operation.getDeprecated()) {
+            extractDeprecatedAnnotation(operation.getExtensions(),
+                    docs, annotations);
+        }
 
-            MarkdownDocumentationNode documentationNode = createMarkdownDocumentationNode(createNodeList(docs));
-            Optional<MetadataNode> metadata = funcDef.metadata();
-            MetadataNode metadataNode;
-            if (metadata.isEmpty()) {
-                metadataNode = createMetadataNode(documentationNode, createNodeList(annotations));
-            } else {
-                metadataNode = metadata.get();
-                metadataNode = createMetadataNode(documentationNode,
-                        metadataNode.annotations().isEmpty() ? createNodeList(annotations) :
-                                metadataNode.annotations().addAll(annotations));
-            }
-            funcDef = funcDef.modify(
-                    funcDef.kind(),
-                    metadataNode,
-                    funcDef.qualifierList(),
-                    funcDef.functionKeyword(),
-                    funcDef.functionName(),
-                    funcDef.relativeResourcePath(),
-                    functionSignatureNode,
-                    funcDef.functionBody());
+        MarkdownDocumentationNode documentationNode = createMarkdownDocumentationNode(createNodeList(docs));
+        Optional<MetadataNode> metadata = funcDef.metadata();
+        MetadataNode metadataNode;
+        if (metadata.isEmpty()) {
+            metadataNode = createMetadataNode(documentationNode, createNodeList(annotations));
+        } else {
+            metadataNode = metadata.get();
+            metadataNode = createMetadataNode(documentationNode,
+                    metadataNode.annotations().isEmpty() ? createNodeList(annotations) :
+                            metadataNode.annotations().addAll(annotations));
         }
-        return funcDef;
+        return funcDef.modify(
+                funcDef.kind(),
+                metadataNode,
+                funcDef.qualifierList(),
+                funcDef.functionKeyword(),
+                funcDef.functionName(),
+                funcDef.relativeResourcePath(),
+                functionSignatureNode,
+                funcDef.functionBody());
     }
 
     private void addRequestBodyDoc(List<Node> docs, RequestBody requestBody) {
@@ -381,4 +395,7 @@ public class ClientDocCommentGenerator implements DocCommentsGenerator {
         }
         return collection;
     }
+
+    private record SortableFunction(String sortKey, Node functionNode) {
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.document;
+
+import java.util.Locale;
+
+/**
+ * Defines how the doc comments of the generated client, service and types are added.
+ * <p>
+ * By default, the doc comment generators revisit the generated syntax trees and match the functions and types with
+ * the operations and schemas of the contract. In the {@link #INLINE} mode, the generators document the functions and
+ * types with the operations and schemas they are generated from when the members of the class, service or module are
+ * assembled, hence the syntax trees are not revisited. In the {@link #NONE} mode, the doc comments are not generated.
+ * The members are sorted the same way in every mode. The mode is selected with the {@code --doc-comments} option of
+ * the command and the {@code docComments} option of the build tool, and it is carried with the client and service
+ * configurations.
+ *
+ * @since 2.2.0
+ */
+public enum DocCommentMode {
+
+    POST_GENERATION,
+    INLINE,
+    NONE;
+
+    /**
+     * Get the mode of the given option value.
+     *
+     * @param value option value, {@code default}, {@code inline} or {@code none}
+     * @return mode of the value, {@link #POST_GENERATION} when the value is not given
+     * @throws IllegalArgumentException when the value is not a valid mode
+     */
+    public static DocCommentMode fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return POST_GENERATION;
+        }
+        return switch (value.trim().toLowerCase(Locale.ENGLISH)) {
+            case "default" -> POST_GENERATION;
+            case "inline" -> INLINE;
+            case "none" -> NONE;
+            default -> throw new IllegalArgumentException(String.format(
+                    "invalid doc comment mode '%s', the supported values are 'default', 'inline' and 'none'", value));
+        };
+    }
+}
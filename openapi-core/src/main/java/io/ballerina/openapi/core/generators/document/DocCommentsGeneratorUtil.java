@@ -21,6 +21,7 @@ package io.ballerina.openapi.core.generators.document;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.BasicLiteralNode;
 import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
 import io.ballerina.compiler.syntax.tree.MarkdownDocumentationLineNode;
 import io.ballerina.compiler.syntax.tree.MarkdownDocumentationNode;
@@ -254,4 +255,18 @@ public class DocCommentsGeneratorUtil {
         }
     }
 
+    /**
+     * Get the source of the function up to the open parenthesis of the parameter list, i.e. the annotations,
+     * the qualifiers, the method and the resource path. The generated functions differ within this part, hence it
+     * sorts the functions in the same order as their full source does, without serializing the function bodies.
+     */
+    public static String getFunctionHeader(FunctionDefinitionNode funcDef) {
+        StringBuilder header = new StringBuilder();
+        funcDef.metadata().ifPresent(metadata -> header.append(metadata.toSourceCode()));
+        funcDef.qualifierList().forEach(qualifier -> header.append(qualifier.toSourceCode()));
+        header.append(funcDef.functionKeyword().toSourceCode()).append(funcDef.functionName().toSourceCode());
+        funcDef.relativeResourcePath().forEach(pathNode -> header.append(pathNode.toSourceCode()));
+        header.append(funcDef.functionSignature().openParenToken().toSourceCode());
+        return header.toString();
+    }
 }
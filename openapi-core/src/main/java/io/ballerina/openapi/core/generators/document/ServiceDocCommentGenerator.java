@@ -49,12 +49,14 @@ import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
@@ -72,6 +74,7 @@ import static io.ballerina.openapi.core.generators.document.DocCommentsGenerator
 import static io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil.createAPIParamDocFromString;
 import static io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil.extractDeprecatedAnnotationDetails;
 import static io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil.extractDisplayAnnotation;
+import static io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil.getFunctionHeader;
 import static io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil.updatedAnnotationInParameterNode;
 
 public class ServiceDocCommentGenerator implements DocCommentsGenerator {
@@ -82,6 +85,14 @@ public class ServiceDocCommentGenerator implements DocCommentsGenerator {
         this.openAPI = openAPI;
         this.syntaxTree = syntaxTree;
     }
+
+    /**
+     * Create a generator which documents the resource functions as they are generated, without a syntax tree.
+     */
+    public ServiceDocCommentGenerator(OpenAPI openAPI, boolean isProxyService) {
+        this(null, openAPI, isProxyService);
+    }
+
     @Override
     public SyntaxTree updateSyntaxTreeWithDocComments() {
         //collect all the operation details
@@ -93,42 +104,11 @@ public class ServiceDocCommentGenerator implements DocCommentsGenerator {
         ModulePartNode modulePartNode = (ModulePartNode) rootNode;
         NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
         List<ModuleMemberDeclarationNode> updatedMembers = new ArrayList<>();
-        members.forEach(member -> {
+        for (ModuleMemberDeclarationNode member : members) {
             if (member.kind().equals(SyntaxKind.SERVICE_DECLARATION)) {
                 ServiceDeclarationNode classDef = (ServiceDeclarationNode) member;
-                HashMap<String, Node> updatedList = new HashMap<>();
-                NodeList<Node> classMembers = classDef.members();
-                //sort these members according to .toString();
-                List<String> sortedMembers = new ArrayList<>();
-                List<Node> clientInitNodes = new ArrayList<>();
-                classMembers.forEach(classMember -> {
-                    String sortKey = "";
-                    if (classMember.kind().equals(SyntaxKind.RESOURCE_ACCESSOR_DEFINITION)) {
-                        FunctionDefinitionNode funcDef = (FunctionDefinitionNode) classMember;
-                            sortKey = funcDef.toSourceCode();
-                            sortedMembers.add(sortKey);
-                            NodeList<Node> nodes = funcDef.relativeResourcePath();
-                            StringBuilder path = new StringBuilder();
-                            for (Node node: nodes) {
-                                path.append(node.toString().replace("\"", ""));
-                            }
-                            String key = replaceContentWithinBrackets(path.toString(), "XXX") + "_" +
-                                    funcDef.functionName().text();
-                            funcDef = updateDocCommentsForFunctionNode(operationDetailsMap, funcDef, key);
-
-                        classMember = funcDef;
-                    } else {
-                        clientInitNodes.add(classMember);
-                    }
-                    updatedList.put(sortKey, classMember);
-                });
-                //sort the members
-                List<Node> sortedNodes = new ArrayList<>();
-                sortedNodes.addAll(clientInitNodes);
-                sortedMembers.sort(String::compareTo);
-                for (String memberStr: sortedMembers) {
-                    sortedNodes.add(updatedList.get(memberStr));
-                }
+                List<Node> classMembers = new ArrayList<>();
+                classDef.members().forEach(classMembers::add);
                 member = classDef.modify(
                         classDef.metadata().orElse(null),
                         classDef.qualifiers(),
@@ -138,19 +118,59 @@ public class ServiceDocCommentGenerator implements DocCommentsGenerator {
                         classDef.onKeyword(),
                         classDef.expressions(),
                         classDef.openBraceToken(),
-                        updatedList.isEmpty() ? classDef.members() : createNodeList(sortedNodes),
+                        classMembers.isEmpty() ? classDef.members() : createNodeList(
+                                updateServiceMembers(classMembers, funcDef -> getOperation(operationDetailsMap,
+                                        funcDef))),
                         classDef.closeBraceToken(),
                         classDef.semicolonToken().orElse(null));
             }
-
             updatedMembers.add(member);
-            NodeList<ModuleMemberDeclarationNode> clientMembers = AbstractNodeFactory.createNodeList(updatedMembers);
-            ModulePartNode updatedmodulePartNode = modulePartNode.modify(modulePartNode.imports(), clientMembers,
-                    modulePartNode.eofToken());
+        }
+        ModulePartNode updatedModulePartNode = modulePartNode.modify(modulePartNode.imports(),
+                AbstractNodeFactory.createNodeList(updatedMembers), modulePartNode.eofToken());
+        return syntaxTree.modifyWith(updatedModulePartNode);
+    }
 
-            syntaxTree = syntaxTree.modifyWith(updatedmodulePartNode);
-        });
-        return syntaxTree;
+    /**
+     * Add the doc comments to the resource functions of a service, and sort the resource functions by their source
+     * after the other service members.
+     *
+     * @param serviceMembers    members of the service declaration
+     * @param operationResolver resolves the operation a resource function is generated for, or null for an
+     *                          undocumented function
+     * @return updated service members
+     */
+    public List<Node> updateServiceMembers(List<Node> serviceMembers,
+                                           Function<FunctionDefinitionNode, Operation> operationResolver) {
+        List<Node> sortedNodes = new ArrayList<>();
+        List<SortableFunction> functions = new ArrayList<>();
+        for (Node serviceMember : serviceMembers) {
+            if (serviceMember.kind().equals(SyntaxKind.RESOURCE_ACCESSOR_DEFINITION)) {
+                FunctionDefinitionNode funcDef = (FunctionDefinitionNode) serviceMember;
+                Operation operation = operationResolver.apply(funcDef);
+                functions.add(new SortableFunction(getFunctionHeader(funcDef),
+                        operation == null ? funcDef : updateDocCommentsForFunctionNode(operation, funcDef)));
+            } else {
+                sortedNodes.add(serviceMember);
+            }
+        }
+        //sort the members
+        functions.sort(Comparator.comparing(SortableFunction::sortKey));
+        for (SortableFunction function : functions) {
+            sortedNodes.add(function.functionNode());
+        }
+        return sortedNodes;
+    }
+
+    private static Operation getOperation(HashMap<String, OperationDetails> operationDetailsMap,
+                                          FunctionDefinitionNode funcDef) {
+        StringBuilder path = new StringBuilder();
+        for (Node node : funcDef.relativeResourcePath()) {
+            path.append(node.toString().replace("\"", ""));
+        }
+        String key = replaceContentWithinBrackets(path.toString(), "XXX") + "_" + funcDef.functionName().text();
+        OperationDetails operationDetails = operationDetailsMap.get(key);
+        return operationDetails == null ? null : operationDetails.operation();
     }
 
     private void extractOperations(HashMap<String, OperationDetails> operationDetailsMap, Paths paths) {
@@ -167,103 +187,98 @@ public class ServiceDocCommentGenerator implements DocCommentsGenerator {
         });
     }
 
-    private  FunctionDefinitionNode updateDocCommentsForFunctionNode(
-            HashMap<String, OperationDetails> operationDetailsMap, FunctionDefinitionNode funcDef, String key) {
-        OperationDetails operationDetails = operationDetailsMap.get(key);
-        if (operationDetails != null) {
-            List<Node> docs = new ArrayList<>();
-            List<AnnotationNode> annotations = new ArrayList<>();
-            Operation operation = operationDetails.operation();
-            //function main comment
-            if (operation.getSummary() != null) {
-                docs.addAll(createAPIDescriptionDoc(operation.getSummary(), true));
-            } else if (operation.getDescription() != null) {
-                docs.addAll(createAPIDescriptionDoc(operation.getDescription(), true));
-            }
-            //function display annotation
-            if (operation.getExtensions() != null) {
-                extractDisplayAnnotation(operation.getExtensions(), annotations);
-            }
-            FunctionSignatureNode functionSignatureNode = funcDef.functionSignature();
-            //function parameters
-            if (operation.getParameters() != null) {
-                SeparatedNodeList<ParameterNode> parameters = functionSignatureNode.parameters();
-                List<Node> updatedParamsRequired = new ArrayList<>();
-                List<Node> updatedParamsDefault = new ArrayList<>();
+    private FunctionDefinitionNode updateDocCommentsForFunctionNode(Operation operation,
+                                                                    FunctionDefinitionNode funcDef) {
+        List<Node> docs = new ArrayList<>();
+        List<AnnotationNode> annotations = new ArrayList<>();
+        //function main comment
+        if (operation.getSummary() != null) {
+            docs.addAll(createAPIDescriptionDoc(operation.getSummary(), true));
+        } else if (operation.getDescription() != null) {
+            docs.addAll(createAPIDescriptionDoc(operation.getDescription(), true));
+        }
+        //function display annotation
+        if (operation.getExtensions() != null) {
+            extractDisplayAnnotation(operation.getExtensions(), annotations);
+        }
+        FunctionSignatureNode functionSignatureNode = funcDef.functionSignature();
+        //function parameters
+        if (operation.getParameters() != null) {
+            SeparatedNodeList<ParameterNode> parameters = functionSignatureNode.parameters();
+            List<Node> updatedParamsRequired = new ArrayList<>();
+            List<Node> updatedParamsDefault = new ArrayList<>();
 
-                HashMap<String, ParameterNode> collection = getParameterNodeHashMap(parameters);
-                //todo parameter reference
-                updateParameterNodes(docs, operation, updatedParamsRequired, updatedParamsDefault, collection);
-                updatedParamsRequired.addAll(updatedParamsDefault);
-                if (!updatedParamsRequired.isEmpty()) {
-                    updatedParamsRequired.remove(updatedParamsRequired.size() - 1);
-                    functionSignatureNode = functionSignatureNode.modify(
-                            functionSignatureNode.openParenToken(),
-                            createSeparatedNodeList(updatedParamsRequired),
-                            functionSignatureNode.closeParenToken(),
-                            functionSignatureNode.returnTypeDesc().orElse(null));
+            HashMap<String, ParameterNode> collection = getParameterNodeHashMap(parameters);
+            //todo parameter reference
+            updateParameterNodes(docs, operation, updatedParamsRequired, updatedParamsDefault, collection);
+            updatedParamsRequired.addAll(updatedParamsDefault);
+            if (!updatedParamsRequired.isEmpty()) {
+                updatedParamsRequired.remove(updatedParamsRequired.size() - 1);
+                functionSignatureNode = functionSignatureNode.modify(
+                        functionSignatureNode.openParenToken(),
+                        createSeparatedNodeList(updatedParamsRequired),
+                        functionSignatureNode.closeParenToken(),
+                        functionSignatureNode.returnTypeDesc().orElse(null));
 
-                }
             }
-            RequestBody requestBody = operation.getRequestBody();
-            if (requestBody != null) {
-                requestBodyDoc(docs, requestBody);
-            }
-            //todo response
-            if (operation.getResponses() != null) {
-                ApiResponses responses = operation.getResponses();
-                Set<Map.Entry<String, ApiResponse>> entrySet = responses.entrySet();
-                if (entrySet.size() > 1) {
-                    MarkdownParameterDocumentationLineNode returnDoc = createAPIParamDoc("return",
-                            "returns can be any of following types");
-                    docs.add(returnDoc);
-                    for (Map.Entry<String, ApiResponse> response : entrySet) {
-                        String code = GeneratorConstants.HTTP_CODES_DES.get(response.getKey().trim());
-                        if (response.getValue().getDescription() != null &&
-                                !response.getValue().getDescription().isBlank()) {
-                            if (code == null) {
-                                code = "Response";
-                            }
-                            MarkdownCodeLineNode returnDocLine = createMarkdownCodeLineNode(
-                                    createToken(SyntaxKind.HASH_TOKEN), createIdentifierToken(String
-                                            .format("http:%s (%s)", code, response.getValue().getDescription()
-                                                    .replaceAll("\n", "\n# "))));
-                            docs.add(returnDocLine);
-                        }
-                    }
-                } else if (entrySet.size() == 1) {
-                    Map.Entry<String, ApiResponse> response = responses.entrySet().iterator().next();
+        }
+        RequestBody requestBody = operation.getRequestBody();
+        if (requestBody != null) {
+            requestBodyDoc(docs, requestBody);
+        }
+        //todo response
+        if (operation.getResponses() != null) {
+            ApiResponses responses = operation.getResponses();
+            Set<Map.Entry<String, ApiResponse>> entrySet = responses.entrySet();
+            if (entrySet.size() > 1) {
+                MarkdownParameterDocumentationLineNode returnDoc = createAPIParamDoc("return",
+                        "returns can be any of following types");
+                docs.add(returnDoc);
+                for (Map.Entry<String, ApiResponse> response : entrySet) {
+                    String code = GeneratorConstants.HTTP_CODES_DES.get(response.getKey().trim());
                     if (response.getValue().getDescription() != null &&
                             !response.getValue().getDescription().isBlank()) {
-                        MarkdownParameterDocumentationLineNode returnDoc = createAPIParamDoc("return",
-                                response.getValue().getDescription());
-                        docs.add(returnDoc);
+                        if (code == null) {
+                            code = "Response";
+                        }
+                        MarkdownCodeLineNode returnDocLine = createMarkdownCodeLineNode(
+                                createToken(SyntaxKind.HASH_TOKEN), createIdentifierToken(String
+                                        .format("http:%s (%s)", code, response.getValue().getDescription()
+                                                .replaceAll("\n", "\n# "))));
+                        docs.add(returnDocLine);
                     }
                 }
+            } else if (entrySet.size() == 1) {
+                Map.Entry<String, ApiResponse> response = responses.entrySet().iterator().next();
+                if (response.getValue().getDescription() != null &&
+                        !response.getValue().getDescription().isBlank()) {
+                    MarkdownParameterDocumentationLineNode returnDoc = createAPIParamDoc("return",
+                            response.getValue().getDescription());
+                    docs.add(returnDoc);
+                }
             }
+        }
 
-            MarkdownDocumentationNode documentationNode = createMarkdownDocumentationNode(createNodeList(docs));
-            Optional<MetadataNode> metadata = funcDef.metadata();
-            MetadataNode metadataNode;
-            if (metadata.isEmpty()) {
-                metadataNode = createMetadataNode(documentationNode, createNodeList(annotations));
-            } else {
-                metadataNode = metadata.get();
-                metadataNode = createMetadataNode(documentationNode,
-                        metadataNode.annotations().isEmpty() ? createNodeList(annotations) :
-                                metadataNode.annotations().addAll(annotations));
-            }
-            funcDef = funcDef.modify(
-                    funcDef.kind(),
-                    metadataNode,
-                    funcDef.qualifierList(),
-                    funcDef.functionKeyword(),
-                    funcDef.functionName(),
-                    funcDef.relativeResourcePath(),
-                    functionSignatureNode,
-                    funcDef.functionBody());
+        MarkdownDocumentationNode documentationNode = createMarkdownDocumentationNode(createNodeList(docs));
+        Optional<MetadataNode> metadata = funcDef.metadata();
+        MetadataNode metadataNode;
+        if (metadata.isEmpty()) {
+            metadataNode = createMetadataNode(documentationNode, createNodeList(annotations));
+        } else {
+            metadataNode = metadata.get();
+            metadataNode = createMetadataNode(documentationNode,
+                    metadataNode.annotations().isEmpty() ? createNodeList(annotations) :
+                            metadataNode.annotations().addAll(annotations));
         }
-        return funcDef;
+        return funcDef.modify(
+                funcDef.kind(),
+                metadataNode,
+                funcDef.qualifierList(),
+                funcDef.functionKeyword(),
+                funcDef.functionName(),
+                funcDef.relativeResourcePath(),
+                functionSignatureNode,
+                funcDef.functionBody());
     }
 
     private void requestBodyDoc(List<Node> docs, RequestBody requestBody) {
@@ -361,4 +376,7 @@ public class ServiceDocCommentGenerator implements DocCommentsGenerator {
             }
         }
     }
+
+    private record SortableFunction(String sortKey, Node functionNode) {
+    }
 }
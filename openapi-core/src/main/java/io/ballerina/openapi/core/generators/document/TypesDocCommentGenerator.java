@@ -54,6 +54,14 @@ public class TypesDocCommentGenerator implements DocCommentsGenerator {
         this.openAPI = openAPI;
         this.syntaxTree = syntaxTree;
     }
+
+    /**
+     * Create a generator which documents the type definitions as they are generated, without a syntax tree.
+     */
+    public TypesDocCommentGenerator(OpenAPI openAPI) {
+        this(null, openAPI);
+    }
+
     @Override
     public SyntaxTree updateSyntaxTreeWithDocComments() {
         if (openAPI.getComponents() == null) {
@@ -62,75 +70,15 @@ public class TypesDocCommentGenerator implements DocCommentsGenerator {
         //generate type doc comments
         Node rootNode = syntaxTree.rootNode();
         //iterate through the root node and add doc comments
-        Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
         ModulePartNode modulePartNode = (ModulePartNode) rootNode;
         NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
         List<ModuleMemberDeclarationNode> updatedMemberTypesList = new ArrayList<>();
 
         members.stream().forEach(member -> {
-            if (!(member instanceof TypeDefinitionNode typeDef)) {
-                updatedMemberTypesList.add(member);
-                return;
-            }
-            // Find a matching schema based on type name
-            TypeDefinitionNode finalTypeDef = typeDef;
-            if (schemas == null) {
-                updatedMemberTypesList.add(typeDef);
-                return;
-            }
-            Schema<?> schema = schemas.entrySet()
-                    .stream()
-                    .filter(entry -> entry.getKey().equals(finalTypeDef.typeName().text()))
-                    .map(Map.Entry::getValue)
-                    .findAny()
-                    .orElse(null); // handle if no matching schema is found
-
-            if (schema != null) {
-                if (finalTypeDef.typeDescriptor().kind().equals(SyntaxKind.RECORD_TYPE_DESC)) {
-                    List<Node> updatedFields = new ArrayList<>();
-                    RecordTypeDescriptorNode record = (RecordTypeDescriptorNode) finalTypeDef.typeDescriptor();
-                    NodeList<Node> fields = record.fields();
-                    if (schema instanceof ComposedSchema composedSchema) {
-                        List<Schema> allOf = composedSchema.getAllOf();
-                        //handle special scenarios which allOf has inline objects
-                        Map<String, Schema> properties = new HashMap<>();
-                        if (allOf != null) {
-                            for (Schema<?> allOfSchema: allOf) {
-                                if (allOfSchema.getProperties() != null) {
-                                    properties.putAll(allOfSchema.getProperties());
-                                }
-                            }
-                        }
-                        schema.setProperties(properties);
-                    }
-
-                    updateRecordFields(schema, updatedFields, fields);
-
-                    typeDef = typeDef.modify(typeDef.metadata().orElse(null),
-                            typeDef.visibilityQualifier().get(),
-                            typeDef.typeKeyword(),
-                            typeDef.typeName(),
-                            NodeFactory.createRecordTypeDescriptorNode(
-                                    record.recordKeyword(),
-                                    record.bodyStartDelimiter(),
-                                    updatedFields.isEmpty() ? fields : createNodeList(updatedFields),
-                                    record.recordRestDescriptor().orElse(null),
-                                    record.bodyEndDelimiter()),
-                            typeDef.semicolonToken());
-                }
-                Optional<MetadataNode> metadata = typeDef.metadata();
-                if (schema.getDescription() != null || schema.getDeprecated() != null) {
-                    MetadataNode metadataNode = updateMetadataNode(metadata, schema);
-                    typeDef = typeDef.modify(metadataNode,
-                            typeDef.visibilityQualifier().get(),
-                            typeDef.typeKeyword(),
-                            typeDef.typeName(),
-                            typeDef.typeDescriptor(),
-                            typeDef.semicolonToken());
-                }
-                updatedMemberTypesList.add(typeDef);
+            if (member instanceof TypeDefinitionNode typeDef) {
+                updatedMemberTypesList.add(updateTypeDefinition(typeDef));
             } else {
-                updatedMemberTypesList.add(typeDef);
+                updatedMemberTypesList.add(member);
             }
         });
         NodeList<ModuleMemberDeclarationNode> updatedMembers = AbstractNodeFactory.createNodeList(
@@ -140,6 +88,66 @@ public class TypesDocCommentGenerator implements DocCommentsGenerator {
         return syntaxTree.modifyWith(modulePartNode);
     }
 
+    /**
+     * Add the doc comments of the component schema which has the name of the given type definition.
+     *
+     * @param typeDef generated type definition
+     * @return documented type definition, or the given type definition when there is no matching schema
+     */
+    public TypeDefinitionNode updateTypeDefinition(TypeDefinitionNode typeDef) {
+        // Find a matching schema based on type name
+        if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+            return typeDef;
+        }
+        Schema<?> schema = openAPI.getComponents().getSchemas().get(typeDef.typeName().text());
+        if (schema == null) {
+            return typeDef;
+        }
+        if (typeDef.typeDescriptor().kind().equals(SyntaxKind.RECORD_TYPE_DESC)) {
+            List<Node> updatedFields = new ArrayList<>();
+            RecordTypeDescriptorNode record = (RecordTypeDescriptorNode) typeDef.typeDescriptor();
+            NodeList<Node> fields = record.fields();
+            if (schema instanceof ComposedSchema composedSchema) {
+                List<Schema> allOf = composedSchema.getAllOf();
+                //handle special scenarios which allOf has inline objects
+                Map<String, Schema> properties = new HashMap<>();
+                if (allOf != null) {
+                    for (Schema<?> allOfSchema: allOf) {
+                        if (allOfSchema.getProperties() != null) {
+                            properties.putAll(allOfSchema.getProperties());
+                        }
+                    }
+                }
+                schema.setProperties(properties);
+            }
+
+            updateRecordFields(schema, updatedFields, fields);
+
+            typeDef = typeDef.modify(typeDef.metadata().orElse(null),
+                    typeDef.visibilityQualifier().get(),
+                    typeDef.typeKeyword(),
+                    typeDef.typeName(),
+                    NodeFactory.createRecordTypeDescriptorNode(
+                            record.recordKeyword(),
+                            record.bodyStartDelimiter(),
+                            updatedFields.isEmpty() ? fields : createNodeList(updatedFields),
+                            record.recordRestDescriptor().orElse(null),
+                            record.bodyEndDelimiter()),
+                    typeDef.semicolonToken());
+        }
+        Optional<MetadataNode> metadata = typeDef.metadata();
+        if (schema.getDescription() != null || schema.getDeprecated() != null) {
+            MetadataNode metadataNode = updateMetadataNode(metadata, schema);
+            typeDef = typeDef.modify(metadataNode,
+                    typeDef.visibilityQualifier().get(),
+                    typeDef.typeKeyword(),
+                    typeDef.typeName(),
+                    typeDef.typeDescriptor(),
+                    typeDef.semicolonToken());
+        }
+        return typeDef;
+    }
+
     private static void updateRecordFields(Schema<?> schema, List<Node> updatedFields, NodeList<Node> fields) {
         if (schema.getProperties() != null) {
             for (Node field : fields) {
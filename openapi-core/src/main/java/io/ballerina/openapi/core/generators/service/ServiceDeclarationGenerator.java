@@ -35,6 +35,7 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.document.DocCommentMode;
 import io.ballerina.openapi.core.generators.document.ServiceDocCommentGenerator;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
@@ -84,7 +85,17 @@ public class ServiceDeclarationGenerator extends ServiceGenerator {
         if (functionsList == null) {
             functionsList = createResourceFunctions(oasServiceMetadata.getOpenAPI(), oasServiceMetadata.getFilters());
         }
-        NodeList<Node> members = createNodeList(functionsList);
+        DocCommentMode docCommentMode = oasServiceMetadata.getDocCommentMode();
+        NodeList<Node> members;
+        if (docCommentMode == DocCommentMode.POST_GENERATION) {
+            members = createNodeList(functionsList);
+        } else {
+            // Document and sort the resource functions before the syntax tree is created
+            ServiceDocCommentGenerator serviceDocCommentGenerator = new ServiceDocCommentGenerator(
+                    oasServiceMetadata.getOpenAPI(), oasServiceMetadata.generateWithoutDataBinding());
+            members = createNodeList(serviceDocCommentGenerator.updateServiceMembers(functionsList,
+                    docCommentMode == DocCommentMode.INLINE ? functionOperations::get : function -> null));
+        }
         // Create annotation if nullable property is enabled
         // @http:ServiceConfig {
         //     treatNilableAsOptional : false
@@ -114,6 +125,9 @@ public class ServiceDeclarationGenerator extends ServiceGenerator {
         TextDocument textDocument = TextDocuments.from("");
         SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
         syntaxTree = syntaxTree.modifyWith(modulePartNode);
+        if (docCommentMode != DocCommentMode.POST_GENERATION) {
+            return syntaxTree;
+        }
         // Add comments
         ServiceDocCommentGenerator serviceDocCommentGenerator = new ServiceDocCommentGenerator(syntaxTree,
                 oasServiceMetadata.getOpenAPI(), oasServiceMetadata.generateWithoutDataBinding());
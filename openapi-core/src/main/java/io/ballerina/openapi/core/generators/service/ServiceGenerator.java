@@ -33,6 +33,7 @@ import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -42,6 +43,8 @@ public abstract class ServiceGenerator {
     final OASServiceMetadata oasServiceMetadata;
     boolean isNullableRequired;
     List<Node> functionsList;
+    // Operations of the generated resource functions, which document the functions in the inline doc comment mode
+    final Map<FunctionDefinitionNode, Operation> functionOperations = new IdentityHashMap<>();
 
     final List<Diagnostic> diagnostics = new ArrayList<>();
 
@@ -108,6 +111,7 @@ public abstract class ServiceGenerator {
                         // this will catch the warning level diagnostics that does not affect the function generation.
                         diagnostics.addAll(resourceGenerator.getDiagnostics());
                         functions.add(resourceFunction);
+                        functionOperations.put(resourceFunction, operation.getValue());
                     }
                 }
             } else {
@@ -121,6 +125,7 @@ public abstract class ServiceGenerator {
                 }
                 diagnostics.addAll(resourceGenerator.getDiagnostics());
                 functions.add(resourceFunction);
+                functionOperations.put(resourceFunction, operation.getValue());
             }
             if (resourceGenerator.isNullableRequired()) {
                 isNullableRequired = true;
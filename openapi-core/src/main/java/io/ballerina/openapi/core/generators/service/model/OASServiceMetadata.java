@@ -21,6 +21,7 @@ package io.ballerina.openapi.core.generators.service.model;
 import io.ballerina.openapi.core.generators.common.GeneratorConstants;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.model.Filter;
+import io.ballerina.openapi.core.generators.document.DocCommentMode;
 import io.swagger.v3.oas.models.OpenAPI;
 
 /**
@@ -41,6 +42,7 @@ public class OASServiceMetadata {
     private final String srcFile;
     private final boolean isUsingSanitizedOas;
     private final String serviceObjectTypeName;
+    private final DocCommentMode docCommentMode;
 
     private OASServiceMetadata(Builder serviceMetadataBuilder) {
         this.openAPI = serviceMetadataBuilder.openAPI;
@@ -54,6 +56,7 @@ public class OASServiceMetadata {
         this.srcFile = serviceMetadataBuilder.srcFile;
         this.isUsingSanitizedOas = serviceMetadataBuilder.isUsingSanitizedOas;
         this.serviceObjectTypeName = serviceMetadataBuilder.serviceObjectTypeName;
+        this.docCommentMode = serviceMetadataBuilder.docCommentMode;
     }
 
     public OpenAPI getOpenAPI() {
@@ -99,6 +102,11 @@ public class OASServiceMetadata {
     public String getServiceObjectTypeName() {
         return serviceObjectTypeName;
     }
+
+    public DocCommentMode getDocCommentMode() {
+        return docCommentMode;
+    }
+
     /**
      * Service generation meta data builder class.
      */
@@ -117,6 +125,7 @@ public class OASServiceMetadata {
         private String srcFile = "";
         private boolean isUsingSanitizedOas = false;
         private String serviceObjectTypeName = GeneratorConstants.SERVICE_TYPE_NAME;
+        private DocCommentMode docCommentMode = DocCommentMode.POST_GENERATION;
 
         public Builder withOpenAPI(OpenAPI openAPI) {
             this.openAPI = openAPI;
@@ -177,6 +186,11 @@ public class OASServiceMetadata {
             return this;
         }
 
+        public Builder withDocCommentMode(DocCommentMode docCommentMode) {
+            this.docCommentMode = docCommentMode;
+            return this;
+        }
+
         public OASServiceMetadata build() {
             return new OASServiceMetadata(this);
         }
@@ -24,7 +24,9 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.UnionTypeDescriptorNode;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.SchemaReferenceGraph;
 import io.ballerina.openapi.core.generators.common.exception.InvalidReferenceException;
 import io.ballerina.openapi.core.generators.type.diagnostic.TypeGenerationDiagnosticMessages;
 import io.ballerina.openapi.core.generators.type.diagnostic.TypeGeneratorDiagnostic;
@@ -36,25 +38,33 @@ import io.ballerina.openapi.core.generators.type.generators.RecordTypeGenerator;
 import io.ballerina.openapi.core.generators.type.generators.TypeGenerator;
 import io.ballerina.openapi.core.generators.type.generators.UnionTypeGenerator;
 import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
+import io.ballerina.openapi.core.generators.type.model.ReferencedTypeCache;
 import io.ballerina.openapi.core.generators.type.model.TypeGeneratorResult;
+import io.ballerina.openapi.core.generators.type.model.UnionTypeAliases;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
-import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinitionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createUnionTypeDescriptorNode;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DEFAULT_UNION_THRESHOLD;
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.PARALLEL_THRESHOLD;
 
 /**
  * This class wraps the {@link Schema} from openapi models inorder to overcome complications
@@ -64,6 +74,9 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
  */
 public class BallerinaTypesGenerator {
 
+    public static final String SEQUENTIAL_PROPERTY = "openapi.types.sequential";
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+
     private final List<Diagnostic> diagnostics = new ArrayList<>();
 
     /**
@@ -74,16 +87,93 @@ public class BallerinaTypesGenerator {
      * @param isNullable nullable value
      */
     public BallerinaTypesGenerator(OpenAPI openAPI, boolean isNullable) {
-        GeneratorMetaData.createInstance(openAPI, isNullable);
+        this(openAPI, isNullable, 0);
+    }
+
+    /**
+     * Create a types generator which generates the string enums with more values than the given maximum enum size
+     * as string types with a lookup table of the values.
+     *
+     * @param openAPI     OAS definition
+     * @param isNullable  nullable value
+     * @param maxEnumSize maximum number of values of an enum generated as a union, or zero for no limit
+     */
+    public BallerinaTypesGenerator(OpenAPI openAPI, boolean isNullable, int maxEnumSize) {
+        this(openAPI, isNullable, maxEnumSize, DEFAULT_UNION_THRESHOLD);
+    }
+
+    /**
+     * Create a types generator which also generates the unions with more members than the given union threshold in
+     * the compact form.
+     *
+     * @param openAPI        OAS definition
+     * @param isNullable     nullable value
+     * @param maxEnumSize    maximum number of values of an enum generated as a union, or zero for no limit
+     * @param unionThreshold member count above which a union is generated in the compact form
+     */
+    public BallerinaTypesGenerator(OpenAPI openAPI, boolean isNullable, int maxEnumSize, int unionThreshold) {
+        GeneratorMetaData generatorMetaData = GeneratorMetaData.createInstance(openAPI, isNullable, maxEnumSize,
+                unionThreshold);
+        // A types generator starts a new generation run, hence the types of a previous run are not reused
+        generatorMetaData.getReferencedTypeCache().clear();
+        generatorMetaData.getAllOfResolutionCache().clear();
+        generatorMetaData.getComponentConstraints().clear();
+        generatorMetaData.getUnionTypeAliases().clear();
+        generatorMetaData.getEnumLookupTables().clear();
+    }
+
+    /**
+     * Generator of a component type generation task, which collects the diagnostics of the task.
+     */
+    private BallerinaTypesGenerator() {
+    }
+
+    /**
+     * Create a generator of a task of the current generation run, which collects the diagnostics of the task.
+     */
+    public static BallerinaTypesGenerator createTaskGenerator() {
+        return new BallerinaTypesGenerator();
     }
 
     public List<Diagnostic> getDiagnostics() {
         return diagnostics;
     }
 
+    /**
+     * Generate the type descriptor for the given schema. A referenced component schema is generated once per
+     * generation run, and the later requests for the same reference reuse the generated type definitions and report
+     * the same diagnostics.
+     */
     public TypeGeneratorResult generateTypeDescriptorNodeForOASSchema(Schema<?> schema, boolean ignoreNullableFlag) {
+        String referencedTypeName = null;
+        ReferencedTypeCache referencedTypeCache = GeneratorMetaData.getInstance().getReferencedTypeCache();
+        if (schema != null && schema.get$ref() != null) {
+            try {
+                referencedTypeName = GeneratorUtils.escapeIdentifier(
+                        GeneratorUtils.extractReferenceType(schema.get$ref()));
+            } catch (InvalidReferenceException e) {
+                TypeGeneratorDiagnostic diagnostic = new TypeGeneratorDiagnostic(
+                        TypeGenerationDiagnosticMessages.OAS_TYPE_103, e.getMessage());
+                diagnostics.add(diagnostic);
+                return new TypeGeneratorResult(Optional.empty(), new HashMap<>());
+            }
+            Optional<RuntimeException> failure = referencedTypeCache.getFailure(referencedTypeName,
+                    ignoreNullableFlag);
+            if (failure.isPresent()) {
+                throw failure.get();
+            }
+            Optional<ReferencedTypeCache.Entry> referencedType = referencedTypeCache.get(referencedTypeName,
+                    ignoreNullableFlag);
+            if (referencedType.isPresent()) {
+                diagnostics.addAll(referencedType.get().diagnostics());
+                return new TypeGeneratorResult(Optional.of(getSimpleNameReferenceNode(referencedTypeName)),
+                        new HashMap<>(referencedType.get().subtypeDefinitions()));
+            }
+        }
+
         HashMap<String, TypeDefinitionNode> subtypesMap = new HashMap<>();
         Optional<TypeDescriptorNode> typeDescriptorNode;
+        int diagnosticCount = diagnostics.size();
         try {
             typeDescriptorNode = generateTypeDescriptorNodeForOASSchema(schema, ignoreNullableFlag,
                     subtypesMap, new HashMap<>());
@@ -93,9 +183,202 @@ public class BallerinaTypesGenerator {
             diagnostics.add(diagnostic);
             return new TypeGeneratorResult(Optional.empty(), subtypesMap);
         }
+        if (referencedTypeName != null) {
+            referencedTypeCache.put(referencedTypeName, ignoreNullableFlag, new ReferencedTypeCache.Entry(
+                    new HashMap<>(subtypesMap),
+                    new ArrayList<>(diagnostics.subList(diagnosticCount, diagnostics.size()))));
+        }
         return new TypeGeneratorResult(typeDescriptorNode, subtypesMap);
     }
 
+    /**
+     * Generate the types of the component schemas ahead of the type requests of the generation run.
+     * <p>
+     * The strongly connected components of the schema reference graph are grouped into levels, where a component
+     * only refers to the components of the lower levels. The components of a level do not depend on each other,
+     * hence they are generated concurrently on the fork-join pool, after the lower levels are complete. The generated
+     * types are kept in the {@link ReferencedTypeCache} of the run, and the type requests, which are served in their
+     * usual order, merge them into the type definitions. Hence the generated code is the same as the one of a
+     * sequential run.
+     * <p>
+     * Small models are generated on demand only, and the pre-generation is disabled with the
+     * {@value #SEQUENTIAL_PROPERTY} system property. The allOf generator merges the inherited properties into a
+     * referred schema which has its own properties, hence a model with such a schema is generated on demand as well,
+     * since the merged properties depend on the order of the type requests. The name of a collapsed union depends on
+     * the order of the type requests too, hence a schema which needs a new union type is not pre-generated either.
+     */
+    public void generateComponentTypes() {
+        OpenAPI openAPI = GeneratorMetaData.getInstance().getOpenAPI();
+        if (Boolean.getBoolean(SEQUENTIAL_PROPERTY) || openAPI.getComponents() == null ||
+                openAPI.getComponents().getSchemas() == null ||
+                openAPI.getComponents().getSchemas().size() < PARALLEL_THRESHOLD ||
+                hasMergedProperties(openAPI)) {
+            return;
+        }
+        GenerationContext context = GenerationContext.current();
+        UnionTypeAliases unionTypeAliases = GeneratorMetaData.getInstance().getUnionTypeAliases();
+        unionTypeAliases.setCreationDeferred(true);
+        try {
+            for (List<List<String>> level : getGenerationLevels(openAPI)) {
+                level.parallelStream().forEach(schemaNames -> context.wrap(() -> {
+                    generateComponentTypes(schemaNames);
+                    return null;
+                }).get());
+            }
+        } finally {
+            unionTypeAliases.setCreationDeferred(false);
+        }
+    }
+
+    /**
+     * Generate the types of the schemas in a strongly connected component, in the declared order.
+     */
+    private static void generateComponentTypes(List<String> schemaNames) {
+        BallerinaTypesGenerator typesGenerator = new BallerinaTypesGenerator();
+        ReferencedTypeCache referencedTypeCache = GeneratorMetaData.getInstance().getReferencedTypeCache();
+        for (String schemaName : schemaNames) {
+            try {
+                typesGenerator.generateTypeDescriptorNodeForOASSchema(
+                        new Schema<>().$ref(SCHEMA_REF_PREFIX + schemaName), false);
+            } catch (UnionTypeAliases.CreationDeferredException e) {
+                // The schema needs a new union type, hence it is generated on demand, where the name is stable
+            } catch (RuntimeException e) {
+                // The failure is rethrown to the run when it requests the type of the schema
+                referencedTypeCache.putFailure(GeneratorUtils.escapeIdentifier(schemaName), false, e);
+            }
+        }
+    }
+
+    /**
+     * Check whether the allOf generator may merge properties into a referred schema of the model. The generator
+     * resolves the referred schemas of a composed schema with required fields, and it merges the inherited
+     * properties into a resolved schema which has its own properties, and the required fields which are not among
+     * the properties into the referred schema.
+     */
+    private static boolean hasMergedProperties(OpenAPI openAPI) {
+        Map<String, Schema> componentSchemas = openAPI.getComponents().getSchemas();
+        Set<Schema<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Schema<?>> pending = new ArrayDeque<>();
+        componentSchemas.values().stream().filter(Objects::nonNull).forEach(pending::push);
+        while (!pending.isEmpty()) {
+            Schema<?> schema = pending.pop();
+            if (!visited.add(schema)) {
+                continue;
+            }
+            if (schema.getAllOf() != null && schema.getRequired() != null && !schema.getRequired().isEmpty() &&
+                    hasMergedProperties(schema.getAllOf(), componentSchemas)) {
+                return true;
+            }
+            List<Schema> nestedSchemas = new ArrayList<>();
+            if (schema.getProperties() != null) {
+                nestedSchemas.addAll(schema.getProperties().values());
+            }
+            Stream.of(schema.getAllOf(), schema.getAnyOf(), schema.getOneOf()).filter(Objects::nonNull)
+                    .forEach(nestedSchemas::addAll);
+            if (schema.getAdditionalProperties() instanceof Schema<?> additionalProperties) {
+                nestedSchemas.add(additionalProperties);
+            }
+            nestedSchemas.add(schema.getItems());
+            nestedSchemas.add(schema.getNot());
+            nestedSchemas.stream().filter(Objects::nonNull).forEach(pending::push);
+        }
+        return false;
+    }
+
+    private static boolean hasMergedProperties(List<Schema> allOfSchemas, Map<String, Schema> componentSchemas) {
+        for (Schema<?> allOfSchema : allOfSchemas) {
+            if (allOfSchema == null) {
+                continue;
+            }
+            if (allOfSchema.getAllOf() != null && allOfSchema.get$ref() == null &&
+                    allOfSchema.getProperties() == null &&
+                    hasMergedProperties(allOfSchema.getAllOf(), componentSchemas)) {
+                return true;
+            }
+            Schema<?> referredSchema = getReferredSchema(allOfSchema, componentSchemas);
+            if (referredSchema == null) {
+                continue;
+            }
+            if (referredSchema.getProperties() != null && referredSchema.getRequired() != null &&
+                    !referredSchema.getProperties().keySet().containsAll(referredSchema.getRequired())) {
+                return true;
+            }
+            Set<Schema<?>> resolved = Collections.newSetFromMap(new IdentityHashMap<>());
+            Deque<Schema<?>> pending = new ArrayDeque<>();
+            pending.push(referredSchema);
+            while (!pending.isEmpty()) {
+                Schema<?> schema = pending.pop();
+                if (!resolved.add(schema)) {
+                    continue;
+                }
+                if (schema.getProperties() != null && (schema.get$ref() != null || schema.getAllOf() != null)) {
+                    return true;
+                }
+                Schema<?> inheritedSchema = getReferredSchema(schema, componentSchemas);
+                if (inheritedSchema != null) {
+                    pending.push(inheritedSchema);
+                }
+                if (schema.getAllOf() != null) {
+                    schema.getAllOf().stream().filter(Objects::nonNull).forEach(pending::push);
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Schema<?> getReferredSchema(Schema<?> schema, Map<String, Schema> componentSchemas) {
+        if (schema.get$ref() == null) {
+            return null;
+        }
+        try {
+            return componentSchemas.get(GeneratorUtils.extractReferenceType(schema.get$ref()));
+        } catch (InvalidReferenceException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Group the strongly connected components of the component schemas into levels, where a component refers only
+     * to the components of the lower levels. The schemas of a component are in the declared order.
+     */
+    private static List<List<List<String>>> getGenerationLevels(OpenAPI openAPI) {
+        Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        Map<String, Integer> declaredOrder = new HashMap<>();
+        for (String schemaName : schemas.keySet()) {
+            declaredOrder.put(schemaName, declaredOrder.size());
+        }
+        SchemaReferenceGraph graph = SchemaReferenceGraph.build(openAPI);
+        Map<SchemaReferenceGraph.Node, Integer> nodeLevels = new HashMap<>();
+        List<List<List<String>>> levels = new ArrayList<>();
+        // The strongly connected components are ordered with the referred components first
+        for (Set<SchemaReferenceGraph.Node> component : graph.getStronglyConnectedComponents()) {
+            List<String> schemaNames = new ArrayList<>();
+            int level = 0;
+            for (SchemaReferenceGraph.Node node : component) {
+                if (node.isSchema() && declaredOrder.containsKey(node.componentName())) {
+                    schemaNames.add(node.componentName());
+                }
+                for (SchemaReferenceGraph.Node reference : graph.getReferences(node)) {
+                    if (!component.contains(reference) && nodeLevels.containsKey(reference)) {
+                        level = Math.max(level, nodeLevels.get(reference) + 1);
+                    }
+                }
+            }
+            if (schemaNames.isEmpty()) {
+                continue;
+            }
+            for (SchemaReferenceGraph.Node node : component) {
+                nodeLevels.put(node, level);
+            }
+            schemaNames.sort(Comparator.comparing(declaredOrder::get));
+            while (levels.size() <= level) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(level).add(schemaNames);
+        }
+        return levels;
+    }
+
     /**
      * Generate typeDescriptor for given schema.
      */
@@ -123,12 +406,8 @@ public class BallerinaTypesGenerator {
                         GeneratorUtils.escapeIdentifier(typeName.trim()), null, ignoreNullableFlag,
                         subTypesMap, pregeneratedTypeMap);
                 TypeDescriptorNode typeDescriptorNode = typeGenerator.generateTypeDescriptorNode();
-                TypeDefinitionNode typeDefinitionNode = createTypeDefinitionNode(null,
-                        createToken(PUBLIC_KEYWORD),
-                        createToken(TYPE_KEYWORD),
-                        createIdentifierToken(typeName),
-                        typeDescriptorNode,
-                        createToken(SEMICOLON_TOKEN));
+                TypeDefinitionNode typeDefinitionNode = TypeGeneratorUtils.createComponentTypeDefinition(schemaName,
+                        schema, typeName, typeDescriptorNode, subTypesMap);
                 this.diagnostics.addAll(typeGenerator.getDiagnostics());
                 pregeneratedTypeMap.put(typeName, getSimpleNameReferenceNode(typeName));
                 subTypesMap.put(typeName, typeDefinitionNode);
@@ -202,6 +481,11 @@ public class BallerinaTypesGenerator {
             }
             qualifiedNodes.add(qualifiedNodeType.get());
         }
+        if (qualifiedNodes.size() > TypeGeneratorUtils.getUnionThreshold()) {
+            return TypeGeneratorUtils.getCollapsedUnionType(schema, null, qualifiedNodes.size(),
+                    TypeGeneratorUtils.createCompactUnionType(qualifiedNodes), subTypesMap, pregeneratedTypeMap,
+                    diagnostics);
+        }
         TypeDescriptorNode right = qualifiedNodes.get(qualifiedNodes.size() - 1);
         TypeDescriptorNode traversRight = qualifiedNodes.get(qualifiedNodes.size() - 2);
         UnionTypeDescriptorNode traversUnion = createUnionTypeDescriptorNode(traversRight, pipeToken,
@@ -22,6 +22,10 @@ import io.ballerina.compiler.syntax.tree.NameReferenceNode;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.constraint.ConstraintGeneratorImp;
+import io.ballerina.openapi.core.generators.constraint.ConstraintResult;
+import io.ballerina.openapi.core.generators.type.diagnostic.TypeGenerationDiagnosticMessages;
+import io.ballerina.openapi.core.generators.type.diagnostic.TypeGeneratorDiagnostic;
 import io.ballerina.openapi.core.generators.type.generators.AllOfRecordTypeGenerator;
 import io.ballerina.openapi.core.generators.type.generators.AnyDataTypeGenerator;
 import io.ballerina.openapi.core.generators.type.generators.ArrayTypeGenerator;
@@ -31,16 +35,32 @@ import io.ballerina.openapi.core.generators.type.generators.ReferencedTypeGenera
 import io.ballerina.openapi.core.generators.type.generators.TypeGenerator;
 import io.ballerina.openapi.core.generators.type.generators.UnionTypeGenerator;
 import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
+import io.ballerina.openapi.core.generators.type.model.UnionTypeAliases;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
+import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createOptionalTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinitionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createUnionTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.PIPE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.QUESTION_MARK_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
 
 /**
  * Contains util functions needed for schema generation.
@@ -122,4 +142,125 @@ public class TypeGeneratorUtils {
         }
         return nillableType;
     }
+
+    /**
+     * Create the type definition of a component schema with the constraints of the schema attached. The type
+     * definitions of the constrained array items of the schema are updated in the given subtypes, and the result is
+     * recorded in the {@link io.ballerina.openapi.core.generators.type.model.ComponentConstraints} of the run.
+     *
+     * @param schemaName         name of the component schema
+     * @param schema             component schema
+     * @param typeName           name of the type
+     * @param typeDescriptorNode generated type descriptor of the schema
+     * @param subTypesMap        type definitions generated for the schema
+     * @return type definition of the schema
+     */
+    public static TypeDefinitionNode createComponentTypeDefinition(String schemaName, Schema<?> schema,
+                                                                   String typeName,
+                                                                   TypeDescriptorNode typeDescriptorNode,
+                                                                   HashMap<String, TypeDefinitionNode> subTypesMap) {
+        TypeDefinitionNode typeDefinitionNode = createTypeDefinitionNode(null, createToken(PUBLIC_KEYWORD),
+                createToken(TYPE_KEYWORD), createIdentifierToken(typeName), typeDescriptorNode,
+                createToken(SEMICOLON_TOKEN));
+        GeneratorMetaData generatorMetaData = GeneratorMetaData.getInstance();
+        // Constraints are not generated with the nullable option, and for the schema names which need escaping
+        if (generatorMetaData.isNullable() || schema == null || !GeneratorUtils.hasConstraints(schema) ||
+                !GeneratorUtils.escapeIdentifier(schemaName).equals(schemaName)) {
+            return typeDefinitionNode;
+        }
+        ConstraintResult constraintResult = new ConstraintGeneratorImp(subTypesMap)
+                .updateTypeDefinitionWithConstraints(schemaName, schema, typeDefinitionNode);
+        generatorMetaData.getComponentConstraints().put(schemaName, constraintResult);
+        return constraintResult.typeDefinitionNode();
+    }
+
+    /**
+     * Get the member count above which a union is generated in the compact form in the current generation run.
+     */
+    public static int getUnionThreshold() {
+        return GeneratorMetaData.getInstance().getUnionThreshold();
+    }
+
+    /**
+     * Create a union of the given member types in the compact form. The repeated member types are removed, and the
+     * union is built as a balanced tree of binary unions rather than a chain, hence the depth of the tree grows with
+     * the logarithm of the member count. The source of the union is the same as the source of the chain.
+     *
+     * @param memberTypes member types of the union
+     * @return union type
+     */
+    public static TypeDescriptorNode createCompactUnionType(List<TypeDescriptorNode> memberTypes) {
+        Map<String, TypeDescriptorNode> distinctMembers = new LinkedHashMap<>();
+        for (TypeDescriptorNode memberType : memberTypes) {
+            distinctMembers.putIfAbsent(memberType.toSourceCode().trim(), memberType);
+        }
+        List<TypeDescriptorNode> unionMembers = new ArrayList<>(distinctMembers.values());
+        while (unionMembers.size() > 1) {
+            List<TypeDescriptorNode> unions = new ArrayList<>((unionMembers.size() + 1) / 2);
+            for (int i = 0; i + 1 < unionMembers.size(); i += 2) {
+                unions.add(createUnionTypeDescriptorNode(unionMembers.get(i), createToken(PIPE_TOKEN),
+                        unionMembers.get(i + 1)));
+            }
+            if (unionMembers.size() % 2 == 1) {
+                unions.add(unionMembers.get(unionMembers.size() - 1));
+            }
+            unionMembers = unions;
+        }
+        return unionMembers.isEmpty() ? null : unionMembers.get(0);
+    }
+
+    /**
+     * Generate a large inline union as a named type, which is generated once and reused for the same union in the
+     * generation run. A union of a component schema is already a named type, hence it is not collapsed.
+     *
+     * @param schema              union schema
+     * @param typeName            name of the field or parameter of the union, which the type name is derived from
+     * @param memberCount         number of the member types of the union
+     * @param unionTypeDesc       union type
+     * @param subTypesMap         type definitions generated for the schema
+     * @param pregeneratedTypeMap names of the generated types
+     * @param diagnostics         diagnostics of the generation
+     * @return reference to the named type, or the given union when the schema is a component schema
+     */
+    public static TypeDescriptorNode getCollapsedUnionType(Schema<?> schema, String typeName, int memberCount,
+                                                           TypeDescriptorNode unionTypeDesc,
+                                                           HashMap<String, TypeDefinitionNode> subTypesMap,
+                                                           HashMap<String, NameReferenceNode> pregeneratedTypeMap,
+                                                           List<Diagnostic> diagnostics) {
+        if (getComponentSchemaName(schema).isPresent()) {
+            return unionTypeDesc;
+        }
+        OpenAPI openAPI = GeneratorMetaData.getInstance().getOpenAPI();
+        Map<String, Schema> schemas = openAPI.getComponents() == null ? null : openAPI.getComponents().getSchemas();
+        String normalizedName = typeName == null ? "" :
+                typeName.replaceAll(GeneratorConstants.SPECIAL_CHARACTER_REGEX, "").trim();
+        String aliasName = GeneratorUtils.escapeIdentifier(StringUtils.capitalize(normalizedName) + "Union");
+        UnionTypeAliases.Alias alias = GeneratorMetaData.getInstance().getUnionTypeAliases().getOrCreate(aliasName,
+                unionTypeDesc, name -> (schemas != null && schemas.containsKey(name)) ||
+                        pregeneratedTypeMap.containsKey(name));
+        if (alias.isCreated()) {
+            diagnostics.add(new TypeGeneratorDiagnostic(TypeGenerationDiagnosticMessages.OAS_TYPE_104,
+                    String.valueOf(memberCount), String.valueOf(getUnionThreshold()), alias.typeName()));
+        }
+        pregeneratedTypeMap.putIfAbsent(alias.typeName(),
+                createSimpleNameReferenceNode(createIdentifierToken(alias.typeName())));
+        subTypesMap.putIfAbsent(alias.typeName(), alias.typeDefinitionNode());
+        return createSimpleNameReferenceNode(createIdentifierToken(alias.typeName()));
+    }
+
+    /**
+     * Get the name of the component schema which is the given schema instance, when it is not an inline schema.
+     */
+    public static Optional<String> getComponentSchemaName(Schema<?> schema) {
+        OpenAPI openAPI = GeneratorMetaData.getInstance().getOpenAPI();
+        if (schema == null || openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+            return Optional.empty();
+        }
+        for (Map.Entry<String, Schema> componentSchema : openAPI.getComponents().getSchemas().entrySet()) {
+            if (componentSchema.getValue() == schema) {
+                return Optional.of(componentSchema.getKey());
+            }
+        }
+        return Optional.empty();
+    }
 }
@@ -32,7 +32,11 @@ public enum TypeGenerationDiagnosticMessages {
             DiagnosticSeverity.WARNING),
     OAS_TYPE_102("OAS_TYPE_102", "Unsupported nested AllOf schema is found inside a AllOf schema.",
                  DiagnosticSeverity.WARNING),
-    OAS_TYPE_103("OAS_TYPE_103", "Invalid reference found %s in the schema.", DiagnosticSeverity.ERROR);
+    OAS_TYPE_103("OAS_TYPE_103", "Invalid reference found %s in the schema.", DiagnosticSeverity.ERROR),
+    OAS_TYPE_104("OAS_TYPE_104", "The union of %s member types exceeds the union size threshold (%s), hence it is " +
+            "generated as the type '%s'.", DiagnosticSeverity.INFO),
+    OAS_TYPE_105("OAS_TYPE_105", "The enum '%s' has %s values, which exceeds the maximum enum size (%s), hence it " +
+            "is generated as a string type.", DiagnosticSeverity.INFO);
 
 
     private final String code;
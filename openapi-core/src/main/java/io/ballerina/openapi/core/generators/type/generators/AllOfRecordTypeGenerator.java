@@ -35,6 +35,7 @@ import io.ballerina.openapi.core.generators.common.exception.InvalidReferenceExc
 import io.ballerina.openapi.core.generators.type.TypeGeneratorUtils;
 import io.ballerina.openapi.core.generators.type.diagnostic.TypeGeneratorDiagnostic;
 import io.ballerina.openapi.core.generators.type.exception.OASTypeGenException;
+import io.ballerina.openapi.core.generators.type.model.AllOfResolutionCache;
 import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
 import io.ballerina.openapi.core.generators.type.model.RecordMetadata;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -49,12 +50,12 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinitionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createUnionTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.ASTERISK_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_PIPE_TOKEN;
@@ -63,10 +64,8 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.ELLIPSIS_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_PIPE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.PIPE_TOKEN;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.RECORD_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
 import static io.ballerina.openapi.core.generators.type.diagnostic.TypeGenerationDiagnosticMessages.OAS_TYPE_102;
 import static io.ballerina.openapi.core.generators.type.diagnostic.TypeGenerationDiagnosticMessages.OAS_TYPE_103;
 
@@ -187,12 +186,8 @@ public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
                             modifiedSchemaName, modifiedSchemaName, ignoreNullableFlag,
                             subTypesMap, pregeneratedTypeMap);
                     TypeDescriptorNode typeDescriptorNode1 = reffredTypeGenerator.generateTypeDescriptorNode();
-                    subTypesMap.put(extractedSchemaName, createTypeDefinitionNode(null,
-                            createToken(PUBLIC_KEYWORD),
-                            createToken(TYPE_KEYWORD),
-                            createIdentifierToken(modifiedSchemaName),
-                            typeDescriptorNode1,
-                            createToken(SEMICOLON_TOKEN)));
+                    subTypesMap.put(extractedSchemaName, TypeGeneratorUtils.createComponentTypeDefinition(
+                            extractedSchemaName, refSchema, modifiedSchemaName, typeDescriptorNode1, subTypesMap));
                 }
                 recordFieldList.add(recordField);
 
@@ -258,8 +253,14 @@ public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
     }
 
     private static Map<String, Schema<?>> getPropertiesFromRefSchema(Schema schema) throws InvalidReferenceException {
+        AllOfResolutionCache resolutionCache = GeneratorMetaData.getInstance().getAllOfResolutionCache();
+        Optional<Map<String, Schema<?>>> resolvedProperties = resolutionCache.getReferredSchemaProperties(schema);
+        if (resolvedProperties.isPresent()) {
+            return resolvedProperties.get();
+        }
         Map<String, Schema<?>> properties = schema.getProperties();
-        if (Objects.isNull(properties)) {
+        boolean isResolvedProperties = Objects.isNull(properties);
+        if (isResolvedProperties) {
             properties = new HashMap<>();
         }
         String refSchema = schema.get$ref();
@@ -277,6 +278,10 @@ public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
                 properties.putAll(getPropertiesFromRefSchema(allOfSchema));
             }
         }
+        // The inherited properties of a schema with its own properties are merged into the schema itself
+        if (isResolvedProperties) {
+            resolutionCache.putReferredSchemaProperties(schema, properties);
+        }
         return properties;
     }
 
@@ -340,6 +345,12 @@ public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
         if (!(schemaV instanceof ComposedSchema composedSchema)) {
             return new HashMap<>();
         }
+        AllOfResolutionCache resolutionCache = GeneratorMetaData.getInstance().getAllOfResolutionCache();
+        Optional<Map<String, Schema>> resolvedProperties = resolutionCache.getComposedSchemaProperties(composedSchema);
+        if (resolvedProperties.isPresent()) {
+            return resolvedProperties.get();
+        }
+        int diagnosticCount = diagnostics.size();
         // Process allOf, anyOf, and oneOf schemas, including nested composed schemas
         try {
             addPropertiesFromSchemas(composedSchema.getAllOf(), properties);
@@ -348,6 +359,10 @@ public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
         } catch (InvalidReferenceException e) {
             diagnostics.add(new TypeGeneratorDiagnostic(OAS_TYPE_103, e.getMessage()));
         }
+        // A schema with an invalid reference is resolved again, so the diagnostic is reported for every use
+        if (diagnostics.size() == diagnosticCount) {
+            resolutionCache.putComposedSchemaProperties(composedSchema, properties);
+        }
         return properties;
     }
 
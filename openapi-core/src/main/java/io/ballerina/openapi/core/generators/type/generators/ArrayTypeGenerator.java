@@ -173,14 +173,15 @@ public class ArrayTypeGenerator extends TypeGenerator {
                 throw new OASTypeGenException(e.getMessage());
             }
             String validTypeName = GeneratorUtils.escapeIdentifier(typeName);
-            TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(
-                    GeneratorMetaData.getInstance().getOpenAPI().getComponents().getSchemas().get(typeName),
-                    validTypeName, null, ignoreNullableFlag, subTypesMap, pregeneratedTypeMap);
+            Schema<?> refSchema = GeneratorMetaData.getInstance().getOpenAPI().getComponents().getSchemas()
+                    .get(typeName);
+            TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(refSchema, validTypeName, null,
+                    ignoreNullableFlag, subTypesMap, pregeneratedTypeMap);
             if (!pregeneratedTypeMap.containsKey(validTypeName)) {
                 pregeneratedTypeMap.put(validTypeName, createSimpleNameReferenceNode(
                         createIdentifierToken(validTypeName)));
-                TypeDefinitionNode typeDefinitionNode = typeGenerator.generateTypeDefinitionNode(
-                        createIdentifierToken(validTypeName));
+                TypeDefinitionNode typeDefinitionNode = TypeGeneratorUtils.createComponentTypeDefinition(typeName,
+                        refSchema, validTypeName, typeGenerator.generateTypeDescriptorNode(), subTypesMap);
                 subTypesMap.put(validTypeName, typeDefinitionNode);
             }
             member = createBuiltinSimpleNameReferenceNode(null, createIdentifierToken(validTypeName));
@@ -18,6 +18,7 @@
 
 package io.ballerina.openapi.core.generators.type.generators;
 
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.NameReferenceNode;
 import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
@@ -25,11 +26,26 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.type.GeneratorConstants;
 import io.ballerina.openapi.core.generators.type.TypeGeneratorUtils;
+import io.ballerina.openapi.core.generators.type.diagnostic.TypeGenerationDiagnosticMessages;
+import io.ballerina.openapi.core.generators.type.diagnostic.TypeGeneratorDiagnostic;
 import io.ballerina.openapi.core.generators.type.exception.OASTypeGenException;
+import io.ballerina.openapi.core.generators.type.model.EnumLookupTables;
+import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
@@ -53,6 +69,7 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
  * <pre>
  *     public type MeetingTypes "scheduled"|"live"|"upcoming";
  * </pre>
+ * A string enum with more values than the maximum enum size of the run is generated as a string type.
  *
  * @since 1.6.0
  */
@@ -69,6 +86,9 @@ public class EnumGenerator extends TypeGenerator {
         List<?> enumList = schema.getEnum();
         boolean isNull = false;
         StringBuilder enumBuilder = new StringBuilder();
+        if (isLargeStringEnum(enumList)) {
+            return createLargeEnumTypeDescriptor(enumList);
+        }
         if (TypeGeneratorUtils.PRIMITIVE_TYPE_LIST.contains(GeneratorUtils.getOpenAPIType(schema))) {
             for (Object enumValue : enumList) {
                 isNull = enumValue == null;
@@ -110,4 +130,136 @@ public class EnumGenerator extends TypeGenerator {
                     GeneratorUtils.getOpenAPIType(schema)));
         }
     }
+
+    private boolean isLargeStringEnum(List<?> enumList) {
+        int maxEnumSize = GeneratorMetaData.getInstance().getMaxEnumSize();
+        return maxEnumSize > 0 && GeneratorConstants.STRING.equals(GeneratorUtils.getOpenAPIType(schema)) &&
+                enumList.stream().filter(Objects::nonNull).distinct().count() > maxEnumSize;
+    }
+
+    private static boolean isLargeStringEnum(Schema<?> schema) {
+        int maxEnumSize = GeneratorMetaData.getInstance().getMaxEnumSize();
+        return maxEnumSize > 0 && schema != null && schema.getEnum() != null &&
+                GeneratorConstants.STRING.equals(GeneratorUtils.getOpenAPIType(schema)) &&
+                schema.getEnum().stream().filter(Objects::nonNull).distinct().count() > maxEnumSize;
+    }
+
+    /**
+     * Generate a large string enum as a string type, since a union of thousands of singleton types slows down the
+     * compilation of the generated module. The values of a component enum are kept in a lookup table which can be
+     * used to validate a value.
+     */
+    private TypeDescriptorNode createLargeEnumTypeDescriptor(List<?> enumList) {
+        // A repeated value would be a duplicate key of the lookup table
+        List<String> enumValues = new ArrayList<>(enumList.stream().filter(Objects::nonNull).map(Object::toString)
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+        Optional<String> componentName = TypeGeneratorUtils.getComponentSchemaName(schema);
+        diagnostics.add(new TypeGeneratorDiagnostic(TypeGenerationDiagnosticMessages.OAS_TYPE_105,
+                componentName.orElse(typeName), String.valueOf(enumValues.size()),
+                String.valueOf(GeneratorMetaData.getInstance().getMaxEnumSize())));
+        componentName.ifPresent(name -> GeneratorMetaData.getInstance().getEnumLookupTables().put(
+                GeneratorUtils.escapeIdentifier(name), createLookupTable(name, enumValues)));
+
+        boolean isNull = enumList.stream().anyMatch(Objects::isNull) || Boolean.TRUE.equals(schema.getNullable());
+        TypeDescriptorNode typeDescriptorNode = createSimpleNameReferenceNode(createIdentifierToken(
+                GeneratorConstants.STRING + (isNull ? GeneratorConstants.NILLABLE : "")));
+        return isNull ? typeDescriptorNode :
+                TypeGeneratorUtils.getNullableType(schema, typeDescriptorNode, ignoreNullableFlag);
+    }
+
+    /**
+     * Generate the lookup table of the enum values and a function to check whether a value is one of them.
+     * <pre>
+     *     public final readonly & map<boolean> currencyCodeValues = {"AED": true, "AFN": true};
+     *     public isolated function isValidCurrencyCode(string value) returns boolean =>
+     *         currencyCodeValues.hasKey(value);
+     * </pre>
+     */
+    private static List<ModuleMemberDeclarationNode> createLookupTable(String schemaName,
+                                                                       List<String> enumValues) {
+        EnumLookupTables.Names names = GeneratorMetaData.getInstance().getEnumLookupTables()
+                .getNames(schemaName, EnumGenerator::allocateLookupTableNames);
+        if (names == null) {
+            String validName = GeneratorUtils.getValidName(schemaName, true);
+            names = new EnumLookupTables.Names(GeneratorUtils.getValidName(validName + "Values", false),
+                    "isValid" + validName);
+        }
+        StringJoiner entries = new StringJoiner(", ", "{", "}");
+        for (String enumValue : enumValues) {
+            entries.add(createStringLiteral(enumValue) + ": true");
+        }
+        ModuleMemberDeclarationNode table = NodeParser.parseModuleMemberDeclaration(String.format(
+                "# Values of the `%s` enum\npublic final readonly & map<boolean> %s = %s;",
+                schemaName, names.tableName(), entries));
+        ModuleMemberDeclarationNode function = NodeParser.parseModuleMemberDeclaration(String.format(
+                "# Checks whether the given value is a value of the `%s` enum\n" +
+                        "public isolated function %s(string value) returns boolean => %s.hasKey(value);",
+                schemaName, names.functionName(), names.tableName()));
+        return List.of(table, function);
+    }
+
+    /**
+     * Allocate the names of the lookup tables and the validation functions of the large component enums, in the
+     * declared order of the schemas. A name which is taken by a component schema or by a previous enum gets a number
+     * suffix. The names are compared ignoring the case, hence a `CurrencyCodeValues` schema is not confused with the
+     * `currencyCodeValues` table.
+     */
+    private static Map<String, EnumLookupTables.Names> allocateLookupTableNames() {
+        Map<String, EnumLookupTables.Names> names = new HashMap<>();
+        Components components = GeneratorMetaData.getInstance().getOpenAPI().getComponents();
+        if (components == null || components.getSchemas() == null) {
+            return names;
+        }
+        Set<String> takenNames = new HashSet<>();
+        for (String schemaName : components.getSchemas().keySet()) {
+            takenNames.add(GeneratorUtils.escapeIdentifier(schemaName).toLowerCase(Locale.ENGLISH));
+            takenNames.add(GeneratorUtils.getValidName(schemaName, true).toLowerCase(Locale.ENGLISH));
+        }
+        for (Map.Entry<String, Schema> componentSchema : components.getSchemas().entrySet()) {
+            if (!isLargeStringEnum(componentSchema.getValue())) {
+                continue;
+            }
+            String validName = GeneratorUtils.getValidName(componentSchema.getKey(), true);
+            String tableName = getAvailableName(GeneratorUtils.getValidName(validName + "Values", false),
+                    takenNames);
+            String functionName = getAvailableName("isValid" + validName, takenNames);
+            names.put(componentSchema.getKey(), new EnumLookupTables.Names(tableName, functionName));
+        }
+        return names;
+    }
+
+    private static String getAvailableName(String name, Set<String> takenNames) {
+        String availableName = name;
+        for (int suffix = 1; takenNames.contains(availableName.toLowerCase(Locale.ENGLISH)); suffix++) {
+            availableName = name + suffix;
+        }
+        takenNames.add(availableName.toLowerCase(Locale.ENGLISH));
+        return availableName;
+    }
+
+    /**
+     * Create a Ballerina string literal of the given value. The quotes, the backslashes and the control characters
+     * are escaped.
+     */
+    private static String createStringLiteral(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        value.codePoints().forEach(codePoint -> {
+            switch (codePoint) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\t' -> literal.append("\\t");
+                case '\r' -> literal.append("\\r");
+                default -> {
+                    if (Character.isISOControl(codePoint)) {
+                        literal.append("\\u{").append(Integer.toHexString(codePoint).toUpperCase(Locale.ENGLISH))
+                                .append("}");
+                    } else {
+                        literal.appendCodePoint(codePoint);
+                    }
+                }
+            }
+        });
+        return literal.append("\"").toString();
+    }
 }
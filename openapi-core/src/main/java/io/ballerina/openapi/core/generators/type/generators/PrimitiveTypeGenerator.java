@@ -74,7 +74,9 @@ public class PrimitiveTypeGenerator extends TypeGenerator {
         if (schema.getEnum() != null && schema.getEnum().size() > 0) {
             EnumGenerator enumGenerator = new EnumGenerator(schema, typeName, ignoreNullableFlag,
                     subTypesMap, pregeneratedTypeMap);
-            return enumGenerator.generateTypeDescriptorNode();
+            TypeDescriptorNode enumTypeDescriptorNode = enumGenerator.generateTypeDescriptorNode();
+            diagnostics.addAll(enumGenerator.getDiagnostics());
+            return enumTypeDescriptorNode;
         } else if (GeneratorUtils.getOpenAPIType(schema).equals(GeneratorConstants.STRING) &&
                 schema.getFormat() != null &&
                 schema.getFormat().equals(GeneratorConstants.BINARY)) {
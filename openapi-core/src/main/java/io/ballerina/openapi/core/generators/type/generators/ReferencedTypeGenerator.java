@@ -27,17 +27,15 @@ import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiExc
 import io.ballerina.openapi.core.generators.type.TypeGeneratorUtils;
 import io.ballerina.openapi.core.generators.type.exception.OASTypeGenException;
 import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
+import io.ballerina.openapi.core.generators.type.model.ReferencedTypeCache;
 import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
-import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinitionNode;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
 
 /**
  * Generate TypeDefinitionNode and TypeDescriptorNode for referenced schemas.
@@ -82,17 +80,25 @@ public class ReferencedTypeGenerator extends TypeGenerator {
         refSchema = refSchema == null ?
                 GeneratorMetaData.getInstance().getOpenAPI().getComponents().getSchemas().get(extractName) : refSchema;
         SimpleNameReferenceNode nameReferenceNode = createSimpleNameReferenceNode(createIdentifierToken(typeName));
+        Optional<ReferencedTypeCache.Entry> generatedType = GeneratorMetaData.getInstance().getReferencedTypeCache()
+                .get(typeName, ignoreNullableFlag);
+        if (generatedType.isPresent()) {
+            // The referred type is already generated in this run, hence it is reused without traversing the schema
+            for (Map.Entry<String, TypeDefinitionNode> subtype :
+                    generatedType.get().subtypeDefinitions().entrySet()) {
+                pregeneratedTypeMap.putIfAbsent(subtype.getKey(),
+                        createSimpleNameReferenceNode(createIdentifierToken(subtype.getKey())));
+                subTypesMap.putIfAbsent(subtype.getKey(), subtype.getValue());
+            }
+            return TypeGeneratorUtils.getNullableType(refSchema, nameReferenceNode, ignoreNullableFlag);
+        }
         TypeGenerator reffredTypeGenerator = TypeGeneratorUtils.getTypeGenerator(refSchema, extractName,
                 null,  ignoreNullableFlag, subTypesMap, pregeneratedTypeMap);
         if (!pregeneratedTypeMap.containsKey(typeName)) {
             pregeneratedTypeMap.put(typeName, createSimpleNameReferenceNode(createIdentifierToken(typeName)));
             TypeDescriptorNode typeDescriptorNode = reffredTypeGenerator.generateTypeDescriptorNode();
-            subTypesMap.put(typeName, createTypeDefinitionNode(null,
-                    createToken(PUBLIC_KEYWORD),
-                    createToken(TYPE_KEYWORD),
-                    createIdentifierToken(typeName),
-                    typeDescriptorNode,
-                    createToken(SEMICOLON_TOKEN)));
+            subTypesMap.put(typeName, TypeGeneratorUtils.createComponentTypeDefinition(extractName, refSchema,
+                    typeName, typeDescriptorNode, subTypesMap));
         }
         return TypeGeneratorUtils.getNullableType(refSchema, nameReferenceNode, ignoreNullableFlag);
     }
@@ -130,6 +130,9 @@ public class UnionTypeGenerator extends TypeGenerator {
                     typeDescNodes.get(typeDescNodes.size() - 1), createToken(QUESTION_MARK_TOKEN));
             typeDescNodes.set(typeDescNodes.size() - 1, optionalTypeDesc);
         }
+        if (typeDescNodes.size() > TypeGeneratorUtils.getUnionThreshold()) {
+            return createLargeUnionTypeNode(typeDescNodes);
+        }
 
         UnionTypeDescriptorNode unionTypeDescNode = null;
         TypeDescriptorNode leftTypeDesc = typeDescNodes.get(0);
@@ -143,4 +146,17 @@ public class UnionTypeGenerator extends TypeGenerator {
         }
         return unionTypeDescNode;
     }
+
+    /**
+     * Create a union which has more member types than the union size threshold in the compact form, and generate it
+     * as a named type when it is an inline union.
+     */
+    private TypeDescriptorNode createLargeUnionTypeNode(List<TypeDescriptorNode> typeDescNodes) {
+        TypeDescriptorNode unionTypeDescNode = TypeGeneratorUtils.createCompactUnionType(typeDescNodes);
+        if (unionTypeDescNode.toSourceCode().contains(GeneratorConstants.ANYDATA)) {
+            return NodeParser.parseTypeDescriptor(GeneratorConstants.ANYDATA);
+        }
+        return TypeGeneratorUtils.getCollapsedUnionType(schema, typeName, typeDescNodes.size(), unionTypeDescNode,
+                subTypesMap, pregeneratedTypeMap, diagnostics);
+    }
 }
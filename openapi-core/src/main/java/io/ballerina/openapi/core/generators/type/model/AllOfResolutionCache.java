@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.type.model;
+
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Properties resolved for the allOf schemas in a generation run.
+ *
+ * @since 2.2.0
+ */
+public final class AllOfResolutionCache {
+
+    private final Map<Schema<?>, Map<String, Schema>> composedSchemaProperties =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Map<Schema<?>, Map<String, Schema<?>>> referredSchemaProperties =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+    private final AtomicInteger hitCount = new AtomicInteger();
+    private final AtomicInteger missCount = new AtomicInteger();
+
+    /**
+     * Get the properties of the given composed schema, including the properties of its composed schemas.
+     */
+    public Optional<Map<String, Schema>> getComposedSchemaProperties(Schema<?> schema) {
+        return lookup(composedSchemaProperties, schema);
+    }
+
+    public void putComposedSchemaProperties(Schema<?> schema, Map<String, Schema> properties) {
+        composedSchemaProperties.put(schema, new HashMap<>(properties));
+    }
+
+    /**
+     * Get the properties of the given schema, including the properties of the schemas it refers to.
+     */
+    public Optional<Map<String, Schema<?>>> getReferredSchemaProperties(Schema<?> schema) {
+        return lookup(referredSchemaProperties, schema);
+    }
+
+    public void putReferredSchemaProperties(Schema<?> schema, Map<String, Schema<?>> properties) {
+        referredSchemaProperties.put(schema, new HashMap<>(properties));
+    }
+
+    public void clear() {
+        composedSchemaProperties.clear();
+        referredSchemaProperties.clear();
+        hitCount.set(0);
+        missCount.set(0);
+    }
+
+    public int getHitCount() {
+        return hitCount.get();
+    }
+
+    public int getMissCount() {
+        return missCount.get();
+    }
+
+    private <V> Optional<Map<String, V>> lookup(Map<Schema<?>, Map<String, V>> entries, Schema<?> schema) {
+        Map<String, V> properties = entries.get(schema);
+        if (properties == null) {
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+        hitCount.incrementAndGet();
+        return Optional.of(new HashMap<>(properties));
+    }
+}
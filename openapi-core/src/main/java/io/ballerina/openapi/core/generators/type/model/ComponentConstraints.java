@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.type.model;
+
+import io.ballerina.openapi.core.generators.constraint.ConstraintResult;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Constraints attached to the type definitions of the component schemas in a generation run.
+ *
+ * @since 2.2.0
+ */
+public final class ComponentConstraints {
+
+    private final Map<String, ConstraintResult> results = new ConcurrentHashMap<>();
+
+    public Optional<ConstraintResult> get(String schemaName) {
+        return Optional.ofNullable(results.get(schemaName));
+    }
+
+    /**
+     * Add the constraint result of the given schema. The first result of a schema is kept.
+     */
+    public void put(String schemaName, ConstraintResult result) {
+        results.putIfAbsent(schemaName, result);
+    }
+
+    public void clear() {
+        results.clear();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.type.model;
+
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Lookup tables generated for the large string enums in a generation run.
+ *
+ * @since 2.2.0
+ */
+public final class EnumLookupTables {
+
+    private final Map<String, List<ModuleMemberDeclarationNode>> declarations = new ConcurrentHashMap<>();
+    private Map<String, Names> names;
+
+    /**
+     * Names of the lookup table and the validation function of an enum.
+     */
+    public record Names(String tableName, String functionName) {
+    }
+
+    public List<ModuleMemberDeclarationNode> get(String typeName) {
+        return declarations.getOrDefault(typeName, List.of());
+    }
+
+    /**
+     * Add the declarations of the given enum type. The first declarations of a type are kept.
+     */
+    public void put(String typeName, List<ModuleMemberDeclarationNode> typeDeclarations) {
+        declarations.putIfAbsent(typeName, List.copyOf(typeDeclarations));
+    }
+
+    /**
+     * Get the declaration names of the given enum schema. The names of all the enums of the run are allocated together
+     * on the first request, hence they do not depend on the order in which the enums are generated.
+     *
+     * @param schemaName name of the component schema of the enum
+     * @param allocator  allocates the declaration names, keyed by the name of the component schema
+     * @return declaration names, or null when the allocator does not name the schema
+     */
+    public synchronized Names getNames(String schemaName, Supplier<Map<String, Names>> allocator) {
+        if (names == null) {
+            names = Map.copyOf(allocator.get());
+        }
+        return names.get(schemaName);
+    }
+
+    public synchronized void clear() {
+        declarations.clear();
+        names = null;
+    }
+}
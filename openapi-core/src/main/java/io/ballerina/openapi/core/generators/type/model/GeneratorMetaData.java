@@ -18,10 +18,13 @@
 
 package io.ballerina.openapi.core.generators.type.model;
 
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.GeneratorConstants;
 import io.swagger.v3.oas.models.OpenAPI;
 
 /**
- * Stores metadata related to Ballerina types generation.
+ * Stores metadata related to Ballerina types generation. The instance belongs to the {@link GenerationContext} of the
+ * current generation run.
  *
  * @since 1.3.0
  */
@@ -29,20 +32,78 @@ public class GeneratorMetaData {
 
     private final OpenAPI openAPI;
     private final boolean nullable;
-    private static GeneratorMetaData generatorMetaData = null;
+    private final ReferencedTypeCache referencedTypeCache;
+    private final AllOfResolutionCache allOfResolutionCache;
+    private final ComponentConstraints componentConstraints;
+    private final UnionTypeAliases unionTypeAliases;
+    private final int maxEnumSize;
+    private final int unionThreshold;
+    private final EnumLookupTables enumLookupTables;
 
-    private GeneratorMetaData(OpenAPI openAPI, boolean nullable) {
+    private GeneratorMetaData(OpenAPI openAPI, boolean nullable, int maxEnumSize, int unionThreshold,
+                              ReferencedTypeCache referencedTypeCache, AllOfResolutionCache allOfResolutionCache,
+                              ComponentConstraints componentConstraints, UnionTypeAliases unionTypeAliases,
+                              EnumLookupTables enumLookupTables) {
         this.openAPI = openAPI;
         this.nullable = nullable;
+        this.maxEnumSize = maxEnumSize;
+        this.unionThreshold = unionThreshold;
+        this.referencedTypeCache = referencedTypeCache;
+        this.allOfResolutionCache = allOfResolutionCache;
+        this.componentConstraints = componentConstraints;
+        this.unionTypeAliases = unionTypeAliases;
+        this.enumLookupTables = enumLookupTables;
     }
 
+    /**
+     * Create the metadata of the current generation run. The generated referenced types, the resolved allOf
+     * properties, the constraints of the generated component types, the named large unions, the enum lookup tables,
+     * the maximum enum size and the union threshold are carried over when the metadata is recreated for the same
+     * OpenAPI model and nullable option.
+     */
     public static GeneratorMetaData createInstance(OpenAPI openAPI, boolean nullable) {
-        generatorMetaData = new GeneratorMetaData(openAPI, nullable);
+        GeneratorMetaData previous = GenerationContext.currentOrBind().getGeneratorMetaData();
+        if (isSameRun(previous, openAPI, nullable)) {
+            return createInstance(openAPI, nullable, previous.maxEnumSize, previous.unionThreshold);
+        }
+        return createInstance(openAPI, nullable, 0);
+    }
+
+    /**
+     * Create the metadata of the current generation run with the given maximum enum size. A string enum which has
+     * more values than the maximum enum size is generated as a string type with a lookup table of the values. The
+     * enums are generated as unions of their values when the maximum enum size is not positive.
+     */
+    public static GeneratorMetaData createInstance(OpenAPI openAPI, boolean nullable, int maxEnumSize) {
+        return createInstance(openAPI, nullable, maxEnumSize, GeneratorConstants.DEFAULT_UNION_THRESHOLD);
+    }
+
+    /**
+     * Create the metadata of the current generation run with the given maximum enum size and union threshold. A
+     * union which has more members than the union threshold is generated in the compact form, and an inline one is
+     * generated as a named type.
+     */
+    public static GeneratorMetaData createInstance(OpenAPI openAPI, boolean nullable, int maxEnumSize,
+                                                   int unionThreshold) {
+        GenerationContext context = GenerationContext.currentOrBind();
+        GeneratorMetaData previous = context.getGeneratorMetaData();
+        boolean isSameRun = isSameRun(previous, openAPI, nullable);
+        GeneratorMetaData generatorMetaData = new GeneratorMetaData(openAPI, nullable, maxEnumSize, unionThreshold,
+                isSameRun ? previous.referencedTypeCache : new ReferencedTypeCache(),
+                isSameRun ? previous.allOfResolutionCache : new AllOfResolutionCache(),
+                isSameRun ? previous.componentConstraints : new ComponentConstraints(),
+                isSameRun ? previous.unionTypeAliases : new UnionTypeAliases(),
+                isSameRun ? previous.enumLookupTables : new EnumLookupTables());
+        context.setGeneratorMetaData(generatorMetaData);
         return generatorMetaData;
     }
 
+    private static boolean isSameRun(GeneratorMetaData previous, OpenAPI openAPI, boolean nullable) {
+        return previous != null && previous.openAPI == openAPI && previous.nullable == nullable;
+    }
+
     public static GeneratorMetaData getInstance() {
-        return generatorMetaData;
+        return GenerationContext.current().getGeneratorMetaData();
     }
 
     public OpenAPI getOpenAPI() {
@@ -53,4 +114,32 @@ public class GeneratorMetaData {
         return nullable;
     }
 
+    public ReferencedTypeCache getReferencedTypeCache() {
+        return referencedTypeCache;
+    }
+
+    public AllOfResolutionCache getAllOfResolutionCache() {
+        return allOfResolutionCache;
+    }
+
+    public ComponentConstraints getComponentConstraints() {
+        return componentConstraints;
+    }
+
+    public UnionTypeAliases getUnionTypeAliases() {
+        return unionTypeAliases;
+    }
+
+    public int getMaxEnumSize() {
+        return maxEnumSize;
+    }
+
+    public int getUnionThreshold() {
+        return unionThreshold;
+    }
+
+    public EnumLookupTables getEnumLookupTables() {
+        return enumLookupTables;
+    }
+
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.type.model;
+
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.tools.diagnostics.Diagnostic;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Type definitions generated for the referenced component schemas in a generation run.
+ *
+ * @since 2.2.0
+ */
+public final class ReferencedTypeCache {
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Key, RuntimeException> failures = new ConcurrentHashMap<>();
+
+    private record Key(String typeName, boolean ignoreNullableFlag) {
+    }
+
+    /**
+     * Type definitions of a referenced type and its subtypes, and the diagnostics reported while generating them.
+     */
+    public record Entry(HashMap<String, TypeDefinitionNode> subtypeDefinitions, List<Diagnostic> diagnostics) {
+    }
+
+    public Optional<Entry> get(String typeName, boolean ignoreNullableFlag) {
+        return Optional.ofNullable(entries.get(new Key(typeName, ignoreNullableFlag)));
+    }
+
+    /**
+     * Add the generated types of the given reference. The first entry of a reference is kept.
+     */
+    public void put(String typeName, boolean ignoreNullableFlag, Entry entry) {
+        entries.putIfAbsent(new Key(typeName, ignoreNullableFlag), entry);
+    }
+
+    /**
+     * Failure of a type generation task for the given reference, which is reported to the run when it requests the
+     * type of the reference.
+     */
+    public Optional<RuntimeException> getFailure(String typeName, boolean ignoreNullableFlag) {
+        return Optional.ofNullable(failures.get(new Key(typeName, ignoreNullableFlag)));
+    }
+
+    /**
+     * Add the failure of generating the types of the given reference. The first failure of a reference is kept.
+     */
+    public void putFailure(String typeName, boolean ignoreNullableFlag, RuntimeException failure) {
+        failures.putIfAbsent(new Key(typeName, ignoreNullableFlag), failure);
+    }
+
+    public void clear() {
+        entries.clear();
+        failures.clear();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.type.model;
+
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinitionNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
+
+/**
+ * Named types generated for the large inline unions in a generation run.
+ *
+ * @since 2.2.0
+ */
+public final class UnionTypeAliases {
+
+    private final Map<String, TypeDefinitionNode> aliases = new HashMap<>();
+    private final Set<String> aliasNames = new HashSet<>();
+    private boolean isCreationDeferred;
+
+    /**
+     * Type definition of a union and whether it was created by the request.
+     */
+    public record Alias(TypeDefinitionNode typeDefinitionNode, boolean isCreated) {
+        public String typeName() {
+            return typeDefinitionNode.typeName().text();
+        }
+    }
+
+    /**
+     * Get the type definition of the given union. The definition is created when the union has no definition yet,
+     * with the given name, or the given name with a number suffix when the name is already taken.
+     *
+     * @param typeName       preferred name of the type
+     * @param unionTypeDesc  union type
+     * @param isReservedName check for the names which are taken by the other types
+     * @return type definition of the union
+     * @throws CreationDeferredException when the union has no definition and the creation is deferred
+     */
+    public synchronized Alias getOrCreate(String typeName, TypeDescriptorNode unionTypeDesc,
+                                          Predicate<String> isReservedName) {
+        String unionSource = unionTypeDesc.toSourceCode().trim();
+        TypeDefinitionNode typeDefinitionNode = aliases.get(unionSource);
+        if (typeDefinitionNode != null) {
+            return new Alias(typeDefinitionNode, false);
+        }
+        if (isCreationDeferred) {
+            throw new CreationDeferredException(typeName);
+        }
+        String aliasName = typeName;
+        for (int suffix = 1; aliasNames.contains(aliasName) || isReservedName.test(aliasName); suffix++) {
+            aliasName = typeName + suffix;
+        }
+        aliasNames.add(aliasName);
+        typeDefinitionNode = createTypeDefinitionNode(null, createToken(PUBLIC_KEYWORD), createToken(TYPE_KEYWORD),
+                createIdentifierToken(aliasName), unionTypeDesc, createToken(SEMICOLON_TOKEN));
+        aliases.put(unionSource, typeDefinitionNode);
+        return new Alias(typeDefinitionNode, true);
+    }
+
+    public synchronized void setCreationDeferred(boolean isCreationDeferred) {
+        this.isCreationDeferred = isCreationDeferred;
+    }
+
+    public synchronized void clear() {
+        aliases.clear();
+        aliasNames.clear();
+        isCreationDeferred = false;
+    }
+
+    /**
+     * Thrown when a union needs a new alias while the creation of the aliases is deferred.
+     */
+    public static final class CreationDeferredException extends RuntimeException {
+        public CreationDeferredException(String typeName) {
+            super("creation of the union type '" + typeName + "' is deferred", null, false, false);
+        }
+    }
+}
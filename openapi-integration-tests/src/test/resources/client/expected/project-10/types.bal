@@ -3,28 +3,6 @@
 
 import ballerina/http;
 
-public type User record {
-    int id?;
-    string name?;
-    string email?;
-    string password?;
-};
-
-# Provides settings related to HTTP/1.x protocol.
-public type ClientHttp1Settings record {|
-    # Specifies whether to reuse a connection for multiple requests
-    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
-    # The chunking behaviour of the request
-    http:Chunking chunking = http:CHUNKING_AUTO;
-    # Proxy server related options
-    ProxyConfig proxy?;
-|};
-
-public type UserOk record {|
-    *http:Ok;
-    User body;
-|};
-
 # Proxy server configurations to be used with the HTTP client endpoint.
 public type ProxyConfig record {|
     # Host name of the proxy server
@@ -38,9 +16,14 @@ public type ProxyConfig record {|
     string password = "";
 |};
 
-public type Ok record {|
-    *http:Ok;
-    record {|int:Signed32 X\-Rate\-Limit?;|} headers;
+# Provides settings related to HTTP/1.x protocol.
+public type ClientHttp1Settings record {|
+    # Specifies whether to reuse a connection for multiple requests
+    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
+    # The chunking behaviour of the request
+    http:Chunking chunking = http:CHUNKING_AUTO;
+    # Proxy server related options
+    ProxyConfig proxy?;
 |};
 
 # Provides a set of configurations for controlling the behaviours when communicating with a remote HTTP endpoint.
@@ -78,3 +61,20 @@ public type ConnectionConfig record {|
     # and absent fields are handled as `nilable` types. Enabled by default.
     boolean laxDataBinding = true;
 |};
+
+public type Ok record {|
+    *http:Ok;
+    record {|int:Signed32 X\-Rate\-Limit?;|} headers;
+|};
+
+public type User record {
+    int id?;
+    string name?;
+    string email?;
+    string password?;
+};
+
+public type UserOk record {|
+    *http:Ok;
+    User body;
+|};
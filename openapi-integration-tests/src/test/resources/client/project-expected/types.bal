@@ -3,12 +3,6 @@
 
 import ballerina/http;
 
-public type ErrorMessageConflict record {|
-    *http:Conflict;
-    ErrorMessage body;
-    record {|int req\-id; string user\-id;|} headers;
-|};
-
 public type Album record {|
     string id;
     string name;
@@ -22,10 +16,17 @@ public type AlbumArrayOk record {|
     record {|int req\-id; string user\-id;|} headers;
 |};
 
-# Represents the Queries record for the operation: getAlbums
-public type GetAlbumsQueries record {
-    string genre;
-};
+public type AlbumCreated record {|
+    *http:Created;
+    Album body;
+    record {|int req\-id; string user\-id;|} headers;
+|};
+
+public type AlbumOk record {|
+    *http:Ok;
+    Album body;
+    record {|int req\-id; string user\-id;|} headers;
+|};
 
 # Proxy server configurations to be used with the HTTP client endpoint.
 public type ProxyConfig record {|
@@ -40,26 +41,6 @@ public type ProxyConfig record {|
     string password = "";
 |};
 
-public type ErrorPayloadBadRequest record {|
-    *http:BadRequest;
-    ErrorPayload body;
-|};
-
-public type ErrorPayload record {
-    string timestamp;
-    int status;
-    string reason;
-    string message;
-    string path;
-    string method;
-};
-
-public type ErrorMessageNotFound record {|
-    *http:NotFound;
-    ErrorMessage body;
-    record {|int req\-id; string user\-id;|} headers;
-|};
-
 # Provides settings related to HTTP/1.x protocol.
 public type ClientHttp1Settings record {|
     # Specifies whether to reuse a connection for multiple requests
@@ -70,23 +51,6 @@ public type ClientHttp1Settings record {|
     ProxyConfig proxy?;
 |};
 
-public type AlbumOk record {|
-    *http:Ok;
-    Album body;
-    record {|int req\-id; string user\-id;|} headers;
-|};
-
-public type AlbumCreated record {|
-    *http:Created;
-    Album body;
-    record {|int req\-id; string user\-id;|} headers;
-|};
-
-public type ErrorMessage record {|
-    string message;
-    string...;
-|};
-
 # Provides a set of configurations for controlling the behaviours when communicating with a remote HTTP endpoint.
 @display {label: "Connection Config"}
 public type ConnectionConfig record {|
@@ -122,3 +86,39 @@ public type ConnectionConfig record {|
     # and absent fields are handled as `nilable` types. Enabled by default.
     boolean laxDataBinding = true;
 |};
+
+public type ErrorMessage record {|
+    string message;
+    string...;
+|};
+
+public type ErrorMessageConflict record {|
+    *http:Conflict;
+    ErrorMessage body;
+    record {|int req\-id; string user\-id;|} headers;
+|};
+
+public type ErrorMessageNotFound record {|
+    *http:NotFound;
+    ErrorMessage body;
+    record {|int req\-id; string user\-id;|} headers;
+|};
+
+public type ErrorPayload record {
+    string timestamp;
+    int status;
+    string reason;
+    string message;
+    string path;
+    string method;
+};
+
+public type ErrorPayloadBadRequest record {|
+    *http:BadRequest;
+    ErrorPayload body;
+|};
+
+# Represents the Queries record for the operation: getAlbums
+public type GetAlbumsQueries record {
+    string genre;
+};
@@ -3,19 +3,16 @@
 
 import ballerina/http;
 
-# Provides settings related to HTTP/1.x protocol.
-public type ClientHttp1Settings record {|
-    # Specifies whether to reuse a connection for multiple requests
-    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
-    # The chunking behaviour of the request
-    http:Chunking chunking = http:CHUNKING_AUTO;
-    # Proxy server related options
-    ProxyConfig proxy?;
+public type Album record {|
+    string id;
+    string name;
+    string artist;
+    string genre;
 |};
 
-public type AlbumOk record {|
+public type AlbumArrayOk record {|
     *http:Ok;
-    Album body;
+    Album[] body;
     record {|int req\-id; string user\-id;|} headers;
 |};
 
@@ -25,24 +22,12 @@ public type AlbumCreated record {|
     record {|int req\-id; string user\-id;|} headers;
 |};
 
-public type Album record {|
-    string id;
-    string name;
-    string artist;
-    string genre;
-|};
-
-public type AlbumArrayOk record {|
+public type AlbumOk record {|
     *http:Ok;
-    Album[] body;
+    Album body;
     record {|int req\-id; string user\-id;|} headers;
 |};
 
-# Represents the Queries record for the operation: getAlbums
-public type GetAlbumsQueries record {
-    string genre;
-};
-
 # Proxy server configurations to be used with the HTTP client endpoint.
 public type ProxyConfig record {|
     # Host name of the proxy server
@@ -56,15 +41,14 @@ public type ProxyConfig record {|
     string password = "";
 |};
 
-public type ErrorMessage record {|
-    string message;
-    string...;
-|};
-
-public type ErrorMessageDefault record {|
-    *http:DefaultStatusCodeResponse;
-    ErrorMessage body;
-    record {|int req\-id; string user\-id;|} headers;
+# Provides settings related to HTTP/1.x protocol.
+public type ClientHttp1Settings record {|
+    # Specifies whether to reuse a connection for multiple requests
+    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
+    # The chunking behaviour of the request
+    http:Chunking chunking = http:CHUNKING_AUTO;
+    # Proxy server related options
+    ProxyConfig proxy?;
 |};
 
 # Provides a set of configurations for controlling the behaviours when communicating with a remote HTTP endpoint.
@@ -102,3 +86,19 @@ public type ConnectionConfig record {|
     # and absent fields are handled as `nilable` types. Enabled by default.
     boolean laxDataBinding = true;
 |};
+
+public type ErrorMessage record {|
+    string message;
+    string...;
+|};
+
+public type ErrorMessageDefault record {|
+    *http:DefaultStatusCodeResponse;
+    ErrorMessage body;
+    record {|int req\-id; string user\-id;|} headers;
+|};
+
+# Represents the Queries record for the operation: getAlbums
+public type GetAlbumsQueries record {
+    string genre;
+};
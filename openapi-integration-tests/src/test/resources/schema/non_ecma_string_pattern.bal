@@ -1,16 +1,6 @@
 import ballerina/constraint;
 import ballerina/http;
 
-# Provides settings related to HTTP/1.x protocol.
-public type ClientHttp1Settings record {|
-    # Specifies whether to reuse a connection for multiple requests
-    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
-    # The chunking behaviour of the request
-    http:Chunking chunking = http:CHUNKING_AUTO;
-    # Proxy server related options
-    ProxyConfig proxy?;
-|};
-
 # Proxy server configurations to be used with the HTTP client endpoint.
 public type ProxyConfig record {|
     # Host name of the proxy server
@@ -24,14 +14,15 @@ public type ProxyConfig record {|
     string password = "";
 |};
 
-public type Person record {
-    string name?;
-    string hobby?;
-    @constraint:Int {maxValue: 5}
-    int id;
-    # PCRE regex pattern that doesn't support in ECMA
-    string pcre?;
-};
+# Provides settings related to HTTP/1.x protocol.
+public type ClientHttp1Settings record {|
+    # Specifies whether to reuse a connection for multiple requests
+    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
+    # The chunking behaviour of the request
+    http:Chunking chunking = http:CHUNKING_AUTO;
+    # Proxy server related options
+    ProxyConfig proxy?;
+|};
 
 # Provides a set of configurations for controlling the behaviours when communicating with a remote HTTP endpoint.
 @display {label: "Connection Config"}
@@ -68,3 +59,12 @@ public type ConnectionConfig record {|
     # and absent fields are handled as `nilable` types. Enabled by default.
     boolean laxDataBinding = true;
 |};
+
+public type Person record {
+    string name?;
+    string hobby?;
+    @constraint:Int {maxValue: 5}
+    int id;
+    # PCRE regex pattern that doesn't support in ECMA
+    string pcre?;
+};
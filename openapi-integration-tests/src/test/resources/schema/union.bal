@@ -3,20 +3,6 @@
 
 import ballerina/http;
 
-public type TaxratesItemsString string;
-
-# Provides settings related to HTTP/1.x protocol.
-public type ClientHttp1Settings record {|
-    # Specifies whether to reuse a connection for multiple requests
-    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
-    # The chunking behaviour of the request
-    http:Chunking chunking = http:CHUNKING_AUTO;
-    # Proxy server related options
-    ProxyConfig proxy?;
-|};
-
-public type TaxratesoneOFarrayItemsnull string|int;
-
 # Proxy server configurations to be used with the HTTP client endpoint.
 public type ProxyConfig record {|
     # Host name of the proxy server
@@ -30,22 +16,15 @@ public type ProxyConfig record {|
     string password = "";
 |};
 
-public type TaxratesanyOfarrayItemsnull int|string;
-
-public type TaxratesanyOfItemsString string;
-
-public type Person record {
-    # scenario 01 - field with nullable.
-    string? service_class;
-    # scenario 02 - field with oneOf type.
-    TaxratesItemsString[]|int tax_rates?;
-    # scenario 03 - field with anyOf.
-    TaxratesanyOfItemsString[]|int tax_rates_anyOf?;
-    # scenario 03 - field with a oneOf type array that items has oneOf.
-    (string|int)[]|string tax_rates_oneOF_array?;
-    # scenario 04 - field with a anyOf type array items has anyOf.
-    (int|string)[]|int tax_rates_anyOf_array?;
-};
+# Provides settings related to HTTP/1.x protocol.
+public type ClientHttp1Settings record {|
+    # Specifies whether to reuse a connection for multiple requests
+    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
+    # The chunking behaviour of the request
+    http:Chunking chunking = http:CHUNKING_AUTO;
+    # Proxy server related options
+    ProxyConfig proxy?;
+|};
 
 # Provides a set of configurations for controlling the behaviours when communicating with a remote HTTP endpoint.
 @display {label: "Connection Config"}
@@ -82,3 +61,24 @@ public type ConnectionConfig record {|
     # and absent fields are handled as `nilable` types. Enabled by default.
     boolean laxDataBinding = true;
 |};
+
+public type TaxratesItemsString string;
+
+public type TaxratesanyOfItemsString string;
+
+public type Person record {
+    # scenario 01 - field with nullable.
+    string? service_class;
+    # scenario 02 - field with oneOf type.
+    TaxratesItemsString[]|int tax_rates?;
+    # scenario 03 - field with anyOf.
+    TaxratesanyOfItemsString[]|int tax_rates_anyOf?;
+    # scenario 03 - field with a oneOf type array that items has oneOf.
+    (string|int)[]|string tax_rates_oneOF_array?;
+    # scenario 04 - field with a anyOf type array items has anyOf.
+    (int|string)[]|int tax_rates_anyOf_array?;
+};
+
+public type TaxratesanyOfarrayItemsnull int|string;
+
+public type TaxratesoneOFarrayItemsnull string|int;
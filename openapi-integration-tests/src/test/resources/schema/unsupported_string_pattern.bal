@@ -1,18 +1,6 @@
 import ballerina/constraint;
 import ballerina/http;
 
-# Provides settings related to HTTP/1.x protocol.
-public type ClientHttp1Settings record {|
-    # Specifies whether to reuse a connection for multiple requests
-    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
-    # The chunking behaviour of the request
-    http:Chunking chunking = http:CHUNKING_AUTO;
-    # Proxy server related options
-    ProxyConfig proxy?;
-|};
-
-public type PersonHobbyItemsString string;
-
 # Proxy server configurations to be used with the HTTP client endpoint.
 public type ProxyConfig record {|
     # Host name of the proxy server
@@ -26,18 +14,15 @@ public type ProxyConfig record {|
     string password = "";
 |};
 
-public type Person record {
-    @constraint:String {maxLength: 14}
-    string name?;
-    PersonHobbyItemsString[] hobby?;
-    string url?;
-    string street?;
-    string net?;
-    string doi?;
-    string task?;
-    string ob_01?;
-    string ob_02?;
-};
+# Provides settings related to HTTP/1.x protocol.
+public type ClientHttp1Settings record {|
+    # Specifies whether to reuse a connection for multiple requests
+    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
+    # The chunking behaviour of the request
+    http:Chunking chunking = http:CHUNKING_AUTO;
+    # Proxy server related options
+    ProxyConfig proxy?;
+|};
 
 # Provides a set of configurations for controlling the behaviours when communicating with a remote HTTP endpoint.
 @display {label: "Connection Config"}
@@ -74,3 +59,18 @@ public type ConnectionConfig record {|
     # and absent fields are handled as `nilable` types. Enabled by default.
     boolean laxDataBinding = true;
 |};
+
+public type PersonHobbyItemsString string;
+
+public type Person record {
+    @constraint:String {maxLength: 14}
+    string name?;
+    PersonHobbyItemsString[] hobby?;
+    string url?;
+    string street?;
+    string net?;
+    string doi?;
+    string task?;
+    string ob_01?;
+    string ob_02?;
+};
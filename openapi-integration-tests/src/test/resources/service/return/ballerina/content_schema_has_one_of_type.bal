@@ -3,7 +3,7 @@
 
 import ballerina/http;
 
-public type User record {
+public type Pet record {
     string userName;
     string firstName?;
     string lastName?;
@@ -15,15 +15,15 @@ public type PetForm record {
     string lastName?;
 };
 
-public type InlineResponse200Ok record {|
-    *http:Ok;
-    inline_response_200 body;
-|};
-
-public type inline_response_200 User|Pet|PetForm;
-
-public type Pet record {
+public type User record {
     string userName;
     string firstName?;
     string lastName?;
 };
+
+public type inline_response_200 User|Pet|PetForm;
+
+public type InlineResponse200Ok record {|
+    *http:Ok;
+    inline_response_200 body;
+|};
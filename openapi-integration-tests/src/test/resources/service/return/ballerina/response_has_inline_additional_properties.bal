@@ -3,6 +3,11 @@
 
 import ballerina/http;
 
+public type inline_response_map200 record {
+    int id?;
+    int age?;
+};
+
 public type Response record {|
     inline_response_map200...;
 |};
@@ -20,6 +25,10 @@ public type StoreInventory04Response record {|
     User...;
 |};
 
+public type StoreInventory05Response record {|
+    User...;
+|};
+
 public type StoreInventory05ResponseBadRequest record {|
     *http:BadRequest;
     StoreInventory05Response body;
@@ -30,12 +39,3 @@ public type inline_response_200 record {|
     int age?;
     int...;
 |};
-
-public type StoreInventory05Response record {|
-    User...;
-|};
-
-public type inline_response_map200 record {
-    int id?;
-    int age?;
-};
@@ -3,14 +3,14 @@
 
 import ballerina/http;
 
-public type InlineResponse400BadRequest record {|
-    *http:BadRequest;
-    inline_response_400 body;
-|};
-
 public type inline_response_400 record {
     # The error ID.
     int id?;
     # The error name.
     string errorType?;
 };
+
+public type InlineResponse400BadRequest record {|
+    *http:BadRequest;
+    inline_response_400 body;
+|};
@@ -1,5 +1,10 @@
 import ballerina/http;
 
+public type AnydataBadRequest record {|
+    *http:BadRequest;
+    anydata body;
+|};
+
 public type AnydataJsonXmlBadRequest record {|
     *http:BadRequest;
     anydata|json|xml body;
@@ -19,8 +24,3 @@ public type StringInternalServerError record {|
     *http:InternalServerError;
     string body;
 |};
-
-public type AnydataBadRequest record {|
-    *http:BadRequest;
-    anydata body;
-|};
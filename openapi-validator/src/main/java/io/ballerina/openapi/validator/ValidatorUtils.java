@@ -46,6 +46,7 @@ import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.openapi.core.generators.common.OpenAPIContractCache;
 import io.ballerina.openapi.validator.error.CompilationError;
 import io.ballerina.openapi.validator.model.Filter;
 import io.ballerina.openapi.validator.model.OpenAPIPathSummary;
@@ -60,7 +61,6 @@ import io.ballerina.tools.diagnostics.Location;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.Schema;
-import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 
@@ -131,9 +131,8 @@ public class ValidatorUtils {
             return null;
         }
 
-        String openAPIFileContent = Files.readString(contractPath);
-        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent, null,
-                parseOptions);
+        SwaggerParseResult parseResult = OpenAPIContractCache.getInstance().readContents(contractPath, parseOptions,
+                OpenAPIContractCache.ParserType.OPENAPI_V3_PARSER);
         OpenAPI api = parseResult.getOpenAPI();
         if (api == null) {
             reportDiagnostic(context, CompilationError.PARSER_EXCEPTION, location, DiagnosticSeverity.ERROR,